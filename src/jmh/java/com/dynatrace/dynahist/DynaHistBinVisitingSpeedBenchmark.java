@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.Constants.ABSOLUTE_ERROR;
+import static com.dynatrace.dynahist.Constants.MAX;
+import static com.dynatrace.dynahist.Constants.MIN;
+import static com.dynatrace.dynahist.Constants.PRECISION;
+import static com.dynatrace.dynahist.Constants.RANGE;
+
+import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares visiting all non-empty bins of a histogram using {@link
+ * Histogram#nonEmptyBinsAscending()} with {@link
+ * Histogram#forEachNonEmptyBin(com.dynatrace.dynahist.bin.BinConsumer)}.
+ */
+@State(Scope.Benchmark)
+public class DynaHistBinVisitingSpeedBenchmark {
+
+  private static final int NUM_VALUES = 10_000;
+
+  private Histogram dynamicHistogram;
+  private Histogram staticHistogram;
+  private Histogram preprocessedHistogram;
+
+  @Setup
+  public void setup() {
+    final SplittableRandom random = new SplittableRandom(0);
+    dynamicHistogram =
+        Histogram.createDynamic(LogOptimalLayout.create(ABSOLUTE_ERROR, PRECISION, 0, MAX));
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      dynamicHistogram.addValue(MIN * Math.pow(RANGE, random.nextDouble()));
+    }
+    staticHistogram = Histogram.createStatic(dynamicHistogram.getLayout());
+    staticHistogram.addHistogram(dynamicHistogram);
+    preprocessedHistogram = dynamicHistogram.getPreprocessedCopy();
+  }
+
+  private static void iterate(Histogram histogram, Blackhole blackhole) {
+    for (Bin bin : histogram.nonEmptyBinsAscending()) {
+      blackhole.consume(bin.getBinIndex());
+      blackhole.consume(bin.getBinCount());
+      blackhole.consume(bin.getLessCount());
+    }
+  }
+
+  private static void visit(Histogram histogram, Blackhole blackhole) {
+    histogram.forEachNonEmptyBin(
+        (binIndex, count, lessCount) -> {
+          blackhole.consume(binIndex);
+          blackhole.consume(count);
+          blackhole.consume(lessCount);
+        });
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void iterateDynamic(Blackhole blackhole) {
+    iterate(dynamicHistogram, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void visitDynamic(Blackhole blackhole) {
+    visit(dynamicHistogram, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void iterateStatic(Blackhole blackhole) {
+    iterate(staticHistogram, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void visitStatic(Blackhole blackhole) {
+    visit(staticHistogram, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void iteratePreprocessed(Blackhole blackhole) {
+    iterate(preprocessedHistogram, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void visitPreprocessed(Blackhole blackhole) {
+    visit(preprocessedHistogram, blackhole);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.Constants.ABSOLUTE_ERROR;
+import static com.dynatrace.dynahist.Constants.MAX;
+import static com.dynatrace.dynahist.Constants.MIN;
+import static com.dynatrace.dynahist.Constants.PRECISION;
+import static com.dynatrace.dynahist.Constants.RANGE;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import com.dynatrace.dynahist.serialization.HistogramCompressor;
+import com.dynatrace.dynahist.serialization.SerializationUtil;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.zip.DataFormatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares compression and decompression speed of the available {@link HistogramCompressor}s on
+ * serialized histograms. The corresponding compression ratios are reported by {@link
+ * SpaceConsumptionBenchmark}.
+ */
+@State(Scope.Benchmark)
+public class DynaHistCompressionSpeedBenchmark {
+
+  private static final Layout LAYOUT = LogOptimalLayout.create(ABSOLUTE_ERROR, PRECISION, 0, MAX);
+
+  @Param({"DEFLATE", "DEFLATE_BEST_SPEED", "DEFLATE_BEST_COMPRESSION", "LZ"})
+  public String compressorName;
+
+  @Param({"100", "10000", "1000000"})
+  public int numValues;
+
+  private HistogramCompressor compressor;
+  private byte[] serializedHistogram;
+  private byte[] compressedHistogram;
+
+  @Setup
+  public void setup() throws IOException {
+    compressor = getCompressor(compressorName);
+    final SplittableRandom random = new SplittableRandom(0);
+    final Histogram histogram = Histogram.createDynamic(LAYOUT);
+    for (int i = 0; i < numValues; ++i) {
+      histogram.addValue(MIN * Math.pow(RANGE, random.nextDouble()));
+    }
+    serializedHistogram = SerializationUtil.write(histogram);
+    compressedHistogram = compressor.compress(serializedHistogram);
+  }
+
+  private static HistogramCompressor getCompressor(String name) {
+    switch (name) {
+      case "DEFLATE":
+        return HistogramCompressor.DEFLATE;
+      case "DEFLATE_BEST_SPEED":
+        return HistogramCompressor.DEFLATE_BEST_SPEED;
+      case "DEFLATE_BEST_COMPRESSION":
+        return HistogramCompressor.DEFLATE_BEST_COMPRESSION;
+      case "LZ":
+        return HistogramCompressor.LZ;
+      default:
+        throw new IllegalArgumentException(name);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public byte[] compress() throws IOException {
+    return compressor.compress(serializedHistogram);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public byte[] decompress() throws IOException, DataFormatException {
+    return compressor.decompress(compressedHistogram);
+  }
+}
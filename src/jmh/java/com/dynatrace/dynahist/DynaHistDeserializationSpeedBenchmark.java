@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.Constants.ABSOLUTE_ERROR;
+import static com.dynatrace.dynahist.Constants.MAX;
+import static com.dynatrace.dynahist.Constants.MIN;
+import static com.dynatrace.dynahist.Constants.PRECISION;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the deserialization speed of serial versions 1 and 2 using histograms of heavy-tailed
+ * (Pareto distributed) values.
+ */
+@State(Scope.Benchmark)
+public class DynaHistDeserializationSpeedBenchmark {
+
+  private static final Layout LAYOUT = LogOptimalLayout.create(ABSOLUTE_ERROR, PRECISION, 0, MAX);
+
+  @Param({"1", "2"})
+  public int serialVersion;
+
+  @Param({"100", "10000", "1000000"})
+  public int numValues;
+
+  private byte[] serializedHistogram;
+
+  @Setup
+  public void setup() throws IOException {
+    final SplittableRandom random = new SplittableRandom(0);
+    final AbstractHistogram histogram = new DynamicHistogram(LAYOUT);
+    for (int i = 0; i < numValues; ++i) {
+      histogram.addValue(MIN / Math.pow(1. - random.nextDouble(), 1. / 1.2));
+    }
+    final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    final DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+    if (serialVersion == 1) {
+      histogram.writeSerialVersion1(dataOutputStream);
+    } else {
+      histogram.writeSerialVersion2(dataOutputStream);
+    }
+    serializedHistogram = byteArrayOutputStream.toByteArray();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public Histogram readAsDynamic() throws IOException {
+    return Histogram.readAsDynamic(
+        LAYOUT, new DataInputStream(new ByteArrayInputStream(serializedHistogram)));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public Histogram readAsStatic() throws IOException {
+    return Histogram.readAsStatic(
+        LAYOUT, new DataInputStream(new ByteArrayInputStream(serializedHistogram)));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.Constants.ABSOLUTE_ERROR;
+import static com.dynatrace.dynahist.Constants.MAX;
+import static com.dynatrace.dynahist.Constants.MIN;
+import static com.dynatrace.dynahist.Constants.PRECISION;
+import static com.dynatrace.dynahist.Constants.RANGE;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the platform-independent mapping of {@link LogOptimalLayout} with the evaluation of the
+ * logarithm-based mapping formula using {@link Math#log(double)} and {@link
+ * StrictMath#log(double)}, respectively. The mapping is also measured for a layout with a small
+ * relative bin width limit and many bins.
+ */
+@State(Scope.Benchmark)
+public class DynaHistLogOptimalMappingSpeedBenchmark {
+
+  private static final int NUM_VALUES = 1_000_000;
+
+  private static final double FACTOR = 1. / Math.log1p(PRECISION);
+
+  private static final double OFFSET = -FACTOR * Math.log(MIN);
+
+  private double[] values;
+
+  private Layout layout;
+
+  private Layout largeLayout;
+
+  @Setup
+  public void setup() {
+    final SplittableRandom random = new SplittableRandom(0);
+    values = new double[NUM_VALUES];
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      values[i] = MIN * Math.pow(RANGE, random.nextDouble());
+    }
+    // the entries of the lookup tables are computed during the warmup iterations
+    layout = LogOptimalLayout.create(ABSOLUTE_ERROR, PRECISION, 0, MAX);
+    largeLayout = LogOptimalLayout.create(1e-5, 5e-4, 0, MAX);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long mapToBinIndex() {
+    long sum = 0;
+    for (final double value : values) {
+      sum += layout.mapToBinIndex(value);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long mapToBinIndexLargeLayout() {
+    long sum = 0;
+    for (final double value : values) {
+      sum += largeLayout.mapToBinIndex(value);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long mathLog() {
+    long sum = 0;
+    for (final double value : values) {
+      sum += (int) (FACTOR * Math.log(value) + OFFSET);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long strictMathLog() {
+    long sum = 0;
+    for (final double value : values) {
+      sum += (int) (FACTOR * StrictMath.log(value) + OFFSET);
+    }
+    return sum;
+  }
+}
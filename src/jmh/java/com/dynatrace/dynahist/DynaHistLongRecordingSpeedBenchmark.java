@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.Constants.ABSOLUTE_ERROR;
+import static com.dynatrace.dynahist.Constants.MAX;
+import static com.dynatrace.dynahist.Constants.MIN;
+import static com.dynatrace.dynahist.Constants.PRECISION;
+import static com.dynatrace.dynahist.Constants.RANGE;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the mapping of {@code long} values, like durations in nanoseconds, using {@link
+ * Layout#mapLongToBinIndex(long)} with the corresponding {@code double} based method, and the
+ * recording using {@link Histogram#addLongValue(long)} with {@link Histogram#addValue(double)}.
+ */
+@State(Scope.Benchmark)
+public class DynaHistLongRecordingSpeedBenchmark {
+
+  private static final int NUM_VALUES = 1_000_000;
+
+  private long[] values;
+
+  private Layout layout;
+
+  @Setup
+  public void setup() {
+    final SplittableRandom random = new SplittableRandom(0);
+    values = new long[NUM_VALUES];
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      values[i] = (long) (MIN * Math.pow(RANGE, random.nextDouble()));
+    }
+    layout = LogQuadraticLayout.create(ABSOLUTE_ERROR, PRECISION, 0, MAX);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long mapToBinIndex() {
+    long sum = 0;
+    for (final long value : values) {
+      sum += layout.mapToBinIndex((double) value);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long mapLongToBinIndex() {
+    long sum = 0;
+    for (final long value : values) {
+      sum += layout.mapLongToBinIndex(value);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public Histogram addValue() {
+    final Histogram histogram = Histogram.createStatic(layout);
+    for (final long value : values) {
+      histogram.addValue((double) value);
+    }
+    return histogram;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public Histogram addLongValue() {
+    final Histogram histogram = Histogram.createStatic(layout);
+    for (final long value : values) {
+      histogram.addLongValue(value);
+    }
+    return histogram;
+  }
+}
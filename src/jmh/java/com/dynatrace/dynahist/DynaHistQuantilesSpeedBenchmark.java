@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.Constants.ABSOLUTE_ERROR;
+import static com.dynatrace.dynahist.Constants.MAX;
+import static com.dynatrace.dynahist.Constants.MIN;
+import static com.dynatrace.dynahist.Constants.PRECISION;
+import static com.dynatrace.dynahist.Constants.RANGE;
+
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the evaluation of multiple quantiles of a mutable histogram using individual calls of
+ * {@link Histogram#getQuantile(double)} with a single call of {@link
+ * Histogram#getQuantiles(double[])}.
+ */
+@State(Scope.Benchmark)
+public class DynaHistQuantilesSpeedBenchmark {
+
+  private static final int NUM_VALUES = 1_000_000;
+
+  private static final double[] PS = {0.5, 0.9, 0.95, 0.99, 0.999};
+
+  private Histogram histogram;
+
+  @Setup
+  public void setup() {
+    final SplittableRandom random = new SplittableRandom(0);
+    histogram = Histogram.createDynamic(LogOptimalLayout.create(ABSOLUTE_ERROR, PRECISION, 0, MAX));
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      histogram.addValue(MIN * Math.pow(RANGE, random.nextDouble()));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getQuantile(Blackhole blackhole) {
+    for (final double p : PS) {
+      blackhole.consume(histogram.getQuantile(p));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public double[] getQuantiles() {
+    return histogram.getQuantiles(PS);
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.Constants.*;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import java.util.stream.IntStream;
+
+public class DynaHistStaticCustomRecordingSpeedBenchmark
+    extends AbstractDynaHistRecordingSpeedBenchmark {
+
+  // explicit bucket boundaries growing by a factor of 2, as commonly used for Prometheus histograms
+  private static final Layout LAYOUT =
+      CustomLayout.create(IntStream.range(0, 30).mapToDouble(i -> MIN * Math.pow(2, i)).toArray());
+
+  @Override
+  protected Histogram create() {
+    return Histogram.createStatic(LAYOUT);
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinConsumer;
+import com.dynatrace.dynahist.bin.BinIterator;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.quantile.QuantileEstimator;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Base class for histograms that forward all calls to a delegate histogram, which might be
+ * replaced over time.
+ *
+ * <p>Subclasses that replace the delegate must override all add operations.
+ */
+abstract class AbstractForwardingHistogram implements Histogram {
+
+  private static final ValueEstimator DEFAULT_VALUE_ESTIMATOR = ValueEstimator.UNIFORM;
+
+  protected abstract Histogram getDelegate();
+
+  @Override
+  public Layout getLayout() {
+    return getDelegate().getLayout();
+  }
+
+  @Override
+  public BinIterator getFirstNonEmptyBin() {
+    return getDelegate().getFirstNonEmptyBin();
+  }
+
+  @Override
+  public BinIterator getLastNonEmptyBin() {
+    return getDelegate().getLastNonEmptyBin();
+  }
+
+  @Override
+  public BinIterator getBinByRank(long rank) {
+    return getDelegate().getBinByRank(rank);
+  }
+
+  @Override
+  public long getOverflowCount() {
+    return getDelegate().getOverflowCount();
+  }
+
+  @Override
+  public long getUnderflowCount() {
+    return getDelegate().getUnderflowCount();
+  }
+
+  @Override
+  public long getTotalCount() {
+    return getDelegate().getTotalCount();
+  }
+
+  @Override
+  public double getMin() {
+    return getDelegate().getMin();
+  }
+
+  @Override
+  public double getMax() {
+    return getDelegate().getMax();
+  }
+
+  @Override
+  public double getSum() {
+    return getDelegate().getSum();
+  }
+
+  @Override
+  public double getSumOfSquares() {
+    return getDelegate().getSumOfSquares();
+  }
+
+  @Override
+  public double getMean() {
+    return getDelegate().getMean();
+  }
+
+  @Override
+  public double getVariance() {
+    return getDelegate().getVariance();
+  }
+
+  @Override
+  public long getCount(int binIndex) {
+    return getDelegate().getCount(binIndex);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return getDelegate().isEmpty();
+  }
+
+  @Override
+  public double getValue(long rank) {
+    return getDelegate().getValue(rank);
+  }
+
+  @Override
+  public double getValue(long rank, ValueEstimator valueEstimator) {
+    return getDelegate().getValue(rank, valueEstimator);
+  }
+
+  @Override
+  public double getQuantile(double p) {
+    return getDelegate().getQuantile(p);
+  }
+
+  @Override
+  public double getQuantile(double p, QuantileEstimator quantileEstimator) {
+    return getDelegate().getQuantile(p, quantileEstimator);
+  }
+
+  @Override
+  public double getQuantile(double p, ValueEstimator valueEstimator) {
+    return getDelegate().getQuantile(p, valueEstimator);
+  }
+
+  @Override
+  public double getQuantile(
+      double p, QuantileEstimator quantileEstimator, ValueEstimator valueEstimator) {
+    return getDelegate().getQuantile(p, quantileEstimator, valueEstimator);
+  }
+
+  @Override
+  public double[] getQuantiles(double[] ps) {
+    return getDelegate().getQuantiles(ps);
+  }
+
+  @Override
+  public double[] getQuantiles(double[] ps, QuantileEstimator quantileEstimator) {
+    return getDelegate().getQuantiles(ps, quantileEstimator);
+  }
+
+  @Override
+  public double[] getQuantiles(double[] ps, ValueEstimator valueEstimator) {
+    return getDelegate().getQuantiles(ps, valueEstimator);
+  }
+
+  @Override
+  public double[] getQuantiles(
+      double[] ps, QuantileEstimator quantileEstimator, ValueEstimator valueEstimator) {
+    return getDelegate().getQuantiles(ps, quantileEstimator, valueEstimator);
+  }
+
+  @Override
+  public double getRank(double value) {
+    return getDelegate().getRank(value);
+  }
+
+  @Override
+  public double getRank(double value, ValueEstimator valueEstimator) {
+    return getDelegate().getRank(value, valueEstimator);
+  }
+
+  @Override
+  public long getCountBelow(double value) {
+    return getDelegate().getCountBelow(value);
+  }
+
+  @Override
+  public long getCountBelow(double value, ValueEstimator valueEstimator) {
+    return getDelegate().getCountBelow(value, valueEstimator);
+  }
+
+  @Override
+  public long getCountBetween(double lowerValue, double upperValue) {
+    return getDelegate().getCountBetween(lowerValue, upperValue);
+  }
+
+  @Override
+  public long getCountBetween(
+      double lowerValue, double upperValue, ValueEstimator valueEstimator) {
+    return getDelegate().getCountBetween(lowerValue, upperValue, valueEstimator);
+  }
+
+  @Override
+  public Histogram getPreprocessedCopy() {
+    return getDelegate().getPreprocessedCopy();
+  }
+
+  @Override
+  public Histogram addValue(double value, long count) {
+    getDelegate().addValue(value, count);
+    return this;
+  }
+
+  @Override
+  public Histogram addHistogram(Histogram histogram) {
+    return addHistogram(histogram, DEFAULT_VALUE_ESTIMATOR);
+  }
+
+  @Override
+  public Histogram addHistogram(Histogram histogram, ValueEstimator valueEstimator) {
+    getDelegate().addHistogram(histogram, valueEstimator);
+    return this;
+  }
+
+  @Override
+  public Histogram subtractHistogram(Histogram histogram) {
+    getDelegate().subtractHistogram(histogram);
+    return this;
+  }
+
+  @Override
+  public Histogram addAscendingSequence(LongToDoubleFunction ascendingSequence, long length) {
+    getDelegate().addAscendingSequence(ascendingSequence, length);
+    return this;
+  }
+
+  @Override
+  public Histogram addSortedValues(double[] sortedValues, int fromIndex, int toIndex) {
+    getDelegate().addSortedValues(sortedValues, fromIndex, toIndex);
+    return this;
+  }
+
+  @Override
+  public void write(DataOutput dataOutput) throws IOException {
+    getDelegate().write(dataOutput);
+  }
+
+  @Override
+  public void writeDelta(Histogram reference, DataOutput dataOutput) throws IOException {
+    getDelegate().writeDelta(reference, dataOutput);
+  }
+
+  @Override
+  public long getEstimatedFootprintInBytes() {
+    return getDelegate().getEstimatedFootprintInBytes();
+  }
+
+  @Override
+  public boolean isMutable() {
+    return getDelegate().isMutable();
+  }
+
+  @Override
+  public Iterable<Bin> nonEmptyBinsAscending() {
+    return getDelegate().nonEmptyBinsAscending();
+  }
+
+  @Override
+  public Iterable<Bin> nonEmptyBinsDescending() {
+    return getDelegate().nonEmptyBinsDescending();
+  }
+
+  @Override
+  public void forEachNonEmptyBin(BinConsumer binConsumer) {
+    getDelegate().forEachNonEmptyBin(binConsumer);
+  }
+
+  @Override
+  public int hashCode() {
+    return getDelegate().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof AbstractForwardingHistogram) {
+      obj = ((AbstractForwardingHistogram) obj).getDelegate();
+    }
+    return getDelegate().equals(obj);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " [histogram=" + getDelegate() + "]";
+  }
+}
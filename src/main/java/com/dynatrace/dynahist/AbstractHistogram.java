@@ -21,6 +21,7 @@ import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinConsumer;
 import com.dynatrace.dynahist.bin.BinIterator;
 import com.dynatrace.dynahist.layout.Layout;
 import com.dynatrace.dynahist.quantile.QuantileEstimator;
@@ -32,10 +33,14 @@ import com.dynatrace.dynahist.value.ValueEstimator;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.function.Consumer;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 abstract class AbstractHistogram implements Histogram {
 
@@ -43,6 +48,19 @@ abstract class AbstractHistogram implements Histogram {
 
   protected static final byte SERIAL_VERSION_V0 = 0;
   protected static final byte SERIAL_VERSION_V1 = 1;
+  protected static final byte SERIAL_VERSION_V2 = 2;
+  protected static final byte SERIAL_VERSION_V3 = 3;
+
+  private static final byte DELTA_SERIAL_VERSION_V0 = 0;
+
+  private static final String INCOMPATIBLE_REFERENCE_MSG =
+      "Reference histogram must have the same layout!";
+  private static final String INCONSISTENT_DELTA_MSG =
+      "Delta is inconsistent with the reference histogram!";
+
+  // number of bins sharing the same bit width in the block encoding of serial version 2
+  static final int COUNT_BLOCK_SIZE_LOG2 = 4;
+  static final int COUNT_BLOCK_SIZE = 1 << COUNT_BLOCK_SIZE_LOG2;
 
   private static final QuantileEstimator DEFAULT_QUANTILE_ESTIMATOR =
       SciPyQuantileEstimator.create();
@@ -213,6 +231,20 @@ abstract class AbstractHistogram implements Histogram {
     return getTotalCount() == 0;
   }
 
+  @Override
+  public double getMean() {
+    return getSum() / getTotalCount();
+  }
+
+  @Override
+  public double getVariance() {
+    final long totalCount = getTotalCount();
+    final double sum = getSum();
+    final double variance = (getSumOfSquares() - sum * (sum / totalCount)) / totalCount;
+    // the variance can become slightly negative due to numerical errors
+    return (variance >= 0) ? variance : (Double.isNaN(variance) ? variance : 0.);
+  }
+
   @Override
   public double getValue(long rank, ValueEstimator valueEstimator) {
     requireNonNull(valueEstimator);
@@ -251,6 +283,144 @@ abstract class AbstractHistogram implements Histogram {
     return getQuantile(p, DEFAULT_QUANTILE_ESTIMATOR);
   }
 
+  @Override
+  public double[] getQuantiles(
+      double[] ps, QuantileEstimator quantileEstimator, ValueEstimator valueEstimator) {
+    requireNonNull(ps);
+    requireNonNull(quantileEstimator);
+    requireNonNull(valueEstimator);
+
+    final Integer[] order = new Integer[ps.length];
+    for (int i = 0; i < ps.length; ++i) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i, j) -> Double.compare(ps[i], ps[j]));
+
+    final Histogram rankCursorHistogram = new RankCursorHistogram(this);
+    final LongToDoubleFunction sortedValueFunction =
+        rank -> rankCursorHistogram.getValue(rank, valueEstimator);
+    final long totalCount = getTotalCount();
+    final double[] quantiles = new double[ps.length];
+    for (final int i : order) {
+      quantiles[i] = quantileEstimator.estimateQuantile(ps[i], sortedValueFunction, totalCount);
+    }
+    return quantiles;
+  }
+
+  @Override
+  public double[] getQuantiles(double[] ps, ValueEstimator valueEstimator) {
+    return getQuantiles(ps, DEFAULT_QUANTILE_ESTIMATOR, valueEstimator);
+  }
+
+  @Override
+  public double[] getQuantiles(double[] ps, QuantileEstimator quantileEstimator) {
+    return getQuantiles(ps, quantileEstimator, DEFAULT_VALUE_ESTIMATOR);
+  }
+
+  @Override
+  public double[] getQuantiles(double[] ps) {
+    return getQuantiles(ps, DEFAULT_QUANTILE_ESTIMATOR);
+  }
+
+  /**
+   * Returns the number of values mapped to bins with an index less than the given bin index.
+   *
+   * @param binIndex the bin index
+   * @return the number of values mapped to bins with smaller bin index
+   */
+  protected long getCountBelowBin(final int binIndex) {
+    if (isEmpty()) {
+      return 0L;
+    }
+    final BinIterator binIterator = getFirstNonEmptyBin();
+    while (binIterator.getBinIndex() < binIndex) {
+      if (binIterator.isLastNonEmptyBin()) {
+        return getTotalCount();
+      }
+      binIterator.next();
+    }
+    return binIterator.getLessCount();
+  }
+
+  @Override
+  public long getCountBelow(double value, ValueEstimator valueEstimator) {
+    requireNonNull(valueEstimator);
+    checkArgument(!Double.isNaN(value));
+
+    if (isEmpty()) {
+      return 0L;
+    }
+
+    // value estimates are within the ranges of their bins, therefore only the values of the bin the
+    // given value is mapped to need to be compared
+    final Layout layout = getLayout();
+    final int binIndex =
+        Algorithms.clip(
+            layout.mapToBinIndex(value),
+            layout.getUnderflowBinIndex(),
+            layout.getOverflowBinIndex());
+    final long lessCount = getCountBelowBin(binIndex);
+    if (getCount(binIndex) == 0) {
+      return lessCount;
+    }
+    // the bin is looked up only once, and the value estimates of the binary search are derived
+    // from it
+    final Bin bin = getBinByRank(lessCount);
+    final long endRank = lessCount + bin.getBinCount();
+    return Algorithms.findFirst(
+        rank ->
+            rank == endRank
+                || Double.compare(valueEstimator.getValueEstimate(this, bin, rank), value) >= 0,
+        lessCount,
+        endRank);
+  }
+
+  @Override
+  public long getCountBelow(double value) {
+    return getCountBelow(value, DEFAULT_VALUE_ESTIMATOR);
+  }
+
+  @Override
+  public long getCountBetween(double lowerValue, double upperValue, ValueEstimator valueEstimator) {
+    checkArgument(lowerValue <= upperValue);
+    return getCountBelow(upperValue, valueEstimator) - getCountBelow(lowerValue, valueEstimator);
+  }
+
+  @Override
+  public long getCountBetween(double lowerValue, double upperValue) {
+    return getCountBetween(lowerValue, upperValue, DEFAULT_VALUE_ESTIMATOR);
+  }
+
+  @Override
+  public double getRank(double value, ValueEstimator valueEstimator) {
+    final long countBelow = getCountBelow(value, valueEstimator);
+    final long totalCount = getTotalCount();
+    if (totalCount == 0) {
+      return Double.NaN;
+    }
+    if (countBelow == 0) {
+      return 0;
+    }
+    if (countBelow == totalCount) {
+      return totalCount - 1;
+    }
+    // getValue(countBelow - 1) < value <= getValue(countBelow)
+    final double lowerValue = getValue(countBelow - 1, valueEstimator);
+    final double upperValue = getValue(countBelow, valueEstimator);
+    if (Double.compare(upperValue, value) == 0 || lowerValue == Double.NEGATIVE_INFINITY) {
+      return countBelow;
+    }
+    if (upperValue == Double.POSITIVE_INFINITY) {
+      return countBelow - 1;
+    }
+    return Algorithms.interpolate(value, lowerValue, countBelow - 1, upperValue, countBelow);
+  }
+
+  @Override
+  public double getRank(double value) {
+    return getRank(value, DEFAULT_VALUE_ESTIMATOR);
+  }
+
   @Override
   public long getEstimatedFootprintInBytes() {
     return ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // layout
@@ -345,10 +515,30 @@ abstract class AbstractHistogram implements Histogram {
     };
   }
 
+  @Override
+  public void forEachNonEmptyBin(BinConsumer binConsumer) {
+    requireNonNull(binConsumer);
+    if (isEmpty()) return;
+    final BinIterator binIterator = getFirstNonEmptyBin();
+    while (true) {
+      binConsumer.accept(
+          binIterator.getBinIndex(), binIterator.getBinCount(), binIterator.getLessCount());
+      if (binIterator.isLastNonEmptyBin()) {
+        break;
+      }
+      binIterator.next();
+    }
+  }
+
   @Override
   public final void write(final DataOutput dataOutput) throws IOException {
     requireNonNull(dataOutput);
-    writeSerialVersion1(dataOutput);
+    if (Double.isNaN(getSum()) && Double.isNaN(getSumOfSquares())) {
+      // moments are not available, serial version 3 would not carry any additional information
+      writeSerialVersion2(dataOutput);
+    } else {
+      writeSerialVersion3(dataOutput);
+    }
   }
 
   protected static Histogram deserialize(
@@ -360,7 +550,11 @@ abstract class AbstractHistogram implements Histogram {
     requireNonNull(dataInput);
 
     byte serialVersion = dataInput.readByte();
-    if (serialVersion == SERIAL_VERSION_V1) {
+    if (serialVersion == SERIAL_VERSION_V3) {
+      return deserializeVersion3(layout, builder, dataInput);
+    } else if (serialVersion == SERIAL_VERSION_V2) {
+      return deserializeVersion2(layout, builder, dataInput);
+    } else if (serialVersion == SERIAL_VERSION_V1) {
       return deserializeVersion1(layout, builder, dataInput);
     } else if (serialVersion == SERIAL_VERSION_V0) {
       return deserializeVersion0(layout, builder, dataInput);
@@ -683,8 +877,29 @@ abstract class AbstractHistogram implements Histogram {
 
   // visible for testing
   void writeSerialVersion1(final DataOutput dataOutput) throws IOException {
+    writeSerialVersion1To3(dataOutput, SERIAL_VERSION_V1);
+  }
+
+  // visible for testing
+  void writeSerialVersion2(final DataOutput dataOutput) throws IOException {
+    writeSerialVersion1To3(dataOutput, SERIAL_VERSION_V2);
+  }
 
-    dataOutput.writeByte(SERIAL_VERSION_V1);
+  // visible for testing
+  void writeSerialVersion3(final DataOutput dataOutput) throws IOException {
+    writeSerialVersion1To3(dataOutput, SERIAL_VERSION_V3);
+  }
+
+  // serial version 2 extends serial version 1 by an additional encoding of the regular counts,
+  // which splits the bins into blocks of COUNT_BLOCK_SIZE bins, each using an individual number of
+  // bits per count, with optional run-length encoding of consecutive blocks with only zero counts
+  //
+  // serial version 3 extends serial version 2 by the sum and the sum of squares of all values,
+  // which are appended if the total count is at least 2
+  private void writeSerialVersion1To3(final DataOutput dataOutput, final byte serialVersion)
+      throws IOException {
+
+    dataOutput.writeByte(serialVersion);
 
     // info byte definition:
     //   bit 1:
@@ -786,6 +1001,12 @@ abstract class AbstractHistogram implements Histogram {
         BinIterator binIteratorEnd = getLastNonEmptyRegularBin();
         final int endBinIndex = binIteratorEnd.getBinIndex();
 
+        final int numberOfBins = endBinIndex - startBinIndex + 1;
+        final int[] blockWidths =
+            (serialVersion >= SERIAL_VERSION_V2)
+                ? new int[((numberOfBins - 1) >>> COUNT_BLOCK_SIZE_LOG2) + 1]
+                : null;
+
         final int bitsPerCount;
         final int bitsForDiffIndex;
         final boolean denseSerialization;
@@ -796,6 +1017,9 @@ abstract class AbstractHistogram implements Histogram {
           int diffIndexMask = 0;
           numberOfNonZeroRegularBins = 1;
           int binIndex = it.getBinIndex();
+          if (blockWidths != null) {
+            updateBlockWidth(blockWidths, 0, getEffectiveRegularCount(it));
+          }
           while (binIndex < endBinIndex) {
             int lastBinIndex = binIndex;
             it.next();
@@ -803,8 +1027,13 @@ abstract class AbstractHistogram implements Histogram {
             diffIndexMask |= binIndex - lastBinIndex - 1;
             maxCountMask |= it.getBinCount();
             numberOfNonZeroRegularBins += 1;
+            if (blockWidths != null) {
+              updateBlockWidth(
+                  blockWidths,
+                  (binIndex - startBinIndex) >>> COUNT_BLOCK_SIZE_LOG2,
+                  getEffectiveRegularCount(it));
+            }
           }
-          int numberOfBins = endBinIndex - startBinIndex + 1;
 
           bitsPerCount = Long.SIZE - Long.numberOfLeadingZeros(maxCountMask);
           bitsForDiffIndex = Integer.SIZE - Integer.numberOfLeadingZeros(diffIndexMask);
@@ -815,9 +1044,16 @@ abstract class AbstractHistogram implements Histogram {
                   + 5
                   + numberOfNonZeroRegularBins * (long) bitsPerCount
                   + (numberOfNonZeroRegularBins - 1) * (long) bitsForDiffIndex;
+          if (blockWidths != null) {
+            // one additional bit to distinguish between variant 1 and block encoding
+            bitsForVariant1 =
+                1
+                    + Math.min(
+                        bitsForVariant1,
+                        6 + getBitsForBlockEncoding(blockWidths, numberOfBins, bitsPerCount));
+          }
           denseSerialization = bitsForVariant1 <= bitsForVariant2;
         }
-
         if (denseSerialization) {
           writeSignedVarInt(startBinIndex, dataOutput);
           writeSignedVarInt(endBinIndex, dataOutput);
@@ -828,7 +1064,24 @@ abstract class AbstractHistogram implements Histogram {
         BitOutput bitOutput = new BitOutput(dataOutput);
         bitOutput.writeBits(6, bitsPerCount);
 
-        if (denseSerialization) {
+        final boolean blockEncoding =
+            denseSerialization
+                && blockWidths != null
+                && getBitsForBlockEncoding(blockWidths, numberOfBins, bitsPerCount)
+                    < numberOfBins * (long) bitsPerCount;
+        if (blockWidths != null && denseSerialization) {
+          bitOutput.writeBits(1, blockEncoding ? 1 : 0);
+        }
+
+        if (blockEncoding) {
+          writeBlockEncodedCounts(
+              bitOutput,
+              binIteratorStart,
+              endBinIndex,
+              blockWidths,
+              bitsPerCount,
+              AbstractHistogram::getEffectiveRegularCount);
+        } else if (denseSerialization) {
           bitOutput.writeBits(bitsPerCount, getEffectiveRegularCount(binIteratorStart));
           int binIndex = binIteratorStart.getBinIndex();
           while (binIndex < endBinIndex) {
@@ -857,18 +1110,223 @@ abstract class AbstractHistogram implements Histogram {
         writeSignedVarInt(startBinIndex, dataOutput);
       }
     }
+
+    // 7. write sum and sum of squares, if necessary
+    if (serialVersion >= SERIAL_VERSION_V3) {
+      dataOutput.writeDouble(getSum());
+      dataOutput.writeDouble(getSumOfSquares());
+    }
+  }
+
+  static void updateBlockWidth(
+      final int[] blockWidths, final int blockIndex, final long effectiveCount) {
+    blockWidths[blockIndex] =
+        Math.max(blockWidths[blockIndex], Long.SIZE - Long.numberOfLeadingZeros(effectiveCount));
+  }
+
+  private static int getBlockLength(final int blockIndex, final int numberOfBins) {
+    return Math.min(COUNT_BLOCK_SIZE, numberOfBins - (blockIndex << COUNT_BLOCK_SIZE_LOG2));
+  }
+
+  private static int getBitsForZeroRunLength(final int[] blockWidths) {
+    int runLengthMask = 0;
+    int runLength = 0;
+    for (final int blockWidth : blockWidths) {
+      if (blockWidth == 0) {
+        runLength += 1;
+      } else if (runLength > 0) {
+        runLengthMask |= runLength - 1;
+        runLength = 0;
+      }
+    }
+    if (runLength > 0) {
+      runLengthMask |= runLength - 1;
+    }
+    return Integer.SIZE - Integer.numberOfLeadingZeros(runLengthMask);
+  }
+
+  private static long getBitsForBlockEncoding(
+      final int[] blockWidths,
+      final int numberOfBins,
+      final int bitsPerCount,
+      final boolean zeroRunEncoding) {
+    final int bitsForBlockWidth = Integer.SIZE - Integer.numberOfLeadingZeros(bitsPerCount);
+    final int bitsForZeroRunLength = zeroRunEncoding ? getBitsForZeroRunLength(blockWidths) : 0;
+    long bits = zeroRunEncoding ? 1 + 5 : 1;
+    for (int blockIndex = 0; blockIndex < blockWidths.length; ++blockIndex) {
+      final int blockWidth = blockWidths[blockIndex];
+      if (blockWidth > 0) {
+        bits += bitsForBlockWidth + blockWidth * (long) getBlockLength(blockIndex, numberOfBins);
+      } else if (!zeroRunEncoding) {
+        bits += bitsForBlockWidth;
+      } else if (blockIndex == 0 || blockWidths[blockIndex - 1] > 0) {
+        bits += bitsForBlockWidth + bitsForZeroRunLength;
+      }
+    }
+    return bits;
+  }
+
+  static long getBitsForBlockEncoding(
+      final int[] blockWidths, final int numberOfBins, final int bitsPerCount) {
+    return Math.min(
+        getBitsForBlockEncoding(blockWidths, numberOfBins, bitsPerCount, false),
+        getBitsForBlockEncoding(blockWidths, numberOfBins, bitsPerCount, true));
+  }
+
+  static void writeBlockEncodedCounts(
+      final BitOutput bitOutput,
+      final BinIterator binIterator,
+      final int endBinIndex,
+      final int[] blockWidths,
+      final int bitsPerCount,
+      final ToLongFunction<BinIterator> countFunction)
+      throws IOException {
+    final int startBinIndex = binIterator.getBinIndex();
+    writeBlockEncodedValues(
+        bitOutput,
+        endBinIndex - startBinIndex + 1,
+        i -> {
+          final int binIndex = startBinIndex + i;
+          while (binIterator.getBinIndex() < binIndex) {
+            binIterator.next();
+          }
+          return (binIterator.getBinIndex() == binIndex)
+              ? countFunction.applyAsLong(binIterator)
+              : 0L;
+        },
+        blockWidths,
+        bitsPerCount);
+  }
+
+  // the value function is called with ascending indices, values of blocks with zero bit width are
+  // not requested
+  static void writeBlockEncodedValues(
+      final BitOutput bitOutput,
+      final int numberOfValues,
+      final IntToLongFunction valueFunction,
+      final int[] blockWidths,
+      final int bitsPerValue)
+      throws IOException {
+    final boolean zeroRunEncoding =
+        getBitsForBlockEncoding(blockWidths, numberOfValues, bitsPerValue, true)
+            < getBitsForBlockEncoding(blockWidths, numberOfValues, bitsPerValue, false);
+    final int bitsForBlockWidth = Integer.SIZE - Integer.numberOfLeadingZeros(bitsPerValue);
+    final int bitsForZeroRunLength = zeroRunEncoding ? getBitsForZeroRunLength(blockWidths) : 0;
+
+    bitOutput.writeBits(1, zeroRunEncoding ? 1 : 0);
+    if (zeroRunEncoding) {
+      bitOutput.writeBits(5, bitsForZeroRunLength);
+    }
+
+    int blockIndex = 0;
+    while (blockIndex < blockWidths.length) {
+      final int blockWidth = blockWidths[blockIndex];
+      bitOutput.writeBits(bitsForBlockWidth, blockWidth);
+      if (blockWidth == 0) {
+        int runLength = 1;
+        if (zeroRunEncoding) {
+          while (blockIndex + runLength < blockWidths.length
+              && blockWidths[blockIndex + runLength] == 0) {
+            runLength += 1;
+          }
+          bitOutput.writeBits(bitsForZeroRunLength, runLength - 1L);
+        }
+        blockIndex += runLength;
+      } else {
+        final int blockStart = blockIndex << COUNT_BLOCK_SIZE_LOG2;
+        final int blockEnd = blockStart + getBlockLength(blockIndex, numberOfValues);
+        for (int i = blockStart; i < blockEnd; ++i) {
+          bitOutput.writeBits(blockWidth, valueFunction.applyAsLong(i));
+        }
+        blockIndex += 1;
+      }
+    }
+  }
+
+  static void readBlockEncodedValues(
+      final BitInput bitInput, final long[] values, final int bitsPerValue) throws IOException {
+    final boolean zeroRunEncoding = bitInput.readBits(1) != 0;
+    final int bitsForZeroRunLength = zeroRunEncoding ? (int) bitInput.readBits(5) : 0;
+    final int bitsForBlockWidth = Integer.SIZE - Integer.numberOfLeadingZeros(bitsPerValue);
+    long index = 0;
+    while (index < values.length) {
+      final int blockWidth = (int) bitInput.readBits(bitsForBlockWidth);
+      if (blockWidth == 0) {
+        final long numberOfBlocks = 1 + bitInput.readBits(bitsForZeroRunLength);
+        index += numberOfBlocks << COUNT_BLOCK_SIZE_LOG2;
+      } else {
+        final long blockEnd = Math.min(values.length, index + COUNT_BLOCK_SIZE);
+        while (index < blockEnd) {
+          values[(int) index] = bitInput.readBits(blockWidth);
+          index += 1;
+        }
+      }
+    }
+  }
+
+  static long readBlockEncodedCounts(
+      final BitInput bitInput,
+      final HistogramDeserializationBuilder builder,
+      final int firstBinIndex,
+      final int lastBinIndex,
+      final int bitsPerCount)
+      throws IOException {
+    final boolean zeroRunEncoding = bitInput.readBits(1) != 0;
+    final int bitsForZeroRunLength = zeroRunEncoding ? (int) bitInput.readBits(5) : 0;
+    final int bitsForBlockWidth = Integer.SIZE - Integer.numberOfLeadingZeros(bitsPerCount);
+    long totalCount = 0;
+    long binIndex = firstBinIndex;
+    while (binIndex <= lastBinIndex) {
+      final int blockWidth = (int) bitInput.readBits(bitsForBlockWidth);
+      if (blockWidth == 0) {
+        final long numberOfBlocks = 1 + bitInput.readBits(bitsForZeroRunLength);
+        binIndex += numberOfBlocks << COUNT_BLOCK_SIZE_LOG2;
+      } else {
+        final long blockEndBinIndex = Math.min(lastBinIndex, binIndex + COUNT_BLOCK_SIZE - 1);
+        while (binIndex <= blockEndBinIndex) {
+          final long binCount = bitInput.readBits(blockWidth);
+          builder.incrementRegularCount((int) binIndex, binCount);
+          totalCount += binCount;
+          binIndex += 1;
+        }
+      }
+    }
+    return totalCount;
   }
 
   protected static Histogram deserializeVersion1(
       final Layout layout, final HistogramDeserializationBuilder builder, final DataInput dataInput)
       throws IOException {
+    return deserializeVersion1To3(layout, builder, dataInput, SERIAL_VERSION_V1);
+  }
+
+  protected static Histogram deserializeVersion2(
+      final Layout layout, final HistogramDeserializationBuilder builder, final DataInput dataInput)
+      throws IOException {
+    return deserializeVersion1To3(layout, builder, dataInput, SERIAL_VERSION_V2);
+  }
+
+  protected static Histogram deserializeVersion3(
+      final Layout layout, final HistogramDeserializationBuilder builder, final DataInput dataInput)
+      throws IOException {
+    return deserializeVersion1To3(layout, builder, dataInput, SERIAL_VERSION_V3);
+  }
+
+  private static Histogram deserializeVersion1To3(
+      final Layout layout,
+      final HistogramDeserializationBuilder builder,
+      final DataInput dataInput,
+      final byte serialVersion)
+      throws IOException {
 
     // 1. read info byte
     final int infoByte = dataInput.readUnsignedByte();
     if ((infoByte & 0x01) == 0) {
       // special mode
       if ((infoByte & 0x02) > 0) {
-        setSingleValue(layout, builder, dataInput.readDouble());
+        final double value = dataInput.readDouble();
+        setSingleValue(layout, builder, value);
+        builder.setMoments(value, value * value);
       }
       return builder.build();
     }
@@ -961,7 +1419,17 @@ abstract class AbstractHistogram implements Histogram {
           builder.allocateRegularCounts(minAllocatedBinIndex, maxAllocatedBinIndex, bitsPerCount);
         }
 
-        if (denseSerialization) {
+        if (denseSerialization
+            && serialVersion >= SERIAL_VERSION_V2
+            && bitInput.readBits(1) != 0) {
+          totalCount +=
+              readBlockEncodedCounts(
+                  bitInput,
+                  builder,
+                  firstRegularEffectivelyNonZeroBinIndex,
+                  lastRegularEffectivelyNonZeroBinIndex,
+                  bitsPerCount);
+        } else if (denseSerialization) {
           for (int binIndex = firstRegularEffectivelyNonZeroBinIndex;
               binIndex <= lastRegularEffectivelyNonZeroBinIndex;
               ++binIndex) {
@@ -1012,6 +1480,274 @@ abstract class AbstractHistogram implements Histogram {
     builder.incrementUnderflowCount(effectiveUnderFlowCount);
     builder.incrementOverflowCount(effectiveOverFlowCount);
     builder.incrementTotalCount(totalCount);
+
+    // 7. read sum and sum of squares, if available
+    if (serialVersion >= SERIAL_VERSION_V3) {
+      final double sum = dataInput.readDouble();
+      final double sumOfSquares = dataInput.readDouble();
+      builder.setMoments(sum, sumOfSquares);
+    }
+    return builder.build();
+  }
+
+  private static boolean hasRegularCounts(final Histogram histogram) {
+    return histogram.getTotalCount()
+        > histogram.getUnderflowCount() + histogram.getOverflowCount();
+  }
+
+  private static int getFirstNonEmptyRegularBinIndex(final Histogram histogram) {
+    final BinIterator binIterator = histogram.getFirstNonEmptyBin();
+    if (binIterator.isUnderflowBin()) {
+      binIterator.next();
+    }
+    return binIterator.getBinIndex();
+  }
+
+  private static int getLastNonEmptyRegularBinIndex(final Histogram histogram) {
+    final BinIterator binIterator = histogram.getLastNonEmptyBin();
+    if (binIterator.isOverflowBin()) {
+      binIterator.previous();
+    }
+    return binIterator.getBinIndex();
+  }
+
+  @Override
+  public final void writeDelta(final Histogram reference, final DataOutput dataOutput)
+      throws IOException {
+    requireNonNull(reference);
+    requireNonNull(dataOutput);
+    checkArgument(getLayout().equals(reference.getLayout()), INCOMPATIBLE_REFERENCE_MSG);
+
+    dataOutput.writeByte(DELTA_SERIAL_VERSION_V0);
+
+    // info byte definition:
+    //   bit 1:
+    //     0: minimum equals that of the reference (or histogram is empty)
+    //     1: minimum differs and is written
+    //   bit 2:
+    //     0: maximum equals that of the reference (or histogram is empty)
+    //     1: maximum differs and is written
+    //   bit 3:
+    //     0: regular counts equal those of the reference
+    //     1: differences of regular counts are written
+    //   bit 4:
+    //     0: sum and sum of squares are not available
+    //     1: sum and sum of squares are written
+
+    final boolean isMinChanged = !isEmpty() && Double.compare(getMin(), reference.getMin()) != 0;
+    final boolean isMaxChanged = !isEmpty() && Double.compare(getMax(), reference.getMax()) != 0;
+
+    // determine the range of regular bins with differing counts
+    int firstBinIndex = Integer.MAX_VALUE;
+    int lastBinIndex = Integer.MIN_VALUE;
+    if (hasRegularCounts(this)) {
+      firstBinIndex = getFirstNonEmptyRegularBinIndex(this);
+      lastBinIndex = getLastNonEmptyRegularBinIndex(this);
+    }
+    if (hasRegularCounts(reference)) {
+      firstBinIndex = Math.min(firstBinIndex, getFirstNonEmptyRegularBinIndex(reference));
+      lastBinIndex = Math.max(lastBinIndex, getLastNonEmptyRegularBinIndex(reference));
+    }
+    while (firstBinIndex <= lastBinIndex
+        && getCount(firstBinIndex) == reference.getCount(firstBinIndex)) {
+      firstBinIndex += 1;
+    }
+    while (firstBinIndex <= lastBinIndex
+        && getCount(lastBinIndex) == reference.getCount(lastBinIndex)) {
+      lastBinIndex -= 1;
+    }
+    final boolean hasRegularDifferences = firstBinIndex <= lastBinIndex;
+
+    // 1. write info byte
+    int infoByte = 0;
+    if (isMinChanged) {
+      infoByte |= 0x01;
+    }
+    if (isMaxChanged) {
+      infoByte |= 0x02;
+    }
+    if (hasRegularDifferences) {
+      infoByte |= 0x04;
+    }
+    final boolean hasMoments = !Double.isNaN(getSum()) || !Double.isNaN(getSumOfSquares());
+    if (hasMoments) {
+      infoByte |= 0x08;
+    }
+    dataOutput.writeByte(infoByte);
+
+    // 2. write differences of underflow and overflow counts
+    writeSignedVarLong(getUnderflowCount() - reference.getUnderflowCount(), dataOutput);
+    writeSignedVarLong(getOverflowCount() - reference.getOverflowCount(), dataOutput);
+
+    // 3. write minimum and maximum, if changed, and sum and sum of squares, if available
+    if (isMinChanged) {
+      dataOutput.writeDouble(getMin());
+    }
+    if (isMaxChanged) {
+      dataOutput.writeDouble(getMax());
+    }
+    if (hasMoments) {
+      dataOutput.writeDouble(getSum());
+      dataOutput.writeDouble(getSumOfSquares());
+    }
+
+    if (!hasRegularDifferences) {
+      return;
+    }
+
+    // 4. write the range of bins with differing regular counts
+    final int numberOfBins = lastBinIndex - firstBinIndex + 1;
+    writeSignedVarInt(firstBinIndex, dataOutput);
+    writeUnsignedVarInt(numberOfBins - 1, dataOutput);
+
+    // 5. write zigzag encoded differences of regular counts
+    final long[] differences = new long[numberOfBins];
+    final int[] blockWidths = new int[((numberOfBins - 1) >>> COUNT_BLOCK_SIZE_LOG2) + 1];
+    long differenceMask = 0;
+    for (int i = 0; i < numberOfBins; ++i) {
+      final int binIndex = firstBinIndex + i;
+      final long difference = getCount(binIndex) - reference.getCount(binIndex);
+      final long zigZagDifference = (difference << 1) ^ (difference >> 63);
+      differences[i] = zigZagDifference;
+      differenceMask |= zigZagDifference;
+      updateBlockWidth(blockWidths, i >>> COUNT_BLOCK_SIZE_LOG2, zigZagDifference);
+    }
+    final int bitsPerDifference = Long.SIZE - Long.numberOfLeadingZeros(differenceMask);
+    final boolean blockEncoding =
+        getBitsForBlockEncoding(blockWidths, numberOfBins, bitsPerDifference)
+            < numberOfBins * (long) bitsPerDifference;
+
+    final BitOutput bitOutput = new BitOutput(dataOutput);
+    bitOutput.writeBits(7, bitsPerDifference);
+    bitOutput.writeBits(1, blockEncoding ? 1 : 0);
+    if (blockEncoding) {
+      writeBlockEncodedValues(
+          bitOutput, numberOfBins, i -> differences[i], blockWidths, bitsPerDifference);
+    } else {
+      for (final long difference : differences) {
+        bitOutput.writeBits(bitsPerDifference, difference);
+      }
+    }
+    bitOutput.finish();
+  }
+
+  protected static Histogram deserializeDelta(
+      final Histogram reference,
+      final HistogramDeserializationBuilder builder,
+      final DataInput dataInput)
+      throws IOException {
+
+    requireNonNull(reference);
+    requireNonNull(builder);
+    requireNonNull(dataInput);
+
+    checkSerialVersion(DELTA_SERIAL_VERSION_V0, dataInput.readByte());
+    final Layout layout = reference.getLayout();
+
+    // 1. read info byte
+    final int infoByte = dataInput.readUnsignedByte();
+
+    // 2. read differences of underflow and overflow counts
+    final long underflowCount = reference.getUnderflowCount() + readSignedVarLong(dataInput);
+    final long overflowCount = reference.getOverflowCount() + readSignedVarLong(dataInput);
+    if (underflowCount < 0 || overflowCount < 0) {
+      throw new IOException(INCONSISTENT_DELTA_MSG);
+    }
+
+    // 3. read minimum and maximum, if changed, and sum and sum of squares, if available
+    final double min = ((infoByte & 0x01) != 0) ? dataInput.readDouble() : reference.getMin();
+    final double max = ((infoByte & 0x02) != 0) ? dataInput.readDouble() : reference.getMax();
+    if ((infoByte & 0x08) != 0) {
+      final double sum = dataInput.readDouble();
+      final double sumOfSquares = dataInput.readDouble();
+      builder.setMoments(sum, sumOfSquares);
+    }
+
+    // 4. read the range of bins with differing regular counts
+    int firstDeltaBinIndex = 0;
+    long[] differences = null;
+    if ((infoByte & 0x04) != 0) {
+      firstDeltaBinIndex = readSignedVarInt(dataInput);
+      final int numberOfBins = readUnsignedVarInt(dataInput) + 1;
+      if (firstDeltaBinIndex <= layout.getUnderflowBinIndex()
+          || firstDeltaBinIndex + (long) numberOfBins > layout.getOverflowBinIndex()) {
+        throw new IOException(INCONSISTENT_DELTA_MSG);
+      }
+
+      // 5. read zigzag encoded differences of regular counts
+      final BitInput bitInput = new BitInput(dataInput);
+      final int bitsPerDifference = (int) bitInput.readBits(7);
+      differences = new long[numberOfBins];
+      if (bitInput.readBits(1) != 0) {
+        readBlockEncodedValues(bitInput, differences, bitsPerDifference);
+      } else {
+        for (int i = 0; i < numberOfBins; ++i) {
+          differences[i] = bitInput.readBits(bitsPerDifference);
+        }
+      }
+      for (int i = 0; i < numberOfBins; ++i) {
+        final long zigZagDifference = differences[i];
+        differences[i] = (zigZagDifference >>> 1) ^ -(zigZagDifference & 1L);
+      }
+    }
+
+    // apply differences to the regular counts of the reference
+    int firstBinIndex = Integer.MAX_VALUE;
+    int lastBinIndex = Integer.MIN_VALUE;
+    if (hasRegularCounts(reference)) {
+      firstBinIndex = getFirstNonEmptyRegularBinIndex(reference);
+      lastBinIndex = getLastNonEmptyRegularBinIndex(reference);
+    }
+    if (differences != null) {
+      firstBinIndex = Math.min(firstBinIndex, firstDeltaBinIndex);
+      lastBinIndex = Math.max(lastBinIndex, firstDeltaBinIndex + differences.length - 1);
+    }
+    long totalCount = underflowCount + overflowCount;
+    if (firstBinIndex <= lastBinIndex) {
+      final long[] counts = new long[lastBinIndex - firstBinIndex + 1];
+      long countMask = 0;
+      int firstNonEmptyBinIndex = Integer.MAX_VALUE;
+      int lastNonEmptyBinIndex = Integer.MIN_VALUE;
+      for (int i = 0; i < counts.length; ++i) {
+        final int binIndex = firstBinIndex + i;
+        long count = reference.getCount(binIndex);
+        if (differences != null
+            && binIndex >= firstDeltaBinIndex
+            && binIndex - firstDeltaBinIndex < differences.length) {
+          count += differences[binIndex - firstDeltaBinIndex];
+        }
+        if (count < 0) {
+          throw new IOException(INCONSISTENT_DELTA_MSG);
+        }
+        if (count > 0) {
+          firstNonEmptyBinIndex = Math.min(firstNonEmptyBinIndex, binIndex);
+          lastNonEmptyBinIndex = binIndex;
+        }
+        counts[i] = count;
+        countMask |= count;
+        totalCount += count;
+      }
+      if (firstNonEmptyBinIndex <= lastNonEmptyBinIndex) {
+        builder.allocateRegularCounts(
+            firstNonEmptyBinIndex,
+            lastNonEmptyBinIndex,
+            Long.SIZE - Long.numberOfLeadingZeros(countMask));
+        for (int binIndex = firstNonEmptyBinIndex; binIndex <= lastNonEmptyBinIndex; ++binIndex) {
+          final long count = counts[binIndex - firstBinIndex];
+          if (count > 0) {
+            builder.incrementRegularCount(binIndex, count);
+          }
+        }
+      }
+    }
+
+    if (totalCount > 0) {
+      builder.setMinValue(min);
+      builder.setMaxValue(max);
+    }
+    builder.incrementUnderflowCount(underflowCount);
+    builder.incrementOverflowCount(overflowCount);
+    builder.incrementTotalCount(totalCount);
     return builder.build();
   }
 }
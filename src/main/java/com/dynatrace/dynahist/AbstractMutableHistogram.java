@@ -21,6 +21,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.dynahist.bin.AbstractBin;
 import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinConsumer;
 import com.dynatrace.dynahist.bin.BinIterator;
 import com.dynatrace.dynahist.layout.Layout;
 import com.dynatrace.dynahist.value.ValueEstimator;
@@ -34,15 +35,31 @@ abstract class AbstractMutableHistogram extends AbstractHistogram implements His
   protected static final String OVERFLOW_MSG = "Overflow occurred!";
   protected static final String NAN_VALUE_MSG = "Value was not a number (NaN)!";
   protected static final String NEGATIVE_COUNT_MSG = "Count must be non-negative, but was %d!";
+  protected static final String INCOMPATIBLE_LAYOUT_MSG = "Layouts must be equal!";
+  protected static final String NEGATIVE_BIN_COUNT_MSG =
+      "Subtraction would result in a negative bin count!";
 
   protected static final long[] EMPTY_COUNTS = {};
 
+  // minimum number of allocated bins (log2) for which the rank index is used
+  private static final int RANK_INDEX_MIN_BINS_LOG2 = 10;
+  // number of consecutive bins summarized by a single entry of the rank index
+  private static final int RANK_INDEX_BLOCK_SIZE_LOG2 = 6;
+
   private long underflowCount = 0;
   private long overflowCount = 0;
   protected long totalCount = 0;
   private double min = Double.POSITIVE_INFINITY;
   private double max = Double.NEGATIVE_INFINITY;
 
+  // Neumaier-compensated sums of the recorded values and their squares, NaN if not available
+  private double sum = 0;
+  private double sumCompensation = 0;
+  private double sumOfSquares = 0;
+  private double sumOfSquaresCompensation = 0;
+
+  private RankIndex rankIndex = null;
+
   protected AbstractMutableHistogram(final Layout layout) {
     super(layout);
   }
@@ -82,6 +99,58 @@ abstract class AbstractMutableHistogram extends AbstractHistogram implements His
     updateMax(max);
   }
 
+  private static double getCompensation(
+      final double sum, final double summand, final double newSum) {
+    if (Math.abs(sum) >= Math.abs(summand)) {
+      return (sum - newSum) + summand;
+    } else {
+      return (summand - newSum) + sum;
+    }
+  }
+
+  private static double getCompensatedSum(final double sum, final double compensation) {
+    // the compensation is not finite, if an infinite value was added
+    return Double.isFinite(sum) ? sum + compensation : sum;
+  }
+
+  /**
+   * Adds the given sum and sum of squares to the corresponding compensated sums.
+   *
+   * @param sumIncrement the increment of the sum
+   * @param sumOfSquaresIncrement the increment of the sum of squares
+   */
+  protected void incrementMoments(final double sumIncrement, final double sumOfSquaresIncrement) {
+    final double newSum = sum + sumIncrement;
+    sumCompensation += getCompensation(sum, sumIncrement, newSum);
+    sum = newSum;
+    final double newSumOfSquares = sumOfSquares + sumOfSquaresIncrement;
+    sumOfSquaresCompensation +=
+        getCompensation(sumOfSquares, sumOfSquaresIncrement, newSumOfSquares);
+    sumOfSquares = newSumOfSquares;
+  }
+
+  protected void updateMoments(final double value, final long count) {
+    final double weightedValue = value * count;
+    incrementMoments(weightedValue, weightedValue * value);
+  }
+
+  protected void setMoments(final double sum, final double sumOfSquares) {
+    this.sum = sum;
+    this.sumCompensation = 0;
+    this.sumOfSquares = sumOfSquares;
+    this.sumOfSquaresCompensation = 0;
+  }
+
+  @Override
+  public double getSum() {
+    return getCompensatedSum(sum, sumCompensation);
+  }
+
+  @Override
+  public double getSumOfSquares() {
+    return getCompensatedSum(sumOfSquares, sumOfSquaresCompensation);
+  }
+
   @Override
   public Histogram addHistogram(Histogram histogram, ValueEstimator valueEstimator) {
 
@@ -95,6 +164,24 @@ abstract class AbstractMutableHistogram extends AbstractHistogram implements His
       throw new ArithmeticException(OVERFLOW_MSG);
     }
 
+    // values added below are bin boundaries or estimates, therefore the moments are taken from the
+    // given histogram instead
+    final double sumBefore = sum;
+    final double sumCompensationBefore = sumCompensation;
+    final double sumOfSquaresBefore = sumOfSquares;
+    final double sumOfSquaresCompensationBefore = sumOfSquaresCompensation;
+
+    addHistogramCounts(histogram, valueEstimator);
+
+    sum = sumBefore;
+    sumCompensation = sumCompensationBefore;
+    sumOfSquares = sumOfSquaresBefore;
+    sumOfSquaresCompensation = sumOfSquaresCompensationBefore;
+    incrementMoments(histogram.getSum(), histogram.getSumOfSquares());
+    return this;
+  }
+
+  private void addHistogramCounts(Histogram histogram, ValueEstimator valueEstimator) {
     Layout layout = histogram.getLayout();
     if (getLayout().equals(layout)) {
 
@@ -112,24 +199,213 @@ abstract class AbstractMutableHistogram extends AbstractHistogram implements His
           addValue(binIterator.getLowerBound(), binIterator.getBinCount());
         }
       }
-      return this;
     } else {
       // preprocess histogram to get a copy that allows faster random access to
       // approximated values
       final Histogram preprocessedHistogram = histogram.getPreprocessedCopy();
-      return addAscendingSequence(
+      addAscendingSequence(
           rank -> preprocessedHistogram.getValue(rank, valueEstimator),
           preprocessedHistogram.getTotalCount());
     }
   }
 
+  @Override
+  public Histogram subtractHistogram(final Histogram histogram) {
+    subtractHistogramCounts(histogram);
+    if (!isEmpty()) {
+      final Layout layout = getLayout();
+      final double newMin =
+          Math.max(getMin(), layout.getBinLowerBound(getFirstNonEmptyBin().getBinIndex()));
+      final double newMax =
+          Math.min(getMax(), layout.getBinUpperBound(getLastNonEmptyBin().getBinIndex()));
+      setMinMax(newMin, newMax);
+    }
+    return this;
+  }
+
+  /**
+   * Subtracts the bin counts of the given histogram, which must have the same layout.
+   *
+   * <p>The counts are validated before any modification, so this histogram remains unchanged if an
+   * exception is thrown. The moments are decremented by those of the given histogram and reset, if
+   * this histogram gets empty. The minimum and the maximum are only reset in this case and need to
+   * be updated by the caller using {@link #setMinMax(double, double)} otherwise.
+   *
+   * @param histogram the histogram to subtract
+   * @throws IllegalArgumentException if the layouts are different or if any bin count of the given
+   *     histogram is larger than the corresponding bin count of this histogram
+   */
+  void subtractHistogramCounts(final Histogram histogram) {
+    requireNonNull(histogram);
+    checkArgument(getLayout().equals(histogram.getLayout()), INCOMPATIBLE_LAYOUT_MSG);
+    if (histogram.isEmpty()) {
+      return;
+    }
+    checkArgument(histogram.getTotalCount() <= getTotalCount(), NEGATIVE_BIN_COUNT_MSG);
+    histogram.forEachNonEmptyBin(
+        (binIndex, count, lessCount) ->
+            checkArgument(count <= getCount(binIndex), NEGATIVE_BIN_COUNT_MSG));
+    histogram.forEachNonEmptyBin((binIndex, count, lessCount) -> increaseCount(binIndex, -count));
+    totalCount -= histogram.getTotalCount();
+    // regular bin counts have changed without changing the total count by the same amount
+    rankIndex = null;
+    if (totalCount == 0) {
+      setMinMax(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+      setMoments(0, 0);
+    } else {
+      incrementMoments(-histogram.getSum(), -histogram.getSumOfSquares());
+    }
+  }
+
+  /**
+   * Sets the minimum and the maximum, which must be consistent with the non-empty bins.
+   *
+   * @param min the new minimum
+   * @param max the new maximum
+   */
+  void setMinMax(final double min, final double max) {
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Prefix sums over blocks of allocated bins. The k-th element of {@link #lessCounts} is the
+   * number of values less than the first bin of the k-th block.
+   *
+   * <p>The rank index is valid as long as the total, underflow, and overflow counts and the
+   * allocated bin range do not change. As regular bin counts cannot be increased without changing
+   * the total count, this avoids any maintenance costs when recording values. Subtracting counts
+   * must discard the rank index instead.
+   */
+  private static final class RankIndex {
+    private long[] lessCounts = EMPTY_COUNTS;
+    private int minBinIndex;
+    private int maxBinIndex;
+    private long totalCount = -1;
+    private long underflowCount;
+    private long overflowCount;
+
+    private long getEstimatedFootprintInBytes() {
+      return ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+          + (ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES
+              + ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+              + Integer.BYTES
+              + ((long) lessCounts.length) * Long.BYTES) // lessCounts
+          + 2L * Integer.BYTES // minBinIndex, maxBinIndex
+          + 3L * Long.BYTES; // totalCount, underflowCount, overflowCount
+    }
+  }
+
   @Override
   public long getEstimatedFootprintInBytes() {
     return 3L * Long.BYTES // underFlowCount, overFlowCount, totalCount
         + 2L * Double.BYTES // min, max
+        + 4L * Double.BYTES // sum, sumCompensation, sumOfSquares, sumOfSquaresCompensation
+        + ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES
+        + ((rankIndex != null) ? rankIndex.getEstimatedFootprintInBytes() : 0L) // rankIndex
         + super.getEstimatedFootprintInBytes();
   }
 
+  private RankIndex getRankIndex(final int minBinIndex, final int maxBinIndex) {
+    if (rankIndex == null) {
+      rankIndex = new RankIndex();
+    }
+    final RankIndex index = rankIndex;
+    if (index.minBinIndex == minBinIndex
+        && index.maxBinIndex == maxBinIndex
+        && index.totalCount == getTotalCount()
+        && index.underflowCount == getUnderflowCount()
+        && index.overflowCount == getOverflowCount()) {
+      return index;
+    }
+    final int numBlocks = ((maxBinIndex - minBinIndex - 1) >>> RANK_INDEX_BLOCK_SIZE_LOG2) + 1;
+    if (index.lessCounts.length != numBlocks) {
+      index.lessCounts = new long[numBlocks];
+    }
+    long lessCount = getUnderflowCount();
+    int binIndex = minBinIndex;
+    for (int k = 0; k < numBlocks; ++k) {
+      index.lessCounts[k] = lessCount;
+      final int blockEndBinIndex =
+          (int) Math.min(maxBinIndex, binIndex + (1L << RANK_INDEX_BLOCK_SIZE_LOG2));
+      for (; binIndex < blockEndBinIndex; ++binIndex) {
+        lessCount += getAllocatedBinCount(binIndex);
+      }
+    }
+    index.minBinIndex = minBinIndex;
+    index.maxBinIndex = maxBinIndex;
+    index.totalCount = getTotalCount();
+    index.underflowCount = getUnderflowCount();
+    index.overflowCount = getOverflowCount();
+    return index;
+  }
+
+  /**
+   * Returns the bin containing the value with given rank.
+   *
+   * <p>If the number of allocated bins is large and the rank belongs to a regular bin, a rank index
+   * is used, which is built with linear costs with the first call after any modification of the
+   * histogram. Subsequent calls have a logarithmic time complexity in terms of the number of bins.
+   */
+  @Override
+  public BinIterator getBinByRank(final long rank) {
+    final long totalCount = getTotalCount();
+
+    checkArgument(rank >= 0L);
+    checkArgument(rank < totalCount);
+
+    final int minBinIndex = minAllocatedBinIndexInclusive();
+    final int maxBinIndex = maxAllocatedBinIndexExclusive();
+    if (rank < getUnderflowCount()
+        || rank >= totalCount - getOverflowCount()
+        || maxBinIndex - (long) minBinIndex < (1L << RANK_INDEX_MIN_BINS_LOG2)) {
+      return super.getBinByRank(rank);
+    }
+
+    final long[] lessCounts = getRankIndex(minBinIndex, maxBinIndex).lessCounts;
+    final int numBlocks = lessCounts.length;
+    final int blockIndex =
+        (int) findFirst(k -> k == numBlocks || lessCounts[(int) k] > rank, 0, numBlocks) - 1;
+
+    int binIndex = minBinIndex + (blockIndex << RANK_INDEX_BLOCK_SIZE_LOG2);
+    long lessCount = lessCounts[blockIndex];
+    long count = getAllocatedBinCount(binIndex);
+    while (lessCount + count <= rank) {
+      lessCount += count;
+      binIndex += 1;
+      count = getAllocatedBinCount(binIndex);
+    }
+    return new BinIteratorImpl(binIndex, lessCount, totalCount - lessCount - count, count);
+  }
+
+  @Override
+  protected long getCountBelowBin(final int binIndex) {
+    final int minBinIndex = minAllocatedBinIndexInclusive();
+    final int maxBinIndex = maxAllocatedBinIndexExclusive();
+    if (binIndex <= getLayout().getUnderflowBinIndex()) {
+      return 0L;
+    } else if (binIndex <= minBinIndex) {
+      return getUnderflowCount();
+    } else if (binIndex >= maxBinIndex) {
+      return getTotalCount() - getOverflowCount();
+    }
+
+    long lessCount;
+    int fromBinIndex;
+    if (maxBinIndex - (long) minBinIndex < (1L << RANK_INDEX_MIN_BINS_LOG2)) {
+      lessCount = getUnderflowCount();
+      fromBinIndex = minBinIndex;
+    } else {
+      final int blockIndex = (binIndex - minBinIndex) >>> RANK_INDEX_BLOCK_SIZE_LOG2;
+      lessCount = getRankIndex(minBinIndex, maxBinIndex).lessCounts[blockIndex];
+      fromBinIndex = minBinIndex + (blockIndex << RANK_INDEX_BLOCK_SIZE_LOG2);
+    }
+    for (int i = fromBinIndex; i < binIndex; ++i) {
+      lessCount += getAllocatedBinCount(i);
+    }
+    return lessCount;
+  }
+
   /**
    * Return value must be greater than or equal to {@link #maxAllocatedBinIndexExclusive()} if
    * histogram is empty.
@@ -144,6 +420,15 @@ abstract class AbstractMutableHistogram extends AbstractHistogram implements His
 
   protected abstract long getAllocatedBinCount(int binIndex);
 
+  /**
+   * Passes all non-empty allocated bins in ascending order to the given {@link BinConsumer}.
+   *
+   * @param binConsumer the bin consumer
+   * @param lessCount the number of values less than the first allocated bin
+   * @return the number of values less than or equal to the last allocated bin
+   */
+  protected abstract long forEachNonEmptyAllocatedBin(BinConsumer binConsumer, long lessCount);
+
   @Override
   public long getCount(final int binIndex) {
     if (binIndex <= getLayout().getUnderflowBinIndex()) {
@@ -256,6 +541,24 @@ abstract class AbstractMutableHistogram extends AbstractHistogram implements His
 
   protected abstract void increaseCount(final int absoluteIndex, final long count);
 
+  @Override
+  public void forEachNonEmptyBin(BinConsumer binConsumer) {
+    requireNonNull(binConsumer);
+    long lessCount = 0;
+    final long underflowCount = getUnderflowCount();
+    if (underflowCount > 0) {
+      binConsumer.accept(getLayout().getUnderflowBinIndex(), underflowCount, lessCount);
+      lessCount += underflowCount;
+    }
+    if (lessCount + getOverflowCount() < getTotalCount()) {
+      lessCount = forEachNonEmptyAllocatedBin(binConsumer, lessCount);
+    }
+    final long overflowCount = getOverflowCount();
+    if (overflowCount > 0) {
+      binConsumer.accept(getLayout().getOverflowBinIndex(), overflowCount, lessCount);
+    }
+  }
+
   @Override
   public BinIterator getFirstNonEmptyBin() {
     if (isEmpty()) {
@@ -393,6 +696,49 @@ abstract class AbstractMutableHistogram extends AbstractHistogram implements His
       addValue(value, nextValIndex - valIndex);
       valIndex = nextValIndex;
     }
+    // not all values of the sequence have been evaluated
+    setMoments(Double.NaN, Double.NaN);
+    return this;
+  }
+
+  @Override
+  public Histogram addSortedValues(
+      final double[] sortedValues, final int fromIndex, final int toIndex) {
+    requireNonNull(sortedValues);
+    checkArgument(0 <= fromIndex && fromIndex <= toIndex && toIndex <= sortedValues.length);
+
+    if (fromIndex == toIndex) {
+      return this;
+    }
+
+    final long length = (long) toIndex - fromIndex;
+    if (length > Long.MAX_VALUE - getTotalCount()) {
+      throw new ArithmeticException(OVERFLOW_MSG);
+    }
+    // NaN values are sorted to the end by Arrays.sort
+    checkArgument(!Double.isNaN(sortedValues[toIndex - 1]), NAN_VALUE_MSG);
+
+    incrementTotalCount(length);
+    updateMinMax(sortedValues[fromIndex], sortedValues[toIndex - 1]);
+
+    // increment the count of each bin once for the run of values mapped to it
+    int valIndex = fromIndex;
+    while (valIndex != toIndex) {
+      final int binIndex = mapToBinIndex(sortedValues[valIndex]);
+      final int nextValIndex =
+          (int)
+              findFirst(
+                  i -> i == toIndex || mapToBinIndex(sortedValues[(int) i]) > binIndex,
+                  valIndex + 1,
+                  toIndex,
+                  valIndex + 1);
+      increaseCount(binIndex, nextValIndex - valIndex);
+      valIndex = nextValIndex;
+    }
+
+    for (int i = fromIndex; i != toIndex; ++i) {
+      updateMoments(sortedValues[i], 1);
+    }
     return this;
   }
 
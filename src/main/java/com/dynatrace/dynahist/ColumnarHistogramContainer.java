@@ -0,0 +1,694 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.serialization.SerializationUtil.checkSerialVersion;
+import static com.dynatrace.dynahist.serialization.SerializationUtil.readSignedVarLong;
+import static com.dynatrace.dynahist.serialization.SerializationUtil.readUnsignedVarInt;
+import static com.dynatrace.dynahist.serialization.SerializationUtil.writeSignedVarLong;
+import static com.dynatrace.dynahist.serialization.SerializationUtil.writeUnsignedVarInt;
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinIterator;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.serialization.BitInput;
+import com.dynatrace.dynahist.serialization.BitOutput;
+import com.dynatrace.dynahist.util.Algorithms;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A container for many histograms sharing the same {@link Layout}.
+ *
+ * <p>The layout is serialized only once. Total counts, underflow and overflow counts, minimum and
+ * maximum values, sums and sums of squares, and the ranges of non-empty regular bins are stored
+ * column-wise. Empty histograms are marked in a presence bitmap and omitted from all columns, as
+ * are histograms without regular bins from the columns describing regular bins. Each column stores
+ * the differences between neighboring entries using zigzag encoding, bit-packed using the smallest
+ * sufficient number of bits. Floating-point values are encoded as long values that preserve their
+ * order, which also retains unavailable moments given by {@link Double#NaN}. The regular bin counts
+ * of each histogram are stored in an individual block, which is located through an offset index.
+ * Hence, individual histograms can be decoded on demand, and bulk scans over the columns do not
+ * require decoding any bin counts at all.
+ *
+ * <p>Instances of this class are immutable.
+ */
+public final class ColumnarHistogramContainer {
+
+  private static final byte SERIAL_VERSION_V0 = 0;
+
+  private static final String LAYOUT_MISMATCH_MSG =
+      "Histograms must have the same layout as the container!";
+
+  private static final String INCONSISTENT_DATA_MSG = "Encountered inconsistent data!";
+
+  // initial number of bytes allocated when reading byte arrays of given length
+  private static final int READ_CHUNK_SIZE = 1 << 12;
+
+  private final Layout layout;
+  private final int size;
+
+  // bit i of the bitmap is set, if the histogram with index i is non-empty
+  private final long[] nonEmptyBitmap;
+  // number of non-empty histograms preceding the corresponding word of the bitmap
+  private final int[] nonEmptyRanks;
+
+  // columns indexed by the rank of non-empty histograms
+  private final long[] totalCounts;
+  private final long[] underflowCounts;
+  private final long[] overflowCounts;
+  private final long[] mappedMinValues;
+  private final long[] mappedMaxValues;
+  private final long[] mappedSums;
+  private final long[] mappedSumsOfSquares;
+  // zero for histograms without regular bins
+  private final long[] firstRegularBinIndices;
+  private final long[] regularBinRangeLengths;
+  private final int[] countBlockOffsets;
+  private final byte[] countBlocks;
+
+  private ColumnarHistogramContainer(
+      final Layout layout,
+      final int size,
+      final long[] nonEmptyBitmap,
+      final long[] totalCounts,
+      final long[] underflowCounts,
+      final long[] overflowCounts,
+      final long[] mappedMinValues,
+      final long[] mappedMaxValues,
+      final long[] mappedSums,
+      final long[] mappedSumsOfSquares,
+      final long[] firstRegularBinIndices,
+      final long[] regularBinRangeLengths,
+      final int[] countBlockOffsets,
+      final byte[] countBlocks) {
+    this.layout = layout;
+    this.size = size;
+    this.nonEmptyBitmap = nonEmptyBitmap;
+    this.nonEmptyRanks = new int[nonEmptyBitmap.length];
+    int rank = 0;
+    for (int i = 0; i < nonEmptyBitmap.length; ++i) {
+      nonEmptyRanks[i] = rank;
+      rank += Long.bitCount(nonEmptyBitmap[i]);
+    }
+    this.totalCounts = totalCounts;
+    this.underflowCounts = underflowCounts;
+    this.overflowCounts = overflowCounts;
+    this.mappedMinValues = mappedMinValues;
+    this.mappedMaxValues = mappedMaxValues;
+    this.mappedSums = mappedSums;
+    this.mappedSumsOfSquares = mappedSumsOfSquares;
+    this.firstRegularBinIndices = firstRegularBinIndices;
+    this.regularBinRangeLengths = regularBinRangeLengths;
+    this.countBlockOffsets = countBlockOffsets;
+    this.countBlocks = countBlocks;
+  }
+
+  /**
+   * Writes the given histograms into a columnar container.
+   *
+   * <p>All histograms must have the given layout. The histograms can be read back in the same order
+   * using {@link #read(DataInput)}.
+   *
+   * @param layout the layout shared by all histograms
+   * @param histograms the histograms
+   * @param dataOutput the {@link DataOutput}
+   * @throws IOException if an I/O error occurs
+   */
+  public static void write(
+      final Layout layout,
+      final Collection<? extends Histogram> histograms,
+      final DataOutput dataOutput)
+      throws IOException {
+    requireNonNull(layout);
+    requireNonNull(histograms);
+    requireNonNull(dataOutput);
+
+    final int size = histograms.size();
+    final byte[] nonEmptyBitmap = new byte[(int) ((size + 7L) >>> 3)];
+    final long[] totalCounts = new long[size];
+    final long[] underflowCounts = new long[size];
+    final long[] overflowCounts = new long[size];
+    final long[] mappedMinValues = new long[size];
+    final long[] mappedMaxValues = new long[size];
+    final long[] mappedSums = new long[size];
+    final long[] mappedSumsOfSquares = new long[size];
+    final long[] firstRegularBinIndices = new long[size];
+    final long[] regularBinRangeLengths = new long[size];
+    final long[] countBlockLengths = new long[size];
+
+    final ByteArrayOutputStream countBlocks = new ByteArrayOutputStream();
+    final DataOutputStream countBlocksOutput = new DataOutputStream(countBlocks);
+
+    int index = 0;
+    int numNonEmpty = 0;
+    int numWithRegularBins = 0;
+    for (final Histogram histogram : histograms) {
+      checkArgument(layout.equals(histogram.getLayout()), LAYOUT_MISMATCH_MSG);
+      final long totalCount = histogram.getTotalCount();
+      if (totalCount > 0) {
+        nonEmptyBitmap[index >>> 3] |= (byte) (1 << (index & 7));
+        final long underflowCount = histogram.getUnderflowCount();
+        final long overflowCount = histogram.getOverflowCount();
+        totalCounts[numNonEmpty] = totalCount;
+        underflowCounts[numNonEmpty] = underflowCount;
+        overflowCounts[numNonEmpty] = overflowCount;
+        mappedMinValues[numNonEmpty] = Algorithms.mapDoubleToLong(histogram.getMin());
+        mappedMaxValues[numNonEmpty] = Algorithms.mapDoubleToLong(histogram.getMax());
+        mappedSums[numNonEmpty] = Algorithms.mapDoubleToLong(histogram.getSum());
+        mappedSumsOfSquares[numNonEmpty] = Algorithms.mapDoubleToLong(histogram.getSumOfSquares());
+        numNonEmpty += 1;
+        if (totalCount - underflowCount - overflowCount > 0) {
+          final int countBlockStart = countBlocksOutput.size();
+          writeRegularCounts(
+              histogram,
+              numWithRegularBins,
+              firstRegularBinIndices,
+              regularBinRangeLengths,
+              countBlocksOutput);
+          countBlockLengths[numWithRegularBins] = countBlocksOutput.size() - countBlockStart;
+          numWithRegularBins += 1;
+        }
+      }
+      index += 1;
+    }
+    checkArgument(index == size);
+
+    dataOutput.writeByte(SERIAL_VERSION_V0);
+    layout.writeWithTypeInfo(dataOutput);
+    writeUnsignedVarInt(size, dataOutput);
+    dataOutput.write(nonEmptyBitmap);
+    writeColumn(totalCounts, numNonEmpty, dataOutput);
+    writeColumn(underflowCounts, numNonEmpty, dataOutput);
+    writeColumn(overflowCounts, numNonEmpty, dataOutput);
+    writeColumn(mappedMinValues, numNonEmpty, dataOutput);
+    writeColumn(mappedMaxValues, numNonEmpty, dataOutput);
+    writeColumn(mappedSums, numNonEmpty, dataOutput);
+    writeColumn(mappedSumsOfSquares, numNonEmpty, dataOutput);
+    writeColumn(firstRegularBinIndices, numWithRegularBins, dataOutput);
+    writeColumn(regularBinRangeLengths, numWithRegularBins, dataOutput);
+    writeColumn(countBlockLengths, numWithRegularBins, dataOutput);
+    dataOutput.write(countBlocks.toByteArray());
+  }
+
+  private static void writeRegularCounts(
+      final Histogram histogram,
+      final int index,
+      final long[] firstRegularBinIndices,
+      final long[] regularBinRangeLengths,
+      final DataOutput dataOutput)
+      throws IOException {
+    final BinIterator binIteratorStart = histogram.getFirstNonEmptyBin();
+    if (binIteratorStart.isUnderflowBin()) {
+      binIteratorStart.next();
+    }
+    final BinIterator binIteratorEnd = histogram.getLastNonEmptyBin();
+    if (binIteratorEnd.isOverflowBin()) {
+      binIteratorEnd.previous();
+    }
+    final int startBinIndex = binIteratorStart.getBinIndex();
+    final int endBinIndex = binIteratorEnd.getBinIndex();
+    firstRegularBinIndices[index] = startBinIndex;
+    regularBinRangeLengths[index] = endBinIndex - (long) startBinIndex + 1;
+
+    final int numberOfBins = endBinIndex - startBinIndex + 1;
+    final int[] blockWidths =
+        new int[((numberOfBins - 1) >>> AbstractHistogram.COUNT_BLOCK_SIZE_LOG2) + 1];
+    long maxCountMask = 0;
+    int diffIndexMask = 0;
+    long numberOfNonEmptyBins = 1;
+    {
+      final BinIterator it = binIteratorStart.copy();
+      maxCountMask |= it.getBinCount();
+      AbstractHistogram.updateBlockWidth(blockWidths, 0, it.getBinCount());
+      while (it.getBinIndex() < endBinIndex) {
+        final int lastBinIndex = it.getBinIndex();
+        it.next();
+        diffIndexMask |= it.getBinIndex() - lastBinIndex - 1;
+        maxCountMask |= it.getBinCount();
+        numberOfNonEmptyBins += 1;
+        AbstractHistogram.updateBlockWidth(
+            blockWidths,
+            (it.getBinIndex() - startBinIndex) >>> AbstractHistogram.COUNT_BLOCK_SIZE_LOG2,
+            it.getBinCount());
+      }
+    }
+    final int bitsPerCount = Long.SIZE - Long.numberOfLeadingZeros(maxCountMask);
+    final int bitsForDiffIndex = Integer.SIZE - Integer.numberOfLeadingZeros(diffIndexMask);
+    final long bitsForDenseSerialization = numberOfBins * (long) bitsPerCount;
+    final long bitsForBlockSerialization =
+        AbstractHistogram.getBitsForBlockEncoding(blockWidths, numberOfBins, bitsPerCount);
+    final long bitsForSparseSerialization =
+        5 + numberOfNonEmptyBins * bitsPerCount + (numberOfNonEmptyBins - 1) * bitsForDiffIndex;
+    final boolean sparseSerialization =
+        bitsForSparseSerialization
+            < 1 + Math.min(bitsForDenseSerialization, bitsForBlockSerialization);
+    final boolean blockSerialization =
+        !sparseSerialization && bitsForBlockSerialization < bitsForDenseSerialization;
+
+    final BitOutput bitOutput = new BitOutput(dataOutput);
+    bitOutput.writeBits(6, bitsPerCount);
+    bitOutput.writeBits(1, sparseSerialization ? 1 : 0);
+    if (sparseSerialization) {
+      bitOutput.writeBits(5, bitsForDiffIndex);
+    } else {
+      bitOutput.writeBits(1, blockSerialization ? 1 : 0);
+    }
+    if (blockSerialization) {
+      AbstractHistogram.writeBlockEncodedCounts(
+          bitOutput, binIteratorStart, endBinIndex, blockWidths, bitsPerCount, Bin::getBinCount);
+    } else {
+      int binIndex = startBinIndex;
+      bitOutput.writeBits(bitsPerCount, binIteratorStart.getBinCount());
+      while (binIndex < endBinIndex) {
+        final int lastBinIndex = binIndex;
+        binIteratorStart.next();
+        binIndex = binIteratorStart.getBinIndex();
+        if (sparseSerialization) {
+          bitOutput.writeBits(bitsForDiffIndex, binIndex - lastBinIndex - 1L);
+        } else {
+          for (int i = lastBinIndex + 1; i < binIndex; ++i) {
+            bitOutput.writeBits(bitsPerCount, 0L);
+          }
+        }
+        bitOutput.writeBits(bitsPerCount, binIteratorStart.getBinCount());
+      }
+    }
+    bitOutput.finish();
+  }
+
+  /**
+   * Writes the first {@code length} values of the given column. The first value is followed by the
+   * zigzag encoded differences between neighboring values, which are bit-packed using the smallest
+   * sufficient number of bits.
+   */
+  private static void writeColumn(
+      final long[] values, final int length, final DataOutput dataOutput) throws IOException {
+    if (length == 0) {
+      return;
+    }
+    long zigzagMask = 0;
+    for (int i = 1; i < length; ++i) {
+      zigzagMask |= encodeZigzag(values[i] - values[i - 1]);
+    }
+    final int bitsPerValue = Long.SIZE - Long.numberOfLeadingZeros(zigzagMask);
+    writeSignedVarLong(values[0], dataOutput);
+    dataOutput.writeByte(bitsPerValue);
+    final BitOutput bitOutput = new BitOutput(dataOutput);
+    for (int i = 1; i < length; ++i) {
+      bitOutput.writeBits(bitsPerValue, encodeZigzag(values[i] - values[i - 1]));
+    }
+    bitOutput.finish();
+  }
+
+  private static long[] readColumn(final int length, final DataInput dataInput)
+      throws IOException {
+    final long[] values = new long[length];
+    if (length == 0) {
+      return values;
+    }
+    values[0] = readSignedVarLong(dataInput);
+    final int bitsPerValue = dataInput.readUnsignedByte();
+    if (bitsPerValue > Long.SIZE) {
+      throw new IOException(INCONSISTENT_DATA_MSG);
+    }
+    final BitInput bitInput = new BitInput(dataInput);
+    for (int i = 1; i < length; ++i) {
+      values[i] = values[i - 1] + decodeZigzag(bitInput.readBits(bitsPerValue));
+    }
+    return values;
+  }
+
+  private static long encodeZigzag(final long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long decodeZigzag(final long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Reads the given number of bytes in chunks of increasing size. In contrast to allocating an
+   * array of the given length upfront, the allocated memory is bounded by a multiple of the data
+   * actually available, if the length was read from inconsistent data.
+   */
+  private static byte[] readBytes(final int length, final DataInput dataInput) throws IOException {
+    byte[] bytes = new byte[Math.min(length, READ_CHUNK_SIZE)];
+    int numBytesRead = 0;
+    while (true) {
+      dataInput.readFully(bytes, numBytesRead, bytes.length - numBytesRead);
+      numBytesRead = bytes.length;
+      if (numBytesRead == length) {
+        return bytes;
+      }
+      bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * numBytesRead));
+    }
+  }
+
+  /**
+   * Reads a columnar container written by {@link #write(Layout, Collection, DataOutput)}.
+   *
+   * <p>The bin counts of the individual histograms are decoded lazily when accessed.
+   *
+   * @param dataInput the {@link DataInput}
+   * @return the container
+   * @throws IOException if an I/O error occurs
+   */
+  public static ColumnarHistogramContainer read(final DataInput dataInput) throws IOException {
+    requireNonNull(dataInput);
+    checkSerialVersion(SERIAL_VERSION_V0, dataInput.readByte());
+    final Layout layout = Layout.readWithTypeInfo(dataInput);
+    final int size = readUnsignedVarInt(dataInput);
+    if (size < 0) {
+      throw new IOException(INCONSISTENT_DATA_MSG);
+    }
+    // the bitmap is read first, which bounds the sizes of all following allocations
+    final byte[] nonEmptyBitmapBytes = readBytes((int) ((size + 7L) >>> 3), dataInput);
+    final long[] nonEmptyBitmap = new long[(int) ((size + 63L) >>> 6)];
+    for (int i = 0; i < nonEmptyBitmapBytes.length; ++i) {
+      nonEmptyBitmap[i >>> 3] |= (nonEmptyBitmapBytes[i] & 0xFFL) << ((i & 7) << 3);
+    }
+    int numNonEmpty = 0;
+    for (final long word : nonEmptyBitmap) {
+      numNonEmpty += Long.bitCount(word);
+    }
+    if ((size & 63) != 0 && (nonEmptyBitmap[size >>> 6] >>> (size & 63)) != 0) {
+      throw new IOException(INCONSISTENT_DATA_MSG);
+    }
+
+    final long[] totalCounts = readColumn(numNonEmpty, dataInput);
+    final long[] underflowCounts = readColumn(numNonEmpty, dataInput);
+    final long[] overflowCounts = readColumn(numNonEmpty, dataInput);
+    final long[] mappedMinValues = readColumn(numNonEmpty, dataInput);
+    final long[] mappedMaxValues = readColumn(numNonEmpty, dataInput);
+    final long[] mappedSums = readColumn(numNonEmpty, dataInput);
+    final long[] mappedSumsOfSquares = readColumn(numNonEmpty, dataInput);
+    int numWithRegularBins = 0;
+    for (int i = 0; i < numNonEmpty; ++i) {
+      final long regularTotalCount = totalCounts[i] - underflowCounts[i] - overflowCounts[i];
+      if (totalCounts[i] <= 0
+          || underflowCounts[i] < 0
+          || overflowCounts[i] < 0
+          || regularTotalCount < 0
+          || mappedMinValues[i] > mappedMaxValues[i]) {
+        throw new IOException(INCONSISTENT_DATA_MSG);
+      }
+      if (regularTotalCount > 0) {
+        numWithRegularBins += 1;
+      }
+    }
+    final long[] firstRegularBinIndicesColumn = readColumn(numWithRegularBins, dataInput);
+    final long[] regularBinRangeLengthsColumn = readColumn(numWithRegularBins, dataInput);
+    final long[] countBlockLengthsColumn = readColumn(numWithRegularBins, dataInput);
+
+    final long[] firstRegularBinIndices = new long[numNonEmpty];
+    final long[] regularBinRangeLengths = new long[numNonEmpty];
+    final int[] countBlockOffsets = new int[numNonEmpty];
+    long offset = 0;
+    int regularBinsIndex = 0;
+    for (int i = 0; i < numNonEmpty; ++i) {
+      if (totalCounts[i] - underflowCounts[i] - overflowCounts[i] > 0) {
+        final long countBlockLength = countBlockLengthsColumn[regularBinsIndex];
+        if (regularBinRangeLengthsColumn[regularBinsIndex] <= 0
+            || countBlockLength <= 0
+            || countBlockLength > Integer.MAX_VALUE - offset) {
+          throw new IOException(INCONSISTENT_DATA_MSG);
+        }
+        firstRegularBinIndices[i] = firstRegularBinIndicesColumn[regularBinsIndex];
+        regularBinRangeLengths[i] = regularBinRangeLengthsColumn[regularBinsIndex];
+        countBlockOffsets[i] = (int) offset;
+        offset += countBlockLength;
+        regularBinsIndex += 1;
+      }
+    }
+    final byte[] countBlocks = readBytes((int) offset, dataInput);
+
+    return new ColumnarHistogramContainer(
+        layout,
+        size,
+        nonEmptyBitmap,
+        totalCounts,
+        underflowCounts,
+        overflowCounts,
+        mappedMinValues,
+        mappedMaxValues,
+        mappedSums,
+        mappedSumsOfSquares,
+        firstRegularBinIndices,
+        regularBinRangeLengths,
+        countBlockOffsets,
+        countBlocks);
+  }
+
+  /**
+   * Returns the rank of the histogram with given index among all non-empty histograms, or -1 if the
+   * histogram is empty.
+   */
+  private int getNonEmptyRank(final int index) {
+    checkArgument(index >= 0 && index < size);
+    final int wordIndex = index >>> 6;
+    final long word = nonEmptyBitmap[wordIndex];
+    if ((word & (1L << index)) == 0) {
+      return -1;
+    }
+    return nonEmptyRanks[wordIndex] + Long.bitCount(word & ((1L << index) - 1));
+  }
+
+  /**
+   * Returns the layout shared by all histograms in this container.
+   *
+   * @return the layout
+   */
+  public Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * Returns the number of histograms in this container.
+   *
+   * @return the number of histograms
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the total count of the histogram with given index without decoding its bin counts.
+   *
+   * @param index the index of the histogram
+   * @return the total count
+   */
+  public long getTotalCount(final int index) {
+    final int rank = getNonEmptyRank(index);
+    return (rank >= 0) ? totalCounts[rank] : 0;
+  }
+
+  /**
+   * Returns the underflow count of the histogram with given index without decoding its bin counts.
+   *
+   * @param index the index of the histogram
+   * @return the underflow count
+   */
+  public long getUnderflowCount(final int index) {
+    final int rank = getNonEmptyRank(index);
+    return (rank >= 0) ? underflowCounts[rank] : 0;
+  }
+
+  /**
+   * Returns the overflow count of the histogram with given index without decoding its bin counts.
+   *
+   * @param index the index of the histogram
+   * @return the overflow count
+   */
+  public long getOverflowCount(final int index) {
+    final int rank = getNonEmptyRank(index);
+    return (rank >= 0) ? overflowCounts[rank] : 0;
+  }
+
+  /**
+   * Returns the minimum of the histogram with given index without decoding its bin counts.
+   *
+   * <p>Returns {@link Double#POSITIVE_INFINITY} if the histogram is empty.
+   *
+   * @param index the index of the histogram
+   * @return the minimum
+   */
+  public double getMin(final int index) {
+    final int rank = getNonEmptyRank(index);
+    return (rank >= 0)
+        ? Algorithms.mapLongToDouble(mappedMinValues[rank])
+        : Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Returns the maximum of the histogram with given index without decoding its bin counts.
+   *
+   * <p>Returns {@link Double#NEGATIVE_INFINITY} if the histogram is empty.
+   *
+   * @param index the index of the histogram
+   * @return the maximum
+   */
+  public double getMax(final int index) {
+    final int rank = getNonEmptyRank(index);
+    return (rank >= 0)
+        ? Algorithms.mapLongToDouble(mappedMaxValues[rank])
+        : Double.NEGATIVE_INFINITY;
+  }
+
+  /**
+   * Returns the sum of all values added to the histogram with given index without decoding its bin
+   * counts.
+   *
+   * <p>Returns 0 if the histogram is empty. Returns {@link Double#NaN} if the sum was not available
+   * when the histogram was written to the container.
+   *
+   * @param index the index of the histogram
+   * @return the sum
+   */
+  public double getSum(final int index) {
+    final int rank = getNonEmptyRank(index);
+    return (rank >= 0) ? Algorithms.mapLongToDouble(mappedSums[rank]) : 0;
+  }
+
+  /**
+   * Returns the sum of the squares of all values added to the histogram with given index without
+   * decoding its bin counts.
+   *
+   * <p>Returns 0 if the histogram is empty. Returns {@link Double#NaN} if the sum of squares was
+   * not available when the histogram was written to the container.
+   *
+   * @param index the index of the histogram
+   * @return the sum of squares
+   */
+  public double getSumOfSquares(final int index) {
+    final int rank = getNonEmptyRank(index);
+    return (rank >= 0) ? Algorithms.mapLongToDouble(mappedSumsOfSquares[rank]) : 0;
+  }
+
+  /**
+   * Decodes the histogram with given index.
+   *
+   * <p>The returned histogram will allocate internal arrays for bin counts statically.
+   *
+   * @param index the index of the histogram
+   * @return the histogram
+   * @throws IOException if the stored data is inconsistent
+   */
+  public Histogram getAsStatic(final int index) throws IOException {
+    return decode(index, StaticHistogram.createDeserializationBuilder(layout));
+  }
+
+  /**
+   * Decodes the histogram with given index.
+   *
+   * <p>The returned histogram will allocate internal arrays for bin counts dynamically.
+   *
+   * @param index the index of the histogram
+   * @return the histogram
+   * @throws IOException if the stored data is inconsistent
+   */
+  public Histogram getAsDynamic(final int index) throws IOException {
+    return decode(index, DynamicHistogram.createDeserializationBuilder(layout));
+  }
+
+  /**
+   * Decodes the histogram with given index as immutable preprocessed histogram.
+   *
+   * @param index the index of the histogram
+   * @return the histogram
+   * @throws IOException if the stored data is inconsistent
+   */
+  public Histogram getAsPreprocessed(final int index) throws IOException {
+    return getAsDynamic(index).getPreprocessedCopy();
+  }
+
+  private Histogram decode(final int index, final HistogramDeserializationBuilder builder)
+      throws IOException {
+    final int rank = getNonEmptyRank(index);
+    if (rank < 0) {
+      return builder.build();
+    }
+    final long totalCount = totalCounts[rank];
+    builder.setMinValue(Algorithms.mapLongToDouble(mappedMinValues[rank]));
+    builder.setMaxValue(Algorithms.mapLongToDouble(mappedMaxValues[rank]));
+
+    final long regularBinRangeLength = regularBinRangeLengths[rank];
+    long regularTotalCount = 0;
+    if (regularBinRangeLength > 0) {
+      final long firstBinIndex = firstRegularBinIndices[rank];
+      final long lastBinIndex = firstBinIndex + regularBinRangeLength - 1;
+      if (firstBinIndex <= layout.getUnderflowBinIndex()
+          || lastBinIndex >= layout.getOverflowBinIndex()) {
+        throw new IOException(INCONSISTENT_DATA_MSG);
+      }
+      final BitInput bitInput =
+          new BitInput(
+              new DataInputStream(
+                  new ByteArrayInputStream(
+                      countBlocks,
+                      countBlockOffsets[rank],
+                      countBlocks.length - countBlockOffsets[rank])));
+      final int bitsPerCount = (int) bitInput.readBits(6);
+      final boolean sparseSerialization = bitInput.readBits(1) != 0;
+      builder.allocateRegularCounts((int) firstBinIndex, (int) lastBinIndex, bitsPerCount);
+      if (sparseSerialization) {
+        final int bitsForDiffIndex = (int) bitInput.readBits(5);
+        long binIndex = firstBinIndex;
+        while (true) {
+          final long binCount = bitInput.readBits(bitsPerCount);
+          builder.incrementRegularCount((int) binIndex, binCount);
+          regularTotalCount += binCount;
+          if (binIndex >= lastBinIndex) break;
+          binIndex += bitInput.readBits(bitsForDiffIndex) + 1;
+          if (binIndex > lastBinIndex) {
+            throw new IOException(INCONSISTENT_DATA_MSG);
+          }
+        }
+      } else if (bitInput.readBits(1) != 0) {
+        regularTotalCount +=
+            AbstractHistogram.readBlockEncodedCounts(
+                bitInput, builder, (int) firstBinIndex, (int) lastBinIndex, bitsPerCount);
+      } else {
+        for (int binIndex = (int) firstBinIndex; binIndex <= lastBinIndex; ++binIndex) {
+          final long binCount = bitInput.readBits(bitsPerCount);
+          if (binCount > 0) {
+            builder.incrementRegularCount(binIndex, binCount);
+            regularTotalCount += binCount;
+          }
+        }
+      }
+    }
+    if (regularTotalCount + underflowCounts[rank] + overflowCounts[rank] != totalCount) {
+      throw new IOException(INCONSISTENT_DATA_MSG);
+    }
+    builder.incrementUnderflowCount(underflowCounts[rank]);
+    builder.incrementOverflowCount(overflowCounts[rank]);
+    builder.incrementTotalCount(totalCount);
+    builder.setMoments(
+        Algorithms.mapLongToDouble(mappedSums[rank]),
+        Algorithms.mapLongToDouble(mappedSumsOfSquares[rank]));
+    return builder.build();
+  }
+}
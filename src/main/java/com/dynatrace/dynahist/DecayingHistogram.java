@@ -0,0 +1,250 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.quantile.QuantileEstimator;
+import com.dynatrace.dynahist.value.ValueEstimator;
+
+/**
+ * A histogram whose recorded values lose weight exponentially with their age, which allows
+ * estimating quantiles that favor recent values without using fixed time windows.
+ *
+ * <p>A value recorded at time {@code t} has weight {@code 2^(-(T - t) / halfLife)} at query time
+ * {@code T}. Following the forward decay approach, the weight is stored relative to a landmark
+ * time as {@code 2^((t - landmark) / halfLife)}, which does not change over time. Therefore,
+ * recording a value takes constant time. Since weights relative to the landmark grow with time, the
+ * landmark is moved forward and all weights are rescaled from time to time, which is rare enough
+ * to have amortized constant costs.
+ *
+ * <p>The weights are kept in a {@link WeightedHistogram}, whose quantile estimates and mean only
+ * depend on the relative weights. Since all weights decay at the same rate, quantiles and the mean
+ * neither depend on the query time nor on the landmark. Old values with negligible weights have a
+ * negligible influence on quantiles. Alternatively, quantiles can be estimated from a snapshot,
+ * which is a regular {@link Histogram} with integral counts proportional to the weights of the
+ * bins, using the usual {@link ValueEstimator} implementations.
+ *
+ * <p>Timestamps can be given in any unit, as long as the half-life is specified in the same unit.
+ * This class is not thread-safe.
+ */
+public final class DecayingHistogram {
+
+  // the landmark is moved as soon as a weight would exceed e^64, which keeps weighted sums of
+  // squares far away from overflow
+  private static final double MAX_EXPONENT = 64;
+
+  // total count of snapshots, large enough to resolve relative weights of about 1e-12
+  static final long SNAPSHOT_TOTAL_COUNT = 1L << 40;
+
+  private final WeightedHistogram weightedHistogram;
+  private final double decayRate;
+
+  private long landmark = 0;
+
+  private DecayingHistogram(final Layout layout, final double decayRate) {
+    this.weightedHistogram = WeightedHistogram.create(layout);
+    this.decayRate = decayRate;
+  }
+
+  /**
+   * Creates an empty decaying histogram.
+   *
+   * @param layout the layout of the histogram
+   * @param halfLife the time after which the weight of a value is halved, in the unit of the
+   *     timestamps
+   * @return an empty decaying histogram
+   */
+  public static DecayingHistogram create(final Layout layout, final double halfLife) {
+    requireNonNull(layout);
+    checkArgument(halfLife > 0 && halfLife < Double.POSITIVE_INFINITY);
+    return new DecayingHistogram(layout, Math.log(2.) / halfLife);
+  }
+
+  /**
+   * Returns the layout of the histogram.
+   *
+   * @return the layout
+   */
+  public Layout getLayout() {
+    return weightedHistogram.getLayout();
+  }
+
+  /**
+   * Adds a value recorded at the given time.
+   *
+   * @param value the value
+   * @param timestamp the time of recording
+   * @return a reference to this
+   * @throws IllegalArgumentException if value is equal to {@link Double#NaN}
+   */
+  public DecayingHistogram addValue(final double value, final long timestamp) {
+    return addValue(value, 1, timestamp);
+  }
+
+  /**
+   * Adds a value recorded at the given time with a given multiplicity.
+   *
+   * @param value the value
+   * @param count defines the multiplicity
+   * @param timestamp the time of recording
+   * @return a reference to this
+   * @throws IllegalArgumentException if value is equal to {@link Double#NaN} or count is negative
+   */
+  public DecayingHistogram addValue(final double value, final long count, final long timestamp) {
+    checkArgument(!Double.isNaN(value), AbstractMutableHistogram.NAN_VALUE_MSG);
+    checkArgument(count >= 0, AbstractMutableHistogram.NEGATIVE_COUNT_MSG, count);
+    if (count == 0) {
+      return this;
+    }
+    if (isEmpty()) {
+      landmark = timestamp;
+    }
+    double exponent = decayRate * (timestamp - (double) landmark);
+    if (exponent > MAX_EXPONENT) {
+      weightedHistogram.scale(Math.exp(-exponent));
+      landmark = timestamp;
+      exponent = 0;
+    }
+    // values which are too old to have any influence get weight 0 and are ignored, which also
+    // applies to values whose weights underflow to 0 when the landmark is moved
+    weightedHistogram.addValue(value, Math.exp(exponent), count);
+    return this;
+  }
+
+  /**
+   * Returns {@code true} if no value has been added.
+   *
+   * @return {@code true} if empty
+   */
+  public boolean isEmpty() {
+    return weightedHistogram.isEmpty();
+  }
+
+  /**
+   * Returns the total weight of all values at the given time.
+   *
+   * @param timestamp the time of evaluation
+   * @return the total weight
+   */
+  public double getTotalWeight(final long timestamp) {
+    return isEmpty()
+        ? 0
+        : weightedHistogram.getTotalWeight()
+            * Math.exp(-decayRate * (timestamp - (double) landmark));
+  }
+
+  /**
+   * Returns the minimum of all added values regardless of their weights.
+   *
+   * <p>Values whose weights underflowed to zero when moving the landmark are no longer considered,
+   * in which case the minimum is limited by the lower bound of the first remaining non-empty bin.
+   * Returns {@link Double#POSITIVE_INFINITY} if the histogram is empty.
+   *
+   * @return the minimum of all added values
+   */
+  public double getMin() {
+    return weightedHistogram.getMin();
+  }
+
+  /**
+   * Returns the maximum of all added values regardless of their weights.
+   *
+   * <p>Values whose weights underflowed to zero when moving the landmark are no longer considered,
+   * in which case the maximum is limited by the upper bound of the last remaining non-empty bin.
+   * Returns {@link Double#NEGATIVE_INFINITY} if the histogram is empty.
+   *
+   * @return the maximum of all added values
+   */
+  public double getMax() {
+    return weightedHistogram.getMax();
+  }
+
+  /**
+   * Returns the weighted mean of all added values.
+   *
+   * <p>Returns {@link Double#NaN} if the histogram is empty.
+   *
+   * @return the weighted mean
+   */
+  public double getMean() {
+    return weightedHistogram.getMean();
+  }
+
+  /**
+   * Returns a histogram with integral counts proportional to the current weights of the bins.
+   *
+   * <p>The total count of the snapshot is {@code 2^40}. Bins with a relative weight too small to be
+   * represented are empty. Minimum and maximum are limited to the remaining non-empty bins.
+   *
+   * @return a new histogram
+   */
+  public Histogram getSnapshot() {
+    return weightedHistogram.getSnapshot(SNAPSHOT_TOTAL_COUNT);
+  }
+
+  /**
+   * Returns an estimate for the quantile value based on weighted ranks using the default quantile
+   * estimator.
+   *
+   * @param p the p-value in range [0,1]
+   * @return an estimate for the p-quantile
+   */
+  public double getQuantile(final double p) {
+    return weightedHistogram.getQuantile(p);
+  }
+
+  /**
+   * Returns an estimate for the quantile value from a snapshot using the given quantile and value
+   * estimators.
+   *
+   * @param p the p-value in range [0,1]
+   * @param quantileEstimator the quantile estimator
+   * @param valueEstimator the value estimator
+   * @return an estimate for the p-quantile
+   */
+  public double getQuantile(
+      final double p,
+      final QuantileEstimator quantileEstimator,
+      final ValueEstimator valueEstimator) {
+    return getSnapshot().getQuantile(p, quantileEstimator, valueEstimator);
+  }
+
+  /**
+   * Returns an estimate of the footprint of this histogram in bytes.
+   *
+   * @return an estimate of the footprint in bytes
+   */
+  public long getEstimatedFootprintInBytes() {
+    return AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // weightedHistogram
+        + weightedHistogram.getEstimatedFootprintInBytes()
+        + Double.BYTES // decayRate
+        + Long.BYTES; // landmark
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + " [weightedHistogram="
+        + weightedHistogram
+        + ", landmark="
+        + landmark
+        + "]";
+  }
+}
@@ -18,6 +18,7 @@ package com.dynatrace.dynahist;
 import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import com.dynatrace.dynahist.bin.BinConsumer;
 import com.dynatrace.dynahist.bin.BinIterator;
 import com.dynatrace.dynahist.layout.Layout;
 import com.dynatrace.dynahist.value.ValueEstimator;
@@ -109,6 +110,7 @@ final class DynamicHistogram extends AbstractMutableHistogram {
         } else {
           tryToExtendAndIncreaseCount(absoluteIndex, count, value);
         }
+        updateMoments(value, count);
       } else {
         throw new ArithmeticException(OVERFLOW_MSG);
       }
@@ -240,6 +242,7 @@ final class DynamicHistogram extends AbstractMutableHistogram {
       updateMinMax(histogram.getMin(), histogram.getMax());
       incrementUnderflowCount(histogram.getUnderflowCount());
       incrementOverflowCount(histogram.getOverflowCount());
+      incrementMoments(histogram.getSum(), histogram.getSumOfSquares());
 
       if (histogram.getUnderflowCount() + histogram.getOverflowCount()
           < histogram.getTotalCount()) {
@@ -309,62 +312,103 @@ final class DynamicHistogram extends AbstractMutableHistogram {
     return getCount(counts, binIndex - indexOffset, mode);
   }
 
+  @Override
+  protected long forEachNonEmptyAllocatedBin(final BinConsumer binConsumer, long lessCount) {
+    final long countMask = getCountMask(mode);
+    final int lastArrayIdx = counts.length - 1;
+    for (int arrayIdx = 0; arrayIdx <= lastArrayIdx; ++arrayIdx) {
+      long value = counts[arrayIdx];
+      if (arrayIdx == lastArrayIdx) {
+        // the bits of unused counters are set, see ensureCountArray
+        value &= 0xffffffffffffffffL >>> (numberOfUnusedCounts << mode);
+      }
+      // visit only non-zero counters, words without any non-empty bin are skipped as a whole
+      final int firstRelativeIdx = arrayIdx << (6 - mode);
+      while (value != 0) {
+        final int counterIdx = Long.numberOfTrailingZeros(value) >>> mode;
+        final int bitOffset = getBitOffset(counterIdx, mode);
+        final long count = (value >>> bitOffset) & countMask;
+        binConsumer.accept(firstRelativeIdx + counterIdx + indexOffset, count, lessCount);
+        lessCount += count;
+        value &= ~(countMask << bitOffset);
+      }
+    }
+    return lessCount;
+  }
+
   public static Histogram read(final Layout layout, final DataInput dataInput) throws IOException {
     requireNonNull(layout);
     requireNonNull(dataInput);
+    return AbstractHistogram.deserialize(layout, createDeserializationBuilder(layout), dataInput);
+  }
+
+  public static Histogram readDelta(final Histogram reference, final DataInput dataInput)
+      throws IOException {
+    requireNonNull(reference);
+    requireNonNull(dataInput);
+    return AbstractHistogram.deserializeDelta(
+        reference, createDeserializationBuilder(reference.getLayout()), dataInput);
+  }
+
+  static HistogramDeserializationBuilder createDeserializationBuilder(final Layout layout) {
     DynamicHistogram histogram = new DynamicHistogram(layout);
+    return new HistogramDeserializationBuilder() {
+      private boolean isMomentsSet = false;
 
-    HistogramDeserializationBuilder builder =
-        new HistogramDeserializationBuilder() {
-          @Override
-          public void setMinValue(double minValue) {
-            histogram.updateMin(minValue);
-          }
+      @Override
+      public void setMinValue(double minValue) {
+        histogram.updateMin(minValue);
+      }
 
-          @Override
-          public void setMaxValue(double maxValue) {
-            histogram.updateMax(maxValue);
-          }
+      @Override
+      public void setMaxValue(double maxValue) {
+        histogram.updateMax(maxValue);
+      }
 
-          @Override
-          public void allocateRegularCounts(int minBinIndex, int maxBinIndex, int bitsPerCount) {
-            byte mode = determineRequiredMode((1L << bitsPerCount) - 1);
-            histogram.ensureCountArray(minBinIndex, maxBinIndex, mode);
-          }
+      @Override
+      public void allocateRegularCounts(int minBinIndex, int maxBinIndex, int bitsPerCount) {
+        byte mode = determineRequiredMode((1L << bitsPerCount) - 1);
+        histogram.ensureCountArray(minBinIndex, maxBinIndex, mode);
+      }
 
-          @Override
-          public void incrementRegularCount(int binIndex, long increment) {
-            histogram.increaseCount(binIndex, increment); // TODO optimize
-          }
+      @Override
+      public void incrementRegularCount(int binIndex, long increment) {
+        histogram.increaseCount(binIndex, increment); // TODO optimize
+      }
 
-          @Override
-          public void incrementRegularCountSafe(int binIndex) {
-            histogram.increaseCount(binIndex, 1); // TODO optimize
-          }
+      @Override
+      public void incrementRegularCountSafe(int binIndex) {
+        histogram.increaseCount(binIndex, 1); // TODO optimize
+      }
 
-          @Override
-          public void incrementOverflowCount(long increment) {
-            histogram.incrementOverflowCount(increment);
-          }
+      @Override
+      public void incrementOverflowCount(long increment) {
+        histogram.incrementOverflowCount(increment);
+      }
 
-          @Override
-          public void incrementUnderflowCount(long increment) {
-            histogram.incrementUnderflowCount(increment);
-          }
+      @Override
+      public void incrementUnderflowCount(long increment) {
+        histogram.incrementUnderflowCount(increment);
+      }
 
-          @Override
-          public void incrementTotalCount(long increment) {
-            histogram.incrementTotalCount(increment);
-          }
+      @Override
+      public void incrementTotalCount(long increment) {
+        histogram.incrementTotalCount(increment);
+      }
 
-          @Override
-          public Histogram build() {
-            return histogram;
-          }
-        };
+      @Override
+      public void setMoments(double sum, double sumOfSquares) {
+        histogram.setMoments(sum, sumOfSquares);
+        isMomentsSet = true;
+      }
 
-    AbstractHistogram.deserialize(layout, builder, dataInput);
-    builder.build();
-    return histogram;
+      @Override
+      public Histogram build() {
+        if (!isMomentsSet && !histogram.isEmpty()) {
+          histogram.setMoments(Double.NaN, Double.NaN);
+        }
+        return histogram;
+      }
+    };
   }
 }
@@ -16,8 +16,13 @@
 package com.dynatrace.dynahist;
 
 import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinConsumer;
 import com.dynatrace.dynahist.bin.BinIterator;
 import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
 import com.dynatrace.dynahist.quantile.QuantileEstimator;
 import com.dynatrace.dynahist.value.ValueEstimator;
 import java.io.DataInput;
@@ -123,6 +128,48 @@ public interface Histogram {
    */
   double getMax();
 
+  /**
+   * Returns the sum of all added values.
+   *
+   * <p>In contrast to estimates derived from the bins, the sum is tracked exactly using compensated
+   * summation. Returns 0 if the histogram is empty. Returns {@link Double#NaN} if the sum is not
+   * available, which is the case for histograms that were deserialized from a format without this
+   * information, or that were built from histograms without this information or using {@link
+   * #addAscendingSequence(LongToDoubleFunction, long)}.
+   *
+   * @return the sum of all added values
+   */
+  double getSum();
+
+  /**
+   * Returns the sum of the squares of all added values.
+   *
+   * <p>Returns 0 if the histogram is empty. Returns {@link Double#NaN} if the sum of squares is not
+   * available, for the same reasons as given for {@link #getSum()}.
+   *
+   * @return the sum of the squares of all added values
+   */
+  double getSumOfSquares();
+
+  /**
+   * Returns the mean of all added values.
+   *
+   * <p>Returns {@link Double#NaN} if the histogram is empty or if the sum is not available.
+   *
+   * @return the mean of all added values
+   */
+  double getMean();
+
+  /**
+   * Returns the (population) variance of all added values.
+   *
+   * <p>Returns {@link Double#NaN} if the histogram is empty or if the sum or the sum of squares is
+   * not available.
+   *
+   * @return the variance of all added values
+   */
+  double getVariance();
+
   /**
    * Returns the number of values added to histogram bin with given index.
    *
@@ -247,6 +294,186 @@ public interface Histogram {
    */
   double getQuantile(double p, QuantileEstimator quantileEstimator, ValueEstimator valueEstimator);
 
+  /**
+   * Returns estimates for multiple quantile values using the estimated values as given by {@link
+   * #getValue(long)} and the default quantile estimation method.
+   *
+   * <p>The quantiles are evaluated in ascending order of their p-values, which allows answering all
+   * of them with a single pass over the bins. Therefore, this method is more efficient than calling
+   * {@link #getQuantile(double)} for each p-value individually.
+   *
+   * @param ps the p-values in range [0,1]
+   * @return an array with the estimates for the corresponding p-quantiles
+   */
+  double[] getQuantiles(double[] ps);
+
+  /**
+   * Returns estimates for multiple quantile values using the estimated values as given by {@link
+   * #getValue(long)} and the given {@link QuantileEstimator}.
+   *
+   * <p>The quantiles are evaluated in ascending order of their p-values, which allows answering all
+   * of them with a single pass over the bins. Therefore, this method is more efficient than calling
+   * {@link #getQuantile(double)} for each p-value individually.
+   *
+   * @param ps the p-values in range [0,1]
+   * @param quantileEstimator the quantile estimator
+   * @return an array with the estimates for the corresponding p-quantiles
+   */
+  double[] getQuantiles(double[] ps, QuantileEstimator quantileEstimator);
+
+  /**
+   * Returns estimates for multiple quantile values using the estimated values as given by {@link
+   * #getValue(long)} and the default quantile estimation method.
+   *
+   * <p>The quantiles are evaluated in ascending order of their p-values, which allows answering all
+   * of them with a single pass over the bins. Therefore, this method is more efficient than calling
+   * {@link #getQuantile(double)} for each p-value individually.
+   *
+   * @param ps the p-values in range [0,1]
+   * @param valueEstimator the value estimator
+   * @return an array with the estimates for the corresponding p-quantiles
+   */
+  double[] getQuantiles(double[] ps, ValueEstimator valueEstimator);
+
+  /**
+   * Returns estimates for multiple quantile values using the estimated values as given by {@link
+   * #getValue(long)} and the given {@link QuantileEstimator}.
+   *
+   * <p>The quantiles are evaluated in ascending order of their p-values, which allows answering all
+   * of them with a single pass over the bins. Therefore, this method is more efficient than calling
+   * {@link #getQuantile(double)} for each p-value individually.
+   *
+   * @param ps the p-values in range [0,1]
+   * @param quantileEstimator the quantile estimator
+   * @param valueEstimator the value estimator
+   * @return an array with the estimates for the corresponding p-quantiles
+   */
+  double[] getQuantiles(
+      double[] ps, QuantileEstimator quantileEstimator, ValueEstimator valueEstimator);
+
+  /**
+   * Returns an estimate for the (zero-based) rank of the given value by inverting the piecewise
+   * linear interpolation of the value estimates as given by {@link #getValue(long)}.
+   *
+   * <p>If the value is between the estimates for two consecutive ranks r and r + 1, the returned
+   * rank is interpolated between r and r + 1. Values less than or equal to the minimum give 0 and
+   * values greater than or equal to the maximum give {@link #getTotalCount()} - 1. If the
+   * histogram is empty, {@link Double#NaN} is returned.
+   *
+   * <p>The runtime of this method may be O(N) where N is the number of bins. Therefore, if this
+   * function is called many times, it is recommended to transform the histogram using {@link
+   * #getPreprocessedCopy()} into a @link {@link PreprocessedHistogram} first (which is an O(N)
+   * operation), whose implementation has a worst case complexity of O(log N).
+   *
+   * @param value the value
+   * @return an estimate for the rank of the given value
+   * @throws IllegalArgumentException if the value is NaN
+   */
+  double getRank(double value);
+
+  /**
+   * Returns an estimate for the (zero-based) rank of the given value by inverting the piecewise
+   * linear interpolation of the value estimates as given by {@link #getValue(long,
+   * ValueEstimator)}.
+   *
+   * <p>If the value is between the estimates for two consecutive ranks r and r + 1, the returned
+   * rank is interpolated between r and r + 1. Values less than or equal to the minimum give 0 and
+   * values greater than or equal to the maximum give {@link #getTotalCount()} - 1. If the
+   * histogram is empty, {@link Double#NaN} is returned.
+   *
+   * <p>The runtime of this method may be O(N) where N is the number of bins. Therefore, if this
+   * function is called many times, it is recommended to transform the histogram using {@link
+   * #getPreprocessedCopy()} into a @link {@link PreprocessedHistogram} first (which is an O(N)
+   * operation), whose implementation has a worst case complexity of O(log N).
+   *
+   * @param value the value
+   * @param valueEstimator the value estimator
+   * @return an estimate for the rank of the given value
+   * @throws IllegalArgumentException if the value is NaN
+   */
+  double getRank(double value, ValueEstimator valueEstimator);
+
+  /**
+   * Returns the number of recorded values whose estimates as given by {@link #getValue(long)} are
+   * less than the given value.
+   *
+   * <p>This corresponds to the (unnormalized) cumulative distribution function and is consistent
+   * with the value estimates, that is, {@code getValue(r) < value} holds for all ranks {@code r}
+   * less than the returned count. Values are compared as by {@link Double#compare(double,
+   * double)}, hence -0.0 is considered to be less than 0.0.
+   *
+   * <p>The runtime of this method may be O(N) where N is the number of bins. Therefore, if this
+   * function is called many times, it is recommended to transform the histogram using {@link
+   * #getPreprocessedCopy()} into a @link {@link PreprocessedHistogram} first (which is an O(N)
+   * operation), whose implementation has a worst case complexity of O(log N).
+   *
+   * @param value the value
+   * @return the number of values whose estimates are less than the given value
+   * @throws IllegalArgumentException if the value is NaN
+   */
+  long getCountBelow(double value);
+
+  /**
+   * Returns the number of recorded values whose estimates as given by {@link #getValue(long,
+   * ValueEstimator)} are less than the given value.
+   *
+   * <p>This corresponds to the (unnormalized) cumulative distribution function and is consistent
+   * with the value estimates, that is, {@code getValue(r, valueEstimator) < value} holds for all
+   * ranks {@code r} less than the returned count. Values are compared as by {@link
+   * Double#compare(double, double)}, hence -0.0 is considered to be less than 0.0.
+   *
+   * <p>The runtime of this method may be O(N) where N is the number of bins. Therefore, if this
+   * function is called many times, it is recommended to transform the histogram using {@link
+   * #getPreprocessedCopy()} into a @link {@link PreprocessedHistogram} first (which is an O(N)
+   * operation), whose implementation has a worst case complexity of O(log N).
+   *
+   * @param value the value
+   * @param valueEstimator the value estimator
+   * @return the number of values whose estimates are less than the given value
+   * @throws IllegalArgumentException if the value is NaN
+   */
+  long getCountBelow(double value, ValueEstimator valueEstimator);
+
+  /**
+   * Returns the number of recorded values whose estimates as given by {@link #getValue(long)} are
+   * in the interval [lowerValue, upperValue).
+   *
+   * <p>The result is equal to the difference of {@link #getCountBelow(double)} evaluated for both
+   * interval boundaries.
+   *
+   * <p>The runtime of this method may be O(N) where N is the number of bins. Therefore, if this
+   * function is called many times, it is recommended to transform the histogram using {@link
+   * #getPreprocessedCopy()} into a @link {@link PreprocessedHistogram} first (which is an O(N)
+   * operation), whose implementation has a worst case complexity of O(log N).
+   *
+   * @param lowerValue the lower bound of the interval (inclusive)
+   * @param upperValue the upper bound of the interval (exclusive)
+   * @return the number of values whose estimates are in the given interval
+   * @throws IllegalArgumentException if one of the values is NaN or lowerValue &gt; upperValue
+   */
+  long getCountBetween(double lowerValue, double upperValue);
+
+  /**
+   * Returns the number of recorded values whose estimates as given by {@link #getValue(long,
+   * ValueEstimator)} are in the interval [lowerValue, upperValue).
+   *
+   * <p>The result is equal to the difference of {@link #getCountBelow(double, ValueEstimator)}
+   * evaluated for both interval boundaries.
+   *
+   * <p>The runtime of this method may be O(N) where N is the number of bins. Therefore, if this
+   * function is called many times, it is recommended to transform the histogram using {@link
+   * #getPreprocessedCopy()} into a @link {@link PreprocessedHistogram} first (which is an O(N)
+   * operation), whose implementation has a worst case complexity of O(log N).
+   *
+   * @param lowerValue the lower bound of the interval (inclusive)
+   * @param upperValue the upper bound of the interval (exclusive)
+   * @param valueEstimator the value estimator
+   * @return the number of values whose estimates are in the given interval
+   * @throws IllegalArgumentException if one of the values is NaN or lowerValue &gt; upperValue
+   */
+  long getCountBetween(
+      double lowerValue, double upperValue, ValueEstimator valueEstimator);
+
   /**
    * Returns an estimate for the quantile value using the estimated values as given by {@link
    * #getValue(long)} using the default quantile estimator.
@@ -289,6 +516,44 @@ public interface Histogram {
    */
   Histogram addValue(double value, long count);
 
+  /**
+   * Adds a given {@code long} value to the histogram.
+   *
+   * <p>This is equivalent to {@code addValue((double) value)}. As the {@code double}
+   * representation is needed anyway for updating the minimum, the maximum, and the moments, the
+   * value is converted only once and mapped using {@link Layout#mapToBinIndex(double)}, which was
+   * measured to be faster than additionally using {@link Layout#mapLongToBinIndex(long)}.
+   *
+   * <p>Throws an {@link UnsupportedOperationException}, if the implementation is not mutable and
+   * {@link #isMutable()} returns {@code false}.
+   *
+   * @param value the value to be added to the histogram
+   * @return a reference to this
+   * @throws ArithmeticException if the total count of the histogram would overflow
+   * @throws UnsupportedOperationException if modifications are not supported
+   */
+  default Histogram addLongValue(long value) {
+    return addValue((double) value);
+  }
+
+  /**
+   * Adds the time elapsed since a given start time, as obtained from {@link System#nanoTime()}, to
+   * the histogram.
+   *
+   * <p>This is equivalent to {@code addLongValue(System.nanoTime() - startNanos)}.
+   *
+   * <p>Throws an {@link UnsupportedOperationException}, if the implementation is not mutable and
+   * {@link #isMutable()} returns {@code false}.
+   *
+   * @param startNanos the start time in nanoseconds as obtained from {@link System#nanoTime()}
+   * @return a reference to this
+   * @throws ArithmeticException if the total count of the histogram would overflow
+   * @throws UnsupportedOperationException if modifications are not supported
+   */
+  default Histogram recordElapsed(long startNanos) {
+    return addLongValue(System.nanoTime() - startNanos);
+  }
+
   /**
    * Adds a given histogram to the histogram.
    *
@@ -324,6 +589,30 @@ public interface Histogram {
    */
   Histogram addHistogram(Histogram histogram, ValueEstimator valueEstimator);
 
+  /**
+   * Subtracts a given histogram with the same layout from the histogram.
+   *
+   * <p>This operation requires a single pass over the non-empty bins of the given histogram and is
+   * typically used to obtain the delta between two snapshots of a cumulative histogram. The counts
+   * are validated before any modification, so the histogram remains unchanged if an exception is
+   * thrown. The sum and the sum of squares are decremented by those of the given histogram.
+   *
+   * <p>If the histogram gets empty, minimum and maximum are reset. Otherwise, the new minimum is
+   * the previous minimum or the lower bound of the first non-empty bin, whichever is greater, and
+   * the new maximum is the previous maximum or the upper bound of the last non-empty bin, whichever
+   * is smaller.
+   *
+   * <p>Throws an {@link UnsupportedOperationException}, if the implementation is not mutable and
+   * {@link #isMutable()} returns {@code false}.
+   *
+   * @param histogram the histogram to be subtracted
+   * @return a reference to this
+   * @throws IllegalArgumentException if the layouts are different or if the count of any bin would
+   *     become negative
+   * @throws UnsupportedOperationException if modifications are not supported
+   */
+  Histogram subtractHistogram(Histogram histogram);
+
   /**
    * Adds an ascending sequence to the histogram.
    *
@@ -347,6 +636,31 @@ public interface Histogram {
    */
   Histogram addAscendingSequence(LongToDoubleFunction ascendingSequence, long length);
 
+  /**
+   * Adds the values of a sorted array range to the histogram.
+   *
+   * <p>The values in the range from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+   * must be sorted in ascending order, for example, using {@link java.util.Arrays#sort(double[],
+   * int, int)}. The behavior is undefined otherwise.
+   *
+   * <p>By relying on the ordering, histogram implementations can determine the runs of values
+   * falling into the same bin using galloping search and increment each bin count only once. In
+   * contrast to {@link #addAscendingSequence(LongToDoubleFunction, long)}, the sum and the sum of
+   * squares remain available, as all values are known.
+   *
+   * <p>Throws an {@link UnsupportedOperationException}, if the implementation is not mutable and
+   * {@link #isMutable()} returns {@code false}.
+   *
+   * @param sortedValues an array containing values sorted in ascending order within the given range
+   * @param fromIndex the index of the first value to be added, inclusive
+   * @param toIndex the index of the last value to be added, exclusive
+   * @return a reference to this
+   * @throws IllegalArgumentException if the range is invalid or contains {@link Double#NaN} values
+   * @throws ArithmeticException if the total count of the histogram would overflow
+   * @throws UnsupportedOperationException if modifications are not supported
+   */
+  Histogram addSortedValues(double[] sortedValues, int fromIndex, int toIndex);
+
   /**
    * Writes this histogram to a given {@link DataOutput}.
    *
@@ -359,6 +673,22 @@ public interface Histogram {
    */
   void write(DataOutput dataOutput) throws IOException;
 
+  /**
+   * Writes the difference between this histogram and a given reference histogram to a given {@link
+   * DataOutput}.
+   *
+   * <p>Only the differences of the bin counts and the changes of the minimum and the maximum
+   * relative to the reference histogram are written. Therefore, the same reference histogram must
+   * be provided when reading using {@link #readDeltaAsDynamic(Histogram, DataInput)}, {@link
+   * #readDeltaAsStatic(Histogram, DataInput)} or {@link #readDeltaAsPreprocessed(Histogram,
+   * DataInput)}. The reference histogram must have the same layout as this histogram.
+   *
+   * @param reference the reference histogram
+   * @param dataOutput the {@link DataOutput}
+   * @throws IOException if an I/O error occurs
+   */
+  void writeDelta(Histogram reference, DataOutput dataOutput) throws IOException;
+
   /**
    * Provide an estimate of the histogram's total footprint in bytes
    *
@@ -397,6 +727,54 @@ public interface Histogram {
     return new StaticHistogram(layout);
   }
 
+  /**
+   * Creates an empty {@link Histogram} using an {@link OpenTelemetryExponentialBucketsLayout} that
+   * automatically reduces its scale, whenever the bins populated by positive or negative values
+   * would span more than the given number of bins.
+   *
+   * <p>Decreasing the scale by one merges pairs of adjacent bins, which corresponds to the behavior
+   * of exponential histograms in OpenTelemetry SDKs. The current scale is given by the layout
+   * returned by {@link #getLayout()}. The scale is not reduced below 0.
+   *
+   * @param initialScale the initial scale
+   * @param maxNumBins the maximum number of bins for positive and negative values, respectively
+   * @return an empty {@link Histogram}
+   */
+  static Histogram createScaleAdaptive(int initialScale, int maxNumBins) {
+    return new ScaleAdaptiveHistogram(initialScale, maxNumBins);
+  }
+
+  /**
+   * Creates an empty {@link Histogram} whose {@link #getEstimatedFootprintInBytes() estimated
+   * footprint} is bounded by the given number of bytes.
+   *
+   * <p>Whenever an add operation makes the footprint exceed the given limit, the histogram switches
+   * to a coarser layout of the same family until the limit is satisfied. The limit may be exceeded,
+   * if the layout cannot be coarsened any further. The current layout, and therefore the current
+   * effective precision, is returned by {@link #getLayout()}.
+   *
+   * <p>For an {@link OpenTelemetryExponentialBucketsLayout} the scale is decreased by one, which
+   * merges pairs of adjacent bins without loss of information. The error limits are given by the
+   * current layout.
+   *
+   * <p>For a {@link LogLinearLayout}, {@link LogQuadraticLayout}, or {@link LogOptimalLayout} the
+   * absolute and relative bin width limits are doubled, while the value range is retained. As the
+   * bins of the coarser layout are not aligned with the previous bins, the counts are transferred
+   * using the default value estimator, which moves recorded values within the bins of the previous
+   * layout. As the bin width limits of all previous layouts sum up to less than the current ones,
+   * the error of value estimates is bounded by twice the current bin width limits.
+   *
+   * @param layout the initial {@link Layout}, must be an {@link
+   *     OpenTelemetryExponentialBucketsLayout}, a {@link LogLinearLayout}, a {@link
+   *     LogQuadraticLayout}, or a {@link LogOptimalLayout}
+   * @param maxFootprintInBytes the maximum footprint in bytes, must not be smaller than the
+   *     footprint of the empty histogram
+   * @return an empty {@link Histogram}
+   */
+  static Histogram createMemoryBounded(Layout layout, long maxFootprintInBytes) {
+    return new MemoryBoundedHistogram(layout, maxFootprintInBytes);
+  }
+
   /**
    * Reads a histogram from a given {@link DataInput}.
    *
@@ -442,6 +820,59 @@ public interface Histogram {
     return PreprocessedHistogram.read(layout, dataInput);
   }
 
+  /**
+   * Reads a histogram from a given {@link DataInput} that was written using {@link
+   * #writeDelta(Histogram, DataOutput)}.
+   *
+   * <p>The returned histogram will allocate internal arrays for bin counts dynamically. The
+   * behavior is undefined if the given reference histogram does not match the reference histogram
+   * used for serialization.
+   *
+   * @param reference the reference histogram
+   * @param dataInput the {@link DataInput}
+   * @return the deserialized histogram
+   * @throws IOException if an I/O error occurs
+   */
+  static Histogram readDeltaAsDynamic(Histogram reference, DataInput dataInput)
+      throws IOException {
+    return DynamicHistogram.readDelta(reference, dataInput);
+  }
+
+  /**
+   * Reads a histogram from a given {@link DataInput} that was written using {@link
+   * #writeDelta(Histogram, DataOutput)}.
+   *
+   * <p>The returned histogram will allocate internal arrays for bin counts statically. The behavior
+   * is undefined if the given reference histogram does not match the reference histogram used for
+   * serialization.
+   *
+   * @param reference the reference histogram
+   * @param dataInput the {@link DataInput}
+   * @return the deserialized histogram
+   * @throws IOException if an I/O error occurs
+   */
+  static Histogram readDeltaAsStatic(Histogram reference, DataInput dataInput) throws IOException {
+    return StaticHistogram.readDelta(reference, dataInput);
+  }
+
+  /**
+   * Reads a histogram from a given {@link DataInput} that was written using {@link
+   * #writeDelta(Histogram, DataOutput)}.
+   *
+   * <p>The returned histogram will be immutable and preprocessed in order to support fast queries.
+   * The behavior is undefined if the given reference histogram does not match the reference
+   * histogram used for serialization.
+   *
+   * @param reference the reference histogram
+   * @param dataInput the {@link DataInput}
+   * @return the deserialized histogram
+   * @throws IOException if an I/O error occurs
+   */
+  static Histogram readDeltaAsPreprocessed(Histogram reference, DataInput dataInput)
+      throws IOException {
+    return PreprocessedHistogram.readDelta(reference, dataInput);
+  }
+
   /**
    * Returns an {@link Iterable} over all non-empty bins in ascending order.
    *
@@ -455,4 +886,15 @@ public interface Histogram {
    * @return the iterable
    */
   Iterable<Bin> nonEmptyBinsDescending();
+
+  /**
+   * Passes all non-empty bins in ascending order to the given {@link BinConsumer}.
+   *
+   * <p>In contrast to {@link #nonEmptyBinsAscending()}, no objects are allocated, which makes this
+   * method the preferred choice for exporting many histograms. The underflow and overflow bins are
+   * included, if they are non-empty.
+   *
+   * @param binConsumer the bin consumer
+   */
+  void forEachNonEmptyBin(BinConsumer binConsumer);
 }
@@ -37,6 +37,10 @@ interface HistogramDeserializationBuilder {
 
   void incrementTotalCount(long increment);
 
+  // if this method is not called, the sum and the sum of squares of a non-empty histogram will not
+  // be available
+  void setMoments(double sum, double sumOfSquares);
+
   // if this method is called without calling any other method before, an empty histogram will be
   // created
   Histogram build();
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.layout.Layout;
+import java.util.TreeMap;
+
+/**
+ * A store of histograms at multiple time resolutions, for example seconds, minutes, and hours.
+ *
+ * <p>Histograms added to the store are merged into the buckets of all levels. Each level has a
+ * resolution, which is a multiple of the resolution of the previous level, and a retention period,
+ * after which its buckets are evicted. Hence, recent data is available in fine resolution, while
+ * older data is only kept in coarse resolution. All histograms must have the same layout, which
+ * makes merging lossless.
+ *
+ * <p>Range queries combine as few buckets as possible by always using the coarsest bucket that is
+ * aligned with and contained in the remaining range. If the data at the boundaries of the range
+ * is only retained in coarser resolution, the enclosing buckets are used, and the result may
+ * include values recorded outside of the requested range.
+ *
+ * <p>Timestamps, resolutions, and retention periods can be given in any unit, as long as it is
+ * the same for all of them. This class is not thread-safe.
+ */
+public final class HistogramRollupStore {
+
+  private static final class Level {
+    private final long resolution;
+    private final long retentionPeriod;
+    private final TreeMap<Long, Histogram> buckets = new TreeMap<>();
+
+    private Level(final long resolution, final long retentionPeriod) {
+      this.resolution = resolution;
+      this.retentionPeriod = retentionPeriod;
+    }
+
+    private long getBucketStart(final long timestamp) {
+      return Math.floorDiv(timestamp, resolution) * resolution;
+    }
+  }
+
+  private final Layout layout;
+  private final Level[] levels;
+
+  private long latestTimestamp = Long.MIN_VALUE;
+
+  private HistogramRollupStore(final Layout layout, final Level[] levels) {
+    this.layout = layout;
+    this.levels = levels;
+  }
+
+  /**
+   * Creates an empty store.
+   *
+   * <p>The resolutions must be increasing and each resolution must be a multiple of the previous
+   * one. The retention period of each level must not be smaller than its resolution.
+   *
+   * @param layout the layout of all histograms
+   * @param resolutions the bucket lengths of the levels from fine to coarse
+   * @param retentionPeriods the retention periods of the levels
+   * @return an empty store
+   */
+  public static HistogramRollupStore create(
+      final Layout layout, final long[] resolutions, final long[] retentionPeriods) {
+    requireNonNull(layout);
+    requireNonNull(resolutions);
+    requireNonNull(retentionPeriods);
+    checkArgument(resolutions.length > 0);
+    checkArgument(resolutions.length == retentionPeriods.length);
+    final Level[] levels = new Level[resolutions.length];
+    for (int i = 0; i < resolutions.length; ++i) {
+      checkArgument(resolutions[i] > 0);
+      checkArgument(retentionPeriods[i] >= resolutions[i]);
+      if (i > 0) {
+        checkArgument(resolutions[i] > resolutions[i - 1]);
+        checkArgument(resolutions[i] % resolutions[i - 1] == 0);
+      }
+      levels[i] = new Level(resolutions[i], retentionPeriods[i]);
+    }
+    return new HistogramRollupStore(layout, levels);
+  }
+
+  /**
+   * Returns the layout of all histograms in this store.
+   *
+   * @return the layout
+   */
+  public Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * Adds a histogram recorded at the given time.
+   *
+   * <p>The histogram is merged into the buckets containing the given timestamp on all levels which
+   * still retain these buckets. Buckets which are expired with respect to the latest timestamp
+   * added so far are evicted.
+   *
+   * @param timestamp the time of recording
+   * @param histogram the histogram
+   * @throws IllegalArgumentException if the histogram has a different layout
+   */
+  public void add(final long timestamp, final Histogram histogram) {
+    requireNonNull(histogram);
+    checkArgument(layout.equals(histogram.getLayout()));
+    if (timestamp > latestTimestamp) {
+      latestTimestamp = timestamp;
+      evictExpiredBuckets();
+    }
+    if (histogram.isEmpty()) {
+      return;
+    }
+    for (final Level level : levels) {
+      final long bucketStart = level.getBucketStart(timestamp);
+      if (isRetained(level, bucketStart)) {
+        level
+            .buckets
+            .computeIfAbsent(bucketStart, k -> Histogram.createDynamic(layout))
+            .addHistogram(histogram);
+      }
+    }
+  }
+
+  private boolean isRetained(final Level level, final long bucketStart) {
+    // the bucket is retained as long as it starts within the retention period before the latest
+    // timestamp
+    return latestTimestamp == Long.MIN_VALUE
+        || bucketStart > latestTimestamp - level.retentionPeriod;
+  }
+
+  private void evictExpiredBuckets() {
+    for (final Level level : levels) {
+      while (!level.buckets.isEmpty() && !isRetained(level, level.buckets.firstKey())) {
+        level.buckets.pollFirstEntry();
+      }
+    }
+  }
+
+  /**
+   * Returns a new histogram containing all values recorded within the given time range.
+   *
+   * @param fromTimestamp the start of the time range (inclusive)
+   * @param toTimestamp the end of the time range (exclusive)
+   * @return a new histogram
+   */
+  public Histogram query(final long fromTimestamp, final long toTimestamp) {
+    checkArgument(fromTimestamp <= toTimestamp);
+    final Histogram result = Histogram.createDynamic(layout);
+    long timestamp = fromTimestamp;
+    while (timestamp < toTimestamp) {
+      Level selectedLevel = null;
+      // use the coarsest retained bucket that is aligned with and contained in the remaining range
+      for (int i = levels.length - 1; i >= 0; --i) {
+        final Level level = levels[i];
+        final long bucketStart = level.getBucketStart(timestamp);
+        if (bucketStart == timestamp
+            && toTimestamp - timestamp >= level.resolution
+            && isRetained(level, bucketStart)) {
+          selectedLevel = level;
+          break;
+        }
+      }
+      // otherwise, use the finest retained bucket containing the current timestamp
+      if (selectedLevel == null) {
+        for (final Level level : levels) {
+          if (isRetained(level, level.getBucketStart(timestamp))) {
+            selectedLevel = level;
+            break;
+          }
+        }
+      }
+      if (selectedLevel == null) {
+        // no data retained, continue with the first bucket of the coarsest level that is retained
+        final Level coarsestLevel = levels[levels.length - 1];
+        final long nextBucketStart =
+            coarsestLevel.getBucketStart(timestamp) + coarsestLevel.resolution;
+        if (nextBucketStart <= timestamp) {
+          break; // overflow
+        }
+        timestamp = nextBucketStart;
+        continue;
+      }
+      final long bucketStart = selectedLevel.getBucketStart(timestamp);
+      final Histogram bucket = selectedLevel.buckets.get(bucketStart);
+      if (bucket != null) {
+        result.addHistogram(bucket);
+      }
+      final long nextTimestamp = bucketStart + selectedLevel.resolution;
+      if (nextTimestamp <= timestamp) {
+        break; // overflow
+      }
+      timestamp = nextTimestamp;
+    }
+    return result;
+  }
+
+  int getNumBuckets(final int levelIndex) {
+    return levels[levelIndex].buckets.size();
+  }
+
+  /**
+   * Returns an estimate of the footprint of this store in bytes.
+   *
+   * @return an estimate of the footprint in bytes
+   */
+  public long getEstimatedFootprintInBytes() {
+    long footprint =
+        AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+            + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // layout
+            + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // levels
+            + Long.BYTES; // latestTimestamp
+    for (final Level level : levels) {
+      for (final Histogram bucket : level.buckets.values()) {
+        footprint += bucket.getEstimatedFootprintInBytes();
+      }
+    }
+    return footprint;
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Algorithms.findFirst;
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinIterator;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
+import com.dynatrace.dynahist.value.ValueEstimator;
+
+/** Utility methods for {@link Histogram}s. */
+public final class Histograms {
+
+  private Histograms() {}
+
+  /**
+   * Returns a new histogram with a smaller scale that contains all values of the given histogram,
+   * which must use an {@link OpenTelemetryExponentialBucketsLayout}.
+   *
+   * <p>Decreasing the scale merges adjacent bins. Therefore, the counts are transferred bin by bin
+   * without any loss of information beyond the reduced resolution and without mapping individual
+   * values. Minimum, maximum, sum, and sum of squares are retained. The time complexity is
+   * proportional to the number of non-empty bins.
+   *
+   * <p>This allows merging histograms of different scales after downscaling them to the same
+   * scale.
+   *
+   * @param histogram the histogram
+   * @param newScale the new scale, must not be greater than the scale of the given histogram
+   * @return a new dynamic histogram with the given scale
+   */
+  public static Histogram downscale(Histogram histogram, int newScale) {
+    requireNonNull(histogram);
+    checkArgument(histogram.getLayout() instanceof OpenTelemetryExponentialBucketsLayout);
+    final OpenTelemetryExponentialBucketsLayout layout =
+        (OpenTelemetryExponentialBucketsLayout) histogram.getLayout();
+    checkArgument(newScale >= 0);
+    checkArgument(newScale <= layout.getScale());
+
+    final HistogramDeserializationBuilder builder =
+        DynamicHistogram.createDeserializationBuilder(
+            OpenTelemetryExponentialBucketsLayout.create(newScale));
+    if (!histogram.isEmpty()) {
+      builder.setMinValue(histogram.getMin());
+      builder.setMaxValue(histogram.getMax());
+      builder.incrementTotalCount(histogram.getTotalCount());
+      final BinIterator firstBin = histogram.getFirstNonEmptyBin();
+      if (firstBin.isUnderflowBin() && !firstBin.isLastNonEmptyBin()) {
+        firstBin.next();
+      }
+      final BinIterator lastBin = histogram.getLastNonEmptyBin();
+      if (lastBin.isOverflowBin() && !lastBin.isFirstNonEmptyBin()) {
+        lastBin.previous();
+      }
+      if (!firstBin.isUnderflowBin()
+          && !firstBin.isOverflowBin()
+          && !lastBin.isUnderflowBin()
+          && !lastBin.isOverflowBin()) {
+        builder.allocateRegularCounts(
+            layout.getDownscaledBinIndex(firstBin.getBinIndex(), newScale),
+            layout.getDownscaledBinIndex(lastBin.getBinIndex(), newScale),
+            1);
+      }
+      // underflow and overflow bins are mapped to underflow and overflow bins, respectively
+      histogram.forEachNonEmptyBin(
+          (binIndex, count, lessCount) ->
+              builder.incrementRegularCount(
+                  layout.getDownscaledBinIndex(binIndex, newScale), count));
+      builder.setMoments(histogram.getSum(), histogram.getSumOfSquares());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a new histogram with the given layout that contains the values of the given histogram
+   * as estimated by the given {@link ValueEstimator}.
+   *
+   * <p>The result is the same as adding the given histogram to an empty dynamic histogram with the
+   * given layout using {@link Histogram#addHistogram(Histogram, ValueEstimator)}. However, the
+   * counts are transferred bin by bin. As estimated values always lie within the bin they belong
+   * to, the count of a bin that is entirely covered by a single bin of the new layout is
+   * transferred at once. Only the counts of bins overlapping multiple bins of the new layout are
+   * split according to the estimated values, which requires a search over the ranks of the bin.
+   * Therefore, the time complexity is proportional to the number of non-empty bins plus the number
+   * of overlapped bin boundaries of the new layout times the logarithm of the bin count, and does
+   * not depend on the total count otherwise. Minimum, maximum, sum, and sum of squares are
+   * retained.
+   *
+   * @param histogram the histogram
+   * @param layout the layout of the new histogram
+   * @param valueEstimator the value estimator
+   * @return a new dynamic histogram with the given layout
+   */
+  public static Histogram convert(
+      Histogram histogram, Layout layout, ValueEstimator valueEstimator) {
+    requireNonNull(histogram);
+    requireNonNull(layout);
+    requireNonNull(valueEstimator);
+
+    final HistogramDeserializationBuilder builder = createConversionBuilder(histogram, layout);
+    if (!histogram.isEmpty()) {
+      final BinIterator binIterator = histogram.getFirstNonEmptyBin();
+      while (true) {
+        transferBinCount(builder, layout, valueEstimator, histogram, binIterator);
+        if (binIterator.isLastNonEmptyBin()) {
+          break;
+        }
+        binIterator.next();
+      }
+      builder.setMoments(histogram.getSum(), histogram.getSumOfSquares());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a builder for a dynamic histogram with the given layout, which already contains the
+   * total count, the minimum, and the maximum of the given histogram. The bin counts and the
+   * moments still have to be set.
+   */
+  static HistogramDeserializationBuilder createConversionBuilder(
+      Histogram histogram, Layout layout) {
+    final HistogramDeserializationBuilder builder =
+        DynamicHistogram.createDeserializationBuilder(layout);
+    if (!histogram.isEmpty()) {
+      builder.setMinValue(histogram.getMin());
+      builder.setMaxValue(histogram.getMax());
+      builder.incrementTotalCount(histogram.getTotalCount());
+      final int minRegularBinIndex =
+          Math.max(mapToBinIndex(layout, histogram.getMin()), layout.getUnderflowBinIndex() + 1);
+      final int maxRegularBinIndex =
+          Math.min(mapToBinIndex(layout, histogram.getMax()), layout.getOverflowBinIndex() - 1);
+      if (minRegularBinIndex <= maxRegularBinIndex) {
+        builder.allocateRegularCounts(minRegularBinIndex, maxRegularBinIndex, 1);
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Transfers the count of the given non-empty bin of the given histogram to the bins of the given
+   * layout as estimated by the given {@link ValueEstimator}.
+   */
+  static void transferBinCount(
+      HistogramDeserializationBuilder builder,
+      Layout layout,
+      ValueEstimator valueEstimator,
+      Histogram histogram,
+      Bin bin) {
+    final int firstBinIndex = mapToBinIndex(layout, bin.getLowerBound());
+    final int lastBinIndex = mapToBinIndex(layout, bin.getUpperBound());
+    if (firstBinIndex == lastBinIndex) {
+      builder.incrementRegularCount(firstBinIndex, bin.getBinCount());
+      return;
+    }
+    // the values of the bin are spread over multiple bins of the given layout
+    final long endRank = bin.getLessCount() + bin.getBinCount();
+    long rank = bin.getLessCount();
+    while (rank != endRank) {
+      final int binIndex = mapEstimateToBinIndex(layout, valueEstimator, histogram, bin, rank);
+      final long nextRank =
+          (binIndex == lastBinIndex)
+              ? endRank
+              : findFirst(
+                  r ->
+                      r == endRank
+                          || mapEstimateToBinIndex(layout, valueEstimator, histogram, bin, r)
+                              > binIndex,
+                  rank + 1,
+                  endRank);
+      builder.incrementRegularCount(binIndex, nextRank - rank);
+      rank = nextRank;
+    }
+  }
+
+  private static int mapEstimateToBinIndex(
+      Layout layout, ValueEstimator valueEstimator, Histogram histogram, Bin bin, long rank) {
+    return mapToBinIndex(layout, valueEstimator.getValueEstimate(histogram, bin, rank));
+  }
+
+  /**
+   * Maps the given value to a bin index of the given layout, where all underflow and overflow bin
+   * indices are represented by {@link Layout#getUnderflowBinIndex()} and {@link
+   * Layout#getOverflowBinIndex()}, respectively.
+   */
+  static int mapToBinIndex(Layout layout, double value) {
+    return Math.max(
+        layout.getUnderflowBinIndex(),
+        Math.min(layout.getOverflowBinIndex(), layout.mapToBinIndex(value)));
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.bin.BinIterator;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Converts histograms from a source layout to a target layout using precomputed conversion plans.
+ *
+ * <p>For each regular bin of the source layout, the conversion plan contains the first overlapped
+ * bin of the target layout and the fractions of the source bin that lie below the upper bounds of
+ * the overlapped target bins. The count of a source bin is distributed proportionally to these
+ * fractions, which corresponds to the uniform distribution of values within a bin as assumed by
+ * {@link ValueEstimator#UNIFORM}. The first and the last non-empty bins are limited by the minimum
+ * and the maximum of the histogram and are therefore converted as by {@link
+ * Histograms#convert(Histogram, Layout, ValueEstimator)} using {@link ValueEstimator#UNIFORM}.
+ *
+ * <p>Conversion plans are computed lazily for blocks of source bins and are reused by all
+ * conversions of the same layout pair. Hence, repeated conversions only require a single linear
+ * pass over the non-empty bins without any boundary searches. As the plans are owned by the
+ * converter, callers should keep the converter for as long as they convert histograms between the
+ * same layouts. Converters are not cached globally, so that neither the layouts nor the plans are
+ * kept alive beyond their use.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class LayoutConverter {
+
+  private static final int PLAN_BLOCK_SIZE_LOG2 = 8;
+  private static final int PLAN_BLOCK_SIZE = 1 << PLAN_BLOCK_SIZE_LOG2;
+
+  /** Source layouts with more regular bins do not cache their conversion plans. */
+  static final int PLAN_CACHE_MAX_SIZE = 1 << 20;
+
+  private final Layout sourceLayout;
+  private final Layout targetLayout;
+
+  /**
+   * Lazily filled cache of the conversion plans for blocks of regular source bins, starting with
+   * the bin index following the underflow bin index, or {@code null} if disabled. Concurrent
+   * updates are benign, since all threads compute the same plans.
+   */
+  private final AtomicReferenceArray<Plan> planCache;
+
+  private static final class Plan {
+    private final int[] firstTargetBinIndices;
+    private final int[] fractionOffsets;
+    private final double[] fractions;
+
+    private Plan(int[] firstTargetBinIndices, int[] fractionOffsets, double[] fractions) {
+      this.firstTargetBinIndices = firstTargetBinIndices;
+      this.fractionOffsets = fractionOffsets;
+      this.fractions = fractions;
+    }
+
+    private void transferCount(
+        final HistogramDeserializationBuilder builder, final int index, final long count) {
+      int targetBinIndex = firstTargetBinIndices[index];
+      long transferredCount = 0;
+      for (int k = fractionOffsets[index]; k < fractionOffsets[index + 1]; ++k) {
+        final long cumulativeCount = Math.min(count, Math.round(fractions[k] * count));
+        if (cumulativeCount > transferredCount) {
+          builder.incrementRegularCount(targetBinIndex, cumulativeCount - transferredCount);
+          transferredCount = cumulativeCount;
+        }
+        targetBinIndex += 1;
+      }
+      if (count > transferredCount) {
+        builder.incrementRegularCount(targetBinIndex, count - transferredCount);
+      }
+    }
+  }
+
+  private LayoutConverter(final Layout sourceLayout, final Layout targetLayout) {
+    this.sourceLayout = sourceLayout;
+    this.targetLayout = targetLayout;
+    final long numRegularBins =
+        (long) sourceLayout.getOverflowBinIndex() - sourceLayout.getUnderflowBinIndex() - 1;
+    if (numRegularBins <= PLAN_CACHE_MAX_SIZE) {
+      this.planCache =
+          new AtomicReferenceArray<>(
+              (int) ((numRegularBins + PLAN_BLOCK_SIZE - 1) >>> PLAN_BLOCK_SIZE_LOG2));
+    } else {
+      this.planCache = null;
+    }
+  }
+
+  /**
+   * Creates a converter from the given source layout to the given target layout.
+   *
+   * <p>Conversion plans are computed on demand and are only reused by conversions performed with
+   * the returned instance.
+   *
+   * @param sourceLayout the layout of the histograms to be converted
+   * @param targetLayout the layout of the converted histograms
+   * @return a converter
+   */
+  public static LayoutConverter create(final Layout sourceLayout, final Layout targetLayout) {
+    requireNonNull(sourceLayout);
+    requireNonNull(targetLayout);
+    return new LayoutConverter(sourceLayout, targetLayout);
+  }
+
+  /**
+   * Returns the layout of the histograms to be converted.
+   *
+   * @return the source layout
+   */
+  public Layout getSourceLayout() {
+    return sourceLayout;
+  }
+
+  /**
+   * Returns the layout of the converted histograms.
+   *
+   * @return the target layout
+   */
+  public Layout getTargetLayout() {
+    return targetLayout;
+  }
+
+  /**
+   * Returns a new dynamic histogram with the target layout that contains the values of the given
+   * histogram.
+   *
+   * <p>Minimum, maximum, sum, and sum of squares are retained.
+   *
+   * @param histogram the histogram, must have the source layout
+   * @return a new dynamic histogram with the target layout
+   * @throws IllegalArgumentException if the layout of the given histogram is not the source layout
+   */
+  public Histogram convert(final Histogram histogram) {
+    requireNonNull(histogram);
+    checkArgument(
+        sourceLayout.equals(histogram.getLayout()),
+        AbstractMutableHistogram.INCOMPATIBLE_LAYOUT_MSG);
+
+    final HistogramDeserializationBuilder builder =
+        Histograms.createConversionBuilder(histogram, targetLayout);
+    if (!histogram.isEmpty()) {
+      final BinIterator firstBin = histogram.getFirstNonEmptyBin();
+      Histograms.transferBinCount(
+          builder, targetLayout, ValueEstimator.UNIFORM, histogram, firstBin);
+      if (!firstBin.isLastNonEmptyBin()) {
+        final BinIterator lastBin = histogram.getLastNonEmptyBin();
+        final int firstBinIndex = firstBin.getBinIndex();
+        final int lastBinIndex = lastBin.getBinIndex();
+        histogram.forEachNonEmptyBin(
+            (binIndex, count, lessCount) -> {
+              if (binIndex > firstBinIndex && binIndex < lastBinIndex) {
+                transferCount(builder, binIndex, count);
+              }
+            });
+        Histograms.transferBinCount(
+            builder, targetLayout, ValueEstimator.UNIFORM, histogram, lastBin);
+      }
+      builder.setMoments(histogram.getSum(), histogram.getSumOfSquares());
+    }
+    return builder.build();
+  }
+
+  private void transferCount(
+      final HistogramDeserializationBuilder builder, final int sourceBinIndex, final long count) {
+    if (planCache == null) {
+      computePlan(sourceBinIndex, 1).transferCount(builder, 0, count);
+      return;
+    }
+    final int cacheIndex = sourceBinIndex - sourceLayout.getUnderflowBinIndex() - 1;
+    final int blockIndex = cacheIndex >>> PLAN_BLOCK_SIZE_LOG2;
+    Plan plan = planCache.get(blockIndex);
+    if (plan == null) {
+      final int firstSourceBinIndex =
+          sourceLayout.getUnderflowBinIndex() + 1 + (blockIndex << PLAN_BLOCK_SIZE_LOG2);
+      final int numSourceBins =
+          Math.min(PLAN_BLOCK_SIZE, sourceLayout.getOverflowBinIndex() - firstSourceBinIndex);
+      plan = computePlan(firstSourceBinIndex, numSourceBins);
+      if (!planCache.compareAndSet(blockIndex, null, plan)) {
+        plan = planCache.get(blockIndex);
+      }
+    }
+    plan.transferCount(builder, cacheIndex & (PLAN_BLOCK_SIZE - 1), count);
+  }
+
+  private Plan computePlan(final int firstSourceBinIndex, final int numSourceBins) {
+    final int[] firstTargetBinIndices = new int[numSourceBins];
+    final int[] fractionOffsets = new int[numSourceBins + 1];
+    double[] fractions = new double[numSourceBins];
+    int numFractions = 0;
+    for (int i = 0; i < numSourceBins; ++i) {
+      final double lowerBound = sourceLayout.getBinLowerBound(firstSourceBinIndex + i);
+      final double upperBound = sourceLayout.getBinUpperBound(firstSourceBinIndex + i);
+      final int firstTargetBinIndex = Histograms.mapToBinIndex(targetLayout, lowerBound);
+      final int lastTargetBinIndex = Histograms.mapToBinIndex(targetLayout, upperBound);
+      firstTargetBinIndices[i] = firstTargetBinIndex;
+      fractionOffsets[i] = numFractions;
+      for (int targetBinIndex = firstTargetBinIndex;
+          targetBinIndex < lastTargetBinIndex;
+          ++targetBinIndex) {
+        if (numFractions == fractions.length) {
+          fractions = Arrays.copyOf(fractions, 2 * fractions.length);
+        }
+        final double fraction =
+            (targetLayout.getBinUpperBound(targetBinIndex) - lowerBound)
+                / (upperBound - lowerBound);
+        // also maps NaN, which results from infinite bin widths, to 0
+        fractions[numFractions++] = (fraction > 0.) ? Math.min(fraction, 1.) : 0.;
+      }
+    }
+    fractionOffsets[numSourceBins] = numFractions;
+    return new Plan(firstTargetBinIndices, fractionOffsets, Arrays.copyOf(fractions, numFractions));
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A dynamic histogram that switches to a coarser layout of the same family whenever its estimated
+ * memory footprint exceeds a given limit.
+ *
+ * <p>The limit is enforced after each add operation. It may be exceeded, if the layout cannot be
+ * coarsened any further.
+ */
+final class MemoryBoundedHistogram extends AbstractForwardingHistogram {
+
+  private final long maxFootprintInBytes;
+
+  private Histogram histogram;
+
+  MemoryBoundedHistogram(final Layout layout, final long maxFootprintInBytes) {
+    requireNonNull(layout);
+    checkArgument(
+        layout instanceof OpenTelemetryExponentialBucketsLayout
+            || layout instanceof LogLinearLayout
+            || layout instanceof LogQuadraticLayout
+            || layout instanceof LogOptimalLayout);
+    this.histogram = Histogram.createDynamic(layout);
+    this.maxFootprintInBytes = maxFootprintInBytes;
+    checkArgument(getEstimatedFootprintInBytes() <= maxFootprintInBytes);
+  }
+
+  @Override
+  protected Histogram getDelegate() {
+    return histogram;
+  }
+
+  @Override
+  public Histogram addValue(final double value, final long count) {
+    histogram.addValue(value, count);
+    enforceFootprintLimit();
+    return this;
+  }
+
+  @Override
+  public Histogram addHistogram(final Histogram histogram, final ValueEstimator valueEstimator) {
+    this.histogram.addHistogram(histogram, valueEstimator);
+    enforceFootprintLimit();
+    return this;
+  }
+
+  @Override
+  public Histogram addAscendingSequence(
+      final LongToDoubleFunction ascendingSequence, final long length) {
+    histogram.addAscendingSequence(ascendingSequence, length);
+    enforceFootprintLimit();
+    return this;
+  }
+
+  @Override
+  public Histogram addSortedValues(
+      final double[] sortedValues, final int fromIndex, final int toIndex) {
+    histogram.addSortedValues(sortedValues, fromIndex, toIndex);
+    enforceFootprintLimit();
+    return this;
+  }
+
+  @Override
+  public long getEstimatedFootprintInBytes() {
+    return AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // histogram
+        + Long.BYTES // maxFootprintInBytes
+        + histogram.getEstimatedFootprintInBytes();
+  }
+
+  private void enforceFootprintLimit() {
+    while (getEstimatedFootprintInBytes() > maxFootprintInBytes) {
+      final Layout layout = histogram.getLayout();
+      final Layout coarserLayout = getCoarserLayout(layout);
+      if (coarserLayout == null) {
+        return;
+      }
+      if (layout instanceof OpenTelemetryExponentialBucketsLayout) {
+        histogram =
+            Histograms.downscale(
+                histogram, ((OpenTelemetryExponentialBucketsLayout) coarserLayout).getScale());
+      } else {
+        histogram = Histogram.createDynamic(coarserLayout).addHistogram(histogram);
+      }
+    }
+  }
+
+  /**
+   * Returns a layout of the same family with fewer bins covering the same value range, or {@code
+   * null} if there is no such layout.
+   */
+  static Layout getCoarserLayout(final Layout layout) {
+    if (layout instanceof OpenTelemetryExponentialBucketsLayout) {
+      final int scale = ((OpenTelemetryExponentialBucketsLayout) layout).getScale();
+      return (scale > 0) ? OpenTelemetryExponentialBucketsLayout.create(scale - 1) : null;
+    }
+
+    final double absoluteBinWidthLimit;
+    final double relativeBinWidthLimit;
+    if (layout instanceof LogLinearLayout) {
+      absoluteBinWidthLimit = ((LogLinearLayout) layout).getAbsoluteBinWidthLimit();
+      relativeBinWidthLimit = ((LogLinearLayout) layout).getRelativeBinWidthLimit();
+    } else if (layout instanceof LogQuadraticLayout) {
+      absoluteBinWidthLimit = ((LogQuadraticLayout) layout).getAbsoluteBinWidthLimit();
+      relativeBinWidthLimit = ((LogQuadraticLayout) layout).getRelativeBinWidthLimit();
+    } else {
+      absoluteBinWidthLimit = ((LogOptimalLayout) layout).getAbsoluteBinWidthLimit();
+      relativeBinWidthLimit = ((LogOptimalLayout) layout).getRelativeBinWidthLimit();
+    }
+    if (!(absoluteBinWidthLimit * 2 <= Double.MAX_VALUE)
+        || !(relativeBinWidthLimit * 2 <= Double.MAX_VALUE)) {
+      return null;
+    }
+
+    final double valueRangeLowerBound = layout.getNormalRangeLowerBound();
+    final double valueRangeUpperBound = layout.getNormalRangeUpperBound();
+    final Layout coarserLayout;
+    if (layout instanceof LogLinearLayout) {
+      coarserLayout =
+          LogLinearLayout.create(
+              absoluteBinWidthLimit * 2,
+              relativeBinWidthLimit * 2,
+              valueRangeLowerBound,
+              valueRangeUpperBound);
+    } else if (layout instanceof LogQuadraticLayout) {
+      coarserLayout =
+          LogQuadraticLayout.create(
+              absoluteBinWidthLimit * 2,
+              relativeBinWidthLimit * 2,
+              valueRangeLowerBound,
+              valueRangeUpperBound);
+    } else {
+      coarserLayout =
+          LogOptimalLayout.create(
+              absoluteBinWidthLimit * 2,
+              relativeBinWidthLimit * 2,
+              valueRangeLowerBound,
+              valueRangeUpperBound);
+    }
+    if ((long) coarserLayout.getOverflowBinIndex() - coarserLayout.getUnderflowBinIndex()
+        >= (long) layout.getOverflowBinIndex() - layout.getUnderflowBinIndex()) {
+      return null;
+    }
+    return coarserLayout;
+  }
+}
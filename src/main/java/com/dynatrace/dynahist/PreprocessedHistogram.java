@@ -16,11 +16,14 @@
 package com.dynatrace.dynahist;
 
 import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.dynahist.bin.AbstractBin;
 import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinConsumer;
 import com.dynatrace.dynahist.bin.BinIterator;
 import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.quantile.QuantileEstimator;
 import com.dynatrace.dynahist.value.ValueEstimator;
 import java.io.DataInput;
 import java.io.IOException;
@@ -36,6 +39,8 @@ final class PreprocessedHistogram extends AbstractHistogram {
 
   private final double min;
   private final double max;
+  private final double sum;
+  private final double sumOfSquares;
   private final long[] accumulatedCounts;
   private final int[] nonEmptyBinIndices;
   private final byte mode;
@@ -53,6 +58,8 @@ final class PreprocessedHistogram extends AbstractHistogram {
 
     min = histogram.getMin();
     max = histogram.getMax();
+    sum = histogram.getSum();
+    sumOfSquares = histogram.getSumOfSquares();
 
     if (histogram.isEmpty()) {
       nonEmptyBinIndices = EMPTY_BIN_INDICES;
@@ -119,12 +126,45 @@ final class PreprocessedHistogram extends AbstractHistogram {
     }
   }
 
+  @Override
+  public void forEachNonEmptyBin(BinConsumer binConsumer) {
+    requireNonNull(binConsumer);
+    long lessCount = 0;
+    for (int i = 0; i < nonEmptyBinIndices.length; ++i) {
+      final long accumulatedCount = accumulatedCounts[i];
+      binConsumer.accept(nonEmptyBinIndices[i], accumulatedCount - lessCount, lessCount);
+      lessCount = accumulatedCount;
+    }
+  }
+
   private void checkIfElementExists() {
     if (isEmpty()) {
       throw new NoSuchElementException();
     }
   }
 
+  @Override
+  public double[] getQuantiles(
+      double[] ps, QuantileEstimator quantileEstimator, ValueEstimator valueEstimator) {
+    requireNonNull(ps);
+    requireNonNull(quantileEstimator);
+    requireNonNull(valueEstimator);
+
+    // ranks can be found by binary search, a common pass over the bins is not beneficial
+    final double[] quantiles = new double[ps.length];
+    for (int i = 0; i < ps.length; ++i) {
+      quantiles[i] = getQuantile(ps[i], quantileEstimator, valueEstimator);
+    }
+    return quantiles;
+  }
+
+  @Override
+  protected long getCountBelowBin(int binIndex) {
+    final int i = Arrays.binarySearch(nonEmptyBinIndices, binIndex);
+    final int nonEmptyBinIndex = (i >= 0) ? i : -(i + 1);
+    return (nonEmptyBinIndex > 0) ? accumulatedCounts[nonEmptyBinIndex - 1] : 0L;
+  }
+
   @Override
   public BinIterator getFirstNonEmptyBin() {
     checkIfElementExists();
@@ -152,6 +192,16 @@ final class PreprocessedHistogram extends AbstractHistogram {
     return max;
   }
 
+  @Override
+  public double getSum() {
+    return sum;
+  }
+
+  @Override
+  public double getSumOfSquares() {
+    return sumOfSquares;
+  }
+
   @Override
   public long getCount(int binIndex) {
     int nonEmptyBinIndex = Arrays.binarySearch(nonEmptyBinIndices, binIndex);
@@ -247,14 +297,25 @@ final class PreprocessedHistogram extends AbstractHistogram {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public Histogram subtractHistogram(Histogram histogram) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public Histogram addAscendingSequence(LongToDoubleFunction ascendingSequence, long length) {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public Histogram addSortedValues(double[] sortedValues, int fromIndex, int toIndex) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public long getEstimatedFootprintInBytes() {
     return 2L * Double.BYTES // min, max
+        + 2L * Double.BYTES // sum, sumOfSquares
         + (ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
             + ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES
             + Integer.BYTES
@@ -274,4 +335,9 @@ final class PreprocessedHistogram extends AbstractHistogram {
   public static Histogram read(final Layout layout, final DataInput dataInput) throws IOException {
     return DynamicHistogram.read(layout, dataInput).getPreprocessedCopy(); // TODO optimize
   }
+
+  public static Histogram readDelta(final Histogram reference, final DataInput dataInput)
+      throws IOException {
+    return DynamicHistogram.readDelta(reference, dataInput).getPreprocessedCopy();
+  }
 }
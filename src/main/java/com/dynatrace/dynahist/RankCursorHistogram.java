@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+
+import com.dynatrace.dynahist.bin.BinIterator;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * An immutable view of a histogram whose {@link #getBinByRank(long)} moves a cursor from the bin
+ * found by the previous call instead of starting from the first or last non-empty bin.
+ *
+ * <p>Querying ascending ranks, as done when evaluating multiple quantiles in ascending order,
+ * therefore requires just a single pass over the bins. As the view is passed to user-defined
+ * {@link ValueEstimator} implementations, all read-only operations are supported.
+ */
+final class RankCursorHistogram extends AbstractHistogram {
+
+  private final AbstractHistogram histogram;
+  private BinIterator cursor = null;
+
+  RankCursorHistogram(final AbstractHistogram histogram) {
+    super(histogram.getLayout());
+    this.histogram = histogram;
+  }
+
+  @Override
+  protected byte getMode() {
+    return histogram.getMode();
+  }
+
+  @Override
+  public BinIterator getBinByRank(final long rank) {
+    final long totalCount = getTotalCount();
+
+    checkArgument(rank >= 0L);
+    checkArgument(rank < totalCount);
+
+    if (cursor == null) {
+      cursor = histogram.getBinByRank(rank);
+    } else {
+      while (cursor.getGreaterCount() >= totalCount - rank) {
+        cursor.next();
+      }
+      while (cursor.getLessCount() > rank) {
+        cursor.previous();
+      }
+    }
+    return cursor.copy();
+  }
+
+  @Override
+  public BinIterator getFirstNonEmptyBin() {
+    return histogram.getFirstNonEmptyBin();
+  }
+
+  @Override
+  public BinIterator getLastNonEmptyBin() {
+    return histogram.getLastNonEmptyBin();
+  }
+
+  @Override
+  public long getTotalCount() {
+    return histogram.getTotalCount();
+  }
+
+  @Override
+  public double getMin() {
+    return histogram.getMin();
+  }
+
+  @Override
+  public double getMax() {
+    return histogram.getMax();
+  }
+
+  @Override
+  public double getSum() {
+    return histogram.getSum();
+  }
+
+  @Override
+  public double getSumOfSquares() {
+    return histogram.getSumOfSquares();
+  }
+
+  @Override
+  public long getCount(final int binIndex) {
+    return histogram.getCount(binIndex);
+  }
+
+  @Override
+  public Histogram addValue(final double value, final long count) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Histogram addValue(final double value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Histogram addHistogram(final Histogram histogram, final ValueEstimator valueEstimator) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Histogram subtractHistogram(final Histogram histogram) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Histogram addAscendingSequence(
+      final LongToDoubleFunction ascendingSequence, final long length) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Histogram addSortedValues(
+      final double[] sortedValues, final int fromIndex, final int toIndex) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean isMutable() {
+    return false;
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
+import com.dynatrace.dynahist.util.Algorithms;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A dynamic histogram using an {@link OpenTelemetryExponentialBucketsLayout} that reduces its scale
+ * whenever the regular bins populated by positive or negative values would span more than a given
+ * number of bins, like the exponential histogram aggregation of OpenTelemetry SDKs.
+ *
+ * <p>Reducing the scale by one merges pairs of adjacent bins. The scale is never reduced below 0,
+ * as layouts with negative scales are not supported. Therefore, the maximum number of bins may be
+ * exceeded by values spanning an extremely wide range.
+ */
+final class ScaleAdaptiveHistogram extends AbstractForwardingHistogram {
+
+  private final int maxNumBins;
+
+  private Histogram histogram;
+
+  // ranges of the absolute indices of regular bins populated by positive and negative values,
+  // respectively, a range is empty if its minimum is greater than its maximum
+  private int minPositiveBinIndex = Integer.MAX_VALUE;
+  private int maxPositiveBinIndex = Integer.MIN_VALUE;
+  private int minNegativeBinIndex = Integer.MAX_VALUE;
+  private int maxNegativeBinIndex = Integer.MIN_VALUE;
+
+  ScaleAdaptiveHistogram(final int initialScale, final int maxNumBins) {
+    checkArgument(maxNumBins >= 1);
+    this.histogram =
+        Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(initialScale));
+    this.maxNumBins = maxNumBins;
+  }
+
+  @Override
+  protected Histogram getDelegate() {
+    return histogram;
+  }
+
+  @Override
+  public OpenTelemetryExponentialBucketsLayout getLayout() {
+    return (OpenTelemetryExponentialBucketsLayout) histogram.getLayout();
+  }
+
+  @Override
+  public Histogram addValue(final double value, final long count) {
+    if (count > 0) {
+      final OpenTelemetryExponentialBucketsLayout layout = getLayout();
+      final int binIndex = layout.mapToBinIndex(value);
+      if (binIndex >= minPositiveBinIndex && binIndex <= maxPositiveBinIndex
+          || -binIndex >= minNegativeBinIndex && -binIndex <= maxNegativeBinIndex) {
+        // bin is within the already populated range
+      } else if (binIndex > 0 && binIndex < layout.getOverflowBinIndex()) {
+        ensureCapacity(binIndex, binIndex, Integer.MAX_VALUE, Integer.MIN_VALUE);
+      } else if (binIndex < 0 && binIndex > layout.getUnderflowBinIndex()) {
+        ensureCapacity(Integer.MAX_VALUE, Integer.MIN_VALUE, -binIndex, -binIndex);
+      }
+    }
+    histogram.addValue(value, count);
+    return this;
+  }
+
+  @Override
+  public Histogram addHistogram(Histogram histogram, final ValueEstimator valueEstimator) {
+    requireNonNull(histogram);
+    requireNonNull(valueEstimator);
+    if (histogram.isEmpty()) {
+      return this;
+    }
+    if (histogram.getLayout() instanceof OpenTelemetryExponentialBucketsLayout) {
+      final int scale = ((OpenTelemetryExponentialBucketsLayout) histogram.getLayout()).getScale();
+      if (scale < getLayout().getScale()) {
+        downscale(scale);
+      }
+      ensureCapacity(histogram);
+      if (scale > getLayout().getScale()) {
+        histogram = Histograms.downscale(histogram, getLayout().getScale());
+      }
+    } else {
+      final Histogram preprocessedHistogram = histogram.getPreprocessedCopy();
+      ensureCapacity(
+          rank -> preprocessedHistogram.getValue(rank, valueEstimator),
+          preprocessedHistogram.getTotalCount());
+    }
+    this.histogram.addHistogram(histogram, valueEstimator);
+    return this;
+  }
+
+  @Override
+  public Histogram addAscendingSequence(
+      final LongToDoubleFunction ascendingSequence, final long length) {
+    requireNonNull(ascendingSequence);
+    checkArgument(length >= 0);
+    ensureCapacity(ascendingSequence, length);
+    histogram.addAscendingSequence(ascendingSequence, length);
+    return this;
+  }
+
+  @Override
+  public Histogram addSortedValues(
+      final double[] sortedValues, final int fromIndex, final int toIndex) {
+    requireNonNull(sortedValues);
+    checkArgument(0 <= fromIndex && fromIndex <= toIndex && toIndex <= sortedValues.length);
+    ensureCapacity(i -> sortedValues[fromIndex + (int) i], toIndex - fromIndex);
+    histogram.addSortedValues(sortedValues, fromIndex, toIndex);
+    return this;
+  }
+
+  @Override
+  public long getEstimatedFootprintInBytes() {
+    return AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // histogram
+        + 5L * Integer.BYTES // maxNumBins, bin index ranges
+        + histogram.getEstimatedFootprintInBytes();
+  }
+
+  private static long getNumBins(
+      final OpenTelemetryExponentialBucketsLayout layout,
+      final int scale,
+      final int minBinIndex,
+      final int maxBinIndex) {
+    if (minBinIndex > maxBinIndex) {
+      return 0;
+    }
+    return (long) layout.getDownscaledBinIndex(maxBinIndex, scale)
+        - layout.getDownscaledBinIndex(minBinIndex, scale)
+        + 1;
+  }
+
+  /**
+   * Reduces the scale, if necessary, such that the given ranges of absolute bin indices for
+   * positive and negative values, respectively, can be populated in addition to the already
+   * populated bins without exceeding the maximum number of bins.
+   */
+  private void ensureCapacity(
+      int minPositiveBinIndex,
+      int maxPositiveBinIndex,
+      int minNegativeBinIndex,
+      int maxNegativeBinIndex) {
+    minPositiveBinIndex = Math.min(minPositiveBinIndex, this.minPositiveBinIndex);
+    maxPositiveBinIndex = Math.max(maxPositiveBinIndex, this.maxPositiveBinIndex);
+    minNegativeBinIndex = Math.min(minNegativeBinIndex, this.minNegativeBinIndex);
+    maxNegativeBinIndex = Math.max(maxNegativeBinIndex, this.maxNegativeBinIndex);
+
+    final OpenTelemetryExponentialBucketsLayout layout = getLayout();
+    int newScale = layout.getScale();
+    while (newScale > 0
+        && (getNumBins(layout, newScale, minPositiveBinIndex, maxPositiveBinIndex) > maxNumBins
+            || getNumBins(layout, newScale, minNegativeBinIndex, maxNegativeBinIndex)
+                > maxNumBins)) {
+      newScale -= 1;
+    }
+
+    this.minPositiveBinIndex = minPositiveBinIndex;
+    this.maxPositiveBinIndex = maxPositiveBinIndex;
+    this.minNegativeBinIndex = minNegativeBinIndex;
+    this.maxNegativeBinIndex = maxNegativeBinIndex;
+    if (newScale < layout.getScale()) {
+      downscale(newScale);
+    }
+  }
+
+  /**
+   * Reduces the scale, if necessary, such that the given ascending sequence of values can be added
+   * without exceeding the maximum number of bins.
+   */
+  private void ensureCapacity(final LongToDoubleFunction ascendingSequence, final long length) {
+    if (length == 0) {
+      return;
+    }
+    final OpenTelemetryExponentialBucketsLayout layout = getLayout();
+    final int underflowBinIndex = layout.getUnderflowBinIndex();
+    final int overflowBinIndex = layout.getOverflowBinIndex();
+
+    // the ranks are partitioned into underflow, negative, zero, positive, and overflow bins
+    final long firstNegativeRank =
+        findFirstRank(ascendingSequence, length, 0, layout, underflowBinIndex + 1);
+    final long firstNonNegativeRank =
+        findFirstRank(ascendingSequence, length, firstNegativeRank, layout, 0);
+    final long firstPositiveRank =
+        findFirstRank(ascendingSequence, length, firstNonNegativeRank, layout, 1);
+    final long firstOverflowRank =
+        findFirstRank(ascendingSequence, length, firstPositiveRank, layout, overflowBinIndex);
+
+    int minPositiveBinIndex = Integer.MAX_VALUE;
+    int maxPositiveBinIndex = Integer.MIN_VALUE;
+    int minNegativeBinIndex = Integer.MAX_VALUE;
+    int maxNegativeBinIndex = Integer.MIN_VALUE;
+    if (firstNegativeRank < firstNonNegativeRank) {
+      minNegativeBinIndex =
+          -layout.mapToBinIndex(ascendingSequence.applyAsDouble(firstNonNegativeRank - 1));
+      maxNegativeBinIndex =
+          -layout.mapToBinIndex(ascendingSequence.applyAsDouble(firstNegativeRank));
+    }
+    if (firstPositiveRank < firstOverflowRank) {
+      minPositiveBinIndex =
+          layout.mapToBinIndex(ascendingSequence.applyAsDouble(firstPositiveRank));
+      maxPositiveBinIndex =
+          layout.mapToBinIndex(ascendingSequence.applyAsDouble(firstOverflowRank - 1));
+    }
+    ensureCapacity(
+        minPositiveBinIndex, maxPositiveBinIndex, minNegativeBinIndex, maxNegativeBinIndex);
+  }
+
+  /**
+   * Reduces the scale, if necessary, such that the given non-empty histogram can be added without
+   * exceeding the maximum number of bins. Its layout must be an {@link
+   * OpenTelemetryExponentialBucketsLayout} with a scale not smaller than the current one.
+   *
+   * <p>The populated ranges are derived from the indices of the bins containing the values with
+   * boundary ranks, which avoids estimating any values.
+   */
+  private void ensureCapacity(final Histogram histogram) {
+    final OpenTelemetryExponentialBucketsLayout layout =
+        (OpenTelemetryExponentialBucketsLayout) histogram.getLayout();
+    final int scale = getLayout().getScale();
+
+    // the ranks are partitioned into underflow, negative, zero, positive, and overflow bins
+    final long firstNegativeRank = histogram.getUnderflowCount();
+    final long firstOverflowRank = histogram.getTotalCount() - histogram.getOverflowCount();
+    final long firstNonNegativeRank =
+        findFirstRank(histogram, firstNegativeRank, firstOverflowRank, 0);
+    final long firstPositiveRank =
+        findFirstRank(histogram, firstNonNegativeRank, firstOverflowRank, 1);
+
+    int minPositiveBinIndex = Integer.MAX_VALUE;
+    int maxPositiveBinIndex = Integer.MIN_VALUE;
+    int minNegativeBinIndex = Integer.MAX_VALUE;
+    int maxNegativeBinIndex = Integer.MIN_VALUE;
+    if (firstNegativeRank < firstNonNegativeRank) {
+      minNegativeBinIndex =
+          layout.getDownscaledBinIndex(
+              -histogram.getBinByRank(firstNonNegativeRank - 1).getBinIndex(), scale);
+      maxNegativeBinIndex =
+          layout.getDownscaledBinIndex(
+              -histogram.getBinByRank(firstNegativeRank).getBinIndex(), scale);
+    }
+    if (firstPositiveRank < firstOverflowRank) {
+      minPositiveBinIndex =
+          layout.getDownscaledBinIndex(
+              histogram.getBinByRank(firstPositiveRank).getBinIndex(), scale);
+      maxPositiveBinIndex =
+          layout.getDownscaledBinIndex(
+              histogram.getBinByRank(firstOverflowRank - 1).getBinIndex(), scale);
+    }
+    ensureCapacity(
+        minPositiveBinIndex, maxPositiveBinIndex, minNegativeBinIndex, maxNegativeBinIndex);
+  }
+
+  /**
+   * Returns the first rank within the given range whose bin index is greater than or equal to the
+   * given bin index, or the end of the range if there is no such rank.
+   */
+  private static long findFirstRank(
+      final Histogram histogram, final long minRank, final long maxRank, final int binIndex) {
+    return Algorithms.findFirst(
+        rank -> rank == maxRank || histogram.getBinByRank(rank).getBinIndex() >= binIndex,
+        minRank,
+        maxRank);
+  }
+
+  /**
+   * Returns the first rank not smaller than the given minimum whose value is mapped to a bin index
+   * greater than or equal to the given bin index, or the length of the sequence if there is no such
+   * rank.
+   */
+  private static long findFirstRank(
+      final LongToDoubleFunction ascendingSequence,
+      final long length,
+      final long minRank,
+      final OpenTelemetryExponentialBucketsLayout layout,
+      final int binIndex) {
+    return Algorithms.findFirst(
+        rank ->
+            rank == length
+                || layout.mapToBinIndex(ascendingSequence.applyAsDouble(rank)) >= binIndex,
+        minRank,
+        length);
+  }
+
+  private void downscale(final int newScale) {
+    final OpenTelemetryExponentialBucketsLayout layout = getLayout();
+    histogram = Histograms.downscale(histogram, newScale);
+    if (minPositiveBinIndex <= maxPositiveBinIndex) {
+      minPositiveBinIndex = layout.getDownscaledBinIndex(minPositiveBinIndex, newScale);
+      maxPositiveBinIndex = layout.getDownscaledBinIndex(maxPositiveBinIndex, newScale);
+    }
+    if (minNegativeBinIndex <= maxNegativeBinIndex) {
+      minNegativeBinIndex = layout.getDownscaledBinIndex(minNegativeBinIndex, newScale);
+      maxNegativeBinIndex = layout.getDownscaledBinIndex(maxNegativeBinIndex, newScale);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A histogram over a sliding window of a fixed number of slots, for example the last 300 seconds
+ * with slots of one second each.
+ *
+ * <p>Values are recorded into the current slot, which is replaced by a new empty slot with every
+ * call of {@link #rotate()}. The slot that falls out of the window is subtracted from an
+ * incrementally maintained aggregate bin by bin. Therefore, recording values and rotating have
+ * costs proportional to the number of touched bins, and queries, which are answered by the
+ * aggregate, do not need to merge all slots.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class SlidingWindowHistogram extends AbstractForwardingHistogram {
+
+  private final Layout layout;
+  private final Histogram[] slots;
+  private final DynamicHistogram aggregate;
+  private int currentSlotIndex = 0;
+
+  private SlidingWindowHistogram(final Layout layout, final int numSlots) {
+    this.layout = layout;
+    this.slots = new Histogram[numSlots];
+    for (int i = 0; i < numSlots; ++i) {
+      slots[i] = Histogram.createDynamic(layout);
+    }
+    this.aggregate = new DynamicHistogram(layout);
+  }
+
+  /**
+   * Creates an empty sliding window histogram.
+   *
+   * @param layout the layout of the histogram
+   * @param numSlots the number of slots covered by the window
+   * @return an empty sliding window histogram
+   */
+  public static SlidingWindowHistogram create(final Layout layout, final int numSlots) {
+    requireNonNull(layout);
+    checkArgument(numSlots > 0);
+    return new SlidingWindowHistogram(layout, numSlots);
+  }
+
+  /**
+   * Returns the number of slots covered by the window.
+   *
+   * @return the number of slots
+   */
+  public int getNumSlots() {
+    return slots.length;
+  }
+
+  /**
+   * Starts a new slot and removes all values of the oldest slot from the window.
+   *
+   * <p>Minimum, maximum, and moments of the window are recomputed from the remaining slots, which
+   * only takes time proportional to the number of slots.
+   */
+  public void rotate() {
+    currentSlotIndex = (currentSlotIndex + 1 < slots.length) ? currentSlotIndex + 1 : 0;
+    final Histogram expiredSlot = slots[currentSlotIndex];
+    if (expiredSlot.isEmpty()) {
+      return;
+    }
+    slots[currentSlotIndex] = Histogram.createDynamic(layout);
+    aggregate.subtractHistogramCounts(expiredSlot);
+    if (aggregate.isEmpty()) {
+      return;
+    }
+    double min = Double.POSITIVE_INFINITY;
+    double max = Double.NEGATIVE_INFINITY;
+    aggregate.setMoments(0, 0);
+    for (final Histogram slot : slots) {
+      if (!slot.isEmpty()) {
+        min = Math.min(min, slot.getMin());
+        max = Math.max(max, slot.getMax());
+        aggregate.incrementMoments(slot.getSum(), slot.getSumOfSquares());
+      }
+    }
+    aggregate.setMinMax(min, max);
+  }
+
+  @Override
+  protected Histogram getDelegate() {
+    return aggregate;
+  }
+
+  @Override
+  public Histogram addValue(final double value, final long count) {
+    // the aggregate is updated first, as it fails whenever the current slot would fail
+    aggregate.addValue(value, count);
+    slots[currentSlotIndex].addValue(value, count);
+    return this;
+  }
+
+  @Override
+  public Histogram addHistogram(final Histogram histogram, final ValueEstimator valueEstimator) {
+    requireNonNull(histogram);
+    requireNonNull(valueEstimator);
+    // map the given histogram to this layout first, so that slot and aggregate get the same counts
+    final Histogram histogramWithSameLayout =
+        layout.equals(histogram.getLayout())
+            ? histogram
+            : Histogram.createDynamic(layout).addHistogram(histogram, valueEstimator);
+    aggregate.addHistogram(histogramWithSameLayout);
+    slots[currentSlotIndex].addHistogram(histogramWithSameLayout);
+    return this;
+  }
+
+  @Override
+  public Histogram addAscendingSequence(
+      final LongToDoubleFunction ascendingSequence, final long length) {
+    return addHistogram(
+        Histogram.createDynamic(layout).addAscendingSequence(ascendingSequence, length));
+  }
+
+  @Override
+  public Histogram addSortedValues(
+      final double[] sortedValues, final int fromIndex, final int toIndex) {
+    return addHistogram(
+        Histogram.createDynamic(layout).addSortedValues(sortedValues, fromIndex, toIndex));
+  }
+
+  /**
+   * Not supported, as values can only leave the window by rotation.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public Histogram subtractHistogram(final Histogram histogram) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public long getEstimatedFootprintInBytes() {
+    long slotsFootprint = 0;
+    for (final Histogram slot : slots) {
+      slotsFootprint += AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES;
+      slotsFootprint += slot.getEstimatedFootprintInBytes();
+    }
+    return AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // layout
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // slots
+        + AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+        + Integer.BYTES
+        + slotsFootprint // slots array
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // aggregate
+        + aggregate.getEstimatedFootprintInBytes()
+        + Integer.BYTES; // currentSlotIndex
+  }
+}
@@ -18,6 +18,7 @@ package com.dynatrace.dynahist;
 import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import com.dynatrace.dynahist.bin.BinConsumer;
 import com.dynatrace.dynahist.layout.Layout;
 import java.io.DataInput;
 import java.io.IOException;
@@ -56,6 +57,7 @@ final class StaticHistogram extends AbstractMutableHistogram {
             throw new IllegalArgumentException(NAN_VALUE_MSG);
           }
         }
+        updateMoments(value, count);
       } else {
         throw new ArithmeticException(OVERFLOW_MSG);
       }
@@ -89,6 +91,20 @@ final class StaticHistogram extends AbstractMutableHistogram {
     return counts[binIndex - minAllocatedBinIndexInclusive()];
   }
 
+  @Override
+  protected long forEachNonEmptyAllocatedBin(final BinConsumer binConsumer, long lessCount) {
+    final int indexOffset = minAllocatedBinIndexInclusive();
+    final long endCount = getTotalCount() - getOverflowCount();
+    for (int i = 0; i < counts.length && lessCount < endCount; ++i) {
+      final long count = counts[i];
+      if (count > 0) {
+        binConsumer.accept(i + indexOffset, count, lessCount);
+        lessCount += count;
+      }
+    }
+    return lessCount;
+  }
+
   @Override
   protected byte getMode() {
     long c = 0;
@@ -112,58 +128,75 @@ final class StaticHistogram extends AbstractMutableHistogram {
   public static Histogram read(final Layout layout, final DataInput dataInput) throws IOException {
     requireNonNull(layout);
     requireNonNull(dataInput);
+    return AbstractHistogram.deserialize(layout, createDeserializationBuilder(layout), dataInput);
+  }
+
+  public static Histogram readDelta(final Histogram reference, final DataInput dataInput)
+      throws IOException {
+    requireNonNull(reference);
+    requireNonNull(dataInput);
+    return AbstractHistogram.deserializeDelta(
+        reference, createDeserializationBuilder(reference.getLayout()), dataInput);
+  }
+
+  static HistogramDeserializationBuilder createDeserializationBuilder(final Layout layout) {
     StaticHistogram histogram = new StaticHistogram(layout);
+    return new HistogramDeserializationBuilder() {
+      private boolean isMomentsSet = false;
 
-    HistogramDeserializationBuilder builder =
-        new HistogramDeserializationBuilder() {
-          @Override
-          public void setMinValue(double minValue) {
-            histogram.updateMin(minValue);
-          }
+      @Override
+      public void setMinValue(double minValue) {
+        histogram.updateMin(minValue);
+      }
 
-          @Override
-          public void setMaxValue(double maxValue) {
-            histogram.updateMax(maxValue);
-          }
+      @Override
+      public void setMaxValue(double maxValue) {
+        histogram.updateMax(maxValue);
+      }
 
-          @Override
-          public void allocateRegularCounts(int minBinIndex, int maxBinIndex, int bitsPerCount) {
-            // do nothing
-          }
+      @Override
+      public void allocateRegularCounts(int minBinIndex, int maxBinIndex, int bitsPerCount) {
+        // do nothing
+      }
 
-          @Override
-          public void incrementRegularCount(int binIndex, long increment) {
-            histogram.increaseCount(binIndex, increment); // TODO optimize
-          }
+      @Override
+      public void incrementRegularCount(int binIndex, long increment) {
+        histogram.increaseCount(binIndex, increment); // TODO optimize
+      }
 
-          @Override
-          public void incrementRegularCountSafe(int binIndex) {
-            histogram.increaseCount(binIndex, 1); // TODO optimize
-          }
+      @Override
+      public void incrementRegularCountSafe(int binIndex) {
+        histogram.increaseCount(binIndex, 1); // TODO optimize
+      }
 
-          @Override
-          public void incrementOverflowCount(long increment) {
-            histogram.incrementOverflowCount(increment);
-          }
+      @Override
+      public void incrementOverflowCount(long increment) {
+        histogram.incrementOverflowCount(increment);
+      }
 
-          @Override
-          public void incrementUnderflowCount(long increment) {
-            histogram.incrementUnderflowCount(increment);
-          }
+      @Override
+      public void incrementUnderflowCount(long increment) {
+        histogram.incrementUnderflowCount(increment);
+      }
 
-          @Override
-          public void incrementTotalCount(long increment) {
-            histogram.incrementTotalCount(increment);
-          }
+      @Override
+      public void incrementTotalCount(long increment) {
+        histogram.incrementTotalCount(increment);
+      }
 
-          @Override
-          public Histogram build() {
-            return histogram;
-          }
-        };
+      @Override
+      public void setMoments(double sum, double sumOfSquares) {
+        histogram.setMoments(sum, sumOfSquares);
+        isMomentsSet = true;
+      }
 
-    AbstractHistogram.deserialize(layout, builder, dataInput);
-    builder.build();
-    return histogram;
+      @Override
+      public Histogram build() {
+        if (!isMomentsSet && !histogram.isEmpty()) {
+          histogram.setMoments(Double.NaN, Double.NaN);
+        }
+        return histogram;
+      }
+    };
   }
 }
@@ -0,0 +1,917 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.quantile.QuantileEstimator;
+import com.dynatrace.dynahist.quantile.SciPyQuantileEstimator;
+import com.dynatrace.dynahist.serialization.SerializationUtil;
+import com.dynatrace.dynahist.util.Algorithms;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A histogram that records values with non-negative weights, which do not need to be integral.
+ *
+ * <p>This is useful for sampled data, where each value is recorded with the reciprocal of its
+ * sampling rate as weight. The bin weights are stored as doubles, which keeps the integral-count
+ * {@link Histogram} implementations unaffected.
+ *
+ * <p>Quantiles are estimated using {@link QuantileEstimator#estimateWeightedQuantile(double,
+ * java.util.function.DoubleUnaryOperator, double)} based on the cumulative weights normalized by
+ * the total weight. Ranks are measured in units of the effective number of values {@code (sum of
+ * weights)^2 / (sum of squared weights)}, which is equal to the number of values if all weights
+ * are equal. Therefore, multiplying all weights by the same factor does not change quantiles, and
+ * quantiles are the same as for a {@link Histogram} with the same values, if all weights are equal.
+ * Within a bin, values are assumed to be distributed uniformly, which corresponds to {@link
+ * com.dynatrace.dynahist.value.ValueEstimator#UNIFORM}.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class WeightedHistogram {
+
+  private static final byte SERIAL_VERSION_V0 = 0;
+
+  private static final QuantileEstimator DEFAULT_QUANTILE_ESTIMATOR =
+      SciPyQuantileEstimator.create();
+
+  private static final String NEGATIVE_WEIGHT_MSG = "Weight must be non-negative and finite!";
+  private static final String ENCOUNTERED_UNEXPECTED_DATA_MSG = "Encountered unexpected data!";
+
+  private static final double[] EMPTY_WEIGHTS = {};
+
+  private static final double GROW_FACTOR = 0.25;
+
+  // weights which are integral and less than this limit are serialized as variable-length integers
+  private static final double MAX_INTEGRAL_WEIGHT_FOR_SERIALIZATION = 0x1p52;
+
+  private final Layout layout;
+
+  private double[] weights = EMPTY_WEIGHTS;
+  private int indexOffset = 0;
+  private double underflowWeight = 0;
+  private double overflowWeight = 0;
+  private double totalWeight = 0;
+
+  // the sum of squared weights is kept relative to the square of the largest weight, which avoids
+  // overflows and underflows
+  private double weightScale = 0;
+  private double sumOfSquaredScaledWeights = 0;
+
+  private double sum = 0;
+  private double sumOfSquares = 0;
+
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  // distribution of the values of the non-empty bins over ranks, which is piecewise linear and
+  // built on first use after a modification
+  private double[] valueRankStarts = null;
+  private double[] valueStarts = null;
+  private double[] valueEnds = null;
+
+  private WeightedHistogram(final Layout layout) {
+    this.layout = layout;
+  }
+
+  /**
+   * Creates an empty weighted histogram.
+   *
+   * @param layout the layout of the histogram
+   * @return an empty weighted histogram
+   */
+  public static WeightedHistogram create(final Layout layout) {
+    requireNonNull(layout);
+    return new WeightedHistogram(layout);
+  }
+
+  /**
+   * Returns the layout of the histogram.
+   *
+   * @return the layout
+   */
+  public Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * Adds a value with weight 1.
+   *
+   * @param value the value
+   * @return a reference to this
+   * @throws IllegalArgumentException if value is equal to {@link Double#NaN}
+   */
+  public WeightedHistogram addValue(final double value) {
+    return addValue(value, 1.);
+  }
+
+  /**
+   * Adds a value with the given weight.
+   *
+   * @param value the value
+   * @param weight the weight, must be non-negative and finite
+   * @return a reference to this
+   * @throws IllegalArgumentException if value is equal to {@link Double#NaN} or the weight is
+   *     negative or not finite
+   */
+  public WeightedHistogram addValue(final double value, final double weight) {
+    return addValue(value, weight, 1);
+  }
+
+  /**
+   * Adds a value with the given weight multiple times.
+   *
+   * <p>This is equivalent to, but faster than, adding the value {@code count} times with the given
+   * weight. Unlike adding the value once with weight {@code count * weight}, the added values count
+   * as {@code count} values when quantiles are estimated.
+   *
+   * @param value the value
+   * @param weight the weight of each value, must be non-negative and finite
+   * @param count defines the multiplicity
+   * @return a reference to this
+   * @throws IllegalArgumentException if value is equal to {@link Double#NaN}, the weight is
+   *     negative or not finite, or the count is negative
+   */
+  public WeightedHistogram addValue(final double value, final double weight, final long count) {
+    checkArgument(!Double.isNaN(value), AbstractMutableHistogram.NAN_VALUE_MSG);
+    checkArgument(weight >= 0 && weight < Double.POSITIVE_INFINITY, NEGATIVE_WEIGHT_MSG);
+    checkArgument(count >= 0, AbstractMutableHistogram.NEGATIVE_COUNT_MSG, count);
+    final double totalValueWeight = weight * count;
+    if (totalValueWeight == 0) {
+      return this;
+    }
+    checkArgument(totalValueWeight < Double.POSITIVE_INFINITY, NEGATIVE_WEIGHT_MSG);
+    addWeight(layout.mapToBinIndex(value), totalValueWeight);
+    addSquaredWeights(weight, 1., count);
+    final double weightedValue = totalValueWeight * value;
+    sum += weightedValue;
+    sumOfSquares += weightedValue * value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    return this;
+  }
+
+  private void addWeight(final int binIndex, final double weight) {
+    if (binIndex <= layout.getUnderflowBinIndex()) {
+      underflowWeight += weight;
+    } else if (binIndex >= layout.getOverflowBinIndex()) {
+      overflowWeight += weight;
+    } else {
+      ensureCapacity(binIndex, binIndex);
+      weights[binIndex - indexOffset] += weight;
+    }
+    totalWeight += weight;
+    valueRankStarts = null;
+  }
+
+  // adds count times the squared weight, where the sum of squared weights is given relative to the
+  // square of the weight
+  private void addSquaredWeights(
+      final double weight, final double sumOfSquaredRelativeWeights, final double count) {
+    if (weight > weightScale) {
+      final double relativeScale = weightScale / weight;
+      sumOfSquaredScaledWeights *= relativeScale * relativeScale;
+      weightScale = weight;
+      sumOfSquaredScaledWeights += sumOfSquaredRelativeWeights * count;
+    } else {
+      final double relativeWeight = weight / weightScale;
+      sumOfSquaredScaledWeights +=
+          sumOfSquaredRelativeWeights * count * relativeWeight * relativeWeight;
+    }
+  }
+
+  /**
+   * Adds all values of a given weighted histogram with the same layout.
+   *
+   * @param histogram the weighted histogram to be added
+   * @return a reference to this
+   * @throws IllegalArgumentException if the layouts are different
+   */
+  public WeightedHistogram addHistogram(final WeightedHistogram histogram) {
+    requireNonNull(histogram);
+    checkArgument(
+        layout.equals(histogram.layout), AbstractMutableHistogram.INCOMPATIBLE_LAYOUT_MSG);
+    if (histogram.isEmpty()) {
+      return this;
+    }
+    if (histogram.weights.length > 0) {
+      ensureCapacity(
+          histogram.indexOffset, histogram.indexOffset + histogram.weights.length - 1);
+      final int offset = histogram.indexOffset - indexOffset;
+      for (int i = 0; i < histogram.weights.length; ++i) {
+        weights[i + offset] += histogram.weights[i];
+      }
+    }
+    underflowWeight += histogram.underflowWeight;
+    overflowWeight += histogram.overflowWeight;
+    totalWeight += histogram.totalWeight;
+    addSquaredWeights(histogram.weightScale, histogram.sumOfSquaredScaledWeights, 1.);
+    valueRankStarts = null;
+    sum += histogram.sum;
+    sumOfSquares += histogram.sumOfSquares;
+    min = Math.min(min, histogram.min);
+    max = Math.max(max, histogram.max);
+    return this;
+  }
+
+  /**
+   * Adds all values of a given {@link Histogram} with the same layout, using the bin counts as
+   * weights.
+   *
+   * @param histogram the histogram to be added
+   * @return a reference to this
+   * @throws IllegalArgumentException if the layouts are different
+   */
+  public WeightedHistogram addHistogram(final Histogram histogram) {
+    requireNonNull(histogram);
+    checkArgument(
+        layout.equals(histogram.getLayout()), AbstractMutableHistogram.INCOMPATIBLE_LAYOUT_MSG);
+    if (histogram.isEmpty()) {
+      return this;
+    }
+    histogram.forEachNonEmptyBin((binIndex, count, lessCount) -> addWeight(binIndex, count));
+    addSquaredWeights(1., 1., histogram.getTotalCount());
+    sum += histogram.getSum();
+    sumOfSquares += histogram.getSumOfSquares();
+    min = Math.min(min, histogram.getMin());
+    max = Math.max(max, histogram.getMax());
+    return this;
+  }
+
+  /**
+   * Multiplies all weights by the given positive factor.
+   *
+   * <p>Values whose weights underflow to zero are dropped. The minimum and the maximum are limited
+   * to the bins that remain non-empty, and the histogram is cleared if no bin remains non-empty.
+   */
+  void scale(final double factor) {
+    int firstIndex = -1;
+    int lastIndex = -1;
+    for (int i = 0; i < weights.length; ++i) {
+      weights[i] *= factor;
+      if (weights[i] > 0) {
+        if (firstIndex < 0) {
+          firstIndex = i;
+        }
+        lastIndex = i;
+      }
+    }
+    underflowWeight *= factor;
+    overflowWeight *= factor;
+    if (firstIndex < 0 && underflowWeight == 0 && overflowWeight == 0) {
+      clear();
+      return;
+    }
+    totalWeight *= factor;
+    weightScale *= factor;
+    sum *= factor;
+    sumOfSquares *= factor;
+    if (underflowWeight == 0) {
+      final int firstBinIndex =
+          (firstIndex >= 0) ? firstIndex + indexOffset : layout.getOverflowBinIndex();
+      min = Math.max(min, layout.getBinLowerBound(firstBinIndex));
+    }
+    if (overflowWeight == 0) {
+      final int lastBinIndex =
+          (lastIndex >= 0) ? lastIndex + indexOffset : layout.getUnderflowBinIndex();
+      max = Math.min(max, layout.getBinUpperBound(lastBinIndex));
+    }
+    valueRankStarts = null;
+  }
+
+  private void clear() {
+    weights = EMPTY_WEIGHTS;
+    indexOffset = 0;
+    underflowWeight = 0;
+    overflowWeight = 0;
+    totalWeight = 0;
+    weightScale = 0;
+    sumOfSquaredScaledWeights = 0;
+    sum = 0;
+    sumOfSquares = 0;
+    min = Double.POSITIVE_INFINITY;
+    max = Double.NEGATIVE_INFINITY;
+    valueRankStarts = null;
+  }
+
+  private void ensureCapacity(final int minBinIndex, final int maxBinIndex) {
+    if (weights.length == 0) {
+      weights = new double[maxBinIndex - minBinIndex + 1];
+      indexOffset = minBinIndex;
+      return;
+    }
+    final int minIndex = indexOffset;
+    final int maxIndex = indexOffset + weights.length - 1;
+    if (minBinIndex >= minIndex && maxBinIndex <= maxIndex) {
+      return;
+    }
+    final int regularMinIndex = layout.getUnderflowBinIndex() + 1;
+    final int regularMaxIndex = layout.getOverflowBinIndex() - 1;
+    final int increment = (int) Math.ceil(weights.length * GROW_FACTOR);
+    final int newMinIndex =
+        (minBinIndex < minIndex)
+            ? (int) Math.max(regularMinIndex, (long) minBinIndex - increment)
+            : minIndex;
+    final int newMaxIndex =
+        (maxBinIndex > maxIndex)
+            ? (int) Math.min(regularMaxIndex, (long) maxBinIndex + increment)
+            : maxIndex;
+    final double[] newWeights = new double[newMaxIndex - newMinIndex + 1];
+    System.arraycopy(weights, 0, newWeights, minIndex - newMinIndex, weights.length);
+    weights = newWeights;
+    indexOffset = newMinIndex;
+  }
+
+  /**
+   * Returns {@code true} if no value with positive weight has been added.
+   *
+   * @return {@code true} if empty
+   */
+  public boolean isEmpty() {
+    return totalWeight == 0;
+  }
+
+  /**
+   * Returns the total weight of all values.
+   *
+   * @return the total weight
+   */
+  public double getTotalWeight() {
+    return totalWeight;
+  }
+
+  /**
+   * Returns the weight of the underflow bin.
+   *
+   * @return the weight of the underflow bin
+   */
+  public double getUnderflowWeight() {
+    return underflowWeight;
+  }
+
+  /**
+   * Returns the weight of the overflow bin.
+   *
+   * @return the weight of the overflow bin
+   */
+  public double getOverflowWeight() {
+    return overflowWeight;
+  }
+
+  /**
+   * Returns the weight of the bin with given index.
+   *
+   * @param binIndex the bin index
+   * @return the weight of the bin
+   */
+  public double getWeight(final int binIndex) {
+    if (binIndex <= layout.getUnderflowBinIndex()) {
+      return underflowWeight;
+    } else if (binIndex >= layout.getOverflowBinIndex()) {
+      return overflowWeight;
+    } else if (binIndex >= indexOffset && binIndex - indexOffset < weights.length) {
+      return weights[binIndex - indexOffset];
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the minimum of all added values.
+   *
+   * <p>Returns {@link Double#POSITIVE_INFINITY} if the histogram is empty.
+   *
+   * @return the minimum of all added values
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum of all added values.
+   *
+   * <p>Returns {@link Double#NEGATIVE_INFINITY} if the histogram is empty.
+   *
+   * @return the maximum of all added values
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the weighted sum of all added values.
+   *
+   * @return the weighted sum
+   */
+  public double getSum() {
+    return sum;
+  }
+
+  /**
+   * Returns the weighted sum of the squares of all added values.
+   *
+   * @return the weighted sum of squares
+   */
+  public double getSumOfSquares() {
+    return sumOfSquares;
+  }
+
+  /**
+   * Returns the weighted mean of all added values.
+   *
+   * <p>Returns {@link Double#NaN} if the histogram is empty.
+   *
+   * @return the weighted mean
+   */
+  public double getMean() {
+    return isEmpty() ? Double.NaN : sum / totalWeight;
+  }
+
+  /**
+   * Returns the effective number of values {@code (sum of weights)^2 / (sum of squared weights)}.
+   *
+   * <p>The effective number of values is equal to the number of values, if all weights are equal,
+   * and does not change if all weights are multiplied by the same factor. It is always at least 1,
+   * unless the histogram is empty.
+   *
+   * @return the effective number of values
+   */
+  public double getEffectiveNumberOfValues() {
+    if (isEmpty()) {
+      return 0;
+    }
+    final double scaledTotalWeight = totalWeight / weightScale;
+    return Math.max(1., scaledTotalWeight * (scaledTotalWeight / sumOfSquaredScaledWeights));
+  }
+
+  /**
+   * Returns an estimate of the value with the given rank.
+   *
+   * <p>Ranks are measured in units of the effective number of values n, see {@link
+   * #getEffectiveNumberOfValues()}, and range from 0 to n - 1. A bin with weight w accounts for
+   * {@code w * n / totalWeight} values, which are assumed to be uniformly distributed over the bin.
+   * The estimate for an integral rank k is the mean of all values within the rank interval [k, k +
+   * 1]. Estimates for other ranks are interpolated linearly. As a consequence, values with small
+   * relative weights have only a small influence on the estimate.
+   *
+   * <p>If all weights are equal, the result is the same as that of {@link Histogram#getValue(long)}
+   * using {@link com.dynatrace.dynahist.value.ValueEstimator#UNIFORM} for integral ranks.
+   *
+   * @param rank the rank
+   * @return the estimated value
+   * @throws IllegalArgumentException if the histogram is empty or the rank is {@link Double#NaN}
+   */
+  public double getValue(final double rank) {
+    checkArgument(!isEmpty());
+    checkArgument(!Double.isNaN(rank));
+    if (valueRankStarts == null) {
+      computeValueDistribution();
+    }
+    final double maxRank = valueRankStarts[valueRankStarts.length - 1] - 1;
+    if (rank <= 0) {
+      return getValueOfIntegralRank(0);
+    }
+    if (rank >= maxRank) {
+      return getValueOfIntegralRank(maxRank);
+    }
+    final double lowerRank = Math.floor(rank);
+    final double upperRank = Math.min(maxRank, lowerRank + 1);
+    return Algorithms.interpolate(
+        rank,
+        lowerRank,
+        getValueOfIntegralRank(lowerRank),
+        upperRank,
+        getValueOfIntegralRank(upperRank));
+  }
+
+  // returns the mean of the value distribution over the rank interval [rank, rank + 1]
+  private double getValueOfIntegralRank(final double rank) {
+    final double[] rankStarts = valueRankStarts;
+    final int numBins = rankStarts.length - 1;
+    if (numBins == 1) {
+      return Algorithms.interpolate(rank, 0, min, rankStarts[1] - 1, max);
+    }
+    // binary search for the last bin starting at or before the given rank
+    int low = 0;
+    int high = numBins;
+    while (low + 1 < high) {
+      final int mid = (low + high) >>> 1;
+      if (rankStarts[mid] <= rank) {
+        low = mid;
+      } else {
+        high = mid;
+      }
+    }
+    final double endRank = rank + 1;
+    double integral = 0;
+    for (int k = low; k < numBins && rankStarts[k] < endRank; ++k) {
+      final double binStart = rankStarts[k];
+      final double binEnd = rankStarts[k + 1];
+      final double start = Math.max(rank, binStart);
+      final double end = Math.min(endRank, binEnd);
+      if (end > start) {
+        final double slope = (valueEnds[k] - valueStarts[k]) / (binEnd - binStart);
+        final double meanValue =
+            valueStarts[k] + ((start - binStart) + (end - binStart)) * 0.5 * slope;
+        integral += (end - start) * meanValue;
+      }
+    }
+    return Math.max(min, Math.min(max, integral));
+  }
+
+  /**
+   * Computes the distribution of values over ranks, where the values of each bin are linearly
+   * distributed over the rank interval of the bin.
+   *
+   * <p>The values of the first and the last bin are stretched beyond the minimum and the maximum,
+   * respectively, such that the mean over the first and the last rank interval of length 1 gives
+   * the minimum and the maximum, if the bins account for at least one value. This corresponds to
+   * the placement of values by {@link com.dynatrace.dynahist.value.ValueEstimator#UNIFORM}. To
+   * avoid jumps when bins with small weights are added, the stretching of a bin fades out linearly
+   * with the number of values before or after it, respectively.
+   */
+  private void computeValueDistribution() {
+    int numBins = (underflowWeight > 0 ? 1 : 0) + (overflowWeight > 0 ? 1 : 0);
+    for (final double weight : weights) {
+      if (weight > 0) {
+        numBins += 1;
+      }
+    }
+    final int[] binIndices = new int[numBins];
+    final double[] binWeights = new double[numBins];
+    int k = 0;
+    if (underflowWeight > 0) {
+      binIndices[k] = layout.getUnderflowBinIndex();
+      binWeights[k++] = underflowWeight;
+    }
+    for (int i = 0; i < weights.length; ++i) {
+      if (weights[i] > 0) {
+        binIndices[k] = i + indexOffset;
+        binWeights[k++] = weights[i];
+      }
+    }
+    if (overflowWeight > 0) {
+      binIndices[k] = layout.getOverflowBinIndex();
+      binWeights[k] = overflowWeight;
+    }
+
+    final double numValues = getEffectiveNumberOfValues();
+    final double valuesPerWeight = numValues / totalWeight;
+    final double[] rankStarts = new double[numBins + 1];
+    final double[] starts = new double[numBins];
+    final double[] ends = new double[numBins];
+    double lessWeight = 0;
+    for (k = 0; k < numBins; ++k) {
+      final double count = binWeights[k] * valuesPerWeight;
+      final double lessCount = Math.min(numValues, lessWeight * valuesPerWeight);
+      final double greaterCount = Math.max(0., numValues - lessCount - count);
+      rankStarts[k] = lessCount;
+      lessWeight += binWeights[k];
+      final double lowerBound = Math.max(min, layout.getBinLowerBound(binIndices[k]));
+      final double upperBound = Math.min(max, layout.getBinUpperBound(binIndices[k]));
+      final double extension =
+          (upperBound - lowerBound) * ((count >= 1) ? 1 / (2 * count - 1) : count);
+      // the extensions fade out with the number of smaller and greater values, respectively, and
+      // do not overlap with the neighboring bins
+      starts[k] = lowerBound - extension * Math.max(0., 1 - lessCount);
+      if (k > 0) {
+        starts[k] =
+            Math.max(starts[k], Math.min(max, layout.getBinUpperBound(binIndices[k - 1])));
+      }
+      ends[k] = upperBound + extension * Math.max(0., 1 - greaterCount);
+      if (k < numBins - 1) {
+        ends[k] = Math.min(ends[k], Math.max(min, layout.getBinLowerBound(binIndices[k + 1])));
+      }
+    }
+    rankStarts[numBins] = numValues;
+    valueStarts = starts;
+    valueEnds = ends;
+    valueRankStarts = rankStarts;
+  }
+
+  /**
+   * Returns an estimate for the quantile value using the default quantile estimator.
+   *
+   * @param p the p-value in range [0,1]
+   * @return an estimate for the p-quantile
+   */
+  public double getQuantile(final double p) {
+    return getQuantile(p, DEFAULT_QUANTILE_ESTIMATOR);
+  }
+
+  /**
+   * Returns an estimate for the quantile value using the given quantile estimator.
+   *
+   * @param p the p-value in range [0,1]
+   * @param quantileEstimator the quantile estimator
+   * @return an estimate for the p-quantile
+   */
+  public double getQuantile(final double p, final QuantileEstimator quantileEstimator) {
+    requireNonNull(quantileEstimator);
+    return quantileEstimator.estimateWeightedQuantile(
+        p, this::getValue, getEffectiveNumberOfValues());
+  }
+
+  /**
+   * Returns a histogram with the given total count and integral counts proportional to the
+   * weights of the bins.
+   *
+   * <p>Bins with a relative weight too small to be represented are empty. Minimum and maximum are
+   * limited to the remaining non-empty bins.
+   */
+  Histogram getSnapshot(final long totalCount) {
+    final HistogramDeserializationBuilder builder =
+        DynamicHistogram.createDeserializationBuilder(layout);
+    if (isEmpty()) {
+      return builder.build();
+    }
+    final double scale = totalCount / totalWeight;
+
+    // counts are determined from the rounded cumulative weights to preserve ranks
+    final long underflowCount = Math.min(totalCount, Math.round(underflowWeight * scale));
+    double cumulativeWeight = underflowWeight;
+    long cumulativeCount = underflowCount;
+    final long[] counts = new long[weights.length];
+    int firstIndex = -1;
+    int lastIndex = -1;
+    for (int i = 0; i < weights.length; ++i) {
+      cumulativeWeight += weights[i];
+      final long newCumulativeCount = Math.min(totalCount, Math.round(cumulativeWeight * scale));
+      counts[i] = newCumulativeCount - cumulativeCount;
+      cumulativeCount = newCumulativeCount;
+      if (counts[i] > 0) {
+        if (firstIndex < 0) {
+          firstIndex = i;
+        }
+        lastIndex = i;
+      }
+    }
+    final long overflowCount = totalCount - cumulativeCount;
+
+    final int firstBinIndex;
+    final int lastBinIndex;
+    if (underflowCount > 0) {
+      firstBinIndex = layout.getUnderflowBinIndex();
+    } else if (firstIndex >= 0) {
+      firstBinIndex = firstIndex + indexOffset;
+    } else {
+      firstBinIndex = layout.getOverflowBinIndex();
+    }
+    if (overflowCount > 0) {
+      lastBinIndex = layout.getOverflowBinIndex();
+    } else if (lastIndex >= 0) {
+      lastBinIndex = lastIndex + indexOffset;
+    } else {
+      lastBinIndex = layout.getUnderflowBinIndex();
+    }
+    builder.setMinValue(Math.max(min, layout.getBinLowerBound(firstBinIndex)));
+    builder.setMaxValue(Math.min(max, layout.getBinUpperBound(lastBinIndex)));
+    builder.incrementTotalCount(totalCount);
+    builder.incrementUnderflowCount(underflowCount);
+    builder.incrementOverflowCount(overflowCount);
+    if (firstIndex >= 0) {
+      builder.allocateRegularCounts(firstIndex + indexOffset, lastIndex + indexOffset, 1);
+      for (int i = firstIndex; i <= lastIndex; ++i) {
+        if (counts[i] > 0) {
+          builder.incrementRegularCount(i + indexOffset, counts[i]);
+        }
+      }
+    }
+    builder.setMoments(sum * scale, sumOfSquares * scale);
+    return builder.build();
+  }
+
+  private static void writeWeight(final double weight, final DataOutput dataOutput)
+      throws IOException {
+    if (weight == Math.rint(weight) && weight < MAX_INTEGRAL_WEIGHT_FOR_SERIALIZATION) {
+      SerializationUtil.writeUnsignedVarLong(((long) weight) << 1, dataOutput);
+    } else {
+      SerializationUtil.writeUnsignedVarLong(1L, dataOutput);
+      dataOutput.writeDouble(weight);
+    }
+  }
+
+  private static double readWeight(final DataInput dataInput) throws IOException {
+    final long encoded = SerializationUtil.readUnsignedVarLong(dataInput);
+    final double weight;
+    if ((encoded & 1L) == 0) {
+      weight = encoded >>> 1;
+    } else if (encoded == 1L) {
+      weight = dataInput.readDouble();
+    } else {
+      throw new IOException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+    }
+    if (!(weight >= 0 && weight < Double.POSITIVE_INFINITY)) {
+      throw new IOException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+    }
+    return weight;
+  }
+
+  /**
+   * Writes this histogram to a given {@link DataOutput}.
+   *
+   * <p>Only non-empty bins are written. Integral weights are encoded as variable-length integers,
+   * all other weights require 8 bytes.
+   *
+   * @param dataOutput the {@link DataOutput}
+   * @throws IOException if an I/O error occurs
+   */
+  public void write(final DataOutput dataOutput) throws IOException {
+    requireNonNull(dataOutput);
+    dataOutput.writeByte(SERIAL_VERSION_V0);
+    int numNonEmptyBins = 0;
+    for (final double weight : weights) {
+      if (weight > 0) {
+        numNonEmptyBins += 1;
+      }
+    }
+    if (isEmpty()) {
+      SerializationUtil.writeUnsignedVarInt(0, dataOutput);
+      return;
+    }
+    SerializationUtil.writeUnsignedVarInt(numNonEmptyBins + 1, dataOutput);
+    dataOutput.writeDouble(min);
+    dataOutput.writeDouble(max);
+    dataOutput.writeDouble(sum);
+    dataOutput.writeDouble(sumOfSquares);
+    dataOutput.writeDouble(getEffectiveNumberOfValues());
+    writeWeight(underflowWeight, dataOutput);
+    writeWeight(overflowWeight, dataOutput);
+    int previousBinIndex = Integer.MIN_VALUE;
+    for (int i = 0; i < weights.length; ++i) {
+      if (weights[i] > 0) {
+        final int binIndex = i + indexOffset;
+        if (previousBinIndex == Integer.MIN_VALUE) {
+          SerializationUtil.writeSignedVarInt(binIndex, dataOutput);
+        } else {
+          SerializationUtil.writeUnsignedVarInt(binIndex - previousBinIndex - 1, dataOutput);
+        }
+        writeWeight(weights[i], dataOutput);
+        previousBinIndex = binIndex;
+      }
+    }
+  }
+
+  /**
+   * Reads a weighted histogram from a given {@link DataInput}.
+   *
+   * <p>The serialization of the histogram must have been written using {@link #write(DataOutput)}
+   * and the provided layout must be equal to the layout used when writing.
+   *
+   * @param layout the layout
+   * @param dataInput the {@link DataInput}
+   * @return the deserialized weighted histogram
+   * @throws IOException if an I/O error occurs
+   */
+  public static WeightedHistogram read(final Layout layout, final DataInput dataInput)
+      throws IOException {
+    requireNonNull(layout);
+    requireNonNull(dataInput);
+    SerializationUtil.checkSerialVersion(SERIAL_VERSION_V0, dataInput.readByte());
+    final WeightedHistogram histogram = new WeightedHistogram(layout);
+    final int numNonEmptyBinsPlusOne = SerializationUtil.readUnsignedVarInt(dataInput);
+    if (numNonEmptyBinsPlusOne == 0) {
+      return histogram;
+    }
+    final int numNonEmptyBins = numNonEmptyBinsPlusOne - 1;
+    final double min = dataInput.readDouble();
+    final double max = dataInput.readDouble();
+    final double sum = dataInput.readDouble();
+    final double sumOfSquares = dataInput.readDouble();
+    final double effectiveNumberOfValues = dataInput.readDouble();
+    if (!(effectiveNumberOfValues >= 1 && effectiveNumberOfValues < Double.POSITIVE_INFINITY)) {
+      throw new IOException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+    }
+    final double underflowWeight = readWeight(dataInput);
+    final double overflowWeight = readWeight(dataInput);
+    histogram.addWeight(layout.getUnderflowBinIndex(), underflowWeight);
+    histogram.addWeight(layout.getOverflowBinIndex(), overflowWeight);
+    long binIndex = 0;
+    for (int k = 0; k < numNonEmptyBins; ++k) {
+      if (k == 0) {
+        binIndex = SerializationUtil.readSignedVarInt(dataInput);
+      } else {
+        binIndex += SerializationUtil.readUnsignedVarInt(dataInput) + 1L;
+      }
+      if (binIndex <= layout.getUnderflowBinIndex() || binIndex >= layout.getOverflowBinIndex()) {
+        throw new IOException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+      }
+      histogram.addWeight((int) binIndex, readWeight(dataInput));
+    }
+    histogram.min = min;
+    histogram.max = max;
+    histogram.sum = sum;
+    histogram.sumOfSquares = sumOfSquares;
+    if (histogram.isEmpty()) {
+      throw new IOException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+    }
+    histogram.weightScale = histogram.totalWeight / effectiveNumberOfValues;
+    histogram.sumOfSquaredScaledWeights = effectiveNumberOfValues;
+    return histogram;
+  }
+
+  /**
+   * Returns an estimate of the footprint of this histogram in bytes.
+   *
+   * @return an estimate of the footprint in bytes
+   */
+  public long getEstimatedFootprintInBytes() {
+    return AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // layout
+        + AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES
+        + AbstractHistogram.ESTIMATED_OBJECT_HEADER_FOOTPRINT_IN_BYTES
+        + Integer.BYTES
+        + ((long) weights.length) * Double.BYTES // weights
+        + Integer.BYTES // indexOffset
+        + 3L * Double.BYTES // underflowWeight, overflowWeight, totalWeight
+        + 2L * Double.BYTES // weightScale, sumOfSquaredScaledWeights
+        + 3L * AbstractHistogram.ESTIMATED_REFERENCE_FOOTPRINT_IN_BYTES // value distribution
+        + 2L * Double.BYTES // sum, sumOfSquares
+        + 2L * Double.BYTES; // min, max
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = layout.hashCode();
+    long temp = Double.doubleToLongBits(min);
+    result = prime * result + (int) (temp ^ (temp >>> 32));
+    temp = Double.doubleToLongBits(max);
+    result = prime * result + (int) (temp ^ (temp >>> 32));
+    temp = Double.doubleToLongBits(totalWeight);
+    result = prime * result + (int) (temp ^ (temp >>> 32));
+    return result;
+  }
+
+  /**
+   * Two weighted histograms are equal, if they have the same layout, minimum, maximum, and bin
+   * weights. The sum and the sum of squares are ignored.
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof WeightedHistogram)) {
+      return false;
+    }
+    final WeightedHistogram other = (WeightedHistogram) obj;
+    if (!layout.equals(other.layout)
+        || Double.compare(min, other.min) != 0
+        || Double.compare(max, other.max) != 0
+        || Double.compare(underflowWeight, other.underflowWeight) != 0
+        || Double.compare(overflowWeight, other.overflowWeight) != 0) {
+      return false;
+    }
+    final int minIndex = Math.min(indexOffset, other.indexOffset);
+    final int maxIndex =
+        Math.max(indexOffset + weights.length, other.indexOffset + other.weights.length);
+    for (int binIndex = minIndex; binIndex < maxIndex; ++binIndex) {
+      if (Double.compare(getRegularWeight(binIndex), other.getRegularWeight(binIndex)) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private double getRegularWeight(final int binIndex) {
+    final int i = binIndex - indexOffset;
+    return (i >= 0 && i < weights.length) ? weights[i] : 0.;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + " [layout="
+        + layout
+        + ", underflowWeight="
+        + underflowWeight
+        + ", overflowWeight="
+        + overflowWeight
+        + ", totalWeight="
+        + totalWeight
+        + ", min="
+        + min
+        + ", max="
+        + max
+        + "]";
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.bin;
+
+import com.dynatrace.dynahist.Histogram;
+
+/**
+ * A consumer of non-empty histogram bins.
+ *
+ * <p>In contrast to {@link Bin}, the bin properties are passed as primitive arguments, which allows
+ * visiting all bins of a histogram without any object allocation.
+ *
+ * @see Histogram#forEachNonEmptyBin(BinConsumer)
+ */
+@FunctionalInterface
+public interface BinConsumer {
+
+  /**
+   * Consumes a non-empty bin.
+   *
+   * @param binIndex the bin index as defined by the layout
+   * @param count the number of values in the bin, always positive
+   * @param lessCount the number of values in all bins with smaller index
+   */
+  void accept(int binIndex, long count, long lessCount);
+}
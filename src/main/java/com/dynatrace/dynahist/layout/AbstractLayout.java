@@ -21,25 +21,105 @@ import static com.dynatrace.dynahist.util.Algorithms.findFirst;
 import static com.dynatrace.dynahist.util.Algorithms.mapDoubleToLong;
 import static com.dynatrace.dynahist.util.Algorithms.mapLongToDouble;
 
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.LongStream;
+
 /**
  * An abstract {@link Layout} class that can be used if there is an approximate formula for the
  * reverse mapping (from bin index to bin boundaries).
  */
 abstract class AbstractLayout implements Layout {
 
+  private static final int BIN_BOUNDARY_CACHE_BLOCK_SIZE_LOG2 = 8;
+  private static final int BIN_BOUNDARY_CACHE_BLOCK_SIZE = 1 << BIN_BOUNDARY_CACHE_BLOCK_SIZE_LOG2;
+
+  /** Layouts with more bins do not cache their bin boundaries. */
+  static final int BIN_BOUNDARY_CACHE_MAX_SIZE = 1 << 20;
+
+  // the lower bound of any bin greater than the underflow bin is greater than negative infinity
+  private static final long UNKNOWN_BIN_LOWER_BOUND = NEGATIVE_INFINITY_MAPPED_TO_LONG;
+
+  private static final long[] UNKNOWN_BIN_LOWER_BOUNDS_BLOCK =
+      LongStream.generate(() -> UNKNOWN_BIN_LOWER_BOUND)
+          .limit(BIN_BOUNDARY_CACHE_BLOCK_SIZE)
+          .toArray();
+
+  private static final AtomicReferenceArray<AtomicLongArray> DISABLED_BIN_BOUNDARY_CACHE =
+      new AtomicReferenceArray<>(0);
+
+  /**
+   * Lazily filled cache of the bin lower bounds mapped to long values, starting with the bin index
+   * following the underflow bin index. Blocks are allocated on demand, which bounds the memory to
+   * the bin ranges actually used. Concurrent updates are benign, since all threads compute the
+   * same values.
+   */
+  private transient volatile AtomicReferenceArray<AtomicLongArray> binLowerBoundCache = null;
+
+  private AtomicReferenceArray<AtomicLongArray> getBinLowerBoundCache() {
+    AtomicReferenceArray<AtomicLongArray> cache = binLowerBoundCache;
+    if (cache == null) {
+      final long numCachedBinBounds = (long) getOverflowBinIndex() - getUnderflowBinIndex();
+      if (numCachedBinBounds <= BIN_BOUNDARY_CACHE_MAX_SIZE) {
+        cache =
+            new AtomicReferenceArray<>(
+                (int)
+                    ((numCachedBinBounds + BIN_BOUNDARY_CACHE_BLOCK_SIZE - 1)
+                        >>> BIN_BOUNDARY_CACHE_BLOCK_SIZE_LOG2));
+      } else {
+        cache = DISABLED_BIN_BOUNDARY_CACHE;
+      }
+      binLowerBoundCache = cache;
+    }
+    return cache;
+  }
+
+  private long calculateBinLowerBoundMappedToLong(final int binIndex) {
+    final double approximateBinLowerBound = getBinLowerBoundApproximation(binIndex);
+    return findFirst(
+        l -> mapToBinIndex(mapLongToDouble(l)) >= binIndex,
+        NEGATIVE_INFINITY_MAPPED_TO_LONG,
+        POSITIVE_INFINITY_MAPPED_TO_LONG,
+        mapDoubleToLong(approximateBinLowerBound));
+  }
+
+  /**
+   * Returns the lower bound of the bin with given index mapped to a long value.
+   *
+   * @param binIndex the bin index, must be greater than {@link #getUnderflowBinIndex()} and less
+   *     than or equal to {@link #getOverflowBinIndex()}
+   * @return the lower bound mapped to a long value
+   */
+  private long getBinLowerBoundMappedToLong(final int binIndex) {
+    final AtomicReferenceArray<AtomicLongArray> cache = getBinLowerBoundCache();
+    if (cache == DISABLED_BIN_BOUNDARY_CACHE) {
+      return calculateBinLowerBoundMappedToLong(binIndex);
+    }
+    final int cacheIndex = binIndex - getUnderflowBinIndex() - 1;
+    final int blockIndex = cacheIndex >>> BIN_BOUNDARY_CACHE_BLOCK_SIZE_LOG2;
+    final int indexInBlock = cacheIndex & (BIN_BOUNDARY_CACHE_BLOCK_SIZE - 1);
+    AtomicLongArray block = cache.get(blockIndex);
+    if (block == null) {
+      block = new AtomicLongArray(UNKNOWN_BIN_LOWER_BOUNDS_BLOCK);
+      if (!cache.compareAndSet(blockIndex, null, block)) {
+        block = cache.get(blockIndex);
+      }
+    }
+    long binLowerBound = block.get(indexInBlock);
+    if (binLowerBound == UNKNOWN_BIN_LOWER_BOUND) {
+      binLowerBound = calculateBinLowerBoundMappedToLong(binIndex);
+      block.lazySet(indexInBlock, binLowerBound);
+    }
+    return binLowerBound;
+  }
+
   @Override
   public final double getBinLowerBound(int binIndex) {
     if (binIndex <= getUnderflowBinIndex()) {
       return Double.NEGATIVE_INFINITY;
     }
     final int effectiveBinIndex = Math.min(getOverflowBinIndex(), binIndex);
-    final double approximateBinLowerBound = getBinLowerBoundApproximation(effectiveBinIndex);
-    return mapLongToDouble(
-        findFirst(
-            l -> mapToBinIndex(mapLongToDouble(l)) >= effectiveBinIndex,
-            NEGATIVE_INFINITY_MAPPED_TO_LONG,
-            POSITIVE_INFINITY_MAPPED_TO_LONG,
-            mapDoubleToLong(approximateBinLowerBound)));
+    return mapLongToDouble(getBinLowerBoundMappedToLong(effectiveBinIndex));
   }
 
   @Override
@@ -47,14 +127,10 @@ abstract class AbstractLayout implements Layout {
     if (binIndex >= getOverflowBinIndex()) {
       return Double.POSITIVE_INFINITY;
     }
+    // as the mapping to bin indices is monotonic, the upper bound is the predecessor of the lower
+    // bound of the next bin
     final int effectiveBinIndex = Math.max(getUnderflowBinIndex(), binIndex);
-    final double approximateBinUpperBound = getBinLowerBoundApproximation(effectiveBinIndex + 1);
-    return mapLongToDouble(
-        ~findFirst(
-            l -> mapToBinIndex(mapLongToDouble(~l)) <= effectiveBinIndex,
-            ~POSITIVE_INFINITY_MAPPED_TO_LONG,
-            ~NEGATIVE_INFINITY_MAPPED_TO_LONG,
-            ~mapDoubleToLong(approximateBinUpperBound)));
+    return mapLongToDouble(getBinLowerBoundMappedToLong(effectiveBinIndex + 1) - 1);
   }
 
   /**
@@ -33,11 +33,47 @@ public class CustomLayout implements Layout {
 
   private static final byte SERIAL_VERSION_V0 = 0;
 
+  // layouts with at most this number of bin boundaries are mapped using a linear scan
+  static final int MAX_NUM_BIN_BOUNDARIES_FOR_LINEAR_SCAN = 16;
+
   private final double[] sortedBinBoundaries;
 
+  // bin boundaries mapped to long values, in sorted order for a linear scan, or in Eytzinger order
+  // (breadth-first order of an implicit binary search tree, starting at index 1) otherwise
+  private final transient long[] mappedBinBoundaries;
+
+  // the bin index corresponding to each element of mappedBinBoundaries in Eytzinger order, the
+  // first element is the overflow bin index
+  private final transient int[] eytzingerBinIndices;
+
   private CustomLayout(double[] sortedBinBoundaries) {
     requireNonNull(sortedBinBoundaries);
     this.sortedBinBoundaries = sortedBinBoundaries;
+    final int len = sortedBinBoundaries.length;
+    if (len <= MAX_NUM_BIN_BOUNDARIES_FOR_LINEAR_SCAN) {
+      this.mappedBinBoundaries = new long[len];
+      for (int i = 0; i < len; ++i) {
+        mappedBinBoundaries[i] = mapDoubleToLong(sortedBinBoundaries[i]);
+      }
+      this.eytzingerBinIndices = null;
+    } else {
+      this.mappedBinBoundaries = new long[len + 1];
+      this.eytzingerBinIndices = new int[len + 1];
+      eytzingerBinIndices[0] = len;
+      fillEytzingerOrder(sortedBinBoundaries, 0, 1);
+    }
+  }
+
+  private int fillEytzingerOrder(
+      final double[] sortedBinBoundaries, int sortedIndex, final int eytzingerIndex) {
+    if (eytzingerIndex < mappedBinBoundaries.length) {
+      sortedIndex = fillEytzingerOrder(sortedBinBoundaries, sortedIndex, 2 * eytzingerIndex);
+      mappedBinBoundaries[eytzingerIndex] = mapDoubleToLong(sortedBinBoundaries[sortedIndex]);
+      eytzingerBinIndices[eytzingerIndex] = sortedIndex;
+      sortedIndex += 1;
+      sortedIndex = fillEytzingerOrder(sortedBinBoundaries, sortedIndex, 2 * eytzingerIndex + 1);
+    }
+    return sortedIndex;
   }
 
   /**
@@ -68,19 +104,58 @@ public class CustomLayout implements Layout {
       checkArgument(
           mapDoubleToLong(sortedBinBoundaries[i - 1]) < mapDoubleToLong(sortedBinBoundaries[i]));
     }
-    return new CustomLayout(Arrays.copyOf(sortedBinBoundaries, sortedBinBoundaries.length));
+    return createCached(Arrays.copyOf(sortedBinBoundaries, sortedBinBoundaries.length));
+  }
+
+  private static CustomLayout createCached(double[] sortedBinBoundaries) {
+    return LayoutCache.get(
+        new CacheKey(sortedBinBoundaries), () -> new CustomLayout(sortedBinBoundaries));
+  }
+
+  // only references the boundaries, which allows the layout to be garbage collected
+  private static final class CacheKey {
+    private final double[] sortedBinBoundaries;
+
+    private CacheKey(double[] sortedBinBoundaries) {
+      this.sortedBinBoundaries = sortedBinBoundaries;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(sortedBinBoundaries);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof CacheKey)) return false;
+      return Arrays.equals(sortedBinBoundaries, ((CacheKey) obj).sortedBinBoundaries);
+    }
   }
 
   @Override
   public int mapToBinIndex(double value) {
-    long mappedValue = Algorithms.mapDoubleToLong(value);
-    return (int)
-        Algorithms.findFirst(
-            l ->
-                l == sortedBinBoundaries.length
-                    || Algorithms.mapDoubleToLong(sortedBinBoundaries[(int) l]) > mappedValue,
-            0,
-            sortedBinBoundaries.length);
+    final long mappedValue = mapDoubleToLong(value);
+    final long[] boundaries = mappedBinBoundaries;
+    if (eytzingerBinIndices == null) {
+      // count the bin boundaries less than or equal to the value
+      int binIndex = 0;
+      for (int i = 0; i < boundaries.length; ++i) {
+        binIndex += (boundaries[i] <= mappedValue) ? 1 : 0;
+      }
+      return binIndex;
+    } else {
+      // descend the implicit search tree, going right whenever the bin boundary is less than or
+      // equal to the value
+      int k = 1;
+      while (k < boundaries.length) {
+        k = 2 * k + ((boundaries[k] <= mappedValue) ? 1 : 0);
+      }
+      // undo all right turns after the last left turn to get the first bin boundary greater than
+      // the value, which results in 0 if there is no such bin boundary
+      k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+      return eytzingerBinIndices[k];
+    }
   }
 
   @Override
@@ -127,7 +202,7 @@ public class CustomLayout implements Layout {
     for (int i = 0; i < len; ++i) {
       sortedBinBoundaries[i] = dataInput.readDouble();
     }
-    return new CustomLayout(sortedBinBoundaries);
+    return createCached(sortedBinBoundaries);
   }
 
   @Override
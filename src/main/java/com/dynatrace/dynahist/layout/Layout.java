@@ -47,6 +47,22 @@ public interface Layout {
    */
   int mapToBinIndex(double value);
 
+  /**
+   * Maps a given {@code long} value to a histogram bin index.
+   *
+   * <p>The returned index is always the same as that returned by {@link #mapToBinIndex(double)}
+   * for {@code (double) value}. Implementations may override this method, if the bin index can be
+   * derived faster from the bit representation using integer operations only. {@link
+   * LogLinearLayout} and {@link LogQuadraticLayout} do so, while other layouts convert the value to
+   * {@code double}.
+   *
+   * @param value a {@code long} value
+   * @return the index of the histogram bin to which the given value is mapped to
+   */
+  default int mapLongToBinIndex(long value) {
+    return mapToBinIndex((double) value);
+  }
+
   /**
    * Returns the maximum index that is associated with the underflow bin of the histogram.
    *
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.layout;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A cache of canonical {@link Layout} instances.
+ *
+ * <p>Layouts are looked up by a key that is built from the arguments of the corresponding factory
+ * or deserialization method, so that a cache hit avoids any computation. Reusing canonical
+ * instances also turns most equality checks of layouts into reference comparisons.
+ *
+ * <p>Layouts are only weakly referenced and can therefore be garbage collected once they are no
+ * longer used. Entries of collected layouts are removed when the cache is full. If the cache is
+ * still full afterwards, further layouts are not cached.
+ *
+ * <p>This class is thread-safe.
+ */
+final class LayoutCache {
+
+  /** The maximum number of cached keys. */
+  static final int MAX_SIZE = 1 << 10;
+
+  private static final ConcurrentHashMap<Object, WeakReference<Layout>> INSTANCES =
+      new ConcurrentHashMap<>();
+
+  private LayoutCache() {}
+
+  /**
+   * Creates a key from the given components.
+   *
+   * <p>Components are compared using {@link Object#equals(Object)}, in particular {@link Double}
+   * components are compared by their bit representations.
+   *
+   * @param components the components of the key, the first one is expected to be the layout class
+   * @return the key
+   */
+  static Object key(Object... components) {
+    return Arrays.asList(components);
+  }
+
+  /**
+   * Returns the cached layout for the given key, or the layout created by the given factory, which
+   * is then cached if there is capacity left.
+   *
+   * <p>The factory may itself access the cache. If the factory throws an exception, nothing is
+   * cached. The key must not reference the created layout, as it would never be garbage collected
+   * otherwise.
+   *
+   * @param key the key
+   * @param factory the factory creating the layout
+   * @param <T> the layout type
+   * @return the canonical layout instance
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends Layout> T get(Object key, Supplier<T> factory) {
+    final WeakReference<Layout> reference = INSTANCES.get(key);
+    if (reference != null) {
+      final Layout layout = reference.get();
+      if (layout != null) {
+        return (T) layout;
+      }
+    }
+    final T newLayout = factory.get();
+    if (INSTANCES.size() >= MAX_SIZE) {
+      INSTANCES.values().removeIf(r -> r.get() == null);
+      if (INSTANCES.size() >= MAX_SIZE) {
+        return newLayout;
+      }
+    }
+    final Layout layout =
+        INSTANCES
+            .merge(
+                key,
+                new WeakReference<>(newLayout),
+                (oldReference, newReference) ->
+                    (oldReference.get() != null) ? oldReference : newReference)
+            .get();
+    return (layout != null) ? (T) layout : newLayout;
+  }
+
+  static int size() {
+    return INSTANCES.size();
+  }
+
+  static void clear() {
+    INSTANCES.clear();
+  }
+}
@@ -24,12 +24,21 @@ import com.dynatrace.dynahist.util.Algorithms;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A histogram bin layout where all bins covering the given range have a width that is either
  * smaller than a given absolute bin width limit or a given relative bin width limit. This layout is
- * optimal in terms of memory-efficiency. However, the mapping of values to bins is significantly
- * slower compared to {@link LogLinearLayout} and {@link LogQuadraticLayout}.
+ * optimal in terms of memory-efficiency. Values are mapped to bins using a lookup table whose
+ * entries are computed on first use. For layouts with too many bins and for values not covered by
+ * the table, the mapping evaluates the logarithm, which is slower compared to {@link
+ * LogLinearLayout} and {@link LogQuadraticLayout}.
+ *
+ * <p>The mapping is platform-independent, as it is defined by a strict evaluation of the logarithm
+ * using {@link StrictMath}. The lookup table is derived from this strict evaluation. Outside of the
+ * table, the faster {@link Math#log(double)} is used, unless the value is so close to a bin
+ * boundary that both evaluations could lead to different bin indices. Therefore, histograms
+ * recorded on different platforms can be merged.
  *
  * <p>This class is immutable.
  */
@@ -37,7 +46,13 @@ public final class LogOptimalLayout extends AbstractLayout {
 
   private static final byte SERIAL_VERSION_V0 = 0;
 
-  private static final double LOG_MIN_VALUE = Math.log(Double.MIN_VALUE);
+  private static final double LOG_MIN_VALUE = StrictMath.log(Double.MIN_VALUE);
+
+  /** Layouts that would require a larger mapping table evaluate the logarithm instead. */
+  static final int MAX_MAPPING_TABLE_SIZE = 1 << 18;
+
+  /** Layouts with a smaller relative bin width limit evaluate the logarithm instead. */
+  private static final double MIN_MAPPING_TABLE_RELATIVE_BIN_WIDTH_LIMIT = 0x1p-24;
 
   private final double absoluteBinWidthLimit;
   private final double relativeBinWidthLimit;
@@ -50,6 +65,10 @@ public final class LogOptimalLayout extends AbstractLayout {
 
   private final transient double offset;
   private final transient long unsignedValueBitsNormalLimit;
+  private final transient double normalIdxTolerance;
+
+  // lookup table for the mapping of normal values
+  private final transient MappingTable mappingTable;
 
   /**
    * Creates a histogram bin layout covering a given range and with bins that have absolute and
@@ -78,6 +97,27 @@ public final class LogOptimalLayout extends AbstractLayout {
     checkArgument(relativeBinWidthLimit >= 0);
     checkArgument(relativeBinWidthLimit <= Double.MAX_VALUE);
 
+    return LayoutCache.get(
+        LayoutCache.key(
+            LogOptimalLayout.class,
+            absoluteBinWidthLimit,
+            relativeBinWidthLimit,
+            valueRangeLowerBound,
+            valueRangeUpperBound),
+        () ->
+            createUncached(
+                absoluteBinWidthLimit,
+                relativeBinWidthLimit,
+                valueRangeLowerBound,
+                valueRangeUpperBound));
+  }
+
+  private static LogOptimalLayout createUncached(
+      final double absoluteBinWidthLimit,
+      final double relativeBinWidthLimit,
+      final double valueRangeLowerBound,
+      final double valueRangeUpperBound) {
+
     final int firstNormalIdx = calculateFirstNormalIndex(relativeBinWidthLimit);
     // will always be >= 1 because 0 <= relativeBinWidthLimit <= Double.MAX_VALUE
 
@@ -114,15 +154,23 @@ public final class LogOptimalLayout extends AbstractLayout {
     checkArgument(
         (long) overflowBinIndex - (long) underflowBinIndex - 1L <= (long) Integer.MAX_VALUE);
 
-    return new LogOptimalLayout(
-        absoluteBinWidthLimit,
-        relativeBinWidthLimit,
-        underflowBinIndex,
-        overflowBinIndex,
-        factorNormal,
-        factorSubnormal,
-        offset,
-        unsignedValueBitsNormalLimit);
+    return LayoutCache.get(
+        LayoutCache.key(
+            LogOptimalLayout.class,
+            absoluteBinWidthLimit,
+            relativeBinWidthLimit,
+            underflowBinIndex,
+            overflowBinIndex),
+        () ->
+            new LogOptimalLayout(
+                absoluteBinWidthLimit,
+                relativeBinWidthLimit,
+                underflowBinIndex,
+                overflowBinIndex,
+                factorNormal,
+                factorSubnormal,
+                offset,
+                unsignedValueBitsNormalLimit));
   }
 
   private LogOptimalLayout(
@@ -143,6 +191,185 @@ public final class LogOptimalLayout extends AbstractLayout {
     this.factorSubnormal = factorSubnormal;
     this.offset = offset;
     this.unsignedValueBitsNormalLimit = unsignedValueBitsNormalLimit;
+    this.normalIdxTolerance = calculateNormalIdxTolerance(factorNormal, offset);
+    this.mappingTable =
+        MappingTable.create(
+            relativeBinWidthLimit,
+            Math.max(overflowBinIndex, ~underflowBinIndex),
+            factorNormal,
+            offset,
+            unsignedValueBitsNormalLimit,
+            normalIdxTolerance);
+  }
+
+  /**
+   * Lookup table for the mapping of normal values.
+   *
+   * <p>The raw bits of an unsigned value shifted right by {@link #shift}, which leaves the exponent
+   * and the most significant mantissa bits, give the table key relative to {@link #firstKey}. Each
+   * segment of values sharing the same key contains at most one bin boundary. The bin index is that
+   * of the first value in the segment, incremented by one if the raw bits of the value are greater
+   * than or equal to the transition of the segment.
+   *
+   * <p>Segments are computed in blocks on first use, which bounds the costs of creating the layout
+   * and of mapping the first value. Concurrent initialization of blocks is benign, since all
+   * threads compute the same values.
+   */
+  private static final class MappingTable {
+
+    private static final int BLOCK_SIZE_LOG2 = 8;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SIZE_LOG2;
+
+    private static final MappingTable EMPTY = new MappingTable(0, 0, 0, 0, 0, 0, 0);
+
+    private final int shift;
+    private final long firstKey;
+    private final int numSegments;
+    private final double factorNormal;
+    private final double offset;
+    private final long unsignedValueBitsNormalLimit;
+    private final double normalIdxTolerance;
+    private final AtomicReferenceArray<Block> blocks;
+
+    private static final class Block {
+      private final int[] binIndices = new int[BLOCK_SIZE];
+      private final long[] transitions = new long[BLOCK_SIZE];
+    }
+
+    private MappingTable(
+        int shift,
+        long firstKey,
+        int numSegments,
+        double factorNormal,
+        double offset,
+        long unsignedValueBitsNormalLimit,
+        double normalIdxTolerance) {
+      this.shift = shift;
+      this.firstKey = firstKey;
+      this.numSegments = numSegments;
+      this.factorNormal = factorNormal;
+      this.offset = offset;
+      this.unsignedValueBitsNormalLimit = unsignedValueBitsNormalLimit;
+      this.normalIdxTolerance = normalIdxTolerance;
+      this.blocks = new AtomicReferenceArray<>((numSegments + BLOCK_SIZE - 1) >>> BLOCK_SIZE_LOG2);
+    }
+
+    /**
+     * Creates a lookup table for all normal values with unsigned bin index up to the given maximum.
+     *
+     * <p>Returns an empty table, if there are no such values or if the table would get too large.
+     */
+    static MappingTable create(
+        final double relativeBinWidthLimit,
+        final int maxUnsignedBinIndex,
+        final double factorNormal,
+        final double offset,
+        final long unsignedValueBitsNormalLimit,
+        final double normalIdxTolerance) {
+
+      final long maxValueBits = Double.doubleToRawLongBits(Double.MAX_VALUE);
+      if (unsignedValueBitsNormalLimit > maxValueBits
+          || relativeBinWidthLimit < MIN_MAPPING_TABLE_RELATIVE_BIN_WIDTH_LIMIT
+          || maxUnsignedBinIndex == Integer.MAX_VALUE
+          || calculateNormalIdx(unsignedValueBitsNormalLimit, factorNormal, offset)
+              > maxUnsignedBinIndex) {
+        return EMPTY;
+      }
+
+      // the first value with an unsigned bin index greater than the maximum, or the maximum value
+      final long endValueBits =
+          Algorithms.findFirst(
+              l ->
+                  l == maxValueBits
+                      || calculateNormalIdx(
+                              Double.longBitsToDouble(l), factorNormal, offset, normalIdxTolerance)
+                          > maxUnsignedBinIndex,
+              unsignedValueBitsNormalLimit,
+              maxValueBits);
+
+      // The relative width of a segment is at most 2^(-numMantissaBits), which is smaller than the
+      // relative bin width limit by at least a factor of 1 - 2^(-8). All bins above the normal
+      // limit have this relative width, apart from rounding errors of the bin boundaries, which are
+      // far below this margin given the minimum relative bin width limit. Therefore, a segment
+      // cannot contain more than a single bin boundary.
+      final int numMantissaBits =
+          Math.max(0, -Math.getExponent(relativeBinWidthLimit * (1. - 0x1p-8)));
+      final int shift = 52 - numMantissaBits;
+      final long firstKey = unsignedValueBitsNormalLimit >>> shift;
+      final long numSegments = (endValueBits >>> shift) - firstKey + 1;
+      if (numSegments > MAX_MAPPING_TABLE_SIZE) {
+        return EMPTY;
+      }
+      return new MappingTable(
+          shift,
+          firstKey,
+          (int) numSegments,
+          factorNormal,
+          offset,
+          unsignedValueBitsNormalLimit,
+          normalIdxTolerance);
+    }
+
+    int mapToBinIndex(final long unsignedValueBits, final int segmentIndex) {
+      final int blockIndex = segmentIndex >>> BLOCK_SIZE_LOG2;
+      Block block = blocks.get(blockIndex);
+      if (block == null) {
+        block = createBlock(blockIndex);
+        blocks.lazySet(blockIndex, block);
+      }
+      final int indexInBlock = segmentIndex & (BLOCK_SIZE - 1);
+      return block.binIndices[indexInBlock]
+          + ((unsignedValueBits >= block.transitions[indexInBlock]) ? 1 : 0);
+    }
+
+    private Block createBlock(final int blockIndex) {
+      final Block block = new Block();
+      final int firstSegmentIndex = blockIndex << BLOCK_SIZE_LOG2;
+      final int endSegmentIndex = Math.min(numSegments, firstSegmentIndex + BLOCK_SIZE);
+      for (int k = firstSegmentIndex; k < endSegmentIndex; ++k) {
+        final long firstValueBits =
+            Math.max((firstKey + k) << shift, unsignedValueBitsNormalLimit);
+        final long lastValueBits = ((firstKey + k + 1) << shift) - 1;
+        final int firstBinIndex = calculateBinIndex(firstValueBits);
+        final int lastBinIndex = calculateBinIndex(lastValueBits);
+        final int indexInBlock = k - firstSegmentIndex;
+        block.binIndices[indexInBlock] = firstBinIndex;
+        if (lastBinIndex == firstBinIndex) {
+          block.transitions[indexInBlock] = Long.MAX_VALUE;
+        } else {
+          final long initialGuess =
+              Math.min(
+                  lastValueBits,
+                  Math.max(
+                      firstValueBits,
+                      Double.doubleToRawLongBits(
+                          calculateTransitionApproximation(firstValueBits, lastBinIndex))));
+          block.transitions[indexInBlock] =
+              Algorithms.findFirst(
+                  l -> calculateBinIndex(l) >= lastBinIndex,
+                  firstValueBits,
+                  lastValueBits,
+                  initialGuess);
+        }
+      }
+      return block;
+    }
+
+    private int calculateBinIndex(final long unsignedValueBits) {
+      return LogOptimalLayout.calculateNormalIdx(
+          Double.longBitsToDouble(unsignedValueBits), factorNormal, offset, normalIdxTolerance);
+    }
+
+    /**
+     * Approximates the smallest value with given bin index by a single Newton step starting from
+     * the given value.
+     */
+    private double calculateTransitionApproximation(
+        final long unsignedValueBits, final int binIndex) {
+      final double unsignedValue = Double.longBitsToDouble(unsignedValueBits);
+      final double x = factorNormal * (Math.log(unsignedValue) - LOG_MIN_VALUE) + offset;
+      return unsignedValue * Math.exp((binIndex - x) / factorNormal);
+    }
   }
 
   static long calculateUnsignedValueBitsNormalLimit(double factorSubnormal, int firstNormalIdx) {
@@ -171,7 +398,7 @@ public final class LogOptimalLayout extends AbstractLayout {
     return 1d / absoluteBinWidthLimit;
   }
 
-  static double calculateOffset(
+  static strictfp double calculateOffset(
       long unsignedValueBitsNormalLimit, double factorNormal, int firstNormalIdx) {
 
     final double unsignedNormalLimit = Double.longBitsToDouble(unsignedValueBitsNormalLimit);
@@ -188,7 +415,7 @@ public final class LogOptimalLayout extends AbstractLayout {
                 calculateOffsetApproximate(unsignedNormalLimit, factorNormal, firstNormalIdx))));
   }
 
-  static double calculateOffsetApproximate(
+  static strictfp double calculateOffsetApproximate(
       double unsignedNormalLimit, double factorNormal, int firstNormalIdx) {
     return firstNormalIdx - factorNormal * mapToBinIndexHelper(unsignedNormalLimit);
   }
@@ -198,25 +425,62 @@ public final class LogOptimalLayout extends AbstractLayout {
    *
    * <p>This function is monotonically increasing for all positive arguments.
    */
-  static double mapToBinIndexHelper(final double unsignedValue) {
-    return Math.log(unsignedValue) - LOG_MIN_VALUE;
+  static strictfp double mapToBinIndexHelper(final double unsignedValue) {
+    return StrictMath.log(unsignedValue) - LOG_MIN_VALUE;
   }
 
-  private static int calculateNormalIdx(
+  private static strictfp int calculateNormalIdx(
       final double unsignedValue, final double factorNormal, final double offset) {
     return (int) (factorNormal * mapToBinIndexHelper(unsignedValue) + offset);
   }
 
-  private static int calculateSubNormalIdx(
+  private static int calculateNormalIdx(
+      final long unsignedValueBits, final double factorNormal, final double offset) {
+    return calculateNormalIdx(Double.longBitsToDouble(unsignedValueBits), factorNormal, offset);
+  }
+
+  /**
+   * Returns the same bin index as {@link #calculateNormalIdx(double, double, double)} for normal
+   * values, but evaluates the logarithm using the faster {@link Math#log(double)}, unless the
+   * result is within the given tolerance of an integer.
+   */
+  private static int calculateNormalIdx(
+      final double unsignedValue,
+      final double factorNormal,
+      final double offset,
+      final double tolerance) {
+    final double x = factorNormal * (Math.log(unsignedValue) - LOG_MIN_VALUE) + offset;
+    if (Math.abs(x - Math.rint(x)) > tolerance) {
+      return (int) x;
+    }
+    return calculateNormalIdx(unsignedValue, factorNormal, offset);
+  }
+
+  /**
+   * Returns an upper bound for the absolute difference of {@code factorNormal *
+   * mapToBinIndexHelper(unsignedValue) + offset} for normal values, if the logarithm is evaluated
+   * using {@link Math#log(double)} instead of {@link StrictMath#log(double)}.
+   *
+   * <p>Both logarithms are within 1 ulp of the exact result, which is less than 2^-42 as the
+   * absolute value of the logarithm is less than 745. The subsequent subtraction, multiplication,
+   * and addition propagate this difference and add rounding errors relative to the magnitude of
+   * their results, which are bounded using {@code mapToBinIndexHelper(unsignedValue) < 2048}. The
+   * returned bound exceeds the sum of all these errors by a large margin.
+   */
+  static double calculateNormalIdxTolerance(final double factorNormal, final double offset) {
+    return (factorNormal * 2048. + Math.abs(offset)) * 0x1p-40;
+  }
+
+  private static strictfp int calculateSubNormalIdx(
       final double unsignedValue, final double factorSubnormal) {
     return (int) (factorSubnormal * unsignedValue);
   }
 
-  // Unfortunately this mapping is not platform-independent. It would be independent if the strictfp
-  // keyword was used for this method and all called methods. Due to a performance penalty (see
-  // https://bugs.openjdk.java.net/browse/JDK-8136414) of strictfp, which is hopefully fixed in Java
-  // 15, we have omitted strictfp here in the meantime.
-  private static int mapToBinIndex(
+  // This mapping is platform-independent, because strictfp and StrictMath are used for this method
+  // and all called methods. The performance penalty of StrictMath.log compared to Math.log (see
+  // also https://bugs.openjdk.java.net/browse/JDK-8136414) is only paid when building the mapping
+  // table and for values close to bin boundaries which are not covered by the table.
+  private static strictfp int mapToBinIndex(
       final double value,
       final double factorNormal,
       final double factorSubnormal,
@@ -238,10 +502,39 @@ public final class LogOptimalLayout extends AbstractLayout {
 
   @Override
   public final int mapToBinIndex(final double value) {
+    final long valueBits = Double.doubleToRawLongBits(value);
+    final long unsignedValueBits = valueBits & 0x7fffffffffffffffL;
+    final int idx;
+    if (unsignedValueBits >= 0x7ff0000000000000L) {
+      idx = 0x7fffffff;
+    } else if (unsignedValueBits >= unsignedValueBitsNormalLimit) {
+      // the key is nonnegative for values greater than or equal to the normal limit
+      final long key = (unsignedValueBits >>> mappingTable.shift) - mappingTable.firstKey;
+      if (key < mappingTable.numSegments) {
+        idx = mappingTable.mapToBinIndex(unsignedValueBits, (int) key);
+      } else {
+        idx =
+            calculateNormalIdx(
+                Double.longBitsToDouble(unsignedValueBits),
+                factorNormal,
+                offset,
+                normalIdxTolerance);
+      }
+    } else {
+      idx = calculateSubNormalIdx(Double.longBitsToDouble(unsignedValueBits), factorSubnormal);
+    }
+    return (valueBits >= 0) ? idx : ~idx;
+  }
+
+  int mapToBinIndexUsingLogarithm(final double value) {
     return mapToBinIndex(
         value, factorNormal, factorSubnormal, unsignedValueBitsNormalLimit, offset);
   }
 
+  int getMappingTableSize() {
+    return mappingTable.numSegments;
+  }
+
   @Override
   public int getUnderflowBinIndex() {
     return underflowBinIndex;
@@ -252,6 +545,24 @@ public final class LogOptimalLayout extends AbstractLayout {
     return overflowBinIndex;
   }
 
+  /**
+   * Returns the absolute bin width limit.
+   *
+   * @return the absolute bin width limit
+   */
+  public double getAbsoluteBinWidthLimit() {
+    return absoluteBinWidthLimit;
+  }
+
+  /**
+   * Returns the relative bin width limit.
+   *
+   * @return the relative bin width limit
+   */
+  public double getRelativeBinWidthLimit() {
+    return relativeBinWidthLimit;
+  }
+
   public void write(DataOutput dataOutput) throws IOException {
     dataOutput.writeByte(SERIAL_VERSION_V0);
     dataOutput.writeDouble(absoluteBinWidthLimit);
@@ -267,25 +578,46 @@ public final class LogOptimalLayout extends AbstractLayout {
     int underflowBinIndexTmp = SerializationUtil.readSignedVarInt(dataInput);
     int overflowBinIndexTmp = SerializationUtil.readSignedVarInt(dataInput);
 
-    final int firstNormalIdxTmp = calculateFirstNormalIndex(relativeBinWidthLimitTmp);
-    final double factorNormalTmp = calculateFactorNormal(relativeBinWidthLimitTmp);
-    final double factorSubnormalTmp = calculateFactorSubNormal(absoluteBinWidthLimitTmp);
+    return LayoutCache.get(
+        LayoutCache.key(
+            LogOptimalLayout.class,
+            absoluteBinWidthLimitTmp,
+            relativeBinWidthLimitTmp,
+            underflowBinIndexTmp,
+            overflowBinIndexTmp),
+        () ->
+            createFromBinIndices(
+                absoluteBinWidthLimitTmp,
+                relativeBinWidthLimitTmp,
+                underflowBinIndexTmp,
+                overflowBinIndexTmp));
+  }
+
+  private static LogOptimalLayout createFromBinIndices(
+      final double absoluteBinWidthLimit,
+      final double relativeBinWidthLimit,
+      final int underflowBinIndex,
+      final int overflowBinIndex) {
+
+    final int firstNormalIdx = calculateFirstNormalIndex(relativeBinWidthLimit);
+    final double factorNormal = calculateFactorNormal(relativeBinWidthLimit);
+    final double factorSubnormal = calculateFactorSubNormal(absoluteBinWidthLimit);
 
-    final long unsignedValueBitsNormalLimitTmp =
-        calculateUnsignedValueBitsNormalLimit(factorSubnormalTmp, firstNormalIdxTmp);
+    final long unsignedValueBitsNormalLimit =
+        calculateUnsignedValueBitsNormalLimit(factorSubnormal, firstNormalIdx);
 
-    final double offsetTmp =
-        calculateOffset(unsignedValueBitsNormalLimitTmp, factorNormalTmp, firstNormalIdxTmp);
+    final double offset =
+        calculateOffset(unsignedValueBitsNormalLimit, factorNormal, firstNormalIdx);
 
     return new LogOptimalLayout(
-        absoluteBinWidthLimitTmp,
-        relativeBinWidthLimitTmp,
-        underflowBinIndexTmp,
-        overflowBinIndexTmp,
-        factorNormalTmp,
-        factorSubnormalTmp,
-        offsetTmp,
-        unsignedValueBitsNormalLimitTmp);
+        absoluteBinWidthLimit,
+        relativeBinWidthLimit,
+        underflowBinIndex,
+        overflowBinIndex,
+        factorNormal,
+        factorSubnormal,
+        offset,
+        unsignedValueBitsNormalLimit);
   }
 
   @Override
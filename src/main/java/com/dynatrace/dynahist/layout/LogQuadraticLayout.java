@@ -75,6 +75,27 @@ public final class LogQuadraticLayout extends AbstractLayout {
     checkArgument(relativeBinWidthLimit >= 0);
     checkArgument(relativeBinWidthLimit <= Double.MAX_VALUE);
 
+    return LayoutCache.get(
+        LayoutCache.key(
+            LogQuadraticLayout.class,
+            absoluteBinWidthLimit,
+            relativeBinWidthLimit,
+            valueRangeLowerBound,
+            valueRangeUpperBound),
+        () ->
+            createUncached(
+                absoluteBinWidthLimit,
+                relativeBinWidthLimit,
+                valueRangeLowerBound,
+                valueRangeUpperBound));
+  }
+
+  private static LogQuadraticLayout createUncached(
+      final double absoluteBinWidthLimit,
+      final double relativeBinWidthLimit,
+      final double valueRangeLowerBound,
+      final double valueRangeUpperBound) {
+
     final int firstNormalIdx = calculateFirstNormalIndex(relativeBinWidthLimit);
     // will always be >= 1 because 0 <= relativeBinWidthLimit <= Double.MAX_VALUE
 
@@ -111,15 +132,23 @@ public final class LogQuadraticLayout extends AbstractLayout {
     checkArgument(
         (long) overflowBinIndex - (long) underflowBinIndex - 1L <= (long) Integer.MAX_VALUE);
 
-    return new LogQuadraticLayout(
-        absoluteBinWidthLimit,
-        relativeBinWidthLimit,
-        underflowBinIndex,
-        overflowBinIndex,
-        factorNormal,
-        factorSubnormal,
-        offset,
-        unsignedValueBitsNormalLimit);
+    return LayoutCache.get(
+        LayoutCache.key(
+            LogQuadraticLayout.class,
+            absoluteBinWidthLimit,
+            relativeBinWidthLimit,
+            underflowBinIndex,
+            overflowBinIndex),
+        () ->
+            new LogQuadraticLayout(
+                absoluteBinWidthLimit,
+                relativeBinWidthLimit,
+                underflowBinIndex,
+                overflowBinIndex,
+                factorNormal,
+                factorSubnormal,
+                offset,
+                unsignedValueBitsNormalLimit));
   }
 
   private LogQuadraticLayout(
@@ -225,7 +254,20 @@ public final class LogQuadraticLayout extends AbstractLayout {
       final double factorSubnormal,
       final long unsignedValueBitsNormalLimit,
       final double offset) {
-    final long valueBits = Double.doubleToRawLongBits(value);
+    return mapBitsToBinIndex(
+        Double.doubleToRawLongBits(value),
+        factorNormal,
+        factorSubnormal,
+        unsignedValueBitsNormalLimit,
+        offset);
+  }
+
+  private static int mapBitsToBinIndex(
+      final long valueBits,
+      final double factorNormal,
+      final double factorSubnormal,
+      final long unsignedValueBitsNormalLimit,
+      final double offset) {
     final long unsignedValueBits = valueBits & 0x7fffffffffffffffL;
     final int idx;
     if (unsignedValueBits >= unsignedValueBitsNormalLimit) {
@@ -242,6 +284,16 @@ public final class LogQuadraticLayout extends AbstractLayout {
         value, factorNormal, factorSubnormal, unsignedValueBitsNormalLimit, offset);
   }
 
+  @Override
+  public int mapLongToBinIndex(final long value) {
+    return mapBitsToBinIndex(
+        Algorithms.mapLongToRawDoubleBits(value),
+        factorNormal,
+        factorSubnormal,
+        unsignedValueBitsNormalLimit,
+        offset);
+  }
+
   @Override
   public int getUnderflowBinIndex() {
     return underflowBinIndex;
@@ -252,6 +304,24 @@ public final class LogQuadraticLayout extends AbstractLayout {
     return overflowBinIndex;
   }
 
+  /**
+   * Returns the absolute bin width limit.
+   *
+   * @return the absolute bin width limit
+   */
+  public double getAbsoluteBinWidthLimit() {
+    return absoluteBinWidthLimit;
+  }
+
+  /**
+   * Returns the relative bin width limit.
+   *
+   * @return the relative bin width limit
+   */
+  public double getRelativeBinWidthLimit() {
+    return relativeBinWidthLimit;
+  }
+
   public void write(DataOutput dataOutput) throws IOException {
     dataOutput.writeByte(SERIAL_VERSION_V0);
     dataOutput.writeDouble(absoluteBinWidthLimit);
@@ -267,25 +337,46 @@ public final class LogQuadraticLayout extends AbstractLayout {
     int underflowBinIndexTmp = SerializationUtil.readSignedVarInt(dataInput);
     int overflowBinIndexTmp = SerializationUtil.readSignedVarInt(dataInput);
 
-    final int firstNormalIdxTmp = calculateFirstNormalIndex(relativeBinWidthLimitTmp);
-    final double factorNormalTmp = calculateFactorNormal(relativeBinWidthLimitTmp);
-    final double factorSubnormalTmp = calculateFactorSubNormal(absoluteBinWidthLimitTmp);
+    return LayoutCache.get(
+        LayoutCache.key(
+            LogQuadraticLayout.class,
+            absoluteBinWidthLimitTmp,
+            relativeBinWidthLimitTmp,
+            underflowBinIndexTmp,
+            overflowBinIndexTmp),
+        () ->
+            createFromBinIndices(
+                absoluteBinWidthLimitTmp,
+                relativeBinWidthLimitTmp,
+                underflowBinIndexTmp,
+                overflowBinIndexTmp));
+  }
+
+  private static LogQuadraticLayout createFromBinIndices(
+      final double absoluteBinWidthLimit,
+      final double relativeBinWidthLimit,
+      final int underflowBinIndex,
+      final int overflowBinIndex) {
+
+    final int firstNormalIdx = calculateFirstNormalIndex(relativeBinWidthLimit);
+    final double factorNormal = calculateFactorNormal(relativeBinWidthLimit);
+    final double factorSubnormal = calculateFactorSubNormal(absoluteBinWidthLimit);
 
-    final long unsignedValueBitsNormalLimitTmp =
-        calculateUnsignedValueBitsNormalLimit(factorSubnormalTmp, firstNormalIdxTmp);
+    final long unsignedValueBitsNormalLimit =
+        calculateUnsignedValueBitsNormalLimit(factorSubnormal, firstNormalIdx);
 
-    final double offsetTmp =
-        calculateOffset(unsignedValueBitsNormalLimitTmp, factorNormalTmp, firstNormalIdxTmp);
+    final double offset =
+        calculateOffset(unsignedValueBitsNormalLimit, factorNormal, firstNormalIdx);
 
     return new LogQuadraticLayout(
-        absoluteBinWidthLimitTmp,
-        relativeBinWidthLimitTmp,
-        underflowBinIndexTmp,
-        overflowBinIndexTmp,
-        factorNormalTmp,
-        factorSubnormalTmp,
-        offsetTmp,
-        unsignedValueBitsNormalLimitTmp);
+        absoluteBinWidthLimit,
+        relativeBinWidthLimit,
+        underflowBinIndex,
+        overflowBinIndex,
+        factorNormal,
+        factorSubnormal,
+        offset,
+        unsignedValueBitsNormalLimit);
   }
 
   @Override
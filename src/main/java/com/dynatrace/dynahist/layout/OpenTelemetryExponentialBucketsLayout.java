@@ -156,6 +156,56 @@ public final class OpenTelemetryExponentialBucketsLayout extends AbstractLayout
     return (valueBits >= 0) ? index : -index;
   }
 
+  /**
+   * Returns the scale of this layout.
+   *
+   * @return the scale
+   */
+  public int getScale() {
+    return scale;
+  }
+
+  /**
+   * Returns the index of the bin of the layout with given smaller scale that contains the bin with
+   * given index.
+   *
+   * <p>Decreasing the scale by one merges pairs of adjacent bins. Therefore, every bin of this
+   * layout is entirely contained in a single bin of a layout with smaller scale, which allows to
+   * merge histograms of different scales without mapping any values.
+   *
+   * @param binIndex the bin index with respect to this layout
+   * @param newScale the scale of the other layout, must not be greater than the scale of this
+   *     layout
+   * @return the bin index with respect to the layout with given scale
+   */
+  public int getDownscaledBinIndex(int binIndex, int newScale) {
+    checkArgument(newScale >= 0);
+    checkArgument(newScale <= scale);
+    if (newScale == scale) {
+      return Math.max(underflowBinIndex, Math.min(overflowBinIndex, binIndex));
+    }
+    final OpenTelemetryExponentialBucketsLayout newLayout = create(newScale);
+    if (binIndex <= underflowBinIndex) {
+      return newLayout.underflowBinIndex;
+    } else if (binIndex >= overflowBinIndex) {
+      return newLayout.overflowBinIndex;
+    } else if (binIndex >= 0) {
+      return newLayout.getDownscaledBinIndexHelper(binIndex, this);
+    } else {
+      return -newLayout.getDownscaledBinIndexHelper(-binIndex, this);
+    }
+  }
+
+  private int getDownscaledBinIndexHelper(
+      int absBinIndex, OpenTelemetryExponentialBucketsLayout layout) {
+    if (absBinIndex < layout.firstNormalValueBits) {
+      // in this range bin indices are equal to the raw bits of the contained value
+      return mapToBinIndex(Double.longBitsToDouble(absBinIndex));
+    } else {
+      return ((absBinIndex - layout.indexOffset) >> (layout.scale - scale)) + indexOffset;
+    }
+  }
+
   @Override
   public int getUnderflowBinIndex() {
     return underflowBinIndex;
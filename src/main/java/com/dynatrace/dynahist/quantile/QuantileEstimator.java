@@ -15,6 +15,7 @@
  */
 package com.dynatrace.dynahist.quantile;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.LongToDoubleFunction;
 
 /** A quantile estimator. */
@@ -39,6 +40,45 @@ public interface QuantileEstimator {
   double estimateQuantile(
       final double p, final LongToDoubleFunction sortedValueFunction, final long numValues);
 
+  /**
+   * Estimates the quantile from sorted weighted data which can be accessed through the given
+   * continuous function of the rank.
+   *
+   * <p>Weighted data is described by an effective number of values n, which does not need to be
+   * integral, and a nondecreasing function that maps ranks in the range [0, n - 1] to values. If
+   * all weights are equal, n is equal to the number of values, and the function is expected to
+   * return the i-th smallest (0-based) value for integral ranks i and to interpolate linearly in
+   * between. In this case the estimate is the same as that of {@link #estimateQuantile(double,
+   * LongToDoubleFunction, long)}. Scaling all weights by the same factor must not change n nor the
+   * function, so that the estimate only depends on the relative weights.
+   *
+   * <p>If n is equal to 0 the return value will always be {@link Double#isNaN()}.
+   *
+   * <p>The default implementation rounds n to an integral number of values, which are mapped to
+   * equidistant ranks in [0, n - 1]. Implementations should override this method, if they can be
+   * generalized to non-integral numbers of values.
+   *
+   * @param p specifies the quantile, must be in [0,1], e.g. 0.5 specifies the median
+   * @param sortedValueFunction a nondecreasing function of the rank, the function must accept any
+   *     arguments in [0, n - 1]
+   * @param effectiveNumberOfValues the effective number of values n, must be either 0 or at least
+   *     1
+   * @return the quantile estimate
+   */
+  default double estimateWeightedQuantile(
+      final double p,
+      final DoubleUnaryOperator sortedValueFunction,
+      final double effectiveNumberOfValues) {
+    if (!(effectiveNumberOfValues > 0)) {
+      return Double.NaN;
+    }
+    final long numValues = Math.max(1L, Math.round(effectiveNumberOfValues));
+    final double rankScale =
+        (numValues > 1) ? (effectiveNumberOfValues - 1) / (numValues - 1) : 0.;
+    return estimateQuantile(
+        p, i -> sortedValueFunction.applyAsDouble(i * rankScale), numValues);
+  }
+
   /**
    * Estimates the quantile from a sorted double array.
    *
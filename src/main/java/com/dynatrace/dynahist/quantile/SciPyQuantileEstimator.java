@@ -18,6 +18,7 @@ package com.dynatrace.dynahist.quantile;
 import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
 
 import com.dynatrace.dynahist.util.Algorithms;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.LongToDoubleFunction;
 
 /**
@@ -98,6 +99,27 @@ public final class SciPyQuantileEstimator implements QuantileEstimator {
     return Algorithms.interpolate(zFractionPart, 0, y1, 1, y2);
   }
 
+  /**
+   * Estimates the quantile from sorted weighted data by evaluating the SciPy definition with the
+   * effective number of values in place of the number of values.
+   *
+   * <p>As the given function interpolates between integral ranks, it is evaluated directly at the
+   * computed rank. For equal weights the result is the same as for the corresponding unweighted
+   * data.
+   */
+  @Override
+  public double estimateWeightedQuantile(
+      double p, DoubleUnaryOperator sortedValueFunction, double effectiveNumberOfValues) {
+
+    if (!(effectiveNumberOfValues > 0)) {
+      return Double.NaN;
+    }
+    final double maxRank = Math.max(0., effectiveNumberOfValues - 1);
+    final double z =
+        Algorithms.interpolate(p, 0, alphap - 1, 1, effectiveNumberOfValues - betap);
+    return sortedValueFunction.applyAsDouble(Math.max(0., Math.min(maxRank, z)));
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + " [alphap=" + alphap + ", betap=" + betap + "]";
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.serialization;
+
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A {@link HistogramCompressor} based on {@link Deflater} and {@link Inflater}.
+ *
+ * <p>{@link Deflater} and {@link Inflater} instances hold native memory which is only released
+ * when calling {@code end()}. Therefore, instances are pooled and reused across calls. Instances
+ * that do not fit into the pool are ended immediately. There is a single canonical compressor per
+ * compression level, so that all callers share the same pools.
+ */
+final class DeflateHistogramCompressor implements HistogramCompressor {
+
+  private static final String TRUNCATED_DATA_MSG = "Compressed data is truncated!";
+
+  private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+  private static final int MIN_BUFFER_SIZE = 64;
+
+  private static final Pool<Inflater> INFLATER_POOL =
+      new Pool<>(Inflater::new, Inflater::reset, Inflater::end);
+
+  // canonical instances indexed by compression level, followed by the one for the default level
+  private static final DeflateHistogramCompressor[] INSTANCES = createInstances();
+
+  private final int level;
+  private final Pool<Deflater> deflaterPool;
+
+  private DeflateHistogramCompressor(int level) {
+    this.level = level;
+    this.deflaterPool = new Pool<>(() -> new Deflater(level), Deflater::reset, Deflater::end);
+  }
+
+  private static DeflateHistogramCompressor[] createInstances() {
+    final DeflateHistogramCompressor[] instances =
+        new DeflateHistogramCompressor[Deflater.BEST_COMPRESSION + 2];
+    for (int level = Deflater.NO_COMPRESSION; level <= Deflater.BEST_COMPRESSION; ++level) {
+      instances[level] = new DeflateHistogramCompressor(level);
+    }
+    instances[Deflater.BEST_COMPRESSION + 1] =
+        new DeflateHistogramCompressor(Deflater.DEFAULT_COMPRESSION);
+    return instances;
+  }
+
+  /**
+   * Returns the canonical compressor for the given compression level.
+   *
+   * @param level the compression level (0-9) or {@link Deflater#DEFAULT_COMPRESSION}
+   * @return the compressor
+   * @throws IllegalArgumentException if the compression level is invalid
+   */
+  static DeflateHistogramCompressor get(int level) {
+    if (level == Deflater.DEFAULT_COMPRESSION) {
+      return INSTANCES[Deflater.BEST_COMPRESSION + 1];
+    }
+    checkArgument(level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION);
+    return INSTANCES[level];
+  }
+
+  @Override
+  public byte[] compress(byte[] data) {
+    requireNonNull(data);
+    final Deflater deflater = deflaterPool.acquire();
+    try {
+      deflater.setInput(data);
+      deflater.finish();
+      byte[] buffer = new byte[Math.max(MIN_BUFFER_SIZE, data.length + (data.length >>> 3))];
+      int length = 0;
+      while (!deflater.finished()) {
+        if (length == buffer.length) {
+          buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        }
+        length += deflater.deflate(buffer, length, buffer.length - length);
+      }
+      return Arrays.copyOf(buffer, length);
+    } finally {
+      deflaterPool.release(deflater);
+    }
+  }
+
+  @Override
+  public byte[] decompress(byte[] data) throws DataFormatException {
+    requireNonNull(data);
+    final Inflater inflater = INFLATER_POOL.acquire();
+    try {
+      inflater.setInput(data);
+      byte[] buffer = new byte[Math.max(MIN_BUFFER_SIZE, data.length << 2)];
+      int length = 0;
+      while (!inflater.finished()) {
+        if (length == buffer.length) {
+          buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        }
+        final int inflatedLength = inflater.inflate(buffer, length, buffer.length - length);
+        if (inflatedLength == 0
+            && !inflater.finished()
+            && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new DataFormatException(TRUNCATED_DATA_MSG);
+        }
+        length += inflatedLength;
+      }
+      return Arrays.copyOf(buffer, length);
+    } finally {
+      INFLATER_POOL.release(inflater);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " [level=" + level + "]";
+  }
+
+  /** A bounded, lock-free pool of reusable objects. */
+  private static final class Pool<T> {
+
+    private final AtomicReferenceArray<T> slots = new AtomicReferenceArray<>(POOL_SIZE);
+    private final Supplier<T> factory;
+    private final Consumer<T> resetter;
+    private final Consumer<T> destructor;
+
+    private Pool(Supplier<T> factory, Consumer<T> resetter, Consumer<T> destructor) {
+      this.factory = factory;
+      this.resetter = resetter;
+      this.destructor = destructor;
+    }
+
+    private T acquire() {
+      for (int i = 0; i < slots.length(); ++i) {
+        if (slots.get(i) != null) {
+          final T t = slots.getAndSet(i, null);
+          if (t != null) {
+            return t;
+          }
+        }
+      }
+      return factory.get();
+    }
+
+    private void release(T t) {
+      resetter.accept(t);
+      for (int i = 0; i < slots.length(); ++i) {
+        if (slots.get(i) == null && slots.compareAndSet(i, null, t)) {
+          return;
+        }
+      }
+      destructor.accept(t);
+    }
+  }
+}
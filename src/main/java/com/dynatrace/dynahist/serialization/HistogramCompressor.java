@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.serialization;
+
+import com.dynatrace.dynahist.Histogram;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+/**
+ * A compression codec for serialized {@link Histogram}s.
+ *
+ * <p>Implementations must be thread-safe. Data compressed by some compressor can only be
+ * decompressed by a compressor using the same codec.
+ */
+public interface HistogramCompressor {
+
+  /**
+   * Compresses the given data.
+   *
+   * @param data the data to be compressed
+   * @return the compressed data
+   * @throws IOException if an I/O error occurs
+   */
+  byte[] compress(byte[] data) throws IOException;
+
+  /**
+   * Decompresses the given data.
+   *
+   * @param data the compressed data
+   * @return the decompressed data
+   * @throws IOException if an I/O error occurs
+   * @throws DataFormatException if a data format error occurs
+   */
+  byte[] decompress(byte[] data) throws IOException, DataFormatException;
+
+  /**
+   * Uses the DEFLATE algorithm with default compression level.
+   *
+   * <p>This is the codec used by {@link SerializationUtil#writeCompressed(Histogram)}.
+   */
+  final HistogramCompressor DEFLATE = deflate(Deflater.DEFAULT_COMPRESSION);
+
+  /**
+   * Uses the DEFLATE algorithm with the compression level optimized for speed.
+   *
+   * <p>The output can be decompressed by {@link #DEFLATE}.
+   */
+  final HistogramCompressor DEFLATE_BEST_SPEED = deflate(Deflater.BEST_SPEED);
+
+  /**
+   * Uses the DEFLATE algorithm with the compression level optimized for size.
+   *
+   * <p>The output can be decompressed by {@link #DEFLATE}.
+   */
+  final HistogramCompressor DEFLATE_BEST_COMPRESSION = deflate(Deflater.BEST_COMPRESSION);
+
+  /**
+   * A fast byte-oriented LZ77 codec implemented in pure Java.
+   *
+   * <p>Compression and decompression are significantly faster than with DEFLATE, at the expense of
+   * a lower compression ratio.
+   */
+  final HistogramCompressor LZ = LzHistogramCompressor.INSTANCE;
+
+  /**
+   * Returns a {@link HistogramCompressor} using the DEFLATE algorithm with given compression level.
+   *
+   * <p>The compression level only affects the compression. The output can be decompressed by any
+   * DEFLATE compressor. The same instance is returned for the same compression level, which
+   * shares its pool of native {@link Deflater} instances across all callers.
+   *
+   * @param level the compression level (0-9) or {@link Deflater#DEFAULT_COMPRESSION}
+   * @return a {@link HistogramCompressor} instance
+   * @throws IllegalArgumentException if the compression level is invalid
+   */
+  static HistogramCompressor deflate(int level) {
+    return DeflateHistogramCompressor.get(level);
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.serialization;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+
+/**
+ * A fast LZ77-style {@link HistogramCompressor} implemented in pure Java.
+ *
+ * <p>The format is similar to the LZ4 block format. It starts with the variable-length encoded
+ * uncompressed length followed by a sequence of blocks. Each block consists of
+ *
+ * <ul>
+ *   <li>a token byte whose upper 4 bits represent the number of literals and whose lower 4 bits
+ *       represent the match length minus {@link #MIN_MATCH} (the value 15 means that the length
+ *       is continued by additional bytes which are added to it until a byte different from 255 is
+ *       encountered),
+ *   <li>the literals,
+ *   <li>the 2-byte little-endian offset of the match, and
+ *   <li>the continuation bytes of the match length, if necessary.
+ * </ul>
+ *
+ * The last block only consists of the token byte and the literals.
+ */
+final class LzHistogramCompressor implements HistogramCompressor {
+
+  static final LzHistogramCompressor INSTANCE = new LzHistogramCompressor();
+
+  private static final String ENCOUNTERED_UNEXPECTED_DATA_MSG = "Encountered unexpected data!";
+  private static final String TRUNCATED_DATA_MSG = "Compressed data is truncated!";
+
+  static final int MIN_MATCH = 4;
+  private static final int MAX_OFFSET = 0xFFFF;
+  private static final int HASH_LOG = 12;
+  private static final int LENGTH_MASK = 0x0F;
+  private static final int MAX_OUTPUT_BYTES_PER_INPUT_BYTE = 0xFF;
+
+  private LzHistogramCompressor() {}
+
+  private static int readInt(final byte[] data, final int pos) {
+    return (data[pos] & 0xFF)
+        | ((data[pos + 1] & 0xFF) << 8)
+        | ((data[pos + 2] & 0xFF) << 16)
+        | ((data[pos + 3] & 0xFF) << 24);
+  }
+
+  private static int hash(final int value) {
+    return (value * 0x9E3779B1) >>> (Integer.SIZE - HASH_LOG);
+  }
+
+  private static int writeLength(final byte[] out, int outPos, int length) {
+    while (length >= 0xFF) {
+      out[outPos++] = (byte) 0xFF;
+      length -= 0xFF;
+    }
+    out[outPos++] = (byte) length;
+    return outPos;
+  }
+
+  private static int writeBlock(
+      final byte[] out,
+      int outPos,
+      final byte[] data,
+      final int literalsPos,
+      final int literalsLength,
+      final int offset,
+      final int matchLength) {
+    final int matchLengthCode = Math.max(0, matchLength - MIN_MATCH);
+    out[outPos++] =
+        (byte)
+            ((Math.min(literalsLength, LENGTH_MASK) << 4) | Math.min(matchLengthCode, LENGTH_MASK));
+    if (literalsLength >= LENGTH_MASK) {
+      outPos = writeLength(out, outPos, literalsLength - LENGTH_MASK);
+    }
+    System.arraycopy(data, literalsPos, out, outPos, literalsLength);
+    outPos += literalsLength;
+    if (matchLength > 0) {
+      out[outPos++] = (byte) offset;
+      out[outPos++] = (byte) (offset >>> 8);
+      if (matchLengthCode >= LENGTH_MASK) {
+        outPos = writeLength(out, outPos, matchLengthCode - LENGTH_MASK);
+      }
+    }
+    return outPos;
+  }
+
+  @Override
+  public byte[] compress(final byte[] data) {
+    requireNonNull(data);
+    final int length = data.length;
+    final byte[] out = new byte[length + (length >>> 6) + 32];
+    int outPos = 0;
+    {
+      int value = length;
+      while ((value & 0xFFFFFF80) != 0) {
+        out[outPos++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      out[outPos++] = (byte) value;
+    }
+    if (length == 0) {
+      return Arrays.copyOf(out, outPos);
+    }
+
+    // positions are stored incremented by 1, 0 marks empty slots
+    final int[] hashTable = new int[1 << HASH_LOG];
+    final int limit = length - MIN_MATCH;
+    int anchor = 0;
+    int pos = 0;
+    while (pos <= limit) {
+      final int value = readInt(data, pos);
+      final int h = hash(value);
+      final int candidate = hashTable[h] - 1;
+      hashTable[h] = pos + 1;
+      if (candidate >= 0 && pos - candidate <= MAX_OFFSET && readInt(data, candidate) == value) {
+        int matchLength = MIN_MATCH;
+        while (pos + matchLength < length
+            && data[candidate + matchLength] == data[pos + matchLength]) {
+          matchLength += 1;
+        }
+        outPos = writeBlock(out, outPos, data, anchor, pos - anchor, pos - candidate, matchLength);
+        pos += matchLength;
+        anchor = pos;
+      } else {
+        pos += 1;
+      }
+    }
+    outPos = writeBlock(out, outPos, data, anchor, length - anchor, 0, 0);
+    return Arrays.copyOf(out, outPos);
+  }
+
+  private static void checkAvailable(final byte[] data, final int pos, final int numBytes)
+      throws DataFormatException {
+    if (numBytes > data.length - pos) {
+      throw new DataFormatException(TRUNCATED_DATA_MSG);
+    }
+  }
+
+  @Override
+  public byte[] decompress(final byte[] data) throws DataFormatException {
+    requireNonNull(data);
+    int pos = 0;
+    int length = 0;
+    {
+      int shift = 0;
+      int b;
+      do {
+        checkAvailable(data, pos, 1);
+        b = data[pos++];
+        length |= (b & 0x7F) << shift;
+        shift += 7;
+        if (shift > 35) {
+          throw new DataFormatException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+        }
+      } while ((b & 0x80) != 0);
+    }
+    // prevents huge allocations in case of corrupt data
+    if (length < 0
+        || length > (long) (data.length - pos) * MAX_OUTPUT_BYTES_PER_INPUT_BYTE + LENGTH_MASK) {
+      throw new DataFormatException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+    }
+
+    final byte[] out = new byte[length];
+    int outPos = 0;
+    if (length == 0) {
+      if (pos != data.length) {
+        throw new DataFormatException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+      }
+      return out;
+    }
+    while (true) {
+      checkAvailable(data, pos, 1);
+      final int token = data[pos++] & 0xFF;
+
+      int literalsLength = token >>> 4;
+      if (literalsLength == LENGTH_MASK) {
+        int b;
+        do {
+          checkAvailable(data, pos, 1);
+          b = data[pos++] & 0xFF;
+          literalsLength += b;
+        } while (b == 0xFF && literalsLength <= length);
+      }
+      checkAvailable(data, pos, literalsLength);
+      if (literalsLength > length - outPos) {
+        throw new DataFormatException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+      }
+      System.arraycopy(data, pos, out, outPos, literalsLength);
+      pos += literalsLength;
+      outPos += literalsLength;
+
+      if (outPos == length) {
+        if (pos != data.length) {
+          throw new DataFormatException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+        }
+        return out;
+      }
+
+      checkAvailable(data, pos, 2);
+      final int offset = (data[pos] & 0xFF) | ((data[pos + 1] & 0xFF) << 8);
+      pos += 2;
+      if (offset == 0 || offset > outPos) {
+        throw new DataFormatException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+      }
+
+      int matchLength = token & LENGTH_MASK;
+      if (matchLength == LENGTH_MASK) {
+        int b;
+        do {
+          checkAvailable(data, pos, 1);
+          b = data[pos++] & 0xFF;
+          matchLength += b;
+        } while (b == 0xFF && matchLength <= length);
+      }
+      matchLength += MIN_MATCH;
+      if (matchLength > length - outPos) {
+        throw new DataFormatException(ENCOUNTERED_UNEXPECTED_DATA_MSG);
+      }
+      final int matchPos = outPos - offset;
+      if (offset >= matchLength) {
+        System.arraycopy(out, matchPos, out, outPos, matchLength);
+      } else {
+        // overlapping match, must be copied byte by byte
+        for (int i = 0; i < matchLength; ++i) {
+          out[outPos + i] = out[matchPos + i];
+        }
+      }
+      outPos += matchLength;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+}
@@ -28,8 +28,6 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.Locale;
 import java.util.zip.DataFormatException;
-import java.util.zip.Deflater;
-import java.util.zip.Inflater;
 
 public final class SerializationUtil {
 
@@ -70,6 +68,19 @@ public final class SerializationUtil {
     dataOutput.writeByte((int) value & 0x7F);
   }
 
+  /**
+   * Writes a {@code long} to the given {@link DataOutput} using variable-length and zigzag
+   * encoding.
+   *
+   * @param value the {@code long} value
+   * @param dataOutput the {@link DataOutput}
+   * @throws IOException if an I/O error occurs
+   */
+  public static void writeSignedVarLong(final long value, final DataOutput dataOutput)
+      throws IOException {
+    writeUnsignedVarLong((value << 1) ^ (value >> 63), dataOutput);
+  }
+
   /**
    * Writes an {@code int} to the given {@link DataOutput} using variable-length and zigzag
    * encoding.
@@ -127,6 +138,18 @@ public final class SerializationUtil {
    * @return the read {@code long} value
    * @throws IOException if an I/O error occurs
    */
+  public static long readSignedVarLong(final DataInput dataInput) throws IOException {
+    final long raw = readUnsignedVarLong(dataInput);
+    return (raw >>> 1) ^ -(raw & 1L);
+  }
+
+  /**
+   * Reads a variable-length and zigzag encoded {@code int} from the given {@link DataInput}.
+   *
+   * @param dataInput the {@link DataInput}
+   * @return the read {@code long} value
+   * @throws IOException if an I/O error occurs
+   */
   public static int readSignedVarInt(final DataInput dataInput) throws IOException {
     final int raw = readUnsignedVarInt(dataInput);
     final int temp = (((raw << 31) >> 31) ^ raw) >> 1;
@@ -228,12 +251,34 @@ public final class SerializationUtil {
    * #readCompressedAsStatic(Layout, byte[])} or {@link #readCompressedAsPreprocessed(Layout,
    * byte[])}.
    *
+   * <p>The histogram is compressed using {@link HistogramCompressor#DEFLATE}.
+   *
    * @param histogram the {@link Histogram}
    * @return the {@code byte[]}
    * @throws IOException if an I/O error occurs
    */
   public static byte[] writeCompressed(Histogram histogram) throws IOException {
-    return compress(write(histogram));
+    return writeCompressed(histogram, HistogramCompressor.DEFLATE);
+  }
+
+  /**
+   * Writes this histogram compressed to a given {@code byte[]} using the given {@link
+   * HistogramCompressor}.
+   *
+   * <p>The {@link Layout} information will not be written. Therefore, it is necessary to provide
+   * the layout when reading using {@link #readCompressedAsDynamic(Layout, byte[],
+   * HistogramCompressor)}, {@link #readCompressedAsStatic(Layout, byte[], HistogramCompressor)} or
+   * {@link #readCompressedAsPreprocessed(Layout, byte[], HistogramCompressor)}.
+   *
+   * @param histogram the {@link Histogram}
+   * @param compressor the {@link HistogramCompressor}
+   * @return the {@code byte[]}
+   * @throws IOException if an I/O error occurs
+   */
+  public static byte[] writeCompressed(Histogram histogram, HistogramCompressor compressor)
+      throws IOException {
+    requireNonNull(compressor);
+    return compressor.compress(write(histogram));
   }
 
   /**
@@ -250,7 +295,28 @@ public final class SerializationUtil {
    */
   public static Histogram readCompressedAsStatic(Layout layout, byte[] serializedHistogram)
       throws DataFormatException, IOException {
-    return readAsStatic(layout, decompress(serializedHistogram));
+    return readCompressedAsStatic(layout, serializedHistogram, HistogramCompressor.DEFLATE);
+  }
+
+  /**
+   * Reads a histogram from a given {@code byte[]} that was compressed using the given {@link
+   * HistogramCompressor}.
+   *
+   * <p>The returned histogram will allocate internal arrays for bin counts statically. The behavior
+   * is undefined if the given layout does not match the layout before serialization.
+   *
+   * @param layout the {@link Layout}
+   * @param serializedHistogram the {@code byte[]}
+   * @param compressor the {@link HistogramCompressor}
+   * @return the {@link Histogram}
+   * @throws IOException if an I/O error occurs
+   * @throws DataFormatException if a data format error occurs
+   */
+  public static Histogram readCompressedAsStatic(
+      Layout layout, byte[] serializedHistogram, HistogramCompressor compressor)
+      throws DataFormatException, IOException {
+    requireNonNull(compressor);
+    return readAsStatic(layout, compressor.decompress(serializedHistogram));
   }
 
   /**
@@ -267,7 +333,28 @@ public final class SerializationUtil {
    */
   public static Histogram readCompressedAsDynamic(Layout layout, byte[] serializedHistogram)
       throws IOException, DataFormatException {
-    return readAsDynamic(layout, decompress(serializedHistogram));
+    return readCompressedAsDynamic(layout, serializedHistogram, HistogramCompressor.DEFLATE);
+  }
+
+  /**
+   * Reads a histogram from a given {@code byte[]} that was compressed using the given {@link
+   * HistogramCompressor}.
+   *
+   * <p>The returned histogram will allocate internal arrays for bin counts dynamically. The
+   * behavior is undefined if the given layout does not match the layout before serialization.
+   *
+   * @param layout the {@link Layout}
+   * @param serializedHistogram the {@code byte[]}
+   * @param compressor the {@link HistogramCompressor}
+   * @return the {@link Histogram}
+   * @throws IOException if an I/O error occurs
+   * @throws DataFormatException if a data format error occurs
+   */
+  public static Histogram readCompressedAsDynamic(
+      Layout layout, byte[] serializedHistogram, HistogramCompressor compressor)
+      throws IOException, DataFormatException {
+    requireNonNull(compressor);
+    return readAsDynamic(layout, compressor.decompress(serializedHistogram));
   }
 
   /**
@@ -284,32 +371,28 @@ public final class SerializationUtil {
    */
   public static Histogram readCompressedAsPreprocessed(Layout layout, byte[] serializedHistogram)
       throws IOException, DataFormatException {
-    return readAsPreprocessed(layout, decompress(serializedHistogram));
-  }
-
-  private static byte[] compress(byte[] data) throws IOException {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      Deflater deflater = new Deflater();
-      deflater.setInput(data);
-      deflater.finish();
-      byte[] buffer = new byte[1024];
-      while (!deflater.finished()) {
-        outputStream.write(buffer, 0, deflater.deflate(buffer));
-      }
-      return outputStream.toByteArray();
-    }
+    return readCompressedAsPreprocessed(layout, serializedHistogram, HistogramCompressor.DEFLATE);
   }
 
-  private static byte[] decompress(byte[] data) throws DataFormatException, IOException {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length)) {
-      Inflater inflater = new Inflater();
-      inflater.setInput(data);
-      byte[] buffer = new byte[1024];
-      while (!inflater.finished()) {
-        outputStream.write(buffer, 0, inflater.inflate(buffer));
-      }
-      return outputStream.toByteArray();
-    }
+  /**
+   * Reads a histogram from a given {@code byte[]} that was compressed using the given {@link
+   * HistogramCompressor}.
+   *
+   * <p>The returned histogram will be immutable and preprocessed in order to support fast queries.
+   * The behavior is undefined if the given layout does not match the layout before serialization.
+   *
+   * @param layout the {@link Layout}
+   * @param serializedHistogram the {@code byte[]}
+   * @param compressor the {@link HistogramCompressor}
+   * @return the {@link Histogram}
+   * @throws IOException if an I/O error occurs
+   * @throws DataFormatException if a data format error occurs
+   */
+  public static Histogram readCompressedAsPreprocessed(
+      Layout layout, byte[] serializedHistogram, HistogramCompressor compressor)
+      throws IOException, DataFormatException {
+    requireNonNull(compressor);
+    return readAsPreprocessed(layout, compressor.decompress(serializedHistogram));
   }
 
   /**
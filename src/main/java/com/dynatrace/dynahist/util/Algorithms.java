@@ -122,6 +122,39 @@ public final class Algorithms {
     return Double.longBitsToDouble(((l >> 62) >>> 1) ^ l);
   }
 
+  /**
+   * Returns the raw bits of the {@code double} value closest to the given {@code long} value.
+   *
+   * <p>The result is always equal to {@code Double.doubleToRawLongBits((double) value)}, but is
+   * computed using integer operations only. The significand is obtained by shifting the absolute
+   * value according to its number of leading zeros, and rounding to nearest, ties to even, is
+   * applied if more than 53 significant bits are present.
+   *
+   * @param value the {@code long} value
+   * @return the raw bits of the corresponding {@code double} value
+   */
+  public static long mapLongToRawDoubleBits(long value) {
+    if (value == 0) return 0L;
+    final long absValue = Math.abs(value); // Long.MIN_VALUE is interpreted as unsigned value 2^63
+    final int nlz = Long.numberOfLeadingZeros(absValue);
+    final long significand;
+    if (nlz >= 11) {
+      significand = absValue << (nlz - 11);
+    } else {
+      final int shift = 11 - nlz;
+      final long truncated = absValue >>> shift;
+      final long remainder = absValue & ((1L << shift) - 1);
+      final long half = 1L << (shift - 1);
+      significand =
+          (remainder > half || (remainder == half && (truncated & 1L) != 0))
+              ? truncated + 1
+              : truncated;
+    }
+    // the implicit leading bit of the significand is added to the exponent, which also handles a
+    // carry caused by rounding up
+    return (value & 0x8000000000000000L) | ((((long) (1085 - nlz)) << 52) + significand);
+  }
+
   /**
    * Finds the first long value in the range [min, max] for which the given predicate returns {@code
    * true}.
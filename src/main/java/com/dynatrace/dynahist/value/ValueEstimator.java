@@ -15,7 +15,10 @@
  */
 package com.dynatrace.dynahist.value;
 
+import static com.dynatrace.dynahist.util.Preconditions.checkArgument;
+
 import com.dynatrace.dynahist.Histogram;
+import com.dynatrace.dynahist.bin.Bin;
 import com.dynatrace.dynahist.layout.LogLinearLayout;
 import com.dynatrace.dynahist.layout.LogQuadraticLayout;
 
@@ -38,6 +41,27 @@ public interface ValueEstimator {
    */
   double getValueEstimate(Histogram histogram, long rank);
 
+  /**
+   * Estimates a recorded value with given zero-based rank from the given histogram, if the bin
+   * containing the value is already known.
+   *
+   * <p>The result is the same as that of {@link #getValueEstimate(Histogram, long)}. The value
+   * estimators defined by this interface avoid the lookup of the bin by rank, which is beneficial
+   * if many values of the same bin are estimated. The default implementation ignores the given bin.
+   *
+   * @param histogram the histogram
+   * @param bin the non-empty bin of the histogram containing the value with given rank
+   * @param rank the zero-based rank
+   * @return the estimated value
+   * @throws IllegalArgumentException if the given bin does not contain the value with given rank
+   */
+  default double getValueEstimate(Histogram histogram, Bin bin, long rank) {
+    checkArgument(rank >= bin.getLessCount());
+    checkArgument(rank - bin.getLessCount() < bin.getBinCount());
+    return getValueEstimate(histogram, rank);
+  }
+
+
   /**
    * Distributes the values of a bin uniformly over the bin's interval. The distance between two
    * values is kept constant. Let X be the distance between two points. The distance of the first
@@ -24,7 +24,13 @@ import com.dynatrace.dynahist.bin.Bin;
 import com.dynatrace.dynahist.layout.LogLinearLayout;
 import com.dynatrace.dynahist.layout.LogQuadraticLayout;
 
-/** Value estimators. */
+/**
+ * Value estimators.
+ *
+ * <p>Since {@link ValueEstimator} declares a default method and refers to the constants of this
+ * enum, it must be initialized first. Otherwise its constants would be read as {@code null}. Hence,
+ * this enum should only be accessed via the constants defined in {@link ValueEstimator}.
+ */
 enum ValueEstimatorImpls implements ValueEstimator {
   /**
    * Distributes the values of a bin uniformly over the bin's interval. The distance between two
@@ -132,4 +138,23 @@ enum ValueEstimatorImpls implements ValueEstimator {
 
     return getEstimateFromBin(bin, rank);
   }
+
+  @Override
+  public double getValueEstimate(Histogram histogram, Bin bin, long rank) {
+
+    requireNonNull(histogram);
+    requireNonNull(bin);
+
+    checkArgument(rank >= bin.getLessCount());
+    checkArgument(rank - bin.getLessCount() < bin.getBinCount());
+
+    if (rank <= 0) {
+      return histogram.getMin();
+    }
+    if (rank + 1 == histogram.getTotalCount()) {
+      return histogram.getMax();
+    }
+
+    return getEstimateFromBin(bin, rank);
+  }
 }
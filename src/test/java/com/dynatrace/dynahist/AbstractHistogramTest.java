@@ -22,9 +22,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.dynatrace.dynahist.bin.Bin;
 import com.dynatrace.dynahist.bin.BinIterator;
 import com.dynatrace.dynahist.layout.*;
+import com.dynatrace.dynahist.quantile.QuantileEstimator;
 import com.dynatrace.dynahist.quantile.SciPyQuantileEstimator;
 import com.dynatrace.dynahist.serialization.SerializationReader;
 import com.dynatrace.dynahist.serialization.SerializationTestUtil;
+import com.dynatrace.dynahist.serialization.SerializationUtil;
 import com.dynatrace.dynahist.serialization.SerializationWriter;
 import com.dynatrace.dynahist.value.ValueEstimator;
 import java.io.DataInput;
@@ -34,6 +36,7 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Test;
 
 public abstract class AbstractHistogramTest {
@@ -146,6 +149,11 @@ public abstract class AbstractHistogramTest {
       mutableHistogram.addAscendingSequence(ascendingSequence, length);
       return this;
     }
+
+    public Builder addSortedValues(double[] sortedValues, int fromIndex, int toIndex) {
+      mutableHistogram.addSortedValues(sortedValues, fromIndex, toIndex);
+      return this;
+    }
   }
 
   @Test
@@ -322,6 +330,217 @@ public abstract class AbstractHistogramTest {
         2, histogram.getQuantile(1., SciPyQuantileEstimator.create(), ValueEstimator.UNIFORM), 0d);
   }
 
+  @Test
+  void testGetQuantiles() {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    SplittableRandom random = new SplittableRandom(0);
+    double[] ps = {0.99, 0.5, 0., 0.999, 0.9, 1., 0.95, 0.5, 0.001};
+    List<QuantileEstimator> quantileEstimators =
+        Arrays.asList(SciPyQuantileEstimator.create(), SciPyQuantileEstimator.create(0.5, 0.5));
+    for (int numValues : new int[] {0, 1, 2, 5, 1000}) {
+      Builder builder = modify(create(layout));
+      for (int i = 0; i < numValues; ++i) {
+        builder.addValue(Math.pow(10., random.nextDouble(-4, 6)) - 1e3, 1 + random.nextInt(3));
+      }
+      Histogram histogram = builder.done();
+      for (QuantileEstimator quantileEstimator : quantileEstimators) {
+        for (ValueEstimator valueEstimator :
+            Arrays.asList(
+                ValueEstimator.UNIFORM,
+                ValueEstimator.LOWER_BOUND,
+                ValueEstimator.UPPER_BOUND,
+                ValueEstimator.MID_POINT)) {
+          double[] quantiles = histogram.getQuantiles(ps, quantileEstimator, valueEstimator);
+          assertEquals(ps.length, quantiles.length);
+          for (int i = 0; i < ps.length; ++i) {
+            assertEquals(
+                histogram.getQuantile(ps[i], quantileEstimator, valueEstimator),
+                quantiles[i],
+                0d);
+          }
+        }
+      }
+      assertArrayEquals(
+          histogram.getQuantiles(ps, SciPyQuantileEstimator.create(), ValueEstimator.UNIFORM),
+          histogram.getQuantiles(ps),
+          0d);
+    }
+    assertEquals(0, create(layout).getQuantiles(new double[0]).length);
+  }
+
+  @Test
+  void testGetQuantilesWithCustomValueEstimator() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    Histogram histogram = modify(create(layout)).addValue(-5.5).addValue(3.).addValue(1e4).done();
+    byte[] serializedHistogram = SerializationUtil.toByteArray(Histogram::write, histogram);
+    // value estimators get access to all read-only operations of the passed histogram
+    ValueEstimator valueEstimator =
+        (h, rank) -> {
+          try {
+            assertArrayEquals(
+                serializedHistogram, SerializationUtil.toByteArray(Histogram::write, h));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          assertEquals(histogram, h.getPreprocessedCopy());
+          return ValueEstimator.UNIFORM.getValueEstimate(h, rank);
+        };
+    double[] ps = {0., 0.5, 1.};
+    assertArrayEquals(
+        histogram.getQuantiles(ps, ValueEstimator.UNIFORM),
+        histogram.getQuantiles(ps, valueEstimator),
+        0d);
+  }
+
+  @Test
+  void testGetCountBelowAndRank() {
+    Layout layout = LogQuadraticLayout.create(1e-2, 1e-1, -1e2, 1e3);
+    SplittableRandom random = new SplittableRandom(0);
+    List<ValueEstimator> valueEstimators =
+        Arrays.asList(
+            ValueEstimator.UNIFORM,
+            ValueEstimator.LOWER_BOUND,
+            ValueEstimator.UPPER_BOUND,
+            ValueEstimator.MID_POINT);
+    for (int numValues : new int[] {0, 1, 2, 5, 300}) {
+      Builder builder = modify(create(layout));
+      for (int i = 0; i < numValues; ++i) {
+        builder.addValue(random.nextDouble(-2e2, 2e3) * Math.pow(random.nextDouble(), 3));
+      }
+      Histogram histogram = builder.done();
+      long totalCount = histogram.getTotalCount();
+
+      List<Double> testValues =
+          new ArrayList<>(
+              Arrays.asList(
+                  Double.NEGATIVE_INFINITY, -1e3, -0., 0., 1., 5e3, Double.POSITIVE_INFINITY));
+      for (int i = 0; i < 100; ++i) {
+        testValues.add(random.nextDouble(-2e2, 2e3));
+      }
+      if (!histogram.isEmpty()) {
+        testValues.add(histogram.getMin());
+        testValues.add(histogram.getMax());
+        testValues.add(histogram.getValue(totalCount / 2));
+      }
+
+      for (ValueEstimator valueEstimator : valueEstimators) {
+        double[] values = new double[(int) totalCount];
+        for (int rank = 0; rank < totalCount; ++rank) {
+          values[rank] = histogram.getValue(rank, valueEstimator);
+        }
+        for (double value : testValues) {
+          long expectedCountBelow =
+              Arrays.stream(values).filter(v -> Double.compare(v, value) < 0).count();
+          assertEquals(expectedCountBelow, histogram.getCountBelow(value, valueEstimator));
+
+          double rank = histogram.getRank(value, valueEstimator);
+          if (totalCount == 0) {
+            assertTrue(Double.isNaN(rank));
+          } else if (expectedCountBelow == 0) {
+            assertEquals(0., rank, 0.);
+          } else if (expectedCountBelow == totalCount) {
+            assertEquals(totalCount - 1, rank, 0.);
+          } else {
+            assertThat(rank).isBetween(expectedCountBelow - 1., (double) expectedCountBelow);
+          }
+        }
+        for (int rank = 0; rank < totalCount; ++rank) {
+          if (rank == 0 || values[rank - 1] < values[rank]) {
+            assertEquals(rank, histogram.getRank(values[rank], valueEstimator), 0.);
+          }
+        }
+        assertEquals(
+            Arrays.stream(values).filter(v -> Double.compare(v, 0.) >= 0 && v < 1e2).count(),
+            histogram.getCountBetween(0., 1e2, valueEstimator));
+      }
+      assertEquals(
+          histogram.getCountBelow(1.5, ValueEstimator.UNIFORM), histogram.getCountBelow(1.5));
+      assertEquals(histogram.getRank(1.5, ValueEstimator.UNIFORM), histogram.getRank(1.5), 0.);
+      assertEquals(
+          histogram.getCountBetween(-1., 1.5, ValueEstimator.UNIFORM),
+          histogram.getCountBetween(-1., 1.5));
+      assertThrows(IllegalArgumentException.class, () -> histogram.getCountBelow(Double.NaN));
+      assertThrows(IllegalArgumentException.class, () -> histogram.getRank(Double.NaN));
+      assertThrows(IllegalArgumentException.class, () -> histogram.getCountBetween(2., 1.));
+    }
+  }
+
+  @Test
+  void testMoments() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-2, 1e-1, -1e2, 1e3);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int numValues : new int[] {0, 1, 2, 5, 300}) {
+      Builder builder = modify(create(layout));
+      double[] values = new double[numValues];
+      for (int i = 0; i < numValues; ++i) {
+        values[i] = random.nextDouble(-2e2, 2e3) * Math.pow(random.nextDouble(), 3);
+        builder.addValue(values[i]);
+      }
+      Histogram histogram = builder.done();
+
+      double expectedSum = Arrays.stream(values).sum();
+      double expectedSumOfSquares = Arrays.stream(values).map(v -> v * v).sum();
+      double expectedMean = expectedSum / numValues;
+      double expectedVariance =
+          Arrays.stream(values).map(v -> (v - expectedMean) * (v - expectedMean)).sum()
+              / numValues;
+      assertEquals(expectedSum, histogram.getSum(), 1e-9 * expectedSumOfSquares);
+      assertEquals(expectedSumOfSquares, histogram.getSumOfSquares(), 1e-9 * expectedSumOfSquares);
+      if (numValues == 0) {
+        assertTrue(Double.isNaN(histogram.getMean()));
+        assertTrue(Double.isNaN(histogram.getVariance()));
+      } else {
+        assertEquals(expectedMean, histogram.getMean(), 1e-9 * Math.abs(expectedMean));
+        assertEquals(expectedVariance, histogram.getVariance(), 1e-9 * expectedVariance);
+      }
+
+      Histogram deserializedHistogram =
+          SerializationTestUtil.testSerialization(
+              histogram, Histogram::write, in -> read(layout, in));
+      assertEquals(histogram.getSum(), deserializedHistogram.getSum(), 0.);
+      assertEquals(histogram.getSumOfSquares(), deserializedHistogram.getSumOfSquares(), 0.);
+
+      Histogram histogramV1 =
+          SerializationTestUtil.testSerialization(
+              histogram,
+              (h, out) -> ((AbstractHistogram) h).writeSerialVersion1(out),
+              in -> read(layout, in));
+      if (numValues >= 2) {
+        assertTrue(Double.isNaN(histogramV1.getSum()));
+        assertTrue(Double.isNaN(histogramV1.getSumOfSquares()));
+        assertTrue(Double.isNaN(histogramV1.getMean()));
+        assertTrue(Double.isNaN(histogramV1.getVariance()));
+      } else {
+        assertEquals(histogram.getSum(), histogramV1.getSum(), 0.);
+        assertEquals(histogram.getSumOfSquares(), histogramV1.getSumOfSquares(), 0.);
+      }
+
+      Histogram mergedEqualLayout = merge(addValues(create(layout), 5., 7.), histogram);
+      assertEquals(histogram.getSum() + 12., mergedEqualLayout.getSum(), 1e-12);
+      assertEquals(histogram.getSumOfSquares() + 74., mergedEqualLayout.getSumOfSquares(), 1e-9);
+
+      Layout otherLayout = CustomLayout.create(-1., 0., 1.);
+      Histogram mergedNonEqualLayout = merge(create(otherLayout), histogram);
+      assertEquals(histogram.getSum(), mergedNonEqualLayout.getSum(), 0.);
+      assertEquals(histogram.getSumOfSquares(), mergedNonEqualLayout.getSumOfSquares(), 0.);
+    }
+  }
+
+  @Test
+  void testMomentsNotAvailable() {
+    Layout layout = LogQuadraticLayout.create(1e-2, 1e-1, -1e2, 1e3);
+    Histogram histogram = modify(create(layout)).addAscendingSequence(i -> i + 1, 10).done();
+    assertTrue(Double.isNaN(histogram.getSum()));
+    assertTrue(Double.isNaN(histogram.getSumOfSquares()));
+    assertTrue(Double.isNaN(histogram.getMean()));
+    assertTrue(Double.isNaN(histogram.getVariance()));
+
+    // once unavailable, moments remain unavailable
+    Histogram merged = modify(create(layout)).addValue(3.).addHistogram(histogram).done();
+    assertTrue(Double.isNaN(merged.getSum()));
+    assertEquals(3., addValues(create(layout), 3.).getSum(), 0.);
+  }
+
   @Test
   public void testNonEmptyBinsAscendingIteratorForNonEmptyHistogram() {
     Histogram histogram = create(CustomLayout.create(-4, -2, 0, 2, 4));
@@ -484,6 +703,37 @@ public abstract class AbstractHistogramTest {
     assertTrue(bins.isEmpty());
   }
 
+  @Test
+  void testForEachNonEmptyBin() {
+    Layout layout = LogQuadraticLayout.create(1e-2, 1e-1, -1e2, 1e3);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int numValues : new int[] {0, 1, 2, 5, 300}) {
+      for (long maxCount : new long[] {1, 3, 1000, Long.MAX_VALUE / 1000}) {
+        Builder builder = modify(create(layout));
+        for (int i = 0; i < numValues; ++i) {
+          builder.addValue(
+              random.nextDouble(-2e2, 2e3) * Math.pow(random.nextDouble(), 3),
+              random.nextLong(1, maxCount + 1));
+        }
+        Histogram histogram = builder.done();
+
+        List<Bin> expectedBins = new ArrayList<>();
+        histogram.nonEmptyBinsAscending().forEach(expectedBins::add);
+        List<long[]> bins = new ArrayList<>();
+        histogram.forEachNonEmptyBin(
+            (binIndex, count, lessCount) -> bins.add(new long[] {binIndex, count, lessCount}));
+
+        assertEquals(expectedBins.size(), bins.size());
+        for (int i = 0; i < bins.size(); ++i) {
+          assertEquals(expectedBins.get(i).getBinIndex(), bins.get(i)[0]);
+          assertEquals(expectedBins.get(i).getBinCount(), bins.get(i)[1]);
+          assertEquals(expectedBins.get(i).getLessCount(), bins.get(i)[2]);
+        }
+      }
+    }
+    assertThrows(NullPointerException.class, () -> create(layout).forEachNonEmptyBin(null));
+  }
+
   @Test
   public void testBinIteratorNextForLastBin() {
     Histogram histogram = create(CustomLayout.create(-4, -2, 0, 2, 4));
@@ -591,6 +841,88 @@ public abstract class AbstractHistogramTest {
     }
   }
 
+  private static Map<Integer, Long> getNonEmptyBins(Histogram histogram) {
+    Map<Integer, Long> nonEmptyBins = new HashMap<>();
+    histogram.forEachNonEmptyBin(
+        (binIndex, count, lessCount) -> nonEmptyBins.put(binIndex, count));
+    return nonEmptyBins;
+  }
+
+  @Test
+  void testAddLongValue() {
+    Layout layout = LogQuadraticLayout.create(1, 1e-2, 0, 1e12);
+    SplittableRandom random = new SplittableRandom(0);
+    long[] values = {0L, -1L, 1L, (1L << 53) + 1, Long.MAX_VALUE, Long.MIN_VALUE};
+    long[] randomValues = random.longs(1000).map(l -> l >> random.nextInt(64)).toArray();
+    Histogram histogram = create(layout);
+    if (!histogram.isMutable()) {
+      assertThrows(UnsupportedOperationException.class, () -> histogram.addLongValue(1L));
+      assertThrows(UnsupportedOperationException.class, () -> histogram.recordElapsed(0L));
+      return;
+    }
+    Histogram expected = create(layout);
+    for (long value : LongStream.concat(LongStream.of(values), LongStream.of(randomValues))
+        .toArray()) {
+      assertSame(histogram, histogram.addLongValue(value));
+      expected.addValue((double) value);
+    }
+    assertEquals(expected, histogram);
+    assertEquals(expected.getSum(), histogram.getSum(), 0.);
+    assertEquals(expected.getSumOfSquares(), histogram.getSumOfSquares(), 0.);
+
+    long startNanos = System.nanoTime();
+    assertSame(histogram, histogram.recordElapsed(startNanos));
+    assertEquals(expected.getTotalCount() + 1, histogram.getTotalCount());
+  }
+
+  @Test
+  void testSubtractHistogram() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e3, 1e3);
+    SplittableRandom random = new SplittableRandom(0);
+    double[] values =
+        DoubleStream.generate(() -> random.nextDouble(-2e3, 2e3)).limit(1000).toArray();
+    double[] previousValues = Arrays.copyOf(values, 600);
+    double[] deltaValues = Arrays.copyOfRange(values, 600, values.length);
+
+    Histogram cumulative = addValues(create(layout), values);
+    Histogram previous = addValues(create(layout), previousValues);
+    Histogram expected = addValues(create(layout), deltaValues);
+    if (!cumulative.isMutable()) {
+      assertThrows(
+          UnsupportedOperationException.class, () -> cumulative.subtractHistogram(previous));
+      return;
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> previous.subtractHistogram(cumulative));
+    assertEquals(addValues(create(layout), previousValues), previous);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> cumulative.subtractHistogram(addValues(create(new TestLayout(-1, 1)), 0)));
+
+    Histogram delta = cumulative.subtractHistogram(previous);
+    assertSame(cumulative, delta);
+    assertEquals(expected.getTotalCount(), delta.getTotalCount());
+    assertEquals(expected.getUnderflowCount(), delta.getUnderflowCount());
+    assertEquals(expected.getOverflowCount(), delta.getOverflowCount());
+    assertEquals(getNonEmptyBins(expected), getNonEmptyBins(delta));
+    assertEquals(expected.getSum(), delta.getSum(), 1e-9);
+    assertEquals(expected.getSumOfSquares(), delta.getSumOfSquares(), 1e-6);
+    assertThat(delta.getMin()).isLessThanOrEqualTo(expected.getMin());
+    assertThat(delta.getMax()).isGreaterThanOrEqualTo(expected.getMax());
+    assertEquals(layout.mapToBinIndex(expected.getMin()), layout.mapToBinIndex(delta.getMin()));
+    assertEquals(layout.mapToBinIndex(expected.getMax()), layout.mapToBinIndex(delta.getMax()));
+    for (double p : new double[] {0.3, 0.5, 0.7}) {
+      assertEquals(expected.getQuantile(p), delta.getQuantile(p), 0.);
+    }
+
+    delta.subtractHistogram(addValues(create(layout), deltaValues));
+    assertTrue(delta.isEmpty());
+    assertEquals(create(layout), delta);
+    assertEquals(Double.POSITIVE_INFINITY, delta.getMin(), 0.);
+    assertEquals(Double.NEGATIVE_INFINITY, delta.getMax(), 0.);
+    assertEquals(0., delta.getSum(), 0.);
+  }
+
   @Test
   void testTwoValuesHistogramUnderflowAndOverflow() {
     final Histogram histogram = addValues(create(new TestLayout(-100, 100)), -1000, 1000);
@@ -793,6 +1125,35 @@ public abstract class AbstractHistogramTest {
     }
   }
 
+  @Test
+  void testGetBinByRankManyBins() {
+    Layout layout = LogLinearLayout.create(1e-5, 1e-3, -1e3, 1e3);
+    SplittableRandom random = new SplittableRandom(0);
+    Builder builder = modify(create(layout));
+    for (int round = 0; round < 10; ++round) {
+      for (int i = 0; i < 200; ++i) {
+        builder.addValue(random.nextDouble(-1.2e3, 1.2e3) * Math.pow(random.nextDouble(), 5));
+      }
+      Histogram histogram = builder.done();
+      BinIterator expectedBin = histogram.getFirstNonEmptyBin();
+      for (long rank = 0; rank < histogram.getTotalCount(); ++rank) {
+        while (expectedBin.getLessCount() + expectedBin.getBinCount() <= rank) {
+          expectedBin.next();
+        }
+        BinIterator bin = histogram.getBinByRank(rank);
+        assertEquals(expectedBin.getBinIndex(), bin.getBinIndex());
+        assertEquals(expectedBin.getBinCount(), bin.getBinCount());
+        assertEquals(expectedBin.getLessCount(), bin.getLessCount());
+        assertEquals(expectedBin.getGreaterCount(), bin.getGreaterCount());
+      }
+      Histogram preprocessedHistogram = histogram.getPreprocessedCopy();
+      for (int i = 0; i < 100; ++i) {
+        double value = random.nextDouble(-1.2e3, 1.2e3) * Math.pow(random.nextDouble(), 5);
+        assertEquals(preprocessedHistogram.getCountBelow(value), histogram.getCountBelow(value));
+      }
+    }
+  }
+
   @Test
   void testGeneral() {
 
@@ -1048,6 +1409,73 @@ public abstract class AbstractHistogramTest {
                     .done());
   }
 
+  @Test
+  void testAddSortedValues() {
+
+    TestLayout layout = new TestLayout(-5, 5);
+
+    int numCycles = 10000;
+    SplittableRandom rnd = new SplittableRandom(0);
+
+    for (int i = 0; i < numCycles; ++i) {
+      double[] values = rnd.doubles(rnd.nextInt(100)).map(d -> d * 12 - 6).toArray();
+      Arrays.sort(values);
+      int fromIndex = rnd.nextInt(values.length + 1);
+      int toIndex = fromIndex + rnd.nextInt(values.length - fromIndex + 1);
+
+      Histogram histogram1 =
+          addValues(create(layout), Arrays.copyOfRange(values, fromIndex, toIndex));
+      Histogram histogram2 =
+          modify(create(layout)).addSortedValues(values, fromIndex, toIndex).done();
+
+      assertEquals(histogram1, histogram2);
+      assertEquals(histogram1.getPreprocessedCopy(), histogram2.getPreprocessedCopy());
+      assertEquals(histogram1.getSum(), histogram2.getSum(), 0.);
+      assertEquals(histogram1.getSumOfSquares(), histogram2.getSumOfSquares(), 0.);
+    }
+  }
+
+  @Test
+  void testAddSortedValuesManyEqualValues() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    double[] values = new double[100_000];
+    SplittableRandom rnd = new SplittableRandom(0);
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = Math.rint(rnd.nextDouble(-1e3, 1e7));
+    }
+    Arrays.sort(values);
+
+    Histogram histogram1 = addValues(create(layout), values);
+    Histogram histogram2 = modify(create(layout)).addSortedValues(values, 0, values.length).done();
+
+    assertEquals(histogram1, histogram2);
+    assertEquals(histogram1.getSum(), histogram2.getSum(), 0.);
+  }
+
+  @Test
+  void testAddSortedValuesInvalidArguments() {
+    TestLayout layout = new TestLayout(-5, 5);
+    Histogram histogram = create(layout);
+    if (!histogram.isMutable()) {
+      assertThrows(
+          UnsupportedOperationException.class,
+          () -> histogram.addSortedValues(new double[] {1}, 0, 1));
+      return;
+    }
+
+    double[] values = {-5.5, -0.1, 5.3, Double.NaN};
+    assertThrows(NullPointerException.class, () -> histogram.addSortedValues(null, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> histogram.addSortedValues(values, -1, 2));
+    assertThrows(IllegalArgumentException.class, () -> histogram.addSortedValues(values, 2, 1));
+    assertThrows(IllegalArgumentException.class, () -> histogram.addSortedValues(values, 0, 5));
+    assertThrows(IllegalArgumentException.class, () -> histogram.addSortedValues(values, 0, 4));
+    assertTrue(histogram.isEmpty());
+
+    histogram.addValue(1, Long.MAX_VALUE - 2);
+    assertThrows(ArithmeticException.class, () -> histogram.addSortedValues(values, 0, 3));
+    assertEquals(Long.MAX_VALUE - 2, histogram.getTotalCount());
+  }
+
   @Test
   void testAddHistogramEqualLayout() {
 
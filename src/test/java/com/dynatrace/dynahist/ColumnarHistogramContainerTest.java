@@ -0,0 +1,264 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.serialization.SerializationUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarHistogramContainerTest {
+
+  private static byte[] write(Layout layout, List<Histogram> histograms) throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    ColumnarHistogramContainer.write(
+        layout, histograms, new DataOutputStream(byteArrayOutputStream));
+    return byteArrayOutputStream.toByteArray();
+  }
+
+  private static ColumnarHistogramContainer read(byte[] data) throws IOException {
+    return ColumnarHistogramContainer.read(new DataInputStream(new ByteArrayInputStream(data)));
+  }
+
+  private static List<Histogram> createRandomHistograms(
+      Layout layout, int numHistograms, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    List<Histogram> histograms = new ArrayList<>();
+    for (int i = 0; i < numHistograms; ++i) {
+      Histogram histogram = Histogram.createDynamic(layout);
+      int numValues = random.nextInt(i % 5 == 0 ? 3 : 1000);
+      for (int j = 0; j < numValues; ++j) {
+        histogram.addValue(Math.pow(10., random.nextDouble(-4, 6)) - 1e3, 1 + random.nextInt(3));
+      }
+      histograms.add(histogram);
+    }
+    return histograms;
+  }
+
+  @Test
+  void testRoundTrip() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    List<Histogram> histograms = createRandomHistograms(layout, 200, 0);
+    ColumnarHistogramContainer container = read(write(layout, histograms));
+
+    assertEquals(layout, container.getLayout());
+    assertEquals(histograms.size(), container.size());
+    for (int i = 0; i < histograms.size(); ++i) {
+      Histogram expected = histograms.get(i);
+      assertEquals(expected, container.getAsDynamic(i));
+      assertEquals(expected, container.getAsStatic(i));
+      assertEquals(expected, container.getAsPreprocessed(i));
+      assertEquals(expected.getTotalCount(), container.getTotalCount(i));
+      assertEquals(expected.getUnderflowCount(), container.getUnderflowCount(i));
+      assertEquals(expected.getOverflowCount(), container.getOverflowCount(i));
+      assertEquals(expected.getMin(), container.getMin(i), 0.);
+      assertEquals(expected.getMax(), container.getMax(i), 0.);
+      assertEquals(expected.getSum(), container.getSum(i), 0.);
+      assertEquals(expected.getSumOfSquares(), container.getSumOfSquares(i), 0.);
+      assertTrue(container.getAsDynamic(i).isMutable());
+    }
+  }
+
+  @Test
+  void testRandomAccessOrder() throws IOException {
+    Layout layout = LogLinearLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    List<Histogram> histograms = createRandomHistograms(layout, 50, 1);
+    ColumnarHistogramContainer container = read(write(layout, histograms));
+    for (int i = histograms.size() - 1; i >= 0; --i) {
+      assertEquals(histograms.get(i), container.getAsStatic(i));
+    }
+  }
+
+  @Test
+  void testEmptyContainer() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    ColumnarHistogramContainer container = read(write(layout, Collections.emptyList()));
+    assertEquals(layout, container.getLayout());
+    assertEquals(0, container.size());
+    assertThrows(IllegalArgumentException.class, () -> container.getAsDynamic(0));
+  }
+
+  @Test
+  void testSpecialValues() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    Histogram empty = Histogram.createDynamic(layout);
+    Histogram underflowOnly = Histogram.createDynamic(layout).addValue(-1e6, 5);
+    Histogram overflowOnly =
+        Histogram.createDynamic(layout).addValue(Double.POSITIVE_INFINITY).addValue(1e7);
+    Histogram mixed =
+        Histogram.createDynamic(layout)
+            .addValue(Double.NEGATIVE_INFINITY)
+            .addValue(-0.)
+            .addValue(0.)
+            .addValue(Long.MAX_VALUE, Long.MAX_VALUE >>> 4)
+            .addValue(1.5, 3);
+    List<Histogram> histograms = Arrays.asList(empty, underflowOnly, overflowOnly, mixed);
+    ColumnarHistogramContainer container = read(write(layout, histograms));
+    for (int i = 0; i < histograms.size(); ++i) {
+      assertEquals(histograms.get(i), container.getAsDynamic(i));
+      assertEquals(histograms.get(i), container.getAsStatic(i));
+      assertEquals(histograms.get(i).getUnderflowCount(), container.getUnderflowCount(i));
+      assertEquals(histograms.get(i).getOverflowCount(), container.getOverflowCount(i));
+    }
+    assertEquals(Double.POSITIVE_INFINITY, container.getMin(0), 0.);
+    assertEquals(Double.NEGATIVE_INFINITY, container.getMax(0), 0.);
+  }
+
+  @Test
+  void testEmptyHistogramsAreOmitted() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    List<Histogram> histograms = new ArrayList<>();
+    for (int i = 0; i < 8000; ++i) {
+      histograms.add(Histogram.createDynamic(layout));
+    }
+    int emptyContainerSize = write(layout, Collections.emptyList()).length;
+    // a single bit per empty histogram
+    assertEquals(emptyContainerSize + 1000 + 1, write(layout, histograms).length);
+
+    histograms.set(4000, Histogram.createDynamic(layout).addValue(-5.).addValue(7.));
+    histograms.set(7999, Histogram.createDynamic(layout).addValue(-1e6));
+    ColumnarHistogramContainer container = read(write(layout, histograms));
+    assertEquals(histograms.size(), container.size());
+    for (int i = 0; i < histograms.size(); ++i) {
+      assertEquals(histograms.get(i), container.getAsDynamic(i));
+      assertEquals(histograms.get(i).getTotalCount(), container.getTotalCount(i));
+    }
+    assertEquals(-5., container.getMin(4000), 0.);
+    assertEquals(7., container.getMax(4000), 0.);
+    assertEquals(Double.POSITIVE_INFINITY, container.getMin(3999), 0.);
+    assertThrows(IllegalArgumentException.class, () -> container.getTotalCount(8000));
+  }
+
+  @Test
+  void testMoments() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    Histogram histogram = Histogram.createDynamic(layout).addValue(0.5).addValue(50., 2);
+    Histogram histogramWithoutMoments =
+        Histogram.createDynamic(layout).addAscendingSequence(j -> j, 10);
+    List<Histogram> histograms =
+        Arrays.asList(
+            histogram, Histogram.createDynamic(layout), histogramWithoutMoments, histogram);
+    ColumnarHistogramContainer container = read(write(layout, histograms));
+
+    assertEquals(100.5, container.getSum(0), 0.);
+    assertEquals(0., container.getSum(1), 0.);
+    assertEquals(Double.NaN, container.getSum(2), 0.);
+    assertEquals(2. * 50. * 50. + 0.25, container.getSumOfSquares(0), 0.);
+    assertEquals(0., container.getSumOfSquares(1), 0.);
+    assertEquals(Double.NaN, container.getSumOfSquares(2), 0.);
+    for (int i = 0; i < histograms.size(); ++i) {
+      Histogram expected = histograms.get(i);
+      List<Histogram> decodedHistograms =
+          Arrays.asList(
+              container.getAsDynamic(i), container.getAsStatic(i), container.getAsPreprocessed(i));
+      for (Histogram actual : decodedHistograms) {
+        assertEquals(expected.getSum(), actual.getSum(), 0.);
+        assertEquals(expected.getSumOfSquares(), actual.getSumOfSquares(), 0.);
+        assertEquals(expected.getMean(), actual.getMean(), 0.);
+      }
+    }
+    assertEquals(33.5, container.getAsStatic(3).getMean(), 0.);
+  }
+
+  @Test
+  void testDeltaEncodingOfSimilarHistograms() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    List<Histogram> histograms = new ArrayList<>();
+    for (int i = 0; i < 1000; ++i) {
+      histograms.add(Histogram.createDynamic(layout).addValue(0., 1_000_000 + i));
+    }
+    ColumnarHistogramContainer container = read(write(layout, histograms));
+    for (int i = 0; i < histograms.size(); ++i) {
+      assertEquals(histograms.get(i), container.getAsStatic(i));
+    }
+    // per histogram, 4 bytes for the count block, 2 bits for the difference of neighboring total
+    // counts, and a single bit for the presence bitmap, while the constant moments take no space
+    assertTrue(write(layout, histograms).length < 4500);
+  }
+
+  @Test
+  void testSmallerThanIndividualSerialization() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    List<Histogram> histograms = createRandomHistograms(layout, 1000, 2);
+    long individualSize = 0;
+    for (Histogram histogram : histograms) {
+      ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+      DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+      layout.writeWithTypeInfo(dataOutputStream);
+      histogram.write(dataOutputStream);
+      individualSize += byteArrayOutputStream.size();
+    }
+    assertTrue(write(layout, histograms).length < individualSize);
+  }
+
+  @Test
+  void testLayoutMismatch() {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    Layout otherLayout = LogLinearLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    List<Histogram> histograms = Collections.singletonList(Histogram.createDynamic(otherLayout));
+    assertThrows(IllegalArgumentException.class, () -> write(layout, histograms));
+  }
+
+  @Test
+  void testCorruptedData() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    byte[] data = write(layout, createRandomHistograms(layout, 10, 3));
+    assertThrows(IOException.class, () -> read(Arrays.copyOf(data, data.length - 1)));
+    byte[] wrongVersion = data.clone();
+    wrongVersion[0] = 1;
+    assertThrows(IOException.class, () -> read(wrongVersion));
+  }
+
+  @Test
+  void testInconsistentLengthsDoNotCauseLargeAllocations() throws IOException {
+    Layout layout = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+    dataOutputStream.writeByte(0);
+    layout.writeWithTypeInfo(dataOutputStream);
+    SerializationUtil.writeUnsignedVarInt(Integer.MAX_VALUE, dataOutputStream);
+    dataOutputStream.write(new byte[100]);
+    assertThrows(IOException.class, () -> read(byteArrayOutputStream.toByteArray()));
+
+    // a single histogram whose count block length is claimed to be close to the maximum
+    byteArrayOutputStream.reset();
+    dataOutputStream.writeByte(0);
+    layout.writeWithTypeInfo(dataOutputStream);
+    SerializationUtil.writeUnsignedVarInt(1, dataOutputStream);
+    dataOutputStream.writeByte(1); // presence bitmap
+    for (long value : new long[] {1, 0, 0, 0, 0, 1000, 1, Integer.MAX_VALUE - 1}) {
+      SerializationUtil.writeSignedVarLong(value, dataOutputStream);
+      dataOutputStream.writeByte(0);
+    }
+    dataOutputStream.write(new byte[100]);
+    assertThrows(IOException.class, () -> read(byteArrayOutputStream.toByteArray()));
+  }
+}
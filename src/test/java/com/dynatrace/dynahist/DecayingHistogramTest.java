@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.quantile.SciPyQuantileEstimator;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DecayingHistogramTest {
+
+  @Test
+  void testTotalWeight() {
+    Layout layout = CustomLayout.create(0, 10, 20);
+    DecayingHistogram histogram = DecayingHistogram.create(layout, 100);
+    assertTrue(histogram.isEmpty());
+    assertEquals(0., histogram.getTotalWeight(1000), 0.);
+
+    histogram.addValue(5, 1000);
+    histogram.addValue(15, 3, 1100);
+    assertEquals(0.5 + 3., histogram.getTotalWeight(1100), 1e-12);
+    assertEquals(0.25 + 1.5, histogram.getTotalWeight(1200), 1e-12);
+    assertEquals((0.5 * 5 + 3. * 15) / 3.5, histogram.getMean(), 1e-12);
+    assertEquals(5., histogram.getMin(), 0.);
+    assertEquals(15., histogram.getMax(), 0.);
+
+    Histogram snapshot = histogram.getSnapshot();
+    assertEquals(DecayingHistogram.SNAPSHOT_TOTAL_COUNT, snapshot.getTotalCount());
+    double relativeCount =
+        snapshot.getCount(layout.mapToBinIndex(5)) / (double) snapshot.getTotalCount();
+    assertEquals(0.5 / 3.5, relativeCount, 1e-9);
+    assertEquals(histogram.getMean(), snapshot.getMean(), 1e-9);
+  }
+
+  @Test
+  void testWithoutDecay() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    DecayingHistogram decayingHistogram = DecayingHistogram.create(layout, 1000);
+    Histogram histogram = Histogram.createDynamic(layout);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 10_000; ++i) {
+      double value = random.nextDouble(-1e4, 1e4);
+      decayingHistogram.addValue(value, 42);
+      histogram.addValue(value);
+    }
+    for (double p : new double[] {0., 0.01, 0.1, 0.5, 0.9, 0.99, 1.}) {
+      double expected = histogram.getQuantile(p);
+      assertEquals(expected, decayingHistogram.getQuantile(p), Math.abs(expected) * 2e-2 + 1e-5);
+    }
+  }
+
+  @Test
+  void testRecencyWeighting() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    long halfLife = 1000;
+    DecayingHistogram histogram = DecayingHistogram.create(layout, halfLife);
+    SplittableRandom random = new SplittableRandom(0);
+    long[] timestamps = new long[20_000];
+    long timestamp = 0;
+    // small values are recorded over many half-lives, which requires moving the landmark
+    for (int i = 0; i < 10_000; ++i) {
+      timestamp += random.nextInt(40);
+      timestamps[i] = timestamp;
+      histogram.addValue(random.nextDouble(1, 10), timestamp);
+    }
+    assertThat(timestamp).isGreaterThan(150 * halfLife);
+    // large values are recorded during the last 20 half-lives
+    for (int i = 10_000; i < 20_000; ++i) {
+      timestamp += random.nextInt(4);
+      timestamps[i] = timestamp;
+      histogram.addValue(random.nextDouble(100, 1000), timestamp);
+    }
+
+    double expectedTotalWeight = 0;
+    for (long t : timestamps) {
+      expectedTotalWeight += Math.pow(2., -(timestamp - t) / (double) halfLife);
+    }
+    assertEquals(1., histogram.getTotalWeight(timestamp) / expectedTotalWeight, 1e-9);
+
+    assertThat(histogram.getMin()).isLessThan(10);
+    assertThat(histogram.getQuantile(0.)).isGreaterThanOrEqualTo(1);
+    assertThat(
+            histogram.getQuantile(0.01, SciPyQuantileEstimator.create(), ValueEstimator.UNIFORM))
+        .isGreaterThan(100 * (1 - 1e-2));
+    assertThat(histogram.getMean()).isGreaterThan(100);
+  }
+
+  @Test
+  void testIndependenceOfLandmark() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    DecayingHistogram histogram = DecayingHistogram.create(layout, 1);
+    histogram.addValue(1, 0).addValue(100, 0);
+    double median = histogram.getQuantile(0.5);
+    assertEquals(50.5, median, 1e-9);
+    // an old value sets the landmark, but has a negligible weight
+    DecayingHistogram histogramWithOldValue = DecayingHistogram.create(layout, 1);
+    histogramWithOldValue.addValue(50, -50).addValue(1, 0).addValue(100, 0);
+    assertEquals(median, histogramWithOldValue.getQuantile(0.5), 1e-9);
+
+    // the same values recorded in different orders lead to different landmarks
+    SplittableRandom random = new SplittableRandom(0);
+    double[] values = random.doubles(1000, 1, 1000).toArray();
+    long[] timestamps = random.longs(1000, 0, 100_000).toArray();
+    DecayingHistogram forward = DecayingHistogram.create(layout, 1000);
+    DecayingHistogram backward = DecayingHistogram.create(layout, 1000);
+    for (int i = 0; i < values.length; ++i) {
+      forward.addValue(values[i], timestamps[i]);
+      backward.addValue(values[values.length - 1 - i], timestamps[values.length - 1 - i]);
+    }
+    for (double p : new double[] {0., 0.01, 0.1, 0.5, 0.9, 0.99, 1.}) {
+      double quantile = forward.getQuantile(p);
+      assertEquals(quantile, backward.getQuantile(p), quantile * 1e-9);
+    }
+  }
+
+  @Test
+  void testLargeTimestampGaps() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    // the weights of all old values underflow to zero when moving the landmark
+    DecayingHistogram histogram = DecayingHistogram.create(layout, 1000);
+    histogram.addValue(10, 100, 0).addValue(500, 100, 2_000_000);
+    assertEquals(500., histogram.getMin(), 0.);
+    assertEquals(500., histogram.getMax(), 0.);
+    assertEquals(500., histogram.getMean(), 0.);
+    for (double p : new double[] {0., 0.1, 0.5, 0.9, 1.}) {
+      assertEquals(500., histogram.getQuantile(p), 0.);
+    }
+    assertEquals(1., histogram.getTotalWeight(2_000_000) / 100., 1e-12);
+
+    // only the weights of the oldest values underflow to zero
+    histogram = DecayingHistogram.create(layout, 1000);
+    histogram.addValue(10, 0).addValue(300, 1_000_000).addValue(500, 1_500_000);
+    assertEquals(300., histogram.getMin(), 300. * 1e-2);
+    assertEquals(500., histogram.getMax(), 0.);
+    for (double p : new double[] {0., 0.1, 0.5, 0.9, 1.}) {
+      assertThat(histogram.getQuantile(p)).isBetween(300. * (1 - 1e-2), 500.);
+    }
+  }
+
+  @Test
+  void testCreate() {
+    Layout layout = CustomLayout.create(0);
+    assertThrows(IllegalArgumentException.class, () -> DecayingHistogram.create(layout, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DecayingHistogram.create(layout, Double.POSITIVE_INFINITY));
+    assertThrows(NullPointerException.class, () -> DecayingHistogram.create(null, 1));
+    DecayingHistogram histogram = DecayingHistogram.create(layout, 1);
+    assertThrows(IllegalArgumentException.class, () -> histogram.addValue(Double.NaN, 0));
+    assertThrows(IllegalArgumentException.class, () -> histogram.addValue(1, -1, 0));
+    assertTrue(histogram.getSnapshot().isEmpty());
+  }
+}
@@ -40,7 +40,7 @@ class DynamicHistogramTest extends AbstractHistogramTest {
   void testGetEstimatedFootprintInByte() {
     Layout layout = LogQuadraticLayout.create(1e-8, 1e-2, -1e6, 1e6);
     Histogram histogram = Histogram.createDynamic(layout);
-    assertEquals(82, histogram.getEstimatedFootprintInBytes());
+    assertEquals(118, histogram.getEstimatedFootprintInBytes());
   }
 
   @Test
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class HistogramDeltaTest {
+
+  private static final Layout LAYOUT = LogQuadraticLayout.create(1e-3, 1e-2, -1e3, 1e5);
+
+  private static byte[] writeDelta(Histogram histogram, Histogram reference) throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    histogram.writeDelta(reference, new DataOutputStream(byteArrayOutputStream));
+    return byteArrayOutputStream.toByteArray();
+  }
+
+  private static byte[] write(Histogram histogram) throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    histogram.write(new DataOutputStream(byteArrayOutputStream));
+    return byteArrayOutputStream.toByteArray();
+  }
+
+  private static DataInputStream toDataInput(byte[] data) {
+    return new DataInputStream(new ByteArrayInputStream(data));
+  }
+
+  private static void addRandomValues(Histogram histogram, int numValues, SplittableRandom random) {
+    for (int i = 0; i < numValues; ++i) {
+      histogram.addValue(Math.pow(10., random.nextDouble(-4, 6)) - 1e3);
+    }
+  }
+
+  private static void assertDeltaRoundTrip(Histogram histogram, Histogram reference)
+      throws IOException {
+    byte[] data = writeDelta(histogram, reference);
+    for (Histogram deserializedHistogram :
+        Arrays.asList(
+            Histogram.readDeltaAsDynamic(reference, toDataInput(data)),
+            Histogram.readDeltaAsStatic(reference, toDataInput(data)),
+            Histogram.readDeltaAsPreprocessed(reference, toDataInput(data)))) {
+      assertEquals(histogram, deserializedHistogram);
+      assertEquals(histogram.getSum(), deserializedHistogram.getSum(), 0.);
+      assertEquals(histogram.getSumOfSquares(), deserializedHistogram.getSumOfSquares(), 0.);
+    }
+  }
+
+  @Test
+  void testRoundTripGrowingHistogram() throws IOException {
+    SplittableRandom random = new SplittableRandom(0);
+    Histogram histogram = Histogram.createDynamic(LAYOUT);
+    for (int i = 0; i < 50; ++i) {
+      Histogram reference = histogram.getPreprocessedCopy();
+      addRandomValues(histogram, random.nextInt(100), random);
+      assertDeltaRoundTrip(histogram, reference);
+    }
+  }
+
+  @Test
+  void testRoundTripRandomPairs() throws IOException {
+    SplittableRandom random = new SplittableRandom(1);
+    for (int i = 0; i < 200; ++i) {
+      Histogram histogram = Histogram.createStatic(LAYOUT);
+      Histogram reference = Histogram.createDynamic(LAYOUT);
+      addRandomValues(histogram, random.nextInt(i % 7 == 0 ? 3 : 500), random);
+      addRandomValues(reference, random.nextInt(i % 5 == 0 ? 3 : 500), random);
+      assertDeltaRoundTrip(histogram, reference);
+      assertDeltaRoundTrip(reference, histogram);
+    }
+  }
+
+  @Test
+  void testRoundTripEmpty() throws IOException {
+    Histogram empty = Histogram.createDynamic(LAYOUT);
+    Histogram histogram = Histogram.createDynamic(LAYOUT);
+    histogram.addValue(-2e3).addValue(5.).addValue(7., 3).addValue(2e5);
+
+    assertDeltaRoundTrip(empty, empty);
+    assertDeltaRoundTrip(histogram, empty);
+    assertDeltaRoundTrip(empty, histogram);
+    assertDeltaRoundTrip(histogram, histogram);
+  }
+
+  @Test
+  void testDeltaIsSmallForSimilarHistograms() throws IOException {
+    SplittableRandom random = new SplittableRandom(2);
+    Histogram reference = Histogram.createDynamic(LAYOUT);
+    addRandomValues(reference, 100000, random);
+    Histogram histogram = Histogram.createDynamic(LAYOUT).addHistogram(reference);
+    addRandomValues(histogram, 100, random);
+
+    byte[] delta = writeDelta(histogram, reference);
+    assertTrue(delta.length * 4 < write(histogram).length);
+    assertEquals(20, writeDelta(reference, reference).length);
+  }
+
+  @Test
+  void testIncompatibleLayout() {
+    Histogram histogram = Histogram.createDynamic(LAYOUT);
+    Histogram reference = Histogram.createDynamic(LogQuadraticLayout.create(1e-3, 1e-2, 0, 1e5));
+    assertThrows(IllegalArgumentException.class, () -> writeDelta(histogram, reference));
+  }
+
+  @Test
+  void testInvalidSerialVersion() {
+    Histogram reference = Histogram.createDynamic(LAYOUT);
+    assertThrows(
+        IOException.class,
+        () -> Histogram.readDeltaAsDynamic(reference, toDataInput(new byte[] {1, 0, 0, 0})));
+  }
+
+  @Test
+  void testInconsistentReference() throws IOException {
+    Histogram histogram = Histogram.createDynamic(LAYOUT).addValue(5.);
+    Histogram reference = Histogram.createDynamic(LAYOUT).addValue(5., 2);
+    byte[] data = writeDelta(histogram, reference);
+    Histogram otherReference = Histogram.createDynamic(LAYOUT);
+    assertThrows(
+        IOException.class, () -> Histogram.readDeltaAsDynamic(otherReference, toDataInput(data)));
+  }
+}
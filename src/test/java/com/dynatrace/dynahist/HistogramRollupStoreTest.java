@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class HistogramRollupStoreTest {
+
+  private static final long SECOND = 1;
+  private static final long MINUTE = 60 * SECOND;
+  private static final long HOUR = 60 * MINUTE;
+
+  private static final Layout LAYOUT = LogQuadraticLayout.create(1e-5, 1e-2, 0, 1e6);
+
+  private static HistogramRollupStore createStore() {
+    return HistogramRollupStore.create(
+        LAYOUT, new long[] {SECOND, MINUTE, HOUR}, new long[] {2 * MINUTE, 2 * HOUR, 24 * HOUR});
+  }
+
+  private static Histogram[] fill(HistogramRollupStore store, long duration) {
+    SplittableRandom random = new SplittableRandom(0);
+    Histogram[] histograms = new Histogram[(int) duration];
+    for (int t = 0; t < duration; ++t) {
+      histograms[t] = Histogram.createDynamic(LAYOUT);
+      int numValues = random.nextInt(5);
+      for (int i = 0; i < numValues; ++i) {
+        histograms[t].addValue(random.nextDouble(0, 1000 + t));
+      }
+      store.add(t, histograms[t]);
+    }
+    return histograms;
+  }
+
+  private static Histogram merge(Histogram[] histograms, long from, long to) {
+    Histogram result = Histogram.createDynamic(LAYOUT);
+    for (long t = from; t < to; ++t) {
+      result.addHistogram(histograms[(int) t]);
+    }
+    return result;
+  }
+
+  @Test
+  void testQuery() {
+    HistogramRollupStore store = createStore();
+    long duration = 3 * HOUR + 17 * MINUTE + 23 * SECOND;
+    Histogram[] histograms = fill(store, duration);
+
+    // recent data is available in the finest resolution
+    assertEquals(merge(histograms, duration - 77, duration), store.query(duration - 77, duration));
+    assertEquals(
+        merge(histograms, duration - 100, duration - 3),
+        store.query(duration - 100, duration - 3));
+    // older data is available in minute resolution
+    assertEquals(
+        merge(histograms, 2 * HOUR + 5 * MINUTE, duration),
+        store.query(2 * HOUR + 5 * MINUTE, duration));
+    // hour resolution
+    assertEquals(merge(histograms, 0, duration), store.query(0, duration));
+    assertEquals(merge(histograms, HOUR, 2 * HOUR), store.query(HOUR, 2 * HOUR));
+    assertTrue(store.query(duration, duration + HOUR).isEmpty());
+    assertTrue(store.query(5, 5).isEmpty());
+  }
+
+  @Test
+  void testQueryOfUnalignedRange() {
+    HistogramRollupStore store = createStore();
+    long duration = 3 * HOUR;
+    Histogram[] histograms = fill(store, duration);
+
+    // minute resolution is not available anymore for the first hour, so the whole hour is returned
+    assertEquals(merge(histograms, 0, HOUR), store.query(10 * MINUTE, 20 * MINUTE));
+    // second resolution is not available anymore, so the enclosing minutes are returned
+    assertEquals(
+        merge(histograms, HOUR + 10 * MINUTE, HOUR + 21 * MINUTE),
+        store.query(HOUR + 10 * MINUTE + 5, HOUR + 20 * MINUTE + 5));
+  }
+
+  @Test
+  void testEviction() {
+    HistogramRollupStore store = createStore();
+    fill(store, 5 * HOUR);
+    assertThat(store.getNumBuckets(0)).isLessThanOrEqualTo(2 * MINUTE / SECOND);
+    assertThat(store.getNumBuckets(1)).isLessThanOrEqualTo(2 * HOUR / MINUTE);
+    assertEquals(5, store.getNumBuckets(2));
+    assertTrue(store.query(0, HOUR + 59 * MINUTE).getTotalCount() > 0);
+
+    // buckets of earlier timestamps are only added to levels that still retain them
+    store.add(5 * MINUTE, Histogram.createDynamic(LAYOUT).addValue(1));
+    assertThat(store.getNumBuckets(0)).isLessThanOrEqualTo(2 * MINUTE / SECOND);
+  }
+
+  @Test
+  void testCreate() {
+    Layout layout = CustomLayout.create(0);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> HistogramRollupStore.create(layout, new long[] {}, new long[] {}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> HistogramRollupStore.create(layout, new long[] {2, 3}, new long[] {10, 10}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> HistogramRollupStore.create(layout, new long[] {2, 4}, new long[] {1, 10}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> HistogramRollupStore.create(layout, new long[] {2}, new long[] {10, 10}));
+    HistogramRollupStore store =
+        HistogramRollupStore.create(layout, new long[] {2, 4}, new long[] {2, 4});
+    assertThrows(
+        IllegalArgumentException.class, () -> store.add(0, Histogram.createDynamic(LAYOUT)));
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class HistogramsTest {
+
+  @Test
+  void testDownscale() {
+    SplittableRandom random = new SplittableRandom(0);
+    for (int scale = 0; scale <= 10; ++scale) {
+      Histogram histogram =
+          Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(scale));
+      for (int i = 0; i < 1000; ++i) {
+        double sign = random.nextBoolean() ? 1 : -1;
+        histogram.addValue(sign * Math.pow(10., random.nextDouble(-5, 5)));
+      }
+      histogram.addValue(0., 3);
+      histogram.addValue(Double.POSITIVE_INFINITY, 2);
+      histogram.addValue(Double.NEGATIVE_INFINITY, 4);
+
+      for (int newScale = 0; newScale <= scale; ++newScale) {
+        Histogram expected =
+            Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(newScale));
+        expected.addHistogram(histogram);
+        Histogram downscaled = Histograms.downscale(histogram, newScale);
+        assertEquals(expected, downscaled);
+        assertEquals(histogram.getSum(), downscaled.getSum(), 0.);
+        assertEquals(histogram.getSumOfSquares(), downscaled.getSumOfSquares(), 0.);
+        assertTrue(downscaled.isMutable());
+      }
+    }
+  }
+
+  @Test
+  void testDownscaleEmpty() {
+    Histogram histogram = Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(5));
+    Histogram downscaled = Histograms.downscale(histogram, 2);
+    assertTrue(downscaled.isEmpty());
+    assertEquals(OpenTelemetryExponentialBucketsLayout.create(2), downscaled.getLayout());
+  }
+
+  @Test
+  void testDownscaleOnlyUnderflowAndOverflow() {
+    Histogram histogram = Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(5));
+    histogram.addValue(Double.NEGATIVE_INFINITY);
+    histogram.addValue(Double.POSITIVE_INFINITY);
+    Histogram downscaled = Histograms.downscale(histogram, 2);
+    assertEquals(1, downscaled.getUnderflowCount());
+    assertEquals(1, downscaled.getOverflowCount());
+    assertEquals(2, downscaled.getTotalCount());
+  }
+
+  @Test
+  void testDownscaleInvalidArguments() {
+    Histogram histogram = Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(5));
+    assertThrows(NullPointerException.class, () -> Histograms.downscale(null, 2));
+    assertThrows(IllegalArgumentException.class, () -> Histograms.downscale(histogram, 6));
+    assertThrows(IllegalArgumentException.class, () -> Histograms.downscale(histogram, -1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            Histograms.downscale(
+                Histogram.createDynamic(LogLinearLayout.create(1e-8, 1e-2, -1e6, 1e6)), 2));
+  }
+
+  @Test
+  void testConvert() {
+    Layout[] layouts = {
+      LogLinearLayout.create(1e-3, 1e-2, -1e3, 1e3),
+      LogQuadraticLayout.create(1e-5, 1e-1, 0, 1e5),
+      OpenTelemetryExponentialBucketsLayout.create(3),
+      CustomLayout.create(-10, -1, 0, 1, 10, 100)
+    };
+    ValueEstimator[] valueEstimators = {
+      ValueEstimator.UNIFORM,
+      ValueEstimator.LOWER_BOUND,
+      ValueEstimator.UPPER_BOUND,
+      ValueEstimator.MID_POINT
+    };
+    SplittableRandom random = new SplittableRandom(0);
+    for (Layout sourceLayout : layouts) {
+      Histogram histogram = Histogram.createDynamic(sourceLayout);
+      for (int i = 0; i < 1000; ++i) {
+        double sign = random.nextBoolean() ? 1 : -1;
+        histogram.addValue(sign * Math.pow(10., random.nextDouble(-3, 4)), 1 + random.nextInt(5));
+      }
+      histogram.addValue(1e7, 1_000_000_000L);
+      histogram.addValue(Double.NEGATIVE_INFINITY, 4);
+      for (Layout targetLayout : layouts) {
+        for (ValueEstimator valueEstimator : valueEstimators) {
+          Histogram expected = Histogram.createDynamic(targetLayout);
+          expected.addHistogram(histogram, valueEstimator);
+          Histogram converted = Histograms.convert(histogram, targetLayout, valueEstimator);
+          assertEquals(expected, converted);
+          assertEquals(histogram.getSum(), converted.getSum(), 0.);
+          assertEquals(histogram.getSumOfSquares(), converted.getSumOfSquares(), 0.);
+          assertEquals(targetLayout, converted.getLayout());
+          assertTrue(converted.isMutable());
+        }
+      }
+    }
+  }
+
+  @Test
+  void testConvertLargeCounts() {
+    Layout sourceLayout = OpenTelemetryExponentialBucketsLayout.create(8);
+    Layout targetLayout = LogLinearLayout.create(1e-3, 1e-2, 0, 1e6);
+    Histogram histogram = Histogram.createDynamic(sourceLayout);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 1000; ++i) {
+      histogram.addValue(Math.pow(10., random.nextDouble(-2, 5)), 1L << 40);
+    }
+    Histogram converted = Histograms.convert(histogram, targetLayout, ValueEstimator.UNIFORM);
+    assertEquals(histogram.getTotalCount(), converted.getTotalCount());
+    assertEquals(histogram.getMin(), converted.getMin(), 0.);
+    assertEquals(histogram.getMax(), converted.getMax(), 0.);
+    assertEquals(
+        histogram.getQuantile(0.5), converted.getQuantile(0.5), histogram.getQuantile(0.5) * 2e-2);
+  }
+
+  @Test
+  void testConvertEmpty() {
+    Layout layout = LogLinearLayout.create(1e-3, 1e-2, 0, 1e6);
+    Histogram converted =
+        Histograms.convert(
+            Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(5)),
+            layout,
+            ValueEstimator.UNIFORM);
+    assertTrue(converted.isEmpty());
+    assertEquals(layout, converted.getLayout());
+  }
+
+  @Test
+  void testConvertInvalidArguments() {
+    Layout layout = LogLinearLayout.create(1e-3, 1e-2, 0, 1e6);
+    Histogram histogram = Histogram.createDynamic(layout);
+    assertThrows(
+        NullPointerException.class,
+        () -> Histograms.convert(null, layout, ValueEstimator.UNIFORM));
+    assertThrows(
+        NullPointerException.class,
+        () -> Histograms.convert(histogram, null, ValueEstimator.UNIFORM));
+    assertThrows(NullPointerException.class, () -> Histograms.convert(histogram, layout, null));
+  }
+}
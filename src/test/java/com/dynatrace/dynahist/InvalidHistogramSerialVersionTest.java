@@ -31,7 +31,10 @@ public class InvalidHistogramSerialVersionTest {
   @Test
   public void invalidSerialVersions() {
     byte[] validSerialVersions = {
-      AbstractHistogram.SERIAL_VERSION_V0, AbstractHistogram.SERIAL_VERSION_V1
+      AbstractHistogram.SERIAL_VERSION_V0,
+      AbstractHistogram.SERIAL_VERSION_V1,
+      AbstractHistogram.SERIAL_VERSION_V2,
+      AbstractHistogram.SERIAL_VERSION_V3
     };
     Arrays.sort(validSerialVersions);
     int skippedVersions = 0;
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
+import com.dynatrace.dynahist.value.ValueEstimator;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LayoutConverterTest {
+
+  private static Histogram createHistogram(Layout layout, SplittableRandom random) {
+    Histogram histogram = Histogram.createDynamic(layout);
+    for (int i = 0; i < 1000; ++i) {
+      double sign = random.nextBoolean() ? 1 : -1;
+      histogram.addValue(sign * Math.pow(10., random.nextDouble(-3, 4)), 1 + random.nextInt(1000));
+    }
+    histogram.addValue(1e7, 1_000_000_000L);
+    histogram.addValue(Double.NEGATIVE_INFINITY, 4);
+    return histogram;
+  }
+
+  private static void assertConversion(Histogram histogram, Histogram converted, Layout layout) {
+    Histogram expected = Histograms.convert(histogram, layout, ValueEstimator.UNIFORM);
+    HistogramTestUtil.checkHistogramDataConsistency(converted);
+    assertEquals(layout, converted.getLayout());
+    assertEquals(expected.getTotalCount(), converted.getTotalCount());
+    assertEquals(expected.getMin(), converted.getMin(), 0.);
+    assertEquals(expected.getMax(), converted.getMax(), 0.);
+    assertEquals(expected.getSum(), converted.getSum(), 0.);
+    assertEquals(expected.getSumOfSquares(), converted.getSumOfSquares(), 0.);
+    for (int binIndex = layout.getUnderflowBinIndex();
+        binIndex <= layout.getOverflowBinIndex();
+        ++binIndex) {
+      assertThat(converted.getCount(binIndex))
+          .isBetween(expected.getCount(binIndex) - 1, expected.getCount(binIndex) + 1);
+    }
+  }
+
+  @Test
+  void testConvert() {
+    Layout[] layouts = {
+      LogLinearLayout.create(1e-3, 1e-2, -1e3, 1e3),
+      LogQuadraticLayout.create(1e-5, 1e-1, 0, 1e5),
+      OpenTelemetryExponentialBucketsLayout.create(8),
+      OpenTelemetryExponentialBucketsLayout.create(0),
+      CustomLayout.create(-10, -1, 0, 1, 10, 100)
+    };
+    SplittableRandom random = new SplittableRandom(0);
+    for (Layout sourceLayout : layouts) {
+      for (Layout targetLayout : layouts) {
+        LayoutConverter converter = LayoutConverter.create(sourceLayout, targetLayout);
+        assertSame(sourceLayout, converter.getSourceLayout());
+        assertSame(targetLayout, converter.getTargetLayout());
+        for (int i = 0; i < 3; ++i) {
+          Histogram histogram = createHistogram(sourceLayout, random);
+          assertConversion(histogram, converter.convert(histogram), targetLayout);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testConvertSingleBin() {
+    Layout sourceLayout = OpenTelemetryExponentialBucketsLayout.create(0);
+    Layout targetLayout = LogLinearLayout.create(1e-3, 1e-2, -1e3, 1e3);
+    LayoutConverter converter = LayoutConverter.create(sourceLayout, targetLayout);
+    Histogram histogram = Histogram.createDynamic(sourceLayout);
+    histogram.addValue(5., 10);
+    histogram.addValue(7., 10);
+    assertConversion(histogram, converter.convert(histogram), targetLayout);
+    histogram.addValue(100, 1000);
+    assertConversion(histogram, converter.convert(histogram), targetLayout);
+  }
+
+  @Test
+  void testConvertWithoutPlanCache() {
+    Layout sourceLayout = LogLinearLayout.create(1e-9, 1e-6, -1e3, 1e3);
+    assertThat((long) sourceLayout.getOverflowBinIndex() - sourceLayout.getUnderflowBinIndex())
+        .isGreaterThan(LayoutConverter.PLAN_CACHE_MAX_SIZE);
+    Layout targetLayout = OpenTelemetryExponentialBucketsLayout.create(4);
+    LayoutConverter converter = LayoutConverter.create(sourceLayout, targetLayout);
+    Histogram histogram = createHistogram(sourceLayout, new SplittableRandom(0));
+    assertConversion(histogram, converter.convert(histogram), targetLayout);
+  }
+
+  @Test
+  void testConvertEmpty() {
+    Layout targetLayout = LogLinearLayout.create(1e-3, 1e-2, 0, 1e6);
+    Layout sourceLayout = OpenTelemetryExponentialBucketsLayout.create(5);
+    Histogram converted =
+        LayoutConverter.create(sourceLayout, targetLayout)
+            .convert(Histogram.createDynamic(sourceLayout));
+    assertTrue(converted.isEmpty());
+    assertEquals(targetLayout, converted.getLayout());
+  }
+
+  @Test
+  void testConvertersAreOwnedByCallers() {
+    Layout sourceLayout = OpenTelemetryExponentialBucketsLayout.create(8);
+    Layout targetLayout = LogLinearLayout.create(1e-3, 1e-2, 0, 1e6);
+    LayoutConverter converter = LayoutConverter.create(sourceLayout, targetLayout);
+    LayoutConverter otherConverter = LayoutConverter.create(sourceLayout, targetLayout);
+    // converters are not cached globally, but independent instances give the same results
+    assertNotSame(converter, otherConverter);
+    SplittableRandom random = new SplittableRandom(1);
+    for (int i = 0; i < 3; ++i) {
+      Histogram histogram = createHistogram(sourceLayout, random);
+      assertEquals(converter.convert(histogram), otherConverter.convert(histogram));
+    }
+  }
+
+  @Test
+  void testInvalidArguments() {
+    Layout sourceLayout = OpenTelemetryExponentialBucketsLayout.create(8);
+    Layout targetLayout = LogLinearLayout.create(1e-3, 1e-2, 0, 1e6);
+    LayoutConverter converter = LayoutConverter.create(sourceLayout, targetLayout);
+    assertThrows(NullPointerException.class, () -> LayoutConverter.create(null, targetLayout));
+    assertThrows(NullPointerException.class, () -> LayoutConverter.create(sourceLayout, null));
+    assertThrows(NullPointerException.class, () -> converter.convert(null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> converter.convert(Histogram.createDynamic(targetLayout)));
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import com.dynatrace.dynahist.layout.LogOptimalLayout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class MemoryBoundedHistogramTest {
+
+  private static final long MAX_FOOTPRINT_IN_BYTES = 1000;
+
+  private static double[] createValues() {
+    SplittableRandom random = new SplittableRandom(0);
+    double[] values = new double[10_000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (random.nextBoolean() ? 1 : -1) * Math.pow(10., random.nextDouble(-2, 6));
+    }
+    return values;
+  }
+
+  private static void testErrorLimits(
+      Layout layout, double initialAbsoluteBinWidthLimit, double initialRelativeBinWidthLimit) {
+    double[] values = createValues();
+    Histogram histogram = Histogram.createMemoryBounded(layout, MAX_FOOTPRINT_IN_BYTES);
+    for (double value : values) {
+      histogram.addValue(value);
+      assertThat(histogram.getEstimatedFootprintInBytes())
+          .isLessThanOrEqualTo(MAX_FOOTPRINT_IN_BYTES);
+    }
+    assertEquals(values.length, histogram.getTotalCount());
+    assertEquals(Arrays.stream(values).sum(), histogram.getSum(), 1e-6);
+
+    Layout currentLayout = histogram.getLayout();
+    final double absoluteBinWidthLimit;
+    final double relativeBinWidthLimit;
+    if (currentLayout instanceof LogLinearLayout) {
+      absoluteBinWidthLimit = ((LogLinearLayout) currentLayout).getAbsoluteBinWidthLimit();
+      relativeBinWidthLimit = ((LogLinearLayout) currentLayout).getRelativeBinWidthLimit();
+    } else if (currentLayout instanceof LogQuadraticLayout) {
+      absoluteBinWidthLimit = ((LogQuadraticLayout) currentLayout).getAbsoluteBinWidthLimit();
+      relativeBinWidthLimit = ((LogQuadraticLayout) currentLayout).getRelativeBinWidthLimit();
+    } else {
+      absoluteBinWidthLimit = ((LogOptimalLayout) currentLayout).getAbsoluteBinWidthLimit();
+      relativeBinWidthLimit = ((LogOptimalLayout) currentLayout).getRelativeBinWidthLimit();
+    }
+    assertEquals(layout.getClass(), currentLayout.getClass());
+    assertThat(relativeBinWidthLimit).isGreaterThan(initialRelativeBinWidthLimit);
+    assertThat(absoluteBinWidthLimit).isGreaterThan(initialAbsoluteBinWidthLimit);
+
+    Arrays.sort(values);
+    for (int rank = 0; rank < values.length; ++rank) {
+      double value = values[rank];
+      double estimate = histogram.getValue(rank);
+      assertThat(Math.abs(estimate - value))
+          .isLessThanOrEqualTo(
+              2 * Math.max(absoluteBinWidthLimit, relativeBinWidthLimit * Math.abs(value)) * 1.001);
+    }
+  }
+
+  @Test
+  void testLogLinearLayout() {
+    testErrorLimits(LogLinearLayout.create(1e-3, 1e-3, -1e6, 1e6), 1e-3, 1e-3);
+  }
+
+  @Test
+  void testLogQuadraticLayout() {
+    testErrorLimits(LogQuadraticLayout.create(1e-3, 1e-3, -1e6, 1e6), 1e-3, 1e-3);
+  }
+
+  @Test
+  void testLogOptimalLayout() {
+    testErrorLimits(LogOptimalLayout.create(1e-3, 1e-3, -1e6, 1e6), 1e-3, 1e-3);
+  }
+
+  @Test
+  void testOpenTelemetryExponentialBucketsLayout() {
+    double[] values = createValues();
+    Histogram histogram =
+        Histogram.createMemoryBounded(
+            OpenTelemetryExponentialBucketsLayout.create(10), MAX_FOOTPRINT_IN_BYTES);
+    Histogram expected =
+        Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(10));
+    // negative values are omitted, as the bins for values close to zero would exceed the limit
+    for (double value : values) {
+      histogram.addValue(Math.abs(value));
+      expected.addValue(Math.abs(value));
+      assertThat(histogram.getEstimatedFootprintInBytes())
+          .isLessThanOrEqualTo(MAX_FOOTPRINT_IN_BYTES);
+    }
+    int scale = ((OpenTelemetryExponentialBucketsLayout) histogram.getLayout()).getScale();
+    assertTrue(scale < 10);
+    assertEquals(Histograms.downscale(expected, scale), histogram);
+  }
+
+  @Test
+  void testAddHistogram() {
+    Histogram histogram = Histogram.createDynamic(LogLinearLayout.create(1e-3, 1e-3, -1e6, 1e6));
+    for (double value : createValues()) {
+      histogram.addValue(value);
+    }
+    Histogram memoryBoundedHistogram =
+        Histogram.createMemoryBounded(
+            LogLinearLayout.create(1e-3, 1e-3, -1e6, 1e6), MAX_FOOTPRINT_IN_BYTES);
+    memoryBoundedHistogram.addHistogram(histogram);
+    assertThat(memoryBoundedHistogram.getEstimatedFootprintInBytes())
+        .isLessThanOrEqualTo(MAX_FOOTPRINT_IN_BYTES);
+    assertEquals(histogram.getTotalCount(), memoryBoundedHistogram.getTotalCount());
+    assertEquals(histogram.getMin(), memoryBoundedHistogram.getMin(), 0.);
+    assertEquals(histogram.getMax(), memoryBoundedHistogram.getMax(), 0.);
+  }
+
+  @Test
+  void testGetCoarserLayout() {
+    assertNull(
+        MemoryBoundedHistogram.getCoarserLayout(OpenTelemetryExponentialBucketsLayout.create(0)));
+    assertEquals(
+        OpenTelemetryExponentialBucketsLayout.create(4),
+        MemoryBoundedHistogram.getCoarserLayout(OpenTelemetryExponentialBucketsLayout.create(5)));
+    LogQuadraticLayout layout =
+        (LogQuadraticLayout)
+            MemoryBoundedHistogram.getCoarserLayout(
+                LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6));
+    assertEquals(2e-5, layout.getAbsoluteBinWidthLimit(), 0.);
+    assertEquals(2e-2, layout.getRelativeBinWidthLimit(), 0.);
+    assertThat(layout.getNormalRangeLowerBound()).isLessThanOrEqualTo(-1e6);
+    assertThat(layout.getNormalRangeUpperBound()).isGreaterThanOrEqualTo(1e6);
+  }
+
+  @Test
+  void testCreate() {
+    Layout layout = LogLinearLayout.create(1e-3, 1e-3, -1e6, 1e6);
+    assertThrows(NullPointerException.class, () -> Histogram.createMemoryBounded(null, 1000));
+    assertThrows(IllegalArgumentException.class, () -> Histogram.createMemoryBounded(layout, 10));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Histogram.createMemoryBounded(CustomLayout.create(1, 2, 3), 1000));
+  }
+}
@@ -39,7 +39,7 @@ class PreprocessedHistogramTest extends AbstractHistogramTest {
   void testGetEstimatedFootprintInByte() {
     Layout layout = LogQuadraticLayout.create(1e-8, 1e-2, -1e6, 1e6);
     Histogram preprocessedHistogram = Histogram.createDynamic(layout).getPreprocessedCopy();
-    assertEquals(72, preprocessedHistogram.getEstimatedFootprintInBytes());
+    assertEquals(88, preprocessedHistogram.getEstimatedFootprintInBytes());
   }
 
   @Test
@@ -58,6 +58,9 @@ class PreprocessedHistogramTest extends AbstractHistogramTest {
     assertThrows(
         UnsupportedOperationException.class,
         () -> preprocessedHistogram.addAscendingSequence(j -> 100, 10));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> preprocessedHistogram.addSortedValues(new double[] {100}, 0, 1));
     assertThrows(IllegalArgumentException.class, () -> preprocessedHistogram.getBinByRank(-1));
     assertThrows(IllegalArgumentException.class, () -> preprocessedHistogram.getBinByRank(1));
   }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.bin.BinIterator;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import com.dynatrace.dynahist.layout.OpenTelemetryExponentialBucketsLayout;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ScaleAdaptiveHistogramTest {
+
+  private static final int MAX_NUM_BINS = 160;
+
+  private static int getScale(Histogram histogram) {
+    return ((OpenTelemetryExponentialBucketsLayout) histogram.getLayout()).getScale();
+  }
+
+  private static void assertMaxNumBins(Histogram histogram, int maxNumBins) {
+    int minPositiveBinIndex = Integer.MAX_VALUE;
+    int maxPositiveBinIndex = Integer.MIN_VALUE;
+    int minNegativeBinIndex = Integer.MAX_VALUE;
+    int maxNegativeBinIndex = Integer.MIN_VALUE;
+    for (BinIterator bin = histogram.getFirstNonEmptyBin(); ; bin.next()) {
+      if (!bin.isUnderflowBin() && !bin.isOverflowBin()) {
+        if (bin.getBinIndex() > 0) {
+          minPositiveBinIndex = Math.min(minPositiveBinIndex, bin.getBinIndex());
+          maxPositiveBinIndex = Math.max(maxPositiveBinIndex, bin.getBinIndex());
+        } else if (bin.getBinIndex() < 0) {
+          minNegativeBinIndex = Math.min(minNegativeBinIndex, bin.getBinIndex());
+          maxNegativeBinIndex = Math.max(maxNegativeBinIndex, bin.getBinIndex());
+        }
+      }
+      if (bin.isLastNonEmptyBin()) {
+        break;
+      }
+    }
+    assertTrue((long) maxPositiveBinIndex - minPositiveBinIndex < maxNumBins);
+    assertTrue((long) maxNegativeBinIndex - minNegativeBinIndex < maxNumBins);
+  }
+
+  @Test
+  void testAddValue() {
+    SplittableRandom random = new SplittableRandom(0);
+    double[] values = new double[10_000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (random.nextBoolean() ? 1 : -1) * Math.pow(10., random.nextDouble(-3, 6));
+    }
+
+    Histogram histogram = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    assertEquals(10, getScale(histogram));
+    for (double value : values) {
+      histogram.addValue(value);
+    }
+    histogram.addValue(0., 5);
+    histogram.addValue(Double.POSITIVE_INFINITY);
+
+    int scale = getScale(histogram);
+    assertTrue(scale < 10);
+    assertMaxNumBins(histogram, MAX_NUM_BINS);
+
+    Histogram expected =
+        Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(scale));
+    for (double value : values) {
+      expected.addValue(value);
+    }
+    expected.addValue(0., 5);
+    expected.addValue(Double.POSITIVE_INFINITY);
+    assertEquals(expected, histogram);
+    assertEquals(histogram, expected);
+    assertEquals(expected.hashCode(), histogram.hashCode());
+  }
+
+  @Test
+  void testScaleIsMaximal() {
+    Histogram histogram = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    histogram.addValue(1.);
+    histogram.addValue(1000.);
+    int scale = getScale(histogram);
+    OpenTelemetryExponentialBucketsLayout layout =
+        OpenTelemetryExponentialBucketsLayout.create(scale);
+    assertTrue(layout.mapToBinIndex(1000.) - layout.mapToBinIndex(1.) < MAX_NUM_BINS);
+    OpenTelemetryExponentialBucketsLayout finerLayout =
+        OpenTelemetryExponentialBucketsLayout.create(scale + 1);
+    assertTrue(finerLayout.mapToBinIndex(1000.) - finerLayout.mapToBinIndex(1.) >= MAX_NUM_BINS);
+  }
+
+  @Test
+  void testAddHistogram() {
+    SplittableRandom random = new SplittableRandom(0);
+    Histogram histogram1 = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    Histogram histogram2 = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    for (int i = 0; i < 1000; ++i) {
+      histogram1.addValue(Math.pow(10., random.nextDouble(0, 1)));
+      histogram2.addValue(Math.pow(10., random.nextDouble(0, 4)));
+    }
+    assertTrue(getScale(histogram1) > getScale(histogram2));
+
+    Histogram expected =
+        Histograms.downscale(histogram1, getScale(histogram2)).addHistogram(histogram2);
+    Histogram merged1 = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    merged1.addHistogram(histogram1).addHistogram(histogram2);
+    Histogram merged2 = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    merged2.addHistogram(histogram2).addHistogram(histogram1);
+    assertEquals(expected, merged1);
+    assertEquals(expected, merged2);
+    assertEquals(histogram1.getSum() + histogram2.getSum(), merged1.getSum(), 1e-9);
+    assertMaxNumBins(merged1, MAX_NUM_BINS);
+  }
+
+  @Test
+  void testAddHistogramWithMixedSigns() {
+    SplittableRandom random = new SplittableRandom(0);
+    Histogram histogram = Histogram.createDynamic(OpenTelemetryExponentialBucketsLayout.create(10));
+    Histogram expected = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    for (int i = 0; i < 1000; ++i) {
+      double value = (random.nextBoolean() ? 1 : -1) * Math.pow(10., random.nextDouble(-3, 2));
+      histogram.addValue(value);
+      expected.addValue(value);
+    }
+    histogram.addValue(0., 3);
+    expected.addValue(0., 3);
+    histogram.addValue(Double.NEGATIVE_INFINITY);
+    expected.addValue(Double.NEGATIVE_INFINITY);
+
+    Histogram merged = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    merged.addHistogram(histogram);
+    assertTrue(getScale(merged) < 10);
+    assertEquals(getScale(expected), getScale(merged));
+    assertEquals(expected, merged);
+    assertMaxNumBins(merged, MAX_NUM_BINS);
+  }
+
+  @Test
+  void testAddHistogramWithDifferentLayout() {
+    Histogram histogram = Histogram.createDynamic(LogLinearLayout.create(1e-3, 1e-2, -1e6, 1e6));
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 1000; ++i) {
+      histogram.addValue(-Math.pow(10., random.nextDouble(-2, 5)));
+    }
+    Histogram scaleAdaptiveHistogram = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    scaleAdaptiveHistogram.addHistogram(histogram);
+    assertEquals(histogram.getTotalCount(), scaleAdaptiveHistogram.getTotalCount());
+    assertEquals(histogram.getMin(), scaleAdaptiveHistogram.getMin(), 0.);
+    assertEquals(histogram.getMax(), scaleAdaptiveHistogram.getMax(), 0.);
+    assertMaxNumBins(scaleAdaptiveHistogram, MAX_NUM_BINS);
+  }
+
+  @Test
+  void testAddAscendingSequence() {
+    double[] values = new double[1000];
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = random.nextDouble(-1e4, 1e5);
+    }
+    values[0] = Double.NEGATIVE_INFINITY;
+    values[1] = 0.;
+    Arrays.sort(values);
+
+    Histogram histogram = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    histogram.addAscendingSequence(i -> values[(int) i], values.length);
+    assertMaxNumBins(histogram, MAX_NUM_BINS);
+
+    Histogram expected =
+        Histogram.createDynamic(
+            OpenTelemetryExponentialBucketsLayout.create(getScale(histogram)));
+    expected.addAscendingSequence(i -> values[(int) i], values.length);
+    assertEquals(expected, histogram);
+  }
+
+  @Test
+  void testAddSortedValues() {
+    double[] values = new double[1000];
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = random.nextDouble(-1e4, 1e5);
+    }
+    values[0] = Double.NEGATIVE_INFINITY;
+    values[1] = 0.;
+    Arrays.sort(values);
+
+    Histogram histogram = Histogram.createScaleAdaptive(10, MAX_NUM_BINS);
+    histogram.addSortedValues(values, 0, values.length);
+    assertMaxNumBins(histogram, MAX_NUM_BINS);
+
+    Histogram expected =
+        Histogram.createDynamic(
+            OpenTelemetryExponentialBucketsLayout.create(getScale(histogram)));
+    for (double value : values) {
+      expected.addValue(value);
+    }
+    assertEquals(expected, histogram);
+    assertEquals(expected.getSum(), histogram.getSum(), 0.);
+  }
+
+  @Test
+  void testSerialization() throws IOException {
+    Histogram histogram = Histogram.createScaleAdaptive(8, MAX_NUM_BINS);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 1000; ++i) {
+      histogram.addValue(Math.pow(10., random.nextDouble(-3, 3)));
+    }
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    histogram.write(new DataOutputStream(byteArrayOutputStream));
+    Histogram deserialized =
+        Histogram.readAsDynamic(
+            histogram.getLayout(),
+            new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())));
+    assertEquals(histogram, deserialized);
+  }
+
+  @Test
+  void testCreate() {
+    assertThrows(IllegalArgumentException.class, () -> Histogram.createScaleAdaptive(11, 160));
+    assertThrows(IllegalArgumentException.class, () -> Histogram.createScaleAdaptive(-1, 160));
+    assertThrows(IllegalArgumentException.class, () -> Histogram.createScaleAdaptive(10, 0));
+  }
+}
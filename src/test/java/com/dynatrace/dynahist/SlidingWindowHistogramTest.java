@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowHistogramTest {
+
+  private static Histogram merge(Layout layout, Iterable<Histogram> histograms) {
+    Histogram result = Histogram.createDynamic(layout);
+    for (Histogram histogram : histograms) {
+      result.addHistogram(histogram);
+    }
+    return result;
+  }
+
+  private static void assertWindow(Histogram expected, SlidingWindowHistogram actual) {
+    assertEquals(expected, actual);
+    assertEquals(expected.getMin(), actual.getMin(), 0.);
+    assertEquals(expected.getMax(), actual.getMax(), 0.);
+    assertEquals(expected.getSum(), actual.getSum(), 1e-6);
+    assertEquals(expected.getSumOfSquares(), actual.getSumOfSquares(), 1e-3);
+    if (!expected.isEmpty()) {
+      for (double p : new double[] {0., 0.5, 0.9, 0.99, 1.}) {
+        assertEquals(expected.getQuantile(p), actual.getQuantile(p), 0.);
+      }
+    }
+  }
+
+  @Test
+  void testWindow() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-3, -1e6, 1e6);
+    int numSlots = 5;
+    SlidingWindowHistogram histogram = SlidingWindowHistogram.create(layout, numSlots);
+    Deque<Histogram> slots = new ArrayDeque<>();
+    slots.addLast(Histogram.createDynamic(layout));
+
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 50; ++i) {
+      int numValues = random.nextInt(3) == 0 ? 0 : random.nextInt(1000);
+      for (int j = 0; j < numValues; ++j) {
+        double value = random.nextDouble(-1e3, 1e4);
+        histogram.addValue(value);
+        slots.getLast().addValue(value);
+      }
+      assertWindow(merge(layout, slots), histogram);
+
+      histogram.rotate();
+      slots.addLast(Histogram.createDynamic(layout));
+      if (slots.size() > numSlots) {
+        slots.removeFirst();
+      }
+      assertWindow(merge(layout, slots), histogram);
+    }
+  }
+
+  @Test
+  void testExpiryOfAllValues() {
+    Layout layout = CustomLayout.create(-1, 0, 1);
+    SlidingWindowHistogram histogram = SlidingWindowHistogram.create(layout, 2);
+    histogram.addValue(-5).addValue(0.5, 3).addValue(7);
+    histogram.rotate();
+    assertEquals(5, histogram.getTotalCount());
+    histogram.rotate();
+    assertTrue(histogram.isEmpty());
+    assertEquals(Histogram.createDynamic(layout), histogram);
+    assertEquals(Double.POSITIVE_INFINITY, histogram.getMin(), 0.);
+    assertEquals(Double.NEGATIVE_INFINITY, histogram.getMax(), 0.);
+    assertEquals(0., histogram.getSum(), 0.);
+  }
+
+  @Test
+  void testAddHistogram() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    SlidingWindowHistogram histogram = SlidingWindowHistogram.create(layout, 3);
+    Histogram other =
+        Histogram.createDynamic(LogQuadraticLayout.create(1e-3, 1e-1, -1e6, 1e6))
+            .addValue(1)
+            .addValue(10)
+            .addValue(100);
+    histogram.addHistogram(other);
+    histogram.addAscendingSequence(i -> i, 100);
+    assertEquals(103, histogram.getTotalCount());
+    histogram.rotate();
+    histogram.addValue(5);
+    histogram.rotate();
+    histogram.rotate();
+    assertEquals(Histogram.createDynamic(layout).addValue(5), histogram);
+    assertEquals(5., histogram.getSum(), 0.);
+  }
+
+  @Test
+  void testFootprint() {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    SlidingWindowHistogram histogram = SlidingWindowHistogram.create(layout, 10);
+    long emptyFootprint = histogram.getEstimatedFootprintInBytes();
+    histogram.addValue(1).addValue(1000);
+    assertThat(histogram.getEstimatedFootprintInBytes()).isGreaterThan(emptyFootprint);
+  }
+
+  @Test
+  void testCreate() {
+    Layout layout = CustomLayout.create(0);
+    assertThrows(IllegalArgumentException.class, () -> SlidingWindowHistogram.create(layout, 0));
+    assertThrows(NullPointerException.class, () -> SlidingWindowHistogram.create(null, 1));
+    assertEquals(7, SlidingWindowHistogram.create(layout, 7).getNumSlots());
+    Histogram other = Histogram.createDynamic(layout);
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> SlidingWindowHistogram.create(layout, 1).subtractHistogram(other));
+  }
+}
@@ -40,7 +40,7 @@ class StaticHistogramTest extends AbstractHistogramTest {
   void testGetEstimatedFootprintInByte() {
     Layout layout = LogQuadraticLayout.create(1e-8, 1e-2, -1e6, 1e6);
     Histogram histogram = Histogram.createStatic(layout);
-    assertEquals(49772, histogram.getEstimatedFootprintInBytes());
+    assertEquals(49808, histogram.getEstimatedFootprintInBytes());
   }
 
   @Override
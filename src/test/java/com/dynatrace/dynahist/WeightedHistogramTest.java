@@ -0,0 +1,221 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import com.dynatrace.dynahist.serialization.SerializationUtil;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class WeightedHistogramTest {
+
+  private static final Layout LAYOUT = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+
+  private static WeightedHistogram serializeAndDeserialize(WeightedHistogram histogram)
+      throws IOException {
+    return SerializationUtil.fromByteArray(
+        dataInput -> WeightedHistogram.read(histogram.getLayout(), dataInput),
+        SerializationUtil.toByteArray((h, dataOutput) -> h.write(dataOutput), histogram));
+  }
+
+  @Test
+  void testIntegralWeights() {
+    WeightedHistogram weightedHistogram = WeightedHistogram.create(LAYOUT);
+    Histogram histogram = Histogram.createDynamic(LAYOUT);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 1000; ++i) {
+      double value = random.nextDouble(-1e3, 1e4);
+      long count = 1 + random.nextInt(3);
+      weightedHistogram.addValue(value, 1., count);
+      histogram.addValue(value, count);
+    }
+    assertEquals(histogram.getTotalCount(), weightedHistogram.getTotalWeight(), 0.);
+    assertEquals(histogram.getMin(), weightedHistogram.getMin(), 0.);
+    assertEquals(histogram.getMax(), weightedHistogram.getMax(), 0.);
+    assertEquals(histogram.getMean(), weightedHistogram.getMean(), 1e-9);
+    for (long rank = 0; rank < histogram.getTotalCount(); ++rank) {
+      assertEquals(histogram.getValue(rank), weightedHistogram.getValue(rank), 1e-9);
+    }
+    for (int i = 0; i <= 100; ++i) {
+      double p = i / 100.;
+      assertEquals(histogram.getQuantile(p), weightedHistogram.getQuantile(p), 1e-9);
+    }
+    assertEquals(weightedHistogram, WeightedHistogram.create(LAYOUT).addHistogram(histogram));
+  }
+
+  @Test
+  void testSampledValues() {
+    Histogram population = Histogram.createDynamic(LAYOUT);
+    WeightedHistogram sample = WeightedHistogram.create(LAYOUT);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 100_000; ++i) {
+      double value = random.nextDouble(0, 1000);
+      population.addValue(value);
+      // small values are sampled with a rate of 1/3, large values with a rate of 1/7
+      double sampleRate = (value < 500) ? 1. / 3. : 1. / 7.;
+      if (random.nextDouble() < sampleRate) {
+        sample.addValue(value, 1. / sampleRate);
+      }
+    }
+    assertEquals(population.getTotalCount(), sample.getTotalWeight(), 1e3);
+    assertEquals(population.getMean(), sample.getMean(), 5.);
+    for (double p : new double[] {0.1, 0.25, 0.5, 0.75, 0.9, 0.99}) {
+      assertEquals(population.getQuantile(p), sample.getQuantile(p), 10.);
+    }
+    // the extreme values do not account for a whole effective value
+    assertEquals(sample.getMin(), sample.getQuantile(0.), 0.1);
+    assertEquals(sample.getMax(), sample.getQuantile(1.), 0.1);
+  }
+
+  @Test
+  void testScaleInvariance() {
+    double[] values = {1, 100, 200};
+    WeightedHistogram unitWeights = WeightedHistogram.create(LAYOUT);
+    WeightedHistogram smallWeights = WeightedHistogram.create(LAYOUT);
+    for (double value : values) {
+      unitWeights.addValue(value, 1.);
+      smallWeights.addValue(value, 0.1);
+    }
+    Histogram histogram = Histogram.createDynamic(LAYOUT).addValue(1).addValue(100).addValue(200);
+    assertEquals(3., smallWeights.getEffectiveNumberOfValues(), 1e-12);
+    for (int i = 0; i <= 100; ++i) {
+      double p = i / 100.;
+      assertEquals(histogram.getQuantile(p), unitWeights.getQuantile(p), 1e-9);
+      assertEquals(unitWeights.getQuantile(p), smallWeights.getQuantile(p), 1e-9);
+    }
+    assertEquals(100., smallWeights.getQuantile(0.5), 1.);
+
+    SplittableRandom random = new SplittableRandom(0);
+    WeightedHistogram original = WeightedHistogram.create(LAYOUT);
+    WeightedHistogram scaledByPowerOfTwo = WeightedHistogram.create(LAYOUT);
+    WeightedHistogram scaledDown = WeightedHistogram.create(LAYOUT);
+    WeightedHistogram scaledUp = WeightedHistogram.create(LAYOUT);
+    for (int i = 0; i < 1000; ++i) {
+      double value = random.nextDouble(-1e3, 1e4);
+      double weight = random.nextDouble(0, 5);
+      original.addValue(value, weight);
+      scaledByPowerOfTwo.addValue(value, weight * 0x1p-40);
+      scaledDown.addValue(value, weight * 1e-7);
+      scaledUp.addValue(value, weight * 1e9);
+    }
+    for (int i = 0; i <= 100; ++i) {
+      double p = i / 100.;
+      double quantile = original.getQuantile(p);
+      assertEquals(quantile, scaledByPowerOfTwo.getQuantile(p), 0.);
+      assertEquals(quantile, scaledDown.getQuantile(p), Math.abs(quantile) * 1e-9);
+      assertEquals(quantile, scaledUp.getQuantile(p), Math.abs(quantile) * 1e-9);
+    }
+  }
+
+  @Test
+  void testSmallRelativeWeights() {
+    WeightedHistogram histogram = WeightedHistogram.create(LAYOUT).addValue(1).addValue(100);
+    double median = histogram.getQuantile(0.5);
+    assertEquals(50.5, median, 1.);
+    // values with negligible relative weights change quantiles at most by the bin width, as the
+    // bins of 1 and 100 are no longer limited by the minimum and the maximum
+    histogram.addValue(-1e5, 1e-12).addValue(1e5, 1e-12).addValue(50, 1e-12);
+    assertEquals(median, histogram.getQuantile(0.5), 1.);
+    assertEquals(1., histogram.getQuantile(0.), 1e-2);
+    assertEquals(100., histogram.getQuantile(1.), 1.);
+  }
+
+  @Test
+  void testAddHistogram() {
+    WeightedHistogram histogram1 = WeightedHistogram.create(LAYOUT);
+    WeightedHistogram histogram2 = WeightedHistogram.create(LAYOUT);
+    WeightedHistogram total = WeightedHistogram.create(LAYOUT);
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 1000; ++i) {
+      double value = random.nextDouble(-2e6, 2e6);
+      double weight = random.nextDouble(0, 5);
+      ((i % 2 == 0) ? histogram1 : histogram2).addValue(value, weight);
+      total.addValue(value, weight);
+    }
+    WeightedHistogram merged = WeightedHistogram.create(LAYOUT);
+    merged.addHistogram(histogram1).addHistogram(histogram2);
+    assertEquals(total.getTotalWeight(), merged.getTotalWeight(), 1e-9);
+    assertEquals(total.getMin(), merged.getMin(), 0.);
+    assertEquals(total.getMax(), merged.getMax(), 0.);
+    assertEquals(total.getUnderflowWeight(), merged.getUnderflowWeight(), 1e-9);
+    assertEquals(total.getOverflowWeight(), merged.getOverflowWeight(), 1e-9);
+    for (double p : new double[] {0., 0.1, 0.5, 0.9, 1.}) {
+      assertEquals(total.getQuantile(p), merged.getQuantile(p), 1e-6);
+    }
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> merged.addHistogram(WeightedHistogram.create(CustomLayout.create(0))));
+  }
+
+  @Test
+  void testSerialization() throws IOException {
+    WeightedHistogram histogram = WeightedHistogram.create(LAYOUT);
+    assertEquals(histogram, serializeAndDeserialize(histogram));
+
+    for (int i = 0; i < 10; ++i) {
+      histogram.addValue(i * 100, 7);
+    }
+    assertEquals(histogram, serializeAndDeserialize(histogram));
+    // integral weights are encoded as variable-length integers
+    byte[] serializedHistogram =
+        SerializationUtil.toByteArray((h, dataOutput) -> h.write(dataOutput), histogram);
+    assertThat(serializedHistogram.length).isLessThan(80);
+
+    histogram.addValue(-3e6, 0.1).addValue(5e6, 1e20).addValue(1.5, 1. / 3.);
+    WeightedHistogram deserializedHistogram = serializeAndDeserialize(histogram);
+    assertEquals(histogram, deserializedHistogram);
+    assertEquals(
+        histogram.getEffectiveNumberOfValues(),
+        deserializedHistogram.getEffectiveNumberOfValues(),
+        1e-12);
+    for (double p : new double[] {0., 0.1, 0.5, 0.9, 1.}) {
+      assertEquals(histogram.getQuantile(p), deserializedHistogram.getQuantile(p), 1e-9);
+    }
+    assertEquals(histogram.hashCode(), deserializedHistogram.hashCode());
+    assertEquals(histogram.getTotalWeight(), deserializedHistogram.getTotalWeight(), 0.);
+    assertEquals(histogram.getSum(), deserializedHistogram.getSum(), 0.);
+    assertNotEquals(histogram, deserializedHistogram.addValue(1.5, 1e-3));
+  }
+
+  @Test
+  void testEmptyAndInvalidArguments() {
+    WeightedHistogram histogram = WeightedHistogram.create(LAYOUT);
+    assertTrue(histogram.isEmpty());
+    assertEquals(Double.NaN, histogram.getQuantile(0.5), 0.);
+    assertEquals(Double.NaN, histogram.getMean(), 0.);
+    histogram.addValue(5, 0.);
+    assertTrue(histogram.isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> histogram.addValue(Double.NaN, 1.));
+    assertThrows(IllegalArgumentException.class, () -> histogram.addValue(1, -1.));
+    assertThrows(
+        IllegalArgumentException.class, () -> histogram.addValue(1, Double.POSITIVE_INFINITY));
+    assertThrows(IllegalArgumentException.class, () -> histogram.addValue(1, Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getValue(0));
+    assertTrue(histogram.getSnapshot(100).isEmpty());
+    histogram.addValue(2, 0.25);
+    assertEquals(2., histogram.getQuantile(0.5), 0.);
+    assertEquals(100, histogram.getSnapshot(100).getTotalCount());
+  }
+}
@@ -18,7 +18,9 @@ package com.dynatrace.dynahist.layout;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 public abstract class AbstractErrorLimitingLayoutTest {
@@ -129,6 +131,39 @@ public abstract class AbstractErrorLimitingLayoutTest {
     }
   }
 
+  @Test
+  void testBinBoundaryCache() {
+    Layout smallLayout = createLayout(1e-3, 1e-2, -1e3, 1e3);
+    Layout largeLayout = createLayout(1e-9, 1e-5, -1e12, 1e12);
+    assertThat((long) smallLayout.getOverflowBinIndex() - smallLayout.getUnderflowBinIndex())
+        .isLessThanOrEqualTo(AbstractLayout.BIN_BOUNDARY_CACHE_MAX_SIZE);
+    assertThat((long) largeLayout.getOverflowBinIndex() - largeLayout.getUnderflowBinIndex())
+        .isGreaterThan(AbstractLayout.BIN_BOUNDARY_CACHE_MAX_SIZE);
+
+    for (Layout layout : Arrays.asList(smallLayout, largeLayout)) {
+      int underflowBinIndex = layout.getUnderflowBinIndex();
+      int overflowBinIndex = layout.getOverflowBinIndex();
+
+      SplittableRandom random = new SplittableRandom(0);
+      int[] binIndices = random.ints(10_000, underflowBinIndex - 1, overflowBinIndex + 2).toArray();
+      double[] lowerBounds =
+          IntStream.of(binIndices).parallel().mapToDouble(layout::getBinLowerBound).toArray();
+      double[] upperBounds =
+          IntStream.of(binIndices).parallel().mapToDouble(layout::getBinUpperBound).toArray();
+      for (int i = 0; i < binIndices.length; ++i) {
+        int binIndex = Math.max(underflowBinIndex, Math.min(overflowBinIndex, binIndices[i]));
+        assertEquals(layout.getBinLowerBound(binIndices[i]), lowerBounds[i], 0.);
+        assertEquals(layout.getBinUpperBound(binIndices[i]), upperBounds[i], 0.);
+        if (binIndex > underflowBinIndex) {
+          assertEquals(binIndex, layout.mapToBinIndex(lowerBounds[i]));
+        }
+        if (binIndex < overflowBinIndex) {
+          assertEquals(binIndex, layout.mapToBinIndex(upperBounds[i]));
+        }
+      }
+    }
+  }
+
   @Test
   public void testGetBinLowerBoundApproximation() {
     double absoluteBinWidthLimit = 1;
@@ -199,6 +234,28 @@ public abstract class AbstractErrorLimitingLayoutTest {
     createLayout(1, 0, -2, Integer.MAX_VALUE - 4); // no exception should be thrown in this case
   }
 
+  @Test
+  public void testMapLongToBinIndex() {
+    LayoutTestUtil.assertLongMappingConsistency(createLayout(1e-6, 1e-3, -1e12, 1e12));
+    LayoutTestUtil.assertLongMappingConsistency(createLayout(1, 0, -1e6, 1e6));
+    LayoutTestUtil.assertLongMappingConsistency(createLayout(1e-2, 1e-2, -1e3, 1e18));
+  }
+
+  @Test
+  public void testCanonicalInstances() {
+    Layout layout = createLayout(1e-8, 1e-2, -1e6, 1e6);
+    assertSame(layout, createLayout(1e-8, 1e-2, -1e6, 1e6));
+    assertSame(
+        layout,
+        createLayout(
+            1e-8,
+            1e-2,
+            layout.getBinLowerBound(layout.getUnderflowBinIndex() + 1),
+            layout.getBinUpperBound(layout.getOverflowBinIndex() - 1)));
+    assertNotSame(layout, createLayout(1e-8, 1e-2, -1e5, 1e6));
+    assertNotSame(layout, createLayout(1e-7, 1e-2, -1e6, 1e6));
+  }
+
   @Test
   public final void testSameEquals() {
     Layout layout = createLayout(1e-8, 1e-2, -1e6, 1e6);
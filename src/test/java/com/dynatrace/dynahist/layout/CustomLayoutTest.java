@@ -18,7 +18,10 @@ package com.dynatrace.dynahist.layout;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.dynatrace.dynahist.serialization.SerializationTestUtil;
+import com.dynatrace.dynahist.util.Algorithms;
 import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.stream.DoubleStream;
 import org.junit.jupiter.api.Test;
 
 class CustomLayoutTest {
@@ -37,6 +40,54 @@ class CustomLayoutTest {
     LayoutTestUtil.assertConsistency(CustomLayout.create(-34234, -3, -1.5, 234, 4324234));
   }
 
+  @Test
+  void testMapToBinIndex() {
+    SplittableRandom random = new SplittableRandom(0);
+    double[] specialValues = {
+      Double.NEGATIVE_INFINITY,
+      -Double.MAX_VALUE,
+      -1.,
+      -Double.MIN_VALUE,
+      -0.,
+      0.,
+      Double.MIN_VALUE,
+      1.,
+      Double.MAX_VALUE,
+      Double.POSITIVE_INFINITY,
+      Double.NaN,
+      Double.longBitsToDouble(0xfff8000000000000L)
+    };
+    for (int numBinBoundaries = 1; numBinBoundaries <= 100; ++numBinBoundaries) {
+      double[] binBoundaries =
+          random
+              .doubles(numBinBoundaries, -10, 10)
+              .map(x -> Math.rint(x * 4) / 4)
+              .sorted()
+              .distinct()
+              .toArray();
+      Layout layout = CustomLayout.create(binBoundaries);
+      LayoutTestUtil.assertConsistency(layout);
+
+      DoubleStream values =
+          DoubleStream.concat(
+              DoubleStream.of(specialValues),
+              DoubleStream.concat(
+                  DoubleStream.of(binBoundaries), random.doubles(1000, -12, 12)));
+      values.forEach(
+          value -> {
+            int expectedBinIndex =
+                (int)
+                    DoubleStream.of(binBoundaries)
+                        .filter(
+                            boundary ->
+                                Algorithms.mapDoubleToLong(boundary)
+                                    <= Algorithms.mapDoubleToLong(value))
+                        .count();
+            assertEquals(expectedBinIndex, layout.mapToBinIndex(value));
+          });
+    }
+  }
+
   @Test
   void testSerialization() throws IOException {
     CustomLayout layout = CustomLayout.create(-3, -1.5, 234, 4324234);
@@ -48,6 +99,7 @@ class CustomLayoutTest {
             "0004C008000000000000BFF8000000000000406D40000000000041507EE280000000");
 
     assertEquals(deserializedLayout, layout);
+    assertSame(layout, deserializedLayout);
   }
 
   @Test
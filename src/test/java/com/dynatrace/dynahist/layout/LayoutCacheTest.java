@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LayoutCacheTest {
+
+  @Test
+  void testMaxSize() {
+    List<Layout> layouts = new ArrayList<>();
+    try {
+      for (int i = 0; i < 2 * LayoutCache.MAX_SIZE; ++i) {
+        layouts.add(CustomLayout.create(i, i + 0.5));
+      }
+      assertThat(LayoutCache.size()).isLessThanOrEqualTo(LayoutCache.MAX_SIZE);
+      for (int i = 0; i < layouts.size(); ++i) {
+        assertEquals(layouts.get(i), CustomLayout.create(i, i + 0.5));
+      }
+      assertSame(layouts.get(0), CustomLayout.create(0, 0.5));
+    } finally {
+      LayoutCache.clear();
+    }
+  }
+
+  @Test
+  void testSignedZero() {
+    Layout layout = CustomLayout.create(0.);
+    assertSame(layout, CustomLayout.create(0.));
+    assertNotEquals(layout, CustomLayout.create(-0.));
+    assertSame(CustomLayout.create(-0.), CustomLayout.create(-0.));
+  }
+
+  @Test
+  void testFailingFactory() {
+    Object key = LayoutCache.key(LayoutCacheTest.class);
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            LayoutCache.get(
+                key,
+                () -> {
+                  throw new IllegalStateException();
+                }));
+    Layout layout = CustomLayout.create(1.);
+    assertSame(layout, LayoutCache.get(key, () -> layout));
+    LayoutCache.clear();
+  }
+}
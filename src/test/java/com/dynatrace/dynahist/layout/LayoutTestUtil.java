@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.dynatrace.dynahist.util.Algorithms;
+import java.util.SplittableRandom;
 import java.util.stream.IntStream;
 import org.assertj.core.api.Condition;
 
@@ -167,4 +168,40 @@ public final class LayoutTestUtil {
         .max()
         .orElse(0L);
   }
+
+  public static void assertLongMappingConsistency(Layout layout) {
+    long[] specialValues = {
+      0L,
+      1L,
+      -1L,
+      (1L << 53) - 1,
+      1L << 53,
+      (1L << 53) + 1,
+      Long.MAX_VALUE,
+      Long.MIN_VALUE,
+      Long.MIN_VALUE + 1
+    };
+    for (long value : specialValues) {
+      assertEquals(layout.mapToBinIndex((double) value), layout.mapLongToBinIndex(value));
+    }
+    // values close to bin boundaries
+    for (int binIndex = layout.getUnderflowBinIndex() + 1;
+        binIndex <= layout.getOverflowBinIndex();
+        ++binIndex) {
+      double lowerBound = layout.getBinLowerBound(binIndex);
+      if (Math.abs(lowerBound) < 0x1p63) {
+        long value = (long) lowerBound;
+        for (long delta = -2; delta <= 2; ++delta) {
+          assertEquals(
+              layout.mapToBinIndex((double) (value + delta)),
+              layout.mapLongToBinIndex(value + delta));
+        }
+      }
+    }
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 10_000; ++i) {
+      long value = random.nextLong() >> random.nextInt(64);
+      assertEquals(layout.mapToBinIndex((double) value), layout.mapLongToBinIndex(value));
+    }
+  }
 }
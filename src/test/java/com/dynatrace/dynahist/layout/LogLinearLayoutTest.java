@@ -99,6 +99,7 @@ class LogLinearLayoutTest extends AbstractErrorLimitingLayoutTest {
             "003E112E0BE826D6953F50624DD2F1A9FCDFFE048CB205");
 
     assertEquals(deserializedLayout, layout);
+    assertSame(layout, deserializedLayout);
   }
 
   @Test
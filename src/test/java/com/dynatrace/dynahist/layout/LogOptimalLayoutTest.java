@@ -18,11 +18,14 @@ package com.dynatrace.dynahist.layout;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.dynatrace.dynahist.Histogram;
 import com.dynatrace.dynahist.serialization.SerializationTestUtil;
 import com.dynatrace.dynahist.util.Algorithms;
 import java.io.IOException;
+import java.util.SplittableRandom;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 
@@ -72,6 +75,7 @@ class LogOptimalLayoutTest extends AbstractErrorLimitingLayoutTest {
             "003E112E0BE826D6953F50624DD2F1A9FCCBBF03CAE303");
 
     assertEquals(deserializedLayout, layout);
+    assertSame(layout, deserializedLayout);
   }
 
   @Test
@@ -168,4 +172,113 @@ class LogOptimalLayoutTest extends AbstractErrorLimitingLayoutTest {
       }
     }
   }
+
+  @Test
+  void testMappingTable() {
+    final double[][] parameters = {
+      {1e-8, 1e-2, -1e6, 1e6},
+      {1e-6, 1e-3, -1e12, 1e12},
+      {1e-3, 1e-1, 0, 1e3},
+      {1e0, 1e0, -1e9, 1e9},
+      {1e-5, 1e-4, -1e3, 1e3},
+      {1e-9, 0, 0, 1e-3},
+      {1e-8, 0x1p-7, -1e6, 1e6},
+      {1e-3, 2., -1e9, 1e9},
+      {1e-9, 1e-3, 0, 1e9}
+    };
+    final double[] specialValues = {
+      0.,
+      -0.,
+      Double.MIN_VALUE,
+      -Double.MIN_VALUE,
+      Double.MIN_NORMAL,
+      -Double.MIN_NORMAL,
+      Double.MAX_VALUE,
+      -Double.MAX_VALUE,
+      Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY,
+      Double.NaN
+    };
+    final SplittableRandom random = new SplittableRandom(0);
+    for (final double[] p : parameters) {
+      final LogOptimalLayout layout = LogOptimalLayout.create(p[0], p[1], p[2], p[3]);
+      for (final double value : specialValues) {
+        assertEquals(layout.mapToBinIndexUsingLogarithm(value), layout.mapToBinIndex(value));
+      }
+      for (int i = 0; i < 100_000; ++i) {
+        final double value =
+            Double.longBitsToDouble(random.nextLong(Double.doubleToRawLongBits(p[3]) + 1))
+                * (random.nextBoolean() ? 1 : -1);
+        assertEquals(layout.mapToBinIndexUsingLogarithm(value), layout.mapToBinIndex(value));
+      }
+      for (int binIndex = layout.getUnderflowBinIndex() + 1;
+          binIndex < layout.getOverflowBinIndex();
+          ++binIndex) {
+        final double lowerBound = layout.getBinLowerBound(binIndex);
+        final double upperBound = layout.getBinUpperBound(binIndex);
+        final double[] values = {
+          lowerBound, Math.nextDown(lowerBound), upperBound, Math.nextUp(upperBound)
+        };
+        for (final double value : values) {
+          assertEquals(layout.mapToBinIndexUsingLogarithm(value), layout.mapToBinIndex(value));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testMappingBeyondTable() {
+    final double[][] parameters = {
+      {1e-5, 5e-4, 0, 1e9}, {1e-3, 1e-4, 0, 1e6}, {1e-7, 1e-6, -1e12, 1e12}
+    };
+    final SplittableRandom random = new SplittableRandom(0);
+    for (final double[] p : parameters) {
+      final LogOptimalLayout layout = LogOptimalLayout.create(p[0], p[1], p[2], p[3]);
+      for (int i = 0; i < 100_000; ++i) {
+        final double value =
+            Double.longBitsToDouble(random.nextLong(Double.doubleToRawLongBits(Double.MAX_VALUE)))
+                * (random.nextBoolean() ? 1 : -1);
+        assertEquals(layout.mapToBinIndexUsingLogarithm(value), layout.mapToBinIndex(value));
+      }
+      for (int i = 0; i < 10_000; ++i) {
+        final int binIndex =
+            random.nextInt(layout.getUnderflowBinIndex() + 1, layout.getOverflowBinIndex());
+        final double lowerBound = layout.getBinLowerBound(binIndex);
+        final double upperBound = layout.getBinUpperBound(binIndex);
+        final double[] values = {
+          lowerBound, Math.nextDown(lowerBound), upperBound, Math.nextUp(upperBound)
+        };
+        for (final double value : values) {
+          assertEquals(layout.mapToBinIndexUsingLogarithm(value), layout.mapToBinIndex(value));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testMappingTableSize() {
+    assertTrue(LogOptimalLayout.create(1e-8, 1e-2, -1e6, 1e6).getMappingTableSize() > 0);
+    assertTrue(LogOptimalLayout.create(1e-6, 1e-3, -1e12, 1e12).getMappingTableSize() > 0);
+    assertEquals(0, LogOptimalLayout.create(1e-7, 1e-6, -1e12, 1e12).getMappingTableSize());
+  }
+
+  @Test
+  void testMappingIsPlatformIndependent() {
+    final LogOptimalLayout layout = LogOptimalLayout.create(1e-8, 1e-2, -1e6, 1e6);
+    final SplittableRandom random = new SplittableRandom(0);
+    long binIndexHash = 0;
+    for (int i = 0; i < 100_000; ++i) {
+      final double value =
+          Double.longBitsToDouble(random.nextLong(Double.doubleToRawLongBits(2e6)))
+              * (random.nextBoolean() ? 1 : -1);
+      binIndexHash = 31 * binIndexHash + layout.mapToBinIndex(value);
+    }
+    assertEquals(513922891201901646L, binIndexHash);
+
+    long lowerBoundHash = 0;
+    for (int i = layout.getUnderflowBinIndex(); i <= layout.getOverflowBinIndex(); ++i) {
+      lowerBoundHash = 31 * lowerBoundHash + Double.doubleToLongBits(layout.getBinLowerBound(i));
+    }
+    assertEquals(-4867205489855517707L, lowerBoundHash);
+  }
 }
@@ -99,6 +99,7 @@ public class LogQuadraticLayoutTest extends AbstractErrorLimitingLayoutTest {
             "003E112E0BE826D6953F50624DD2F1A9FC8FE303F48904");
 
     assertEquals(deserializedLayout, layout);
+    assertSame(layout, deserializedLayout);
   }
 
   @Test
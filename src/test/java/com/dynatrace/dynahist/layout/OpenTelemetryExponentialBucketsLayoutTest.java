@@ -253,6 +253,14 @@ class OpenTelemetryExponentialBucketsLayoutTest {
     }
   }
 
+  @Test
+  void testMapLongToBinIndex() {
+    for (int scale = 0; scale <= MAX_SCALE; ++scale) {
+      LayoutTestUtil.assertLongMappingConsistency(
+          OpenTelemetryExponentialBucketsLayout.create(scale));
+    }
+  }
+
   @Test
   void testHashCode() {
     Layout layout = OpenTelemetryExponentialBucketsLayout.create(3);
@@ -471,4 +479,36 @@ class OpenTelemetryExponentialBucketsLayoutTest {
 
     assertThat(actual).isEqualTo(expected);
   }
+
+  @Test
+  void testGetDownscaledBinIndex() {
+    for (int scale = 0; scale <= MAX_SCALE; ++scale) {
+      OpenTelemetryExponentialBucketsLayout layout =
+          OpenTelemetryExponentialBucketsLayout.create(scale);
+      assertThrows(IllegalArgumentException.class, () -> layout.getDownscaledBinIndex(0, -1));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> layout.getDownscaledBinIndex(0, layout.getScale() + 1));
+      for (int newScale = 0; newScale <= scale; ++newScale) {
+        OpenTelemetryExponentialBucketsLayout newLayout =
+            OpenTelemetryExponentialBucketsLayout.create(newScale);
+        assertEquals(
+            newLayout.getUnderflowBinIndex(),
+            layout.getDownscaledBinIndex(layout.getUnderflowBinIndex(), newScale));
+        assertEquals(
+            newLayout.getOverflowBinIndex(),
+            layout.getDownscaledBinIndex(layout.getOverflowBinIndex(), newScale));
+        int step = Math.max(1, layout.getOverflowBinIndex() / 1000);
+        for (int binIndex = layout.getUnderflowBinIndex() + 1;
+            binIndex < layout.getOverflowBinIndex();
+            binIndex += (Math.abs(binIndex) < 3000) ? 1 : step) {
+          int downscaledBinIndex = layout.getDownscaledBinIndex(binIndex, newScale);
+          assertEquals(
+              newLayout.mapToBinIndex(layout.getBinLowerBound(binIndex)), downscaledBinIndex);
+          assertEquals(
+              newLayout.mapToBinIndex(layout.getBinUpperBound(binIndex)), downscaledBinIndex);
+        }
+      }
+    }
+  }
 }
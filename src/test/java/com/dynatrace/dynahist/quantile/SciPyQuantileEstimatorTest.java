@@ -79,6 +79,53 @@ public class SciPyQuantileEstimatorTest {
     assertEquals(5, quantileEstimator.estimateQuantile(1, values), 0);
   }
 
+  @Test
+  void testWeightedQuantileWithUnitWeights() {
+    double[] values = {6., 47., 49., 15., 42., 41., 7., 39., 43., 40., 36.};
+    Arrays.sort(values);
+    for (QuantileEstimator quantileEstimator : QUANTILE_ESTIMATORS) {
+      for (double p : P_VALUES) {
+        assertEquals(
+            quantileEstimator.estimateQuantile(p, values),
+            quantileEstimator.estimateWeightedQuantile(
+                p, rank -> interpolateSortedValues(values, rank), values.length),
+            1e-12);
+      }
+      assertEquals(
+          Double.NaN, quantileEstimator.estimateWeightedQuantile(0.5, rank -> 0., 0.), 0.);
+    }
+  }
+
+  private static double interpolateSortedValues(double[] sortedValues, double rank) {
+    int index = (int) rank;
+    if (index == sortedValues.length - 1) {
+      return sortedValues[index];
+    }
+    return sortedValues[index] + (rank - index) * (sortedValues[index + 1] - sortedValues[index]);
+  }
+
+  @Test
+  void testWeightedQuantileWithNonIntegralNumberOfValues() {
+    QuantileEstimator quantileEstimator = SciPyQuantileEstimator.create(0.5, 0.5);
+    assertEquals(
+        3.75, quantileEstimator.estimateWeightedQuantile(0.5, rank -> 3. + rank, 2.5), 0);
+    assertEquals(3., quantileEstimator.estimateWeightedQuantile(0., rank -> 3. + rank, 2.5), 0);
+    assertEquals(
+        4.5, quantileEstimator.estimateWeightedQuantile(1., rank -> 3. + rank, 2.5), 0);
+    assertEquals(4., quantileEstimator.estimateWeightedQuantile(0.5, rank -> 4. + rank, 1.), 0);
+  }
+
+  @Test
+  void testWeightedQuantileDefaultImplementation() {
+    QuantileEstimator quantileEstimator =
+        (p, sortedValueFunction, numValues) -> sortedValueFunction.applyAsDouble(numValues - 1);
+    assertEquals(9., quantileEstimator.estimateWeightedQuantile(1., rank -> rank, 10.), 0);
+    assertEquals(6.5, quantileEstimator.estimateWeightedQuantile(1., rank -> rank, 7.5), 0);
+    assertEquals(0., quantileEstimator.estimateWeightedQuantile(1., rank -> rank, 1.), 0);
+    assertEquals(
+        Double.NaN, quantileEstimator.estimateWeightedQuantile(1., rank -> rank, 0.), 0);
+  }
+
   @Test
   public void testSingleValue() {
     double value = 5;
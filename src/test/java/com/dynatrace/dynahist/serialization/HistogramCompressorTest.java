@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dynatrace.dynahist.Histogram;
+import com.dynatrace.dynahist.layout.Layout;
+import com.dynatrace.dynahist.layout.LogQuadraticLayout;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.Test;
+
+class HistogramCompressorTest {
+
+  private static final List<HistogramCompressor> COMPRESSORS =
+      Arrays.asList(
+          HistogramCompressor.DEFLATE,
+          HistogramCompressor.DEFLATE_BEST_SPEED,
+          HistogramCompressor.DEFLATE_BEST_COMPRESSION,
+          HistogramCompressor.deflate(0),
+          HistogramCompressor.LZ);
+
+  private static void testRoundTrip(byte[] data) throws IOException, DataFormatException {
+    for (HistogramCompressor compressor : COMPRESSORS) {
+      byte[] compressed = compressor.compress(data);
+      assertArrayEquals(data, compressor.decompress(compressed));
+    }
+  }
+
+  @Test
+  void testEmptyData() throws IOException, DataFormatException {
+    testRoundTrip(new byte[0]);
+  }
+
+  @Test
+  void testRandomData() throws IOException, DataFormatException {
+    SplittableRandom random = new SplittableRandom(0);
+    for (int length = 1; length < 2000; length += 7) {
+      byte[] data = new byte[length];
+      for (int i = 0; i < length; ++i) {
+        data[i] = (byte) random.nextInt(256);
+      }
+      testRoundTrip(data);
+    }
+  }
+
+  @Test
+  void testRepetitiveData() throws IOException, DataFormatException {
+    SplittableRandom random = new SplittableRandom(0);
+    for (int alphabetSize = 1; alphabetSize <= 16; alphabetSize += 1) {
+      byte[] data = new byte[100_000];
+      for (int i = 0; i < data.length; ++i) {
+        data[i] = (byte) random.nextInt(alphabetSize);
+      }
+      testRoundTrip(data);
+    }
+    byte[] zeros = new byte[100_000];
+    testRoundTrip(zeros);
+    assertTrue(HistogramCompressor.LZ.compress(zeros).length < 1000);
+  }
+
+  @Test
+  void testDeflateCompatibility() throws IOException, DataFormatException {
+    byte[] data = new byte[1000];
+    Arrays.fill(data, 100, 500, (byte) 5);
+    for (HistogramCompressor compressor : COMPRESSORS) {
+      if (compressor != HistogramCompressor.LZ) {
+        assertArrayEquals(data, HistogramCompressor.DEFLATE.decompress(compressor.compress(data)));
+      }
+    }
+  }
+
+  @Test
+  void testCanonicalDeflateInstances() {
+    for (int level = Deflater.NO_COMPRESSION; level <= Deflater.BEST_COMPRESSION; ++level) {
+      assertSame(HistogramCompressor.deflate(level), HistogramCompressor.deflate(level));
+    }
+    assertSame(
+        HistogramCompressor.DEFLATE, HistogramCompressor.deflate(Deflater.DEFAULT_COMPRESSION));
+    assertSame(
+        HistogramCompressor.DEFLATE_BEST_SPEED, HistogramCompressor.deflate(Deflater.BEST_SPEED));
+    assertSame(
+        HistogramCompressor.DEFLATE_BEST_COMPRESSION,
+        HistogramCompressor.deflate(Deflater.BEST_COMPRESSION));
+  }
+
+  @Test
+  void testInvalidDeflateLevel() {
+    assertThrows(IllegalArgumentException.class, () -> HistogramCompressor.deflate(10));
+    assertThrows(IllegalArgumentException.class, () -> HistogramCompressor.deflate(-2));
+  }
+
+  @Test
+  void testTruncatedData() throws IOException {
+    byte[] data = new byte[1000];
+    new SplittableRandom(0).nextBytes(data);
+    for (HistogramCompressor compressor : COMPRESSORS) {
+      byte[] compressed = compressor.compress(data);
+      for (int length = 0; length < compressed.length; length += 13) {
+        byte[] truncated = Arrays.copyOf(compressed, length);
+        assertThrows(DataFormatException.class, () -> compressor.decompress(truncated));
+      }
+    }
+  }
+
+  @Test
+  void testLzCorruptData() {
+    // trailing data
+    assertThrows(
+        DataFormatException.class, () -> HistogramCompressor.LZ.decompress(new byte[] {0, 0}));
+    // offset pointing before start
+    assertThrows(
+        DataFormatException.class,
+        () -> HistogramCompressor.LZ.decompress(new byte[] {8, 0x10, 1, 2, 0}));
+    // zero offset
+    assertThrows(
+        DataFormatException.class,
+        () -> HistogramCompressor.LZ.decompress(new byte[] {8, 0x10, 1, 0, 0}));
+    // match exceeding the uncompressed length
+    assertThrows(
+        DataFormatException.class,
+        () -> HistogramCompressor.LZ.decompress(new byte[] {4, 0x11, 1, 1, 0}));
+    // huge uncompressed length
+    assertThrows(
+        DataFormatException.class,
+        () -> HistogramCompressor.LZ.decompress(new byte[] {-1, -1, -1, -1, 7, 0}));
+    // invalid variable-length encoding
+    assertThrows(
+        DataFormatException.class,
+        () -> HistogramCompressor.LZ.decompress(new byte[] {-1, -1, -1, -1, -1, -1}));
+  }
+
+  @Test
+  void testLzOverlappingMatch() throws IOException, DataFormatException {
+    // 1 literal followed by a match of length 7 with offset 1
+    byte[] compressed = {8, 0x13, 42, 1, 0, 0x00};
+    byte[] expected = new byte[8];
+    Arrays.fill(expected, (byte) 42);
+    assertArrayEquals(expected, HistogramCompressor.LZ.decompress(compressed));
+  }
+
+  @Test
+  void testSerialization() throws IOException, DataFormatException {
+    Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
+    Histogram histogram = Histogram.createDynamic(layout);
+    histogram.addAscendingSequence(i -> i + 1, 1000000);
+
+    for (HistogramCompressor compressor : COMPRESSORS) {
+      byte[] compressed = SerializationUtil.writeCompressed(histogram, compressor);
+      assertEquals(
+          histogram, SerializationUtil.readCompressedAsDynamic(layout, compressed, compressor));
+      assertEquals(
+          histogram, SerializationUtil.readCompressedAsStatic(layout, compressed, compressor));
+      assertEquals(
+          histogram,
+          SerializationUtil.readCompressedAsPreprocessed(layout, compressed, compressor));
+    }
+  }
+
+  @Test
+  void testToString() {
+    assertEquals(
+        "DeflateHistogramCompressor [level=9]",
+        HistogramCompressor.DEFLATE_BEST_COMPRESSION.toString());
+    assertEquals("LzHistogramCompressor", HistogramCompressor.LZ.toString());
+  }
+}
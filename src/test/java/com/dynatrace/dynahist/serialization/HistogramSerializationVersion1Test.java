@@ -16,6 +16,7 @@
 package com.dynatrace.dynahist.serialization;
 
 import static com.dynatrace.dynahist.serialization.SerializationTestUtil.toByteArray;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.dynatrace.dynahist.Histogram;
 import com.dynatrace.dynahist.layout.CustomLayout;
@@ -44,36 +45,28 @@ public class HistogramSerializationVersion1Test {
   private static void testSerialization(long seed, String expectedSerialization) {
     SplittableRandom random = new SplittableRandom(seed);
     Histogram histogram = createRandomHistogram(random);
-    Histogram dynamicHistogram =
-        Histogram.createDynamic(histogram.getLayout()).addHistogram(histogram);
-    Histogram staticHistogram =
-        Histogram.createDynamic(histogram.getLayout()).addHistogram(histogram);
-    Histogram preprocessedHistogram = histogram.getPreprocessedCopy();
     Layout layout = histogram.getLayout();
     try {
-      SerializationTestUtil.testSerialization(
-          staticHistogram,
-          Histogram::write,
-          in -> Histogram.readAsStatic(layout, in),
-          expectedSerialization);
+      assertEquals(
+          histogram,
+          SerializationTestUtil.testReading(
+              in -> Histogram.readAsStatic(layout, in), expectedSerialization));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
     try {
-      SerializationTestUtil.testSerialization(
-          dynamicHistogram,
-          Histogram::write,
-          in -> Histogram.readAsDynamic(layout, in),
-          expectedSerialization);
+      assertEquals(
+          histogram,
+          SerializationTestUtil.testReading(
+              in -> Histogram.readAsDynamic(layout, in), expectedSerialization));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
     try {
-      SerializationTestUtil.testSerialization(
-          preprocessedHistogram,
-          Histogram::write,
-          in -> Histogram.readAsPreprocessed(layout, in),
-          expectedSerialization);
+      assertEquals(
+          histogram,
+          SerializationTestUtil.testReading(
+              in -> Histogram.readAsPreprocessed(layout, in), expectedSerialization));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
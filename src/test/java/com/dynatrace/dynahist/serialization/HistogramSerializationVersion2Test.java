@@ -0,0 +1,6014 @@
+/*
+ * Copyright 2022 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.dynahist.serialization;
+
+import static com.dynatrace.dynahist.serialization.SerializationTestUtil.toByteArray;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.dynatrace.dynahist.Histogram;
+import com.dynatrace.dynahist.layout.CustomLayout;
+import com.dynatrace.dynahist.layout.Layout;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class HistogramSerializationVersion2Test {
+
+  private static Layout createRandomLayout(SplittableRandom random) {
+    int maxNumberOfBuckets = 1000;
+    int numBucketBoundaries = random.nextInt(1, maxNumberOfBuckets);
+    double[] bucketBoundaries = random.doubles(numBucketBoundaries).sorted().toArray();
+    return CustomLayout.create(bucketBoundaries);
+  }
+
+  private static Histogram createRandomHistogram(SplittableRandom random) {
+    int maxDataPoints = 1000;
+    int numDataPoints = random.nextInt(0, maxDataPoints + 1);
+    Histogram histogram = Histogram.createStatic(createRandomLayout(random));
+    random.doubles(numDataPoints).map(x -> Math.pow(x, 4)).forEach(histogram::addValue);
+    return histogram;
+  }
+
+  private static void testSerialization(long seed, String expectedSerialization) {
+    SplittableRandom random = new SplittableRandom(seed);
+    Histogram histogram = createRandomHistogram(random);
+    Layout layout = histogram.getLayout();
+    try {
+      assertEquals(
+          histogram,
+          SerializationTestUtil.testReading(
+              in -> Histogram.readAsStatic(layout, in), expectedSerialization));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    try {
+      assertEquals(
+          histogram,
+          SerializationTestUtil.testReading(
+              in -> Histogram.readAsDynamic(layout, in), expectedSerialization));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    try {
+      assertEquals(
+          histogram,
+          SerializationTestUtil.testReading(
+              in -> Histogram.readAsPreprocessed(layout, in), expectedSerialization));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    SplittableRandom random = new SplittableRandom(0);
+    int numExamples = 2000;
+    for (int i = 0; i < numExamples; ++i) {
+      long seed = random.nextLong();
+      writeExample(seed);
+    }
+  }
+
+  private static void writeExample(long seed) throws IOException {
+    SplittableRandom random = new SplittableRandom(seed);
+    Histogram histogram = createRandomHistogram(random);
+
+    byte[] b = toByteArray(Histogram::write, histogram);
+    System.out.println(
+        "testSerialization("
+            + SerializationTestUtil.longToHexString(seed)
+            + ", \""
+            + SerializationTestUtil.byteArrayToHexString(b)
+            + "\");");
+  }
+
+  @Test
+  void test() {
+    testSerialization(
+        0xE220A8397B1DCDAFL,
+        "023F3D53DA1AD13F00D93FEFC26E3D5000CB7E02C80D1EF4C28664100071A0429A0E1408F0549148523510421084110E019A0E88A1910018C23351284443470106131C96031010C348425483521920A00748004309B04404005075004005A350295074021D822104021100320801820C48840580846089207000D20402886280101558400A8A9209000905414182028030062180084402200041065000A0A30201C0000040A08104A870000681000A8C0A200530010601001404008099110001120618000300200B000100401808080890401051C24020004001304080A00100A20018421010C040000200404002248208C0015040D1219941140180008040008C030120D040A040080422857400000011B8822116806010480880");
+    testSerialization(
+        0x6E789E6AA1B965F4L,
+        "023F3D85DE1F8D2E14D63FEFBCE6020623E02802FA0816BA8B4002040008880200524C854440800040019200208E0040215400185611208000004080020111124000A2493000402222810518188AC21840540000C0001280000041011040000020442040B421A000001085008000088901040008184114102840A44108858210080240000840002008008400100480");
+    testSerialization(
+        0x06C45D188009454FL,
+        "023F3E31C6829C390BFF3FEF4DF1604C12FA1C02A4011292202280406400200D009400800100958010031241A050");
+    testSerialization(
+        0xF88BB8A8724C81ECL,
+        "023F3CBCC36385EF01713FEFF6339274F2CD910102BE0C1AD68EA2E98A49800928238A40108093F4950F54040A49B08C801010009932013C324141180010220204620AC6D831220B400759444000008493D2204B42020D6102038410080A01500205964100F088002425121404A8000246C10D429004801020A10A828001040040450408095202600120840000A001880006110020408024400F1080C0000200000108600289428048090200006500000D089053840040428881C41441080802041A0500280108123010118249200004281813140000A0269080C060086881020624200804041008956022000003048040884040019200002019000822200C100002000020");
+    testSerialization(
+        0x1B39896A51A8749BL,
+        "023F3E886101B5755A923FE5951C7E84A62A04B0030208C80830084B0B28080B28E8CAAA2C4CC8");
+    testSerialization(
+        0x53CB9F0C747EA2EAL,
+        "023F3E3266316FCA15D23FEF6E3EF526B41229029E091AD58258848260240040C4201011486C140094008885C21903141920250044380680300008040082515730900A000A6201041080400820E829804040418200102209201419A208824802100060008A0000000720040800001524CA21A012014403420C9642400408380200002405340408004027090402020A9808440200004A400189040101002842040040AE801204231104");
+    testSerialization(
+        0x2C829ABE1F4532E1L,
+        "023F3D67B2E5E115C2923FEFD1378DF1E0F5C80102F8031ADE4B40838471841410030C28518C10B20109A94E028862004600180E44C102C3852317231210002850E2240E402080B340408065B8C0308001201F4140882420124D9845056902D910804C0C9119048008411A90C102384900104809A6C8004C4300928200428C524002039B4C10000040");
+    testSerialization(
+        0xC584133AC916AB3CL,
+        "023F3DC7D0D173BFE7133FEFEC218A5CD561880102BC061EFC478A062C80B2C0459E2408500170D014C470CCA610D20870330920A00829C2808411004524022601088392C08118C40500D0040A8028000B08641982218420232980000890306003890524004C190805828105835804049844304049B8402D8492900700DCC4826B60001222808462700597C0499202100852410049018C6A3320044840860104A2188480C800400000021130008802005000126082004413436900451080");
+    testSerialization(
+        0x3EE5789041C98AC3L,
+        "023F3E1AE31CEC0868593FEF4ABE3AD0B85F1F02840916A818204100011082000429D040204108B21326986885000000048A104480080402040002002304866020C0002D00000002001040800AA00120102040046014A0040202806820010100240105000480081810006C000A000200800100280004040010004280");
+    testSerialization(0xF3B8488C368CB0A6L, "021F3F15C58B0E43E1A43FE3BF66F0F6A97992010204D1244ADD");
+    testSerialization(
+        0x657EECDD3CB13D09L,
+        "023F3D82CB48A70C4C5E3FEFF0435D6EFA097F02820F16B50B45D00169688622008D14C24142B9420081010818060008C8130153316312330608A901D04D10809500501262360C825081003064900900C80928451803014000480120408084140E810300C9212000209310140008A2204088045000002909100A9C01010B000220021000870804000200008104590890802200910800420804000AA40200408080A20040000402009980C100400000901380088C424048080148600A0A04265100000040170883400840240A10410888225028000805008400024802600810242028818981200204008080029018030444800001025000800401000121202404110022084818C083");
+    testSerialization(
+        0xC2D326E0055BDEF6L,
+        "023F3E012AFC34E501EE3FEC6DFCCA5CDE42028C060208D81028D028282830E8A908EF8A092B484FC98B480A8BA8E8E90C48C8");
+    testSerialization(
+        0x8621A03FE0BBDB7BL,
+        "02FF3DB1581B739854AC3FEFE13733BEE09389010102F4021EE925864CBC7060804F028004F04293685094990C73496E188822C903908720C0228153B321101049000625C68A3924E0C80118080520A0089881818510182B6202CD07120080086645202226080C406904121061B29D1025024036EA2062C0");
+    testSerialization(
+        0x8E1F7555983AA92FL,
+        "023F3DC1DBDADFD868783FEFBF77D243AD443202C40C128C34A0424060E22870C0070C09441408014C2202022024141C258E00A08AD020000810001640280012400008012392488001000506000020A020800012C00042001102E2200910004028280C0801090040802018A004080920A454420802210248380104880085041000A4000000044200100020004902484290008007314080012430400002038240040900010001084200000090001880322000450000240200A0");
+    testSerialization(
+        0xB54E0F1600CC4D19L,
+        "023F3D572F423E6CC2533FEF92232F04F1124B02DA0316A3A90A2400032028011C91CCB000100C044585900100A038A03060241003000568008260822152249A28020C20241210B1068008154880C9102020032104200003301441000B0840");
+    testSerialization(
+        0x84BB3F97971D80ABL,
+        "023F3DB90EFE3902FBCE3FEFE8769EF74FA66B028A061AD19C21A5329140021022000050480D48485E90008E08CA900088AAC800354823004004B6400C04091190958724401822302090A40203A148614400320808702268110AA882502404000906000890A000008850111114880222030084C0000A5840000420049189002000C032480400200004000004089031000C0A24C20800001031");
+    testSerialization(
+        0x7D29825C75521255L,
+        "023F3C9795F2B452C8CC3FEF6EE4B7B5F68CCD0102EA011EE25CC00A04BB920042050A74284094C004CC1024C224DC9226068998A180000A894A5111311252003008648102042422020118908404004800E4E1389C10001101240B2058");
+    testSerialization(
+        0xC3CF17102B7F7F86L,
+        "023F3D836E5006D0C2D53FEFFF851A306FA9AF0104C80C16BB103EED31E001CE2209940010865121321142A0218650109AA90A4025201960310230369880B0386000C20206C34074943C0221DA9148068360C2406820002D32A044300361032A47CD346144324060060000404000209C00808121000809190408000B0C202940100144E088090808873A0190082002100634010880080284E2909802AE004010490A8A88900005200F2680490BC80804241C038014040022008758040010310008893A00400834000512A4800D2005188004022AE0004040510020000910882804A400098000008204201884620200A080113008000A0114546048081400240400F0");
+    testSerialization(
+        0x3466E9A083914F64L,
+        "023F3E0C42012D7ACE8C3FED3AEB932967480DA60C0208E808020902824241D00818021E048341A45012940A0500994A255168C42ADD4CAD42A4514808BA211A9341A3592E859345");
+    testSerialization(
+        0xD81A8D2B5A4485ACL,
+        "021F3EA1C3152CB6FAE73FEFAD1DD5DAD70202B4040EE908804204001050440340400207000442005001040440100091010010C4");
+    testSerialization(
+        0xDB01602B100B9ED7L,
+        "023F3E14799E8F5B94153FEFCB54652C08131E02840D1AD39460A104404006000006000E904A20915061900A0128920430060500C00188000200223222040090400048484442507002504080B280858801602A0200A0121C410240004A80500281A001A020400404200120820001100D02000852009001000802000020052800041000A102A200040002100080501850480A49200000A01004820004004100090400200080800202080046000802110003401000000501000280");
+    testSerialization(
+        0xA9038A921825F10DL,
+        "02BF3D5DA96B0971718E3FEFC03505E316A09302027A1AC0A97E44C248F1821029A661B5E14010A03D58195E41CAC00642C85220C4000611470D1505104823");
+    testSerialization(
+        0xEDF5F1D90DCA2F6AL,
+        "023F3E712CF2E8D0A8AC3FEFD3088730E9F32702A40E16A3850A2020801108010050844058580880470208900080800C1009301100A404008404800800A0C0310053826022821094850324C004A1008014108043285484040148152800000209003000231C24024080041000C4822842004804082012040014204600000204400480800402084008800200090809810100410008A0208020100C02400040400802010040080000020080842008000002A4004810081000050000100803000050800820010882281005");
+    testSerialization(
+        0x54496AD67BD2634CL,
+        "023F3E150509DF1A8F3C3FEE728C0D3069B609028C040EE0A1120D002224842150048A2100011804244091010240800400610110400401000841");
+    testSerialization(
+        0xDD7C01D4F5407269L,
+        "023F3D0BEC79F9841ACB3FEFF69A9F421C4DF201029E0416A7ABA7308B451542248C1425180E9344712E94110E288248182898890843400111400001E0060934830020830088C56C004C11009A8411C40498C3640010E0DD016F200143000330400C1C4CD88A880A18A11908900210403E4920868100164C2880030C0500400044040401C39826804204801A010005C1608010250405");
+    testSerialization(
+        0x935E82F1DB4C4F7BL,
+        "023F3D98ABB75AC733D83FEFE99550BD99576C02D80A2289E0C1900020E01000004010A030003074070A5311004350733630C08A9046B4241A23003352024230701210CC84D30832026C011231782402C140A3010286C00421211556A80374B1A101B100300014100004030130100010E91002C201000042360020800B10921440600030012811004103000009080A5020220C6452105049012050880482A24840E021146420031820010012001B60A30822800A1008210640145200100508304020100B02032C80602000002002404A1200200048020440602026000414028300000120500448120240000420401020024300021020028430410E902C040810");
+    testSerialization(
+        0x69B82EBC92233300L,
+        "023F3D19E57AE825C7883FEFD6D7ED3334C76802EC0C1AC91C8A190028C59E202084190C84112122098E181502098328080833C19112010856406142612A14C1012289A0702084090A00020280A412120001120090006C12000C44100E104024301961824850020800220001A13400800830900004C21000A0982300C000000280440028080905C40045906000020A24A1940622024424512111000000023414111040488080484040C0092003001810B2021040A100400910080120020008100440008001040801200000C02200200400682309100A5C419000480400024804080101082810021003240282000442010820219208202024040088001140");
+    testSerialization(
+        0x40D29EB57DE1D510L,
+        "023F3DFF13C02A94AAC93FEF150EB5276A1D7302D00A129028EC2407E8B6202E0490A3A10A060801108840008080B28201330A0005004831AA8060B0101026112011162C48E8110488120404050284008022D0A0200408002C088510044C08140991064A240021080D0451948000A000240004040202208409004012240000820000804320044414802040009002285044028800310020214804041021000008020080100004000202400400400000100784048080");
+    testSerialization(
+        0xA2F09DABB45C6316L,
+        "023F3DBD6A4E69037B523FEFDE0BC79C4AF2DF0102B20B16B219742BB62F504000883118665C10D4568946099011A0012105A9C301831942140400264820008400AEDA2280170910D66A4C12B202C868D340334F406EB0400004880182C03C220840A022142445008220B880810001111080430205440143408A21A0480264108088453001401008C005A831A208B0011148108B20A08B000000220002480400102C026304008000AA29201341010440008006C02214486422CA180340800C042000400223A22830005D0108600420A1105080040A60001A4290128890000941A031034A04504461D048080008202100080412284C922030");
+    testSerialization(
+        0xEE521D7A0F4D3872L,
+        "023F3DD09C2D5F5C4AD03FEF82A6387C1C39820102A2071AD59470C18428054210218210504444D4D908CAD406302185008B01910A400734393151622128204642070260026120880800C04804449A30128024849305C2422844094A220380882C180381224828272460540122026864481460002952A0614813501080410B500440114001280125028401050A268C008000081810A2200C02C11400004264888088820106018000204200042001000C040003000860");
+    testSerialization(
+        0xF16952EE72F3454FL,
+        "023F3E7447A877D0C7153FE4A22D25625A5F0C8808020CE4060040100419028090440104409124210EC522A46A3848104431246892A4112A4413A5010E4E13E5813A40");
+    testSerialization(
+        0x377D35DEA8E40225L,
+        "023F3D16D3AD8551377F3FEFED05616E8ED5F00102C4041AD42E282B0644624870C38030156650FA4508010007B00E3D014818E8100D61C207053010EB632006D97BA6C321010834010301408400992416C9210C02120001167C90900521800C30872D33010D0000038AA017E2052409000900840103349810040101120B201808040001418032A2C800049841AC");
+    testSerialization(
+        0x0C7DE8064963BAB0L,
+        "023F3D5076B85A9A922C3FEFCCF9AC300B82950102A20A1EF2890A1C043051E287011A541011D0401D9CE67609004E0030870908A10A04B08151228910266168205300010582854000800E48E4A20080808800300AF2E050296480195482000C9608F18210453259640032880102502286880880046482ACC00647140260288A706064424801A7383020000510480004490020219A3421011202283601001431400A9D1002041000004282101140226204402402402880410410E080A014040386900090014680800C00D1108182000A0140100828828A1011250C80042010004204009002A84A21962808200218004004481008082A");
+    testSerialization(
+        0x05582D37111AC529L,
+        "023F3D7433A69720B6D03FEF13A41810A3754A02CA08128D6460EE0E2624446D150820000C450448000A303000E24800060100C028040080069900580000400001011C9C29218424C56048020020000500C402090000C000000001A11080000041084024430860440004804010902288506044081101900020920400808C24202040000200408008000008040110400881000000A4");
+    testSerialization(
+        0xD254741F599DC6F7L,
+        "023F3E303C77E8C1B1123FEE64A57E5C1EEC0BF60B020910041F0120E82C0483C0680A0689A0C8B2108040A832268721CC1A98DCA0A89A7AB220");
+    testSerialization(
+        0x69630F7593D108C3L,
+        "022F3F37A99271D203BD3FE790BEA3275458940A100908021688A03022130D22A9BA768AB82A930280");
+    testSerialization(
+        0x417EF96181DAA383L,
+        "023F3E014348541FDE723FEFB18B4D03110E5D02E60216B0618451146638C411144C4C430FA6D00980412200450032102C000A8606E90180080092C200022044101002A4B0B930005221020224812D048828001A");
+    testSerialization(
+        0x3C3C41A3B43343A1L,
+        "023F3DA34A4311928D023FEEE6011C3653E23702BA0B129CE0F020A62E42664C042040B25141204FC60120400010881202420000002222C808074900044A4482041C8814221048000234048004900103110040400B0002800111144002082444488080101080020008450008403910012000241100910810040420000100408012810000090F0240102280040208A004100022200243480D00016058040800A00282B28080041210");
+    testSerialization(
+        0x6E19905DCBE531DFL,
+        "023F3CFFD2399E6D2F803FEFCFCD3CA9CE2F2D02CE0A128A6E52A608C042428B11015381A10800A00000340D001600000400680A80701010020088121040240448000900098000000082041030028E4068A8080081020A21000100022010104020A000100010200084003220040101000000043001100000000240004100080101001820042811201000814010500240000D00410202280004920481");
+    testSerialization(
+        0x4FA9FA7324851729L,
+        "023F3D39AC70126954763FEFD8465070D1D68A0102B4071EE42193502C6002A1848C0E1418509224B1C421515CEC822008292BA988090C53809410C4718040000017624C9048E106C5819641201059C400520EAE8300820101120642AB0006CC004708628101801828C2404DB088A49282223488042020850202105A208000C08013012205450049503802000B8451090184002600892021C100404491052208B01338801080000983008200024008400060300C042024800001C00021521204A01000187480808300925024");
+    testSerialization(
+        0x84EB4454A792922AL,
+        "023F3DB8034E648B74B63FEFE3BB902E81C78A0102AE021EF440820A0C5810210383040C0850300A9C0884102C00D6283D90190300110A470930000511001056406380410004E1208000009020060888009818080A100620076004090C54080418");
+    testSerialization(
+        0x134F7096918175CEL,
+        "023F3E39FE95C702E3093FEF8D5F1661647E1302F0031290014220220266200961504005482801001803022014440108020100302000841000808002001080001C0548004101");
+    testSerialization(
+        0x07DC930B302278A8L,
+        "023F3DC1D87836A1CC163FEFEFDEBDDED99A48029C0F1ADAAC40A69880E08002018478D10DC240D44FC55CCA108240C890808A01B7B0C8064808B82C02082022A12486C912000802205838000140040A104213CF594882080A00605101820C28A003213081001800240515C40204C204B6002088101A8008332812016021005080000209012100298009892048042400448012FD0890B100921200A888C2044020502498095201100100089A821115C3601050419202A408224002000050C0B000884026000120810408280006000400420200A005800008440100086202000400000405408812A400011802010081400084500A040001081A4000900004C38110880000905004020010004114904082000124885000002028416400110A00100022100040528008");
+    testSerialization(
+        0x12C015A97019E937L,
+        "023F3D892B0A44F44B983FEF9E97364D6EE46702EE061AD2C3FAC88E13E104082A0038540010A4003060298000821042019211888211B41AA3D24B484940B5080486042283010000984A0884D41BED8082200A442111215510300090802020261A2060000C17494010A205D0030004010C300004909140C6040812002000A0035114124002802A422002048000024004322200080000C59558019AE8200302110428084A4484C21012130082A50300820025125450C2280A2C1A4821120A010884280A20C040");
+    testSerialization(
+        0xCC06C31652EBF438L,
+        "023F3D21098D0CD82A3D3FEFEA5DC52E17977502BE0916A918C60210372B4610208CA2B2B014486A888118800004C0002200A00029454602A001800402C0000240C00094004622130090C90081404002489C0C5019208000099000221208002050022404A0DA00208C0011010A0CB29040040150000800880103C010D040B3400490000086010000092040880000001024000C02404200002102881110201108000060190804802A010080000100902006002200109020212109100020210A000001200001D0040002048080044402");
+    testSerialization(
+        0xECEE65630A691E37L,
+        "02FF3D765C58EE476E653FEFE80D575251DCA3010002F60216AB3A44570A40D104801CD144A08F41126845CDD1EA13240001325608409265464144124900D0C12C86A000A25269298013A0C6100012D170A0002406882C111024A0000920020A233240440850");
+    testSerialization(
+        0x3E84ECB1763E79ADL,
+        "027F3E022148679EB3233FEFE9F90D18031C970102DA041AC81A50429C90B9103042840874DC1810800C424808011E2889290808A2410032602C348760260A01A0422544C02090C003225802404000100A433510567C00022190080C00080082682183180086884020400261022C46804125405926105000008246402004402200310C0451041200A50428E0C0");
+    testSerialization(
+        0x690ED476743AAE49L,
+        "023F3D3C779F64A22FFA3FEFDC1593D2AC0BDE0102F4031AC5FEB8E69259818CC8A1B808F503185692C40C308A300214188A31C2B2989835D24C09CF05848B10B03F08C6944D400050481955104160110308404101042A5A2730C0AC000110020021609202AB30A82D1281001685F010082000848300115003800802414420");
+    testSerialization(
+        0x774615D7B1A1F2E1L,
+        "023F3CD84F0BB1DAD3FD3FEFEC9F730F0E1D210294071AD000380202084006202302080C4000082404024001808030888000A104441D040480081041000E60020800003025524840412104100AC4000000324009088081240022008420088204840838202044804802010408298800C0001040020080");
+    testSerialization(
+        0x22B353F04F4F52DAL,
+        "023F3DBC9CE344B8D93E3FEEBEAD2C0E7F3B2702F006129C204622024002C0CC84B8015200290880002C2D14900444180200004CAA0A018253540400404000A80900400021000080321901040800800648021080801002300900002004041000C0001040020008401808A0004010801004122100C000001210");
+    testSerialization(
+        0xE3DDD86BA71A5EB1L,
+        "023F3CA05AD610CD50293FEF64EFE7E2312915B403020CB4043C04240804243408086C44082404088C254948A42404A40408088505E4CDA4E4882404648404054704686AA4");
+    testSerialization(
+        0xDF268ADEB6513356L,
+        "023F3D44672CC68F3DF03FEFDCCB771196518D0102CE061EF0CD93023000F00582862410D024302115044D040E70463D92508809810841BC8E244C3F28882262402280054249145C164804885004A0163080000809898B809A0805224362C05322A2000C60C12E840C0503C2A20038010114C50C06900023220792B42A040C180810CE6D1002A15550446600880030410CB2A204106125912100801104219102401420100000C1030000008010A08268223000000044428020291044020083");
+    testSerialization(
+        0x2098EB73D4367D77L,
+        "023F3DE5E8E0596251C53FEFDBEB140A8A2F0E02FA0D16BF0D40138840014000000C13A02012538D820000A280A82400305504808C2080C021200C0082100100102A84000444380608151201008081900C040A002804800442001000E08082E00000004000012004200010811200044420080201428041000020068061308000001012020270410001040050000060042000820010E00240000A0101000240180000040428140002000282040000100001000104042410808000902804080000100900014028");
+    testSerialization(
+        0x03D6845323CE3C71L,
+        "023F3E350FC9218B2E1A3FEFAB14513E229C1802A60612847002223A0602260D1401010628018604409418082505221544204000088C018094128600083A000090013440060135001808001042020820801010408C0001800220990A10000100801015000220000810022000000020024480");
+    testSerialization(
+        0xC952C5620043C714L, "02FF3D91E6385C51F1DA3FEFD35B7836A924870106020A1887CCAC18");
+    testSerialization(
+        0x9B196BCA844F1705L,
+        "027F3DACE376416FF2EB3FEFFACB026D6AA6900102BC0D1AC7CEA125324820A210828218768B189090ADA1104461025878C21A03998AB44010313010283100C65A4016261100C28022C00D045E1832004382132404122898206221802D4208080702344200088800C0109008BA8000000008160178000044030C4200C044040000D0398004AA565460514440082445506118080188170106000118C800008824519010868002AA1141314D5000000249004C1424D2022100565102022082000119095C1A0240000048220024080210000508400232A010500614A808804042020E98120200004420180C00000050000100230080180202A0044404180000010008C2000100020841211001800800100180988004000104026249");
+    testSerialization(
+        0x30260345DD9E0EC1L,
+        "023F3D406CF9E0E9D7403FEE6850BEDEBE300902C80B16A3904C000883008410000F0A00088602059511000288002C004800020106C21C0009010248202101822002072000C009900012051040200C029120002000C8020000010008040A020820480008008100084802400000810004081002000C001900204000400008408000001000804028080A0120002000A4800090C0118002010044000880");
+    testSerialization(
+        0xCF448A5882BB9698L,
+        "023F3D0C900C3E32593B3FEFDDD4EB6CFD5F910102E8031EEE9F910F0C2850809D03022C304234863845318C814085D1029C0308A6900403010000D18809104A1080400868047B3024ECF1434A0580D0A101E922990080010A7680014350A8705C0D0E0925121D0190100F8001843A2009A0003016408512810684D1480C021870109486620950");
+    testSerialization(
+        0xF4A578DCCBC87656L,
+        "023F3DD64D3687C088C83FEFDF34A4E0C784AE0102800C1AC0CC1B238020492428C88011B012548CC11C454085D2A16584020C4038514001001001164200120D0488C02C00B004A0192692436818A30D004201280054060020AC828808018000A1F23206010241608580021000803006025B028283051082241500514C024440080038060C8200B28100000024748A0084B0826000035001810002C000000064040C2800480840203001802001844001A1104240039100901148011D44001000000300A000880248440280400800510345224000001800040240200081C00404100100A00200040C0430032640D880281444040041088094400024D20008004220004001");
+    testSerialization(
+        0xBFDEAED9A17B3C8FL,
+        "023F3D669918B2697C673FEF4387BCB213882902A60A128A062C702408E0000D40010500030900838221204040210501080080A14040140900FA0140005320100800800000888BA000024002101480000112108A01028900A02B08240010028004080809802021010480008C4210004200024061080008204028000000C002004010000001000480");
+    testSerialization(
+        0xED79402D1D5C5D7BL,
+        "027F3C98328FEC6EC2403FEFB36E2EEECDC19D0202501EF34321124430E3A08E9E0E6808501886C700108414B8890C500212191EC80D00");
+    testSerialization(
+        0x55F070AB1CBBF170L,
+        "023F3D2C5E366480E3A23FEFCE372A689F0ECE01029E011EEB421C8014E8D0E00781062480B0B5C0C009312CA60B8C1096426EA391A5B315904024164D112020C1082A202445270D4040");
+    testSerialization(
+        0x3E00A34929A88F1DL,
+        "023F3CCF95B63BA028613FEFAF8F985E303B6404E40516B3004041006500C81304100898249020808809B42A201280082820021484001A294890C18104190000188082020108121220F1A87081000169800C001211030950800104800E044A000008212045C48C0088042002000104180802C0800840004B02C180");
+    testSerialization(
+        0xE255B237B8BB18FBL,
+        "023F3DFEC6257A763CBA3FEFEEC1AC3C007B3D02EE0416A451492200A1004023045059804800DA58084581990C12091120000680188820400000100402D10090042080520000A6221640C008296808C0045C95040200002C080000020028800041800D600308C200009000224B8820404001000001A02010C0");
+    testSerialization(
+        0x2A7B67AF6C6AD50EL,
+        "023F3D6CA8F1CDAD77BE3FEF9BF918B340952D02C80912989164C2C20622262C9231000600010098829830502C07000084400222009401190150AA001C2205100910410200250808008001021000809080440000920460A0900C0200E100A0402002040800480000801810800205804029882021000A2004444801021000809C11041808008042000104404020000420C00010008200200880");
+    testSerialization(
+        0x466D5E7F3E46F143L,
+        "023F3DD26480421903E23FEFFBF9EA7865DF3002CE0D1298F8A04A266206522C739A110040019789201240012400190514000388008104280410300A80421A1551042202009600A451804044840001008080100008004190002248060100C10220000A1542B00090201000108090000100102320054000AC001C0402800444404140002018040024882210048210004400020000200420004400208408280000010400200100500448000948000400408020100202008040008810");
+    testSerialization(
+        0x42375CB399A4FC72L,
+        "023F3DFF477C36A1DEF03FEF47753A2556B50C880F020CF40605401008090041202C0100401004291A4113E80A0E48906459004390C40904481044490A4211E421284520E4D120419004890C4490A469145412A431445A9106010A469185121C64134499004B9CA4194A4110");
+    testSerialization(
+        0x8C8A1F148A8BB259L,
+        "023F3D8962537418916E3FEF000F6E5286394902FE0416B018C454180012022219CEC21A44000001C241E40219083288009003300554000A00904580131280220A1108414280003208410440208A1C90864430000002801830000C11030010080000602018080110801118800000122020");
+    testSerialization(
+        0x32FCAB5DAED5BDFCL,
+        "023F3C0F68027519B4CA3FEFC8BD98172B363602A6071EF940850470801080C182182020004DC5D228D08415A0473A1E11503480488000A426048428586092C82404081404190482803182030000410560084182303928282040410000216224070416C4300C2088C20090444600D41B5200224020145552A820890531290C080A4322040045242620002080984014130801000A001412012320091B0140118040000040C020500240048048804868");
+    testSerialization(
+        0x9E60398C8D8553C0L,
+        "023F3EA4B1ED9C9367353FEFD1098937B9AA04C40A020D14008890A4024188013D20440881105204484AC9412AA4388293925A65C8");
+    testSerialization(
+        0xEE89CCEB8C4064C0L,
+        "023F3DF919137911C9503FEEE780F85124E60FEA0D0210E60700082100A084008010220881100200200800806006004388210020CC088220241D0108211E2284188110020C410891302444C88A1182004A909102210460831144009109A10C2304A8841462004188012E2404409711622C8308810A204478841004B08E88B12C23C7209211A2144008011A21C4010511420C40");
+    testSerialization(
+        0xDB0215941D86A66FL,
+        "023F3DDAC0967C42180B3FEFF15FA73FB3405502E80D1AC14241209238E4960102004835621006610C74080022162281097209100100C51109020091100316942002092C14C005D001049C6000000981408000A344000BA2020028088820C1409540380401330000060024130002B0911040510A0A4129D40441C00000280180080500E0088021044010244C448000460814300AA423001204000000245004A2008C4C9090442020108045121040080081090048600820A5000084012001080042A280C00801400000902400008180812890064021000062001024020008830400001100480001000823800A0420000122001000208010000200808041000809000110");
+    testSerialization(
+        0x5CCDE78203C367A8L,
+        "02FF3D77795E2F28A7483FEFE0CFB91DAF978B021402321EE31B9E04096C524247280421D8703841C00871021E30");
+    testSerialization(
+        0xF1BCBC6A1EC11786L,
+        "023F3D9229D8D1925B5C3FEFF210D38C8E634E02C40D168A90C6922B204C2454801824020C460108300E0190048B0018010032C00402604016100120024300B114010A100210088300004804400048012804E960800B110288628932001100000486800400880060500112088120025040042520010410010000280130081002000403312C8001043E1021800801000125E88801600011088001202005500603021080600100120000124102205808020A0400A4C200981A820C42900100020800C210080000448020020810610000C00012000240184840088012020302400484208405108422000844000A");
+    testSerialization(
+        0xEF054FCEEE954551L,
+        "023F3ED0A53FC0AFFA743FE8252B8B14646E058A030408C810B84830484809085830482A8D298C48682A89888808");
+    testSerialization(
+        0xDF82012D0555C6DFL,
+        "023F3E7BB849D5980FBA3FEB246679DF132704CC0B060CE40C005110E4090C4F1104592E4E91046148579006D94C6012A731A0449724");
+    testSerialization(
+        0x292566FF72403C08L,
+        "023F3D4454AEA3AE7C173FEFDA65CB26C884E201029C0B1AC1CE12E1000024141A20122131CABC4184001C444E0401000A88390801C601030290100D0066116AA2100880967131805E01224021840300108000820762921808848029140540C10EDA320232D000A44C0084A2637208D8001208005250A0C482220180C21541C3D002080001062191000094000820009AC00603308059251280081410100006828A001421104A648002053B2160008829201001A50600000048000A8A00308018000400008A4A80051015480A0181052101008C808890001400C320A040A1582040082492024405080051008020284074101508008B00A1260004030208");
+    testSerialization(
+        0xC4DD302A1BFA1137L,
+        "023F3DE732E2E198F5913FE9EFB591462E7A089603020CA88424910524440424E40647C404254844490407A64404A664");
+    testSerialization(
+        0xD85F219DB5C554E1L,
+        "023F3DAE0EB4CAFB1CD53FEFF134E9BF323CB00102FC0D1AC28469101C01021630A58808F1856C85A4049144824323809B930B88003A10243E501086884D5010012280800D211800F013202053C0000144124240000B00E9B025000108008010A8585D305432000088D344020040181002904101400A31824443110023028224204040048032A890502C50000C00020100030044000100082000414480FA20044080060020800150008C0C2000081001005540200281082410110100010885100402420094042410080801048060104000104404800D0000018814316482000824802004600C011101464080010004281080A31A28040002000480070000124000A201C004");
+    testSerialization(
+        0x6A27FF807441BCD2L,
+        "023F3D2B84B157E0030A3FEF9ECA9E9ADC98590298091AC17839AA0E6027800881821030D9044558C5012305AA4040564504B87520221C05A66901208C0030C104560928041224103D1A151710014404220CA402890AC0801235000008800114222221008124413012828A07013C2540202182080100423150481080A528480004600E04A66204902042024A0108004040800108E600809004A940040032068250021002820242700104004086A200084090808084202400013944000006");
+    testSerialization(
+        0x96A573E9B48216E8L,
+        "023F3DB4E45A0D701B453FEF1E4801FB33865902DA0B0EE46004160480A51154840C81080232430B46A0006480098945406C32010492710508040901020500605288330219100D568002040C0040482010011438020340200045022800000004100E0000C01042C010C81910040108811100255802040A02004202004041940008000300008080410010080401110100508706002101084008100084184850421400040020");
+    testSerialization(
+        0x46A9FDAC40BF0048L,
+        "023F3EE17E463B9CD7A83FEE801E7B34E1A413B4040210B821050484401018440212208042206108C4441138C852231189048232289C5024120944A401009046252308040211113C80231D8806020110DC4C2610");
+    testSerialization(
+        0x3DD12464A0EE15B4L,
+        "023F3D980705D13626AB3FED11F359AA863600900C02051029EC1613068E5B34528A454A279E84C0");
+    testSerialization(
+        0x451E521296A7EEA1L,
+        "023F3E79926F5F6492E63FEEC77AA459F2981B02E404129202A0422C62080008081028410030024224590060424034C0010002A0004A508930B6300004008082C8100044400000008204000001241040000042C8180010010000480014");
+    testSerialization(
+        0x56E4398A98F8A0FDL,
+        "023F3E2922810F081F713FEF02D1BEA9403E4E02A4070EF528425534003008202421260A90000493609020000000406020000281052C02104200008000081420234000080044058601024040484010010405423C004420180D0821040201004070001012080140000A440300058180000020200000440111000840C514");
+    testSerialization(
+        0x7B7DC2160E3335A7L,
+        "023F3D5B12B678565D9D3FEFD770A41FA8995D02FA091AC4CA38001000810000200A180999130101884000B008292004102C060558B011000890551014D01080290A88000004502000828802008141002020402810101014081020069604500008440A210000094008042C870201C0812010000021480210531E048152001008008120442800041424100A84029A20204448140000008841002000280010C0008400100080410212200040010418");
+    testSerialization(
+        0xC679EE0BEBCB1CCAL,
+        "023F3E06A5F9EAC23FE23FEFAF987CA863953B02D20C16A24F083300603000308DB0C9F42044584000C58240000201E0311A584042008404D200C080000102981408180090099BA2480A48000C9040001020210200203090902248428005400210000081AA0809001040182008258208CA431054040102000890304C04433000000004404000600008800000B08010220000080422000600810220044820220101120041200082810004000090012268804814100200021101802C2045240084001404240010820042088A00010200042C008040");
+    testSerialization(
+        0x928D6F2D7453424EL,
+        "027F3CEEA67C308944A23FEFF9940E282A2AC50102C4091AD08A40218211E18C19649018F0D5B66C0443118851F7AB20E630043CD084A74F40186428260427220620D0A6A2C020929922860228046342928008001441366C0A2921449001400A5038320000900931840C88000A8344008010422C0A1230080084400041004C00002012210100824104201400D00240008010240448800A114144804600204C0C834A2100010128080024A0040400620190E0200000800090602089030080010088004000206008095040052A00080B20A490400400280204961010044A");
+    testSerialization(
+        0x1B38994205234C6DL,
+        "023F3E25AFD0947D238B3FEF8B33C4D90ADE3C02880C1AD19A21E18608008820010E588D9C4901161802618098009A9121813A400002150486F22180412400C30290032011E0880580002800808A81040101600048240000C855188004C00021006001040000009ACD208200019009408040202E008C0640142440090000101010310394244124DB0040000000012C042005048A0104000820104C05282A800080200013100080400200040018280808000044810980A0002840001042048444011082C02832040D0401225008204010008020140014082100404000480009A0212E");
+    testSerialization(
+        0x8086D193A6F2B568L,
+        "023F3D7330C4AFCE29FF3FEFFF777150BF1D1002B2021AD00C08401608200A102082002CD09101208165000200832100D000040201000248250C1882444100082044640A");
+    testSerialization(
+        0x21C6E26639AC2C65L,
+        "023F3BD47957538357333FEFBC89C8E54F83880102DA0616B51CC50495C4084C1120300D4540240C148806008E87A901081830405103400044110A172A2CA0C1601AC09D120800100D93D20C4113122B410C8401010008310A2881A0A320205044020210908B1000218D5243200009808200446100002810105610AA801008F31000853441000808A24002541028000681848844");
+    testSerialization(
+        0xD9DCCAC414D23C6FL,
+        "023F3E5E82E7CE3397DB3FEEAAEFC4D18FFF17022E16B10900209C00080000080A2460");
+    testSerialization(
+        0x91CD642057E00235L,
+        "023F3C7993CD97E964503FEF635C98C18CD415C40C0210F805C0181200800408801008008108030420840B0030A2184188410620C40081102208C508011C6008008210620880107204200808831062288488513C2204088A100218400811104008308111C220420B9220258468831022448F0C013E4744D88313824441892118238450821402444088713A41C4");
+    testSerialization(
+        0x77FC607DC6589373L,
+        "023F3E1A318F18FE9C933FEF97EFE6C22F836D04B0021ACFE4C8868A286B0C00608808D42311980286C1280A00018E052804344933500F644409A6008410400110C058044825921C283088248503648401008269400016B6283150");
+    testSerialization(
+        0x05B8ABE26DD3AEE7L,
+        "023F3EC408A7C3C5A5273FE5F4B587F910B6029E050208F0180602088287A05188E4620148834FA6212954B219929B40");
+    testSerialization(0x12F6436AC376CC66L, "02F33D7F3BC78F11D04B3FEFCCD50EB6E85685029F01");
+    testSerialization(
+        0x64952424897B2307L,
+        "023F3DC92750B141740C3FEFF72FE5E058652C02CC0D12860A6C20D46132012C80400D25421D028C884029408100C428000E40A6145400088C0310240100000042008100480000200580010038010025444008050800810071001040001A014300488024022C008010020101100008802800000002008240800880210010242024040081002200010002440480004003084881010532050440610080000420500008020040410201400020F0008080200010200204A001848030004404008602100104800408000820");
+    testSerialization(
+        0xEE8C2BAF6343E5C3L,
+        "023F3E2093916F7FD5D73FEFD39D9652B2D76102C201228BA380C061B04201A13012204130D0D08544C25524201006300400529060294E12341010407416108707010405123B503CD2480D03E30414AF240128");
+    testSerialization(
+        0xDC4C613D9EBA2304L,
+        "023F3E4AA62A9EFA70023FEF795756B911652C02F00316B9C854C301211140C0010E845304808072000200018A10108E30CB0804C74107089480830832844088181000508C0B0512085016014200400386880181000C90080010A0F228C080501429100284420189");
+    testSerialization(
+        0x3505B7796BD1A506L,
+        "023F3DC434BA2BE655E83FEEE6392601A6F64002E0051AD598200224A1661E08C00459125C081054400040C1F09A20044250204C903356002403406480C204400B0000500301000240801601408081C0090111000D80513410000024004043024178A0049508480862090C103A400CA00028114CC01109200302200101420401A0040080207850084808");
+    testSerialization(
+        0x8176DAF800A05F50L,
+        "023F3DAE71A6AE818B383FEF798E20F07048460294011ACA943965C028038A086184004F06426012814239400100890AD880A110111074B40C40");
+    testSerialization(
+        0x8BD8FF7A0385CDBCL,
+        "023F3CE64DCEF46C223F3FEFFE2B9BC8D2521C04F605129C680402266640062A1055440100A0220418296408010080903400040812E294001000208004A200A05210290400028180C0040001800008001104002080052100800910040053010144C0");
+    testSerialization(
+        0x1A764A3CD78101DAL,
+        "023F3D9580FC37F9C72D3FEFB769D7D20C5D3F02FC0D16B32110450041280A81008C3020248C594933288A1232400810400444B0902000804000081040062A02200462A0250A0C030000820000881190015400004020A0400001D100026001A82128808600808180140A02003860000A410150022231040009080088C22144000182005461000200400402200804108080841004030040400808040020008500008200108202908051020188010440801008020200A00000400840010004");
+    testSerialization(
+        0xBE4D15BF6CA266ACL,
+        "023F3D403EF20CD56C5D3FEFABF97E651C607D02E80916A4426D05A56011CE12853130004C444850D002091898891001C000B68048B110A2060B4911086010E9549080280019080203800412083440114A0A24108980C40201924048011109300810000020940022C00E8044508050A040002241024905406A0008A4004528B0460C101552100092001403160020084140814448A100060221284000201A8C92A00040A010202002118388400000042810000421800010200A002050008054808000901A00006800804203");
+    testSerialization(
+        0xA85E1F38BB2DC749L,
+        "023F3E595EDC9A501A913FEDAB495C55136907BE0D020D0C0480104402404809082030048090420640081203202404819064024808511E4224448F10124040C8211921841C8310121E4008F10923A4689092D23E4BC831292306589C10");
+    testSerialization(
+        0x56759A968493CD8CL,
+        "02FF3DE2D8AA721B47263FEFEFDF488B2928BD010102721AD58639049228208CC880883071B055424C48ED088250898298B0880018B9600012");
+    testSerialization(
+        0xF3A9BCE7336BD182L,
+        "023F3CBFEE311FA7281E3FEFE356EC0DDA89A00102A0031EFA648E2C1CF8F18000AB02000061146058641300A510884196123BD819083C5118512C4A098600A46008854A698C0008000200032A44F400042064061821345F050A143A22111042610241614002800409CC02890602840D82488080D00124AB2665C610205C4A2886");
+    testSerialization(
+        0x365B15013741519BL,
+        "023F3DB2560BEF0DD0A13FEFB240B058C7BB3202D207228078113171A00010405000A011116000136622B128200943022D0018027421032020D0809088304C0A22840094000001008000100521C4810E0300424804104230010828094103008404003000328201B00920F3009400002A402043011143256240248041242068C20201484845210E82D441080021524800021144102021500004E2000200002201009001628210C042080001012004200002040008002212000042D8040067220014");
+    testSerialization(
+        0x1F7A44A6B109AC94L,
+        "023F3DCA62593B4B91C43FEFD20B12839E7C2502E40B16B1D00810042000C432910E004960801181A2018803804035080002400116082010C08500422010220009020142100020300800200440800420004C0004068008A06420104000000180202000440200800092420401040000801201000900010A0040002010844000100810400082010402013000040008802012020008080140844000000106084815000009000140");
+    testSerialization(
+        0x3521D628813CB177L,
+        "023F3CC41F39E5C544753FEFD6AC1D2199351D02A20B1299D74745A046020AACB28100B108019C0105AA416D31782804400426402100892008A20104011800A41900080200009881400A11A8A4A639088A01801110039042A804500908D10174002440A54408A80011000044008800410A00400003008600012000888110808208004040084B210002282425C00080300200405000090001002040800204040004C10010006060");
+    testSerialization(
+        0x6A77AFAB0F7C9370L,
+        "023F3E31857AC5980D4C3FEF8F88E5509BE92604A80F16AA78532010C01840118030C4640481004C4805810500904020A2104504043880008AD80D0000000C50000001020010043060001900000524880190040402000020078000028050902020300901A903104090002489006030209300100042C00280000200082C6024544400801200024008803040000A000200000080080C000000880014040202005460080109400040000008440080808920040250020020400048020180002090242000100012040240020D002000C0000048");
+    testSerialization(
+        0x179642D8CDE95015L,
+        "023F3D92286137AFFBD03FEFE6BB685943622B029E081AD51618210E08C00208460408900010884001240C458102820048202F12C91256010CDA4000208010C8115080040222040440424A22042A0801140201021090981102C408240402488AD90C008084020109182220042230908210120404000080800188011128008001020A48030C000A000060008A12100202008050040820010004204440");
+    testSerialization(
+        0x5EF102A8FB354461L,
+        "023F3E7DB419B32A890D3FEF4FB7070A30820902E80116A46540100864100000000D004C8100000160000282A0E1010002E0008060001008080A21");
+    testSerialization(
+        0xF51C504764ED82F2L,
+        "023F3E611CBE3FBBAC063FED47C38DBF0C9401BA0D08091002088120485A1A872008240489A1C8040081A1D012008F20484A1A8228E8121CB62048FAB2912489529EC6A148");
+    testSerialization(
+        0xC58427F041CE6808L,
+        "023F3D3AE86038C082513FEFC9F56C859E287702A60616A35509F11C631974630E2F7027202E088278913A098290011944484101215000130400928000D00830C352A09A70800024800215006508410A2CC08C8200050299111F000040A201018024000C82088A0121410A83024711040750082000A900D0414590F2041000002018040014608000208A460101100040400201014008481800010820");
+    testSerialization(
+        0xFAD8FC45C9643C37L,
+        "023F3DC14C2D1762E1143FEF9F36F899EC276002A0031AD68091209440011A18600A5070CC028D94C005009208A4909843088090C002F00030060101169105E8482110840D045050A00A101280A1961560A40B00806008509C815500502B8111D114A3802884");
+    testSerialization(
+        0xCF8682F9A70FA9C0L,
+        "023F3D43EBA858A2788F3FEFE0AAC70A1013C601029A0B129F4ECEA0F08622600E6AF37424F92A00100D90008A9010348500044A380600001289439AC664004200B2504804098B44800420044860002B2000410D2A0020020005820C28105000211D01151526500060C13020002080124200048260000400623640000009082556000108480080204008400582000180A40521410C000A01060100400800012808040400A5108400208A4841000808A25644101024310404008C401B20A2011C40411804002000100281210054400206000580350202008C1018338210");
+    testSerialization(
+        0x7E1B3B75A4005729L,
+        "023F3E3E7B6CE07F2D753FEFA133C861DF152502D60516A6A41A031CA531004088101044042CC08000021808018802000814231955155640041A11080080214001500C0000921051210042000A804C9000001A0801500000009020420500840102141028004C0904102E0604A418802A10814402084020440988C1");
+    testSerialization(
+        0x992DD867927B52D8L,
+        "023F3E214DD3C87157B93FEEC4D77F2C3B360ADC040210D204802020120200220808008420082A108221082208842488440884220844389021A06229A046096238902588C4289027096230CE22896210AA20");
+    testSerialization(
+        0x7FBD5DB142F6791FL,
+        "023F3DEC32A1354D4E333FEE9567E3F724BC5704DA0416A7E84010101708C8110052480A41C05C440446009110905080001832A12882482406C864C0410C2090801018500020004240156040480008442910009001804110808000A500100C8418052100C048020840011004000202108400202040887004000122000300");
+    testSerialization(
+        0x370595AACAB4ADAEL,
+        "023F3E4DC01BD98BA6A33FEF765B539644E82F02BC090EE0A904416292204401449901C000520405860485040205120098000005C100808404008110C048102000010080805200002403000004041150084800586404100040145904540006054801004800140261000A6000410414400514020420004400100040");
+    testSerialization(
+        0xB1392DBDC5AB61D6L,
+        "023F3E35C599CBCA33243FEFC163FCA7EDFE3402DC0D1ADD0002434418A10010400800128091C8C0408D80010C2460A4340100405144964004200B5400C00C000C00245040602A2132A942204084088050541520868801A010008106400000090A00A4001801514A4200011494608041100001080010410C8C1A188886030112000462610810804002018100500008200501010080840014044200184020880351027840402202040504881914000400062000500010010000090001270004040110020200A400801002200A4000810C00401002000508410000212012400208204800080020");
+    testSerialization(
+        0x9FEA7DFC79D452D9L,
+        "023F3DD5186E2F917F7D3FEFF8747A4B30D7A10102CE0C1ACC16044B9089298C2102020050411C0CC9C0474C06528280388218991A341F21A098E4364808AB100002C63142382002180010040420431C12004084C0601208681351089447400100888C022565104916430406401880F00800010D10108AAE208202066C04229289409410050230030028480005070080308040028400090010000901820004209048011880A859004041020080842010022002C0344820100010000A0120000851002020880640450102250000A401A10003140840050E053211C04100400240000806004109308090002031405984280022508000000088001100480804018490A1");
+    testSerialization(
+        0x40B12B120085641CL,
+        "023F3D36284BBAA1D67F3FEF8037D7FBCD633802E60D1ADC9010220228E50600421200EE21821091463E0C81101819110808346AC217838906120010086224C020960050021830064320804214181188458246A38C020800400101008250A025014000C40080001EC100058010101144E080A220090530490A04000800806A05208229A214800421600022A000000810820040820240140040000A00C8004000A900428120988202048442008830810C6820C8048108A8002180000020422010820488012001240025E440812018308208004020482082084000004200A04084020080CC120602C000401008408120");
+    testSerialization(
+        0xA192AFE3157C85D0L,
+        "02BF3E19C95A36F435833FEFF25D8FD20D604802F40A1AC6D618418C0040824882009831144169004814D509950928318A28430103010613E310144B808128C01090020894DA02100820328201102008508E00028A02801241784C454AA054400124500A000080016C841C01B0080080420D0800042300E80D800401128801822911004004104010088112005002010800003329250781800030820200904C020040808044001288092009305020200422010808028C2044000084282001008000080142001800004020400A0800000008F100200205");
+    testSerialization(
+        0xC847729F4E08F3A3L,
+        "027F3CC699F70F8567623FEFA4F94BFAFCCD5004DC021ACA9762E01201601470630610F0820404C104804825BA480016896130182401014D08EA44088428422030C1040068201418242041A01041BD4852810A8EAC8008881001250202B240");
+    testSerialization(
+        0x6F1384A306C41FC2L,
+        "023F3D4FA4772D0ED0B83FEFF7B0A5D59B9E850102B8011EF143802A5C5230A28089000C20201421240211800638046126201D12918A29BA88C512412031821600660A5380407603042080088000C0");
+    testSerialization(
+        0x12D05C4045A39C19L,
+        "023F3E50AEB7D449CC5F3FEF63FD95527A413702980C0EFB08BD0110922B2098482A1C0110817910A0100510240001090840042403200220008200510421022000040089041048022402000405040180426000841011400040805001040801C04090000002200C400006401150A0400251003800900000400C108004000908004420120404001104000111004002141116000500C04804");
+    testSerialization(
+        0x9899202FD20F0841L,
+        "023F3D2F5837AA39C7683FEFE7BE0415CC0B7A02B20B16AA332D51B42032081894D4AEA0482600203004101E190040240B80802838424888C14148A1C622260C200288C925B01746B612043846222D42168141A8642C0981004411450E001824C1150075A1802434C0408808000010B000C00A4240160340801300880030084118042C30A002205012200097040F05100100282B0210100000406002000030476A1100503094002206400803032CC00080020A8012202A001205110008400E28000840002201602142002214440013083858100882020401001C20004C0000008008809200900C822014800210");
+    testSerialization(
+        0xE9C7191857E774B8L,
+        "023F3DC5AC745772434E3FEF9E5566A9BB885402D20C0EEA2230032401294014104A8100174660014044D100826340002050130008238822510A46B404010124054004C6284A80000004500410200400211140544020080100262002060000404060600000310402014005800042012103000004200100014A0044801101001100440901008090000008101200120000800801001800444005000142001004080402");
+    testSerialization(
+        0x4EEAD809AF5B0CC3L,
+        "023F3D9152151B03218F3FEC9B59264D2328119806020CC80A0502024040B0480806090100C040208804221B2C82C26AA008646211208043223391A4320954944F2E9048240221B48E56341C88");
+    testSerialization(
+        0xE809ACAFA23864A4L,
+        "023F3DBAC25EEF8183CF3FEFC116088567F6AA0102EC0A1AC8EA1820C240C08428A0891051C1C04109C8483A011DFE832BBAC1004209010812041768004820430A840000800000C95A483021A2B4132042515704106591000410080C024001920881081982872086C60C84B28940A0C00004002280142820222B09001B808001414810A2C80111A000C00A9009244002A8008C00205011051000214008422008A108404101492048002823010030028C0490410048104000900100402020640C0083A820004180464803020104128200400010018000025010140A2408C48501080188A01440");
+    testSerialization(
+        0x4DA1EDABA1D0F7BDL,
+        "023F3CF1B6375CFDBE2B3FEF37905FC5075B6902F2041AC4C030040E092214120282284D24C90214D9823C881B019820018830B04550584806950412002314C00300082950D084004C0321864E0192816000472094482C900B44884001008080042042405004A040040080100016900800C002012610D04204A902055441001000CA30040482");
+    testSerialization(
+        0x846EB9673349F8E4L,
+        "023F3D883291B86999633FEFBE0514874D394502A0041EE421B60E6C785041C18D1804580070C590DC0C48879E0600920C80888858094822021111731111274828C008B0D1402084001044090802005A00D2092C261B8C88512600806104002098016A00110C0536126104215460014601050150209088D061051080894993260008000000461700A240");
+    testSerialization(
+        0x87BAE55B86039FE8L,
+        "023F3DDA5FBADD687BF03FEFB94922C11B534802F60416BF384E15A4202894528C526C0004C8CD0C44C180450D8815082C51E3C6540600320CC0020C0004A21525C8B32268053D40488002E20900200441A2203010C200B108400000040480A60888900C00011900100000500334000800010020040A4004440508000300128A");
+    testSerialization(
+        0x7F367B8BD953EFF2L,
+        "023F3DA0CD6B36A4EA5B3FEFD31C9159220B55026816A1298A03500648C030821084404000C04416015828023CB045");
+    testSerialization(
+        0x3884700F650D04E1L,
+        "023F3CB0A78B478CA62F3FEF72C38E87AA8E820102B8041AC1C748A14002600420E1821810CD454CC12008AC05834820124049B08968A00C6036520442450810C80804052C501D481140140803A100021C00887000000436C00810504409810024004700220012C14540048052D02F00000080100A2400220C1070974087A00049064174");
+    testSerialization(
+        0xBFE4B2AB46980CADL,
+        "023F3DB84BAFB77563AB3FEFB27E64952F1E840102DA031AC998215804B2C094D0A58318718F00496C180454D6108A520890A13088BC02646904D1280E82002236224202C31082C0EC0220018188100B0059934914084081416006890003406CD2C8211882018662038202402605062005A4A1122094600514089440");
+    testSerialization(
+        0xC5FC89075299106CL,
+        "023F3D862D075B18C1593FEFD7A30920596F2502BC0116B731820080C6084C01000A0480400192890821400421025316840D8004004451");
+    testSerialization(
+        0x37B2FA361ADEA7CDL,
+        "023F3DB54DAE0E1AB9A13FEFD1A46287C40A0A048C0B0A91580902660042082600496640540121090000042021C14471402042800004000508280424081010040811000140201214840800010010040401100040008400810100440210080040100042");
+    testSerialization(
+        0x7D75D813F04895B4L,
+        "027F3DE539039F9572C83FEFF763667E0585B10102D8021ACFA569A0C6125092D0001C0894AA388210DC451304408A8CE48A0620944431D82221B5322459006226260086E1010090C4404A900044983192468332442A032001020522116020294412C06C80C86584C6118611D13050");
+    testSerialization(
+        0x702F5B393F62C0E0L,
+        "023F3D5EA1C7F05E8D193FEFAE3E87C325ECE70102980A1ACC4688E0882AA10271A00208300C775C85497981C1AC845C1619A5C00820231303001166D951C1096D20CA0C9290C1805D08109B0403130811080E800982400012002460240C84010088A00592002802040420420823166928C00A0580C000002005101B00168364D4032410C42820C16010083002530C108961100521D04180000A293048200A8800028078CA00001000080C068B20A2302002004400420028001658050080908221D04800042320008080404470500008680A006510163008C43A0190010C8800002080020004000202048C10104C18040800001002C080140042000040");
+    testSerialization(
+        0x0A3FC775F4ECF37FL,
+        "023F3DA3EC27E99C03873FEF31511F920F9D4002AA081AC2E2738A04B8809010408A1833CC40004B50040845F4130082020838D90C270510E60002A6400480C8249A000002100049828B0030450C00804700890DA90100109118822281230424850600004000000080004047102A00292A0A941000404A2002A100988082215210011400004028800008145000080011246A44820000084181059501080000A48010050230004D0D90008000614434388048D1");
+    testSerialization(
+        0xE4B23787A352437FL,
+        "023F3DB1819B592C565C3FEFD22338ADAB17CF010282061AD074C00E983B06BC00039801B5201A42042821102EA09E41018898A1010200B00560124A08E6D681B088228104040840408C500698B01A1104B00A59C26184641006093A510A91400805820000801022300864C0230446008500C8040090851440190010000001834C120F0E82407030182012182C04412108192596492080200826440553552C821462C46582401100180101034502021601001830");
+    testSerialization(
+        0xF83FA245C34D6363L,
+        "023F3C8725353AACE9A13FEF45E218654F862902F802129EA6BA4680628C201100868900404000098280401050A2351104140008041608000086440404104002008210411C04482C40800865130314A020A0003050");
+    testSerialization(
+        0xB99BCF040786CF50L,
+        "023F3D64ADD1B1B3E92C3FEFE43CA04C18285A0290021EF7C410040C102180458218280070704C4E4950CC8844C6348080808E18900840D0201341503101268800002B09310000040208C845009840D00804160270040831423060");
+    testSerialization(
+        0x38B6EA0A0E6C9D8AL,
+        "023F3DDBE55409734F7A3FEFEEDFCAED87424502E6041AC5D2402090C8208218400430D00C8400040448A041A04060D4494C30802482070888002600000603002691800CA010B8B02C2214984050404220208431219000000008804000800000011000032908800600004C84022026808040010828040840C04012");
+    testSerialization(
+        0x093FDC76776E37E1L,
+        "023F3DCD0FF50CB164243FEDECC6FBFC49B01102F40516B40090120820010420800C00488020080500980920200044108084292020094002100010902801083000800410020080000020080060240824024400800000080B000A000020");
+    testSerialization(
+        0x1A75E6F76BA7EEE8L,
+        "02FF3DC62A8012C95C6C3FEFDE8B6CAFC1089F0209026A1EE78609160C545340CB0014140020744A284645802516CC1002000BAE1229830C13A124");
+    testSerialization(
+        0x442CDCFEE9660C62L,
+        "023F3DB929A4E5D348B83FEFA07769DA970F810102C00D1AC1B91864240063283803002810156981A8658D04C1901E449E8A40C04811342001113134F2250600C3CC060805001DA09042082F0A940281006800202802082C1000080C0201D00800A02221306000009A0C96100014060010800506858C80429534145046E8220A48101158009D90246154131480085048810C01121208400A0201000360402800090A01041301902104800020302020104000040004201080C016000B2042401096004000000B0901601001018C00002801005814800000605DA80A00411421214124601420053013024020E0000000001250038000820480100024204A04104400810018C023080E9000004080");
+    testSerialization(
+        0x22D58D35116B5E0BL,
+        "023F3DF1559C7249168A3FEFFFEC6B7384AF830104B203129606BC061640E4860FC9C54580002980402400001032140000000C04AE020908CA0312882021100290A04301040E4402004400068028021581112012A200244400800404261200861440");
+    testSerialization(
+        0x87D4A5180F6A3645L,
+        "023F3CF4BF3F84CE4BC83FEFF73A0D093701A70102E80B16BE1162828A0B00041682300C06A45008009181A2C521D39900470550214215709306924450C0211708010484110424801821E0800084032C1200040256608ACC0800084C94010D004915A40008820C203A090040830455206A9C248221030555A0B02122800204C12101091020D04180180085190028500010026458842548491109828822404019094481000288400084088121220804400401200010850402101240001002400008002A14060080BAA1A408804053880041588D00114820240086704D0001448020005920040081A08041881222838A0110");
+    testSerialization(
+        0x589FB216BD82131BL,
+        "023F3DB13658E5A36F453FEFB6023548495D3902BA0B16BE6A8410BC41084C008131440802CCC0400081C8400CA00B01A000888B1446200040800E2C511800600000000A144002217000504400010429608004202000900400180044822410800829126105000520024A014040010000090112001218006004080841B0104010080A844000A884200048000210004100029000000038112408C1000C00819400920306408041C00022100410A010090210004202");
+    testSerialization(
+        0x91D031CAD319AEC0L,
+        "023F3CB9269F101134D23FEFEA18DB9A30EF6902800E16AAC2769C072A2466408870B084CC00500DC459A07305900924C02270409102000206544412C065D0D82400081044541901D083E0004003224940400280CC1249110202619280000004243C0028100000960444089220C2D4000040100049428340080000140041220A218D504000025905106021002500704014C0060A00785AD08009800201000080250028084000010000818810401480420482994140411000000C21902042002C00090000018500003400100894000010808A2040110A02020040120428140800000801048300082080001245080202046A011080004001004240698201049011000928802000300004C8A002A844180E010210400021");
+    testSerialization(
+        0xABECF76A553D320BL,
+        "023F3D55AEFCE70B0FE23FEFE70F9687AE3E920202E2011AD1BF5D1780DA618C8163301171AE113004894911A2D04153403110A10942054149006970091106168A0041C00792D30046C12106E300AB194A2819280380");
+    testSerialization(
+        0xB8686CB347612DCFL,
+        "023F3DEEEA0FBC7F657B3FEF65C676AD9C43630288041AC26A31A1081040800061061810E00C0D840CC48C421089013810580090B20042E099208684098A8130189C000043113820288A0000056460120110B2002A04440915204000222D31000004012400884C30180044002000030810202E000122");
+    testSerialization(
+        0xFCAB66337C0A77F5L,
+        "023F3D4B163015E9C9F73FEF87E53E248FB3B40102E40D1AD21608610068E08201A492487401008213D4E101866086190009AC091210002154440E88001A020320004042AE104666122A8102130881805614406482E20810890C104080800001092340C2BC140016C024180000010200020A00C122001000A01582000A8245428104400406008B09010500CAE020C441000501000080900400409028801A821700484020C0A6004980D0068001002119001104A810400044611010EA0201028E48042800241400802020000008040022026041228881094010608020000000041021402203209300060800014004104200504080208240C00080204009004C004500108008240244000580800002484808808140");
+    testSerialization(
+        0xAC318214381EC437L,
+        "023F3D19A253A088B23A3FEFF159E23369B0DF0102800916B458249197222804000477C5588C21941F20000186234121841F8674183A0C280ACA00960844111100BCC000909842205831008800324B9602150C804974211420021149250010059040048550002120305D2404C2208882244428D80018052010032080C808A8006001190100504F80080810012522000EB6B0002010080215A124188E504E101240882240484412402808420818100115008988002810000404480102204040880071FE88400008048665098000021400001A64D0");
+    testSerialization(
+        0x6EB7F0FCA24494AEL,
+        "023F3D67CD1AB13D93313FEFCFBC54377CF63402980B16B000847294050A8650000D80408010081598010000482033893002002004B62600809330010C10208892026024634024010850C10000E122101204402A04088020000208022211142000200184000D004000081088020204410808340200009000218004020120422000100802100042801000C00801080006C220804017000010000400083000010002206220200010030420");
+    testSerialization(
+        0xCF42861DCDC895A9L,
+        "023F3E0DE023B10CA5073FEFCF68EAE70FCE7B02681EFFDE01026440A0228C80062C4040B3AD116091000C4042590012B92120B4103039");
+    testSerialization(
+        0x4ABAD7A1586D7A91L,
+        "023F3DCED7F24F6FE8463FEF9B7B57E40EAF2102D40C1AD81491833A09210804828018134040000100400441810A2C042920B40026A20A00A610408421002080D001505860008102A00282401504600400000112280064240544001600A801500016000000300000810800081200060082804484064020824A08888000012E200008020224811046455080000101000A4008023005010920001000200000008580288000900444081002226A010800292006000080A02448000002000244C0120000AA4240014C042210450631284A000010020210D0801000060820010014040180C060");
+    testSerialization(
+        0xC21B318DC2F49745L,
+        "02FF3D129E3F95F9CDD63FEFFC854F919124CE0101024422825B40F311604040C0A010C081A120E1956944858FA60300488DA34590");
+    testSerialization(
+        0xD49474DC2ACBD1F0L,
+        "023F3DEC0A5422C5D7633FEFCE81FFB962A5A20202A4011ACC001C018730031649C40048F469224A66AA644140158A32C945230B8B00524703507A63890332784E2028024021A20470");
+    testSerialization(
+        0xB1D4873747C1C8E1L,
+        "023F3E3BC59D423A27F13FEFB06EE25EF3CE368804040CA44408140804080408B02410046C08281428C4E4646484490408446C84040885C404840948840884E8876624E51104E664E448");
+    testSerialization(
+        0x5434DC8C7D015BF6L,
+        "023F3E411556EF1AEC2C3FEDE8CC0E58E7BF4702261AD88C59241801011211008C100B10");
+    testSerialization(
+        0xE1C486287511B6A9L,
+        "023F3DC8754C8C6A3B8C3FEFCFE845C834AAC90102D40816BDE2711D8105541847D9558380C63308C000C481221A9180A901C80CB847010020130002913640500100B02300096185044044489905842BE41113000609084601450200800C100210408B0200089090082090C0B10000800900060000000181008090601450202B2AA20804140064A2200020D22C821A249220210001AE0225750211040212E422C00C560A0460900A1400024D119180420400200C0018000060018141410840002288400604A9A8400280009403500888E203005000210081420003A0084080408190000604");
+    testSerialization(
+        0xA8616DF62E89A193L,
+        "023F3DC3448670681EDE3FEFFE52565967ED68028A0B1EE9260B0A0C1921A0C00C0600311034922A0A201402180C6001A5A3692F40164200092201274100159A04408AC20C9440880254A891B48321830960108568C04028060009C80811653E0A00E022000000241000298AC064130420021820080000020A840112006512480506098B140150058008005000002020014534020040006048182000002401124010D840452200280440396400082090B122040894002021100010000101210C145100120C01008000013541041008000588000080800084080830220024040040001008451458803220000006044300");
+    testSerialization(
+        0x31CE6319498D8347L,
+        "023F3E1EFB34948F83843FEFBF3DB5807670590286031AD8807B041442E90C00E0822831A04AC4F8951A500A002130822E9108A2405A12103000100B35A100B2C0B700050158A09000400003049004088004440003892A101010012C0029003640200648808240");
+    testSerialization(
+        0xAFD0B486123D6FAAL,
+        "027F3DBF5045C55E24883FEFF665A3CA77E5CA0102EC031EF583191E2D58006002950E142020560321D21098440005710E82884242223861028231419143010112370118666E002028A06070C008D6C288E25424622202C2C4040966B2DF409080500480444000428C89800800204010245C0904C4801003A500540204840004005820120F49240292B0");
+    testSerialization(
+        0xE6495F5D102301EBL,
+        "023F3CAAEDC4F272AA3C3FEFC16B24F7C88E3A02EE071AD83690030859E01200E188187060808021D816408200929C80088A0010B4DA2503012416110A004A4130D12086E16400180410010A10020060400D4040D300A8524418010490080025040400C2018C8000021014400240820821415140142548480011430120400020A020415154022084808A000008130200020290C0000120800801410B40E0102200410412000270001020602231FA");
+    testSerialization(
+        0x0DC51CED17A43C52L,
+        "023F3D06678B4601EEEC3FEFD5BB7B42AC0E6902A40F16AF006E51A04008C030040F10A845E05901A2490C40C9242CD261D2B52841300690C008041818868220800320020051840848000010070B0080C02000020004002814008010840010888206121910242030000820000801008C08012080044004024080004030090181842A300D04014081002000C50005200000246043104300000A0400008024020A10000C04980020004401320288412D0A061181022290040041000400081800120040408510081008012000204008000120008050A00400408200040A0400214407002100009000920202022870");
+    testSerialization(
+        0x8BCBCDE81355EF2DL,
+        "023F3D55C372F186C4B33FEFCF88FA5DF2468A0102F00A16A4A9B4D790A6180124001020884075508510499A11E1FE4840328100828494C4080CD862C864004045011A088041644012004D20244A0800284910284411A2A800104020A050080884490C2200900061151A3180000994C1C3C04C00480004CC010080040020080009940001400081200000100183A0024C410081601022200001080081004104B00280A80045009404000040809010400C8201800042110002440310982422025230029C004100102A080401A065480000010420818040020001441030");
+    testSerialization(
+        0x2412AF73FDEE7CFCL,
+        "023F3C3A2E170511450F3FEF8D0C1142E2CAB10102F4071ADE0071949A0CE4964A421E1010400486D5850981DA1C0240080A18998020298CC41689C7206E0320C11002180E10A190100819090C180414020A20201203317028D04334112C010001020121C6192524010429000CA006912D82294CA0C0A008400402520DA008930012402440426482142014100C8000050002850288200C314000B0C108123108A150604059000E5800200A222504454008800B0C10003030002120A09003A40040046603240241C084A4500040100280900A110020");
+    testSerialization(
+        0xC8D589E486E29EEDL,
+        "023F3D8251B8371780263FEFBAB2FB3BF7007A02CC021AD1560840881E6086E0810440F46208448048E360883116808D49CA21820800001030080012E201464082B0C10C95100084345C458480880804090030102000A1124C6042260C8051889001458489E0");
+    testSerialization(
+        0x23390E8664517F89L,
+        "023F3DCB5731520E1A413FEF0CD878552DF91702D60B16B20882028402000230040C400100900101938000040100134D04000400A082400005910020028118410400088A20140000480208060204000008296104100090001000440800030080000080082D8204200400281204400100010202110212010042200800C020900401008080034008104000000120000408000200080A89");
+    testSerialization(
+        0x251ADE58E8A6849DL,
+        "023F3DAA630990E307BE3FEF8B193ACC6C628B0202D2041AC85AF9A39A18A02259631C4035E30A08408121203C120E091809A310000184310240105101882004201260424217000049140400820050C000400B2C180142001848200C204CA45200030805C09021080020A04E120007102032090014C140580821285048840802142079194038080889014048012000E0");
+    testSerialization(
+        0xF8555DBD2E8F9CB0L,
+        "023F3D30A1E3F412689C3FEFD31D5870F7FD6002BA0716AB692A8C8DA63A026505336908FC0411180C2684622840108481084858B2536424802976003402B00600C084801140909840A00A210022204180106018052023000A62A10F098401210021002855015C4444802848A42411000B3282A100002C48030A8A0A00404004E02E2401180424001822208000820150200C0009090A418802800C004220A24031082081811000832200420E");
+    testSerialization(
+        0xCB417C3EEF54F7C3L,
+        "023F3D98453E95E9F1C63FEFE22C4A8EFB8027028C041AD71418948C08E508002000205414004410002101800285B0C10B400925290140C61400C2080AC80110252880100000085A10A40403480C061A05A0052008402010103600E0005001008006410890044A128A108010002F80");
+    testSerialization(
+        0x8028F8E1AAC3A919L,
+        "023F3E8393D7044B921C3FEF53E9E2EFFAE80D02900216B0104C428C82184002042C3842020208411A9487201000340000243A830801001084080002000000202020");
+    testSerialization(
+        0x10E31052ACF748A0L,
+        "023F3E918D8716BB331B3FED7B2B1F18C1A81902A208128BA20E4422000604486445406111380C0027023020822110800200000A2001140C4081A20009048084410048002025003400020100804800044800323050000140A80840048300C400004048103002000048002090040240810410010201008000800808400200840000201806");
+    testSerialization(
+        0x2D886C073B1E1B78L,
+        "023F3CF3CC06AE6AEE7A3FEFD9435FC3BFF84502BE04228862E4805054B1B0F020208000B00040644D32B002140736143689C904A905A34414CB29846E3029CA42D0C22320000080851A300924020102141121226012101128320100501B24838010092C5023320014108A0E8302202220000C2404000904110002000020000820045145A255054D01401211004381011203009008020148");
+    testSerialization(
+        0x972974D90DF9FAEEL,
+        "023F3E8A543276AE088D3FEFFDA1C057E3F40EA8070208D8081128D00808E849A908E8C809E80928090ECC6A89CB4A6A698D6FADA8");
+    testSerialization(
+        0xBC1B7B38796893BAL,
+        "023F3CDEA74F0A8100133FED67A8A40DA88A28028606129832C062A46A22028906400001888800801105984084008000404104520004082900032002840800915428000440442290088850345000070001080004000D0002A0061C00030800800010800A0001C00034");
+    testSerialization(
+        0x1958ED432070E652L,
+        "023F3E178D2419B21CE73FEFF8846DCDE47C7202AC0C1284400A62A0524142D00060C800880149C1B5C200265A443485118008201640009045502284519000120248020A000042002A01890100425100208290119044820202268064040012A0042082200001404200031007072118006A0010480402204A40C0204000000009014203400000580000200800100048180CA4004080408000000910006008090820210005000480802000020002806246441040000001098020020404008003910084802008044440420000300020012410");
+    testSerialization(
+        0xCA5F297197A12DCCL,
+        "023F3D23225773F9A99B3FEFF6364EF276715502820E1EF1C0810A38B8800002040A14081130044D08888B0408821821C21002001200332140004240969588C0818D94F800D00A0C08180081020002830402540000014629E0512949484664C6022048741056402005490112902010245000900429110F20288842804241B80008A000203000251005408601800200048480108401930008A0A1008020840C05400000000110000004A0000040220202910130001000008C89140040020800C801301040808220000120420028A010020149804161404083200205000480480404088040720008004200810040400000010880100000D000A400010825004010004012080109809030");
+    testSerialization(
+        0xE025A27375704F28L,
+        "027F3D40021D8022921C3FEFFF37EDB9913D9A0102920516A87CCA2EB8421183B8359183D6C6C80004C446052988212810B811420850002033450076632412020410D934805400A09F0C111028048420300002118006016400486410702C00480001502583016020088428C00674440B20100080027044580040500802434410000B100460200001010249450B000908430A2130040C02102814000100");
+    testSerialization(
+        0x418010A570A924FBL,
+        "023F3E29B4B7589AAD283FEFD83516F04D792402B20F16AB5A5471600010C410944BE4409839BAD40040600021400180564218824000A0C10018002000942A4280120014441640021A0026C08100000414200204004410400880800800104801220020000020044420010804010016084240984408140000202032A0280021100100080E10102084A008184042094C0151000220A2040060841418100305044286010481244006800088501112232440500008440109003840042840E000180010800400800810429040000408020150001000842800100050A0");
+    testSerialization(
+        0x9828E2941BFC419CL,
+        "023F3D9229F0872B15DA3FEFCF2627B0BF7A5E02B8071AC66A48E10850A10820878A005000482C18C0C0050983040024400036460081882596112B020064109C00151A10B0003A820824071168020820806009005104D0B0253008040C00000390084E1209002240021010303848001081018010004041003800001040001311804302500200090185182208080D00012082A0100A850A0000024C94");
+    testSerialization(
+        0x4FBACD2F52B85C1FL,
+        "023F3D4EBE70C15AA2543FEFDFDDC864DC893A02B00816B200468130A11B1052880D204230A215421820180008090E081420468C2100820480924012401082610622200001405008000084001084802000614A0204204440080232202002502040040C00B0189700A401000008800481404900210082420402808810004008C20A12B812288080000800140080000102200514");
+    testSerialization(
+        0x33DD5B756211CC67L,
+        "023F3DF2148F754F02B93FEF8093CD744D303F02B60C16B9100043B0C038C401080C8A0330B40009906020222924320244102005060820AE480040B10403001202000402C43408155600020207D00484202040568402D08080120010140400B08185B0400680420680002004400420641408C01110002001040800B000120102002480004904110008008164612020462004C120A04010840200025042080401001020010420409040200004200280C0400408090212000000420400000B100410");
+    testSerialization(
+        0x23C8DFDD1DB57FF0L,
+        "023F3DF289EDC7CF2B7A3FED3E873FF335231104D4010A900402B1DC4B84B112800400041088D622");
+    testSerialization(
+        0x32F81801A1A8E901L,
+        "023F3D00158BA9C9F7A83FEFC564C0086FFC7204A209128796A440AC9088CC5083948040808C8C024810000091288828301A00E08321B4149000C10000A00408000104142200889B18120800120092220220000020000C810001B008219220000048002230150034080600C0800400C550112806621594AD002C210C008D00105900C802A0800001930A004008093083200A0040000120E4040A0088002801001006000280000000807040050A2921020048002422A610188040221100000482008042");
+    testSerialization(
+        0x26884EAC5ADA36DAL,
+        "023F3D65AB9C76BF2CA03FEFA06E706449095C02FE0C1AC2CE10448210220C18C01610340112C2211410000801098058A0A2916A380008921A45042A8B8824C8001809000054808800028E000400403000408888DC0881080018001100140000600AC0240000700010082AC0C200010A04403000000807012B0100100700A000030800890742145208AE022200000C01404008000805215000E00030000408000083209080402000087221042860184000000004010484811011D2410040020800402004098000000100020622020804641A082001008420048500008020190420");
+    testSerialization(0xCAA82F9BB42E37D4L, "022B3EA7BB754EA590903FE7E1BCCA542EB5029C01");
+    testSerialization(
+        0x19FB1A7491D6A7D1L,
+        "023F3DB52D22E893BA9C3FEFE17AFFEB932209A80F0210F401401001004018020010040880904200410410812022004388010020040881108400800811062008108111022847886218218500881002244190310622C4188910A210478A213E26841889110214410991222344A1071162784688F1002584609213232C4D09613E2304688311C284430A411E2005A08310E4");
+    testSerialization(
+        0x5AA0243AA357F38EL,
+        "023F3CF2F2638AAFBCB93FEE091DA59847482C02DE02128806524200020020280A49210110010000132882004041010804110212304308000008808003");
+    testSerialization(
+        0xB31D917809E447F0L,
+        "023F3D938EF66339B7863FEFFAF20FC796599A0102EE011AC149C8448E510F866262B42815E1308230826160466012050800001B18000042001110230100A0178C65979720B8CB5C145405801388892283480360");
+    testSerialization(
+        0x3F9C197225215BE0L,
+        "023F3E1CE84227D3528D3FEFD3A1CEB70FDC4402FA0D16B221D00004420040318450D88440100020400504128B40B8380010012096C824004822101820820204C04A0000A4004080A1220904088551000C0A8015014484000A20900102041400004001021940C00802044400804010813240006400100800001101024008010208004100C5002000011C60042000602884000012090001600020020800080414800121000060020A004A000884090010200040808010C00480000024408008100101802128843001001008000201104200104008000220000040");
+    testSerialization(
+        0xDC3C315A1E33C095L,
+        "023F3E2551400A08AED63FEFB732325AE18E3202960E16B6E9D054082A0940010072D00404D48E800C0134F0C000227220A007C100001800009900005452209AB0424630C491640221040001082054601088002A004110040040021084010103900E088E024041008240600000080480100500A0400010400219924A01C820823110000044800220C40211800020400000104202408064000A040100CA4940088A04001088021D0A04008480004020140002000114804182000027114080011210004001886801200120400440010010080010002400028010600A100000C00102C02024");
+    testSerialization(
+        0x3DD399AD533E80ACL,
+        "023F3D9E3B4214947BC33FEF1845D1079D883802CA0A16A8D8405008CD39C63580700C840580460D2401D00041020441B01110005900047042480884050244148A0204432402C800111A401408808C9200040499A5480280A4A0D0100224010000B68002840118201408100001840440000002480010480100E08000200240440391008750150010000004814000440080084800910480AA101008A40080400044241080020481010004400020902001020010085401000422008480008C");
+    testSerialization(
+        0x566F32CCE8301D95L,
+        "023F3E548834C7EA9DFD3FEE0769106C1AD02502A20A12872004224426420608106650059200A0960A0021400050240000D220830100001000092001200421000620490020004012140400900282460009004180110800002000800C24044201048240800040040800190010204548020000008014020200404008040000800118000400204000608401004006");
+    testSerialization(
+        0xC880188083D9BA21L,
+        "023F3D67F0FC0A4773423FEFABE1A5582E2F7202E80616AEC8E755E45510022124330141B4C8E01DD48E003381A50A00010044020001001816030942120024260424011004404001A808F49803428804040300900060004450A0022E08540400C12804081E20413004343020002E450F5020D602A1781420500C40820410092D40040A0210032408108800904140AC492202514980504A0130880CC20008000108890195");
+    testSerialization(
+        0xB9CC357F3B0E7D2EL,
+        "023F3D79096F5EE57C393FEFEE4780870A0E9E0102FC0B1EF0800134540861C04005142C0000D429184A02954422468A81942E61644B70B3C008B4800A06448024030434D045120602306080800E008010000B40000800A15161281004800028D4110001820330001062A781490D96480005132404E101000020029423C0A08200230000406282002954010021009C002AA052468C0422000908C10000052010141890002220810110404A058A080000030080843020040410200400008A8C900002101804028008600308928900144440400200264111008D0805A800004406486011402004808014000A342200040B0820440800018000A4019202422200801000854C26010024");
+    testSerialization(
+        0x0237D2123A8A8D6CL,
+        "023F3D62177FF1DB67033FEFE464EB50A42FC10102BE0616A9434BB6218DEACAC1B4F00BD841398C088242481A133000020009C000233804304211246A3940C8E125904A43821A20222804180C01101301102B21118422406142800A420CC0DB01800001A08405A0010021808011065A8402090884C0204000208210B860101B640028040248402221280E0200400261412100085D300110800020840290A8888050021051000010930000012011194020500C472078");
+    testSerialization(
+        0xBF636E9AA7CBF6BDL,
+        "023F3DB371A7BAD0F7B73FEFE57EC130F4EEF30102F6061AC082A2E14C60498259211C2016AB09044317206A00C082200888180099008541B411976103100338A2424068220400352009158C8C100C485900185048080B4005804008016402144C00940D164A800000011122B08720A9010144C0C321E088301910A00C80100810800083209E0280900A45912DC6080440305132DA1878B00109A4010E165B0187C10004C0208A50200410640A302A40209090408B0284081000004887012040C180");
+    testSerialization(
+        0xD7BD4284C4E2A6A7L,
+        "023F3DB76F950FE00A453FEFFF63AB8598F78A0102880D16A34C4037362209D60100F058885A00882411051640042C3200008D80009509C2C02B0C084460000000C4109200600B202A4808008940221020080900002500808018300000604820148680002E9006018110008168010104600050102080490030001108920020140084088080104A801103822802020440072218080000030520808AC02608010004222908005008D0A80801AA0404000221000660808004100042001243000104004860828008011240050040282014080200188009004408A001700050000008010900C00012320414");
+    testSerialization(
+        0xDA2EBB47D50577A9L,
+        "023F3CE4E03DD061DD233FEFC4E4941C11836F02C20D16ADC984400CE030121000B028905E8059C00C5171268998408013500100140306022093000492C10014001C0218009001C8109338080A0024016033080402800C908010B020258240008088813200000242A003712AA000452009021110007402402000010801030401014008022031402025000200B280014254120102000208112084400AC020260045800104000C0020000010852200A01240881088EAA802100001303800442080C08010160210004020100210000208004440240204049090401009046000000280085400098001300040202010060411002000011204028000820010100C");
+    testSerialization(
+        0x90BA1C11B539087DL,
+        "023F3DB1BBAA28C125D03FEF36CB4D3341432302B2031ADBBE00630430218600218000104003008C8120084DA06150AA480030680000890516010604482816D801C0DA04A010900A98821004092040A1020004000D0A100C002500424004A0A0838260A0");
+    testSerialization(
+        0x44993D31552B4F57L,
+        "02FF3D0FE66CA10190443FEFF5E5AF832D22B0030904661EE0CC07B05438308B040E1E290000B4C2D998D4894B510812068C21284223CC60001C443F00");
+    testSerialization(
+        0x32C2D6F80A8A8898L,
+        "023F3ECB5DBD884CAE103FEEF503E08EA58003E4050208F8080A01068243425090040255149048A1118B642A5D04BF6BA1D0");
+    testSerialization(
+        0x450583ED7FB54B19L,
+        "023F3DC6A8A8C06024293FEFECD76996A769CD0102BC0B1AC2995D2694992022102580B092548CC22500C5400D860C400030C04300114030081040065E23304354029960C77099264545C0124A6000A502645210043003285042200196C1000A280130480000604004045A1402A11045C2D0148207923525450142223280089C0D803930400008A4010014251040000081451600196090080200024044402040806A280A00001251088A000124414304844000ACA084C4002910202400120560001860202000A24805460488B02020114004830020A0800000090A2B8A00821602400C30A006000182002000200026700020040040020C84000008");
+    testSerialization(
+        0xEC2B0B09E50EF3EFL,
+        "023F3D352F944C2CA09F3FEFC9A9CD34A6A67F02D6071AC08979608220A008BA04822833540490040C084C0A0AAB208A3B03040AB890B80009E6D68804901832350414444E004000402189030880900059832086411510426084007040020C101800004031A0402516403434888012400504C0302A0094042103180000314C200354100945800160960020040C0800280455810000100100204A472004091280488420108008E6024460010060504000004109244000050A22C001258008840420120004418010020060");
+    testSerialization(
+        0xD918A0B6E2EFD65CL,
+        "023F3D4BD31066207CDC3FEEFA8CFB993FF2890102C60C16A6BA084017C62000018150C65A0685C81400C9910200954101B042082A000086912429802874C4248041009050005028A23A122111508040C2AC00200412020120A08D04A413523036690004003002C0141001013212200030021015254C486020040483014A20002031000022400582084C800411090F09432101000800804200010025D40502C01000100802A0488001000E0A000224400050430008100C100900900080816C112122011260901080082812420008052500C84042400122C000801B210488080900804801010900C28000000420008090");
+    testSerialization(
+        0xE37A868D9785F572L,
+        "023F3DD2A7D39298F4643FEF841CA208C59E4D02D60216A6C98848C88E018811B8B009C884804C14803D0729C2623000842C12040840400002A0002146C020A02000301C0400034180130092840C8241350908C102240108010A");
+    testSerialization(
+        0x7D1A6118F2B0F37AL,
+        "023F3D80FEB999A1BCE73FEFED6BBC04CCAB1202B0031ACDC8180124104000300004204C18114002882180400300081421D005411498E8A0928180400111080A0002411C1140420400220800500009A000008240801280A2028040C0");
+    testSerialization(
+        0x9E2E3CC13B343439L,
+        "023F3E23434C74DD97A73FEFD52EC6A3E2341B02E80616B311060220002086460C0C34004610002992808480123030013020310043001891900400100200A21B041800240001404400888440094480080921001804048000060442200802422441440048000420810204000810011228104404020001A100204108402020010001020019");
+    testSerialization(
+        0xEFD82C11212E37E8L,
+        "023F3DCB7267B08024C83FEFE3E9A72F95CA5402EE091EE08807A208200000400002003820100C0800B88545404180080C0412A0368A800001E005CA52050A81254038582AB04401000A0C500172480280BA8CC00000924005002A0090249D269004008048008109231414000020094000402100020A240002150010000020400102340008908078081008080012061410004806A02009034045008080200800414408018200600208514A048009104000100824080120108280140002C088494210220052020C14");
+    testSerialization(
+        0xAF89C05CD4FC75EDL,
+        "023F3D529ECB43AAE3283FEFE75350DFF6B09C01028C0B1EF2CC0B0E006880014A1002202830B224024F098448816A3131C000899101103158419541043800200D0A68244004C1E0935320109D52C0E320801308688115801068180940204508018404C1B6D1A110280020944311060904040828408585002016099060230C84822210086818842030000880608091908004810000320500000000148880006090050102128880100A850400444900022204F331800901B140081422260026020004947048108822300A0C000001498A4A28250141884020000800200084C10409000802800000C910400A05022000990020C0082040440100180880A00022094208");
+    testSerialization(
+        0x55BC16BB9697108EL,
+        "023F3D83524C59C5B3933FEFFA83811F3D6C930104B60616BDE623F20C15018501AC342800062612B1010290964820C0AAA9B1DB09B1CA4046006816080010852C06C200325A34029962228200980B0030000600416AA0032000142C1200880088018409840A450034006A06130006A0010408040080084010940AC80C2A100440084001228005068108102086A8120054C40800420090100410D90202082C800304924000000442010E120A000040");
+    testSerialization(
+        0x6C4701FA5DB69BEEL,
+        "023F3D3A29C0B4CD01E93FEFC826F3EBED85620286031AD73A49000022258400420A003042058C9194084C024A310A1828880400318904168301560B201740448090200518182C981824008B000242041882405422A008014244912860B02030480090881C8468");
+    testSerialization(
+        0x9237338441DAF445L,
+        "02BF3E9FF36C1DBC4ECF3FEEC4E1D2FE9C746B0246107060884002AA04A02600064302A2844400C0");
+    testSerialization(
+        0x248CF0831E81A5FCL,
+        "023F3D916B82D7CD86893FEF65A6EE90F185CF0102F00D16AB38D627C0A43044710011D1008C880840C6960018806883081A00BAAB208F001406098482080002952325401821806060960B00448848001862B84140140009C49DC081840A4C0220C030101012D804160C4000000480C0288A000400082D120C001043400003A00B084110550408A02131004480010114000C00B478010A5872900014042010490520108508A024881888028048500A0A000204001442401403020800040C40C2902C00000114008001405C11900025A00A000C2148480001002E12000080000140000008200608000221044020180004680000410410208604022502080001200300013440020080A000440010408084220081");
+    testSerialization(
+        0xACC13557E77DE273L,
+        "023F3DD2780A3DE20CE13FEFA541E9CB69574904AC0916B504E003A4040146620C764308400088C000C2000D5C0C909A34C13410081005203008A8821005501280A8018330120800000860921A10044008104C544180980822513020871C04044808204080C11400902508008200401255200081003EA200A1420000042088003840800C0081102B40038C402408014400080090024420021200880004001080880841C208210E05000815803282008020");
+    testSerialization(
+        0x520970C25E06513AL,
+        "023F3E04F6B1F49459B13FEFC654F13D546C3502B60416A998C04080232082028831042443040C004045402A08A0324202084900050240202882010230100880804258008000200108040006150092400011052400001008480210010204020004800040000004040180");
+    testSerialization(
+        0x657329CB02987CABL,
+        "023F3DFD4ADCF952CB793FEFD491DA8B424C820102DA0516B204D2A108011040178050D0C42C48C0544101A88103B09129B20049874401A60A6116440292B0126044D824900142040344A74A40927940E1460008050520510C0A4626980704000A0032822C1114500208013B049041481028413AAA010C01002000000100688020101224232020004888192084000140");
+    testSerialization(
+        0xA9B0B3366A4E55A8L,
+        "02FF3D3400DA4185248D3FEFE70ACC43218D9D010102D60122894390A232533020A13120A180B09040158180B110272044311C605480A14D4C412424502405A84811046F01802208034285003D00150611148231525164731300405708318011");
+    testSerialization(
+        0xC4D06CA2F39ACDD4L,
+        "023F3D64D3FBE1F22CE53FEFFAD51777E18BBD01027A228CD0B1A6A2A020509040C030300000005543806914203802B1140C509C6F1042480C89480A04640DE121831120");
+    testSerialization(
+        0x5DCE37D68170CDE1L,
+        "023F3CE7C45E88A9E03B3FEFEB2D69DF56E41F02B20C1EF1410A040C882061880008200000CE36032492C84D8A11080001202124BA2806030810000C0CA4431142506C028002500000C040428000289020400110002618A340244414021DA200504408048180C64000A2A428900004002001C000020C00800030101100300001E80021102800D000409D602004010804080040005000080409404330CC86028080B41100124000443010301008AA002010004200001409000010088C241008844000040040900140020402");
+    testSerialization(
+        0x5F1E44E77E1854C9L,
+        "023F3CEE87D5C819A8393FEFEFDE3F936C99D10102B40E16AE3BD65A18C53FA00090301B8C9048DC2DD9199A8914520979D8006418004080200100360ACC53108100808E902158E60A8811114203A554C06496904860C31000008A404400004580082A920000B00020001810058AA5302A904451D21C20425004A68A3020000C69A0490A02820581210000A84020001C00065B0082022280C00000001020900454420A08150404403028004894444040C00024080000221A309058000052088B000A0046A8006106000051000848001001000A2102200000042252608001C000100000818201002000410A200006006081302014810115000282009040240010000110093A112004C80241000884042044001C04C2000228880004050C085122C640060008CD0000A010");
+    testSerialization(
+        0x6883D452D55DF899L,
+        "023F3E4D53C0698994193FEECB755F1CF8B80D8C08020CD0120C0081022590C88452290C864022115068F273289E57211449A42201609E9C259013254201DC944631924C8522B1");
+    testSerialization(
+        0x05C5BD62F1067032L,
+        "023F3DF2561111D6A5863FEFFAE24A2A44461C02980916BDE246322440088004001400008010904700AE7015A21320840214304B580000201404B88492864010441058904081013064128020024C0820001024C1C91000240982000281400008080081401040022010042090C02030008000000004002A40008400081009C0A21411020040800004080010803120248805120003002068A054000020098820042101020020101003020020");
+    testSerialization(
+        0xE680B683CE60FAB0L,
+        "023F3D8BB6380F17DB413FEFE820F056ED54E10102AC0716AABBA42128415090250854EB784211C82120548281891736ABB05444091E0114320026688A421460020008C3406004210844100A24181806040120C6AB10D3004400996030024450020C1140481085019491C000C884200220511600082480A484C9B1020806801008C1A0420F504841602401082805100144C0800000CC211030CC213C102000000044810C022080817408108803A80A11002C104060012048400C4028A005242000640500101028E90520");
+    testSerialization(
+        0x5DC9DA3F286D18B1L,
+        "023F3DF721D69FAB3A573FEFC41A2DE9C48C0A02820F0EDC045203653069404080180408CA290410A410000050002418C1022080310000080090100100204000901005100120504100A0000040C4440101A0100084A081312041001002000480014000140001800460040104204000411000110100101004C00101007000102000440000A0");
+    testSerialization(
+        0x94B4BF3AB85ED6D8L,
+        "023F3D1FDECA4D1DDA153FEF7F3F28E0CC103902FC0916B568C022180040C000048D30612130A00D0602203430080800C0004400200010805A10000A0602028524106100080A80000804514801082822412100000C448008C802800400020C40610008280008400402010022400014108201A2C000109A00110840020001416221814440248009101A004002120008100A0020010440880100080001080080C1120002006040204900910804");
+    testSerialization(
+        0xCE65F449E3ACC5A3L,
+        "023F3E0225978EDADFC73FEF965AA7648EC91702D4071ACB8C446182204580082004182E92B1448009050922B141213110501422260C8A841D200310A20A32820100000240800004858801004100020400010802804000801004000802000100024030000008400000848101104122400443008C00014850280009100490401580038034401410012280");
+    testSerialization(
+        0x34B0209642CEA639L,
+        "023F3D36DBB6C1E716A33FEFFC00F0FE4E826C02920A1EF38711164C4810C2808F0804202030485804450404C46DA00564104174C200015090210173062108A412042AC1A5804B2432184600484802130212002012016460C1049400083C4005490AE08C0221020002140032A40892038B128D88D2311010E56022010200402C000904010101000029009006A500002200810044811001A6288310000000004040210002090A20420086089009040000480090000C501020224001044122008700009800211244108200608080040110000004818102420108");
+    testSerialization(
+        0xC14C3C771D904827L,
+        "023F3E1A13E7797319063FEFE4DFAAE8C7704B0288081AD20418230008C00A0801040031DDC4854244808405921014801020A04500080402010282A9315010120082C0120B0000006022010408820920C9000888101A106400092A20814801811240400102040166004040182006000880011011020400441DC800614013408A0085250B090180020018020210404000490241801022");
+    testSerialization(
+        0x6ADDCEE2BD9CDEE5L,
+        "023F3CFC3016F931D2F13FEFF9DE4112EBE4FC0102AE031AC48724E0A862008628C0441015C42C0964248200482052880624042180E2009211C5F1D3110895800216490111DB096B08804C402048459018238288052003C080C2A5529962384811040A1054444450644800019203548442402060A80416412102304004D03112");
+    testSerialization(
+        0xE24EED137FFBB613L,
+        "023F3D98DCD0030B139D3FEFBD435A4DF308BB0102C80116A49B8D009C6A300BB104308101804484B00B16239419381804190932190E18800406D12120002E0104044000C48008025648");
+    testSerialization(
+        0x75DD58EF79963D1BL,
+        "023F3D775A8A37FD573E3FEFF80AED4794718A010286031AC2B4B080C004B0001942101071288848847470140E30984080140091093092012D4388884020822062421006C411104954B21C000611059684083010215417010040CC032A0C1100200049259808009000402D38449765A8");
+    testSerialization(
+        0xFDB83ECF6CC24920L,
+        "02BF3DAA498587B548BA3FEFF9F076AE1C177C02D4011ADF0200A08610A30C00020200F5052846B188E680C45082118009C83811808AC02400051910220207404C0840449320804804000040409854109140");
+    testSerialization(
+        0x7A1D0057C57169FBL,
+        "023F3E2505416A81D31A3FED2DCB2E20588607C009020CF40A0140902C0A06C11024090441904409004220C4290081218409084A910401604091E411088790A4195C4A202479104390E449124B990441466C912441024710");
+    testSerialization(
+        0x339200F4FEB62D07L,
+        "023F3E8D7C7B208CCA773FEFFDF1C00EFAE63602AC071282272A00022220200843000CD12A0200842004C012421092C000000010001040020841006440003024A8000D0100800290100426A002005A11483002180040002080044041482000001081140A1000004000410090202004480100000120180002018259");
+    testSerialization(
+        0xD33F4D4AC88469F4L,
+        "023F3D948B8CC9EF76663FEEB27CF82B10A9AA0102D007168F0E90156B0104B0142102866A8002285E11068C2118C840002019011033A005210834C645280040A40AA44050A85A18004800920240002050649A014414052C4211048000010A02860825450061040B4000226A85502C08002AC014C901400A8A10874639410800032450002915000280009000014A100000480221100001400000400CD000000002410000029824000008142A06000060818888");
+    testSerialization(
+        0x8226F234E68DFEE4L,
+        "023F3CF9D3C54740A9633FEFC0229A2FC3B87B02CE061EF4C58A16003010C04185023C206051C90840842C889C45A0481BA4D064308B0E20EB8D08E8281220200004030C0048800028000C58040C0944200344830909A2126006600004000C020010800901901028084100302800004360A402986D08C1001048319058484A0100100A80050822602042C010000824058041912000B04161201000084290D48104C11491062810A30012480001C9432A00944D008220424008C1");
+    testSerialization(
+        0x320DEF4F2A105536L,
+        "023F3D3DA9A38BFAD53D3FEFCE845042EC71920102D0022280A06852E3B0E010D0D00260E1105080D430305751A01004114C2130C133623531240702102110050B00300940025520147020021822111205408304142011030403E9364132409139018D044124236C004920600824D420");
+    testSerialization(
+        0x7786F3B13AEFC159L,
+        "027F3DCCC30032CA10F13FEFFE63D8C71E46B10202DC011AC5DA23035159EC8C3924465234CC10051380C420CC102290400342A010B93184504007003133325563D80506482EE8420203118CC4C4908A88586080D08811800090");
+    testSerialization(
+        0xB28225AC9DF63EE2L,
+        "023F3E1DA0A86EBE30F43FEFBD055202E6613A02D80116A5193872AC01184420102C04812290921153E88C0934008D880A2124424048888584000C100144B0");
+    testSerialization(
+        0x781B9D0376CC6044L,
+        "023F3D4159D1B2D2D4E83FEFFA900C3B055E9A01028E042288C140104110B05070602021A0C070B1342214B3370B806158430B4420161103C61511CA400C048006228C04481C40301105010013C01042208050420100103806A15223220280409048320900110420C3009001C090C03A1000C0190183484848640142321081441240124084181121408028121A1B5008270240");
+    testSerialization(
+        0x05BD0115226C6AB6L,
+        "023F3D7F7EDDB365BED93FEF64C28C29998E2E02920316AA98847009242982110C4C11100004800585018C1041002D60019506000002008000C002140220021002280142042851002001441001028010C014024201");
+    testSerialization(
+        0xD302230207BDFDABL,
+        "023F3C6AFED46150713B3FEFFDC70DBD14C0870102840C16A393C84058260044600CD494020064010301801101870140C0190C362B002000DC960000BA120002C220123824B01042308D4A5110401D21624864544065A280008408622535502156002402088590E800044828821070000081000A2154042005208C6020A510040022148A60388800A10800400000940438C56028080023000140442900020A52880E020A09401000422008400801080011480020A81000160000010000004E00108020412102600840485114908430000008000003102040004100C428");
+    testSerialization(
+        0xDB898ABD8E0D2933L,
+        "02BF3C51A5AC8AD7B9663FEFF50C9C0B0C069E0102421ACB5EBD00863A229208240C1113450C09C8D401D559D0");
+    testSerialization(
+        0x9E79A397BA00B9CCL,
+        "023F3E105AC6CD596A5F3FEF928BB26E09162E02C40616B0190601A141198080902A151207112CA97003A410400C96038000000000849104401200088812442400002A34040A2080819003140302200240204838A102222001093C001001200400002080CC00028004400109000140103020040200A0");
+    testSerialization(
+        0x89DF84A5F0003EE8L,
+        "023F3DB26BD3DBF81E0D3FEFFDDA7AE1EB64990202E60516AC2803552911515B3609B428910C200521104A921A08498A02C1A4900841110321211304A32928AA40242442A6628405A196620002089D1091008380B24C0016006403062490010D108120000115380A208C340828D1A20105C800C228C00680800D021720316A0320820C0080C24A008820480843444D000C200632040200080004222061008105006088144208");
+    testSerialization(
+        0x011F04F2A75FB9BEL,
+        "023F3DBAAA33C3F7384B3FEFD8DF3FA50B4B4702FA091292F2621222C094400CB4507A524009923808A0402024041C000402C2D2228210E4C010081B50810A1C432088C40802418400F4001604A480009818480308E1824400020440060006410400000010004200908010000290204880020540034044020000040200B2001162820144A000000010000050222004100408800400009E4020401200032C109012000008180201000080");
+    testSerialization(
+        0x5A5832BB47BCF19EL,
+        "023F3E0B9F37D859785B3FEFE093AAAFCC13C50102CC041AC2D819018611E2120082041014AD4A430614250000609608100B98898868103018AE8209A408208A696244004001044000841002450412C6100F8B0484B30404C06380D160000409505811690031084020000501241A785018820C80025300F3A02B019000040808648200008005080000009D0190");
+    testSerialization(
+        0xCBDC6D34B7C7534DL,
+        "02BF3D424D4B2858F61B3FEFD8C255C5D47A9B0102521EF9F49A18405A61E2C3090234F061350331CEB28A8250C0208A0489980018");
+    testSerialization(
+        0x28A0D62B36F7E211L,
+        "023F3DA2598B41AA9C323FEF54AAE9FA88D81F02940516A6A52951040340521000308C4024081080100D0A098267A0A40120A4A8809000C821000802008A1C8300000121002240400860080482000108A80011210420100482228900C004A140000011A0A080024610100840000420048A098008042020002240440004080620");
+    testSerialization(
+        0x56C4553D5D0B9393L,
+        "023F3DD7F516046C991C3FEFFBBE56741C5B6002DE081EED7B990A1C2831C0C297060018205740104296808003898531C47D26904602D00C4500C83380401C02284E1802020E620C0304C004400001B0885A00100A84808B05C028211440420000A06C86C244C011218008233000452203001116090B14802144829606385222800A32058100584A1202E00920F4040108110808B0890052000404800E1200C0190001688015800088414680400E800008885081051086002C10401207A88814C50508D8426400800040860000840A00B003");
+    testSerialization(
+        0x6926F3234C55DBF2L,
+        "023F3DB33A060A06BF953FEFB78BEFDD55CC2202AE091ACBF630029E1003900001140910000004C8A4C080C2168000019908400041601B0310100000050901A0B8C00D100206021100036C2210D01381403B0642080440013100400802240000520408500088C01090000082080102074500014A40030024D020A023200200020419080002800200110C0002080104002420058800DA40021400840084000820012002260441004000080208405080");
+    testSerialization(
+        0x13FD156D281831ABL,
+        "023F3E4437022EB3FC1F3FEFFC37B5BE36813102F00C1284D60D62A2A228A01044560000C00C440180000C000B07201110209430008002800401024D94295321481028200C20080000840100180000902142201251C0C802024000548032400604110000402022000104422010420088040210110D102083001CA0C44000100064101480880001801021004400809400184000600008002100802008044000924110100044101000010001800304100080011010");
+    testSerialization(
+        0x788FDE493E59653DL,
+        "023F3CA0013C3DFAAF6E3FEFB93717C908E52802B4041EE2F107024C3804204405240830003000A4008514110405B402150080013003014A9080948D510280E0E4800260101808301800C0025000856C403D21A10851400549098838012056414104800000F0D88004CB01201020800C2B0202000412006084410000452491");
+    testSerialization(
+        0x984456F3129D0DE5L,
+        "023F3EA64E15D9D660763FECED0B795E7DE40088050408C808C9A97049CA4A28086928082E284D0829ADAF48");
+    testSerialization(
+        0x75FEF0B6764F4CBAL,
+        "023F3E25D86596FC7A5A3FEF1D07C78ACBB12202AC0D128706A6460014001008808F3101081103A010020400004088800056501082010802081170002C04880084004812040202405000100400000209004000308508000000208800280002000280006200084042800000000900400020A0101020820004408001010044000000080204040080101A096001000820400440150000000100600108080021800002040041");
+    testSerialization(
+        0x3D1500B0EDF98A29L,
+        "023F3DDA2B89C7DFDFB93FEF5AB0E7493BEA7102B20316AD0DD8A330620202010C11D845010028C4514580092820040132511104C20807400130082480CB086001012292002206228004421040000900491844002180090200500020080001060108C04000B0C0001110");
+    testSerialization(
+        0xA149D1519FD97DC4L,
+        "023F3E091E0B11D6B3633FEFF64BA94465A34F02C8041289CD2010428D0AB50C021884200A2248A09000180101182900451C47105000002800C01102002C801420808282810004004868C00A290004528942221000903284180008064204101000080A001C04043101890070000088");
+    testSerialization(
+        0x1288259C4A188588L,
+        "023F3E4A904D74ECD57A3FEF658DB43A3FD010C80E0210E40280A801024094218210020040884100200851811082004218D10021040180100200458811022144188011C408828821042744188420C2048588310023C41893108268428872002D44308B11A2E04408C108208400871142344E8CD20A244400921622504408710A21C418871282585089510227C52880");
+    testSerialization(
+        0x304014A30B42D718L,
+        "023F3CB3E9F4DC02445B3FEFD1F2B7BF55AA9E0102BC041AC39C3800C116873E29818C39930B4038D9C4484C8E020088888009111F423824601006022A068A798D484C20EE3066002C2A6010801080D110980CA210080402012300745A232800244F900020842005C0482438096030684010511002AB908684600D180000A000020269280410420893410801113440");
+    testSerialization(
+        0x7E9D7E05138F2863L,
+        "023F3DF2A2B01E24D2603FEFCD0DBF252CC92D02E40B1ADB9A05C01E51050400C002208C20621000504DC489040244093252209000C094200D82228A00C00010C128E74B48020021081946180A2888008040410008A801A104000C142004C080842005001200848212044C021040000B8007444143024200A000140A048060220080100314100884A00944044000010008000020010402800220001500824A02942000030800220008800030182A400401108910A000210002000C44188108282089844081000010209008040200804060A90C000140");
+    testSerialization(
+        0x8379EC73F35176F4L,
+        "023F3DE5DB53D0DA45A93FEFA2575E4878C8C00102F8021AC29A1EE1963D918480209A1834A45C0415B5021A4042165098172A08869038C79123110002240008604021020440A44EC064A68941B82011001A023061120404000021151008106180BC0010106C0008200A481983000182128123561060");
+    testSerialization(
+        0x72076CAEDAB9CD77L,
+        "023F3D772AFF9BC805B23FEFD3D100FDC473C60102CA0E16A1EB0075CD211402121570E288C5D44C0844520192017281A010B2C2106010160A103076054520000D16C10415110530168101200211540C07420E40808CC0026002920960E8A88BAC0020029480880604C32040420004500010440200010024480802688C30010081402138A40000263114101500B0010084C149101824010010128200034301308088054040D09829A0410002048000840080400040D0B00062020443428440800A068B104140410688000222100001125482901245050B21A202C001012301281400002100084200104304200320207408102010020100802080260005240100001150840000820468300A104240001804380047252094");
+    testSerialization(
+        0x933D40D047D5C211L,
+        "027F3D865747EFA28FCD3FEFD662F683962A800302421EE3354D20F04331050181321CB040356C18145884462858011640");
+    testSerialization(
+        0x521D6AEC56C0137BL,
+        "023F3E0279DEE5D178BD3FEFFB44817752C82002AC0916A6314CED14A4008A0384D0C0000444C8000021804020F2C0013109000800000580018020C01010000002508CC020020641040644204000AD0008041100011208680011200310804000480021800124800502410000010090830200080A2101008006012081002210100002202478000810020010000620008410010201000002024241");
+    testSerialization(
+        0x4972307F6DA2E896L,
+        "023F3D829099146ABCAB3FEF45D47B27B010D50102EA0E16A3C0505480020ACA21103165200C9C1124C406200C5A01008809A9358B6020034C150A5EA802C040910100201D00104100101300901A140201422C83C050446C050C0004440104012881220102540580233280891184041C003088A0060115E9400090180C111044200009880200020900A20850840408480210891040814A206200030111410280090418E100EC000220025101020012523488100112044824400A2604010084000021012240040E8000106040100288801108005008AA80040128B0052084604044580008004020120000092124424000000C0610010800020429010101040800084041080810C9800021008940904000E8201080");
+    testSerialization(
+        0x6381FC65071E876DL,
+        "027F3DEC004634A9F38F3FEFF12376932E6E4902B604129EB3EBA122C600402C0C8080C008022418C0980088090836033082400A12044085641500D3B80088A2010603066400A00032080810016111082D0848280050001422028812C0041009000148400110A84800086A88028010");
+    testSerialization(
+        0xE5EBA2B5B975969AL,
+        "023F3E759BE147828AF33FEECB5A5A786D321702D8090EE17D320B688821510009164D156D40454A20000190447001220041001200240A01402840021004080000402118001000C4080128204044680004400410310008441818001848000001200050001088028000000060000100021002440040");
+    testSerialization(
+        0xF9819878B6052E93L,
+        "023F3E71CE153D028F933FEF05CF61CD7D853A02A20116B22000301108300413000C84503C106069821000000420324204000504040070202660");
+    testSerialization(
+        0x42CAB1F6274738AFL,
+        "023F3D3ADBA7ECAD3E6C3FEFB5420AD37AD81E029C0916B31E847204E3100A02944D840A488684019E4801125020324829140180858800200098014021108004044244000042490002208600290101A401141A04016088208080204090201008A200080100280025000C840490084340004A02880081000B4000001204108020000000726180400C1001000001009039420421888020820008");
+    testSerialization(
+        0xE8E4342AE5CFB767L, "02FF3DB04C92FA2CA7D73FEFB8FF7D59A769B2011E02081D25201800");
+    testSerialization(
+        0x6EB46BD2BD74A766L,
+        "02BF3DCE49D3CAAEF01B3FEFFAE28A26203AAE0202D0021AD3B400C39680C52048A09000D4202800140C0D8840159694042A90000A610A8E00422203112500F36A18E289802200660A04C081F28344E62129D8082C0002181C32100000810305306490013011210C12412881C9019408B680");
+    testSerialization(
+        0x4DCA29B4FD8880C0L,
+        "023F3DBD1535AACBE6873FEFDC64F334F7D71902C4080ECEECB40404802D004208082C0010070413800010098000194060A0220019810000018040808004841A04060271208042A0202000000090000020144104050040005802040429160014000180208001000094000502104281104105");
+    testSerialization(
+        0xF5DE3740C3CB338DL,
+        "023F3DB1AD02405FA1FC3FEFE824009D528546028A071AC0F87A008868A00808C100202C40790094EB11C04810120124C3003000094001001603840002012081842208508C0020220000400858A028020801103101800800C201012106400184949030A041884D201166014008000044060D20002C821109240040000080000034108E2800030C000800010032B144026500122000200020014310");
+    testSerialization(
+        0x7C0DDDF3352B6DBDL,
+        "023F3D8629E8FDFE737D3FEFD70014671995BE01028C041EF294061C7C431106802104280810D15C6C49D8DC41CC86094A80A4A10098484A1101281421312026C00C13403C92E10C9089126060819218C81ABA889B682C2900208E441000A34C068800102D020018009840080829A9940624164030945870A0D06586C504809408A644824CE194D14506");
+    testSerialization(
+        0xA6208F121E7B9D80L,
+        "023F3D8A7E0840D69D733FEF85F68DCDA4DE3802CE0C129A780C20006224020E0200490201210208C102311B00044040050C03008094100005D2028520025000440323100A044000010200000111400404A0200058101040000021900048010000008040104022100040401100000802000080003100050401000000401810128000502008020200042001010000040811100228001200808401000220080440001000220200080181010120808087");
+    testSerialization(
+        0x22BB0C2A84214635L,
+        "023F3D43CF7B5362F71A3FEFEE015BCDE97ADC0102CA0916AD69C3462C87808280800CBED07621416E1C101388C8000882481004116233101128C20B0C0202406041000044080480480290108F0C121C41304161420804022A49C34445510022C019A80D421D26002031000400861100011801A30000020A48020031680010000340AC0200280020010083020B250711C00400204102600C100450020304200030000824BC88044904018400000044002148460E052200400040B21860120320400202401121448A8C2005041102022108034010800400081422");
+    testSerialization(
+        0x0F721606CABC211EL,
+        "023F3D273C36F7690D6E3FEFDEA40F13DAA34002D60D1EF7C18144140012C1840108444040F0D480595450047C1610119D883000008122D90D790682018E850A21008020C908500C005AEC041C28146329A04A20858E42B0103AA824E86201A00980800028209C33100602F080008082D80900C380241A0082812042DA28C550C064D2112012020D100B2000008505206800200010841380F680001560502200010244054080641004000408040C81200282E0280410010480448A0A8408000048220A1502100620A4060004A89A2500050904A0100000848040210808020C00150041002A00080080000190080088580020402001041000000080000040CD412A010000025AA00000040401030042983008000000004220005080100210C0");
+    testSerialization(
+        0xA434826569F1A127L,
+        "023F3E469CE9FB6F88CE3FEE5D0C38DB3D840E0480040AA401001410672420204402144104010001404021410002010002");
+    testSerialization(
+        0x07C801C0F8FE99E7L,
+        "023F3D85441439E076DC3FEFC5F9B4CB8EA25C02A80916B0A106C25421191E6001E9E0A44D9A882020C901882208C200B3400014C200B44AC31984C040D01200121C0280010100D3240441205201420100008C93002000110180D1000220812300811504240004C2C02021010000500B84A81A442414C041000071089042485100600020982114000E0098A010041810800C20010600408005200610458C0000020004302020120100822540C102828800100A201180D54A0102000602908144A900000404020800108080");
+    testSerialization(
+        0x77335155FDF6900BL,
+        "023F3CB2AB0A65531BD33FEF18EAC533AAB17702C00B16B91808061840008A7010B196888F08400C44452B140338B08050109004078A3004002402CA04004881942180080000051000030600094082012243080A00264100014200208040480400080250920018001000C020110248486008200819042841000090001001C20432619488400A0500060340000004080C400004A000100812900460504A0020500000A80100042001100805000800408C0501000888011801409280000812000004C08012010408001800608040");
+    testSerialization(
+        0x7DE131FF132472A9L,
+        "02FF3E07B57EC0E8F7693FEFE56E4FBA80E9E4010102421ACF4B610074E8478A6002185074B830C62BAC221AD6229AE0");
+    testSerialization(
+        0x9614024D783CE84FL,
+        "023F3E701D135C75645A3FEAA2ADB35EB75309B2080408E80404050D0080205008047A15028040219068246A3F4A8861A3506BB49AA90E8C54A5D78AB4");
+    testSerialization(
+        0x0807E7C5EC9C7B14L,
+        "023F3C93EF11D22D1D573FEF84D494457FE9A50102F8041AD14E91658431E2B20080840051E214544445C240BE138E09488308D189B2031030CC242645B0A00940810C30CC41040400405C04028D0410F300828356A0004CC088A41000C0C00082041405A20900124050308245006800164D2402090000D004100125815809000088044209320000420007080800011D114E007A22300B030031");
+    testSerialization(
+        0x0C5857E188E1C693L,
+        "023F3D575161864D91CB3FEFE53406550C275E02E0081AC32E6FA38C01070010800C0254A0A1B2001825210010260028DB1C098880005808000042102063000C4749F024404A130AC04C00048008001D0A1641762492B91C2815610482002A8029103C221562400C08B08260103036280400002000001022C00003010C801828008020903A18515C856104D820C2000C80100202000D084A82C320400407547098000890011080530C00020108814088120048200004018200000014042000C8102450A1420280000200120802040122156A02012000400C404005900100A80480");
+    testSerialization(
+        0x3C6250408655F23DL,
+        "023F3E3F9EF7DF7BB6DE3FEEF381A1985BB7028E060208E804145B24874AA553C864DB1918B56BA0");
+    testSerialization(
+        0x1D94501AC76CA8CFL,
+        "023F3E41D3EF505E08E23FEEF72C5DE931D60B8C0B020CFC05064090040222429028010281108419044910044132469044C9244C93E5293C4010E4D9784695A41918409184919652110681");
+    testSerialization(
+        0xA75002A693F4354AL,
+        "023F3D167091377B6FD53FEF8F9E1761725FD90102E4021AD428806B5A08A082BBA3666C174B408220116E204025067A909F1189913C1AC2A6014D71310320572A0D8222408124C0095CC00904AD1841B42141A2B34004093002406082090228800805CA90E2100018000890885894");
+    testSerialization(
+        0x4BF2D03583341074L,
+        "023F3DFC9AF8FE3A0B7C3FEF98BD184331A34402D606129A450440060020200C52990810202148D82D803009046004481420369080C804808030001214B40029189030622C000840304081108200A02400C0001308004102108000180100C122008800000008A1142014008102080848100900010080210000A090");
+    testSerialization(
+        0xCEC9908F230B6711L,
+        "023F3D8754564C73943B3FEFB941055C19574A04BA091AC80160628228C0820040843091074801100490400580083C01000AA4811D0D450002002E89054314600000088080880C8A0300002C5B02025A08000224014000A22420155610020100864041000C2A8290104114602040040840088002040500802480200800000460282080482C08400200A0002021028C00000400803104002000A0488000028000412009000108002880080018000080A1108944900000004084");
+    testSerialization(
+        0xFC001B32F9982685L,
+        "023F3DF35755725C29983FEFC3EFE33512A05B02EA0B1AC54979800A98C6062241883114411000500888008A48858080624640653D0095B0110106012002224000C400821B4800108FC0180A4415174060C61A0100402C82C000501005010C20C0299224444462202688819040845480900312110868004088882105B800C10230400002000A05440000024A041092022801A0C940A0021006414901002040260780000480021608C0000000200810A082481A250124092062685014245500008209143A224A0840010900004048018008006140042000800142003040CA8800C20080");
+    testSerialization(
+        0xA837B30638CACFB2L,
+        "023F3DDA8B1E4CDF49F13FEFFFCF7509A8106E02C4021AC95898430659A212404386490C8C6C30A48AD182720DA6134D3C0B0414905AA4044880C0C00055800000190080002092B238003C0040081842241110A0");
+    testSerialization(
+        0xDAA5F80FE9D0F70DL,
+        "023F3E107C7528B3213D3FEF92BEABD65DE32502960712982E9666022008020B05C201A90A02803224500080140001010040091080006223000009AC0040520008002440108041020E00840080040100100400508040900A02200480201000480061800004004020125001020440");
+    testSerialization(
+        0x45AB1A6A22D6BC17L,
+        "027F3DA078ADEDCEA9453FEFB02F1B48451CF701021C1C3C450041051A141C411006C400");
+    testSerialization(
+        0x476CF802330034E5L,
+        "023F3CD97553C739DF153FEFCFA72138E9242D02AC09128A6A065066E206C28C229808130509401EB228200002600522008000C00400002008104200200201428044400A902008080040110600000202280040B0080062000000434200800845008100240000190044068200005492C2004000182108060800900A904004080800104300900201000102000442008044100802044441");
+    testSerialization(
+        0x08B65C623F08199DL,
+        "023F3EA62D5AEB7679BB3FEEA0BB5ABECD1E0602CE011295822042000600602D024104C24005204028202000100222410048080E10");
+    testSerialization(
+        0x619957D95328EA3CL,
+        "02BF3DC9E758057B76D53FEFF328878DF6D3DF0202EA011EEECDC32404409100808406101831F4213EC09102A21063101E0191E0978800A888C1A620503004012338624C46E0010208010068494480800801E00810108181C9108213C0");
+    testSerialization(
+        0xAD6FED10CBDA8DCDL,
+        "023F3E1AFE0BD616DD6D3FEF7771F00AC95C2702D6011AD18639A18A206094206008008952D5483180854000812820D1600084092000228017844310242820");
+    testSerialization(
+        0xEDB0D0D28761FCC0L,
+        "023F3DE70DAC07E8023E3FEFA287FA53804E3A02A40816BC804F590C0348026184D09C0C45480805846572292200309242020AC4061088A2C400008225201118889001000043A002000014015200000209020440092033800223C800400420420200C160200020C2182010508000424013400140418028082010440109200008190016080E8040001080000080160008000220014100289024500132A00900220400180400024000810200041080400022040012004000600205");
+    testSerialization(
+        0x23A06397A6335D81L,
+        "023F3DDFAF55B755DC833FEFFBE0735DCE162D02B80912896864906086440670904084F048084049242109A622A000000580020800B43810011210222082402040044029D000044405223260981402C40080006848420C08012000281104800890A22644100543141280454020504000000112022000C40E0920A0002911043200084C0810048090A10200440000000400088400900104010800084804");
+    testSerialization(
+        0x2649BE21534F387FL,
+        "023F3DE5419305D93B4C3FEFF826FFE9CD238A0202CE0D1AC11141108808630800C29C09B0004044A48448A0C1983168005F0CC1608321023301110560184280C107B2000871168400C803280C0504A04052404AD0AE904860924801844360280821280800310588058B00C44220480400118200005210221C454A4E000A2C824020121011000402A0B20204005002822A42880501001840040880A0020002001060020110904024005100042080204744580084024140088883A5800000000827000804910011400800021140840006A00A8052440008A4421084100040048002097010104122C00000244C50150403A00080800014821018481002940208212006848001084800A0B209000240140345404801500040");
+    testSerialization(
+        0x6BAD9F5F9193499BL,
+        "02BF3DFB5C9E1D572CE23FEFA9471F02F82C3A0254128D6A2842C20610024CD1536110120CAA20");
+    testSerialization(
+        0x71CCE7C3593342D9L,
+        "023F3D8F68CBB5A85E123FEF50F41014643A2E028C0516A620A8181922084200986E826040228001224C00029A3C8329467002904000000109306021002000002820080009248000801C4404008208448000102008600104022140481401020100001200204000042308");
+    testSerialization(
+        0xD6F316C5C285C4DEL,
+        "023F3D31A836AB9CBD463FEF8A7BA93EECEA970102E60D1AC74929400A192006110084D090244E8C8E4405DC0D82602044C0A83648000A0A4426EC0022034002C508904AC042580CA11100100AC00111A05A4008A08D8A00200094210020A0842A1400114420020AE084902141152220800143904F2800810C020200122101800080000A4024901200960920D04800108401040810001406012804460A400008C031000108680A029402040000004281081040CC100134082000260A210008040012406281A8801200401000201002244040002027080411020910000000140802020481001042102080040102012008454019000001002000008012080080002000082081A0");
+    testSerialization(
+        0xB73A83EEEC718640L,
+        "023F3E64013728F432903FEF7DE5CE1AE8933E0290011EF2C40604001860808000000C18F0B42080C621102008440309A10100300B4A2C061430348262");
+    testSerialization(
+        0x2804D8C04DE3388BL,
+        "023F3D1D5440E80D6C673FEFB067FED9F2A75E02E40316B39884A3894611442089EE1E1F285842022C908011A89002D13109202A43209404028E0AC801024074265456A000A32500F14400416406010050814890217308800C212460004609200A004010911108485003002CA940");
+    testSerialization(
+        0xD9DA1024DC5EA567L,
+        "023F3DD48C5A810208E53FEFBF9F5C9BDB714602F4071EE0CEC3083038706085052E0810209429016C608460084023961802902080C11040BA8101A694089600819290A910C000921A22009C02224804004B2002810060416920486C91404C6009191250218440048002A429111828E623084248202084001052508240010A5075840050240222085900041D600182001881060070100028025C4410420080026800124564100200000E08025120008460A05200010201289205102410C20AC0013140");
+    testSerialization(
+        0xF47EC04292326B23L,
+        "023F3D8368D0960060383FEFF3F09898A4765902D0091AD7BC24AC8061238640B08C5154A60080958C20340E57860A82300D8209A320B2C1540ED522B6EB0800810590C8451000489E9E60964051B00B101200460058582A80030E10810800148525890400300024810820120010E26012601014195000402000034014482101005CC000A00911011201830320000B2020C100104480800100438008082202100048501000A82854200015292888801022C303C88048004150083002029001040026200400052020404224104120024120800408810808");
+    testSerialization(
+        0xA6B94CF241E7E821L,
+        "023F3BE5955DD55F5A023FEFF88EDC73FCD9A60102E20A1EF6838F281520216181050240C0203643480E2105230104020588AB11102A3DACD4DD59D66B21030820050580805C4200411460994118000002118A864809106495086180426A630812C90A090804210005020640441A48001106000040000004000C186340808000830250810102AB0021465200808808000004002400C44484A04028B09120006010522AA312810340014000A70008043101B1922140900000A28011001420404482948100541847020A08228A900141083014282509100C9004201609010228409100C00010208061110006490000020C4000400088090000092018");
+    testSerialization(
+        0x0C1DEE5409BC203FL,
+        "023F3E51998BA35025153FEFC9FAC6E059FA07EC060408F0040C01008541A25068042A11028042A010C8B47209048240A11168140A01090881651288749211028C433913A8543A89148D40");
+    testSerialization(
+        0x33BA05BC3EE276FAL,
+        "023F3D5CEBA6F5A8DBA23FEFFEDAF984230E6302860A1AD9406947281001821921843856A5380211800100805301864096C020052800354096414002591480A02A00E0120088360A4A08D40064080125088C4C80100440010580410020000A28110163124332C4000000001008222280C002066C828020920D450920A220A412491824A28800C2B1000890500908008140204204800009002210019500080008002500400D141202000A405148C0011204488000084848004450824328000080140004000A962002001232300001624824");
+    testSerialization(0x032CD31B757B30BBL, "02023F28CC853984952E");
+    testSerialization(
+        0x3CCD39A590B78295L,
+        "023F3DB87368F1AF029D3FEE419DC7950DE42102980B1AD91048258030008410418610AD884821224E0A69082110800090003000000108480648A006010910C02C81000080108008A0BA03110411409004AC080520600180020000011420203111060000A800008261B24C204A405821000410008008220510000212204014C90002014080042000280081040090002080001004182A000840015000000062020500004042080008000304001240024000420008008200111200232424080100802400042021A2");
+    testSerialization(
+        0x4A264B709D0105EFL,
+        "023F3D851890461DBE0D3FEFED21C51F7B4996010282091ADFF050C58CA0209C30A00028D0D080C4FC94C4101A8440908400C4C1110860C60B814011781164C80042200242A20892C02128464900209A00918C008800030684503828C080B0002000A020602E02720082402196C02510202125404A4464D2248088CC2100C960145300C2A8241000100030100B014D2083010851F01129000088A1310108900821040216260080C4004018009210001C022151041548422212481040020100086002A2811210542883200A830000005021A42082240342064300040B0C02000A028001006284002008000153");
+    testSerialization(
+        0x1FA19CFC9778DB71L,
+        "023F3E319A8EF41080763FEF9CE81033E9042302AC0716A891C0808CA2014A008C0A087898DD04280028201804854085010401D4000200021010605121004810002000141404020210884428104A03800210510060260004000480040347C0510010080300014058301004008080041A8002040041");
+    testSerialization(
+        0x8436631985E92E8BL,
+        "023F3EA05DD634794F793FEEB73E87C3E0481C02B80216B28AC612804308C210000C9400020100053080028821001D81040204008080524581540280288260000200200648000204");
+    testSerialization(
+        0x5D34DE04733D0A15L,
+        "023F3CC80B52FEBEC7763FEFFD63B735F2D98C0202A0041AC9021A0317A385841821102814A1408271C02622A4128643A021009808811031507000C0241641041A9A203308440480E040D84E59403E810C0E430805080080406904803841000EC40220908921880904940140300341204DA0A65138004842030C080406800040841805129930A10B0080402500E040C80200A0");
+    testSerialization(
+        0x2B181597907BAF2EL,
+        "023F3D752C41B8F5C5EE3FEF5CD00DA1FAB25B02B6061289CAC0694A682E442C92007020D901B4480050C821325020061E0186501890C9409090618000100400002200904804400302200C884000221901409A000620510082A2002640EA1002221202000402044080008924004100288A01320080040004008002400010080060012020250008016010");
+    testSerialization(
+        0xCECE4D103307428BL,
+        "023F3E86EF50FAA008F73FEE9BD23E185970059E07040CEC06004120041C064040444A00C61028010C4210043900811044591C48118429144411E481884F90C409145412A4410C419005612A40");
+    testSerialization(
+        0x63A90E6C8F8391C2L,
+        "023F3D0395C5B1087BD63FEFF76BC8EC1C74C10102D8051EF459944C0CB06000420B0E24581071531810A108864A160403100C8C9A0121411A10A003310A7306498510F484170C00405084C0A1051909262920C68340944002825943E859808D015920A6104A009900010800091F3B490CA88A0006412000910310C005888164A41C2600082421020901180270900A0002004EA20864820901901960940C203802203408210400208A40C8882201041010000248");
+    testSerialization(
+        0x4C47A8C4017695ECL,
+        "023F3CA5FF680EDB2B3D3FEFF79E1D6D802C6F02A4061AD1E430610A5A6F1018200C8914051100010867388841461114888080898808430410128210107006CA408002B840C20181002190214100221198888182050099C5560C60E94C018941800005800C049003603110000000281482000090C00000C00040180000474000824264450D41008020881A0024054A2A003224250440048088A890C0211021408210400E220A30014448200C25");
+    testSerialization(
+        0x5FE135A23112E31BL,
+        "023F3D7FD57B4A6DFA423FEFFE59F01229572602FA0C1AD32630E20C20401418210020309DC019480498E09D3CA8208926806121161120279008068000004D5218201A42054800104100802A88C840004180E100144100200294010400210200800060041200220019886040080080440211204A2800192404010B000080001064100030000188004208480208200002001C00821000601090000C0001037022804854142014814020560000028002484008400100082000C4020080008040C80C0001401020628500009008128080");
+    testSerialization(
+        0xCBD065FD22102737L,
+        "023F3DB85533C0DCEB4A3FEEE496BED4DD352A02D60312920426434206022029E1215559221C3208100434080240809100220010A001002108004002020C68440180008B242411005082010040C00805");
+    testSerialization(
+        0x63FA700BFC399149L,
+        "023F3D89565A1A82D00F3FEFCEB51EDA71987302C80716A41150100A41108202000D81D82802014127A800F2A20E120015007288108800471C1028DA20127506230061006260824006B401040C20A42000058044082A6008903500411680A0408158C22E082A00000001040008002B00001002744C4004080401410024050800024440040420800052041090");
+    testSerialization(
+        0xE23B1DE2BABAD561L,
+        "023F3D364B9C4DB4DA5E3FEFF4F42EE16A39B30102E4021ADBB06A2140C00826D8032E00904BE0F1B50598A4420141001705312018422A0200841022120802862EB863244420A48240D05A98904068014B50821040A60280420000402281606C9082300092018829288055B44080");
+    testSerialization(
+        0x50C2DBEE5D134327L,
+        "023F3D88AA96DCAF17893FEFC42A0E1E7B073D02A80E128908D940226E120630044CB1109500004982880016682332441082400414C48210629031804111822200921440210450A280202A40444011000A0849A0020420051300002083804080101A00200164304200400008010801009408240110119080000810481842040800405828080805000080891400048008400849140818190C88408000422480108004180212150050009240000000388808800000008000804010C80009100004001160000000100403000040200C00080440");
+    testSerialization(
+        0x93C051781267EFF5L,
+        "023F3CE274C808995A553FEFF81BF7CD99664C02B0061EFC69071C00A820E34902066410906C1D15442429461891B22BA09402E2C2041112265400A0070020024AE410FB21024001C01888A081310463250C40A520006000C88052D3AC90D40C0340415898C0201010E8006A622210040200C12100002437102E90783B40A80000C208420310080C021000C098010002008334054082484014084684A294161515100C23001210000002601001C00081288408");
+    testSerialization(
+        0x9AA83A6D8EB8ABB3L,
+        "023F3D1E9CBB8A1506483FEF91F3DB879BEB5E028C0316B5190456048503C41084115404460449044485B02A024001003A8100020A08840104080CCB05300006101180A240321C40820450B04080080016400488802C0500800318");
+    testSerialization(
+        0x2D2FE50E4473ADE9L,
+        "023F3D7E7841518E8A623FEFDC960D2A7D38330280091EEE27053A140262604297080068A0B0A9C504A618444DCA1801185001190920B20120B42901B680410042601EC00302484084922282CA0341200C4502426090410180EA08901930812010A00820020208142282A890E102944001001B010E51200003200000000A4142008120082494050128148A88210A05600402001000818410400860022100050048000B00208202201000D004902088104004104800800300321404020040A800100895100021020088042200001010");
+    testSerialization(
+        0x5FA1690E247ADF55L,
+        "023F3DF25E481D0E8B893FEF4560F5EFEF163802A00A128FA1000E2E222660708920004000844005806340049528308040D21801A50A20046282070101180410000890A20040446024CC094060011500002C8429000400C4003020208110002010000400A1000424022108040240200141002212120901C1281221000420811028000202100208012100922000440180C20290840240801000400002840000004020400020");
+    testSerialization(
+        0x62F4F57B730A8D16L,
+        "023F3DE776F4B03523ED3FE7B3B54AC873080ECE04020CD4021A0880C1239048A4D229048C492114C8A4620208BE492315084513013CAA41209388A404");
+    testSerialization(
+        0x616308740E528066L,
+        "023F3D8FEDD2F4FA529D3FEFFE78D2EA11D72E02F60C1EF00C817624080043C08600200000CD008002031109D20060E2970531D04404492006510410481000C46582002000140D00080B06000000D00040A0008A4800022D919081000000802801400014086920008416000450022B0C010081428382000941484000A420201091424389005208122A02206A058011004212088224C10C811011200428040000820401900820032800000001400800480940A0001200521800954C04801103000801020C424880088400110000000B2004020044001000008100000088438140003080040080C04020100080");
+    testSerialization(
+        0x861731F13C272113L,
+        "023F3CB0CCD40BE52FC63FEFABAE41F8D7BF3302C60516A5186042840308020104100406444084D008051CCE482AB002A410410084060000408020600012240C0602541101202010240401080009221010048020004083040000104800982840000804040828A08810100300008090010089");
+    testSerialization(
+        0x3C6CAEC2ABB41615L,
+        "023F3D7FD1B2071D26303FEF327CF330280B3802D20D16AF8ACA349427084400848CC228240040C5E0C10002B8002000AD1505020220E081209002101000408A48000A054620208028088112410228B402192424002A2C88C02080008014120010000120244024020008029100010080EA00220010584204004210121000000128003A080400208810142303420041040884203140050040C4100204104080096201000820024984200800880020400800022C004102010041050000C8040200600804");
+    testSerialization(
+        0x58DC98D3A4B965DFL,
+        "023F3E006F0720FD53C53FEF7DD28566C27A3D028A0C128F526A80E36024286D52902408410140AA000A25003504040AB200309422100118001000428342F018117132640410408002A460020106008000482030502010400000820202000122008848004100808A24004042020050A0000040081201004020B0840820801222004004130000100022012100044010000206005100080010100302628044840A0041010041022000080000008080121010020408401214000000020000420123");
+    testSerialization(
+        0xAC67E58C447A30F3L,
+        "023F3C85FD6FBDC6B56B3FEFF4BCC6E433BF6502A4091AD2917063106B40A04047BC023081490C5058105076380800300D610C993B00616061264841066068026204410865040908D044C0190A92020833830641C0A4814080201214D40006A42C101161085905940011820894B259A802480406810174984210F801C20000161001A0148114414090800808A9401D0520410000B28000089800068C000202008090000C04100002D802841041804080110C46701110000C002400910050804345010A040101814001800808410C400120880400210100020641008005000050");
+    testSerialization(
+        0x717D1B34D0F226B5L,
+        "023F3DFAAC2997FFB14F3FEF7DE60EDAA5181702D40E16B070001000430000009430040204080C045009080A82012012210004084CB002A04000011048A00021004128304680209300144304E00000808800105088600980094000210088201505308820020480090401401020040600010000001000401008005205042000206000102002001410840000020000080022040484608001900202300008A101000320104540008020102C80410408004020088400409020");
+    testSerialization(
+        0x5068123375A5B3C6L,
+        "023F3D893CCC8F5844C03FEFE110FAC6A7D77702F2061EF006930A0838A1428203040018407058492084048D14C21089008099049808301060D000628825400A4004024002D3158614042010118B108A0428110042400000080000611D0C042200A410110206600000000010C000A0090202D2218880026000104040108000866200C002300020100C009400020102810243800A2A01127040A422480A0001051118102201244008");
+    testSerialization(
+        0x65955F41CFD0E893L,
+        "023F3E023B26C81096C03FEF775CC4926DAAA40102D20116A56077138E9789040307320401B26004888052082804108009089340A21051D01100150802284A2661A20020E4218200000099118422");
+    testSerialization(
+        0x7A05E7206258C3F8L,
+        "023F3DCBD0133AE316903FEFCF535428920D62029C0E16A86050410A242A485400332C0A2C90D8845509821100B20011344823529909985020040420048004D002261110041982824844900A133430536182200C8000084090181908280A10284400B314A4200880A1026140D1202A202A1011091022260840541090E02111000215008300001810204006324442400040B080822891200000F002040008100042040E021112824012000088012400052080100A900024000050888004000D0A0A810110201208200002008004208000000400100810808020001012A00002801001442002260200C100040020018050C48804011200250080");
+    testSerialization(
+        0x530B98A49018D298L,
+        "023F3D0174843BAB589B3FEFF55D95D98528B20102E40A1EF4CF080E1018C0A081050864183150C4C9A0138040810E0892128B2001398DB35B03B0846417005D81108410E108A24B845463088001810C10181327015024011070801D601002684084064188880D008020A1008C474708001058201684042422120000040430811010001210006202000000800970E00C01C1800000110415DE06282000104590840002301200231822512C10106606880080004B4880000510088080A04020004580008000C12000482280106202800201000007480004020608109848220011002240284060108022F8828011414021404A0410080490151C");
+    testSerialization(
+        0x4164A427D5BE9EBBL,
+        "023F3CDE1069839926AB3FEFE5C2A266104D6002BE0316B99B82F114C518084300B01C600080088A808D025802982C8D52214400180100F20020401400100432000290006044402300800903129401009019E828300250042000B00490500C06");
+    testSerialization(
+        0x8ED388D35F43AD87L,
+        "023F3DF9CEB732374BA43FEFF8B89BFCF30C59028C0E16B25140011C22380200040C28300102084DA600811040002024002406003012000400A100410C918128000A4451800040209822AA0010008100408020320100000404048869A1484080089041401229008482A8845020000200028210092D011008320504400900000480234404004070100D8022100100022001240301102010201200A201004208880021200040080010008102102122000850000C28810001240304100080421840024400124000000180202080");
+    testSerialization(
+        0xEDA8FA6A8A59BC0EL,
+        "023F3CEE6A5BBDCE98FC3FEFB82D9D4046754E02E2071EE4F88C0C08A8C0288A091A0438803014344935CE36408E211499928311151025346C4A1848E290090E200091008000019288C0085128C3A68200200A10408C9B7050200440400000040110E28809B00000901E0D06220812402000D07000010C105F042700242052115018486512150116080F9002010001012823A80131116410000012A01088048100194C000000184B4480002008416050002030000A29010941000090202000C00314200405805800930080280180");
+    testSerialization(
+        0xA6B3A6712AFCD38AL,
+        "023F3CB35FC8B8A4300E3FEFEE3E78A043465402B80A1EE6020B00987C14030388062408509068C0105C0998CC99AC46B4320019359C2F84690006080042B80092E061900021631C00808C10F12A8530500568101000282330000440058640488190000120514A3028002281000640808009281090241400900024000B24214200904960820100820286583088443A400000000806446400010C108004002448640204168011341826005150030210201552414084031010120006082A98740400400CC0200A000040B1006200009C00A20202404290000802B21058054050000600040040");
+    testSerialization(0x857B0535C58D6B14L, "023F3E8AF9CEDD6038EE3FEA62FEF97732B127040810B220");
+    testSerialization(
+        0x35CCC2BF24FBCEB1L,
+        "023F3DD64179E7B45E8A3FEFE7BE37B5A8A66A02A4062288F1902100805130A0709040D140103025080221042108481128D0492811020113204E0412461050104611924050112A0001003023290291001A08348004409840C30188810106013AD326800026240101330011009040320280900000832C000000010129080042034930118230583221A432192002D0B10020300011034160820259041128000124024044C218360040878008010049214810010360C048008441235011040260");
+    testSerialization(
+        0x91757F9B2437CE51L,
+        "023F3DEB88E9741894633FEF7556E46356FD4702BE0D129A743286420CD04430582050C841C8840102697C882401070056920810092A80D2848200201012210988022404001A40800380880002060088202B0400410514A800A0E0041040001252028292022015041040000A010804001800A0412008444004208100208014080012006000010811402290008900802000800819A00040A108800100C024080860000105000010022020014002040C6200100200021A0010000840900000010600020202000450000886020200100022000800800000808C20400800020810610080");
+    testSerialization(
+        0x4F9A23E2B151BE74L,
+        "023F3D9DA51A439EED9B3FEFD83618B9F1533102B60816A75C42620C210000038C086460480136038A0120C1100044607000C0844000020D9B29684026000C00010010001080081010904004080209021442222300840020C0002080000402380040408820010004240044428884801400222000402208C22100802040040080");
+    testSerialization(
+        0x78779A725EA2D9FEL,
+        "023F3D8B2B118D11DF203FEFF673B608DD6F850102820A1EFB8D250A2C710144C087081048005489A8D294850111C6309AD801002200840708C08232432720AA2C870A50824028D0C70090AF648A12D00700830000A02000004A8C0B0A2E1081404E0049800802A25000320000910200861840020802009003761411ECD800226808014040027800090402100108280003AA40442014800090288110408013000143A2200404013018084800001102802890210020041442048802A00401005029039A01C06C270A484800200110A1800020085002540008084090400152100083800A5100201030");
+    testSerialization(
+        0xCC4EC68084CC7E95L,
+        "023F3B209109756406343FEFE6E889A67F104A029A0C16B350CA0104E7194621846C929008406A0568000030B4084C92A18406000810828004C900C00900200B135210A4025833000400110222C06824019304420C048009000108380200480100408108008804624000A0A0200000420500200002820400044A004A0000300240A003000404008006200001480211008010400210000000120400300040000480A4009160000000145020540008800A1008000121082800001204C0062000200042010C5000084102000021402011");
+    testSerialization(
+        0xB6966A6140BF3535L,
+        "023F3D870A7E571B0C963FEFAB2637B3FEEC24C40D0210DE0084201804008420080401824018020200200802098C2108A20980200828090221980219102108420884441004008C230802488C200802288022100200A022080428844A90242898200802119623880228AA4188820898290B22618A23112250B22189E2F09A2189028088288CA271202208E248862388A20088318AA2D08224898200CC280982209A4B08");
+    testSerialization(
+        0x89DE59FA33170A0AL,
+        "023F3DC0821238E0FD473FEFFFD4477A625C2E02CA031EFD820410200000A08703000C10001010C4008010E50C51A20F408412042D2D7C1B24823281A11000600400880404506061402B0456590A9002424010288D08092002090108000061340109062800042008A308C0010A8920300AC0");
+    testSerialization(
+        0x45891BD34267A6EFL,
+        "023F3D87999780C72BDB3FEFC31EDA699CA84502541AD00008C70830201601A002104D56C821B40D9E140880111080");
+    testSerialization(
+        0x68EB3B32AA806AACL, "020F3F01D10C1D7CCDCD3FEE32C7208F56ADE2040C05103804160F1F9D66E410");
+    testSerialization(
+        0xAE2E7ECC4C8E0DA9L,
+        "023F3D71291560CB018A3FEFD2C51DC3ED0B7B028A0D16A62002232A20118851843018880C8B5900000982684334082432C02093800444802486229176021853048620825084414840A0A108280001608160A208042407010033314880094410106202080240184402422014040850404091321100202041401802148E4106089F5A44008000410220000A200600012000040010100240E080C04B000840020940800021220601008D00108003A00240201800002040020100404000836008000120109802A42000100200089000009001004030600426209282240051814250");
+    testSerialization(
+        0x9C6973B1CD7C1A97L,
+        "027F3D0D8A93AC60A8B53FEFD8CA2C7C172964029A021ADED2486E1200A18800238208914A090804C049409A400902180B28000030002800240896824E90614500D008068A659A583036436900031008002C8600600401059300");
+    testSerialization(
+        0xB2A774C1F3488FB5L,
+        "023F3D351372610D898F3FEFE9443CDA75C9C4010282091AD0B69A8296CE860C00230621B2D944C100F03E6906480200C001680805B5F054340220980024620222803600A8D40826DA25AA8244208B48004010AC086010540C30422C424B2E04003D00001007325104C002041400020060C008862200021020A32402514204874A2003822C84284818492100880242301400040820841A084B2085800022140AEA20130000010040006583490002480690018208100041601012848B060080C0201060009017018A0A0294044400402402060805400021800044D00000B240048150082500");
+    testSerialization(
+        0x00BB92E27D083DCAL,
+        "02FF3D3C6FE44959AE033FEFFFF67CA2C410670002F8032288B0D122C07150004000102030912022C41001A19336346A33413D2964501021D953003E230C16014002A10132212030142000A713151924A13C0120F62B6203105A81858008328B2803042102319E10D44102301018012120030010220000424094001101220001230801492082C019BA230100002C60");
+    testSerialization(
+        0x5D9F2C93FF73A7A1L,
+        "023F3DA481D85C4315EB3FEFBEC86296A2FB2502B80E1AC0CCE8800060000450E180600C0458B604002584CA6084C074A4100030448085880042D414A19001024901041D42021080081C040005420088002000140184E0040000402250300000011420300489880000008030100044080821828100205010009A0081042840000C0004020080629200C204008000000C82000C10003800040011040000022000404184001000006A2010020A10024000000904080110100000044020002074581008C000013A003421040024180860800008010102805A000200050040");
+    testSerialization(
+        0xF77EFFEA672D02C9L,
+        "023F3D7B96455D3087BF3FEFFD60E53C7A6A8A0102BE0B1AC8EC10471200258830000230F5410A00018A21311C528A00C1080A221188004100148080300022B64021C2007808D045344040725818803144000B04104108B1A0480936000844405C45804500124508328A008648020609040020208083C32C50900A3402020240445060000004002A0902D800519840000C014020010101220A98C26A1092008011903A001A520480005A0920208848000510AB4A30400901012404A8501000708110380000020210518860804B2290802A044468459002040401142100004202A0824400100000084200000950410020000900000081120020201200041004028080020001");
+    testSerialization(
+        0x2C8F635E04E16818L,
+        "023F3DE94BF84E5B01793FEE950736F822F11102B0071AD11638061608808E00008220CE161825164205D096000602202143411014A008120080910004100108A221420022002801442084C006100C064000000400C041044810A184004004020028082110108090108803040044411300000001804120042818000104801810102280004040");
+    testSerialization(
+        0x63CCDDA60AB7B0A9L,
+        "023F3E3DE53696A0438B3FED0772B936699A04AC07100510281C1E33168643E012989C620516804263150C4C");
+    testSerialization(0x1CCE0BBA630053B2L, "02023F76432550AA8867");
+    testSerialization(
+        0xEABD508B9DF52A49L,
+        "023F3DA30E5D7782C5C73FEFDFD2FFB7999C6D02B8052288A000E3E18050904050600020F01010A4367045245433122E4307004A24720001041214062411110D26302926C70880A3942004E0322540210211054000B12300888B139808297910106348810000900B2441802C6296741008320003868C043346AA0004103030420402C081934090080824634091000001003030030910A0088600301964026100124C8570001CF8130188400010");
+    testSerialization(
+        0x85232B4A312D42A2L,
+        "023F3DBCB738B6DC900E3FEF7EDBC22E13C14402D20916A8DC560118080040110808E0A11089840540800860B05008D21100048B240922881015002140800888020888822008107540C02000440C048010210160084480204020B0004004105804600210420A002A080410008140104205800008084008080501800020010880005000120202280044000840020803000140000201040091000000303040010000A482001248000C44");
+    testSerialization(
+        0x907271A5478CDE49L,
+        "023F3D5903FB4CAE4AA73FEFF6635AD91FC2860102F80716A966CDA105E13B60B0841620100221048630820582682000130A0E0101B289443E1E002821620244460002C5044000448804600C1032BC003C000001210800011162023184924A0C208322268135824101A400802001640026002020040082CA00122105001024000802085184814010A1A02800580201480012A0BA0000A20004052040060283400000888182C10241404200001004005108821A022024104453704080100811108042080240040E");
+    testSerialization(
+        0x5A63530CFAD0B243L,
+        "023F3CD4FF19608D19783FEFD6A96413B41C9A0102D6081ACB9605251258A3026A000228D0900C44406889485A088833040A843901B1C1C814400806AA0032081400A40114551C40800A690C021474181560000064444A0C02400118502501800A0620072404042166E9008C418104100816812A10010060631201100008248F04804111483600040001060080181704108900080B000020800401522C020028000600052B020820A0800084152030000278000B4211001224000904910C11080204");
+    testSerialization(
+        0xAB1A732B3F586B99L,
+        "023F3DDBBD3DE6967CD93FEF4D7987CD293513A208020CD404050300404010D008040E0100842131480422110084404320C80442191C8083231011E4022910989446900844D29900AE4242230A2552395888882711C8C4C2F97C904721108BE642");
+    testSerialization(
+        0xADEAE4869D4467B3L,
+        "023F3E310DE6D4DA8E1B3FEFB704211430298C0102A403168286A662B322081052404C00489014808A82020882200401184032B25904821645B60025844E2032D0450210084198482CC02310232018492490117410082422002946940055081A0400308100006A00052C21090C70");
+    testSerialization(
+        0x2A4176CC70FA8C52L,
+        "023F3D48D6022E9ED0C73FEFF6EB8F1DE4C62802820B1AD3C231C68440028C18220020A80CD236419A8A009213252BE058D18509A40240910B204418C402700000C10184403222000C1401800000016800008220006484440828A612B400126018001E000800421800400150000088264390D3063040A110000004122800006881890702841804004200680024842085021640842248000050000853010030212A080800404080809410C20040900001804801496102204004009003");
+    testSerialization(
+        0x871ED802E15CF126L,
+        "023F3D34C485AA156DD13FEFFA642C3E53AD9602026A16B1E25610842D4268A0C0AC8E71D68902760208981104029880326020");
+    testSerialization(
+        0x41A665FE26A7A248L,
+        "023F3DFD0567510338B03FEF5D576B8264291B08BE010E9051C0847C0100004824080018400248050200400320160010");
+    testSerialization(
+        0xE6855668819E63A0L,
+        "023F3D3FF76EB6960FA53FEFE5DA64E428128B0104EA0816A43A000190288002320810846044D0E08C89020880918884508808B455609109099463183002C10F0041008091A042201B20020824C008500032860C00082484040500002810B02960001802024100570B121002002900384408002009181004048240909484220400007302100C0B00210E2040008040080002000102A84010121014100022044108CB040A00000420401200420A00804600A04011");
+    testSerialization(
+        0x7946342A93638D09L,
+        "023F3DFA5265043CBCF53FEEF185400CAF3612028A011AD71298A12C406004082380000C82B02420822105A0040034088C044020242480");
+    testSerialization(
+        0xCEE7F6CE76C24791L,
+        "023F3D82F4B31650D8033FEF969D7DCD2E17A80102B60A1AC2C028C53089A0024840100954180100820400080630B608384311810B8A03C01110325450009746910098540C10C8C88219002A590806A0330C425514948C6848480410088CA048041054014A080011240082774658C050100514D030A040A00012008C21A320164000B20666104001800008414401190A08510620520150860400000A05108200081018048300042002002183644A840C0228913010012D88000E2181D0049600048101040470208800423004500C4000E0242800030110900C900D02110460645080106452041000084040038104E080");
+    testSerialization(
+        0x90746E60EF10929CL,
+        "023F3DCB3DB28A9DB8D63FEFFE396E8F1EE564026A1ADA84268F9651C48402051CCA14A1311219100008C2B20A1205118289CA301A421338");
+    testSerialization(
+        0x303F222EC15A3656L,
+        "023F3E439CD4EF01FE063FEF5071536437291BCA0D020CE40105C0102411004020840203811104110640208449004020C4120A401024192A801144091E4190A41140402044012885148429004B1004E16E439304190454938421304311A42964661A6441C64510");
+    testSerialization(
+        0x91CA8850BDB392A5L,
+        "023F3D5CDE8203A8B85B3FEE8FDE8ADAD8EC5602DE0716B85982528876004A0020AD140240021605848B44100C092A51DE40864000A0002280B08501001A400201C4908AA20000056000C0001A002942001041300000103804000001000205A88100800008C0C280400005402480A209150460410000908094200400A89000880480000188144830E82A080100080085089100140908038879010A0210");
+    testSerialization(
+        0x282BE21753FD8812L,
+        "023F3D462FF5D71C5F473FEFECCE519F2A798B0102B20A1AD4001348820800821887000A72CCF12402C2C4040221989098A811810F461169233104310306D85488482880C00492106003982002060414431C00804C00085128B22E1060090940800000012108A20114A694A148201C5059D0038100023D035000280A0C009830040105622600082264411467CA0400402404802040648CDC324410018042082008680144042548108898A1081010441080000A40089016280009A00053002002A80400200121004002110024A0A0480848440829011684080201");
+    testSerialization(
+        0x8DA4658F613BA6A7L,
+        "023F3DB3FA3DB3FF15163FEFE466BD2F4BD33902BE021298A87601000064251008044054024C80810AAA0440212230100680640080A482900008000802092020488A2089CC010800000060");
+    testSerialization(
+        0x39F0F2E09BA26805L,
+        "023F3D50F71402A8CDAB3FEF84A3A46E3B176902EE071AC39254A38000610E22C4080851A8042D4D4789010E50191100801020013C8810000126140A1C4C00C9C5005A0592182F0009240003098110040248500888002858C440148212200560000280BA4012900080010B0080000200002114084C400241010C8000100044220011008100201010460040028600001148004000650140C412183102300848420C066112");
+    testSerialization(
+        0xE10E043370F4CE5FL,
+        "023F3D871A1F6CC1D8143FEFF5B8018857876402F20C1ACD8C75C18C6121000A230210510644D0C30D0ACA9DD2016505D1A0B3CE003490211540401AB2C101824924E420001848A21018101301869180850144308760088800841512058B10AF1C0C241584000242C100504800801801A800A002020940009060030009020008C0010501009200CAB0002380080014800026A28290051409002200D840104000283086042100A40220900204B00A80224A1002000204044C0000000800401800905A90809200A0940100119400000022042010002E82884004C004A24312414202E28400002C0804120200014040000040048001000000041218");
+    testSerialization(
+        0xE3EF8013856FC40CL,
+        "023F3CAA57A57F4294103FEFB71B03C51B953C02860B1AD11818631410008A30450A10700020C400C400000581508036402D3101A4104D201688140082100047621905020D0080020200424040082006080848610102188000201000300403080A0046220810A1202040010082282052200080051A0694000500024120500026000100222008640211000C200010019440000600880800000A004900083A0028000140188101200002000200900200002000201285000084800240");
+    testSerialization(
+        0x10155B096E22E7F7L,
+        "023F3D839553FA4BD6D23FEF8C40AE4DA1DD4502F6081EF14387060028B1828281040020306E82CF1383C92A120020D1889098A0D0080180C0008000084016410050110006C80294C00C04100A40048A003400204460204408D9500101840020004720200241500094050801D09804200240B0180140400B28084041020140000A0C300100080800130006C000004002005080000031008020120810800051220900A220200400044000000080010020100001000240040801300008450401C0B00420260040");
+    testSerialization(
+        0xB06FA4F0D3AFE2D3L,
+        "023F3CEAA51C530E57D73FEFDD4997CE8AFB3002F20616BF51043084F81A0440801000597484C01001420400080001080080302904A44108460084984001004010510020A0A200064100300009000240010828804018114444200080A5010200CB000A41410201212204400084041110020020800400408C01020000801448008040040005480001001008");
+    testSerialization(
+        0x98DABB1C64AA2138L,
+        "02BF3E56F38D31A3DA0E3FEFBB39D4F187D411024A1EF24382004800B0A04885020008704C32881F008021A22A");
+    testSerialization(
+        0x662426BD0482CB44L,
+        "023F3CEA3D3A782F27113FEFD307BD12EBF3BC0102AA0E16BE673404088009422111F05A099710B8C4306608D1A1280088902842B2080000410240382422080000024330CEAA04880642100118B0A32516490080C440C002010C009802009341A08100C0414C2B9001980426802008C408004120001081208C03059200010808620000241209694011002D008422801006A5A420200240A5189404400080022000010045004B8A0A0004100184004003000421014904440003220240CA1280C0802210000488432E1008280000003488009842A40820011080020000941A0888030000001484012288840021003000822440C0010400228040422C900000204A43000440400060290810980405040002001994022C2081000200110A00000120CA420829810912");
+    testSerialization(
+        0xD49604A4E3AF5C6AL,
+        "023F3DBD6161DBA7CCF33FEFD83F995CD4BB6F02F2071273B04EB708C890540864080854C046009002492003989836000510018506124180C01C84C400004800B0D0A4100A223C002001404400190935022081008A4A08A894000004602420B081060C10100000DB03040230040210400400600980110181202400282420010C02A214405012008E0082058802103400A81003002900031C0021440030048A0810006002180200100000010180");
+    testSerialization(
+        0x1D73B2634C39403EL,
+        "023F3E12CB2B30DFCDF83FEFEBEC7B777B775A02900F1AD1361C488210209800C0820010814010C584204489B89105111801B042020221000521068481044844020C0000001D40A0C80024130512100081006000530002E148641140413D80290AA000080014A00009088844C0019100C0000A4411244426C80C02200002400122213088200C1201134008C000020000011202810002001140202211080400400D01200A8404202000B8C00000408000090402630400042012280021544080022060000012C1304C40480352001002012100040009100002421184040004002240038C0400400E000004C081480000889010040040000049041440088488318144281480401131C282");
+    testSerialization(
+        0x894FB150A04BE81CL,
+        "023F3DDB205920EC420E3FEF5802D8BC1FDA2B02FA021EF787243014B0104084050E040800F14CE808044000008A103A04820380001130094C420804170154A8C8C182801094165B510052008082CD81087420CC042D118000001009022321C004");
+    testSerialization(
+        0x2A2E37A33A8F339DL,
+        "023F3DB0A2D87846755D3FEFFF7DF1B9F33ECF0102B4031AC74728869088A18821021C2294621044158D0134B220824393101A09AE1B01311128C81404B864A5000042840400E02C011C2104593802930C304C1131081146022102641201049450CC124010B2880A00089048A8A290003301E60641640648400480A012810208");
+    testSerialization(
+        0x412B63228C0D97D9L,
+        "023F3DBD90AB543BD8223FEFC8AC69940AFDCB010288011EFB861E1A151141C04197302429203085D8009DB59456DA2819317B10000C50D1840338823009110826170020");
+    testSerialization(
+        0xE4534EB1558EA880L,
+        "023F3E0AFA6C1FABBEC93FEFD7E40A0254DA1302D60A1AD71220800610410418A000300D018000B9112982400C86198021C112108412208A8250101128E0200212410410427000060840808004A08430000040002082280086050150108420080A0020001020050402009016924004920000205004004000400001000010202400200003048281000010920200040040100202060080812010140300008008000009C401180020006608088010");
+    testSerialization(
+        0x22D471EDCC01F620L,
+        "023F3EB0065044B6F6D23FEF8130D78D31820F800E0210E402C098030020CC190120A40040888202424408821182184108C1022044108E11420C4790015A428420801302184E88410C220400851082084C08E11222C408B815421C5A88E104200538821142F84089B112220408811102404288D10838C4D880");
+    testSerialization(
+        0x1810596A0C2284F9L,
+        "023F3D7E17DCC9C0F89B3FEFDE68022A9FD02A02A2071EF04320101060932141000004302152215512CC4D00900200AD090013019201A49C0460C55A20B262D83008030032184480000E104239100011408D00220A01079480A0E3254005042409042820C04010200480480A02429105604208383A0CC040050000090242280224060501025000C000000010200900C215120000408004000802040010804010A023004860");
+    testSerialization(
+        0x55EA875E6EE39C26L,
+        "023F3C3384F8524821573FEFB5DCBCDED37E7802E20D1EE26395068138300042833208281094E021467200C048A224899E5320944908B0D81920132146190180B9010085F142215910088261901300824040912060B20088128030080C0442D08004C5821B082508093001000430000426234040D31C015940045010B180030480E800203140400008890810840100400208301004500004061044000801405E2011420480010808402A081008000006011821002020040C80140A10228081028040126000880204060420400500902482010A20810821100240240C1210004104498401000420020840002000C8203100209001000448002008900080000C004940042B008808000040AE00220084141428080004404408028180");
+    testSerialization(
+        0xFDA91F81674F3233L,
+        "023F3D007F6C3E2501373FEFCD2C7FF491568A0102D80D1AC1BB42CAAA10A006006292011240A920C4148480520182A8001080899E3443289041C8160B14004811C0CC04005920209A0D0C91090202804084128002061424C2A40009020000090040028121002D0B368004000000528640000012803806820011202246302602880C0101850B0021422050513114821000009002001018840200200202C400000038040800000815210A0001A4000C5945D0020000A511401351000060820401465949504800880301100102010808940C82882494100100D0028040014000208006001542000000206060000400100020540E0C8001020824090500008120211350000200428030050010300008");
+    testSerialization(
+        0x99FB91542B2EF76CL,
+        "02FF3D5648C0BCF454993FEFEBE8F062981BCF031302621AC9A8725D1A08C0840008A0A814831CC420B6FA594E141F42102210880502180084096049");
+    testSerialization(
+        0x4850117266C0D41FL,
+        "023F3D78328AEDA89CF73FEFC9E5A314E6016C02CC041AC142C9A08E00838000458240F421380000849652002202600A801918309000B10960845003A92002002222262000D0418113019050C8D2A0AB00080A0280034A31289A0C000104404205201A2280200610419640042811209088418440584004001000520010211048C88AA8082400002086");
+    testSerialization(
+        0x4C84FDEEB5B71336L,
+        "023F3D98A30EFE8A9BE93FEFD72AEAA8F5D5A90102D0081AD39218C48430068E382288085085646700448400526B1B888C88320810348104345850E40CB80144C0E9300000205808010082244A0381C50360C4414000802D1601005801018000202A10443421000000210420100000C044E0084000E0001000080880052B0212490100006182402286802D404024804001298A000230202002000406200018000082C020801A5006510A00800B04C408040200600400800080080042000128008100980842199C800400548C10410650200209510C1401456080");
+    testSerialization(
+        0x5B65923AC30EC1F4L,
+        "023F3DE382906330D4203FEEC072A8453F2E2F028E0216B42147028C0800D03084AC1709340400050420402A22000280860B2000007012B044914410A8010802844881412040");
+    testSerialization(
+        0x001FCE785E79EACCL,
+        "023F3DBA681AD4834F473FEF81F28E4DC491850102B4021EF7D001202C3070004908265C288074741052008C63108A2082181048A8CA910C023450240E5032A6B9408E087808C2210B3044002100112004188009932405012A2448659A034080812C35020610");
+    testSerialization(
+        0xE7035AADBA840AF9L,
+        "023F3D1155133C8E66063FEFFB839C7C18859B01048E081AC0EE3882000902B41928061030D8CC4002508440823884280009A0241042200124071A2212280000000808005022C401000920501824264304AA0421031020010101386010018000000C0200111449010304A069241870600442A11008C22408000C82582080400898421101834248020E0227F20886082080041046000000011000980020441C001000009001104440418000042081020012001481020C0CC030100100800A2122046481204884");
+    testSerialization(
+        0xEF062CFB5D3A3FA4L,
+        "023F3D927B102B606B363FEFB6726FFE8E5F4C02C00416A30C10158CA1100425082C804C2008100D801223235E44A00D0C10564000985340030A040048D0004004568840200AD10054C0480602004A14000041908C040000003000A18000041302C684C020100A2402002000262400040414");
+    testSerialization(
+        0x91CF003DC64D2047L,
+        "02FF3D54C368093894D33FEFF3E3BB716BF17F0202F0021EEAFD9792682090408683040058D0B44018325004D61041131A91470C400280012840A240773818204213930A1100824080321C850C4728028D8441024412D891920840C0030152130C008268D0C7E0104B6C20010808080D810104814009218110");
+    testSerialization(
+        0x6A6BBAE4C69F0558L,
+        "023F3DF439A887F282F63FEFC13BD54B23294002F8021AD4844842800841040801860852CC040C00088045C54301A400B1110C064100849820E19AA024018110846028220010590062920200A4022981060509200001023440001044");
+    testSerialization(
+        0xBC83EBE6CD2818D8L,
+        "023F3DA93F9997AB4C293FEF95F2C2E90890B90102C80D1ACE84E2E78502880238030018B0D0CA1005C5005C0D9204142DF825425180250320650306710420C40630C984801220A621040101999008181B40208E00340B6080810BB0482C940500C068012890852232401087000096002001890C128700045919010108030043A1108804320A4420C2A269020405D5D2040080C322A21729000210C8D1080040810010900002820148041042202422090204000120B08208B00806000500022802426A901A840302000001024308028028006540410014E010242080001208004383081022300800104886202228500A414128C08080A14001008210488800000010098084020402450220048804002001008800503008020008008410208002900021011010");
+    testSerialization(
+        0xC3A32910D5AEAA2DL,
+        "02BF3E02471C73F725E83FEFF326D3037940E90102CC011AC30A28416650098818A788A01406C082018805080420022118298D91A02212C01144306991202106A7C0015B20C4C420020AE200144180");
+    testSerialization(
+        0x2F124B01D8C37FF7L,
+        "02BF3D62266BD5625EEC3FEFFED07CCFECCEED0102F4021AD4EC08770639CE8029E49648B4C108401180120888638E80080A00090C4220500141310A911133101147484C2652016AC507110A0C24194410104420A4018304001305600064134005AA010C1250431110C184610080420CB251A08580");
+    testSerialization(
+        0x89908FB20936C74FL,
+        "020F3F2CE95A9C49D22F3FE4438A8F4C6A9DE0070408E81812290CA545A495A966D281EECC45A0");
+    testSerialization(
+        0x30307ACE765D040BL, "021F3DFE249F427BD4023FBEC674785904AF92010604B1CD0697E9");
+    testSerialization(
+        0x2EFC3E93492E7D12L,
+        "023F3E54D309E6879D083FEF8DCB54B150141202D80216AE249233040300820088AA04B10C414AB010002148100003609481800100100080804246040A105830220208042100009008");
+    testSerialization(
+        0xB5AF6D95D72949EAL,
+        "023F3CE6395AD1D4BCFA3FEFC32807D4604A45028E0716A6C0CEE015A0400C12000C628B20860161F0000C00C4882101000206991012414000E014800340801034392082051021446004480220010800806100A00E244018000410A80008804065C056000008018002444200080A10600001000030082000000084000A4020810400121004000080202445020102000024108205A088");
+    testSerialization(
+        0x9217FA5EC037ABE8L,
+        "023F3DD44A6AB568DA823FEF9EAA13A52C567302C2041AC9B330400C08038E18608048B0F004888A5E84C01D2AEEC1A5B849081418A00482220182C82096DB2042182018002892030D44290102436082020040C80C4021003001014842A884271149101486080004B1000000180080402088524A818040481088082810130010C0");
+    testSerialization(
+        0xA27CA1090743F1BDL,
+        "023F3E320A6EC67B47863FEF4F7D2575736747022A1AD7F822618608638A08068A00B04710C0");
+    testSerialization(
+        0x9E58D128E268BC60L,
+        "023F3CAE95FA3D55A6383FEF8390E0B3440F4B02EE0A16A4162E9194C2008640104C9A4400528729100018213A100020C31006008032820400A044B54414C80B482A44024204438408002C80002084108524088004320100160010840A8400008480000110002810124059000134014C000002800800CA182004109000930008040CDB012202280A2840001008CA081400022110900008400882010020280004006480E0A080000800480050000004110001380004800490011120");
+    testSerialization(
+        0x331F5FF8D2F1CCCAL,
+        "023F3ECBE72ED9DC46B53FEC0F363872D33F00BE030208D0483008A8EAC8A88968088AA9886AEBC9CD08");
+    testSerialization(0x1318B39F628757D7L, "02023F788800CF3A9602");
+    testSerialization(
+        0xF1EEDCE334401C5EL, "02FF3DC19D71F9990E623FEF884B7177EA97AF021202141DF13F95860126325848");
+    testSerialization(
+        0x10448C3A57DDD877L,
+        "023F3DD62424EF61F9CD3FEFB9ABE847D4BB8B0102F60216B284DA170B40200C228D14829A9A078864404A808A1200A0881CA8B01042A2610040100032674B2000016AB2C961121B4142A511B089112801191A5481564160A4911096280C0045250450418019097020622301D040");
+    testSerialization(
+        0xC6220951FB35D453L,
+        "023F3D9475C34E4DAD643FEFE4843B3855DFD30102F8051EE5CBC2080C286160110304340000B118472882CC00789600C1E9A203C8899131902A908812A6C164F4180020C9B02A188090182C1040C5001C11011B20100004236016005004202C2110140084018001200841882004441496116C925C0812D1100800259614020100832400181150036802000624400850049011004000002600451006418010806094980151411C000000449402861003");
+    testSerialization(
+        0xA492FA1749559626L,
+        "023F3D78C0C0303730303FEFD9E4B034C9E77E02C80C1AD07E41C3B268008200450221319CB808C84E018C0DBA8284FD113840280002200101317680602400800118084000004A4951148120800340608824000160831308A24009055040D51AAA2A00340026900120A4006010128130120014078009CA400105036880000204400E008820800801200000E0241010C04580008A208100842092080039290F0C588A4A82080460CC410020084016E1860801825404808090A002D00F002002100C0084500002290760210008B10010802600A400002080C02004010040508800420A1800110242120A0424700980000000042420100851C4200201808508000B490C49A1404001020884E00088");
+    testSerialization(
+        0xC16C742D1CC888F8L,
+        "023F3D64F3EFE69F9F413FEFC5C80088C7768B0102F0091AD43AAB828E1AE10C40858081318CDC425C4C0DC8020988088813089A954F23344616105104398A26664402282840D12086880214990044044CC6025EC108104B24D04A08F0829771821800202825380F64220008920AC1008400400C086C045800184801000A4095824444B286B0E93515622102182840304020842100B4820340049402C0EC1001A28222C0484400220008811001118040042205249C080400A8081248725420022601602134E886180948040200983014001D804284012101080071E9");
+    testSerialization(
+        0x4EE6BE96E6483C3BL,
+        "027F3D6A029BDC7E03493FEFED57EA4A1017950102E0061AD1EE72620480C7882B628050500D0A8490D804C1820008101F00B71912B847C0048D66380282A4302402C000C000A0001806DB00925118820A0340508264100D2014402C28812002002588000184142CB7C94002C86496184A068020249C8303901820A04A1080022046071A520882418C80100000183102802188285491008402882032D02C00008036908008C00201008000408244202C8240012088810000228480");
+    testSerialization(
+        0xD8C4CBBB86AF34BDL,
+        "023F3D45AF6010DEF2C13FEFF7C43DFC87F9FE0102BC0B1EF1C2061A4C2130608081123C68204CC21D1880D209920A1D17877038F00D201905360144610020F4E0B000402010582004014856432C90120100F8648048A020040C000000C29005308A0214B6C900B4888805CB480222C9081209808010480C230252042384402069852E001204008801228B681128081010141C2802288442440819049200C880020114024A5A08A84085002100C80B00A110202044A2084820480010000BA0811260409008000AD034801480C8320020802001048098A882800509101008022182081400804080A010045400E14010200300004101");
+    testSerialization(
+        0xC23FE6E086E66126L,
+        "023F3D499E93D8C453BD3FEF9A2B01FDC9967A02B6031AD7B669EB8A08C30E01628C30B04998C985CC8380999222EEC0628032294D054904A46C010144F20400886024193084C0000603010082C09088404420808F04002902080D80600410202028812151442AA8D028E840020420");
+    testSerialization(
+        0x593573115D89D57DL,
+        "023F3D69892C5503431B3FEFF086B20E364DA00102E6041AD0030A6016A0460059400A30D34C471816CC0C529284001A6026002200402041074200554340090888B02E604048260120400001C08159C89A20065020C04B840E530010017C2A490000410C13C004828321801942020140302000800004B400002182B00000005A460010690482600410092314C84511009122AA380120C0");
+    testSerialization(
+        0xEAE4B6CA31A0B512L,
+        "023F3DDDAE7B121F3DDE3FEFB3F8517202F35E02920F16AF5A0682A13B08040004AC26804889C121B411C30040002420662AD6012987410400C00C200114A096023A0203000609041848480004200CB204000040010E8805A8A200100004AA080120AC0C4001100028044212011000403002210C00310C804021242002402041410C12A0004001922A018281080240203800084003100112080A04A00240401388204388160802080101003020841241029A0002A130000023340840800D401220580400480018000950001020890090020400408002525C08201101004000000044424088501000220410800080000880418002408210000802000000C000210000008201");
+    testSerialization(
+        0x1303E0C57B6E8645L,
+        "023F3D9741F2E6DDE6FA3FEF7BC61FCD8B101F84080810CA0202211050188020882200822018620888208942090221084218822089442896210822108C210842388E288862688C200862C080261A42491C27098210883A888400802108A2A0A6450A04508A2C88A2C080");
+    testSerialization(
+        0xA7CE5911A9CB5E60L,
+        "023F3D6939F46DD29B5D3FEF5EE11B1338A42902840A128D20E000008020802E120400824221D001400000042C001260028000C0210004009056008010C10040408C084044044880049088025020800046081068A0800180402020884000A04080201A62020010100000100100082004008008111002A0404010900022C00040000100058230120810084041200044");
+    testSerialization(
+        0xAC52A06A93326442L,
+        "023F3D51BFAB5237B9C13FEFEF2B2B6DB0635402920B1EF24A1B18300010004702120C002154D820C06488251004008D920008328830D9080330406080470888088042450000CAE000850131D21902164184018300200124034068020100000509C5400021041684A63001C112180C160544109820808960A04013C1300A0B00800020440146A014A82D1102048600250020A830251012040408100008C0204448009251021202C2C500420042A900A004850122088240128C0460012A2243C21808800000420B010100050000448020000820040449100A8008204001C002800A901140211420082001021020002082A9242080000251");
+    testSerialization(
+        0x1CFA401114D214FEL,
+        "023F3D13C51C3969F43B3FEE79D7C5DFE1A51002AC040ED4413200080270522080008319055009425131402182010400100804220110204200108C041001300042000440910424802040001040");
+    testSerialization(
+        0x657C7EDD5A6A2D11L,
+        "023F3D8BB3E27B48E38B3FEF709ADD6D6B542302AA07129B82402A64E008A66D9AA94C31150592E220810100104044100008209500005094000100020800010922440940002058A03012240365A0428009000A800001000840080000800494008404288800800600100A0010410020000500410008006004208000104A");
+    testSerialization(
+        0x74F7DFC8AD75E5BEL,
+        "023F3BF97CABCCBECD213FEF5EFF205136652502940C0EE29A80FA0004605D14810D3000585010030408080402108001801012CC0C8000009000824044108080000080200030000565854219C80000200000128305000100A140021100094A00000198406300122804100100804101900984080902211002018001042400400098008401010202162004008100804290180004820100084110");
+    testSerialization(
+        0xB93BD966433A5EB5L,
+        "023F3DD074177F07A96C3FEFE6A881C8707A6F02C80916A550053E88680A46140CB0D010848408942941B1000680222020C814146643200A012490CB80908081105822A4400802C33080400000084220C00409504242C1081010082000D50206480010024008840230000C24020430441140B8000208014205410342202011820211005290520260004221010200480140020809100010C0082800100000908400001038000A810010208D080000120088002441000A0200C2800251001210");
+    testSerialization(
+        0x395ABF3428C5EF4DL,
+        "023F3D02D4A9B33987733FEFE04CA84F8272DA0102880A1AD39698839010A28419C50AA8356133E0259D2A61C80029C23A005819A4434015051112392116022612420480F860804004901B4068C100028A50441E7661004A6056124CA21940B06A4588B000124000B00266800060168230C2080006E060000328108802830438000482826428002402402A14004001002180012070800004800688A2865838889980808100001231000148420C80000C0108008001011060288120442000441C82810060528C1C220000000D5004002088814004252AAE5004241028030400C00000A00181511400200092000050204420");
+    testSerialization(
+        0x3A7C844C5ED8C333L,
+        "023F3E56FB682C4697CB3FEFDEE31F3E1BA30782090210D41900A218260180A0880400888088A2008020080408826308222A064188223902230882088621884200842409C4288C248822508A218B2248A22088C2D88C258802688C2F8882608C2311C268882008A268902409C3208022898240A8260A42");
+    testSerialization(
+        0xC6A32156C0E52C52L,
+        "023F3CE00C89EB21C0EA3FEF50F67A02FE772E02980A1284E8083002060024090463A45128034081A5D401C0454002200481150408101A0002020500400940800184072005201800801010122404404149401100D02002080210004510000002191103000041800808018280040020800118000200028000043100408000004480409001129002040080140000802002");
+    testSerialization(
+        0x811E01F4016F91F7L,
+        "023F3D0093ED3965FA7E3FEFEECF881439A6970102BE081AC4E336868E11A09C2984067010427454D014C54109A4702110185C430110214722210096800A804609C708C0440950028810D80843000C22830142401422166088094502028409850006800830A0A000194D264000D0000484C9210060049010804268023490060848022080E89441012586212402080512045602088000260081800025102C009D032010422A84405406C239283910001100802108A34A00000402901080890401000DA20B200000228000488200004C400924000120");
+    testSerialization(
+        0x5FD205755DC324CFL,
+        "027F3D17D905E937875B3FEFFD6421A33507C30102D20D1AC1B03B850329228820A18400104CFF140D5440105E3803800540BB900A3618019A4B30B64F3446080C070029009000080400181D824904E0C32B02012009805A204804292127400186932091404130018002000486080080040000882A020110284840430088010480894080608009002C154120842208A61400808210128050210010010900BA440910204EA3020269211002010214100012C102140051181000004002811E000140508028080200004504108002A050524034880824889009040111002A000202104D50208008300000008000A04440023361408210044008108150024220200248100020009AC8118084032000008000C800084C");
+    testSerialization(
+        0x8B8E6CB9D7A25C5EL,
+        "023F3D86A8162E6E25FB3FEFE1FA777907D84E02B4071AD96A3C4006A04A0AB86088011394CC100191488D95E4518C100518B000468C430106084400818F2124408004C0000404190100200C8B8B18008A65000862AA182100004801111C2D820A04030000B800203044400431039444B54508109A8000106092428014050041220C0008043011C9800100000400308020420104048A640D80C420100000021804040004084A0317000404600104800A22230220400402001020D0006041");
+    testSerialization(
+        0x6A393C91B09A4F24L,
+        "023F3C23B70559B07BC03FEFF545DB1875FF4B02AA061AD168D1248A29A104B040062014686B06454C240002E005806160804860B1A1418844300408AA8040C950004065305A20041020102302820144021040020CA888288890090AC281C6300200004A80066000900020944024140580518182387402100400880800050481820200000014300102808041040000468489008202101022042B540000000000400010000846");
+    testSerialization(
+        0x2419D24941D2879EL,
+        "023F3DEAC524823F54193FED16B127FA39C0029E060408E80C0A0700874121619038320E008E43D4D0E9E4123928B04620D50B44");
+    testSerialization(
+        0xCB11D3D322378C3FL,
+        "023F3D2E58EA8C871A6D3FEF72B801F64E252A02B60B1EF081821630301003C481060000100E2C48068080262820113508109010300088800D00042618A020C980124000805000202C829408804062000000004A2948400055020020052080400002080080010A00083011280135B8252414C405A00900000208004CE61000020849018122000A00004040800211836440000400420010029000810460045185000100001402020100800400800C890140014801000004002885000241004218");
+    testSerialization(
+        0x89A0D947E7359BA9L,
+        "027F3D6FF9E861E5845D3FEFF76152AB7286970102FA021EE398063C021A1365C700240C4801D872030018020450C16442830684170A0A609401018011519C0108C471044620C93661F414572B031542584468044800E00802E9998008080360000822A0916013002080045051141044464800C194214D043825B0D2648C8520");
+    testSerialization(
+        0x9AC235AF1B306EE2L,
+        "023F3DBFDAF321BFD2873FEFB972DDDB40ED830102E00A1EEF6A17049020630601060C0028F1701506C00C92542549850A780FE20C40321113505010382814002A0A02602265041488948540086C6001A00090068A089AB4409CFA6080830480444888402021086222003008280421200906226200004008028440A0101011188AB31494182D1289641040A0040026512180000000082A2425142504801208008404080C108004200300100000080020502840E04021200800182000300423A8388180400008314104904000B2200942010000A440A1080414C428422840812000150988024408118020056440010290202080");
+    testSerialization(
+        0xDB17FBEA36289AD2L,
+        "023F3D103CF8A5F421013FEFAD0181942541B701029A081ACD2418D74225A12E08C1A648932CA810210980809E09003C0888481D193410500A53644840064024400007010068400048085088186082816202A34124690094416214312002000D642500024025703E135332004400010046002400910E1485801208990480280BA64A204411454C40F6048E82000430400143486012284054610608101000082090008434528822ABC30008092C90084480A4002849040C0140890400210010300488080242D000002050001920000800180280200900750040003080");
+    testSerialization(
+        0x5EDE9C17DEDAFD6BL,
+        "023F3D424E11E244CBB83FEFF38CBD1D40C73602EA01129820A4400062C022E81F04651D8051400A0000B01004918802040A8C8A008020000013000000622040");
+    testSerialization(
+        0xEF0CD7B4E4EC0DE6L,
+        "023F3DD0B4EAF32298BF3FEFA769E6B04D3A3702820A128D82042C700408006CB2912722084994004401D000B201003649A0050009421A4142100A000402305400C04024822208304800010180000011A212A01C80008C000C00020081500042000024040308E0009070E4018088004F4010800810002006040405002100001000A24002801080000D088942C8210800814014004404020000082A11400830");
+    testSerialization(0xA4B32CC50529EC8AL, "02073F82AC705754AE613FAA9660AE8AB7F70E");
+    testSerialization(
+        0x3729E60466E76C72L,
+        "023F3D886ADE1E43352D3FEF9196E469DE764302920D1ACC3C20A26080CC10A0020229CC2C6029160101B2C05022922AC8001401021300044649291020840098B45409102142990348044600020860818028200808110D01110805026330040020001003A0008CD80882080EE220441160608040000A5808001C05410044000020140131024A44420910000060010C40400200128820C010610800824021851210142800E0008C10005010000620210446224028000C808100008120141174060002104100081009080004020080301000920080A01040011800000000014112024240400820808010080201");
+    testSerialization(
+        0xBC1B968695DFD347L,
+        "023F3D61AEE28525B3AC3FEFE7215C18274BBE0102B0081AC52E0C418632E9A210210808F535094230004118800402048989080081AA8036110C061015988404242057228020C818B2020C101A09045225F6134400C030108065943204220828503240110006208021006550D62160840024749525504012E32820AA0014061140B287B088004815098200402438042286104D0401D0CA1A61001204212902145041895040000408244401410001A000228000041410A82000880300030B02023510000044C080020604");
+    testSerialization(
+        0x1208879D7D4BDE63L,
+        "023F3DA5B577048D135C3FEF5EF5BB1A79D65502A8091AD01618C88670018410030E284C9010518200FA1841F00080818800B4142812222416C628900900A0D10480010508210181800100004112215C404068900B24404209008509010080006420400304841B000020A50050120CE0420690200742C21021041301024120202028400014A492000460909884020801000030002A00002020801810A80423000482A0000100518008000108A4428A0040044000C420900384000400005C");
+    testSerialization(
+        0x8ECCC08B8C8DDEFAL,
+        "023F3DF4B9641FB0A2A43FEFD884199BE5CC34028E081AD68019E10098269A1022801011720841880C4C8B85A4010C422000B2530026216E07400E00400800C8AC0008049216A0921293002080000140588BA0000A1C00100500282A1024008851240090A2688159500408300A1085000040000100083040605900000E01A0040180520A1249E010002440095008400C1000050840888A318001B008200402004A2050018840D210020010500080");
+    testSerialization(
+        0x61D1B6BFDA572C2DL,
+        "023F3D573A69CA98025F3FEFDFF4C5CD4497940102BA091AC1F2A82CB8616384098084895049082091C50C038A88F90804202440288812B65810A0501128CA402E2322240422E041800404301806C08240130310824D0880127482026400410809B2044190408C00002432080810040026010300426800C9011648A0801DA910002002030808082864014004AA044C166800004005408008093001000100A0240029402084201504508812080212104700409325020803081420A11127101064431200C000040000815182B2090211120028400030040800701804856120021525160000D001088080012010");
+    testSerialization(
+        0x2E5BFE8AE0BFC011L,
+        "023F3DDAE3E40F98BE703FEF7415C1E0AD86180286081286C606E2020010602554A10060030430008010010084000802126002080801008205101100002040104843020049000E0001280020A22410110201080014000048000802010440200041000004021002220002402081020024");
+    testSerialization(
+        0xBB93B47E50DA3162L,
+        "023F3D9F3D8A3959A0FC3FEFE083D08E10926402D60E16AD0A119B02690848429052451544018058008111392189380B1480802D0582000084B509500910208180034C00D8460202408810018BC50349809C102116091104000400E052101E0006000100121400044D300E46501088142004000D1200028300105108008A01210000200444C501100000201035041A2000004C100C0081005228C308118020010322000020111A0414001000004A008820024400800140000042258101800010020120020900460808080909202454460441200080041008042001020040C010400000020011040204001081B0");
+    testSerialization(
+        0x4DC253BA47FE4964L,
+        "027F3D94324466CD5DFA3FEFF8C18911B7BE8601028E0916A1DDC0220C44918A648CECD5F21AA7C352008009022F988800C00254563009210418820222A0001082C3084008800146000C900183400B0442102412526498434482506801348D4124220010A9118020A6002800429810847000601384282042C02005006000000090210A47C030011214298AA7001011140400020882140D0012008400024940000040800124880F110040A044108014000044228010201C1021002002104161004800800308024001050000000C200C8008140210");
+    testSerialization(
+        0x214619698F00FB1AL,
+        "023F3E58A74FC04B29153FEFD3CA2D00F3B21902A8080ECBA5C44008803800000001008D0210210000A6800104109040C000105C44100104816608A8001040040111022804240140001086040801080040081200048001200000404010001402012002440011");
+    testSerialization(
+        0x7065DE8FD6721979L,
+        "023F3E87C610156606F93FEFAA05982BA1B91802C80216B63A06008825304602008D2100001200050008802328112400450018A880821000111000821842009421305000060029060404010100");
+    testSerialization(
+        0x319C324C72C708C9L,
+        "023F3C75BE865DB204313FEFE3981A35A0BAA10102EC081AC9D810200C11030658E39A08CD11C82F824A26190AB010894A0008BC082580000016C10204832580C00010654100601009080480101803000402500051651680002A000804091441900008140002340842A2080144B0A02300C84082210490908002622280C9004B4040008B081018005100088904A0004A4034882822188000C50508F0914100240088005020050260A080150C2318109A0544451200207001043020206860905100840E25F1");
+    testSerialization(
+        0x5EF5BBC18466CF1DL,
+        "023F3DBAB9518D45FC253FEFCC35DD6F3C7CCA0102BE0A1AC18A064908120690080392696F39097152C4CE3400001501180A18304A8CA0022406882414D72D110000090074400C405009404002B1CC462058408D200D02106482A809841000000A11341022820024846A0CA0428259501810B0300AA400001212814330105A8B02318CD0000012012108C0202021008200142B8318A080114CD1100294A8AA41200048601E00201200085004024120000084A42152400400AE0000A40101805A00101010040281C0001432044880040010980F2008401044260408008101148048006A44502004250D0810000950");
+    testSerialization(
+        0xF1CAE3B64977EEC5L,
+        "02FF3D94643A421F35193FEFEAF7E11BFD52B302000296011EF151300458180147851516386020B628025C4404820802A29E8944199A44644600C240C003EA30320030050840604407C6E0");
+    testSerialization(
+        0x6FF929D26A842420L,
+        "023F3D82B8FE2EBC74ED3FEFEB76562E76F44D049007128C03BB1820A400840F80481D934A1508108220AC10041412C9A2D9248640005010200146A2200106004208C00044410140001009A60400840219044440082AAA44450002200208600100410820084824024040020420880445040C2481380C40004000890000C04090041805040250");
+    testSerialization(
+        0xE8BAB64CEF650D0EL,
+        "023F3D9493C016314DE33FEF567A20CEAF663502940C16B1603E3204C4208205882946F0350249A81000010008013009029201001900004420020004206008510000826A20521084201325000104828400200800114200086C220A000A1206100028E805008910001000904062020048004D241A400020C02A20040008C000944464E002201058008804002018050804830002001860800200004080300084020080041120820400440088010A000000182008");
+    testSerialization(
+        0xA0FFF83DF2901695L,
+        "027F3CFC47BC42495EDC3FEFF14593A8BC556402B002228BF081405230B040E080B0105060B17004A70E918800751730503482300E1408C418C914201413903020101543070041522419312321D99264922C3192AC00C0619303AE0026864930F92032022483040E63");
+    testSerialization(
+        0xD0AE24DE4223D192L,
+        "023F3E10AD2936A11C953FEFE7C9749D05602F02D20D16B021C6408180890432840CCB89044008698340088001A02404038086500004000840CD20A8012000549D0108020084000030300460C90180000020008400420314800400D51002010002400240002400048000C01411044230008400334008010200000188310005162080821820830002602410001802010008200404004102000600020002400A01008030004A1400000082008200680811013040280004240100400000910082001060004824");
+    testSerialization(
+        0xBC60367453EEC23FL,
+        "023F3D8B93C81E3A41CE3FEF56F9314DEC192202AA021ADAAC09231C088200106180004E2608C126034D042006002700C980046F400A04C1008001028210204000320B000B056008000480504A2D");
+    testSerialization(
+        0x6D8046B801AFBC9DL,
+        "023F3DC341E372D68C5C3FEFE1CB7AE2CA4C3F02F40A128B246064420002280C00A005A4000502AD03043241001A01000421007020800001C8504898000101232157AA00000001000102422008420012020440014E01032000200402084003000024002120206080020C405200080429040008420000010002804010002284408100002008810140080081001021004814020000240042040000088008000088001804");
+    testSerialization(
+        0x26018251926C0991L,
+        "023F3DEE70E2DA8AD12B3FEFE008C9A843878001028E0316A64CA2E080280E88000031821C5D0909084D8E1498082822D80928BC4011242B8C06804158420C1AC185021B25081086DAC04365100001122052808E3047008993400A02D934304D2004080006210010");
+    testSerialization(
+        0x1A68BE3A035B5707L,
+        "023F3E90BFEEE1F64E503FEB32A7F708BE0107B40A040CE404008020081104801068090CC69065090642102501084191E4210C461004290A461FA5F1026C9746493E459124");
+    testSerialization(
+        0x242AE4893B70B22EL,
+        "023F3CC57184577E44F23FEFEDD45880CE587E02B20E1AD80E79220220AB02000104687204905D14E104434DB26024020368BCCB0610070186202922090486E0004298149010688020030400A82C00004804010808814220C12A610A542405564404D02A0A28C0060000200258A412400010430880020428014000018804606510029A00B00800000400040100881080122000101200000340000400220842201000C800000800A268225000040408001000849000010C10020011000804A000E005100302400284041002104C4022204A012000080000610101002201200405008640000800200050A00A104112000500054000080012018200024010090C020030000D20400402");
+    testSerialization(
+        0xB99C78CBC599A070L,
+        "023F3D953E484CEE0DD03FEF0E1E183C7C991602C60C16AEA1820795853804108C4C8261440000456120B0282034400084001488E050885222AB002322000000000264102004804104C28520A000262031014004004108828000006848801058A00900C400890002400821400200024600608081010004050022000004030008088001100020C40500008070940002100040030A0A42000204802102060240880010823202204010080041402020080090");
+    testSerialization(
+        0xED8916B381E9A6E2L,
+        "023F3D1FD96DB833A03E3FEFDEB7A0F4AB239D0104A2071AD00A70841A19400220028CC0918064090C44C8015DD40D4413D03634400522B1098610408A4805828D410602188482C9E414024095040161022804920028D0F58C0100680AB0B002205201253508C0630080420600134900088A800204024808084008100048050201A02010882240D880200104102086400200024150488148028900C00001000040802004064056410000002008");
+    testSerialization(
+        0x37695A55E05CD381L,
+        "023F3E0EE85D96EF547E3FEFA7451C38C9126F02A80B16B90D6208100358003000106004404808000419DA8804261004305E40E05260161002A40060268C4D800D1320C9818364820120880962830004A00008418302212A240A02AD4114040480084106C1000800048250C083020933034040494888904010052A00E0002002501402C80292814600100020040180503138041000186A02414484080403082841040030400400050022008922000900C28382411112804000820401048024048B0000400C9000A000800002090044");
+    testSerialization(
+        0x5C6C9C4ED6632EE1L,
+        "023F3DA561A788CFD4FA3FEFCA0DB96E33D87D02C80B16AD2494008407408232100D032034100C699D4812C9016830991311800094020244C0C220425220821901004010144210646540641240E002010840880D0100808E08A4024300040800090050021000009083001142000000424002000D520000804101110021802300914004C2001A088098040210004210A102014021180008008048512020002C200041020220109418010D123802222920884000A1200854430408A0081000A200085710D000120009180120072511012002030010004409000000840150810980");
+    testSerialization(
+        0xCD463F48A9A8274EL,
+        "023F3C73E68B4E5615BA3FEFEE5788B7789E4002F8051AD4E45027AC02828238C40268704D484540A0F1D051921B62208326B00A14400124064D4986450006C9B006884509528810400B20524008021062A0282810CA08C08824550C184283A0020C4045090A08C0C0241AC2400018201021000402000464404C8A08200CD2C200000001080412923000040010E01502B282888088015408011A008001");
+    testSerialization(
+        0x24E864649FAFA6C7L,
+        "023F3D55B7783B5724663FEFBEAF983E3F0FF701029E021EE68080A44858108141034424480174A91C80000448005001A20C10500199108C03460320221100B0101804648A4108427082C040324100429E81761A49420B6560408DC658820122200A220066");
+    testSerialization(
+        0xBA69A8BAC9998133L,
+        "023F3DF1D7BCC63EE1C63FEFCDB93893709C2002AC011AD18008E6861840001061021010F24048084040044540900000300900020003148819810A810C");
+    testSerialization(
+        0x292BB3D3FB84FFD6L,
+        "023F3D6752655CF6E2843FEFEB84566C262B2C02CE021EF5C40A0408407000C10D101008007148041806E89C040590CB045204A0B40B81166905265103000028028400085010580082034102CD00DC017002090400010C30010CC400412892");
+    testSerialization(
+        0x32FBF0C6BD46A684L,
+        "02FF3CE41402F38B41003FEFEFA2C65361DFF901010288021AD607F96B9EE10504484294C034652C024327840408560225BC210962801906D1C8C018C830866220001640B089108880D25020C20094591003700D622A1D20331222");
+    testSerialization(
+        0xFFA0D42A285685CEL,
+        "023F3DA6D50F866321EA3FEE2A040817E8DB2B02B80116AD1886011C60000C83C030C4030004440100012D88A3E134464002412C06002603000000C020026124");
+    testSerialization(
+        0xF8EC28585E907988L,
+        "023F3E5DA786EABA01663FEF18C411EB6F661D860F0210E40CC0502100204449021002444288010021C400851164204208210426441102102224C4080122228400812002008109311C4C90688112221C4A091114208540881282244988B226238650891202084A09B10421C4E08512C3004A88B1022244F0891882");
+    testSerialization(
+        0x955D78582B84939BL,
+        "023F3D01D04B66D8606E3FEFCD2BC9AA3D127E02900C16AC086C31A406A916158C12C820304004483C263880985010801911B11B140000D967011802413082812062209D27B248000483A096000802084B52004088981140018040084250243000050204001452907200C02000001410CED022092050005080200908404201090C0000402102002416002A00000000C00000400003502004042A85801400410120800802000C01004060209CA002184060C0522028804100012832280608000100882840204800004403200002430010800420021204010036000900004241008423202160000545000000086100100000040155313020");
+    testSerialization(
+        0x7A8E5ECE174EC569L,
+        "023F3DF18080FB0FA8993FEEFA9902B503511A02FC0616B30288118041080030040F06102410110520B03840910094214A88208008001010000084014B902023240409048100002C400100020880400050000820110140240400104042002001000230040401014000000020000002");
+    testSerialization(
+        0x0BDE70207D0F01F9L,
+        "023F3D84A3722A13F6AA3FEF87FA758AF9056102A20916B410D010354D005C8008CE40C0AE96E1023008001898080A48BA212430000835AC608208910169001960000004500111644102208008405546412210A0032010400024C222240A6446161003808A1C018104412804400410B1008280011B10040AC00082800808000C80824110490C4000004086400882011485040402080841460880420450081030082C2000101000008022A005008002010460");
+    testSerialization(
+        0xF9D49516F6BCD773L,
+        "023F3DB2AF82785E5B543FEFEE22DA47F55049029E0F16A6F46C9205C81292030811424485D848CC04CD82C8440A0140403023100040211816202880006800911017D1980240C000080A401B8100490204002F00040010000143000C20300301124002060208100011829C000110590010015022432000880098402014083080010180005000512210014480000004840C1100092063040000000020402840008400211000022010048202788000000098000000008A0200012000240C050804848820C0040042020050008D808101002410088110000080022401010082C000A04000401400008001010020710800800440804003000244000A1411001C400002060500088100142034B0202008");
+    testSerialization(
+        0x5CA61D38ACE08DEAL,
+        "023F3E05A5916FA5ED793FEF0AABF7BDDE781602E8021ADA9A6961800241042021A200CCC820200E0829828000800E0CB04000320007074240144B6004812203111900144808500AB0007014531800808940020809032A088417");
+    testSerialization(
+        0x73ACEBD3D49D7857L,
+        "023F3DD2998A1B750F053FEFEA9D149A02436202BE041AD42B0C051480C29C6084301152400144D019804542041D008000008182C201110920217000041028888C95246090D02280891204830C896232440880180E104104004121B0060400014514902480100A82C484040004005B202000210182071612536013482412100C141800101560");
+    testSerialization(
+        0xF4721387D67A23C1L,
+        "023F3D711F58E65C77173FEFFBF939A5E99E7102C0091AD9D012035E12EE902A410870F0B4C455081500C00A45035801800088A2341124060A02860D00F071040900002CC0880414405808064145980384254204A24060A201641AC20E025900000101820200022008209401041420C050049005A4541026446002000D011452A000E6A840A4015508205000220010000600000880408040910880020240010E620040002040080110080082502000159422192A950210445080212C41040140C0000044100109802000A09440140400022860444C40");
+    testSerialization(
+        0x400830FB417EED4FL,
+        "023F3D8C5AB9B24685273FEFBAB8BD9B38705502FA091EFCC10600146011E1811302041050B400690222A09101D003A205A4808098B08B8BC003108010143000564A61C03000530440400080598486196C82C318A2DB0982500684C16014006024450C0208E59203010224E181B08002801B040600412E080800A1C60744522F0C09020A004110432000592944020401000D282AB8092482090184048022504084100002884B002248000070408400E00A10005041401800A018622444808000800501808988CA100C9050420848000841000024800F2C010005824452802000000808111108");
+    testSerialization(
+        0x43613DB3F0B2E10DL,
+        "023F3DB54090ACCB94D23FEEC3B51BBB7B411602D407128DA00040406000224C101127000005000C020022110040142038080050200E3011080020200442288800104003102A0C0001020120800420008002140000680001002040000242043080100042400041000802");
+    testSerialization(
+        0x0C2683675B3E7196L,
+        "023F3DAB3E2F838DB9A53FEF97D3ECBCE205900102EE0B1AC30C50D38EB0011C50010010F1CC410440D04A4165BD0A39926A284A002040221005102641CF16481C11084C000886800040184408882404830084412080A842A5508AADB54000B208494108A0D220010840342031012081144909D0E8801B3B0002020406A141842000044090F90C28800209020200A491480510B208008200C900404001B1028811090021208E0000290000440400028440412208060248000001600800000040049360A40210050482C00180B005010052200210020080104024002810006019002600021001022A9298000041100A0080E902");
+    testSerialization(
+        0x0F0A3C18070A38E0L, "020F3F3FE870868B65473FE68E929AB4FBC2026C0EE4001409001010100124");
+    testSerialization(
+        0x00FBA4231F3FD447L,
+        "023F3D50C1E11F1E92623FEFF815B3A70FA75402EA0E1ADD103DA50219010849619A30F1184E20C088804C01ACC965300165BA00002041228872821C60A0003206C10AB020211418088AE348A002030970504C8B02800C63C10012482140480809241982A046020002080088880000B810280A4803028A48204019608050641100081011A01108802014250264520442239802580890A8020A11400448400403840009030000002060440444042082A8824111015280104E228040C0102480040641020E0010101012840680007150180000002005221000084020494410B081002148408C4210048000081402000000C0408040000A01000150C08020020040008000000C0860420000C04421D08A00000801004100201180");
+    testSerialization(
+        0x4A83615E584EA5BBL,
+        "023F3DE1831D8CB61A6E3FEFF075B17E2BBEC70202AA081AC484B9528001438C10610C4190EF408410000840460509308901081209B543090A0081D645850041A0C4D80000088600980630884580042300400085120000609A491430402A9A00948526DA408C33000144012002FD68C0001A402810504100000A500C0000402007282800001125908144029802A0540010648081D808940083501010100132C02864086C120C6000006A420030010A8120082400102104200A0300D0140080010050010801224900000460384104020A2460");
+    testSerialization(
+        0xD1C390E9829E2E7DL,
+        "023F3D219B477D018E413FEF9AE55A3B71655802F0041AC64508E80A00600001210C2873064008199410080D8AA54092410835D324A05014072029004A0026D0048201602C1118804AD272500136416012308C88000010084100088B00201106419440000A009B04410C101C0030020070015042824408088407004480DA201210");
+    testSerialization(
+        0x62C7BAE420FE77B5L,
+        "023F3DA9D6BF2BC278CD3FEFB2CE9B1F004C3E02CE0A16B299C8C184AA09C010000F104A02260251808460024520B89384031100040A010902C56400010410121014028241001E0B4886A0204920441000B8C0200040008200028C12410009471211411300400010400802412900C0032610044502880068110942910AA0400206000944000490809120180440420040748C4800827000000030040400041400240821000880180110081802400420102000813002");
+    testSerialization(
+        0xCA9B275E0CFACC12L,
+        "023F3D7B76B22B360E9F3FEFD2B2F593CF234002D40E1AD08C10850208010018838A081440100408882400402005B68600102060A000440A06C91490080040D000180800021620080B2214401C4042220082482740492540010400B04C24804221050E812182803500000D9C2108482214C92040010900208029200081000261025D1109000200040241302029204040050024000020900140030104808000440124003098440004C0A1A500080102800A4001085101D000208008000810409080114800400288880110042900082000004100100000110294000000044048100018000101082C04040100A020");
+    testSerialization(
+        0x6E0BB5DF568D5670L,
+        "023F3DC43A1F0E10DC953FEFC2A782716E26E101029E031AD40730440818873828870E1830708C108A86884ECA14300800B1981101C502014001A131300980004244026220851D10409002098C481D44B44945000364940100C4196D8019009A400C92562CA81009A0092CC0010120510011360E0000401010");
+    testSerialization(
+        0x47B0F2E81EA86CF0L,
+        "023F3E391043032426BD3FEF9FA215AAEA98202A021853242084018221C12081610080");
+    testSerialization(
+        0x6B4B89C9CC0875B7L,
+        "023F3D4FB0B88723EEB43FEFE58688485FFA5602EC061AD18C08618638018010E20400102480049140840D853C8880843040040088245405AA02508140C119CE9222080400444428680048004001D10000000110051400440402A4510010101A000002C0000000420810208404102040080403010042001000A420021084080840000040842880804A1440");
+    testSerialization(
+        0x4980AF326A4B65D8L,
+        "023F3D8784DC0530E72B3FEFE35992760CBDA40102D6091AD6155800061840A4096028902CD64D69151F0D90CBEF30390441913303051200410480B020A6DA00A0924009182802C900084C100209103001009560380840020808744209210B2C0408A4B0B264C40022217680908011120304112908103A606C80104C0040814A008B22244000060500052028C20010408012081562001060404C00220004D184A2402C80904104000480009000A2001010028229B81C4382088608050106052000020325080000444038080043898C61");
+    testSerialization(
+        0x83FCC71FA8833AA3L,
+        "023F3DBE75B468A992CF3FEE3EA7FE7A004A0CE40D0210E200806003006104008010240041900206404418811022084110010620441882102418400811082044088220C4184209310E24C45888158230440811022504E88211420C4A88430421456886154214488AE12A264480D01182004108514A210450A614421C460B210620");
+    testSerialization(
+        0x327EEE6EC9598964L,
+        "023F3DD7BB876BE0080D3FEFB4EC9807222A1DE60A0210C20F002008060980600868090A400802090C40084210802088421080238842088E22122200802088E2008820090440842009C270802B082280A427088230A64209C27888201062008827886248A62608A218A2289122E8B820888208AC2B09A300A2298C625080");
+    testSerialization(
+        0x04DFAE11B8DCF861L,
+        "023F3D3FD1802F24A6023FEEBBA2133E10571B02F40D16B95304111462004621041010408A5880004004E8C2340080004301048C9080249D2050141008804C3A00000180400600012C9004000040010000480010406440A0080040004A0062148100022C642880040001080800901000820304120010000140102000260014801010200220045128080102080000002070248480800C10400280404000802200E410001010021000801400810C00092008200020A2020042804880110240");
+    testSerialization(
+        0x4C3433717AF5C89AL,
+        "023F3D01AA8BAB7A1B133FEF3DB15D0B43CB1FD40D0210C80500818802120460200211002008241180600882188242082250862088641880200802308A208842108020884208822488024084230824590223102200BC2008222094218882088C2709C410842209C20880410AE2008423086238AC2088E2289A2A88E2A89A2A890340D63E1242A8B2228922308225904250922808C20080218842110A268BC2C080");
+    testSerialization(
+        0x22B7BA9E68349351L,
+        "023F3D522A7221BB47123FEFF73D33F5CA4F7C029E051EE66E02062890D4C3C01D0810D83070CC84380D4849888A1326018128222B1A4F001005603270000820C4D00E60022CE2C804306007085909103884F202BC4805046411182604026CD28900100A25940800084140A5480AAA540B685160B204574518018A4008000301040104110046088004281050411994112404000230404028000017684032400420");
+    testSerialization(
+        0x47666D1B6FCAA9E7L,
+        "023F3DC762D35A14422A3FEFDA4F63FFC3FFA80102B40A16A28258A0C52C1B008100900C414CDC851060C20008301014088011C03106480131421608262250040E4002C2C3492A19E0141948BE00148063218083EC80186590430802E009C51E14118C0061220004A101001804441800C680C0405018102601610012404810024002012208001010810A000100304D202040000400080844C20001400010902328208300000200080020284810A510008000940924A88106004800180012800C50424531048342300A00484C00101108000E002400200014201080228004006808A08110004A000010090600C0");
+    testSerialization(
+        0x556E1AB391B34D79L,
+        "023F3DB48E4C7DF5A5F03FEFB33DD17B09121002CE0C12824012424A8082040B4C10224104620832AC20000505212A82089018110408400220000000220904800110008000140042801240008800D2001880002800054080C2001000820014401008008026040404108001110800445808808100202000840100100020800020200A00010020208060111002200080000400802000840100A1");
+    testSerialization(
+        0xA6A3245DD1C3FE53L,
+        "023F3CF539E60D16D5AF3FEFA7295984AA296C02920D1AD75608C58C60010C2040800110A404048340409E019E122C00DB65328B201EC9249800044412922004E2C4008028A4009D00928000820A413058406CB0000840810910449101288C6C6BB2902400401095800209E0A1040221184008002000032400008032004E50118A4470A10CEA002210060400840000926440001004000002054081102010AC100007020901024000821409240900042080044402C848810210400000400808000001084230002800884016002401100000C004000C0000104000028250081020200A2500014000200022010008027248903013100804024000101840102008008600201440620301");
+    testSerialization(
+        0xA8241F6FAE45B8D5L,
+        "023F3DC5672E202F11D73FEFD519500DA1F820EA0D020CF82400C11014010480900404004010041A028390A40100421024190840106801024490C4110682104411064011A49918839004210A4210241106479348710E821024890241A0A4090640920819164C13041102429024B1024320A4E90A4F12C44902409AA4610E5391E5A9204E94C44908491124");
+    testSerialization(
+        0xC1D7ED7B9C6BEC16L,
+        "023F3DE1DEEA3E4373933FEFD1EE4B30CB6C1B02A80916B5889C00086101C05104928C0500C04100D00510896EA020D140B096442092010520C0A002030410114C0806010004242608004004348010224000044500000000A00000458808020000801020808502008910200020404400000040815801400A80820900000004200490009020038410080011002040120800040D60820002000444");
+    testSerialization(0x9FC26E2D14919F22L, "02333F6A5922EC31DEFD3FE9A916042107B804");
+    testSerialization(
+        0x4FC2CCC9159D054FL,
+        "02FF3CFE442871D397ED3FEFB807FBC6B7F57E01027E1ACEDFF5E0B871EA48082284093464209E01201300C600062711802839081348D20C22088A30880180CC");
+    testSerialization(
+        0x4A6881DF0C028B9BL,
+        "023F3E238E1B544497153FEEED8297560255188009040CD8020100804140409024240A00808060109004021104804340A0C8C552090C8041241508E4C229149E522311886414191C864624169064622188A8452493546572E168EE422994C8");
+    testSerialization(
+        0x45A577F1BAB58960L,
+        "023F3D718B1392356FFF3FEFCD7C3863BF504A02B40B1AD59220060211002C6020003830C840D0000071448190A34094000423030561052A70120E981C44D45D001208600092E420041058080A202A00122901500010201093C4002002104044110A10004210000013406000080900001801444082002000009012C024841080008188234494000229011402010100000820000000C202000802429910001220108404008002180002840049104C0101000820002801020000C090124404A89021204810");
+    testSerialization(
+        0xA1BDB57C6CA2DBC1L,
+        "023F3D848DF4705B7F4A3FEFE46AC12C845FF00102F4021AC80BE2DB882CA99A88809613B64004041400A0035E21A28860004A41008A344880462522103234F133264042863A0802E0489202548824C8191000B083029C202055102423920164145A208ED052080C0C0C0C440001E04221300901364045A140");
+    testSerialization(
+        0xEBFDE16CEC9E9974L,
+        "023F3E04295B38CF15B23FEFE50B2395E3D1B80102EC0216B998084005681090070050918200900C5880C1829D40AC58813459886A3E400824A802A00622120291831490D5028100B410000020000019107080C12004DBAC24426C0208A1A01164000444304910");
+    testSerialization(
+        0x4E7911DDBED4FC71L,
+        "023F3E0014350C0EF2953FE77894F6BFE5DD03DC05040D143080100202404821034064350110721041882100208418841022324989710320862C80");
+    testSerialization(
+        0x71E606409319727BL,
+        "023F3DF546A7C471EF733FEEBD51333023C72402F00B12862030A800020A400CE309008200010007848A20240511040002902440281810040020000820100810008000E8041440220800800080000D080200201000210000A0101000A20404840002000C004180002000251074A0000204484800080401400008000002041800000020100088000040080C004101");
+    testSerialization(
+        0xDC0D879ED0BBE640L,
+        "023F3CD4A959B1D354213FEFD40A1D39AADD7802C60C1EE0D1451E09590202458D0000780110BC5DAC06C850C579C25BCCB268213048631BD20C88A802AA5C60002200C000104146945422529312A00451046015482412880A4A51440913133102201806400429220AC0C01004000230181000C418802380300C00104838D06C420820301221000282E1201010042460008122E804200021901449B8206203894300400482820A46104950AC042800510494000001A048040A4003001040001004401100080C1000006210450648000024C11100044020002A4740902100000B42108000800052018020245601218020401028236B6660A01840800081220200001020611281140008288040000490");
+    testSerialization(
+        0x4293A2A13FB2FB89L,
+        "023F3DCB10CF511839963FEFCEE6064140D83E02B60C16AA8BA74994A21840A209B0480450C0006008019050A590090022035391031030C206800125061800040904080148404A8814AA08954054090000000CA28000410218024C0210004008AA0004454240002000483501020CA0802000C1005400809A0C600011000000020085000640000108051008C860102094B04A000040081080000101280048900802040209800000010100101E022028880000004A280900012002840C0500024100020288502008040008840420");
+    testSerialization(
+        0xAF24D14180037E79L,
+        "023F3C5BE6642A10E16D3FEFE09EC183725E6902880E16A52546100C877E4C01809280D4184B50C48CC2030001001893598A341805405A2C260004062A0082C6009248000018A0360810308B241A010C10434048636BAE120001204921900100802200B40800B200805410020200B0420010190010422804AA01201210294228C1490051800001000110B84004004800134806C00200000000502000A0120124000030478600C110002012300003000B008480180AA046AA10A8400029A03120888B004111014004420030000400040004000000048000008008200168063000840220841010020403020088814241401000222B020050801028402800C00200A4082100004082210040410A2802002080004040");
+    testSerialization(
+        0x53BE5793563E006CL,
+        "023F3D6D858B89847BB63FEF9D9231779DD9840102E60616A792C05008E3518C2280D040019A4450E498C6401300808880890A4154021011200811076740B2482490C440A0082010540C4828C34012C828C00960003004048C2C00480022600DA000451040A0300004082120042032000080174C10500400A9028000385024210961CC00CD8309088040041011044828001284C000410800B11000301AA60309092000001A");
+    testSerialization(
+        0x157786CBC486D2A0L, "020F3F1CD9FDA19CF8983FE630171A29CA49EC010208F024224D8A9240");
+    testSerialization(
+        0xB0752C30EAA58544L,
+        "023F3E57BC2EDF4EA4AD3FEF7587A996ACA21F026616A20102020A21000200002603493000800192");
+    testSerialization(
+        0xBB61EE342E9A8210L,
+        "023F3D103ABD0E12088B3FEFD653B3E95A8F6602FA0D1EE3268D14003870C00009040420306F94E1CF134805A20488C2E864403401820300120306410020810460E001042121845201C00E2322000140304052090A006428510481040020240014848080810A89034000102A03A22204C1061840208E980900920000C401209110040740009008041081C0410010280A212900434120008005001112000040180804000000404400082A41004423000800000160C092182414000100285088180212C00010010020204045000091001000834040800004090940221004021524A2082000000082001680020018480110040020018008");
+    testSerialization(
+        0x635D396B1BD1DA07L,
+        "023F3C94D6CAFDC496AD3FEFD2A9469D1D91950106920416B3C18271106A33061594908A154080CC40805609390F90800010104300020000001802160406184B2008DA20440000B0182212810116032314DB6054086A20506180002C0860201A8021000C012221811C01334018D00410C800185023200012700400503040");
+    testSerialization(
+        0x4D7C14A84BC6FDB5L,
+        "023F3DCE0B4ACC6984D23FEFEEAA7A422422890102D00D1ACAD6D005A8BA2684184186005600104A201820018340058024A6009822B8014182C00819020006002006420A8C4016451980044101B223000C0C041109411050200C30411418800D6668000030012500202404302889008041B01009188204002544440082000900000025300C28322044001A8408060000810008009040400002010008C046A80300040405000C0800A08000480400018008541848510190A421A005100020401439122800818440014A004280004104400002B907001100010088900D0409008902B00081010894015010410C020024028100200108200400800608000000004040400888");
+    testSerialization(
+        0x613A9C99235D15BEL,
+        "023F3ED0B14C2B71F52B3FEF28E36766AAE906F006020CC408030880804090482412020904402090494572490CCA4A271409248201BC884C20110DE4722165285724108965E212");
+    testSerialization(
+        0xFB7C05E13C1703FCL,
+        "023F3D53EF6EB2BD69BF3FEFEE8E749EBE8C7E04C8021286EAE408A71C08328D3CCB04119A21D2600488402832022006C60007812057010C808941418518281042A1869A41016082488B0500880410544942");
+    testSerialization(
+        0x3F7D3FAA5694D6AEL,
+        "023F3D7D6361ABB5263A3FEF489B2F221ECD1F02EE0D128320822285262E0228D0C40401C041202040202100104226054022004180801015940D0091024220110084001020140060020841204800916000010208900010A48042511012000000201400804002010208002100A00408801880032000420000040088C00410C0600804003000C08040114202040009500102");
+    testSerialization(
+        0x21DC527F0AB4AB9BL,
+        "023F3DB9E8FFFF0480FC3FEEFA2C71F489153B02AE0112970C4024482402005146800800404C8C05800066200801200804608308008801");
+    testSerialization(
+        0x0251B77B538E03FCL,
+        "023F3D7D9332012EBF4D3FEFB2500AB8E784800102F2081AD62C8500AC8841A268E486200D80B90445C202010A2B80A9148001C13515338004110128608640400B40440ED0680008088822841080181980008321499728248B600050563840C580810010F0AF280C91303629121602240084105840182081C0201062000149504000C0AD0C9000000000558040005210082841000117100102010890C3000008040112A048080324880C008000584240822820010009068A80C0380000B20A00040000140A810405081400000102021400056002402200080950E614010004220016A8");
+    testSerialization(
+        0x802E57A14BF8215DL,
+        "023F3E70679AAC0A5E243FEE8FA390F5696406BA0E0409180205012108021508A3682A0281A2E85A4C91A0C81A0E9427689A18A8AC8A12569DC2CE1A");
+    testSerialization(
+        0x51EC9407992AC5B8L,
+        "023F3D647D6270AB86493FEFB7A061A1E9353302D80712831A242C0806042C100689400088000081801004280080A0D51248949804223080C8151C08123140003328E80040800080022010020003080498008050920020C20240002005200108110000212009800094000210A048000A03002001240028930020082000408006000013000008");
+    testSerialization(
+        0x48A69543E5DC1734L,
+        "023F3DF45D9F0735EBB23FEFF2A2873F64B2980102C80D1EE7C6C2140C106042C2100800184010060010E86D00904E8440294212840211C331BAB80400990CE504808E28C00A90016114182B90920210830332182984596C824335821809480802711EA24C80B21046C20605140000C282C00401CD44305509008012110014D042800E200890001101682182C4A44C001404C2826828A06555605020052303041018040A084A1002818C006000800801000403A03445040408001480002240811C4410080081100A4A8012000C004030100001804080101000A11404448420000A04A91154400800B2100C011022428851E02040C908AC0400001400044200504012808288C20010024028100805041409004A02101008030800C004000080001090");
+    testSerialization(
+        0x22ABAA84FD19E270L,
+        "023F3E0267AE13DD7C983FEFDF43017E0A063902FC081AC67408E32A5121AE18029640320440C58401188A0D944504144C61481013400402400034A824080EA403000558000249023009803B40258480A5040140B608D0202150042504524A0885846105100242809320000900104C481082220804512401080201882100040804048248008200101189108104C1338148004012088008200000900500808000804006021021000082004108004000090808811104110A02C00024200441");
+    testSerialization(
+        0x8F34CBB275B951ECL,
+        "02FF3D028E783AD4245B3FEFF85A1EBBD546F302000260228AA221A2713160636060206080F01090B528025881692800409841520C101852009C45280210");
+    testSerialization(
+        0xDF92F91B1CB7A033L,
+        "022F3ECB5050E3A4ACBE3FE70CE024C1B716E60802092803012054088050420B41C88914A05416C1D4AA");
+    testSerialization(
+        0x157F0E4CCDB056A8L,
+        "023F3D66198B03EAB7413FEF8AB9B498B5485402BA0716ACB3D60A342908E211903189C0440046C4440990B070420026300A8000110C0552106200C801130000009A80228006B40B2880001000435806000889004C0281804160840231A0021000A60020810120008200040410024000022854411460810020200904040500830AA4230512C41400201A88A210204050021A88010201224208201001109046200000008281604482");
+    testSerialization(0xD889BAB710A7570EL, "023F3EF6882641CF54163FE7D2B60F03123A010E020C595A");
+    testSerialization(
+        0xE180887A35C9ACD9L,
+        "023F3DAAFF1BBB378A1E3FEF2DBE1F48FF9D3702E60216A1E97A288848004807983008808CC045012449A60F2812290C304904230CE016420483116C90F000800005001002400C8A8011014050122108E83082100542040AA212");
+    testSerialization(
+        0x16C94ED584523D02L,
+        "023F3D313656D84CC8C83FEFE0FC8BEA58279E0102D2061AC58060429E1045853921883850A8244005CA00C80A0499881A2989BC9428AC805566C107B4860002E02062402104180A200084380A40825384600A2134A081082204A049B20302000004248025001481018030E0251211049010C000B40200210C506490140510482D801814144801800904061288104006480003810000800084101010298202304415862D088B23422904E040");
+    testSerialization(
+        0x3CB6B899028BA353L,
+        "023F3CBEF14C728A20B63FEF84586BF777BF5002EC021AD89A330004006104000080007046D1C84410CC8001FF80A48041A136004226482818860002A421222604C80092600400520810E422D4A6408460130B001210124008000408804548A9002D71");
+    testSerialization(
+        0xADE4153860320F39L,
+        "023F3DDD296F0A362F743FEF6F3AFA83555054028C051EE3E100062C0821E14107000408403005B0C8485D08C4020880001980850001310A4C00012106220014801020C164200C221291880C8A3A4C02109142400060C6866580010088400029A087CA83A8289460100410000808124200001040292000490006002140C0808021150421044620");
+    testSerialization(
+        0x62A15D96596742B3L,
+        "023F3D340237C78453DA3FEFFA8E065127B4C00102BC0D16AEF1B207B4854920528E34683A0881060100807005BAD313A48040C1358570011102100800060058200000270180C9080640C58098440408098803200042401A1C6030400001612C005018080009016222CE2454004846880010202084A3F20414150842200B8012102890134C288481A80C844C0532B8100830000411004C0608012008A0824004D09008002244C883A060A04A01440008040403F1002261102004144024A010000887070B010C80E241003041440200AC08C146000902A28983110022030090480000100003008244010080520084600C040100000401000002239220004112094002080041422088082C108111080010809800840416800E80060004");
+    testSerialization(
+        0xC24E3101C5AB7A66L,
+        "023F3C95A2C0711D479F3FEFD57FA2FB1462B60102DA081AC602B0070E9800527804065A31556800C4C1598D4E2011D98281180A08CB21131801001214080608407C623C2622C220CAD939011C8880E202081C13A10230111201006384A320A2002C901930009901900420B21124A5502490240A1C2800E84892094430518A80040300808020460041A620000C00000090440110081022202020200410026C80850424801A00700000000324804420120140A011A208008811050008003E2030500146202000080100903000401200C2468100104010201088800141008304");
+    testSerialization(
+        0xD2F48E99A11767A6L,
+        "023F3D45D1DF8A47E9793FEFBE90186F48597002B80416A1A08822B0040844030471205004C808011D89B6020063402032446800080106616500020000C014B0000C8010012C0022685150446080202017410CB540230408012220802E240010019404001800A0414080100042282192403040464240");
+    testSerialization(
+        0x1542A77E8DF4CC9FL,
+        "023F3CD8552A71D460383FEFCC072F806274A00102C80216A270EC82854019220544F244548410C04090C990C828F4C155C252103001003030D94206222220602A60D01C00480223186610C30580832C00432228486052080CA0024C0412A0852004D8");
+    testSerialization(
+        0x70450553F57C306FL,
+        "023F3CF8E135BAD5A0393FEFE4D653C6E537F50102C0041AD88258278C18C59419840A2811804BC0C9299C80D64A1481082880B82944343520080000504A110845004E00840188088140515818480A0880A802DF424580691A4124901A0F0C02048C0001032822022D160100169800725169309340403018459A1922044344048604800048C081840844119284");
+    testSerialization(
+        0x6596E4BB0AB6FE55L,
+        "023F3D466D703BB04E963FEFE28CC9FDDF2D7A02860A1EE520893A2C4830E08207240C11301466F24252A085104212AA5B088020610A312038919419513A8848802C801E240020DB13085A8C821B14561908120C51010050130002088E462472000606004D184A008448261A0088011A810C003000001319200460822082808210405800000314001B420041408441480104004945A1223100832402A0050041661040100821C090470010148420803258001450450000A80B0004405102000044A200000046050000080082800F008010402090120C049045601000000E490B000008018204001000083418220000480400100008C2811000210016220080020402000534");
+    testSerialization(
+        0xB31AD51EDB07E16DL,
+        "023F3D92DD4AA59E28F93FEFFFA84BFD8CED800102A2071EE1A58838048131A0048A040410D1342069C61511AB281000C20119B2B208818660B6E109A00D69268029005204D7040140949014D6C022008898008439088B6404000C620B70000020861168011E06091C420E04C004200212119000048010C008810610C8105680CA4AB0013C846008120806000A04412401804310C000403320002220208380F0841034111E04000040020130082882055311024000882401400123660060");
+    testSerialization(0x14F8EC0B2DD720C3L, "023F3EDEF2AB9D27DB6C3FC6A75C876E65B401021408928020");
+    testSerialization(
+        0x66623FBEB6A18744L,
+        "023F3D05999D0A144C9F3FEFD8904F3873E06602960B16B751407005C00882510C3084080405D40400A1841011908BC0A84214100403108088C20C8045242814084388221052511448AA000C08000103110304200A3008848050008402083B0050180B08210014303908451004088104940AA20308A10010041204800221800442028284051010820A2000001702210284820008100000108201011084400004000400C088681E2012A80246040904110408480600022602008088110284A20108");
+    testSerialization(
+        0xBAC8A59C8FC9F445L,
+        "023F3D7CAF4B9FA718E63FEFEABDAADE6B0AA80102FE051EF3A508020C206001419E1A082891101859D806812840CA42A08B80012D89C83DE0045040E4298060A208A0A3040300050808040850BC99AA8010280813050A02289C80860E4026201082084CB0054120C825846E4188012D3305280009014400000388EC00100B0080582002C000B2634C90400932046001510412C90C00411C0051498442001011063001088045042688280800008090114C00112412020B211241005010");
+    testSerialization(
+        0x0134CF3DE391EAE9L,
+        "023F3DF502B2EB9C550B3FEFB7D4A1DE9C3B09E20B040CE40702419004090240904C21008012643106801104820C499164D10A4D132441324814E4A100581104B90441938AD90A7791C42A344714C4");
+    testSerialization(
+        0x3934DCEA8DD8E425L,
+        "023F3D5FCA457DA6800D3FEFD7A84FD38C6B5202DE0E16B20608C381020140504011F0884C9D8040484201920081800860003381028203A0B4E131882080D028251920020088824A0C081512484C40880810010945843005000000380000164A041400240C8A8003110408010100C642E60824880005090108B0C0022424000014048901D25522500210000111204840080880830620400100646080A400500410001000012080404000020094201040A211024000C102010818000400902C210000800230005002121000100203100000404000008508010200400020240000C23920800000C008044104002020050000C011");
+    testSerialization(
+        0x50621C6EBFC34E9BL,
+        "023F3D7913DC1F5A1EA73FEFBCF5887ABC0F840102A20C16B6204A008121489001044E30C6B206C245A61A50145820BA844C310000860920921804E0EC0110090080140004820B200000651D404020A848880501800184400480013DA00160014510322892C020800204401008254102500208014208800405008100008100A050091044A22A00148400040310002A6201504040800542048A00808C20140408C400090842824000011030A4000901122004050044A000240200C4028000A00000000802210010400081800080109040020008410408401200100204208006");
+    testSerialization(
+        0xA0D5EE425797481AL,
+        "023F3DB578A65EC1C6A93FEF23D4E24853055202D4051EF80A02062450A0C1810D281C51309A00420410002451821830C20A2141090398091280B3400984104815E1283224C837904420029800AA0005001A0108414D6200451102C80881200408C02032202082020006411092500584C9610A4104041C2D6090203042424240644021860A08001044910009880C240024408408240002C0400000E81010218580");
+    testSerialization(
+        0xE65F9512FF9A97F3L,
+        "023F3CAAB60E0BB0C64C3FEFBFE5001753766B02DA021EEBBA14681CC010424180062C5820149E690E73984110D007261008520888800A9041101220135318400880C22C4040088611085C040808CA08889002A200CB24842240060B8426520A402262020F04C300240801A243278242");
+    testSerialization(
+        0x12A9FEA1D634C54EL,
+        "023F3DD9B979F08720EE3FE89097B45C9DC307800A0608E8241C01030045249088765BE11A884B2455EC463A21E08A40");
+    testSerialization(
+        0x043AAB402BEAABA8L,
+        "023F3D459CBA58F63D693FEF738EBBA955670C02FA0D1297C260A54C0E00004840122404840018E005A80800604036100001212122204210004004508080021800A20A22010400400003000510C012000040018029210080131002000804110001040110C000020A42003000000040100820002000209000200000002230000810010038");
+    testSerialization(
+        0x3FBAAA86D4844270L,
+        "023F3D11FBAB6FC0A78A3FEFA2753C6A97D53E02C0081ADB9C66689EB1C010A8048C0991E839440C0884880A0098CE926131B88D304024690A08565846A600252100CC060080508801500D7212023714C0516186526420040C100A00800D018040241003B12A4404503422021188C00106431004182084004190A2008015404080A4000911500E0580082052100420801045448A6E02208034001012420A227A404124506030044402020800030011800004000544302000920001824122A064000318008082040A0220404202400240002948400004");
+    testSerialization(
+        0xE179606EAA9381E4L,
+        "023F3C87C2D20F5CD6203FEFDBD1C6808CF68B0102F80316AA08C1D1C503209C321CF6BD214A31000110422002101100188180C82030114802E2A9B68428A078258AD10040814C00990230080C0002000C22546016480044000C520020A4100500B01021A2150500064100060420008600500416402A0642104805");
+    testSerialization(
+        0x54238CAEBF32828CL,
+        "023F3DC39BDAF4B292F73FEFD7447DF45A1D2902E40912887F0E4202440222300C0001044088920102A021C81248A26006801008C1128201800240001180480C00002600048048044A080200968811001000400101010140000004000400284000820001000802011000001840024022411014002000A10100040880A0801000124008480508040140");
+    testSerialization(
+        0x6E3B64D7F5C88D2BL,
+        "023F3DF40C59029E51103FEFDF063D094CB940028E011AC6DA48408018018030610408CC188800008201804208910104A508F004320C");
+    testSerialization(
+        0x685F1F2FC2E6B27AL, "02FF3CADC363DC7193A63FEFF3556F4A2F7AF0022002081989240A");
+    testSerialization(
+        0xFD8563EFDE1F4398L,
+        "023F3D4E869228F2C0C83FEFF5AA73D29F399F0102B80D16A50752F28C02408014800D42440142C839945360520160C30011093323005006811D308A0080C3209C000C90DA11801900000B022210800C09480688434D88010180C001800804180800A02140008430000010C800904C00301628608A0A210100002908084431000116032040300A4000010046080420002E108184040010080A0402040150A0421200200C01C000040824D5D1249010101410100000850180081002040A0A00444086200448002041410106000020814000043040A82078C808111A8080000040010000848048C0A012000401800320422390022100020002010028008CB22100100000A30014100210A0400C");
+    testSerialization(
+        0x4423C5046AA5F8FAL,
+        "023F3CF9413BF726B2DB3FEFDCB1B49DE62CAB010294081ADB9628E1107A061CC0038008D8018C04606010308508B0401E0088188005008140D180241C46210C2538C006034C8485CD0110544000848205C05A04304A06105B0888080010C06000100480A80C3242889202099052248E800F24160C89861102020820A0851D030351000804A301960008400340403085044B0DA0008000C0282041980454001A2288410293412820824000548461184000800121400C8504241041060420000A1281040810100B800022002051212088");
+    testSerialization(
+        0x6BCF56187D539753L,
+        "023F3D4F887C4B73E1653FEFD4FD8214315AC90102DE0716B11D84D80CD60586C0A054F009025220A10000000A09409A009A112A9CB4829602411716186002ACB0811A1488400400501CDC00C04204828B2402D9D40F01583583240D006940021805801A0310014532092100000EB428A1A98AC00A000800001820084108100B241008A510196080088486200858001065800820B24042B0040020400002240CC042060A40101008200182810021556000400000408810200201000820C0200011119400008108980100801081004020");
+    testSerialization(
+        0xD03A3B54209703FBL,
+        "023F3D5DBC00905BE3293FEFA1587F0D0D60A90102D0041AD584286D442004980820023910925BD600442851A61AA18251400091814084C102300411510631004000688A89014646582040411410638C815800069565008020F011485054A945804804824207142446042420424080C420108004041008803E820431015020302C82450100C8258A0B2280");
+    testSerialization(
+        0x251D485D8178ACD6L,
+        "023F3DDDF2C15AA856BF3FEFDBBAB09B76E1DA0202A8011ACA3012C95EED2914B0810430B48D6A580BA129388604824852050A0399C1E250124308C0121000080C18442020A444869207401910");
+    testSerialization(
+        0x3F66CA397592E07FL,
+        "023F3D09D36CDE4B25FE3FEFEF600808AAC2900102F4031ACF6C00669A21240A082B0E1056EA2084040D2520020282081A2C1100AF42B830422994E04086C5A10C000C0300208544000400101904520028148305B22040014C6088114402080C04512780814190444086790020110E003800090620440620008064305110E8908822601010");
+    testSerialization(
+        0x552BDFCE433CC6CBL,
+        "023F3DFFCC8A4C6F67643FEFFCF4E530B0FA88010280041EF389C000040821404001101420108CB692C02E6146142031338D8182A0BA01281029A886592981880422C06106826E83D948902121200A00A583C36992190810C409E430B0C10A8B8064B002302200041430A98402800545009900020114400284610101");
+    testSerialization(
+        0x44ADDD817DB8B4DFL,
+        "023F3E08321B9155EA4B3FEFE8CD9B526F11AA0102D20E16B373C4D4090222C8000850814A8190C485805592902000C1844A40300100070200060040069030B0C400820C208412020093A32C02003480816400C0C00208288000000148026C0C30110110444024A86A83208005810890000200410520502200222405050010040220050500C40120AC02805526205C00100820800A00034000210008104242016200200210286400004220950404090808410199400A001081C048000040081002020220820010411020000CA200021001208004102100016000210006040401002C028002110409411904303360082010100120400000200002804204044050085009024C2081040801004020");
+    testSerialization(
+        0xB000CBF3CE21B869L,
+        "023F3D9D25150FCC9DC73FEFF5970C73CCA26502E00E1AD19CD0220411800000460608504700C08080408C09864814060800B161189243648444B882429E61308A58240408800103E0024124120040A0102A6DB10920A410050800000120204C9045200080004895929080400B00020024A02248880AC2085C4455190000021C211001008402020840852000000A202281000C40428020A908704040001020230C404100090A330080088010005010028004484100012400909022104481074000108108028188044000000064860542080084200001018402024200412008800201108050205008180100010088000120241401030082492101800020010820001000813880");
+    testSerialization(
+        0xD2E9983A72149FB3L,
+        "023F3D984E389841732A3FEFFA8A6FC0335B9E0102EE0C16A7E84674A8C0105305B410045587819058A089A62808C020AFB4112CC00B10960C0C9C4428A08260464859400A000404429040080160B8410402012C0080848448610060082A300900408F00060A0084085004804B1043104281E00320124C00020149852241E89910481089D130400000450104C1A28010950955055A000201A0001A02004000640208001040880004822160888000A85102010418000920900D00101002010A02640150003000CA0000002080091A400402041080624008080204241004406400802800000091220000501000128400812004010102803C400500810402002014A0");
+    testSerialization(
+        0xAF947E60AD892ED4L,
+        "023F3D5EE12E2917A14E3FEFC6E51E3DED18C002026C1AC1E21AA91C6621868060AA105300C1450CC118904A8A41084830001009C031C168A010");
+    testSerialization(
+        0x577451B6EF6AFCBFL,
+        "023F3DAE150E7AB1BFA33FEF5A7056A909E2F802026816BF28EE807A6CA89441B092A44088D90491808A8CC22540321D8504CE20B8CF");
+    testSerialization(
+        0x78DA7CB7C466FBFDL,
+        "023F3D822C84A20F13DE3FEF9CB554CE47983502D40D1299262D90F0E000044C02820714C041C88828D68024A3CCC40C36000490050012881509080A014B000214200940349204A25D024A0080208D40004400804002881440000888294000280004001132882A209084030000802000001001000801001A40000018041008C241988003280041485100200081081030010016000244080C0001010020040080401002104C00102000003020208012800400000010400410100080");
+    testSerialization(
+        0xD5E3634444E34975L,
+        "023F3E237ED83817756D3FEFF7E47E30E0955602DC091EF15505444C10900482081C440820B1095088A85BCC84520C6D80A08A104410B6900632C90D08002AA20008026230C8008052024050082698CBE5A28800808268908930840A2F026129128406080881189D201008A03106812468000628800330C152240002CB014240100040420081000900061005840039840120A45400012480A130A2805001594880990E0240380002099400000108A001089242B405B00200A100B41050A000838230006044500050002842001185001200811201640828320240021006010280");
+    testSerialization(
+        0x344E8D54603A3643L,
+        "023F3E9AA7A3BFE3EF5B3FEDFC69A1864C0807960E0210F405001001004044218030220441101106201010822042184488110A4084588112222C8108412A23046082112204820811063184F8821782304308611E2304888414021440897102204410921142044208312621C4608F110270580B31042604188111228C500AF1");
+    testSerialization(
+        0x0B8D292730B546D0L,
+        "023F3D9149F9E11955C93FEFDEA8AD8E9F44830102B60E1ADF160189081006001983841013001598110889CC01925024084002C80110302514032214C4544076C0810A6021041B00005814A04B0583880410C36010100060480D080B40920A0580002C444100248142701608401008830A8190041958A0805001000A002200142E00080C010815240380003000014209000498C00200A0044000110AA4000210010E002A19892800143901808000240220410220008002102C102009000140C032120802000458A98410020444002100801050428A50006002081400440800201000E1029000A4010088889C8404011000084202081004004C0002000804054020C0001000652080800280C0040008004900012824870080");
+    testSerialization(
+        0x8ACFE26983852BAFL,
+        "023F3DA82C8B84C995A83FEFDF6BCD16274D4102A4041ADB5E13899461E31C30C9841150284812938006000E195800444A000118BFE12105184A864B50C609A081084C0010000850E49800000900400214A01604658600084088084500B401881104B40038312824324000143B003020903980001082A0422201000080600600009001C5");
+    testSerialization(
+        0xF4FE6BA91C741977L,
+        "023F3DA02DE60A5CBE123FEFC5AAC5D2537D6A02EE0916AD1BCAA304C0228963600C64484544432136828180311120010000061008B1082490C00402394C02108850010A700000315A0208018841D0484900A028042000080022183484201384108000210320100C200071408203008A50001045308020001208140001022CC9000008020110810A0822148000402140248400884420015021020E62800165005000220681048020A0240201200180002120414004000003008810000114000020020008");
+    testSerialization(
+        0x86D2315D1E0DC68AL,
+        "023F3D99DC8D61B7F4F33FEE690EF583A4362C02B4091291222684AA4686C24CC800048052418040642048A03006208201449480408CA0800C0400108008248A0C00000020498B000040011C80802602A2068004010C4800120150D08040210000A40004A000100603200440204240510008400000900800030100800098000410000000400810042000011000040008801010100310004010");
+    testSerialization(
+        0x8D9D062DF69EE643L,
+        "023F3CB919036D6A45C83FEFCE2744D88401CB0104A80E16A2648A94080B30880290908C2C8C9C570C880180FA0E00042C4000A0121130200106004410508082C100828338001408B0280320001421030864400028820129E09DC94130A2088022D0400706680482002800C02100680000120040093A0001464460500001024108413080052008482010A532523678401211020903042058241140640000210000AA004071010000001020012010448D402010804201004A0182012140012006080A001061218020011024030000840011A014008002010E432002081110081090209B0804204080289001044C0CCD0A000400024008012244005080099401020400404010812080021400600521020820");
+    testSerialization(
+        0x9BA452EC9B87ACABL,
+        "023F3DF8FD71B65C305D3FEFC58E0A9BD258A10102980916AA1709D0140002C403A050901288091E844406004019084A4008883107092A81920603840A212422C82E10410410182B80410400422651088C60484D0410000E048824A202391804A1822401C0950429201804844A0121090202106445C04C8820084C010000804005A00022040840A54100250208304021108800091A441011856082080000440510010089200021105031020380844214308BD4021050048044021804040199008401421920820860");
+    testSerialization(
+        0x60D53C599F2EFCF5L,
+        "023F3D9DDA6E1FD061F63FEFE3F3F00C38F3A70102EA0A16A8D8DD1580039890327C11C4C003486440A4D61191500D801C8820411276121340110198080820E86246023AC26002380020981CA2900802038411402000406000C900A0528A1254961184008408810037802881810416C00600090012804028011A00004820106B00E0000410144008030A484B000009000018021900040009023008C0410B00310428000E41C5800064021401110E540201000056E19000100421B21250821800080446A001202D0828320122004020840001200080010200100018E80A00000509408240800852000151000000A12244");
+    testSerialization(
+        0x05CF9A10AE33FD6EL,
+        "023F3E43088117712D283FEFCB0C0F8BE2C41202E00C1AD23419540030008210E202894F2488051A5A8D9F10249410C944014300002B012006E000A6000000B42044051C400E202000E246069C4061120802544B090100403104400024300841404201026046408411080400020050860444000A4A080410020146A008A01015C418020080C020100130801008140101A0B2420E001088000020110020508C14002208848200000C10200001010241408200102401010040000010002410800008800000108801011408250000A05612800244008020400109000101004620A00008061000010088002900");
+    testSerialization(
+        0xED86E1913867A31FL,
+        "023F3DF2FF986B68FF633FEF8C56DD58432F4402BC041ACCDE02A89640020418008218310A000001400500118E14640749A0B28B0112003C3661209C081492F008180024141905001281120304862100020065900C0080620802810501C008002000401400E4000C01489000000090AE4048018800221D8C00C021044C");
+    testSerialization(
+        0xCBF6A4EE31486382L,
+        "023F3E1EDB38BB29E2253FEF9C8ACDF4CF850FB60B040CF8010080202401024050241900C110241904409028390A4590041902421064710A4310E401028810048104411124890A43116829044492445122459004310842110421168693C441084790E4B95E6A13442A265416A8290840");
+    testSerialization(
+        0x5C088030503F61EAL,
+        "023F3DD69BC4D41715413FEFF462097471F26302BA0C16A8D31200804421240180100590070C01C08029A68007636908B4804C08424836198C00C181909F4008829802B20104100240815005422C2C008A40011001102402A0A6001001023944685411400002820912A019300608610040610080420E221C1014420100814501021600408011048838818C08010000012100C2200020000400C400A020984509088002000404603202080010088500008100200120000202024B0008008104402010280010C100862020002004220060900021040A0001400140400000040220");
+    testSerialization(
+        0x371DA374BF0BBD06L,
+        "022F3EEFC36A84051F3B3FED8CC23EECCC6F9E08020510480C0E031E8441E3901854220FDC95E320");
+    testSerialization(
+        0x67325E50CEBAAFC4L,
+        "023F3DEAE08AA7E174063FEFBCA2F69381652602A80D1AD1D0E0A31638018C200502008CB08F2C20084908804068410800101240200007480888404432C9A096012498108010410A9102040444A0828189220011011018303D324000004921C408000210C0048040020208A96115424208208C080004004888E010020400608000860010504800DA0000000221044841040019240109031481028200810000200F011104804000044006042180050000000010010220044448900822100201020000502000000A000400051802282024020040040088812054405004000001400220018410008010100B140029000844");
+    testSerialization(
+        0x40613D7FABC27DF7L,
+        "023F3E58309DF309FE473FEEC0EBE9418E4F07A608040CEC060100C0040A0241200C0902412004210C80202461064190E4030041206401048520041A0845A00821004990E45106459184590CC4928869104090C8819C4795C4090C44902401484A10A41910401028");
+    testSerialization(
+        0x873450E33F8EC632L,
+        "023F3E20207D8862E4DE3FED612424E7BFC31402C60616B3824C218D6208B2300D2C920100C04B45922824C61160B0000440000406002831002C1080410394518100021B04C0000094D1608080C002510900484101408242A024000804442180820040821402008001140A20100620051080A08018000300C041409000000489001A04820090");
+    testSerialization(
+        0xC87C2173DD433A8DL,
+        "023F3DB24897A51497393FEFDED63D4F33093F02F2061ADB10B02D94B0208428400440F21D8DC61840085941858E74800410340040116808C79000860201A305C400010840810ADD20044024068A0A2019406486000404040C18400400002894202402150004128808C8810010009925010001000A000C1019240244420120008448203802241403220000900011200886412A083036080091100088101108");
+    testSerialization(
+        0xA337DEFD2FA45812L,
+        "023F3DF15C3D700AC5E43FEFEAEC436D16E52C02E6041AD01240018E18E28228E180282C1800C40A19210681801230C90483092086484282C0050481012417140222840210000800420000B208100320050C21000030800C0240020401800880500011000002020A1004004008000609040040E0830012");
+    testSerialization(
+        0xC6D6572F9C4DB5F7L,
+        "023F3D6C591E399798273FEFDB37DB2324E6DD01029E041ADCB663E9801000146801026834003A009130400105029DD65A45010489B1424514078AC80E026A24D0420200C224202068025A38831201869B04F44040000A41A41E305010808024084C0001820904080A2CB2526C50012086016690400000AC461004571080219B040490470008680000C00016");
+    testSerialization(
+        0x43DF2A2BB9DC1F8EL,
+        "023F3DF27B558920C3AF3FEF7A2BF6619F7A1302A205128A120B0E480040620D024020C01141088684202008000004820240228101009108003120022202249210C244211010200320208002004008100142002018040014C00012000060");
+    testSerialization(
+        0xA949F99AE4579AE7L,
+        "023F3DB84525BB2C094D3FEF8F304D8CFD284C06980C16A348490018000886401028801871E0C95630000C10003806012012210480A00044004804AA201050604000C800880002044080883040000204008200C48006040912200100220400200040090000282040000080209008220210500008000A20040010500028000810102000800410A802C8D0509408200144002004280004204480452000080003C4000808210005280208480001008200140000610108200100022008");
+    testSerialization(
+        0x2CE95F8710AF973EL,
+        "023F3CB070FA630912023FEFBAB044AEA3577B02AA0F1AC5473BE04218A7064063880890A5A910CC4C0480C208C9811111082990C841420211000040064040084100A0C7C400410010168281018A04409CD46480480610580C00401000010520400290A80402040600000041808290C400751004120042010041C0400402000815000108E8202010040024846AC08089000991100840000A0B0052053C810E00002000D160B230218410402220408080D0041028100082002C801040028200440808802C2006000444000820188018001010024E00011458400062800900020100B810281010004331800820024100408041002009081001A090A1929139020A0060521086004002080001100B0004010080651108040220C0288420");
+    testSerialization(
+        0x9B6F7D1586D5C2A8L,
+        "023F3D1443B83F4C38FD3FEECFDE80AAD0044002C00E129E4A02A82C0A40A0684A816205A08000D220002002040244106C3288BC18015410420118094020440241880570090898000021104448048B080000484810A00908028444000120C044060088801880222100600008005100013010040401000000400400002010C00000000210080C01020740002004044025010022A0100862024044280800A10002200888000020108004100202028208008101010600008000804000900000204140002220040004");
+    testSerialization(
+        0x1591BCAC785B49B3L,
+        "023F3D96D18C371B32ED3FEFE98CBCCB78375402BA091ACA875A822028201220A08238CEC22C00160809921A000408A9B348009040040408F2DBC0E0208208200059013C032180028001602022040B010020310800C2022020001052044AB0040C0010CA02A0224010008448600008084410408162800A0820161040426000C008029010020841A1201020028800200000A20028001540121000610808200240001214281004002CB0209800040020400081000020");
+    testSerialization(
+        0xEFE019EA91A1CDB3L,
+        "023F3D52D5B25F365FB63FEFE7A046D537204002E80D128E6BE58C206040000DA1005020002500A4A422B200102004200302209504010210000000190041400000108452018801000080042100002404202320208008000012420008013018208B0080101022220002880004910806910100280044004080881010020220A0000004090A000508009100100402080040600808018800202068000008009040200200010220006000884002000080142028040C048000910802001060000A390110");
+    testSerialization(
+        0x0F308D530055C460L,
+        "023F3D064ACAC2A05A753FEFA18E92AF61FD3602AC0516B428420205251900011050D4120CC448440C45C240E4024004A163444404A82102009210800112A0268082800020114010801A8820041209320A0000902C842200420281002004110008500144444000902009000002008C23A0044000940000001879");
+    testSerialization(
+        0x549CBB2EBE9B6412L,
+        "023F3D7891B5686F49843FEFF084C5DF58CFE60202561EFD3B827C085830800405080CC1C0B78818C26708D601C428B6836A481452940A");
+    testSerialization(
+        0xE45CD3103AC8AFB2L,
+        "023F3CC8D467523352B73FEFB8E2994CE4250F8A060210A40402820020101048040409044243118904A23128984A232398040231108C404311880862010884462B120B450211310088201A08042292B088A626119288A28120D85420149404C3A13880");
+    testSerialization(
+        0x8956D2C6A1C2A173L,
+        "023F3CF82CE5C997322D3FEFA8FA1A3D3AA35F028A0A16B5685E512811121232095181A49001412000560A2802180010008430101000530216040282086812C804014A071490800923031020000402D126600E808000024001020224201B2826092006010808445A140010222A8400024250200C8024000900026020202029054528002A8869081080400082200410003C8104C2911A0224101102A402100828410C9810000004000200100801203008700400110A80804018084401C2AA8050200A0002000414C04070");
+    testSerialization(
+        0x3C6A03F08DF43ECAL,
+        "023F3DD9CEDF26E2537D3FEFCFCC5D3C33052604820B128630920004220C406C02808130082184000002C0221D0F830520800080000E401208000001225029000400848524203000000280020E00110181221105001080089C20030800400801000801110000201030020088440856000000002020284020000480100048000102000420002010000020");
+    testSerialization(
+        0x515E34DF346C7F59L,
+        "027F3D14BE7815D1307A3FEFFE2BDE4E51994002D8031EF0029D2A1090000080010210006273F81110860800C845910820280480400504B3146047003688CC88C08C18C90806682090106832AA8340A6500A86C168840900006E290570216182090432038020041701160100804400048444038212040A38");
+    testSerialization(0xDB1B56D7EFBF053CL, "02F33D3DFF14698200563FEFF5EDD3B48FC0D00416");
+    testSerialization(
+        0xAD13006E7260FC0FL,
+        "023F3D51F11058CB8E2B3FEFBA96EAEB02CC24028A032289A1B20030507141B010D03070311000053186D0604E280A43990056DC010844400840100404521010525109421730494004009114001601930200222530485B90C84D030538022092083608A11440280351004828026121085880C41A011000011111121D80");
+    testSerialization(
+        0x9AA291B6D59D39DFL,
+        "023F3E32B4BFA525DB063FE9E316816F08541A04BC011285A642220800224428221D05410F8A0040103A1232805106");
+    testSerialization(
+        0x3A91DFDA8521DD07L,
+        "023F3CAFCF4CA0E3B6133FEFFE1F9412BE99970102A8061EEE3C830E10C0002149860240181036030046E007A202CC62119421028116743148060111D1062328109600064686A1000881002882680B008B100414016000205106800C00400803946184E000201140300B20C2010006811006402900C824970124001DA0261084010221C14414400026060E0400008001012290E080322B000258440408402408C004000505121003C08023063210241612480088004884");
+    testSerialization(
+        0x30E27D3A3F4AD189L,
+        "023F3D3361675F5028263FEFBDCED1A4C6863D02C40E1EF552980A0000A062090B0E043040730DC40CCCB884DC0A5081A0B00A08008B430418100000210026400002885102C125AC8120005B24004004C0224E09028450052ABD08B090021908811208A20C2501540228C02088102409100220181A70004204450020002C50C12000400500A00602A100002014200A20328010004490B1A0220AC0080080211210080400008808020182001C8210002418000052A10888172000100000040A0400310040002080483414415100400028210051120420009000A1022000162028000A4105042021008808814400810020000000340000108042840C203112C02000E4201100006001945004000280044840120206204150022861044400A0");
+    testSerialization(
+        0x1B7CD23C60E3768EL,
+        "023F3D74F68CACB782C73FEFCF24A88FF609810102DC0C16BBA4CA5000414886139CAC9440A9A027319AC50D3242202200A25426382D10004522A14040101A00809810004C1010300018101001840002421000A04008190034412620200411588408B2280E40019080488002004070046200410000080C0209000020018401000220202500100C04000608208214009810082405023850144140001380048101000032002010000094030000006204100080223300020000008644002080043001004120022040108014001000086000490A8105A440000004841080A00020000100620200440110804801024010008431008404208402");
+    testSerialization(
+        0x1E65DBAB69F02D4FL,
+        "023F3CD6B067F0EC85D33FEF33477C7CB67A1D02A00E131C841570104110010342600840247C00892090504405000200800240000845020085010023190094102280104084081201021120804482848400026C0008800100202400060080A0029800020800404008800044200900000004108010480080260000810092200200300120003200021800020002");
+    testSerialization(
+        0x647B114C433BBAA5L,
+        "023F3ECEC14DA0FF5AF63FEE70E7BB87E38D0F028C010EE088C60140A0E42109001980440041200441");
+    testSerialization(
+        0x7DCDCA42F34B7DB1L,
+        "023F3E2285B3FAE6E1CD3FEFE61428DBD7FB2002D80E12874548208A8406C50EA860200789018218600888053081C89203009400100080A0000410080161E00040010203284400100928810002A0804010032010601210A823002218000000040400809820091040139848800210111200C011818080420802102800004018A00024640100020008814404300A000020014100098000040002400008004100102000846230C00090040208004010102000010102002402C602008080100012020010000004810100200108000090408008");
+    testSerialization(
+        0xC9BC4616C0261CF4L,
+        "023F3D0F9BB908D8906E3FEFA9CA9ED40C6D63028A091AD390200EB068E38208E18000AF0E842DC011010801AA7A30092C0C0240964A8080098402E00190800800131231280301000E2002016C23400282480C00092000588120082268B0405000406084000423028C0006005010C0000200006120231804203500CAA010200100201440180880F10000400430093002000414033040048900C8203008800011000321041080202012001104D05082088028311114048284240004088210");
+    testSerialization(
+        0xBB980258F543D9BDL,
+        "023F3DEC1EF5D6AFD40C3FEF2979F04274BE3102860D16B812027084031844030C28421141E184202010050130493090104182900A830154411201200002080105192414AA081004050080100018044284004010100081008200005043658000880000040A04800A020044510608000A0000002020904400188012100080400050020004012020201008080000008404200001020301A008400204010124200804041080051006004001900810000102843068A400A0840113008240");
+    testSerialization(
+        0xD0867D4A79935127L,
+        "023F3D81AAC7148F29BC3FEFFD42E4D053CF4702BA0D1ACC2C14018200288470260000B05009CC4850C380018808281699A1B2D100054B2006A1041A032D11000480240440C0881000A80012241822346400004000200853010F0130300000210080410601A000004000C00028100500104020120A4004308021A22801000801018000893800200013000440400000984001150A0202000204102030A46020820024010800020302841148100A000A0000402044E880220840004008A08420000002024000880500000A010A00480020200408001600410000802B204000002210449000002008141100880801200001400008009004540120800080002010");
+    testSerialization(
+        0x7FAA29C4257DE927L,
+        "023F3D7AD056F0B6A0B13FEF9905F742A1051D028A0F1284630014006A42600C200102224005402808C02881000004A808080480214008140020260180042000240020C00011020320404000C9C001228C401000800628008090180044880000405010110000020900443402040400021000444008040A000000022610050000800810010210004200014024202C001200006401080441000420010080201A00220002080041044004008010800210");
+    testSerialization(
+        0x7C47EFC4DC9DAEB3L,
+        "023F3E44E0AAD5230E0C3FEEAE37F5C781763E02C802128CD8022E22030428300034088030091001204200822012000045800804008010005810802400010C01202006000088");
+    testSerialization(
+        0xFC4455323ED6A688L,
+        "023F3D79B2880B69E2A03FEFE25571AFA0455D02D4071EEE51D31A0C5040C20803080C38201460080C168CE03A4ED4C1E2D86526500030004500DC0008420A002108022424C15410002800182000282006838400B804009080A30000000020426884451811841820002204301300901C0006094402008000C3A4801305C2D9080045080002444621206092488400012C108140106905800000C2080220012104829002840040035002AEB081401448304002080448100100088040254040344580A080008000841050280100");
+    testSerialization(
+        0xA6C803AB2FC31DC5L,
+        "023F3E15DDA813F4703B3FEEA4E46B4733463502D80916A6A884B100001082000C48C02400018010002308202424401402192081A110421004000800484000000902801004805810A002080240400A8001040050A00021009010100022000480100001880102003100002001240080C0412000040805008080808000080310040000010009280209010012008190100803004040200B8080");
+    testSerialization(
+        0xFE3316E8A126C648L,
+        "023F3D405CF813A55D9A3FEFF8BF4367D0018A0202E4061AD8884C2D0C11020CB023022930489C02C8D484DD020260C0018C49A9005096200046A1104008081820240630204862613808081105050040546213200360000082100161124028188B0C94090A02C4058000A1A4D108C404804330000100464A49404060009488F10DD1609100C2008220016094492028400C10410005200190128400C12434500050400016002282804000C60C00400080120644B0CA310C20C5280CAD01010000400504A0028014");
+    testSerialization(
+        0x0E4D6FEE8331DB63L,
+        "023F3D841B34BC34549A3FEFA84B6A3A5E887C02F60216B3B31035A0A38203038070889844040089A1CE000080042030080830D18504D829B700281040A80480140003D88432004034024060A19154C0A2208A08002801003A000424808040");
+    testSerialization(
+        0x748CFA660C95016AL,
+        "023F3D1ED284C558377A3FEFE8A9C86201956202EA0B16A6825270C08009C8501834502044400842000A110583E1009E014033C060230108842210B4E08120A1819A00000080100B0401D120820A48844800088100820111B88820A000200142021846000C08020084500D2004652081001004002040112554220900804407102040880A0088404020B4092040000191000000010024200000120004400108050100402001052E04808802200040100C80020310000121480402008302901004000000408004009010800120029440");
+    testSerialization(
+        0xB2747DBF2BC34ADFL,
+        "023F3D0B1A4A9B78C67A3FEFDC49AD6733718C0102940E1AD58228640A61CE80280102193028011845400C9481B610840050844002062010002810060001BC010412C0087C082C8214031A002A00284014422000040C200000004C00A802320C20101021A442300008418E12081020020011102060140500101208C80800450028004021200030054A80800084000119080012001081054420000088000060048280A0C0001052004880419000100282001913000600010011220090011400000A9881060000082C39450120A20900001081204000001000C048091002029002450481002400489004400083802002004003A0104202082002080000002208");
+    testSerialization(
+        0xFA6ED441E6468E9EL,
+        "023F3DDA24DC740AE0693FEF7A9E9A0E2F5BD30106B0041284AE252E12A48C13AB0C0C90924888001300808882320235820A0726E0A002CA4000D42000022000180410904021121008804041611A096C201020A80A2108011283264000100608000008400A8140106850104000020801004422910845C0");
+    testSerialization(
+        0xAE42190933FFC09AL,
+        "023F3BEF33BEAA53B1593FEFB83117E1C6158E0102800E1AC70361C4086AC78C4081A01831E00244084804804628DDC1D9085B828834C0150011A4480280044668480012D080A2C12E231D6011410E200A4814E5D084230020000200020DC0010080396590400A20102C260014940412A28480864A05049830000300A0626800011240280224081000040D9202002210102148040045AC012202A850015C148260001A200508056002010892408C10402083180102E0002891B404280104C0840D410010408600024008020048009818280050008500000004200000012520B00A004500123020000905C620808800811481088400022000200104800C00208001200010882A0902481012004B0008880405050029324AA312008102040080025800103288028A02040001");
+    testSerialization(
+        0xFF9C92FD3654A582L,
+        "023F3C53844FC8F387A13FEFE948C5F660F821029E0D1EF20B0116041040210000060848110FB0202090880118268AC8A84415011420C02028811003131300880A01C20834140A1314016D02682902A098011022088049021400108621214440881000091210000080802040030102100880000080108162A8A10340200186900092001041023008408088600221100004041001000000C01001044000288050040801018110280004004100100012104C025000440208001941C03043246201210008001000820604");
+    testSerialization(
+        0xD33FCD8CD9E61AC5L,
+        "023F3DB550B2B72FCC7E3FEFFBC7FFA04DB2B20102D00D16AC3A425386A351E0201B5171C840D133C58CC210809889229C810AC1041A23112C1600052D0E5258C20C58110C1AA08088250A80000883000221200441402020534C00E820A04C050A1362A82203018004008A1104936464A41008102A4320400104002860020144A0442A0800050108001128340002000900944082102480048DA1880A0A005105087000102480000C400004100A41C20100820121B0092800300002A042A0400003501209810A00D010114021800006A0A08C40A1130210040011A0888080600010B000800212010111400000804810001604CA9010A804400020088002000110081380020644022022080891041005000088032400420004288040A08001404212A388");
+    testSerialization(
+        0x371AD28C40094647L,
+        "023F3D700807C6C554043FEF936D4BE952C47802AC031ADDA731921208011449A02210B668288403B8811AC8330989923012E0E242203404043C15192846200062C6220030CF003A1208141884100380020BA402800104886800020080018D3200A0120005B446001241003009010041628408948202C28A10");
+    testSerialization(
+        0x5D9DC02BB2D14812L,
+        "023F3DA966E05FFE86DB3FEF0605CE91F2870B02CC080EFA3134404500B24200404020081110B222004021406C45484201040230442107501418004400058800901400805080148000408050039400092000404010080490010006420011000100045000040205004040400410");
+    testSerialization(
+        0xAA7BF2B3524699C7L,
+        "023F3E1ED6A2C54E57333FEFDB74CB1EB6F7C20102681ADD18F024A21006287C90103811400CC74551C6410A003E09B89B301188B18D");
+    testSerialization(
+        0x4CB261D764240AF1L,
+        "023F3E1CBC1AF1B823253FEFD624223733013B02AE0316A561CA600683185813242DB00B511C51218200418A0100B80240A4102006002836403004802450450B1802800080004402222009A518444506820000A064020004280030009102");
+    testSerialization(
+        0xEB0074EB49C8F038L,
+        "027F3D6D1BBC295E8F223FEFFF474C6A2B22810102A80F1AD206BA83BE83C300008106085210AD54C848501402111C3A180A9BA08040221D2360150021169E10C24225A0DA40040161139E0426488002440114219201000010488360C00C144820C2400D950102109100B00310A0483404102809008408100012800240030000580D400940320000C800100909804002400004259140C826004422204004C04280006110500600224A44C80000408A22C92810430055008AB0601001720B84814804814B10028410201C4020200148180440010A1A800020002054060004004015008000220010401020A201090540530000008404A49810050002A00080083900101080000220000002448020000420910820202410040211185040100084802A840001042460C840400200C0802800000442080044");
+    testSerialization(
+        0x2235C793C6B2EC94L,
+        "023F3D6A6EBC7AE788B33FEFF091AA9871157802920D1AC9966A40C640860400A208189050854F40C00E404D840008203830B0112A800801960000A0014C50A4414348A08090884C100910025044584466B8020000C10C900C00B4024108988088B300008003009200AA85014480506004888201104F0142001000A40429108800802100041854000000608D0530410B0001001942062042090C4410208430120082520460C09000400002002210444800902884048884041804040022A84050108C104151C040420030010204A00012002040094C80820000244030980E80000000000100018000208000040241");
+    testSerialization(
+        0x326CE3DE14B10487L,
+        "023F3E02D4FB0EAB745D3FEE9306B4A5A8921BEC01020CA4300C446C10047008042830446544C807C44444088404A4A444C40428");
+    testSerialization(
+        0x7D26C935D601635CL,
+        "023F3D6B5B8B066D608C3FEF9C65B45D40DE1B02F604129622240C8000160A4D80A240144021D4010024120028111004043A001000804440080A02098042401082280414049000102004000B0000401010000480014900400282012402010000004020800140");
+    testSerialization(
+        0xFB023C83C005F89BL,
+        "023F3D73CDD0FB32EA213FEF9ECAFC057DF51D028609129A024200402204206950094199008100002100000802800CA084002008000A1100080020620460492020024020100006130C08800000200028000850007000C01020000200005C01002001008006140002802008002108920404400340");
+    testSerialization(
+        0x7A7ABFE47CF11A74L,
+        "023F3DD02B7343AADDD63FEE3BC4383D5BB83102E4061282081EEA481200224E84602510C00D04880A622100C02044090240808C0080011000004021030420108608490008000111C042101440280800410140228005010520840088000840010021060011020008101C");
+    testSerialization(
+        0x326D14295729A098L,
+        "023F3D726AE4F63ED6CF3FEF6A9A01CEC8886A02880B1AD78638014238C08010008410105088F04801000E0D830005803F22302140200105D6012282000D00C282984804001804902800100204C1400E40281C80095A10110130010882114493C30A1580800001803064000080B008080200100100000811A84100C40480000860842040404A4182101308214A0808484804018000AC901A02146800400010001A08020000840432C4060050028020442010C04000011102302808100024012900020212000220");
+    testSerialization(
+        0x4051C8E5A0E36E25L,
+        "023F3DBABC3ACDB366E73FEFED2AB7351CA08F0102BC0716AE706A41910111C6010030850CB0054107824A00928080081089943010849010AD169828900038128C0083091B20808970900B0410C9878C0842A8294A0C004185000005C20100100004A2011C804400004228C0018004010251420008420080000041200823A8002000016A020000241440384412011002C0300011200601909030008820051801040022201021204085");
+    testSerialization(
+        0xAD5FB3DF4788AB9BL,
+        "023F3D239E3F5C3CA1663FEFE90885A38945B40102CC0C16AC75C4988846034A7588114C441800864454098E032035CE04A520310D4609042480201CF24E3000241099A80C092002C340224800800C6C0208200301859241820004104023200820200442200020800041895004CA02820C09000026204805130065200C04102606080106C02505800400920028004A8A42383101004900420008304482018008000040022040001806020C00091000800300210DD101644F44002820050180C830200010421420030200800002031040100029800C20848410210806880011200340000C4982000600004080C000048C00DA");
+    testSerialization(
+        0xA06E91E446927881L,
+        "023F3D4BFE5BA0B3272C3FEFEB2FA433D9646C029E0916A8188B10B80419C29016D08D0C4C9901020805860383034200C0F0211601120001552AC304AE856484071820004100B88AAD0144946210004004400C80014085402108038080220249040420230000C900020322905840825001022B603008000020284D28048801C0810010C024028A0014C100100020424A14824100A0102D080940080174900020420400634C8480000280500818082200201150400A0004088504040082001A80026004");
+    testSerialization(
+        0x24765F3E77532660L,
+        "023F3DB416B8A7BD387A3FEFC32311E1F600228E09020CD406040080C04020880432040D004023A088A47221088245213098643831088C4261C088240241008A812112C8444229008051411008E44209688A42211109445239508E5A2A92C80484514C86474592086404112C8C6C20259184725910824D2310");
+    testSerialization(
+        0x4BA5BDC5384F18C4L,
+        "023F3CDC92AA4EA13AA93FEF53E886806C473602D80A1EF00180022C00002000080C04182070984015050046C00900052B10300044080000161881045004829408061952220000120081C420420B004809181040019048008004001028464000104802028010009012E008000200908000600040000A4004100D30489004940912010452291000044002001200004A000400280042000C92021906108004001210400002811000402004040890000401006800001280028200C1000004280008001104802182840D008008");
+    testSerialization(
+        0xC7F4E017F8732292L,
+        "023F3B90F4CB983B6BF53FEFFFDAC14FA6DAA4010296041AD20098001001209EA800040090D5A590C818A44046089A888C08A0009130094A9E0109E6203982020400CA2002210510590C361034140B228002202082600048A016842C9000001200E1208100C0B0008980002114A09082A0800003191A40D4C10480033800806012402044");
+    testSerialization(
+        0x6E992A983B7EDDE2L,
+        "02FF3E59459BF15224A33FEFAF70378DEEEF1601028A031EF18303160C68112000891608185030600C6000080844C9E1000002490940802022012100001522284442C120AA012832108234204C1811000300012100488000030946000001220A0922A01010442250");
+    testSerialization(
+        0x8E833AEFB26A1864L,
+        "023F3D0B6E99A664E0613FEFFB9C3707D30F3D028E0B128F279A4E121A822C4C158C0C328709064D3103B50840000008249603820081010086190040412C004B1002180100086C00200110410410B88C10A10801001508080000602050200000C2003840814084448001280100081040022000410A9010002822000400182052060001000020101002022000462488020111042208064200D0C8102002086060401084000002004244000440000204");
+    testSerialization(
+        0x1BA3ADEE92F08807L,
+        "023F3DA7C4A05D8E8CC73FEFAE129B21715628028A0616B13806608C04080C70800D5402040050210801001AB7800D00820104002200C090424544120020004A020420044004102A88028002154208001619484220104800481411086030060402C090102444000090410008100120805028");
+    testSerialization(
+        0xD033C438AC3973ADL,
+        "023F3DF2FC28F072AC103FEF4E37EA7A82B6170286060ED30002901000204874108541CD0600C03010400000200406044813514112001301004A04509C042011300044461004044431100081040081100100400244400048");
+    testSerialization(
+        0x109596208F6B9577L,
+        "023F3CEFB37F3C84DE953FEFDAC928112F3D1F02A20916B5298C0008C028C431006C20011017082A000858080090008030000000401414480882048261010D90A880844A200010004208218024D528808022000000021480508082000490402108240081000081801000120404440214022000029080000C0801000030980420040200444020080044800D0001026020080440490000040002800060");
+    testSerialization(
+        0xC15E6593E972512AL,
+        "023F3D536018B44962753FEFDDB8CA2C7BD9880102F00A1AC349B1000020C3AC18C48250D18C2E14011030C161B3A89F9868E4C1040258225923096864070206000848011014408C0048006058C82800610C8322024929B00A699C034486800C80904C988045084E21052454901107090402CA0080D004900021C21A200E0840885A15020C4420B10EA00920200169B00260804042A0301220842001408E47480822421005000C68384000064008001090010AE2008230404401C00082020880000C5910810000820042000030028A4010002100981000118CC419A201308400851119200021410083208200000620202828200100612800202C214120");
+    testSerialization(
+        0xCAC8E49BB608B4DAL,
+        "023F3DB62A32C460687A3FEFC47489E2BAB86F02A40E1AC76DB080A4182388500106310E2259309085861109B01840829B81C0202132B001004116C08890082044C004A6100AC05900105080322260002540502432208E80510080A905964100006020BC0300101000040111440888005181102508A092544080904C0284102C850004A08108873021010800050202020484010146102A084082010010284020624008140004810A088004103004302200A0410810B8804A02408010044A0A12008C0040204000009089A0030110042000280C94000204480C0182D8440000000800010181010000009201021442846100850C4009140040000201041100B2041410241000028070009124800A011400204008C0");
+    testSerialization(
+        0x8D2DDA6D5C05DBE7L,
+        "02BF3D57BB4B31877BDD3FEFCC665074B0047302D6011682206E8606661A163456298200840008C22185914802824920B04204340505094620822222620000C00050810914180080888C");
+    testSerialization(
+        0x61059BBB11E53600L,
+        "023F3E39D6B5D3EFA3B93FEFCE12F3E1AC671904C2020EFE290048008464472400940B60118D0400C108084070D10890");
+    testSerialization(
+        0x890DD6765D924D3BL,
+        "023F3D3F6DAA79B77EA83FEFDCD44F3DBE5C2102E20116A840B44B9C31304206A88C0208041004A9D01000B8C00832C54100492496060180030082A11C1414880422C0");
+    testSerialization(
+        0x326A9A09A42A8F64L, "02FF3DD3074525B2A4003FEF905613BC9B3B980313020A20237C344268");
+    testSerialization(
+        0xBA22CE1E7D55AC2EL,
+        "023F3E331B75E2E590C73FEF72CF5F35654A1202D6080ED000D02204A0231120401CC000200008050102904004C01809044206000240108000080010001400814200490028000000104401100011040060481000C101005020112020040809001010C0042080");
+    testSerialization(
+        0x6E3070ECA2371016L,
+        "023F3CC1A6C4829C5E513FEFF82436AD6124B80102E6022281A100E0E1A091B890D07000F0306070A4903991C289AA2061405432709255026014301C68702070B101453C0325081060620338164C4014003049222A500523E7C20162031E40231150020B32110328026940120034D208D2C00892D8");
+    testSerialization(
+        0x4E6545C9F7372BBFL,
+        "023F3DC2AD3D98B271CF3FEFEF16707940621F0294051EF0840C0C183800404008000028200C204C4484492184620026406420002050040C0292B2C804C00004921C00800020100201004341408008404861254000A21421000481040100000082000100108040208A154100D0249444A400D0012000804004020040");
+    testSerialization(
+        0x44285C955996DB95L,
+        "023F3EDC4A00EF5805A53FEF631BF6F9D2B901D003020CE8030140300C0200819044091240A06479044030A879048212C431884891E481");
+    testSerialization(
+        0xC2C610E81CA500CDL,
+        "023F3D4515E6553AB63A3FEFF5D1B8F8D91E910102960916B911047114603842EACC740B92029000636840130540940062C00044209011020106C0480C004000C88180C0041658008031040053008042040501404000212A31414CC91842A90020013090C4288440089280442090100000011009619028440000091100004948000801AC180054040806000084016002108800001A00210000401002202800A041008311902424020092024006480602600044044020884004810904002880020040");
+    testSerialization(
+        0x6A2CF7BBC4F311BDL,
+        "023F3D9AEADF78B2E11F3FEF77FA3490FC485702920B128621166E62028A060C484A21100011C080C0100005A00495800468200028A10500005C608200001202242060162034A850042001834004800040110204000100008001000210080011010503400400488800051800880020071010440218000468280C0201008820200800004081000081000300205050085101040008000090008040A00800040280004042CA000040220000440B608A101011020D");
+    testSerialization(
+        0xFC4B27EAF1CE13B0L,
+        "023F3EA317ED44A811FD3FEF8937D419DDA909EA050408E80812020381C0405008240A2907058120E00804122E028B47C3D02814BA0920898C2010C8747225188344B0E548");
+    testSerialization(
+        0xB82B569D4298BDEAL,
+        "023F3E151DA38D7BE6043FEFFBED9AC5378C3C02DE071692EB0F2C8A92C64A94A210843448601002001184A011045A01B0811412100C8403908850C53482900504198010800880030081000410C14083A201A8051D080100083B20221000000240808000084850008400AA4080101048000A050A000081010401488099008208108121418010000060202200280112500083009842426040C00000090042098350");
+    testSerialization(
+        0x73CBE4A05D9C604AL,
+        "02FF3DB6D657E48E66653FEF78804748A2FC870102026E1EF34B8216204081C0C414140410B014C039CA210038094820022A0A41000800000030D02200");
+    testSerialization(
+        0x0D0608D17A2F7994L,
+        "023F3D8403E37FA476E33FEFBF261F308146D90102FA071AC32A1C870A2860821042860030C1C464004711445A8D56308626800028023141005141121030D11468460808C02A10086464980294408092426122470074004825101008A400911104A00A92B00024000880848412100081C000C014C8C4020B8000422000004028A00CC800340441868024804030A28C00100480246880C2044008001291200800AA51141102409800C008008D0000803321008C04C4220080C860A3100020948214010080");
+    testSerialization(
+        0xCF7E1D758BC7F5B5L,
+        "027F3D5C0D10E5AD61023FEFCA7F02A8C00E820102DA0116A432DE110121080264444C8549528AC73A0808480009920010B1882010000004A800104AC000A6C00088200A111090004180");
+    testSerialization(
+        0x449C532E01903840L,
+        "023F3DD37B6A22FE2C013FEFD9D4A949930B5702E40716B00204C004841940100470444020000C801449D91020029800310840000320843CC8C08080024000100210880108224C8100202A1100408520032200200080448402200010401091800020319020041A40C00010004200708080010009C081080A0604A1010082009408228000648808082140");
+    testSerialization(
+        0x109385B3578BC434L,
+        "023F3DAEDC88B00C6DD83FEFCDEC0DCE6A923F02B00716AD384332018108C452140C0D437607510190840102106030042412A22005234098C0408818001A002480CA14000310420000906CA04020C00101100890881206041092080050445484208221800B4014028804580100802010B0050010000004000000428C0000500810411C0044000A82058011000024802010014803800040C0");
+    testSerialization(
+        0x5B0D87C9FCA26014L,
+        "023F3D6374D471A6B3373FEFB0CF62DE460BF70102CA021ADD1670568D72679008858400348404CE01B02008007186880300431114E100182042111D012350248229202023824824280100040445200054C09964220120081C060002101011B003640340063643300CA040010840840094");
+    testSerialization(
+        0x491C73C8F628C62AL,
+        "023F3D627AAF0D7469953FEF21758F65515C0602900816BB6C0C000441008000882D12C901208C61280C050C30A0001000300520801C8080412100100C21402210215400290208006040011080000292040280008008000416000800014000208004009908420000201090044080000020082001001120008410408A00208400000202006080082412080040004C0020");
+    testSerialization(
+        0x3079EE10EDBE7BA1L,
+        "023F3E219CFB608E3F9B3FEF528ECD73CC4D74360414232A1085155A811E30A28C788A0470C0");
+    testSerialization(
+        0x0CFF6B3D3E6C15B8L,
+        "023F3CAF1FC4EB457BBA3FEFD7499C901F85A00102BA0816BD61884024E2184032AC2CC62124844E3608185002100043004031022210902441152288683AC02D00EC2840E0005921838181800B2CA050215040412A2C020921502081A08142904021252005043600281281001890514108528A7A80A3001880048200400002212800001200A69520C0011885AE0800A0810150200910F11284240188108110010808088C25020010028092C000120800134C2801010020200640A0");
+    testSerialization(
+        0x1D6B458F2C076C70L,
+        "023F3D2ED552334E03323FEFFD427DCE1CEF5F02CE0E1ACC8A2840062C63841081082070845050CC00944291935124009100320003E40C0006010016027D808402C1101A098248A0004C013202000210019037742C040C0C000101822100002100B848211248400406A8202E0A45020040A0814200000308C00C00408001171B048010000294544065120900008A0421050440029109041101200048009803540080100040A0100800100100202050AB1400000088061002040024080040C00C0A2100082008040080A120200240400280044040480201692024008802404160A201180662010058A4100800422122A4200144842081");
+    testSerialization(
+        0xC61D459C911F3537L,
+        "023F3CD5D2B95D7059143FEFABC2C2E61F17B3010286021EEB2A3C0BD401900105831E152021748C5AC6018F722150301A096902381022119C4023103062A1211098A820302424C2D225004086C808810806A80452482000C20004011C10291311001350606340");
+    testSerialization(
+        0xDA68ADBDC675BE53L,
+        "023F3E05709B570F1B9D3FEF8E1785E6019B33029E091AD02E1864821062080021002049E0401C19E0402010822038102010918816410830481410948488141A261000202042110082B4225008412401116000000310C0B390245000102021020900B050408000056061026800202041200012C0044400080039490040010020250808C020100802020084801000080841064450202808042B04B00014000400000048");
+    testSerialization(
+        0x8DE990E037753AB0L,
+        "023F3DD0BC9571E037C53FEFA0AEE4114FC6A2010296031AC23669668C35C68C38A20868340C30081B00A8200620960C29A18880322089341A0E20816926121A236B0080F4A8581304B01A0402000411230300132522C04AE459070C000820E06A2512000802305540A000A004800E48");
+    testSerialization(
+        0xA6092D6F9F9E0B84L,
+        "023F3D05F88BF82FB2953FEFFB7D60FA48AA9C01029A0C1EE52C060A280080E48083000C2921340300CF0004A60040F38A4D984B010911900130C1410814C118042A0C2060146002CCA422104400608089180DA8001003100A214810496110002C431A8C04510C8162219408213A09203244208101288501220002840784051834104000040284419C18421220238E10010811000490C1281000D4048808C002800010809108800C0205620010400008032C002100004141D2400C0009202808040004020A026A54000800B1045522000800044244981528102000140C000800C104800400100E520A440534004080128008301140108090A4000008044A00008080204500100C2200020426100240C08008");
+    testSerialization(
+        0x5B3B3A90AA6AC400L,
+        "027F3D4D73199483ECB03FEFDAE99BA8EC2A6802AA051AC28879A94011410600622230901D40200E40004001B46500D043624012337E0141101006216420000D00D9004603241052230C80835410400184414070128208800704C52014608014410620249008001282409040148804A00A030240244046130A0A04050000C849A01000409240009250");
+    testSerialization(
+        0x66598CC7B6406583L,
+        "023F3D6147F84A83BD283FEF7026C81CCF926C02A60C16B70912010D8000080080D000041400E4050001127000203010243200238582C28000C8240888002016A5000C09422460014100201028080140452244002C2000140C140200024E821100000C04112C0148002009050081262010001E102200045008880821309130010800008400808020C900400220284006880009100008900000008081180044008400004C250820090080400240000800200000A0A220049040004001090202012001000480");
+    testSerialization(
+        0x1CA70AEE97A1B837L,
+        "023F3E0C055C884EE3EB3FEFFC6FA8F5682D2002B20E16B1224947883000000404CC8243888212214E000982B800049040601500102022468C50B000400A20305C103040260044881010A1A460000080803000044B90810904400080024802040410A440100244422000806008002A00083000400498851000120020800040901000010002080000002400042008A408111202080050140A00082044042000800202048040004804911A00042200802010800200108200000008100021048442");
+    testSerialization(
+        0xAF82A4CE58EF93B7L,
+        "023F3DD5D5927BD5E7F13FEFFD227CEB9AA65702C20A1AC7F1384584D8801830008A00900C00C50C4CE00CD1F4DE01A04AC1340C0400D1106452080218C00032106212200818C20021088003A000080422494A0002206C80014904083520086F00A0433041158000190A861121201800100880200100903E018A02100950D01091262642808040000280040F144CCCC91604291A040AB9400000482020002105001C001890010440885002300600102806051001009800002300008404060803A09025000048910140B02040044440C0");
+    testSerialization(
+        0xC7CE4B9B13282484L,
+        "023F3D7D24112F87818F3FEFAE4B5F990AA27B02A8071AD36268869699AD0220020A1034224851011C2F18407085B020C5B75140B49128B04180084022844812660642C46196400E94582600414424422610018964040120E000288A16000128110341B1002A000001268005C4080000C00004C0150090120A78AA381000C4481881820801000201800104900088A10470560740000640000294010002160022C00210022006648001048A000800142404CB10300424020100058222002244");
+    testSerialization(
+        0x2B889662669711B0L,
+        "02BF3CE9AEAA96AF4A673FEFDC243A648BA78001026A16AA00480884A22AC4C30851E089CC88100044450524020C324420");
+    testSerialization(
+        0x994F1F541E8EC4B1L,
+        "02FF3D74785073DC09493FEFE45F0B036230A3010302B4012288136050407372104081700110202040C5F91C358E23080430A144427187B171C46201C5054E01258108050090014013749176779115A41E2A919001");
+    testSerialization(
+        0xA04691FBE4451815L,
+        "023F3CF9DF05829949E43FEFEC7D47A30CA37102900B1AD430A843148B00000022002813108C808D00440481808808343225C0334208402082105504BA2C28811082401C040600AD02020C0C00014206A2E008041000951280A088200840005428180420C11000404010520200400110293132A8088090C160000084124404282809085000100200A90122C0401888004400050008642A1544440004A8046080094001B0C4201506A484C00918000400000C00500A1001002029022124000600111800000892940206");
+    testSerialization(
+        0xE7450F8101BD21D5L,
+        "021F3EB30D9BCAF105543FEBF644C85767218C0B020928030620A41C8092020B50CD3D3AA0");
+    testSerialization(
+        0xAA94A8216C7141A7L,
+        "023F3E356A1A712083EE3FEFB0807594AE6A3202D6081AD00430228E10618048E08028104008806480004455E502168084003481240C98200480288018C040024300030C008121806005010000000460A910020204300180B008050402258200608411280800230002002002202040453020C0402004002404A2081084908044210840020100200140040140008300201001112200844001080302000002002012040080C210");
+    testSerialization(
+        0x06316D1C8DD41B5CL,
+        "023F3E0C086D4E27B9813FEFDFD14F56F6E6950102B40C16BBC25A209CB9104070000D6ACF8400014D9325031400092CDD827B86104508440402820208181921802304105A3221D5606400040410000C1004009040152000B2A810E234A602AA0884178462548082082A5A01091060A008100008A8001D40410004822220000552C40050820288110001100222240100052A0104890182080000008024000430540801821E4805102040A20240844050401200C008800441010002005014A0A04820080101024020170520208012185044010800005544880423040004000000500000020401");
+    testSerialization(
+        0xFE600C367A8AA52BL,
+        "023F3E05CC36B3783FAB3FEF3BC0E047407E42023A16BF0D022A84216152000C3080D860471640C0");
+    testSerialization(
+        0x0577481E942A07A3L,
+        "023F3DE18E5E9EE0950D3FEFA8AC1DFBB04D0D4E060C78108D053E4A04AA51041680");
+    testSerialization(
+        0x1A3704F86EEFDE92L,
+        "023F3D8FCEFA63D454523FEFCF79D5097B7A64029A0E1EECA72C08000100824091022C680031814266C4055C0445D502A7804C28400228336500411216E559820920D0CAC8BD0104A05900004C2132CB0540080010486406008C52C10901151B458E281104080824603C0104C011120AC0238601202212080098022053014A480882032CD040090098252500868020060488040011008080140124132040028290011004629401080000041001604800AA12041402020C0AC820804004C0182400410020620C44110048400110090040042020218000040208228C4C09D0030208020010080022002808800010940024004C0013222880002514548008048240020010280088420001012008200420181C04144008000850080E0422042005453001");
+    testSerialization(
+        0x1DDD864F1B50782BL,
+        "023F3E50425CF3A0AAB73FEFE46E859386D41602A2011AD18441410000210200228208296620B96D98400020002C258C621847002012033080A0");
+    testSerialization(
+        0x4E6E17F5F3B362DBL,
+        "023F3DB88C823F922D5B3FEEA53EE766CFDE2202CA0E16A51100B804A1004011040A005135152320A02430010084200804200400E0C0808001000011000000015308220808040020008022901212044010000100A1020820084411409046200004200200200804110800300124060080A002881E0110D0040004884005008000006504080081002800C2000200800808010200210000804002004040010C08A10008201004800084");
+    testSerialization(
+        0x36C4E9881A205FF0L,
+        "023F3D308AB8DA9D35E33FEF99A682F3347C46028009228890E082502080D1700150B00120304044B061A38001241391404282214B010486440222A4261053007332280C10143C036002111094184120803400125016038164450014C122302D4813A0A000298440213444460218490090308020420800920D3100403028040490009213040000300440860841034030E10014403250240C090402A48860042042110643250842003040254400421210D00480248800341281D0104020104022024040D104201D5020C3800201688008286C0000020490100020285004020140503025300200411A21");
+    testSerialization(
+        0x87615288D5788A80L, "021F3F35BFBB09A3DE6C3FE46BF275843B73C6030E04F17732F25D50");
+    testSerialization(
+        0xF0EF34E4BD45B3FCL,
+        "023F3D8070B01D8F414E3FEFF6FDE1251702DE0102960316A7215C01DC66680600088C90120A1425260000111189C09002300A209E0B02189600820004020042C814860025305A4C08400003532A0411A0B04948E08003095120C55190092419892032421304000024B90230");
+    testSerialization(
+        0x1BC57BADAC418D9EL,
+        "023F3E07A06C9A6416903FEA98E368699F2602E408020CF00900C03048010241900832004510A409024292E4012C4BA4041A0C4B93A44118612004394A5425C4492C5B11E4590040");
+    testSerialization(
+        0x9FC338C00035D21BL,
+        "027F3DAF98BB1580A9853FEFC8424C5A0841930102C8011ADEADDBE693192B9838906E48B11445119C5595606221131511788B3880C241DB070311040136003150506800C3481255887E1630");
+    testSerialization(
+        0x17DDA7EDF8CEA21BL,
+        "027F3CF77CB4CD5853473FEFF2E6C78223B1C801028C031AD2A401208E18A48831620C02F148B5842444702606200119A03302E009B20182824020047298A038941119155804184309204A120CC2036048500012020C1241200912290D03824032000025010806C0A180");
+    testSerialization(
+        0x9BDAE11A59ED17E3L,
+        "023F3C5F29F8FB8F616B3FEFF93F231DE86E7E02A4051ADC965AA31830249229270630F5C12CC2108963104043821899884193803900C100232B212154113661840D0920B0D20002097444944980002A560950415A1981164C8000480041820800091000002400B01002840B048620041223200081010C01595002410018020280441042022001A80202C4010A021E42B1000002416032408250");
+    testSerialization(
+        0x9AEB37281961AF39L,
+        "023F3D1147D0FEDE45DC3FEF7004201658833802A00D1AD68808240070E1842060001011844C4319004C4001848003201100300100C0800044A1000302A000105008231348505020000042400030880000056508080640220004010400E0A00049081000120281100042002000650909280404001000120004A10500100944012042300008080400009A08200000120200C040414C008A006000402012881080400080CC10088410080900403008901100C1211200A4071080034A004420088000208004010091040402000004");
+    testSerialization(
+        0x426AC051D05D0541L,
+        "023F3E797CCBB0D67FA63FED49A944C1640609D20D020D0C018010080641080A0320AC608090620C4088220920A4008710520E4148190E20040C851072024288890A2104288490E206428CE9142104608B9742AE46C9393424A40080");
+    testSerialization(
+        0x1F6BF9FCBD650853L,
+        "022F3EE5E61E298FF4023FDDEEA2501392868207020CF43A0E4211040104431044D16C4F92C429345A116601CE40");
+    testSerialization(
+        0xB6B485C32054D2DBL,
+        "023F3D4DA50B3AF4C7803FEFD5A168D02C4E7C02CE0E16BDC21560000121D0218C900084440420200C16100088500420101131915984080806684C12903480A904214088904A010568856CA5080082830A0401504140008008300000030808140001A04080812099110008288364010800008040120808041EE4802993600406000100840008411800000000424A0800500120022901008000880020941408435A08408B0E31120C005010400290200480010040000A2080640024288012008000830016242200A201504C0050000008040821000883001020141080300048000A0801000528200800821100A0081098B20A08400409008184004A080400080000108081");
+    testSerialization(
+        0x33CD737C1BD48BBCL,
+        "023F3DE1319D76A2D20C3FEFC144D25FBFA24E04F003128A126422025C20828CB31460704005A101040000002A0002105528000A80849001A4501000888B000100000080628201001400090100600108800018200003B0130180101002040126");
+    testSerialization(
+        0xBF7D815F20C6AA90L,
+        "02FF3DAB1EA9C953557B3FEFFF1F194F2162D3030B0232228129D0007200D0628080E091A0803060C538188B322448");
+    testSerialization(
+        0xBDDCAA250DAE14BAL,
+        "023F3D6547F6A69D9E853FEFF0A94D1A6833BA0102C60416AC31BE311DC062C170DC14208804030865238051B9C1D3AC9211AB300D68A1E320364204308040D48065152910C089102304880A0402186052420006494D62110D14842D615E0CA330000411022206004000710114C824800908035245844E0384820004000048202618080968D00106");
+    testSerialization(
+        0xEADF33672F2EEF00L,
+        "023F3E0CFCCDE08019323FEDE026FB8EC04621D602020CB4040804040408040464050C24E42408842564654428040804440468C6448509A468446524E484");
+    testSerialization(
+        0x1DFCF9099F404E93L,
+        "023F3DE8F812D26B7B343FEFA5AAC94FBF2E5402E4011293581C18608080088C26C0A49001860288808049000011231410542688280109203094240000D20283920140");
+    testSerialization(
+        0x9322250B5159A644L,
+        "023F3E6C164CB0A5F3213FEF3AB776D6F62F2602A208129AC202A6820200022A864800918000E00081281014830504841080001109000220280408000110489800821002800100C00A2002000C0000204108010084008600100013814040040A0448050848C00A000801010C00203006");
+    testSerialization(
+        0xF317F503A92D62BFL,
+        "023F3DDD7F1CCD55F4ED3FEFCA5AD2C932FC67029C061AC75C536C869926986061043994A81042329C23106C30063914B18981002808D6020000102100201840175B62B0484F1104441444C098028059644443280042C01600A0423230904C8500400240354C3C580CB4402C004818148250894080038060522201702A06846900400A0110089400405104089A78A03169056438B01A008010406810403300410C5042020006");
+    testSerialization(
+        0xC81C284DD319FE2FL,
+        "023F3D8444670C123B623FEFC904D4C750DC950102A60D16AFC608C11465894903B10DC82920E0240A1400011000100099B4520942000126C0A488242514F8641418E8005960140F0015532154C08C80804C0005292A10309505080A2120A40628811422002A14C20412C800285820000110000304820400A001410806080A8696445523000AD1202000205412000010C0000248501051000A000102384C020031062A0102240080B20A100040000492A200A284C001541800C00820000294414001408018A08804800001800220C00000108003020A498110224088C1020258840CA02800810000C0041D802422C022004CA11082080402804841014100308008D0C01019080030001940140001400468");
+    testSerialization(
+        0x6C99B2AAC29B7DA3L,
+        "023F3E6C7593CA0358503FEFB09E91852BF823620210709D901465110202091910407104020B883440");
+    testSerialization(
+        0x09654E59FE299319L,
+        "023F3DB083FB6DE86E543FEFFA66DB75C2808B0102D60E16B2821D4318303144108C0D02151804106186D005F88C20410030191520201018810200A624040004C40400900D139C04020B008182200D1A01422491A0CC00488014010D0A80E2B2200814531410608020C804100018801820122808125B0210490000884020A230280103101590600000484024592224242001801880018844D42822923B010001000004404210000901040081102100D0294010800648000000100044100948020142448440126280048010992820002404042108000A84505112180002002062038000082000422A0C4404011000000812000400000C00802000001002001009001025854420408A420210A081D00000085452080000042004040A09000004");
+    testSerialization(
+        0x7FAC22D4A36C1CDBL,
+        "023F3C921CAF3859A82F3FEFE2B46BED0CE2910102CC0622897000F110E171209001C0101060600054215B35712402335247252303175B3033531121970503903010290A132203404981081084360088C080A0430184C0808018304314038964142028008302000000292C20095300020200862032302102812C030812880184043040008480108389004A2020012010A050D3248685290201308806800188024401044A200841C42204164000300018900B0002006101002144102002515142051640");
+    testSerialization(
+        0x031C79FC0E5D0BA8L,
+        "023F3C7AF7AFBD2C99C93FEFE6E22FB5B38C940202D2031AC29021E6206020D61026001834A20B1E51C92400DC668E19090510A1012A80C1003A0060044233986E3220248200EC22C145140A60E06101803200214888145174000105009020489925825088200C40040D004D0A0869DC305D200444060443A22A0AC824000DA400126AA4");
+    testSerialization(
+        0x6786F2A8B25DF1E6L,
+        "023F3DCD46A009E49F503FEF96319B1D61056A02BE091AD50E01628808400E180004202E04C185B48861F20304041349B4206CC4510006C02300C051A0870C21441B6480C106000A53500800791000000040040089D0482010082030900010003084222200308C04000019000040040142202004006000040400080540C080A312080408242890E200000100820C0212200C004020640400349C082010200004088800106400108400820940012808C488008100101E028024480080");
+    testSerialization(
+        0xC5D9B45DC06A2973L,
+        "027F3D0847E5730272493FEFDC9E62BC17CAAE0102BA0616A4777830D06C71C290F174411059121A01005C03B68C2110C00200000C0202411103001900024546816099889DB1004020AC8C8800001A211042800404020350B000044306503CC8292804D181319200200E18001230B48E050A22D0809809210019C4908044808A353682004A0000100C82008422C901009888A22042090516402028004080C0051286080212A244C022010500894A8008310668A0");
+    testSerialization(
+        0x494C1BE2F16AA7E5L,
+        "023F3E05F34496A38EB53FEF4DB87CEE214F700284011EF242047E38004000C18D060018629054844854D44444E19EC10190C9A1474038036100061136F0");
+    testSerialization(
+        0xCD6572B288330281L,
+        "023F3E6BE47186F9D2C33FEFFC9F474584063102B20912964B8602024A02440F2201C004700190C2580112242B07027806088980402000445C50A012040240204140401A8900484101208140082800200140084208B08020040008080202142000248244004898501020440000A508400848004200A000202004208820020400880414140A900110682280840200890018000201804020");
+    testSerialization(
+        0x1FEC2AD7E539E591L,
+        "023F3E63CE8F9C54C92B3FEF9DC3875AE30920C4070210B40A00884040100890081201804645101004041108904025100988023118844A6A140A8424C1088C44461091044431B8984624210852E292710440221196442261609C4E25108846436148A8542D100C45A2F1088C5A20");
+    testSerialization(
+        0x70FF92EAC7D644EBL,
+        "023F3D9C007FEB69F6ED3FEFCC23CBA7DA1E8F0102A40D1AD48E806880128082100586187401188040BDC0186E00858290268EA30CBA0102504D1D25C230082AF0019603220010382023EC19111011120003106004602012D10C8480103001310430210A24020ADA05000068889804400CD4022420324C010011423020520B05030094C83694380420B000824341924080000100444C802004040881020C0082128372012A5900100AE000410819260004006080A415200582A00020C20060092000120102A00A80100000400229004084021CA924C80808004E000A800184092A40E52F0080042400001202800050");
+    testSerialization(
+        0xA23A58E2A5158332L,
+        "023F3D5BE0E27995B3A63FEFB384D7543B48CF02049E021ABA18AEC098A82046588338B0650412C04C90850050C5129922E882309484114216B2B06AA771070A0202A318026334201808C72583EB2584248000092881BA300BC02AC021223E6C188B001620");
+    testSerialization(
+        0x8097046C8FEBEBB5L,
+        "023F3C8406F41095FF6B3FEFEA18633BB1F4820102EA0A128ECF4FAC0266006011080068851440C991830A0890118434493883000296015420220802C030044A4200101098820B20900115025862A203000040690050C6210002889AA800C02006010015000002C0200004200110020200C2400500304100200208080044010068808811801440090808490009101A000000212004094801004100020810204100084400002C005C2014900480022950500020618640910000100221000020040A0000108010680052000000C1204938080800900100C0011080");
+    testSerialization(
+        0xF48EF92917693662L,
+        "023F3DF14C8FA94DEE043FEFCE0445DA73A84F02E60116B5C898E28C11388C12A16E16502026506183540D20980CB84104A6092486D100100A2CAC890044421800806101A68120");
+    testSerialization(
+        0xC768ECAF06040013L,
+        "02FF3D3196ED8B7206CA3FEFFB4FBFE976BF3E01024C2289B0F5E00190F23140E19020101000B0162E30440D618A1410810022034B16B170");
+    testSerialization(
+        0x64DA73F83A1654D7L,
+        "023F3C023E646FE732BA3FEFD3E9E2F455EB25029C0812863A0042424C04262B10D11500D007202310022284008100910008024102012241C9000840008300A0080800042800004864C008020112004100200024009104042000150004100008004060080022000000082400042050C400140000410209010104004000002C");
+    testSerialization(
+        0x4653BF0AA21D2E83L,
+        "022F3E0A153ACB8266313FEE6ADCA261C011920B0408E80C2A05048B4123512A75F20556DE40AA9788B59219C09C55A152EA74");
+    testSerialization(
+        0x89CEAA06806A3AB2L,
+        "023F3DD593DD5A5AC3863FEFC040D471990A4704A20B128246A03002E4040A092023013900A8645028001500440A088C605DAD100C20C00A200B00034C2808288831000018D098248090001408004200841002040980320004108022000800080010A012100742000208A4010800201000800410088400C08000401308101100102018850B088010160002500040404A00016822300504001100800810022102");
+    testSerialization(
+        0x11266D2E4DC768E4L,
+        "023F3C6876A9826558BB3FEFFAB0FC13AB8AB50102AC0F1AC589C8822C29821C1AA10A001084F8D99AE2A0C40E9C420044088400084600C02003081150202318224C002004A05024ED24E40180161022590883010010009A506030005512418C002020044B09840020D241102250655046C74432000898D9000A0104309802100000000A01C034056010280870410941000165620000801881048004009C88020104101008300B44129061100540805221841481041D2000103006401580014C02448008C8828488D1102030080121410102090000280020000470008080828000500824021410000628A16400A1010000002104108044840A02888000C51093002002020148081040044020083200405100008024162020814003150C000201000184200809845400010240300AA0018010442040808041");
+    testSerialization(
+        0x72E16539C447B502L,
+        "023F3D13272A2EE8EBD83FED925809095BE121049201126503F00120010D1C81240440220889888489008103200459018322");
+    testSerialization(
+        0xFA65940FDED7D4C1L,
+        "023F3DACD38ACAA9FA183FEFF2937C32ED505A02EC031AC8081180838140808043020270998B07884EC064C1E48021905201410300080031200016C810020A00088700D145182400A9010242412414024222C3800F8043408040258003040004202101800604A8082084986901181800000C00A003020040");
+    testSerialization(
+        0x4D12ED9B2035457CL,
+        "023F3ED7A334A3FD59DE3FE62524FC43A23701EC031008C85828C8C84868080CEB8CCB6B0A8B68");
+    testSerialization(
+        0xE945D4CB35ED57EDL,
+        "023F3DD579F7E8BF7B603FEFC179F63D01D5350296071291C40564A2260C610CA0A841109951022098A32002112764055003006008100A8A018A051412106000084012A10800E5480106801008101942002080000518108180082A00003520202444008084881005238040A40000000802020000020020080402001020A4000010");
+    testSerialization(
+        0x75D44C13BFFB0F19L,
+        "023F3B81D8F89D5347F23FEF939C699226CC6D028E0516A420C465A3A2008232117040E048A8400004498429645CCA3C304F280401048490489282C1C1806040A01804A215E20052318541404848408029A22A10314A48100830080080002204005412028500148050280812031000002000004002AD20A80A0041110840080020004403044048");
+    testSerialization(
+        0xF690C8970C88D47AL,
+        "023F3D3C7A53341A97123FEFC5C03DCEA22F3402D4021AC4C20B000258008430A08C00F008084084400208050D2208102CE0288C1440804D208461050254060A802A1C4500154809020228581015108AA0");
+    testSerialization(
+        0xE1AE0E7FC137E303L,
+        "023F3D8480EDDD72D8863FEFBD0D4AFAB3BB7302A6031ADA9C9047048AD388002182193700505203155708CA420209A10254802A009840300A000100103086910280980042CAC4260810029A40015B2110030842180C004164A4091400C02D72A104A202010E18820C4002102011168121040041010083");
+    testSerialization(
+        0x5CE6C3417289B541L,
+        "023F3D34AAB871F81FF93FEFC4C1FB023C097802A60E1AC4C400200400029200838208518484A8151E04D005B80CE400130E4833010001002000164020E400281091996008108093814214111142401A80180A000006C590004002312424014000840C098008C0C41081002010A2020102245010004180C0000C105000A22820821020E00405020DA0428C1708001002030000004A0030280824C024402020000014000030684200D42800200127B62428449C8084002000104224200008844200102182200200110A0140000201052000801110800200104024024200010020440909000000802210110422100C804018082001000820410680");
+    testSerialization(
+        0xD71C344EAB53F9BFL,
+        "023F3D89251446D60F483FEF78518611779C8C0102A60516B62B3821802A09BA21040E111089B600258AC91C115800300465846868A6481002032012896479815820301700020214164002488800168C004002920A011080422B20008041053C02008A80530800D030A400A24109003348800840080418064514122002A24100E41360C848");
+    testSerialization(
+        0xAC337044A96DF7AFL,
+        "023F3CD2907CC125940B3FEFD50D4CFC69334F02FA0616B708C0700C25004010000D004002100309080A41002090818045C10600009106300014100228290E6040C000080C0008101000048500208009030206204D400A0841404A20090400110000A400100084000000408201240018060000001201040031000400808007101480");
+    testSerialization(
+        0xAFE25963A3014E07L,
+        "023F3E73636C75A6400F3FEFD2117442FF261A02BC021AD20818C09000A2021001843028A6801050C7A03281800200009438A800A881800804911203000A000014E048001000840610");
+    testSerialization(
+        0x5B92F7A78B315407L,
+        "02FF3D8B5B49DD69755E3FEFB2CE741A4A9F3C09022218C60E84C125D668888230050410");
+    testSerialization(
+        0x120A9962FF1FA138L,
+        "023F3DF11A25883DC1C23FEFC7C0BF7340CD2602EC06129AC30600042220000952410021900002C04024208020000400020038814020004A108100C02001041000A5222400106003286C402010010002A020440010004300004151080009062820002401801040");
+    testSerialization(
+        0xBEC62925BC2C2731L,
+        "023F3D66155F110C392D3FEFC29644F3C3DB7C02DA0A1AC34A00280E10E09438612630706890E04044C0810E03088892301418813A1080108342160204002000A0CE04000110321E2084010082030000090022216200400C0000248000A10E208090414400000092441251092082018000404D08520400A0A220100204800820184510508202240201021105420E20A08A0100100100000001931A04800018208000681009119200020412420120002A01810101001000029022022008B0101010080B0100014002608004A8108014");
+    testSerialization(
+        0x840784564071255BL,
+        "023F3D0ACB16A395B1B13FEF7250DDC604DDA20102860C1ACA283AC41318A40400830C0830341A208181AD80B5840970BAD9A7C8401130200403012641E480092404C00403620080129911C2220890800C64224044228C2D2200008819289580204514238601405000009041AA1020101143048240800010582000200C02800150080100702026B41021108800440040120A9A010800100802032A440054C04CB8060B28055810018A0800100000911506400001010002E000004040001208210202001403402298090102040080201628342880001885100201110012002280100100401002280401208840B00000010804822008430008200125A234");
+    testSerialization(
+        0xB96AC0EE3219851FL,
+        "023F3E20155244F7AA9E3FEFB7A26CE82BD46B028E0C16A97B184891C122048310F106044C5000430451860108844385C3040010013171E106030C2043891280884113184880028092020A021058412841228C8A11000289653206240220000002021C107022100108A492208088044400A88008001820108B84103166800000040012B08001400820124801014240000030041008A28422240000030528801808800A01315000408000040800100600C42295650402102000488008000900883152040408E4111800030280800020000AA002040044062040");
+    testSerialization(
+        0x2B686D2AAF437B55L,
+        "023F3E290E7D3F83FCE43FEF867D9004FDA22A028C031ACCC258448228608010E204182C63C0A10040160891190000800C802104B050060B080A128002831152001040004022D2401050428281A008000400650008A80925303031D3C8");
+    testSerialization(
+        0x862CAF81E41A1A19L,
+        "023F3DEC3CD7EFF0FF913FEFF4ABDDAB385F6D02B40716AC9A44019C011088068C50C0588EC455405C827880A0000189100A28500AC186C024C00B0812C450804004A0168440600A010815304200803048118025190A0200033208210000629408200C02D0420009000210008800C102584481200828104500212400220720485000042622C100801000CC080602032000082045A800800010C5043200000222200202025510");
+    testSerialization(
+        0x1C787A8631A3CC4CL,
+        "023F3D795DC47E7296153FEF66F5FD0E289A2902940B16A7151E239882008000006D00060C92496510010004B00808B1102005000800809014000810A00110022030004228238400049265150442405C80002410024804000420A46400214200800010120289008000000A0822010500208C040800804028000000040C000020002081041140880C10002481000000401008240180002020240011000080C01020020080");
+    testSerialization(
+        0xADA2B6B30A0FBD78L,
+        "023F3CFA4541D67B28023FEFD2C133D5DF768D0102CC0A16B109D042A842781E64A09642E8C6A205280846020E20C10318100080014430230472304011B7010C11622006CB04A1D008001948AA212090C3210281140048604408201A406A06850110810930480320500016442801000012BC2550411809001240811B00000800901C20044C200004B00D01082040842847204514201240084100100C040521809422048A0040320105210000101104830088C040025026300021000241000F2004800122020001A03C440044080000A481247001080B621100600040209000A90000083082");
+    testSerialization(
+        0xE9BFF1AC37CD3760L,
+        "023F3D0BDCC9719425FE3FEFFD9205BFFD0D6A02AE081AC244C20714108B0638631A4858108018000B08426320304025B24104801086406B1212003100B206000C51000048C10492C0240ADA84106440005BA006C02594107802090080150C21132C06012521824A003000A0860000B421810100D12000418012110080800A08041C104018C0080828C1000100060082130D04448AA0088904005054240202AA01004A044062100A084081420113400282A4F0000C040A030848842044000820021900000540804082082010");
+    testSerialization(
+        0x5B1C44F240A786DFL,
+        "023F3CD1A30978E183F53FEFDDDD843982F3C80102AC031AD955213B14320906A821241931AC88448D20C912921808000083093480B20D1500C955565109208BE8A0C800560800001840A31000225B48C0090050498225200000A200000C004800906801864801120C04430011201801011007100D20850002C20450");
+    testSerialization(
+        0xDD2E5D6F2B4B30D5L,
+        "023F3D9CCC5BD97FDE7B3FEFF3D4514FC1DD830102A40F1AC6323845A612C69040221D08AC823A26F2634A09840002A0180929B2A66788C90036212D00800180C8A4830B21061924026209411C00023B1003102100602240000F1129002009019002280248223603040C4A2004804C8402C0001221048010ABFC840310800820804043122440892000106108A34848A6401800442A80C802A41004008A802A00543011330C094000800500E2825092327240064C050A148240800800412620620800210011080020422001020402493044401122000021C100381C080020430100020004103642440270280C1021008130002601848424A10010A003020840040A08412A0021000400208001101012004050");
+    testSerialization(
+        0x74CDD16B7F0FB3C4L,
+        "023F3D58B2A4CC7464BF3FEFEFCAD435B3506802920D1AD8827C422A684084B004001910034C4654C40C400E10140208081B382A580440118412840110001800400401282042010444085C28440480940060A82BB08280048000481D98080C025180A20111944830200104264C930D1482BA8000C811C200008012048080AB84001200824A20411044002000400000410C02000A14708408000110900042051204828002100106043200290020401100580802260000604508020402C900000000130842028000000060B0400200404B4000000080211012520210901020000903412600214088000020450002328021910005060D000001000040004843020000031020008408208600142004000100");
+    testSerialization(
+        0x39EDBA15BA6D5DEAL,
+        "023F3D4209744E51B3963FEFC260B9C1A0B26C02FA0B1ACBBCA9810CC76792118584411541904E0094AE11023006581100032098EA0340303308430035242612A890401972C81D060208445A05060A0198C4151000141011B5004308DC0A2C25482002280500808006300C088208051401412088C0208200020620C018080084008003200001022660404020A20A8CE410119020200040242C0208116482005010B2C64008101000388A01102415610C091418410820804501B000000004001C200210E4C0080000200314101200022000080250A20300484210404501002080A020102002A002C00052000498129022001200002440440002080800100108880990610404420B0050090C800211004080");
+    testSerialization(
+        0x893A48ADC5C59FC3L,
+        "023F3D24746F76E9C4803FEFFBE07CD96A3F840202A40416AE4E245FB888000CD0887063658464081DC396A422104AF81461285024C45242608722151536872505902020C000901A80902119082192D018108B004100F192296B16084102492D181924849B01964024C10040CB62040120203001541249881CA03BC12018A4B40220A00B08210881040064A2024800C545");
+    testSerialization(
+        0x5D88D67AC62F910AL,
+        "023F3D743DE73264A36D3FEFD266113C7D0AE60102900B1EF5519E0210618060010000181840F0490C091CC04584628A681080010003105E103A406002414087D120E0180D92D40414581815196D90C8A4A233500209000410458820E08C901924B14009824104C02200A234D93146282400800080C92000D80803521020C8024C0000046200020400010DA04208820281137020623000260241010640080001341081505C040C44025008009061200100524008000008052460290A10740220008000010A104088806380040120000842400002248831220A00902080004004A208008685084440190000011482090F465088203004020500828024204800010252");
+    testSerialization(
+        0x6637C1CE6357A2C8L,
+        "023F3E3F974828DFE4B63FEFF10EDD7481491A02860B129808E014A2C402212C4244008A002148019868B04224008100650602000884E0120150808248024208110040482000281D4000108100A00021004203C08410300409240A0210014248020042068005000000A4100122042042105201020022041400082400C8480800110081220220018000040B020000821000000B00810801200044000886001000420200410048004100400A000404008440200020000240");
+    testSerialization(
+        0xFC7B432FBA88A23CL,
+        "023F3E56C5DFE47F00973FECC86114256B0C29029C010EFB81809E6C127C01208082001C900200002001204090000614");
+    testSerialization(
+        0xCBD18EBCD1F9B00DL,
+        "023F3E19FFCFF9BBC5863FEFD0C43E689F803F02C80716A7A214190D0823001200EDE19C000040419A04001048203080C5120909160944B43280848163C007180582C42000C24044100840800D2088D080625100A000482801440004A1010A02800020A110800004020408C501250A0840410080A119200013801468008A4040110898024180040142480000080000402080012000400484930000A8844001008880");
+    testSerialization(
+        0xCC5D77CDFDF2F139L,
+        "023F3D88042A086FEB803FEEFEC1503893712102B2061ADB20080F8C08841210038650F0CC8485402088DC0E13658803909809083149498201440650A122411000C52152D82080504EC2202A111114686014400000054C90028080052508A8100A2020031404080002965138112000090A40000030442300028806100010889030001000490004108C048080001449520003808120612480081002");
+    testSerialization(
+        0x0F87EEC1B08AFC93L,
+        "023F3D9DF89A0F34D8733FEF284520E52FF74B02A4021284054084618646646E34C10600528180802440C900B2512100098486004805000420C80A000120009030A00A89C016440058A0A5");
+    testSerialization(
+        0xDAD6D0B2EDB856A9L,
+        "023F3D0FB716EFB83E8D3FEFFA1B1437F61BC20102C60C16AE3B06701F6018C2236490316CC5990046445580802A105240C41401080122293206C4C30A082204C00DE44009061849101108D242DA20DA198A042020023004600C20006000230184404180EA08B50204100825260204020B0008402520100208840080009990124844048848302064852C0490009002A4882100048584100019010000000A09800460140100500009011200058002C4004128200801045408C0020A841220040A1442006850343D020A40C100051021A1A420A000040400282980810009001000100602140040083800260210E1201E088404200002800008000E4040408042408802058010B0");
+    testSerialization(
+        0xF1967332FB44FE31L,
+        "023F3DD1DD6E69D4E9B03FEFC913EAD931E32602AC021EF3860748100870804080000400702F11D961C48041498800843E0100041924160000013B00907408181000400080024001802E6000001082480410");
+    testSerialization(
+        0x7E2EA1F8378A6B05L,
+        "023F3F02913F2EFBAF3E3FEEF9353891FB1C04D00D0209080200802030120280A0285202832030C21A82A60842128520694A1C8E22C90220C5236DCAC680A8C8222080");
+    testSerialization(
+        0xF7030484C2112723L,
+        "02BF3D84D62E7E4EC1B73FEFFFAFC343F3AE8A0102E6071EE350C5060018E400850E162C00907429100E260010284030021117101890410808307B40A001444842220040122A6298C10442404C00250198D01182B1000A0182798451910225684985590161941024A080001E9420212406CF00824060801800180024020204561B206002000021402C21010800404D8200000150002208830944428808388400240050002E80B22040C01142820C000C00B00002002182010018082020001556162100000800025D0008011120");
+    testSerialization(
+        0xC9270AF5DE5DD831L,
+        "023F3D40FD297E52C7983FEFEB93A28AA7F67002B60B1EF24A0F223C1000C0C203060C101033052040C981400A1658213035880710A0B053C28A9931D76801986000130049044D061D44001AE0124008820A6B1538016030C480030110E080000000484C09800214002020309800067001A52822A88880300304D800184900A0431000C9009200548211E0093596880141F0800A30C000066100040588EA00820008005040808882000411272CC4045081001104009004048603010A8000088008280BA500800CA002588308A008110800008044A282010004C00000028022000010240880020040800024040C0000008100052000010290690400003000830005");
+    testSerialization(
+        0x17B0C92492DB0BE6L,
+        "023F3CEB55764B5631593FEF2727079810EC8101028E04128C44A6702066A8202C3840AA88000609008000E9080888230A00485420048300E0082202001218280203005202901084804008AB600868080435300142802830002444080200128005C400190200080010010980408180");
+    testSerialization(
+        0x65EF9855875761F5L,
+        "023F3D97DDEC4A0A65433FEF0FA6276C50414A028C0916A902C341902251C201211090410804A0444811A18A00A20446A4C0103F8698302040001089024080526808929A400D0845429008800906240A012008804823155500342A2210008058024248020148022520045080888018003500208A2884400001CA520108200500008080100102010048400104804688000008040C2005002409008208");
+    testSerialization(
+        0xF70F6FC08FBC6CD2L,
+        "023F3D6045AF9C9D1FBD3FEF8DBA5F3C30818601029C0616A6924070104432C0521D5044801042404400024308B8392001019033010802400A840A004400C040921480901909100029810AC413850460A0082091002C00400400040182100084072424C810703200628D0004240802021000030024880420008080250801011292048A04804088008200000214200980");
+    testSerialization(
+        0x31A80F56D1763C8BL,
+        "023F3DB616867AB9154F3FEF19FC6BB432E9C001029E041ADB2AD9410740811110291609D502126640884701C021A9825E0182002DC3242104221138131460DDA985088204C044005CC4184285180040EC12012C1003000015634645000C006A09509531903000120004402541003381020506012532430284C000806844021822104004000B24230109B0114A060AA880");
+    testSerialization(
+        0x719544336229E7D2L,
+        "023F3E18CAB39F7A03263FEFEE359F77BCEB28E801080C844810224C8144C458946040811229A99B2651395224D3AB2040");
+    testSerialization(
+        0x297D5F1702685620L,
+        "023F3D3FB91634BCA0933FEF533D147025D6900202CC031AC8B038F48019C00C01000200F3D15BDCD4008488C9C09B7C16E45C40280003041623A40800006220881482E31018581880410E04181080086D040303C8D3E180094A7014D22C908111845C0180100480882A2E056A60068021F2404400D22040C0000224810008");
+    testSerialization(
+        0xFECAAF16B0750091L,
+        "023F3DD2D4A868DFBF2B3FEFD0C680FDC81D0A028E0816B148C6000121200401100C20408482080120106A001A218250204120500100000200424100204004508891081189020140122080204A00020000040004800090140202004020088801000820C0240201000040000200204080100080004910082040");
+    testSerialization(
+        0x4E48827CF8C61F54L,
+        "02FF3D3C2FE82AF8DD133FEFF1F3DB744749E2020402701EEB57C7086D590342CA86083418305601690272183122C225827A91502181B99E90D0000008E8F0");
+    testSerialization(
+        0x041CBEA18AF9BAECL,
+        "023F3C3E7255F5D5BEC43FEF7E2EADA310BA1B02800616BC094A03806002C0300CA839011029941022040220A005901804B0802020C040800110000B809120064808210004040100200810124004200908028000004190020408022000040440000408280248010100A000101CC802900261100A108201205001");
+    testSerialization(
+        0xBFC582141F1F8448L,
+        "023F3DA61FFD5AA4BFE23FEFE39EA6E3D4CF7D029A071285C00AC8D009A04290D0C40C5204400C9180144D00050630108E1010406640E002027812955510009924001A00400221011C1062205064A0002845D30541081200953109648002048410904800C80082013000502080081210800081500600320BD1004111000002099A44832012400C10000201B2080103102000840105020040002000000242D910");
+    testSerialization(
+        0x1F2DB364484C8C42L,
+        "023F3D129C44777B894D3FEFB0F1DDB9D8715902DA0D1EF1C3B51414007001420608403810504904810EC5414101B0061D604832C08130113001041216A181E0218C8E84551B00180822054580828440AC48709A01010A000C80811C1081018641081409302226E04194E2B0080A80300FD918001245000213008600470000211D0CB4096481490182402416440CA8CC085005C4228440806400194D10220C52064030440A010040119049441804202940400004022800988002980413800080221101002048000B0804A401000090002020804004088000A4820011010800D200005C073244242804840010AE8400810102802011451900800504000A1001000A406020000808014C010850062021642000040000041060481500020A");
+    testSerialization(
+        0xB156CD02F199BF01L,
+        "02FF3DC05444C281AF4C3FEFFE054472B47D920202024E228CB1B0A1C1E0E041A02170106160B020A41A10494901083099552A221092");
+    testSerialization(
+        0x805880DF9CD1F3EFL,
+        "023F3D057B46F54B216D3FEFE274D9E273206302EE0D16BC10140306CA2080018812C81C5D4840414452400189081908810A321100286100868000C04920A884987511102040200A4253200140A85002A83406015500A0000190108440200100C000020810800CC0010669280208060240010000180A20004448642010A22040841128220022200000002C00880005008080341C489400020048400C0801210C4423C14800081080C2481102720830802110010E204120C444028E020412890081004020002040024C80802001400C00014810400102400088002400201014000C0220408010010000020048");
+    testSerialization(
+        0xF1DE0875B332446FL,
+        "027F3D93CA543080E41F3FEFF03FC5CE8D2DBB0102E8021AC466E38D3461230440209829535009C56D4D4821220B8B948018954886C2006B2012420003060280E29964010858C2119400449018E018000402930C8289380C006200004090002E24632352502146C42072390B");
+    testSerialization(
+        0x81487F13496E7B8AL,
+        "023F3E11397823635D6A3FEFFA46842CF42F1202DA031AD304180B08000186000106305004C80402800C080165078A81A542D5211510282000925890401420200A02080005002022444A090800A1029000420220924400001300008A");
+    testSerialization(
+        0xA1C603E2D2B1C755L,
+        "023F3CA5BEE698800BE73FEFFF8030E54B32A90102EC031EF9478B08042921628201001458C13144029000B402895E884408EA190CC4004600C03110004539820008287242400430452101010454A00010441C080A180012530420082412216404156880100CA80C081218218001041078A4A600001005802140A2D82022C8408E104D808843003A40");
+    testSerialization(
+        0xB5BE0C9A1BB00E12L,
+        "023F3D9B172AA30919A43FEFE88DC932BE591F028E0216B438843200010000518809A1444125120E9080A01804205484010008888501001000080100500080");
+    testSerialization(
+        0x982FAD98F4955B0BL,
+        "023F3D9A183642517A433FEFD5EAE3456B0E37029C0C16B264CE119148780C11A12CB209551191A20949192101082808224451C21508C02878A6284804904A090802019581284A020901A905C00441005B0002203111211328146180D00000100A05804104418008000804100031C080003200041000820008841810000804120400240022C10800000448910821000840058000020C84102400504020004204300804400000804480111000000018104400088400482041002030914800804000900810040259004018012408204280");
+    testSerialization(
+        0x6F71EEC14E3C2891L,
+        "023F3CBFEFD334B0D7023FEFDF6027112AC64302DE09228038D240502052C020308190C020610045284602B862048856845A413020864000245B54115920511111150140A110080307610714300824120280400031092140062813400229240408308018C4070002312010052802841453019840008201252004886300840304C0422051A505A40110820001400000221600001210144094210408000240A00C0020061221220040808C203004005288445C40240810440244080100240C40401200400091200130104206320140204100C442008240012000141D0120A410C4020120000234080400002201422221000100C0");
+    testSerialization(
+        0xD61F8C52A46143C3L,
+        "027F3D3837EEE3C2F96A3FEFFE711491CF61E3010290021AD17F20613248A8B40060186056C27662200C26608E13063134982302A8B1B4C111333010803042086244B26CA7C66420C1E4A37A258260090980888823104412002701B75666147E901260");
+    testSerialization(
+        0x9BE3190D6B9B942EL,
+        "023F3D021E02E7E40DA63FEF976BF413713BCD01029C011AC0D8018686380FA278461A0850CCA61C950AC4900E0A1896080A1801013240582C012A072B28C0140080");
+    testSerialization(0x6E8E1898868EB0A2L, "02073F9004262A7EF8FA3FECF1A833134120E601");
+    testSerialization(
+        0x553F7F84144A4C23L,
+        "023F3D66A1D800B4443E3FEFD178643B8CDF6F02D80816B1B886B19D02000021A490C8EE40484C08044A0080108A080091C1B2424401014986000103014002C161842100001A3CA249202002030640606480220004890C114004906104933920444040D629000400000083040011100803088B001000010181580808200B00154011048000009004A42018000080005800080512420001133240241C0880461020020420900020000801014C01400008024881002100A008");
+    testSerialization(
+        0x228FD26AABA0C661L,
+        "023F3E54421242AD37213FEFE5C1D608645636C00B0210A201028200813018040A31088482231008040211090842AA6008840221188C402A202010622100904A40108904660210904422141144821110804A27201084039110805A24110986020110904423198845027129985E23228B85223190B8524D138DC46231C890463A120A444211A0ACC62B161BC5630110DC4820138A04E371");
+    testSerialization(
+        0x98EC5EF763A53FCFL,
+        "023F3D31DB6669D2118C3FEFC371556804D1900102D40E16BD191E412820004C8498322402C808940C084DF14926029092452400221220C110164168246B04069C0053E01042CE00830402405002C26000105134082D1029041051019A480016004432100000480B16410080440400B4010100100080089B0000C0348000308A0801004D4900900000920044820884A051021020A128210004200B882C005911820104000102208100002250868000088008010320120002004248902280280D504085122800201000326204850042060C011200120100040454C0C620101801408000001C540280A00040022900042081000000901400020800500008004240008000204008210000008020");
+    testSerialization(
+        0xA6AE40DDDFD3D2F3L,
+        "023F3E06D2765CF13B823FEFD95819BBD0F92E02AE021298844AE02FCA02246D200000400B0138C20800A900128004062002008200040008A022C420001044080002883050");
+    testSerialization(
+        0x1A9F21E6E88F29C1L,
+        "023F3DCEBB8DA423D3653FEF78EBDAC43B9D19F2090210EC00406041004088088120040C41080100804419012002108210910022C4E082104218418891084044209B2162684989411628C8808115A2B8400801A42744109F1382144309A11220");
+    testSerialization(
+        0x7ABF2E6DBC13D977L,
+        "023F3D1D5A4A2A139AA93FEFDACD34B7B799BB0102860C16A8154A173CB140AC139430C09C44880C0E8A45C8CA0040C47141067241022942001601030218EC22E12D909B08809850820028C31B2010090600D26002E1240018280F95406592210490102020F4010154800482A0A00485400C24624308024548000000C821101405008002D0200020000420000E704301100218485208000404460800A0A85000008900001000295480418420002060C024800014021B000009008302001080004A2801004844090025202220103000040A000003011040400900225400002520100838404200A00410D0548812E020440290A0020421005224");
+    testSerialization(
+        0xBF4E2F41816EA15EL,
+        "023F3E787FC804BFB1493FEFC6CF0BF20FFD2A02D40216BAF09A04080B4A46608CCE019B952449361194300081810009304019204100866000400100028434468514042A420300002300804841802A012858540001246308");
+    testSerialization(
+        0x3FF81D2834CB6D60L,
+        "023F3DDC8CA28E120D5B3FEFD20751045EDE61029E021AC9941B433A14E114B0068408100409988808680C01A0832F065161C348200640000671260E02800B579B001050441C2009401A00000608040328E258201400600480442607");
+    testSerialization(
+        0xA8F148AF30F4B908L,
+        "023F3E0CA408C7F2372B3FEF7EF8A7E6F9153702CC021AD00A312008208002282200282801431001885265001824B4002001000504E8008022824505440A243214121014408824904B140946610010");
+    testSerialization(
+        0xD6E2F0E513D0D43EL,
+        "023F3CFF38EC4E328CD83FEF6037F0D2BF2A1304C0060B1D80489003408280063200A8000B001888012C400E1829100401204006400080");
+    testSerialization(
+        0xB1BDAB8E9DC78BF4L,
+        "021F3DA7E598F98B894D3FEDA33DF221EF9AA208020CF00E02819014021843200461064291E4491A4312C4011846920421704210452946589C44E14840");
+    testSerialization(
+        0x219142E8B65466F4L,
+        "023F3D211959DB82AED93FEFE2458B2A9AF5D40102BA0B1AC28068840D6840023003020290A00089545811480EA0E21082008680090202B2440D300180162024200014008B081304D94490050010120E04204546A8800A0D62010000000520B00881300114200122242202C08C800184E1120C4A4003080C4004900A421000400880152241088608822510001D6444008008C10482206480138881000244040800620800200008081120001178088800A401441714248820204460D68002808251504A0021080481910482800020040081020090C0018C406020080A011890320444400102B08A20200401604210804812");
+    testSerialization(
+        0x003F9CF0BCF3D599L,
+        "023F3DDF52DD9D017B813FEDB5FD7B8AA6EB0302CC05129060A222006002004A060410211202C000A400080003600060804820010808250004000890901008022004500000250004008010001040080AA0");
+    testSerialization(
+        0x4615E70816E98019L,
+        "023F3DA70001764D68B73FEFF3E2CF98FD598D0102F0051EF68818200C1026E348890C040840940546564018813846869608C08009180818A44300013212222B0508434204402800220104864049485C8445190432A001104B41040302202A68880827C4002C20410046C0218049A0B088043004400298000460822000801003051804D2000412120151214068B281000226081058084180280000830032424C86E0000671443211001080210505500844020143");
+    testSerialization(
+        0x533B11BF7E56AAD2L,
+        "023F3DD2D9BB7EA7E5B53FEFEB42BF1F16284D02F4051AC08852B72498600C30608400109B6980895294410602881C089B10A80932992A107065A640292059042EF9200C100C0210B0841E2300029D200088600608008509280008DF410001A0843000204000000400003B00960004404D0782001900014A000C10090144459160008204A001D10014082840804316C848290840");
+    testSerialization(
+        0x0C5D654DEDAA707AL,
+        "023F3D6799A5D30A0B063FEFE8762B4E56DD5002E00E1EF6C491100C08C1C3060004085080106A1216C5088620960901B8804EB0520230A12012081087002004050500C848F410302412222A330B21101800A2217100586CA01C698024D0451582C60B36A021920929140020448884045B0012240210E2236C01C8403323000B001620110402B00CAB0208900488800400840083005398C108420308914042120020884001050900000084A10010840206904081081121E01248200008640085008008011A1004100008006220082182102044002A01480404010CA203204018B00520804080900008000D7231021120400B04110C00801812940480008408408010100000010488220045D8190240200100");
+    testSerialization(
+        0x72DCA3B0FC2499EDL,
+        "023F3D2902DA4B66B65C3FEFF31ACB5040FB4602C20D1EF3C498001C1030400102022420604C18096C25218988133890540D369008C24149140CC9020AC8800018280498011031200063E00402288402510480A3890401810D0012C000A0011808143C00C330A4021D00108084E0420048004841880000280081010088482010804022909C850C000410A00C0202824014016100011000000808000001000202401088032880448090C0204201048108028040008100A8000002042201A00A88044440109200001200411030428182000700E080601A4002080040200C0A0108002100C54600E1081002120810400054");
+    testSerialization(
+        0x8B733297980FE1B3L,
+        "023F3D417226A4E2F7043FEFF59D21D83BCF7904B00D1AC84069248E2DE184A02002295406981E95802019020009D686B488C4014101019706009321064101DA404500CB2A808804B01A08030200031242459000488470084C02224010422912402960342100BA00211489802410D2040C080481142890021210001109420084480C81000420003990002400080EA0080000864800801C0432C840002004301020232B2B1912800804092400090000800494D2241CC02144800A90008000008008040106404380880229040102210004A42222010000024040938104000890E15020400480828546090800090820002001042108A0888105200008144A080001443000250014C23010201200044180");
+    testSerialization(
+        0x999051B19BFB8A9DL,
+        "023F3D30D3B94E55EF4E3FEFB3F011B9EAF2880102A40622892380204030B000C0F0308030002020B410C05691490008304401C1091311707024402102352310812032403C2658442401C2000022720031341101236C7D4302B69100040030010CD2024512004076002002098003443A0068044A362024274100024404250C2500005C1200241A40250400148308844264146829461000C1AC8718CA2303800100060530402400040033070000202219208008017140");
+    testSerialization(
+        0xDD0253A971577375L,
+        "023F3DD38964D432622D3FEF9E05A66746293E02CC0316AC6C0E520824004601842CF2A800360809A20010300006300B00024080A4EE182A0081510310109012A02223054404278804020880802001710404002000B840100820");
+    testSerialization(
+        0x69A7BF83E48E8C0DL,
+        "023F3DA897C7642AADD73FEFDC3C6A6396BC5F02F6071AC8B188038020008E90210600110810480C04C2890601800028A401100930D9620252A048000407080020202C8811045452208B3821414160000042220808101404A9860A248200062158040144800208B891560014120030010A24400210397E04000538020A80A00103001400804800A018008D0A4041080150000400251801841004028400112144120800008110090008810200000C");
+    testSerialization(
+        0xD7A6AD2B2561D503L,
+        "023F3E0D8188C7B9F1F53FEEC0C180F572954502E40816BC11C2F28C6308C0010834400040028021804202020109890890589000B00800C60000040280AA12C42402890402500003224B0408000200004001000CA828805009810124000000A30440000640008008406292001450100C80020202100004240208011880410820000410085414020004600508800A020000103000060428C00002440242010808012002241004489014");
+    testSerialization(
+        0x7907D7CF9A5031B0L,
+        "023F3DBF0140ADC4E6583FEFA314A249CAB77202D00E1ACDE00143A208828E31058A100C909808525A058211A232210533110822020114807A2C41000C0618000404081820008120A223230200041080622008402209CC82010004140182081010014030120001832024C04883088000D405129008820A06118100608001400005088814014190080016011819A27420040C30844025C2108800102A444480105A9C00010810480444C1B011C5140400008044001280008061020820008428011022002418400602800000001040020C002A4090140440000101081400490020410200024804401094800000224100120920004858010900F22520010A000420004000401489444201008040208008080000008680");
+    testSerialization(
+        0x84ED151FF847E34AL,
+        "023F3DE9AFC09D2005D13FEF65EB8FAE3B63B4010292061ADBC82B009A0B880878050A50562102489304400082B38A0A099B08C80B01B8C0667020111A1504660A00AD500406C0089415601B120B45E20B04B02064B1006712400488C00C06402C8280C184840710812A30CB109040410800622002200282308184949C1A04801800181B800618012071402828862550C98409A10048043008813348208582000E00B102800C512D18100B007001040251481208");
+    testSerialization(
+        0x15BE59597232432CL,
+        "023F3DE0C7443F1733883FEF8E4D4DF28EF22A02A60C16BC0A103100000802010C2840009C0908A2081220900007860800421000A0808A9120090202800400004400008204800100096A08130042082440040C0002020000002A01C540009285020400500012240080010004230406104501000000020400480A48400040900000065400A200101002400041014C000201400008244004008010010280004104000480");
+    testSerialization(
+        0xFBE3FF25E49E4F60L,
+        "023F3D97EC325A9E8F413FEFD1BF89CD89023702BA0116A3EB80411401204400006E22484082092182012700DB082490504086092888000024848C1070");
+    testSerialization(
+        0x5E249603B186FFEEL,
+        "023F3D0EDCD472CCD05E3FEFC1191C8473BCA60102D40C1EE384C61A203801208204041840B0942308C212A6A3194044ADD00E09065101B04104648A443600649410218AD04C44010088118F43209BE604014086094B85208AA9C1080471084209E8A4F108800584898800800009041023680002906484484904008088925040199448080000123000840009000709001040408093100004100600200304000804A00440193C00040801A00000000884264018000580800468694B1660001002195050654180800408040050090080AC0220501210044A008000801000130A200A60000022200C490104300500002140210C07404203E01008A810C2000200003101440380A020");
+    testSerialization(
+        0x8507C98608EA78C6L,
+        "023F3DB01D3137EA1E563FEFA07851062B50A40102C8041ADB0E5AA28033028220420C093000195541048A90098A425102082536C3600241E207C22012C340908445005C5C04800004020208A2555C4200C1C8AC80C50090500193810480410420214A49564002020800904E8A8881420308001448085433EC8080013231010980");
+    testSerialization(
+        0x9195B6D500D6AE15L,
+        "023F3D9CD459CBB79BFD3FEFC294693EFA71E60102C4091ADA8451A10E29A2063901846010E00E80C800F8012DBA29022D350C34098A0105A918520A000425E202010000000F044088C420808889800100D00B8C404A0240196881D94C20110A1C404409109EE00832410C800910A2B388810404060BCA02105C144048C00100A81102015100040002102014002048EAA015440412880928919A9252020528080A0040950600000A240060091504400010A14008400BA402404200052B020460110C00000C2049000404202C8000C000021800010A");
+    testSerialization(
+        0xFEC636268E3C8614L,
+        "023F3D61C7E2A513D7953FEFF00ED132B6F7C20102F4011ACA368B86349140805566800811267421188C01544D92000EB809804381041473324137364081B6982000CA059006288122419200818100992B06250204");
+    testSerialization(
+        0x08ADA769154F454BL,
+        "027F3E089E2F41785A3E3FEFFB219B04B98B6802EE04128A4881058420246E10028C81088800404184050481C008B01020409120160A0600001082A5401400906220088168514010802006801108800040220045C0040A02C14880090014108E0800104820B20088000008008110208040");
+    testSerialization(
+        0xC2500E05C8D70685L,
+        "023F3D918CF9EC0979F03FEF78A504CBF379BA0102A201128B218200E245AAA8501004808D1CC0AC89805D84D6C0043003018080E825FCE6C120A0");
+    testSerialization(
+        0x58EB04418D0B1AD1L,
+        "023F3E10323C2C05A06F3FEF597787C43A9228028A0C16B870DE2001E50146230C3046080D000440C101A1400010002124C5C402E4086060248700080818240020000202502D1051402088A1242040F7E3A04490004408089000900425000C00390800222888103040010008040010008520080880440A8F0801040040090000044001008000181012048000010042005080080842004C000031020400308880200C4141020D0040440C00311480200084002084131801C2880040200A040021");
+    testSerialization(
+        0xC97791448B561151L,
+        "023F3DD0E0750CABC8603FEFD9C9B17DDA0793010294071EEB3C9E081C90D00082001A18106034021002109C0A08601101B008831498E23647E51604D30700BC9E08E8CCC59012C04800E000C108093000009300104831804B6490011500410C02402202404181106C10001632410202410806202818D32010C10510890C50D09000A12340009080400061804800802948380130421041010018880889200C001012601CA182081010062022420201050038140914910905070C0880A014003104029020");
+    testSerialization(
+        0x6C85AC83841A3E00L,
+        "023F3DD463595A145DCB3FEFA2AA8578C1E45A02E40616A8B3B74B8063600884902DA2117CED5A61C201249A1025C17030210121800006010420183826908224571900A2104C6053006080090202448982A8E900003511100A2A6830010220102432690080000005902128040201000512408A02012904008001780806002510601044328200109000030011008214020040002140010820A910000C250001000014");
+    testSerialization(
+        0x9D47CEEC316ED9A1L,
+        "023F3E18DDEA114B8D713FEFAEC42CCC00DE3102DC0C16A780CC31844000060000087034D48D080108082103C0D14424A2002085C65014120200F0918044200088081411010402008814300400001A00608C0100A9080C0140409408215000128220006904480989000121000800020111400008001000804080080102200010102010041100800610400310084910080C0100043404008888104000500008200100203000041000C002");
+    testSerialization(
+        0x52DE011A7EDDD2ACL,
+        "023F3D6A71AFE063F17E3FEFFAA5C95B4C0C4602FC0916A2B8082008C0098210802D148808202001841D0000C901208810446480C8080880604000900020001A0040210820090440108101942C06002000000018442008012200300000204029000000C088001880822000400088101200010009306204C000C0401008040000030082060400088020048280808720020000020800400E4200000020");
+    testSerialization(
+        0xBC4B86A9C00B5E45L,
+        "023F3DD025B3DAF44FA13FEF35A6769FC94C1FDE01021096442206241282420402242282020206438542222206C283024A022442824224C2");
+    testSerialization(
+        0xDED704B13ADB6E3BL,
+        "023F3E2593BA64637B513FEF867E4280B1364802F2050EF5C6595C001238082000A23808426201120170891090648400A1049080290484010B2023480C004890444C0022000800880040060690100100C100420000802001D0010480016410100024800900404100204013000402E12080");
+    testSerialization(
+        0x4329A1E75142A10EL,
+        "023F3DB437A27237881A3FEF97CAF6BB08343802D80416B10898400403284E30082C13080616010590C80480102F209600100402204A609000340818040042288A02010001024228088A4821100000E80A20060004840048000840200A2001BE57601388240000280014850102004180");
+    testSerialization(
+        0xE7E50951D69A7671L,
+        "023F3D86D39F0E27702C3FEFD65E367A32E54E02BA0716B830C2420C0002422394904A04C84810C409854480A483A112251506816000012300C0500A480000100082122A09356004408084A2095001800180400801000011848202468001420410002120810009201486000508201880A00000601202089C00010058000000021241580029402801102000A206A480010002020280080050");
+    testSerialization(
+        0x557476EDBB8A95EAL,
+        "023F3DB51F25CA90730E3FEFDBAC81AB07FC5A02EE041EFC010D12080060A60182080C28B0100A0400081854441219B0B089AC149A09301222060A2006452810010600E02110112000D80C804B40907B8180500012CA6014200218110C904010805141800EA000484031100000402006450800810012A805C440518A200A0B14A24004A04831260C0001010800015A4000529460");
+    testSerialization(
+        0x663EBFF1A5E39994L,
+        "023F3D83EB5B9215FAA13FEF7ED9C59FD5EC2404B6050ED00150E000106C0111690A061040025484080081200000158004100128124001108C04016200010024488010021114226C0110011410112004800000019204");
+    testSerialization(
+        0xAF9AF9B3C29B2694L,
+        "023F3E1494A0DDB281483FEFFB8417F900076C02C40316AE814450808008C46284108CCCC8210105485DF4502892400430101082000686984608082000C0012802840091B18A2222001C140760006000064008C0010005405A2A0823400002060B0442090500940847000A");
+    testSerialization(
+        0x453357C6B11305B1L,
+        "023F3E08862B5FEB51453FEDAFAD51CCBCCB05AC050408C810A82888100868C88A4C4809682C082DCFCB096F08");
+    testSerialization(
+        0x585E6DC6D06B262CL,
+        "023F3D76E985B34C00713FEFDB7222C97F4C8A0102A80B1AD08421C30850400410C0041834210862C000243A566001C40825332A8C300A01D91115850CA4219289207C02546A80A0E300D00134921940A002D00980D444350A9A168336072C00842006020C258008128112509018203000848002C510121040008C00084009301992042000010020324004048322648080000422520909802100A14800100489411001211040200022020100040010C008500051000028214000490A820004041084403A0200000000822800920010560A820A00000882480100002900020001400A08801B0082735AA580");
+    testSerialization(
+        0x58ED3A5D5D00380DL,
+        "023F3F001AB286583DE63FEFBF13DFF3E549058805020CF41B0A4111440102419365311647168429404311A6A1");
+    testSerialization(
+        0x4A32B3D69C5F01D5L,
+        "023F3DC15ECD91F9F2F73FEECDBD6B8DF8342402B00316B508A8160524304610002C00A02C0E8145866925826000A0100138062A200200000091008C54100020B801082040001080081090300110000003115904020041024940");
+    testSerialization(
+        0x20891874AFBBB0EFL,
+        "023F3D0E76ECD9C1881E3FEF0F5669E5CE6B36028E021287C04C40208A20640C900514124621154580A6A00119C0040816600884114880504002402105C4580080");
+    testSerialization(
+        0xB1C90CE9E15B4F3CL,
+        "02FF3DFB48BB92A106B93FEF9F142B6837AC8801010224183CA8A4E8A38808760438000A6840");
+    testSerialization(
+        0x18AA1C1EEB83B16CL,
+        "023F3D4F6C83CCED8A513FEFFDB9FDFDC5314202DA0D16AE24F7510041188201004D804099090101804A81920A07B001410000840649108041003281800000112A8822E12E6250080002090080000104821088300A11940000948100080060100821024000810040000298241205008001001C2112404040A19800080800020030600425D08100AD080410040004000049800A00003010C51E09400028031000922000690009040A0001408040001002062005004000001000438180B00000010810090001202900100082088040401000020C");
+    testSerialization(
+        0xF11899606A6D6736L,
+        "023F3DD67AECB5104C133FEFC71C246053B32F02920A1298C862406A26C022097E04B31090802800104004CA8828188880000110022508010C2048000080642C810100082018000240489401200009004100114009000808C0000000802010010400880040410A120224000100202096040021022229001024020408620001808028000100000408200800000008090108C02050");
+    testSerialization(
+        0xAF48318D5E70A70CL,
+        "023F3DB2790A69F01D403FEF7228700BE7B51302E00D16B63884718181180601140C020AA810000186491082482090460601201010008A90040017100030500A00000002200F0500F0A08C1684840004A0004000D00020400900024000000B050808A300200240000208001000100801440040010000058008C008902882002040800801002013080200000010200040028C3001400040C00000008100204008010040020180202008060000C840040001000080800000480408");
+    testSerialization(
+        0xA9286580641FBBFDL,
+        "023F3D7426150588C7DF3FEFA1220A45A93D3704FC021284816204424220460C420800000041C20200006B25281001410098040500108000240149A6244A0080A821040088");
+    testSerialization(
+        0x36C56BAA2207C4F9L,
+        "023F3C98CAE80F22C4E03FEFD3E196EC4891890102E00D16B8254A00344600481108B04EC0C8100CC1C0121840820830000A08400213230022A00216887642C020813880400400405C005A2080D108404B400053118008488000E0280C0400093050280A251051043641281046000084004804108E2002111181640002008005085624415D0200688420150180440601020080C100400824218008402A0A00480011440C886C22018052820102C024040000C0088042000086004600048004004140202002250011080604000008000080024000080011400840601000046500910C2040002042410A6081888A120460100421000810A000014000002012008240244C0012040C0808");
+    testSerialization(
+        0xE0E958C0F377A821L,
+        "023F3C69D61B0D28D98C3FEFFB96BCE6DBDF960102D6081EE1E41A10243831E00801083080105386C608ACCD60580DE52F24B887844073000730540949268222B002201500440404802118409C09145964100AA82458507404C80010100D83080106110500A01812242B300814184800408075084310A003808305804504140084040200200000074A004000288600A39004000484082C00805021081400A41883009060200400610000444040480484101D204822282705444516800482600400845418105128082003040005203010400242180456048490");
+    testSerialization(
+        0x0F75CE694DC1214BL,
+        "023F3DBD1A11D4BA99BB3FEFFEAE43DE821A3A02DA081ACE32F5978288E6B230E600287501180E31892002E0008A3A3132D180109180371A87319965079742545C2A3700800480A000845091001AE9E2C82001206028092024002D1100040413294041380024122000D60140040D04B0961910285108A0008A92C031006084C40082810C1A0020820045885000800108305024C0020006C00004C400809101048112306260A29F26445C2900E8002208850000800C34092682412084002400028110811010A022023102002003A81000601123028220");
+    testSerialization(
+        0xCF159796FCA24AC2L,
+        "027F3DB7E310AC0873203FEFFE5FF9970D405A02F6071AD34C20680010018048418C080E904924800821D29160A03804BE0821020041068B6506A22C1AC0014018400052009222220200300060A18A400241494051450921402E0810010400258000A000003110008000E18200249809980154210220201422201040220A9040091003008002008502514A088010C800408000814124000D000400220010880000001009802002800804");
+    testSerialization(
+        0x4659E12F0DCD9B22L,
+        "02BF3D2588F5648AA1123FEFEFBD274000AADC02026E1EE395199684F951A21185020808105863071CB35209006124340312B021086A431062410C54CA121115");
+    testSerialization(
+        0x181F9CA7E6EDDE4DL,
+        "02BF3DC52EBC86B6A8473FEFE028522DF200DE010280031EECA2963C4488306842040000401116C00A6A618CE21842069E2C30A08D09B3101150822101080204211054B64AC81649455108810810044006445841064020486B5002C1C680086890A12090100C5100A95218B2108030900410010135C06410800010");
+    testSerialization(
+        0xE929338B0DABD75DL,
+        "023F3E39A881A039242B3FEF9E2D632DBF6114028C0C16B639528381601084118408710E7001904804278844A0C0311412123CC000004906801400082A1200000120224C040A44801020000084020304800540081000122202004002102400040040840021C0041020800109400810010008200120801E200000801400000100000840000408100802A8044A008C0000210004040082001000120020400290084820A04004");
+    testSerialization(
+        0x9B44AF40D00612DFL,
+        "023F3DA1066B6F439CA73FEFF92CE35652712302AA0D1ACCD2C0800038A080100092104C26C0A4145171A0C220924230311080220020060200240020408168114051802800028050040861000A0018802816100021820001080904240010190484041A80805804000C1E22121000002488290111840CC100200084048210404450140000280A00430040400C2008052240C0302000002402800040A00800812484420200100404A085040208640180902432080040018086021404020100800104061080100009100C20800400801082028C6C42");
+    testSerialization(
+        0x473B2FDE7C81271AL,
+        "023F3DCBDB36F0962AF93FEFE7ED97FA85A41802940A1EF20F08161830A00043000E0010014CB06924071005A042000080AC200436F445208A00A8C1AC064044901D0012400108028400445240802262A9C60000014280008A9601840022400880408000100180020320D201010402520200002400492280A20CA0000006260022020000009102141010809201012110480004880D0200000808010C20200011000220C4800081001000004001048220400440008040108034C000080080004840108300200208000000480422");
+    testSerialization(
+        0x531A053ABE4FF456L,
+        "023F3CE65E75D8FD35473FEFEF3D372AFC891B02EC0D1ADC6B66699080C0880080081018D1400830600400000000421E02958000A0232102413001521600101D1600D09A42E730EA08B0822022180962500C20434082010400305B14084A8C07C048007009820202940308300200852920860100829820C683440339980000000088422020111141C92148280080051DC20220800004304C4100490424A0208400844200C51091000A026500400420042C0380002000050120020220804120048000068CB001010002400108002000A5000100000408A0075001020040890210401024800001120050A080208808104001980000020000200C02044228404C51109140000208000040430826000480210000100815000443A400004A000822C10C");
+    testSerialization(
+        0xD5C96D9663416A25L,
+        "023F3E1177A2D31FE4B03FEEF61CCBADDBA54202C60516A2C19A1100C1700200B8F0116804449014004212088000998112C0245004121478188202D061A000800010020242030002800280014E02880B2805C0250148AA0000210800495406020800C1A52008048012040000221484001458000A00648015000004009830044A88900040A0C9");
+    testSerialization(
+        0xE717D499FB7E07C9L,
+        "023F3DA29F6CCDDFF15C3FEFE779A0CE50B36302CA081AD40349A2A6B2800E08811620952530022818E10846000182016E0C0124B0CA21060A0444320AB212E001111926B0180080019024A20200141844C21A200C924104C04801820922024A6030100100050414908054A8841224401200006A01420040062002888D2E000140244038AA0149004480020C08941014035800D0402010022510421140804200081800000080649621136000801000804A01418504294A0800814144A4");
+    testSerialization(
+        0xF345C856825636B0L,
+        "023F3D754D1FF8606BE43FEF8065C87B8DC65702DA0E16AC7E9E1198602142011CD0C89A0C448C044405A129088710104410010022801040161428004800BCC1149600000490A0EA18BA1120000B5088A810890000119580422000610120120C001922020000002000009000891C10000823E2320104044800001084904108004220240C0040020248A004101908010180653001042401040020A00408D000C0A0000004100182080200012448210006002109000420120004048000004081101000000124052210A6180100023202200000012280008000020008020940003010840200848011408212004010100000201101000412088004");
+    testSerialization(
+        0xF19B5CF97A5256D2L,
+        "023F3DF08F18A9BB030D3FEFAE315C3358967A02AE081AC54C09C20EA9E1120881200850024008404000890610038400014830084120110101312A20068B84130866828419564212088048A2490539566000130700020C244044A08111202204103042E0800000840000E018400412C2822023000204208040401100000C0000000000C10008B0022801043002402460000869026244120140408000095A40004100298281304000C200008248028004090010020A490A018000100408");
+    testSerialization(
+        0x7E4ABE7C23759694L,
+        "023F3E284644CF2174C13FEEA76534E7272621B80A0210C2068040902C0882E01802190020202408862190C400982088021086640882210A62980200924208820096230844389A2988020088211042708426880650982289A23092210822A888220902509C268A2210A02489846896240B2258B22509C270D62289C218A02388");
+    testSerialization(0xE011541207817D06L, "02373E8C473A89F3B6CB3FEC0E6224B595B90046");
+    testSerialization(
+        0x1E85B7721B0DA94EL, "023F3EBA68283190B7C93FEAF2435292268B20021C1138282886604402");
+    testSerialization(
+        0x46FC5FAE7F0111B6L,
+        "023F3E3ED17EB499A3A83FEF5F3CD85297092DB00B0210CC1300C0D80E02802108061084811082010061A00208824008021902211A22298222886418802111225880219002308E2008047112430902308C221282608422088428C0200A0210842408C20086220862B09C458842E88A25086508A22C884280A62409C268C423882230882189A460D020");
+    testSerialization(
+        0xBEE130C6A8EADBACL,
+        "023F3E2863FC7E21258A3FEF7E243E3DA61A2802860C128627626064202020F06008140044804009AA40085001403A000C041008048068100080800C00102000012200041910420800030802104004820C20040804030428900001425800884100100900C040008021040400920010220200804C0010A000C001004124800431148410100082200044240808193018300A008888200150020400008090003002060000880010810203424810080101800024");
+    testSerialization(
+        0x5E2326A69245104AL,
+        "023F3D17E20CC70907043FEFBFC0D03A8C6C4602B40D128C6E0A62B1400200AD22854480800D81DA01841026B0042002510004001820088B01080052F8222503010200140000408948A0055F010180600510402400A0310088C000040810420084501421020100401000A0021002028440409808822100025080002A250004200400800408100002810C01000A00011800050200805494001200204810080101000420040400050C20020010400202048080000000200084058084001200004430");
+    testSerialization(
+        0xCAF8FDBAB4D45A22L,
+        "023F3E7850714DF8C9833FEECA6F81B741A90998040210A60B01010021309144820100908C4C12088462521921122B110BC4A2911158443A130885C2E190AC4A20");
+    testSerialization(
+        0x3E71DA41991CDAA4L, "021F3F0DBE707918D9713FED0C474DE16E7596010608A854454ECD52F4");
+    testSerialization(
+        0xEBC84D9FE6E487FBL,
+        "023F3DD10520963AD8BA3FEF4A7CCC8E29C13C02AC061282AD8686C2002802284C4111452C1140802570031B144AE5820A8044984410C00880EA424040054A1040022C0028000010010A0860001580024214080041214C4004000126260080081002041020000048100A48402000480240");
+    testSerialization(
+        0x4FC6043C1494E02AL,
+        "023F3D901394DC04A9E23FEFA90C369A47C44102A4051EF50C0C2C1C00902108171C0460E290180433C880408015C00D4140916123250084060084108001BA808A24041908801801400A4149640588004022010A00880802401C7108522024215021205402B49242696190930A000230104104230008534250410A02250021564000340402020070");
+    testSerialization(
+        0xD899F02FD3A838AAL,
+        "023F3D79DF4BED115DE03FEF94E79C687FFB4902B0091ACD0A74200C00080C18011000B1840041E42085450184013830201B3281018201444483188844C88E00CB00B01841B0E9A0A001A25029960C82E00000080504023380320A0000C81C240090080060909004088209182C4604329724400D02804003998036400001002020480C080081000940080AC008008044110202062820444400230000808810001444000A1204081C042C03440081080202621002004040");
+    testSerialization(
+        0xCB8FFF34FE2991A0L,
+        "023F3DE57FFB5FB83F053FEF45A6A264A1623B02E60512821F2E94A0C4A0040E1403840201058208040200143200008E414086800008006012800051204904224844583031C80512808810200000020400008400440001202042E100080900545848C4000280008010000288080208");
+    testSerialization(
+        0x0C934108ADC7A05BL,
+        "023F3D81CD43D17BB87F3FEFDA88E39FCAC95002820D1EF4070612991840440C86080C2830F48528267284C0180CB0AE88232A8C020000204512C11840032030025716422C358804C0D300801A4C55190C709A0002024404070240A8C400AD1402010A48A2018898C08001008830400496010206800002104CC2C0AB8012000010922000020016109064060025C201A84010900584440002010011500442800408C904020160081B01004020002200E0C188418900002A4000110918000008300000000341D482820048C884004204100802CA109040D038460401490C12020C20404406044008290481005804140324A80A4186118020100404010C20944124054200148902000882048400111A0202819A4840810000A450C48A9B128093");
+    testSerialization(
+        0x0CC782382665902BL,
+        "023F3D99CACF8A08BCE43FEFDE84AD85FF933102AA0B16AD348000082010081100F104CA044400050001900081200809A9400100150000C80296102540100804A00200028041208105010100A020042000608002004040101382002021C000282005C000103043828050001002400001404C2082440100824010222220204027010500044600E500120002001044210C2001040032840402400042");
+    testSerialization(
+        0x4039CE309B7C44B6L,
+        "023F3E11F49610D7D4FA3FEF9342227D13304E02A00416AC15067206E53A483B382F023161C3CB025108A80980118280A9120110C405242A02C04182280004510C0A04130000C10588487500430000400C1001209060254122C062A0452109524300840080005240290C020C000410228120");
+    testSerialization(
+        0x0A2FEF70E2E86413L,
+        "023F3D39B51994CEE8883FEECB59C40A166F3302C40E1EF1C380041808100043870E0400004D34436001C32E00288088290500003011208060600422242A90CA64198804805980900000300AB140044460A801080008480700204929020808A008000302004045A88A406280000082421020200800210101821080100100202094000488820240800205401080084801040040C00020A800120401042020082005000024004003288C500100122200001291100000040401180000A02002000002C00080000402490021450324380C4008040000010000040020010000620002400088008120005000020A060080880410880080000020014101400040000800000008A0");
+    testSerialization(
+        0xBBF44F08D99F71F0L,
+        "023F3D43ED3DB43C6E113FEE7D11C2DB964D0EDE070410D2028C4008622888200862108A4110A41080279022708620084200802308C20882230922008E210A0690A820080210842108A2610E2088E22890228923989E2108E2909C298A629082340802");
+    testSerialization(
+        0xBE9D439B72A16FD9L,
+        "023F3C3BC123ADF607133FEFA77474942A11D80102F60B16A7287CD001F9397A9118F1E441407AC68048CA0910332009480909CA240810114223042922402406404440A4C008000883B0208000048081C0008B0A9008451201514221014D10002C8E404141846A08325A878048408480A182C8C900280005A0580010098050830190014408006800400001400C081000060009A4000460080032494200404014C20630DC834440801828420804120221150400422D880A08444002014420102A300120100000C4C0096CA0804001201084802802031008444820C08004811580C020C00000200847014403000000920415000D8002104007006206086020010800040801084800C820000604042002400041501222008482088004");
+    testSerialization(
+        0xE083E973E85A0D41L,
+        "023F3CBBD000588C61B33FEFF49F2A382C29AD0102A6051ACD1EA5E39808618AA061002013C804158999C049020119001810960AA8447190003311A000168800B24AC000D16A340C0425990922401E120B2500005014006400040410B80CC6C8001001015028095224C8001C6460C28A00CF1008005000118002080A086400304A603A0008300A04110086828D984DA2220248");
+    testSerialization(
+        0xB59016B59E4FAE77L,
+        "023F3E03626A6264E9313FEF0CF7DFD6A6248601029C071AD41E11038060C0021A230218105C01CDC5100578458E2C2C0C09C9C82205354001410227410882404810B2840C211A0424D80CD10BC084D10402606096010C0190499380145D40C022E110448422260020C004104B023009D40304C049000010588325000841801451600600002400106044010E8002C000000420800190404A021288080010040891009071C400800260");
+    testSerialization(
+        0xBA969207A2D24A3EL,
+        "023F3D94E63CEB2C21633FEF9D356EEAA0054702B8031AC7C6280CAE2842941001840031585A000E5C0898C1DEA324040124C00530001211401085104CE0CAC1440001280390899404FAB0191490480C16008D100210006021C00028008120203A1542246010000A89348040");
+    testSerialization(
+        0x5C7E9D93361405E0L,
+        "023F3DE21B4E74CA016D3FEFFF4967D76EFDB10102B4031AD88609298808C59A51C23C0A1502626800202009C2408601818B0209241B08C882230141026030682023A400E0024003085402800404041598A800082C941B4D46082841806127110020012C600000000841881121B08960149186500112002200B03654");
+    testSerialization(
+        0x120F608CB0B0DD50L,
+        "023F3D8D5FCD1E674C9E3FEFCE8AC3E8F0E22302B80C12848EC908E41206440C26141801000180502005804020C31050458C0AA120C1A000C044105003A0000A3404140028B204028902044282201C30000404200082800431001800D2010000010800280024020D00000402908204020400208000080412002A012A004402002A0088000170009008130402208444900890002500280400042080092200000013000041810904000800C40400900010040204000A800100402002040040");
+    testSerialization(
+        0x51996D8170206E76L,
+        "023F3D852B70B7651B033FEEDD714EDC339D0D02860716B82802008C21100210000890C01B08F00E0400040000900040119000000401080400A40214090200100811090010204008002000508008102004010202204200081001202020080083000240");
+    testSerialization(
+        0xB8C208AF5531AD2BL,
+        "023F3D8CFDD62ACE88F83FEF84910896767D8A0102DE051EF44B03362439F042C6820A0038A0D06C4D5008889900861A10098D19083009B518203841C83668003A004F03084400E4C08440041841925325180419011001100020006206010CA22944453128207020209494254405500040D20100090511590110000210134210512010006800424956092800410081792E10202304C100C207F060045280002060");
+    testSerialization(
+        0x1EF6C3FEFE2A4BE3L,
+        "023F3D670D87BA44E4BE3FEF83D32F96D23A9C01029A071EE6B708061CB810A043873C2408227437289611188210A4019A093026A288C8A8903240A1204820C6C10251400080C0200CC3500660821001195810080C0020000400051C44840200444242500A0D02100704E006088081019C08081130C000B50801350C3020AAC32100A02310119A6802220000810060A0901000402C0020040421219801000040214B02000000300201068800000980625880182A10002120422605105F42A400010810628684C0223200020000800609249001A8");
+    testSerialization(
+        0x5B4A1D2D79CF30D4L,
+        "023F3E3953A2B86EE8B83FEF46204AD2FA3D1AB60102107A18321461008102902B1020418182050910512461220415104841210413081820420102");
+    testSerialization(
+        0x451A1D408B25A91CL,
+        "023F3E5AB36ACD6ED0773FEF052FE3C053651D02FC031AD40018A18A104500384380100C304144E00105924A06002008260090415418000208A00780014C088112002402243C1100100808101202800810080000114504");
+    testSerialization(
+        0x20D510415336F591L,
+        "023F3D2167E05C2993A73FEFEC40D601D8E9B30102AC031ACBA419703E14E516984C961894D14A465194A809862D860228BC3083880800D010811842008046007227005400CA0E130C04941050E1080162050989820809281304700BA4119284001202200000400C0202002011E1984D6AA2120028101703482624443000060002F82D30");
+    testSerialization(
+        0xF865610091F9A8DEL,
+        "023F3D273322C2B5E7073FEFB85913EC11B4A20202A8011ACE9A02CE0C106BEC50EB1430140489424184A921C3A31258720808B80B0C22D3108218D024AC01A8000846342230C5025C01060500");
+    testSerialization(
+        0xE7E8B60122B7966DL,
+        "023F3D6A7235271B8B423FEFCBA28C45F0D51EF8070410DE00808090061188211022098A60080200802018085882211864388220082268842009A20084258862189E35086619042308444082209122710222080260B02189E50082208AA238A8220842688C2108E2B8963188");
+    testSerialization(
+        0x527388E726FAF47AL,
+        "023F3DB3B8A3FEBE697F3FEFD971AA3BC95A3702C00316BF0946821C25080221840C14DB29280005880920A01300B110001008010608801242448080081044520AAB0A81042048048C22081111512110180028202000850442004020480040");
+    testSerialization(
+        0xC024BFDBF760976AL,
+        "023F3D7A309BB1C829C63FEFB8961A280757B00102EE0A16B644A290A3A5388E078050604843C8044118418A1E109C3321A0A1A58497116830C060A0C40C20184490DC20300804A23B44960324421060400100A0084D20112006911120021A3430530002202006409482C14080A195428C1C2400490102032000480400044032200807040107000002211608000440A200209488800058C0000A242002100021004E020E0A0C810240000801000010002101103045200020C8C02604080080082C010C14300069005020010000B088A003101004A1008020688488206200051210283044809104880AA490A0");
+    testSerialization(
+        0xA9E2B0FE7EAC52E3L,
+        "023F3D9CDF922BE340453FEFE880EA45D45D8A0202B00916A9FA1E3A4C6F41C2012C911D4CA01C40D5C9CE501B8C108052811B4130511911258120083002802080420220E10000424110542828082B0600604200C07010680C04802D88090C604121805305202025341800220027148A00084C8619C1831804010009304B101268088200600280040800081641150D820130160025306100004104148A0048009205090110082830C20610001020208A4481A111020000242012C080440020100074401840000800B02A2045C84C4930020808000070410A1020E02080444604100300024040");
+    testSerialization(
+        0x3D41BDC4FC80E848L,
+        "023F3E048F335422B8703FEF95E6BE47E75A980102A2011EE32082000478B2A14011022C206110095D140A4841C802008821C000008288C301813350016004064061010A2080B0");
+    testSerialization(
+        0xE9BD659EB1579DE7L,
+        "023F3E55F2AB41B0818B3FEF77D7FF9B03D81602D2021298606622000A0A040C80880002401124004E20200005200261208000000092280101A20110190404009980000C40");
+    testSerialization(
+        0x7A714CE5673C8122L,
+        "023F3C704CB3D0529A3D3FEFD86DB9A53A673D02C80E12959D62E4C042C22A6C902846D20441908A81905008A62041000402832CCAA20105001040004482830101406002006A9000084004460520120222200512400400810010A00000044800C30008000000082044040410A1082100008012044A4108080181084240100084A418A08003210000200208006C008842091480302604A00910800000A200000002400880080001100800980240008400240020812002012850000800410091308208100040C0800410070202004000812002202005C00488");
+    testSerialization(
+        0x972F832E08355295L,
+        "023F3D64F250CA26078E3FEFC6280FC274B2D90102F0021AC41C5C61920BC09670613A501543249022240418488012304400B818A8B81AC730C1C00403014406116CE23BC090D202136224221B21079408064300C50014A2626E54400802182C9040006011219041D8108011320824C0");
+    testSerialization(
+        0xCDF44A12045D8DD0L,
+        "027F3D3D59C8399FA1F03FEFF6DA606FFEA9B60102A2031EEFE199141470C325C096381C0800340C31906A04C163424002281C83581061121C423074014B120480380006024800403642D324914125C420C109999A8908800300252089821E6512D53404002E128110B00E21B2014522C0A4300024124283061001048062B6B0");
+    testSerialization(
+        0xD3F0F8FAA55212A9L,
+        "023F3DB115460B7077133FEF80590762B2BF4902DC0C16B01982120C22104243080CAECC0196420D56EA6A22AD650022C480880810C3841040000010A400B20A34E10001206C046001084220002020114024A00B82088541C10010000204B1121A25208600110028012014244400000084C08000C0000208001204400018400081082010013408082030410090000A0901118020100500248040900202000442041010000092421040002020459600800810824200200C8108400001204500008002");
+    testSerialization(
+        0xED3D984CB6644D81L,
+        "023F3D51F3139159252A3FEFAB96F11E5CF8A70102F40816AFB01610A44039C403A450680819D86404E051A41A6116A90C36484012CA0217600410122C02851106009800925A028002D08E35416080110A02810804030331008016882400458404A24601804E28502F004A2A82000230402838000472C08C10A001540C0420806000803500050C04520410201450220A8008061108450202040A905F04600002008040390010001000090424310088901000048101200002");
+    testSerialization(
+        0x8BE8D60B4485D41CL,
+        "023F3D4F63100122BA213FEF2B31ADFE4EA52C028E061AD81411228E000082180100006CD80108C044819081494008042400040582A020C0280000200109181A0020000041200D8001022201822000409044100208004025100000004111103002062401005000001104020060908004000B29A904002040");
+    testSerialization(
+        0xB3CAC41C4B918341L,
+        "023F3D482AD7E4A2E44C3FEF9818C1844BAF6902F20E16ACC8702309161804021412557400250480C40DBB424812081130C11094010C06648882180944C821040C381210218305EB21040025215042885688C95C54040100160102B44004284A001420A3A900808000715240AE829B44804800804C30884914A1001181000880400032000202080002021041481400220A0921304202001009120049A1000908001004150AA440008014502050021000392290334009804408002000011D1208008108100010828AAB2A004C4000310025A00100000890200408000283948000110A1100880800500100800800240904840520000020020088600010004004824504341040A0000104011081081408");
+    testSerialization(
+        0x0A0A2CDFA2008305L, "023F3EF055C4A507897C3FE49836EA4F420700AA024204F9F3D090");
+    testSerialization(
+        0x94E6DBEDBE6B68A3L,
+        "023F3D995F0F2A5FC9AB3FEFCBDDF27D3A3F9401029A0C16B9508240944531CC000034250C8060086003020005801A6490421034585C14233C860220820E082A81014430122A2024A3070018244040648308010008080150005C88942C0000525480200100C1040017008250008201615A0148000C288E028820825001B001008018141050420004810139101000205021081424004811130010A0061023040005020898004000500000188A200000012044C80850000093822009800404081000004124080801100052800200A910010025018002002000500802C0808044C04042020004183091");
+    testSerialization(
+        0x123E36C07ED816FFL,
+        "023F3CB99E1C2AD00D5B3FEFF1E61993E379CB0102FC0316BC1E521300031A03140074C40142321005919603058651317282243002C4564BC1562200271054B2C80C140854021801300A0085636435220480C26401022303022848201111A0112442010021C0414505A410402AE1001082001052083412A3240180040040");
+    testSerialization(
+        0x885F72F34BBE4785L,
+        "023F3D955269EE14775A3FEF332303E8B470118E070C08F0081C05050241C01010340219008243C0A168340209088440A213E8641B290C9242A09068444235368049A252C9742A99268540");
+    testSerialization(
+        0x43329C4D29E3CFFBL, "021F3E7683CDB434F21C3FE46DC6EE925839EC040408E8141A710289ABB6960A04");
+    testSerialization(
+        0xF6979F488A710C47L,
+        "023F3D06F6366FB90CD73FEFE03F67433D2F4D02880416B42A90709907508C11B494361080128801100020058A4C40804B6CB05DAE021B04180002422020201422D100084004108A20121161040248002780270A090A001382938914080040009098C090180400008002020005168022");
+    testSerialization(
+        0x7E7CDE8D8F46787BL,
+        "023F3C92806223BD142C3FEFDE46DAE07C986402980F1EE6428A880000104005850E1C08006D50D811014801C00128408021224C037646721470401C0290600501502310080B4102000010316080000000050C5E4104821901011023C0322801A000080420A02068501CD10900002306104100000048000680A808048000A01019820580000280484108010205012000422010A305498D02000024A0001008024540400C0C040A014004032804042028896C9000221040802000100C08013003044100C000028100540D0C482148045000008A0411049500100040A00000000840090021200205001010400240A0");
+    testSerialization(
+        0x84A95BEC490896B7L,
+        "023F3E15FB24239820313FEFD1447D460E983002CE0C1AC1EA68419220230600A106106EA00920821C0100221630AC2090214680558008208080140A0010120800090824648060240200042A01028004802001000814028204A0400790030000220C44401038184B60111080C0101A008400108102900025600940114408245004402500140008100024200000408000002408105120140C000000010804AC001100044000000048090AC041221024154801050814C00014010230804A0008000A0100048424002800000214C1");
+    testSerialization(
+        0xC52618F6694B8387L,
+        "023F3E2040A521707CFE3FEFAB01FA2580D90DDE0C060CD00C010181C020C288842212008840211288A402221480922490D0C8827104884E25154AE482011086562010CA05322908CE423A928E24823140F84A28964AC7C2E920C45228A108");
+    testSerialization(
+        0x76A6C217D1089392L,
+        "023F3DFEB1A342A98CD63FEFD5E44F2B02E65F02CC0516AAA800419802280010041000488F10880000C180040040802C2840CD4018263200040000A000E040940000024A401111804A8202218842C00B41000008E8202200A0021204840480810A084102104008A0408601108380100882108080080000190018");
+    testSerialization(
+        0x026EE55DD2DD39C5L,
+        "02FF3DA52B97A6254C2E3FEFD02E944E54E8D50218023C228541397051005193A0408111D0D1112105A04EF410C01E8E43AC");
+    testSerialization(
+        0x59F5C6677A574D98L,
+        "023F3C8D84F2A10297BC3FEF738E2F52A0D3830102461EF3C20C161410000042090E0440603281ADC40480C001560418");
+    testSerialization(
+        0x2F2A9D5D0DD5A55CL,
+        "023F3C1E3AD063BE1C653FEFBC513976EEF76002E80116B900D0308CC009863500CF344A44074002217000080820100222E14444050080B806900490681800014004920249");
+    testSerialization(
+        0x796214CFFD60A880L,
+        "023F3E6D71B09351EC3E3FEF895BB54711691B02D00D16A1A80E010802088000002C854A81000801500004082600041015320208A050888E20611084482000C00500488400200200001404002000600001C00830000400408005210194400400A8600086000000080010202086150082080201007000080101080420040640001100030120400148200021A0002000010063828244044940010800201004040084021000100808");
+    testSerialization(
+        0x7EC3E4E0253C70E0L,
+        "023F3DD9B85CC06FD6B03FEF65C4404314C40A02EA0C16B528C6008802004000040C90C000A5C001A000C0000001A1750010042100000010124080215B432400040008804020001012104428004000010004A1001108008001002408010024800010019040200A000800802102005010000040000804180000810002020040044100102220001080");
+    testSerialization(
+        0x934E9236377B91B0L,
+        "023F3D850A9765B3C7953FEFF3C578C4AE81940102EA031ADAC6F9EA1E28048868018C1AF543B0500200E06800D0920388089902481113425AC22602605000568A00A002A7BCC0111202E012D082310804220203A0202200126460D161802848848289D1B2026A1442402031130206422502100204C30404D105289662E0146148");
+    testSerialization(
+        0x619286A21EF373E1L,
+        "023F3E0E87B1F0AADB863FEF3C4EBD6745264502E00716B029521A846009042000306484005CC8C849410088A93F36D9C5100A00C42C001160840435061804008084000A4048900A408084008A4047012D8640401208842411092002210880101A01480A02411800044804280004011920001000101002201241090A28010A0242000000442260850024500000840000908080000004D100001208");
+    testSerialization(
+        0x45F9EAB44163F574L,
+        "027F3D63533E2E6AEF383FEF86BC6D27CA68DB01027A1ACA5A704604A1278020C68239D43399804091401B0832825A88AC092008C381375324BD90C0");
+    testSerialization(
+        0x9C3C605E8D5B2B11L,
+        "023F3E231F04A87FDE8A3FEF91C63DA2CEDF1002F60712948000202020000029C0018301080100009402120806990001105080100280202B0800200400A0003204200001000210007002080200008010000822000410008001200100002200020800190020");
+    testSerialization(
+        0x9A2F227B30B811A5L,
+        "02BF3DD5E9DDC764EE993FEF7B6C4E0AB3C076023215A284453806519025D840A0803F360A30");
+    testSerialization(
+        0x702A0D0A8CE6C733L,
+        "023F3EC7F5901C4DC44C3FEC0413EE171D88098E04020CD4080E0080802011100822110080C62590092422B12886402023524402F10C90923A90082402192080");
+    testSerialization(
+        0xFA2D8827866D9FC6L,
+        "023F3DD12AE3DC928B483FEE37D5D7FB10FA2802D60116B53104F30481000600044D93CB40200A659000100002052264546456800C3405091091620480103000A0");
+    testSerialization(
+        0xB4108938233D1830L,
+        "023F3D6251D96DECE99F3FEFFD6A4BCC5B333F029E0A16AEE00270A0E42092018430C00440430058440180C88306083C3A000800400406810482050C02C10044010492908010182204405740400088042C800110800000C04411A084008004044100200000060000000009C0144002C0088455C881009B0C6400C0000068021000229000400A8C080806040000800410049204804028520048200180000402010040200214000401000000408208010110004500028080");
+    testSerialization(
+        0x8A3DBDF68CD7478FL,
+        "02BF3DB31831E6ABD6453FEFFCE3A85E707EB502028E021EE5450A80701801614601160089327087C613C28045D78A92682588601508180800B3202C62111D0820105600422860A500108B24C2C00E04D920898002802C544015612922030A86604010");
+    testSerialization(
+        0xBA728EDFB4B585FFL,
+        "023F3E3E21697A1293703FEF5AF9DC3352263102FE031286EEC03662A284602E90090184012142B40328320280044020240004008AE040201820821400200042101D10004201A0022800040241128020002600008024002240009020000508001241000D08");
+    testSerialization(
+        0x83283D3057C3DBDCL,
+        "023F3D7669E1BC21F1413FE9513231E3EB260BBE050208D030084808084870A828A85048A828288809285008284850E98948884868AAAA088AC809286D8AD5EB88");
+    testSerialization(
+        0x7660E3423E1AD80EL,
+        "023F3D87DAC0DCD1761A3FEFA52BC41948899802028C021ACA0E308981A0020C1A0126183666104411B8872A4440169E251186441460020821426A210020101132161244904825890C0480844200C880210421A1818089008BF0E009482080720A98");
+    testSerialization(
+        0xADE45225FDB20295L,
+        "023F3D8686D09A9BC3523FEFE9D3E1C4B797C10102E6071AD4864B0E090983262243140250BE87004784040D4E01100B0080A001483C98003041A4A8C02404C0304202071851000084404A4A1866108504808A80C154138A41420024420400300860004040140C15800981124A35B24C00008A04050E828A24C8008200038210092012238464000412024100108089C2210001102202813448800200208408002624C80800400042126A80320B0200090400C0242E0801146040F902A1046201025B2480440D80120004280A64");
+    testSerialization(
+        0x962C6522F4F079DFL,
+        "023F3DA717CDC084AA003FEFCDA668F49736970102EE0C1EE10344041C5000200610101C20C2F030C501D8045CC111C4F3E08A8045432161014542308014E414E462C8259A006D061001200882FC40020160801204C4112C1A500080426102028A233401040400908409009408C1100008250010180B804A080402014896B08208C02094418801004041201A55840408A4008107020010842A1002240451104118204028408C130100084290A25420088400E80808B04004121801030020800A10080010488000104C40402000800180000000210020021040058281C0008184100410B0000001402041098000080004004903280A012000080114014000208400000810100000012000200808000001208201200240");
+    testSerialization(
+        0x868D023F5FBF1093L,
+        "023F3DDD1F62400731993FEF6072A4C2C201118008020CD814060082802010080812511102432291C8447221008244259091A492090082402B914845425908829621A0116A42091C924F23140B2453195CA6522117C9643219");
+    testSerialization(
+        0xABF6A70A2A6B42A8L,
+        "023F3C9D1734B61D9B1B3FEFE03D41A418B4B90102B40B1ADB2301458440A10532020460524108E04880058582711810219128B2094200080173001500260FF09030A8A2888481062081118002810B084B0856014482096486380222C90D0CC42A020029601282A724A865951420480266921005405980300820004201016071601048002102080C1470010A08040221044400643C00020095948063481222480A901C6010412410240A4506600100028843205083000420287062A17500015040C00CC2300400004060500105040126020003100374C8000002802000D0120006800935084E0822210744048010A804801114090002205410");
+    testSerialization(
+        0x56FE1D479716BA2FL,
+        "023F3E05F1FAD67936603FEFE095F70BB6AC06A0020408A85021C0991A2452D3A64C91BAF40ADD20");
+    testSerialization(
+        0x9813381202146AF8L,
+        "023F3D00709FCF5B044D3FEFD45DC36C4834AE0102A4021EEB842E0D4110814144011E0448609406745401206218428182B4201C0C020006508003422514B02401453148CB22840000204464C224C0D102001B66A6C053964412110119835200034112908145");
+    testSerialization(
+        0xE55CCD6690BFFA90L,
+        "02FF3D8AAB41410714E53FEFFCDBEA1312779401060294061EF8CF90389880010145182A003030344135C241B54201C2201628B9129064F03380C020500411002593292024240060006040A89A72021868866B01904B68400230B24361088C809159083010288105E59804B2092000010C460828024200429404620098090A4808B4830000110048086082E040020A2C904524028025DA414180024410247708E002110080C038020801B20D4403258000001140530202");
+    testSerialization(
+        0x1704394C3EB89798L,
+        "023F3DE7ED2E06F1396F3FEEE726644EB39C1002B2080EF9281481441061D4424144026240480001A00500081000210040411814C1040009240010080810000211400051000480410400800000201002040010430004004004020061005008");
+    testSerialization(
+        0x9A6E866A9DC9ABF0L,
+        "023F3DFEE6631FC5B1433FEFEA6AF08B70AA2E0294051ADF8210410810C0860043060850C0C920140580081A2810119810188004B2197014C02D16C5202E002100C10048084400200C80900000088102C0401C00420130200844000081102600A028020040042029840050458810C202000804404600004818410001110210011440140090E0");
+    testSerialization(
+        0x93B164239E813F5DL,
+        "023F3DF1816FCB8778A93FEEFB834287513B0B900A040CEC01004040080902803024090040A02409004090C4210C80100412004091C809084010C4792241A004411440126459424090E45920A31124193E4411A43112479225F9365896C461");
+    testSerialization(
+        0x2314E36753D7C4CEL,
+        "023F3C7BD8153DC88A3C3FEFFCF4365DCD7A900102A60B1EE30C158E28982021820A0E0819E034012A56300000086203C19E40C4821201C211AD0175334205068980240001E0D91C1A6B2481208080809000985A03200211A4420D620200008209CD024180110021800821905C00366901220804041B1428008808008756028081438081000520402431D01000288900000401201241212913481204C02BC002C0007000000118901012018602000180546400001C30180A004C4840E82035C00100000404480920C8800040204CA5020200141140048818080801340D008008922120C4850440122080C024000022025028008C02000001202983A9040004212012CA401290842810000086");
+    testSerialization(
+        0x802E5174E8540765L,
+        "023F3E8E77BE9D37C4533FEF9172C6D60EA80A02DE050EF0B88009048220301059088011400214000C404222601101210A000000010050480A10008402053106408014010180804801020800010044001200040108");
+    testSerialization(
+        0xEC9A47306F30514FL,
+        "023F3D3BD2A9B6B336E23FEFD161ACC93FCD3B02EA0B1AD48810809A20818600000000506008C00A004800C197022104496DB0402A02400414082361A0904584D01801084020024200414B424000420A29C80040456200000216801420930A0098054044084042410402042010E41001000A8210202140027402080040401110004000010210300008480040008008204800000200944088100000004240800014480102000602108008120103209244000828A200081000240444180480801002806A0009006118");
+    testSerialization(
+        0xAD2DD576A5CE1156L,
+        "023F3DCC955B8F11A5B83FEF7C8D45F155A4BA0106E60316A730109181010C8020843004619D5000449841824274009521BD40080018080600001801241286384D11580090040100030C000021E000480080A1081040C008E2023840000080000508A4089080800404901098000180");
+    testSerialization(
+        0x30B231EA97BCDD39L,
+        "023F3D269106C24C9EAA3FEFF80B48A769331202AC091AD12020420410C280000082008D940020280001B20080100801A41427204402A068808300000009042280001040400C0AA00B0300400496042000148402042040421008082012080001002408849000880016402202004015480900220006000084261110021208620C418800281A8408002100020042022841");
+    testSerialization(
+        0x352BA4C080B9C7E7L,
+        "023F3DB37890B2552B013FEF5FE0A23E68E52002D2061283120EE00A2C860A30040025144C0448408248201F0440C620008000000084942009094C891C3458880000080604040904E0008010801420402010B00010001000001001100120092014008400C0200048000A400180C42000208640");
+    testSerialization(
+        0xE82B6F0A8F1223BFL,
+        "023F3D708F52835F59EF3FEFDA1366C39BB69C0102D0041EF4220B1ED8F0C001810D081428D0CF0321685C612220B098A201ADB0C030406294582CA610C90D2905110D8E0040C0000008A580A089020808892326A84048180068CE38200262500052C04004404051820044084914385226804320074900801804008099270560019890400020908360D4400902C15CC120340821114421010080");
+    testSerialization(
+        0x2307F663FC695848L,
+        "023F3D7E388CB93F00613FEEF0A89697CA965702D2041EF2C68222240A20404707240848302E74C33316D9218E5FC8100250474307001090203826400236432090A1430432D84190112E925C810041001130300140E780008F020900001085A4418410031121040C024408813020810148001820010024800221C004414F10800008040400608D40");
+    testSerialization(
+        0x250CA4352F2F3F59L,
+        "023F3DB5A2524B66D1163FEFBEF711ED735CA20102A40F1AC4C4D0A2820A849E28638250B3400185600414DCC2880218C313004000C210470232300620E01506C344C6130612D10820110085D38B84D81B632C0E2C86C060B1014402402C820004484002218000140080008624590100040000062088403019200000C100000008020B10841120C46804400291B4010002150028900100424420906402000A186A100008002894C44401804000031000A008100042002C418B102228806114002108050009600000001080240208108046005600C080210002200C6A10008020935820042000020610A520041158000000100001A2A3208A0810004080844002003082100016090001804821450801200000860220001010240008818050");
+    testSerialization(
+        0x2B06D21D3092A0F3L,
+        "023F3DC6ECF417D08A4B3FEFFBB620D8156B3B02FC0D1AD29C08A41910C10E10051608115008164B8145000188090080035A3207208A01003480A200408A206142DF2128C0240082048074406007030410480E040808004A01906900100000B24040088A2104000CA02080021484100000100148885281AA880600110212022221008810460C0000182000C00408010000104048A082080010416010810010C088220010411000002032008000400402480A59138100084002188088000650008210190002002069400A500A004080402A01080042000144080000200024000500088000408A0804010A0022140502808004205004120420010028700C48244A08000020");
+    testSerialization(
+        0xC762EF5EE4EC6F0EL,
+        "023F3D5178666F9BD65C3FEFB9FD7F0C42248E0102A80E1ADDD22041900A412240218E406C91A2061506063CA9103088829B1036100216620896582A00CA2285004080004080502411453A03130440018404004C29A008880394080908128512A00021015600A012802002C911050042001406240C0A711000005A809AC9080140803D2A18081022100C10022C6280010874100400000201302100430020014488009008A0034000A280028000C000521002080234404010420200204820104000883C380604800040020660884010001080040021021020010800001081008200C2110402171082400050120D00800110054400008205092081001C010400010480804014060940018204208A4540");
+    testSerialization(
+        0x14C9B2F083E10CA8L,
+        "023F3DB3B2EEFD39481E3FEFEBF3DE6FB179830102A20B1AD2905CE30638240409658A0050080C00135014485E1885000900802010B6091008D00094A2640000CCF0A45928005820910040204328100000988150C3A190C820059515900280001005144095008284B2C00482400001122029801A001088664830E8008C8040000000390202100920440800043108A2108240022010A09200031000000882C02008AC0018000841012188000011240421200220800200001220B0280132404402820088411C000140004802246600410303004183140820208101005000000204440900023A00300810804000021040A0");
+    testSerialization(
+        0x225185718B516DDAL,
+        "023F3DD14ACF4194B93A3FEFB9EA2DB28BC67E02D20E1AC5C689218E014924300282009040171500081CD85DA00340322003B68006041144860090A9280130A04A02501810E280402002150024005811A0000C261000080001A0840410014020001840054E280100C102800000200840222000100840000090080406000500030A0830020020008002420480305008108801220103045A8A8080880044803100218008028804800201000813210004400401800808000048A0461002140402020043C01000800C00410200200800448000200200111200084080490081000A401800020458088008040004000008020204C100043000060080A040");
+    testSerialization(
+        0x9E48481BBDCF6F7EL,
+        "023F3DDBD3D8E20D74B43FEFFB10EBBEC6F9BD0102920716A11E4F860DCD0944400074601816C1048108CA0981A6F2E8020021349206458920B68904A0020850972558829C609000028212000C010980200420040700200A0C10C01520224A002150810116080200004822911160041430002E092D9240088220490004442100882242301100800080020AE0438818203041028003201200221000518821C0888000040140000000200111102221");
+    testSerialization(
+        0xCF05039E1FCFDE99L,
+        "023F3EB793552DDF767D3FED653EE86B9A6E02D40A020D100280100204404809082028088510521A46880114210430801012064DD0111220E41C8392321860C8910831A57880");
+    testSerialization(0xF88653CB07CB44AAL, "02F33E48F7CC611C8F4C3FEFFF48975BFBFA5209");
+    testSerialization(
+        0xF4568323204BFC56L,
+        "023F3D97509E553EC0973FEFA5B3901E820B950102BA0C16BEAED2F6902B00C8320C526448C9000848C191828065120A80C12000021210400099022004E200060626C04001002081D9088003000A4B180241241200480680000C40480022080D903220020A00200002498400048048C00582814E0410804C00832410000A069042600002080064545100200040126A458000002085C404541622010602001084604000C080094910D040C1003008001100209209008030010410A08400818001401020A0890008100080760200084488100084000200102040200A044800880E1000A200048808444408002218000040402800A908044085");
+    testSerialization(
+        0x44B25F42BF60A917L,
+        "023F3DC2B7D9E08E4CF23FEFCADAA9AFF5532B02D0041288E6C6A0A63060082A1303BC0190C020C08008211084212400810830810542111030080A11800C24050400090804800219E0008200010008010A0008010040004000240005312080");
+    testSerialization(
+        0x2D5B6BAFF2B4274BL,
+        "023F3DC0B60783FFE1813FEFB2C9A63D003F1302E80B129CE31022600080622E104800B40124880223510042440024A20249481800000400200A40900040200404002081001400838808400088020100042C28008022020AE20A8400008001100802200044480B000020020010001240400000820010400281000A001110");
+    testSerialization(
+        0xEBC80A0626163999L,
+        "023F3DDE3C9B0CCAC60F3FEFE7418D1975F1990102840E1AD0F801230708270088660A31300A18A64C880004C20E03200009509282420001500433800646816758404132C30020120D01192B0816210223AC81420084A870000A4D14080828C0C5B5C001249049C5284800090610040029020094C91101100842A58205004C804AF0819088410438411000801A22400401160300008024088C4411409202E0012A50040420605040211040084D25020108018880120006050C10000000491812C022000200012801400122000880042000C308A400C40104040210608100000210A029800B00000014004020680C0000000A000182202010000020001000832984683009100A001094504200100E0601090A088881908004820000104288020080001528");
+    testSerialization(
+        0x6CCB50ACD0BC7529L,
+        "023F3D3C63C0D886FC063FEFC0CF020032037C02FA0D16BD4012B42C220948A004D04CDA685080044459B44008011A2CB369060259A036090080AA4432C000040AC418D902801120002309A0624082115083AB088801080811800305220110A41101018400C888D8E80406000004101021000280100000482480400A000825011043008AA1414104C4800008127A08920A840802001901006000000018100800102001008800012000080004080104004600880041280C4000040228010840812480202018020400200040801400490820810802218884500080802008000104000810008A8008104920014000060044C001210004020289008204000010A18004010008");
+    testSerialization(
+        0xD7E256DE2D8CCB63L,
+        "023F3C564B913C43CD803FEFFBC5EF5E4C8A47029E0316B20360111164114A310C31504000A990443501D80005C08002A090044106130010C01802890000000A2049010141000000088004254110220380252015140428081018");
+    testSerialization(
+        0xDFF1DAEAB724B4B6L,
+        "023F3E132A6B71C24E403FEF0408ADDED260180E98030ED8294090040006100A80040400600850514200010205601211000410008008");
+    testSerialization(
+        0x0544C135018BE211L,
+        "023F3DC3D344C3EFE77F3FEF241BF161A27B1F02EA071AD40E086A0A70410448018208542A0084128240000601019240898441803029003061300602418088063C8816202018248000208A0A24480C006005010000096C040040C0080500C0804020181404040A0100009002000110040000018200380028004420008100320020100080042922800240800834110401201C0488D5014080201AE00430080002484048002128");
+    testSerialization(
+        0xC2871C3DA105747CL,
+        "027F3D7DB3147B379E463FEFFEAF008DA8FAB10102960E1EE0C30E9E1060C1C1450A101448100F070785720845825C8908C000440802201100101018A204C0002E010622C028CB035220201985B080A81AB8830D420800800060844BA890602D12C000C041019000041040222C0C2262874304000800A288304449100214048A87011000640000000A0110000C40020400400524090A00201210D02601008200000A4302D202182E02058240C04002404808008D051120008004240050840449200C2280103000520A10A00A48C00041401A0000095004091124000102108805008A0040C42000080000101280802211400C4124062A44004011320082089040229400840700020A204A00804401282848800004410820004020000000C204308044000190400080004000A100");
+    testSerialization(
+        0xBC6263C3EA5C60A8L,
+        "023F3E011023378FDE073FEFA56BA95A028D8A0102880D16A61542960880004CA1054FA4B9AC704145D2432C2142403001051024002800204C3A202000010161400440144004196105086102032021880A0000641410200001AD06200000022182482030810232032AA2100004080C0050840080C852004200030000450012003800080306000100080083200C80004508800C1072060A000212040110400900022800425401000040082002000044000003848C0004440822820003011028000630A1000248001543034C80480808404A10400204044A20940810284202D440848C6401000A29008811800000801C14020220");
+    testSerialization(
+        0x60F31C81C295713FL,
+        "027F3D6EF111D13B270C3FEFF80629532ABAC7010260228920411030A0D02001C02022600080E0754894530C684A827480703108E9040B00B0");
+    testSerialization(
+        0xF27ED05A79AE9FAFL,
+        "023F3D2A29757061F2CA3FEFC87F0247C57CF00102B2021AC1F2E06A386A65822043925A14C0082E32890308C2E496110A529898A8B0AA41022F10021204010800641002212EA020FA10266020021C10A201248643E8000B05838151001F208D06093480");
+    testSerialization(
+        0x9C6F22E716537E6DL,
+        "023F3D908531B8CC8C953FEFD304C3873BFDC70102E40B16AB9A0041D86878B00288342D058207FCC11888A4A223C0A1312805B1984063051E0221222906022088182044D0222742330E1CA4810140100314820068A0134018844EAC08D8630200010A2B06812184158054AC224400B5014006908A200E8250210D04488C1AC8894C965981220504003000000001A0140984800081010D01108270A88A000482012D640824060041001C022BB2404080140402041040440A0603040000801000408824032411488542100914054002808110001651000000021000112D4120600029000300213030922024200420050A0080004C50521200000940");
+    testSerialization(
+        0x01AA054D293D992DL,
+        "023F3D9033034DD926253FEFD4C9EC1457F34002DE091ADF2AB2001640810210E0042A8DBC7DC2B0C099C294308B0AC4365D40B0194196002404C0E820C000D6C1200058A00260001652810000024DB466020A03D110618009009A480CB0001012C121464940C0422010C010500220021209802513000A00408202210224EE0540800200208300440406406012A8432110908204020110204003320026500908800488120D84580010069500000090820868828000011042606080080205100110000225122804300202008002000010882606A0");
+    testSerialization(
+        0x87142D777055ABBAL,
+        "023F3D459FCA51CB4BC73FEFFA6218631FE03A02C80E1AD33238061E3820100063860090470448000440048506402080B66A38325920060240000F0002C42C800320A05820804020AA0205841040489100000F22090100004D804504140000A01600208201B8814044605602128009A2042802260705548000080480040000918001240841024408C041400006008800460000800210008400680088400208100104806000210010000610018200400000021A2083002842000A01214404420004028911040C008800244400002344860A420A0001000841800000842C60E0001408430040800804010A060120002010040E40A8");
+    testSerialization(
+        0x94AF7AEA9EE8C3F3L,
+        "023F3CE2B89AA27904BB3FEFF498EAEDBA164F028E0F1AD29628259E200796382100000CB00801211905A00984280008C015023000481011064120000038090C00AC8000C00080101000004A7081002446040288880010030180100004082620110A008401200120834500011400A0889250030010400680010B94000001006203882840100012018480100001D80000400C400109884100A800048008D00290004400008E006002080102000800003300A421592000030021494000042080402044128100822003094000050CC028A0C400000402032004802400001100002001200432082400088004100842001081000000CA040201010020400000084400050C000000A0080000049208");
+    testSerialization(
+        0xAD84533A4B9DBD08L,
+        "023F3D80706C765A00DF3FEFE3308ADEA3E65802920B1AD0A612050009211A20231000ED8122EC1A1105A0480582C5204311000300910300190220000402008020F3200440208C50548A880300424024000260100080000129001304010220089830012100080225818C82808004214C108241418A040012016280400502080800804040A000240100031405008408818091405480020402800010305020000105000122A000091001020200A00050000A00024000C18021020A00520104A0D01000222968885800400200314001340024008080019000423F");
+    testSerialization(
+        0xE2FB4EF179F18CE6L,
+        "023F3DBF7AB93B2B1E493FEF3BA3B1C33B9D2D02B60B128CAA1AE2420244002C1AD0208403214C408014200C84840428320022A054300408048201A580C04A1020220900004120C000A101088102101040C109484201410058412808200084001000C2001040100800B100402150040004101102000881081414080801000808003000008180201100A00080140C40080882000804002240840100810012400200084008");
+    testSerialization(
+        0x1261E404C6A53438L,
+        "02FF3CB7CF0DDD45F4763FEFFF56E82B7E77DB010002A6011AC2668044190A20D829C49811F13C5504E40A4088F60C09B0A401F88031C534581408011134A618516258741AA2");
+    testSerialization(
+        0x6CED8657F15F4DC2L,
+        "023F3DB4A7EA9E1617223FEF9531BA5FBCB13402A20B1296416840240802284C00008404002900421600100D343202000480000400D00A002429001422008810400200910020200010048902010A4400080101244020002108000060108022002088400200108100000120202811060001012000020208804004090001050027000401281081028000850048100A0021801000800810400060");
+    testSerialization(
+        0x4E1C842BA2B38949L,
+        "023F3D95BB9050012E8D3FEF5FA8AD4500B04402940B16A9E04A5194210A8400844CA408142248690C4480C13302681208010680450001A4C28049400609EC410207402902888801200088C0402408040004080000686040081062C1501200200A0810304400E820100882004A4400085B290010500400800804000604E54410221402000402410008580A00000021202004B000801310004400000488800010800C0081000420002420009080100494100220");
+    testSerialization(
+        0x118FF129DC6FE759L,
+        "023F3E21601F61D8D7413FEFAE9F8FD970B63502DA0116B200829019E32184600830D40C448004E004819710009049043040201A4340840B080000C001024141284E2C40");
+    testSerialization(
+        0x371732BCD7AAFE34L,
+        "02BF3D3DCBCF2DBC49CD3FEFE333132514544B02D2021AD21260621609A0844800064850030000068840C00D94402C8649A4B20D0000296086583102020C0684108C22D82040000000425102011451426022A800001081120060");
+    testSerialization(
+        0x96F74C6D5A2743D8L,
+        "023F3DD9EF06E331D6CC3FEF3329BBAA850D5102BE021ADB01700292212A8818A986217620080420958108CA4105A25824060C3CC315B26301106001075D8088940812CB0D10028128120E2844824C001322403A28C22C222900940040");
+    testSerialization(
+        0x82C1E9AD78BFDAC2L,
+        "023F3D894E08A33997103FEF9CA2FBCCA5644702CA0C1ACA46B0E28030200208C09230510081801081C24085B900A200A044340048021880B84042000450200A00810101601A088201238082000008014A001060059854F640400119202100300104020C000880080000892481A0A82200850015000A8060141004222221204630900000004A0004C01020080600810480000820040200020004800080400D09210AA0202C04027100C88021130F4220108000032008020100902400041004801211484200080880010080200644081084");
+    testSerialization(
+        0x13CA922F0AF7DCBCL,
+        "023F3DB3DC698E3F0A613FEE814B209466D537025E12960A84B0720001000CE14924000109915A20A04290");
+    testSerialization(
+        0x14E0ABB2BFCF7C3EL,
+        "023F3D25D0612D5700653FEFC1481D83C248800104DA0716A50958FA94430188A0AC5048C70C47010444C5C0E35B94C2E04014011036002140882008014242026202C205004A84109008EC823B22000000800082001200226204020910A00501000020401338E500C00020C00C8000010A1200A0424205450840450212894802104080CC4A21411410224A40C0020240200008038300404008900242E0A080089000081124D8000018A03480081800A0000004D0A92208");
+    testSerialization(
+        0x2CFA2F23425329E1L,
+        "023F3D81F1A6067B3D1A3FEF60675E9055C1940102DE051AC5F222E68219600010C600081432000C118CC4095E0005D061A2874498438333019114010407260822810500E00D926807021800900951A242081824007025484880404C220B2A10110596C014900B0532088082002306081016584500CC08324B040258608490021081896C78025000B01048510108219240000100012C10483106014400480040A10001041082042820");
+    testSerialization(
+        0xDCAD513C211F942DL,
+        "023F3E4AED036BA9BA863FEFD2986E64120B7502FC0412980A4974EC65CE0E0C58D0E010D17A10888280B088510038220480D00C088021002000424220E8213030111296091400830411004002134E13A2020805644851A00100324003300408B04000140812000C4009D0008292130082040000204208860B080081000D08230028B02000100004");
+    testSerialization(
+        0x7B9B825C35C18B75L,
+        "023F3C90864828077EAB3FEF9C38F26039F06902E0031EE357720001591080440102044860B46120513214445086618621E00880184C90E9B628359449012840600C0954801002D8041470041018C3A04000928336C22104820B82A1C002204022644F001000040D41D4884510002430420C9000500740101443C804E328005920001B0DA063493008");
+    testSerialization(
+        0xAD1D5088C022A188L,
+        "023F3D6869C06FD783CE3FEFF04FF0E5AF54CD0102B0061AC39739218488202260ED8E99B6E5A8060009411044819A30C82288CA181008C00700412274125C442341EACD0040C4E0510C4CC4E00821808A0100895308A00A62A3A0600004281048884C4E4E1184012AB90148313244924021361220C288A414C0A40A81E802992000314098432510488120016690016420800C000020E401012800E26221030203440A040902980860005860100D28A00A0465451860A055284210081094");
+    testSerialization(
+        0xF804F37AA5267870L,
+        "023F3D66E8037A880CE33FEFEFA50789EC2AB70102EA0B1AD90C59652470261449810C0A3042808AC486808015B2740A06B860B33200030360C7182D205A2000C2A186482480180100000C440A2B84054470009060824828240356C10411109B30801002030004A50B2000C10482880C084C6C82200102846120403802030860815500820120838010950800004095080001120124288214480114420102E00748419241000038002C4100000402020810811060401048A180A100204000AC000800280944844220000034048202A842844500019188002809021240000400A5016100A988002580005044010000008002024809008108");
+    testSerialization(
+        0x5EF0AFAC47DCDF79L,
+        "02FF3D5009066B8680713FEFD6F308285C979E01010248228E7183C1206320C04060103050F020A034E4F3329E0103E1064B0030");
+    testSerialization(
+        0x315974EC6C94B8BDL,
+        "023F3D83A7DB222519D93FEFF67D2CE98C814E02EC0B1EF650AB061030336183890804083054218050802C001142208A0811309882905803B34889543045C80224200012000040C02030082199E0884880880B80008422100131250008006C08090501010980440C01024A2286A05402080429088126941044215801000035104201C118C8640C4820821008440D200190401800000010809640A002092010850028401026040029004640800004A9004510808400A1030444060800A0033000821100001018003889014060020004420B08040901010000024010901241005820900804280A05114409420820100900850000C0501803240000400051000A0403004040");
+    testSerialization(
+        0x96C792007D4D6DEFL,
+        "023F3DC5BA99F15BA35A3FEF44B5AF7A52A90EC00A0210C40E0020180C008440084202824108242884218802018024884400862290C2108C2808A2289822092211002108420900220922A080278822688025898208822D88A268902289E2188422096648A02488029086248BA250922A89E2509A4A0AC280C6260B22");
+    testSerialization(
+        0x716DC70126A22888L,
+        "023F3D111FA9CEDE42543FEFF5625D4483C34702880312840034A2646002EA0E454200880A0184C8088C412020111010642C9088A08400304C4C088293400104280D24A82500000064210044403260");
+    testSerialization(
+        0x8FF949D9B2334C46L,
+        "023F3E4199EA025E8EC73FEF4C99DD61A81412D60D020CE8130080B0040B08C090647100881104B12E4442445114479084011641140579284010C46102409084E9084B23840932491524D90A401124394A421284096E4391E609324213A421005290");
+    testSerialization(
+        0x39D99BEF581FE0D3L,
+        "023F3DCB1EC20D48B8AF3FEF86EDF848A76D3E02980A1AC34C11608240628A10008010ACE01429040349C2088D585140220C7A652550012100802084001008180502401801946080004482210808004020A0003240008A00000208204A20890011A000400A30000080101A00224000400608402220001005400080380908400401230020002010080004000C0200440C1040080202804800000081001602020080101000000100052002");
+    testSerialization(
+        0x70B322ADC0939F80L,
+        "023F3E365B66E4C501D53FE87835A7CD10AF069A070608F8080A05388347A0610D14BAF5F487512E90");
+    testSerialization(
+        0xAF273E82D37541BCL,
+        "02FF3D5628A7061F4C7B3FEFB7C43B58D044870108021A20DB202A8E3004142210302C0030");
+    testSerialization(
+        0xF43D8225366812AAL,
+        "023F3E5086AE307A50613FEF465544DB118308DE0A020CDC0C0201808120C0100822210D0243419008841209060847239048E4020934828623104944121A18824C47105004427920806621930824F21108BE6422914884626900864820A2D244020908806722100A26A34924B44C2D1388A4");
+    testSerialization(
+        0x7DC7392B1197006FL,
+        "023F3DDC822038E196873FEFF578FCADFC132302CC041AD6002000001040003821000009D6144415900A201A8920208005044212008051000090C0020221098448018020A410C1004283001E002421008022800940410200021004200C04060092");
+    testSerialization(
+        0x619C7313CB6308FCL,
+        "023F3C225E3ED9F66A5C3FEF2A6F3895A6903702E20A16A758C3308020124482884C0B840C041031A68328BC1064281450100900002600022006208208451418010001020002804000014205240A2A0003001083091491074800124000308400201018004090200042004D400024066400290480A080184542010240408C049936022201040140804C131002440C4800092001444020100448A10400080221008005041820A8000A00490244211100C82018");
+    testSerialization(
+        0xF6DD0BFF853210C5L,
+        "02BF3D402863FE1241373FEFF09007FB54B2DA010288011AC76EF3882630829068408C18D42215062028815240211A8C500204100C061842004014802600321030163040");
+    testSerialization(
+        0x49CB12F89F2428EEL,
+        "023F3DB0302DDAC149F23FEFD9092C831A1E880102B4071ACFD0A9658C63230C190016687099841C0E4B104809C44A0551C2683102DC8A130C7422F080A6CE00B0CB0003182C04085800023010112040E4C001095205016180000C0248803158012022040448A0100889415262502402248304000022200A254C4B019069158210100002012900113A06012022408C00809164121960804D0000030052002000005080802A07049120408000280100900420004A504010");
+    testSerialization(
+        0x1A388CC8169DDA78L,
+        "023F3D206CDD3D39F8E03FEFF534965553E42802F00D16B02B24100C4312482280EC04891485100592A020802104A8A91008C6000444060090A0180050D482000003004042000202300C49006010014808088210002404200000810491011000022012020000042002480060000094211815820804A0510400882080440022000804800000C00020C0020102800040008A00002048011088000810010200800A10120002040022800500008800A010002054001800028000000208820202000040210064004002080008020105");
+    testSerialization(
+        0x293FA87171EC42A0L,
+        "023F3DFC4508EF5C278B3FEDB8E42C1B488A2102940116A20584030041000401040C159A90621021A68250800200284A0040142200C0");
+    testSerialization(
+        0xB055491D413A1636L,
+        "02FF3CDBB1A7B6390DEA3FEFFAD8D294D74BA2020102E2011EE6F596560D401221009B000408E1F084DC82D1553C845E11E0C90101DA9110404261228104364268482C80480554924534088A4442E0849420801A09CA08B8190280");
+    testSerialization(
+        0xB350348997B6ECDBL,
+        "023F3DAA9F7A4B8D615F3FEFFD2B337F84AD7C02EA081ADD8C20B58E9AE30018C01A0874E42A1E1080021888104A29221B5209189008C063010084210201168A94924A1498D2488E4210885025B088632522004021096490426C01914EC0030084A201004080A0A084808205088600C8C1103400041299283308601382554031142B400A0104082500062848300020000420940348242075AA9232288D43000240008028411002040C0006200288218009C090020012010448800000800060010948020510058054022080660289804042040C001080");
+    testSerialization(
+        0xF69029B901EFA3ADL,
+        "023F3BE199A86D76F5B73FEF38F2A7BB9436BD0102FA021EE8AA943218E934C08012061000A07447EC96250C4E30060106085831D00B28018AC1148320050352004824020EE100060446D6585260C211594003182D801C2220A203122110006510C024130209080919021818000128409080C0001450012508");
+    testSerialization(
+        0x2CDF2105AB2A3571L,
+        "023F3DF6F6DE5A8F1A5C3FEF993FC589C63B5702C2051286463256924E40A48C321804510011828024814905348C240280060320A4C004100001015229200102140280442E1809048008009468A4010460142800004290053006900000410118014009200024821101091828110042420C9C4504400C");
+    testSerialization(
+        0x6D6409C74776D986L,
+        "023F3D88235596379AD23FEFB3703945394C4E02AE0B12942A26EEC866C2224D8444240C8001E231248002002300020106800030088830911412400803220C0111414010AA288B08100141100000032315008002101C5148820000C000401008000800008000C084200044020222C0C804000400901001228881410022400502E1288040082034011022980240304842010041202048800400001010007800100040800100202001040044840210004209048006");
+    testSerialization(
+        0x02EC155877FE5197L,
+        "023F3DAE306F6447C70F3FEFA44F9A93F71FA70102FA0C1EF5068404643810C140930604005094A130F2230C931806618E0988188801C880A9B9490C194C44068030100830A2C054A0276503E009800868808C1092140404B06093420C8E010C90012040C11980C1228A000024800004048A04C28CE2008003000018A4000221000200054109294E4910110C311A00101C24940001140E042220C40100000A06108020803245C00400404008160A810A00010091006C104805008CB4424C351C40005200044A4020000024020C0020000009012100A1A829610800440200018080150000920080884124044C02012006488100004000214420000200184028089E21804060424020000804080480A0932580");
+    testSerialization(
+        0x9ACB73C63488B544L,
+        "023F3D9FD4452226AB9E3FEFD9E5F21159C0920102BC031AC0C23021988020A812C0C81091849889095642148582D8009600C0305526820D2004269A9222D42C200C08021E4412186000C32C8603A18042408226020801901C01810800000021A114901036812511490000C80010885420");
+    testSerialization(
+        0xEDE8F6A37FCC2CB7L,
+        "023F3DDB716CA1A8F50A3FEFADD8006D78D12102BA0316A606C21200850000108408D03604510F8A0884361B22141064028040B30400001900020D2004020000000331004890440005200138002400020113802C4802");
+    testSerialization(
+        0xA1EDCBB1FEC6412DL,
+        "021F3E98F8FB900B5CA13FEDA4C6CF0D1C2CBA02020CB0042428C6A7A647E485C684");
+    testSerialization(
+        0x386D687E05228A93L,
+        "02FF3D5D2AB8212FF7C93FEFFA83FBED2F8093010302B0011EEF61CF48181A51A043AB082C40B1B441611F3000110806010284000819E08142188010D0880108052888E212062822502060C424626B0BC4800C40");
+    testSerialization(
+        0x3F85C7FE3F785264L,
+        "023F3DD6517E1553557F3FEFC3B9AEC4F0CE4602F2041ACE66C022F63D401A99E08E0834612A42369C239946000E479858881808098C46133272323B1342394E00444042024028F84406CB3492D820464B006A035812500030CA4010880A28404A9001804425020A05A210F01606482002481D02A48C0604D860220020088B00A044282008404060008C5000800009010208C829208044");
+    testSerialization(
+        0x6F639EDCC040B8E5L,
+        "023F3D3C0E540877C7753FEFFED827C53182D80102E8041ACB4C2BA5B0784320C82220517570580C2985622C06400A876300003098491840114234545091104151A8A606203622020400CD4CC000C887D829B042BC9444F02210302000150165424000C0044C0200C23220218F1805A01000B0081010A108960008804B0A9090430A20983108482880436481096402C04008802B6C300002821225412C88332020");
+    testSerialization(
+        0xDFCE21F83B7755FFL,
+        "023F3DEBD1921CABA5573FEFDB092CBC00B347028C0C1AD5A410A7026A22101900080831A420C4D800080D4201871A00A808128031C80D864B0506202C105800228074210054A00008C2105900A0422042410891524101228102A0241022802400829408C20214492002904080881A4080400032822C80100410403084982120000403101080000004900001000100B0253004005930002000250801400420010000E10002000C00928240008141D92240040D410100000021008040124050C0041800200008122200042445200469002000408810A000002024002400829400240208008948484804");
+    testSerialization(
+        0xA601BD724DE89BBCL,
+        "023F3D98B6B4976D35BE3FEFD43E38725F45830102F40B1EFB8705003C0160C1CE0002145810354001042004200CC401060B389C1815259893C051011303893027086402026024812002C42C00D94910984120200123C308180E0000106004300C08090D02101C80010DA05109208404B2DB418209470500004A40C004920B229011229121330111110F1080521D20080CB20109008185900006300004A0400310048300802880241400510030000A844400004810A10A8C00040002000921AE2E813280000459A022824080001049502088001250207081404100000810440421002B201030008400000486012018402000800400560800EB0002008830402108482110240122808010919314000045028480C0000849915A40");
+    testSerialization(
+        0x8AAC30D865AB3CB7L,
+        "023F3D95F081D027F0003FEFBFAF5AB203F64202AA081ADABC60A08011008218430C080C02898138088190018046482C370904A018441609709E02200081461410100804780A1500002064001C2020030800084111102A080230600120102034022000C080440C0108280A0000804120810C400001120004880A9000846200000040008A08821006100040400222041205004000202006000012020050288810010400200C0802");
+    testSerialization(
+        0xBD7AE693AFC834AEL,
+        "023F3CDFB23B9399D88D3FEFFF201BD54F2B5302820A1AC9B109EC2B09062610449A005460914042B08300423182015181A51818E90132C421018880C823280A6306040001200D104440400084980E008B0040522A0210007080402010584DC251018202018448022000003000000221180480112210C30014483018920808205300B2818400D040090008C8A2800005003000012056104714001008008400840910002804218C6E4608080008435004811A59C030208044114608200100008080005C7011000000021500028026000891000061008400829208325220B090000110800010021081140550");
+    testSerialization(
+        0x20192F04754C32B2L,
+        "023F3CD9025CAD4EBA5B3FEFDCD8CD2AA1215A02EC081EF2A08E02885870A0018002004822504068C8C09761C0C9E112A25B8BE14E02874073141000786020200162064040F00A108A6D265904B8022A9443680089A220C3608000080AC10C80002692808D80110444080C2605D431556181E38885304020996510180150C32010000210024020A01A080420790123B864822041A101550C214112909060C452920000021094010124130C224825900501808038120040180805901088009000240510100022018C024004002A254601000892001540");
+    testSerialization(
+        0xC100953EA60B69D7L,
+        "023F3DA0CCF8F54F961D3FEFCBCD807A7D1EAB010284041ACBFA9840CE20530450442220F46438B001BC662980E1325108520180106B83324E4028C3A02A2086201844108464090AC1249540800060A8AD93008001000389B2402800806115400A80014C6088048155290421882121C0A604050728A6C0C822200140321000029AA30090450002504E");
+    testSerialization(
+        0x973999A9D24AA499L,
+        "023F3D3502BFB87E949B3FEF4EA008A84FE00B02D60E16B3000E0304011100000008122964094800000212C8020008804031000C200104212C120800004840150804800026808181000010000040010081202084020080890043C00800210C004000280104800484001000422020080400300000145213800450000802012000008004240010002008006204800000000240005000010300008010");
+    testSerialization(
+        0xE7240B58F7437B66L,
+        "027F3DE254B83277D50C3FEFFC55F495678A77029E0B1EFCC58406645010E104830C14103173D86119C624450409D120A1402054D1212028500109453C00480A008A000A489400DC75100324049A4910490B008B04924002014161225A0080210C824202821349934D08140934270911814620C002420000C000080920001A24360A8C0012E73004806100818086C128008260CD9410282A000020611E40024020840A54005018408813005242008240206228300025011400082030000080008414010A91184300102800240281404009402260000820011100D30CA4A0700124380808008000100210A0C80A02884000002248680124050122018802901214800C0230");
+    testSerialization(
+        0xE668587F1D4A037FL,
+        "023F3DAE5616FBFA456D3FEFDFC0F799DFF23202FE081EFE810802244051A0808302000071CF884948804135A64740760100C220900211010020060B3930017030C060B44107A69A11B00008300B00840800110360984AC000000D800500004801900160A0018020001728068960A004048096445114120A100021692831000B0004501080243C0100A040001404840802620108420110014808B82A05A001000204002002120105020020084060120080021A4100002040601000080019400088062241000240");
+    testSerialization(
+        0x06AE1C54DD761A39L,
+        "023F3D697247053E4F8F3FEF8B12ACD134C267028A0816BD00892110817240010030002008808051801280F01800401422004220C00110500131B100150C502000C940188A0080530490801248404021510010000590154E20388028000008852A02238281080012500120020128E1600020200008091004C4014900004010A044800F048080400800101832000100A0245001008818282042103443A00044040A40020003000023");
+    testSerialization(
+        0xCA07D06BEE139491L,
+        "023F3D69A551114C336B3FEFE9FE6C6855874502BA081ADD0C89060238600E10A104110D44DB40825935B5CA05189666225D881046432F8202410299100002982D90400282C2004414484A08012008460014C0A48E123C9410900200C114000820821800030000800A41000C004808320006151510120022A400000204180000024060128080010A4000021026040C002040025001200229001120A400028060408203000004200040340828400241");
+    testSerialization(
+        0x6393C105DDE1C64EL,
+        "023F3D14AF34B1AB8DA73FEF8B473B0F8EC45B02F8011AD2307AE08222850419408A0813848081493080814584400B005B243000086260CC06410200024800CE0010480600172128085B0428206030");
+    testSerialization(
+        0xD5255D8C378B98E2L,
+        "023F3E6E1EEF0DEA9FC23FEF8B23F8D3A06B089C0B020CC408130500404030082414010884404110480402420D0441201090083271288247281009A832E100804136130D276239048C752B9148C4720914A6A1281289A4E21958844F2B960BE482E9");
+    testSerialization(
+        0xD4552612C1F1D4F9L,
+        "023F3D65ED833D8F20D53FEFF117B0D87F167702940D1AD4642925A022E0881000842810384C888C50140411B04B2483024C4B010113626021417906022021200002050040000049450A0C9926168800001A044148C0440A9B380DB4402C01020524222382B4000602820086088002892C0440B510CA081082501424014001030C88041408918848008000442A01211082208A8D14680009305981294888080B0809241801022A90882910010003480A8404886514A0800A2A088004002200040A00904022807100028000B504000510600820111010310008800000009ACC110C4402822402A0004000082001C20830060420A0B08028024040032080");
+    testSerialization(
+        0x30690C25ED4F7CEFL,
+        "023F3DD90F18E1B8E23A3FEFC5CE47691FB38D0102E0051AD118308B046AC52E3A218E08729A0040E8444808419492E19821645100632844128C320080350EE38810C22588892048D800C24100000215D0C42560C041040043087000E44192A36010094CA824100014A482C200C06A004124A29042082A829000180841410A220842154491C04805940101B20088001004040804000C725410003624B0");
+    testSerialization(
+        0xDC34E363ACA033E7L,
+        "023F3D6CBAD760B614A13FEFB839384748D56002820B1ADB821AA28A9847920883901811444840917415449DA25454B5A4C73085126002288488511000C80020292620140085888291D10110499044688881F0102528140009A500010C06030000080606D080008044025880100821020B0480018000486800400D87490804400121024882A0200000240260206948102810A02261500100200025024080432600000104108408100A44020940110040202000490080010088221010840808040064100B000A000800504402021008804C500100809000185003");
+    testSerialization(
+        0xFA7A7E12A7B013CFL,
+        "023F3E6D795A33FC8B933FEFBAE21C4ED8F62DB20B020CA8440C04082C902408080428084C8C7008C8C44C2544448D644429482484A9244D446404A94405C404040504C444C58504A4640506242906846984056504C4044525450544A44424254426442425C585056586478585C56744C546240465A4C424A465242826C464");
+    testSerialization(
+        0xFAF3411EC4419276L,
+        "023F3E5238E2060D9F0C3FED5D8878BD922600BA0A040910060A93A188634C8D23699250EA2848");
+    testSerialization(
+        0xC809163506C7E8B3L,
+        "027F3CCE052D11F37E6E3FEFFF3841C33F328C0102BC071AD79FAEA3A240218C00429808F04CBDA05460EC4C8284020AC3000CA208C021401102013200169518022045222E0004A909000484444A00091274A3C8BC010414003421518080240002020227404A9154051124889420B20204020030064305244811008042981120000480080011188B403008200800428400240809D01401201B320891428423004800C14000408400128403200A400240D329B04800430101200C202E10AA9440000822C00000202010");
+    testSerialization(
+        0x8B4AEFE3756B12C0L,
+        "023F3DAB79A60B2A04E63FEF5EF961DACB6E10AC05020CD80A0F018341202048A4421A249C4040110AE4F2192880422311C8C432090886452190C80404012898612E9449E712");
+    testSerialization(
+        0xA21824F63C2589B5L,
+        "023F3D8A60DEC15F09F03FEFFA086B439BD37A028E071EF10A1408183811820202220C0020121801E500F74500125880A31A0A981C08322A6D9440058802100440E20C0482F7C12602658222001201000040192B24004E48455968800120044C2A7500C09100B8C284B2802424004A0409000280A008118DDAAC804024160B200200048061330A690250004123002800204E5314049402086044561804010004024326000224924121238811010801000A224020314418042488");
+    testSerialization(
+        0x55B6219C5B913BCFL,
+        "023F3D4836AE441CC13B3FEFC779B23D317E2902E80C1ACC1D680E2A08600800419408501181001C07540C46003080909C891998AD144F0016B30106D81622C10000E804341A00906008A30A43C14050600200051219880814002100008702240002084402040E0290825001102402920304000900111168008100D000480050002184901C10202014003402A322004000500A0230021880020060100A040A00094250110102A0900090624448000A424080100208090910222201880400007080401004840484200090100601128020C08240800108500082220848400040902020000416120908513610C041000212114004211604080080A011");
+    testSerialization(
+        0x076B58F812DC9C02L,
+        "023F3DE77989C2DCD9713FEFA980F02380805F02F4011EF3980E088CA1F080448E00080042D46AB206120083100026460F0B498F9D080841405013006050920108B20C0060A4202400C8B5A8E00110A22850608008101003EC141008");
+    testSerialization(
+        0x6CCC0C955063D06CL,
+        "023F3DCE84F5925CECFB3FEFDA856B0EDA997D02B4071ACF9520072810A10400831608B00004080CD800846A022149009010A008AC01001906080102522612C9A6100228009D2802510224CBC580480000816802090400690C0000413800652A700000A0348042464A000009004280066442120A90000220140008400900800A406080990909280020001060440100944280104108100800018118044010210104840908C0008024190005420192800248");
+    testSerialization(
+        0x398E82B74E12EDBEL,
+        "023F3DE2C836626480BF3FEFFA4E22C4D7038A0102E60A16A9F258A11480110421882E8B0834D69305841BCE84657D30490588508004A0723070CC01200024211231000DB35090400496006082440090480840122585404208011C820408822826800432000D06A330000001000135610400090A200404904802000C8840000092080A10230101002080002282440A0940020080300104100400120420800C10010D00012412309004208080112180000004008620088004D0800888325840080032004420C080202180");
+    testSerialization(
+        0xA23B8182A1B85711L,
+        "02FF3DF77EC1AE89A27B3FEFE1238C54720BA6010402361AD684088C8039E88C88C12A5830470844C800C0");
+    testSerialization(
+        0x3D23786AA371C9D3L,
+        "023F3CFA7FE6B4C474C33FEFDCADD6A67F3B8D010280022288B2C101F2420340113041117000E020B51956D188A6292832380E3A6940B8200CD406A4354B41055104504401400A111846214A14021411B412320060384520A4C04484104211005003A013");
+    testSerialization(
+        0x109154A4C05CD63FL,
+        "023F3D9AC48EF43A2F243FEFF75E88034A0C970202D4041ACEE8D0068A23C200004792A0542950085287231904359E1A9848008002009FC0011432690062208820026424E21606A88F40990E51063220AB21100848D04168D8D9B0010A4C22192CB1080188330586102C412018401122023006046011401402C802844040E091402F3ABA4010642231058C720840424901C2812084");
+    testSerialization(
+        0xFA853E863BFE9035L,
+        "023F3D4A820F8033B5AF3FEFC2931B9C63CDD40102B2081ADB0CB9058438A50E40A0B401142380021390010A8A311211CB093024119180C0221101224190402619491400415CC056C20C04021B00874069C44C137000011228100164A1CD0400102C100444006001402802042290B64144842CC80EF04482802000180428010003C208502534506081A08C82412080202100004802A9A0010204C0100028C1441200483190824006022080B0404A106000480100B0552202242021081050840A2000128010840012203008220001102448102E00091607");
+    testSerialization(
+        0xB30D96588269C854L,
+        "022F3E6EE4D438E67A683FEEA1818517D43FA4070210F200C008410080041080204210408811082284708310428C42890122334520A610029C600801342144F080");
+    testSerialization(
+        0x66C73752DB5307E9L,
+        "023F3DF08A64A4AA9BF63FEFBE3E7E4BEA249C010294051AD9CFB8E0460AA404310002183018A4232112108C8223A19388101030C8B40040A06900176977C44D04B8CE2C006B0200E00812082088948002014250806010C80084056C0642841A00058109AC148020B40220008501144768206884680051102210420420041032009211014006202C4C818124800165820A088841002801104806401001C8");
+    testSerialization(
+        0x296A0E365DE45193L,
+        "023F3DF8D5961193F1673FEFFD1EE049F0473202FE04129205106C62200E204C8B00E0204921900C28025200B6A12082880834431000A0950901814838210020426008C0A880004C5100800A423040084080000204008480611411000200011020402020988080422500008080");
+    testSerialization(
+        0x78CA41583772A5B0L,
+        "023F3DC2E98EA4F90E1E3FEEA4BF1569DE1F1302AE0316B3A886000405284011800886A4C035B0400C004006310B00820020040100E0008002C00010010008020084201060002000040209420003008A0010200346464080");
+    testSerialization(
+        0xC46BDFE034420633L,
+        "023F3D87203D684F437A3FEFACED73F41EFECB0102BC041EFB46AA6A405842E00D060024007034104B0C0188021812811613180128588B8011D1804310AA4000C5480236613923010844C00C74A009C0D944161C1096134022510123585A86300E2D001205C041AD908814524010324960041F049546E20820C209400010565828004208912A6950008C6050490100180A06343080");
+    testSerialization(
+        0xD3211AD946F6ED88L,
+        "023F3E1E85DF27FAECB83FEF872E9F6FF2D565028C021ACA3F2882A670210041058410114854C12032994D5222E0082010A18813B05A08C00B0CF401267222C004B0850401D82487000000424C454D004B24");
+    testSerialization(
+        0x3C4CF8E28D2F8144L,
+        "023F3D897CCC53254A623FEFB084E8253D8554028C0916B6B8861B9807600202142C41E1348C2105924644A1834732AAA822500104058086928210004119048248240C1388020104800138D0C84200010100422A302100106006408002002000879481021210A8C00A0C111040264888D0100400800A20100140848878000A80600101102A4000E2020008802808670A14800330400000042004A840AA20C0001040008AD0408000010008402810008900000008801810100208");
+    testSerialization(
+        0xA10F9E704282773BL,
+        "023F3DB4CA1E898359AD3FEFF3A7175F60467502C2081EEE610952301200A3831208001031ACD458028C072210C2130880824000C60A34012800839239200000244426226285D4C809200498800989800003D006E129100084140420440008440D011204164121880964001C14B20222424A201600E500800C10DC04C01000001904244C6400032402600490084400442A0C0420213211810A824F4030872020422C1282A0844882121226408003061040000001426280040C92404094290168411040A29100000312608402050013C0080082000401302010C860941340C0");
+    testSerialization(
+        0xEE9BD7282C23BD8AL,
+        "023F3DAEE4C81E81AADF3FEFE72D38DBBB35A10102A00716BAC1EE72FC2120CA601034C8D0040295CB090405221098100B0101C8A0C02204401020004B341020AA68C030B25101019140BA2983A878002180036102210C04420C50430004090901030B0124000804540A00C2009001600418048809400242904090046802012D1C000C90008802006104080B2124244024045801298081070106108003880A40A4004864440024004208502415712048200211C085100002A4");
+    testSerialization(
+        0x81782D05DAEDFBF3L,
+        "023F3E897920655880FC3FEEF2E892F4705A0BD209020CEC010140900C010041D008010840101011028110042106829168121A4AA2C42922401084C1344590C4094A4890C9A91A461044212A41100401804190A4290E42A124090041918439244B9424190240");
+    testSerialization(
+        0x60EA5863D54B0A88L,
+        "023F3DD494DBF0E728483FEF11C60FF741BD2706940A1284224B90842460200C8640500D1801923004300000211008100440880220C8003200020012CA02800360008104802140009A100800404020803190ADE44000800256820800219002280804308080112002004014000100009000030012012200818040040420804021004841022000800080000840010020240024024080080400100000400109088108002020");
+    testSerialization(
+        0x163F2A81DC6FE620L,
+        "023F3D90294FCFB2043C3FEFD48ABE22BDC95D02CA081AD60A122302504308112512127045920A444894104A0A08800A28430080221041020641A001886490868664211C2C00010004024600D321440402080C2488040800010208084125051344040924808090C00180100401000200000042428000060439E90A886002100402280080118400110000040240446024500C082005000D0C00A1521901120520904001C01000000049A101420008048710210C60");
+    testSerialization(
+        0x3596A1576C0E92DAL,
+        "023F3E05503640A6D34E3FEFC0CB738663DF4202DE051ADA0208818808A202202306006C12D81802618184400D125706344124004540A58900A804C804801180009800A8090082414191422C04000800100880E001242000000404800000800644901140000001A444480000998840107011000200421014820A20800004204B0010");
+    testSerialization(0x0B3C5E690BCE60F5L, "02F73DCA0AEBE0F575043FEFF30776BE19D59F02B70202");
+    testSerialization(
+        0xC054F621443FD761L,
+        "023F3E616EA1A80B17F63FEFD9A4E6FC009C36029A0D1AC14A08E00210A40028820008114411494089A10D018340200081282854CD0046994000040090813E48421804120247004A521400CD428B8000CA0414811120029283162202C000C000000044011201200181209040200A824801001081820000084800A0C0000403A44840400A8081024040900020860C448412200004710064C00C0102110402044088100308110000210820022415C48201224480100020060A400410240420008142200020000200404041102060800A00041240201005404080009491020890");
+    testSerialization(
+        0xA1ED3B3BF1DCB889L,
+        "023F3DC302E8FC0EFF653FEEA85B5B704F4E16AC0D0210F2004088130080040181200200C008320421480902100220450802184104008B100238418862064088088210241C400821002248008111E2304108010621C818852062004508711221C4310410C2244C08012E2244210610220C4A88D24C234438871562DC4209111C4AC4388310A220400872263844508210A278408831");
+    testSerialization(
+        0xC9A635AD26E2D0EAL,
+        "023F3E2D81ADC619C2C43FEFD6A1AA0888B2620282041AC7215B278078038208009A204FA2BAC0A86925A6D310A70AA024100249860A0082000850800407D810229000B26646C4116080080010E40886000401866820004624A0114401D460800880C101020A0A0019000008C43051846230");
+    testSerialization(
+        0x73A38AF6A00C0B84L,
+        "023F3E087C45D3E163793FEED81B2979F0DE1902CC0B16A30502301021484010844954406509012800802434501442A2048125014410820020E241400002411000840450014080000018800200104002410340200026006102000C020201000100012000208200100082440440004C00010010400000400800000084008008000008001180022000840820A000100202030040080820");
+    testSerialization(
+        0x4A0F35AFAD1087C4L,
+        "022F3E92E839CA4AF2283FEFE5B71538F39584090210FE00C0883304200409031022044008A10021C4408510C208440851042244708220420049082110200408801002004F08E11E23C4D09037A2085E08214A2284289912A200A188");
+    testSerialization(
+        0x3B6D91C19FF13E05L, "02FF3E0FDF3E2C0FA4693FEFE8264CF17E1E5813021219D3E09440432650");
+    testSerialization(
+        0x90D5CE60B4758CB9L,
+        "023F3D0016396161D1CD3FEFA190B25A2EDC2B02F80916A29BA6420422194611044D5A420C128021B4610C80C90037412080010C1614089040021291001022091B42041008405002882808080040209341C080000000000000008404008008001208840110428000040802004001120040001002041808080881020000100480000A0100280820810400C4A0001200122102500008401200001200400080010404408800101015000000000804011510");
+    testSerialization(
+        0x0DA5582499EADB64L,
+        "023F3D627158A045BFFB3FEFF523E12C27B7ED01029C081AC64049A2960883A6702182295447030200096311C2104B0410010600608A144306308043900180911104122413CCBE531C4100040086040058004019D000134110204121186001030400306850248641920820320700BC021102A124058088082882820287932A88AC120000D1466130082022202A001010310202006020468494044184805093D0448C9800A04002000B000011809000481800484800200202100000040800008013A224A180428080D6800408000A002002044404200C");
+    testSerialization(
+        0xAC6B53949CF432BDL, "020F3E90CF103043DA2A3FDF618C4AD8F9EFAC03020918040681A248CB0B0C20");
+    testSerialization(
+        0x203A49718D3B7B63L,
+        "023F3CB36229B16116E23FEFFE00908DE7106C02B0061EF740820838490180818112109000B0890449E440094C511EF53780B090443000C5868200C1603802CA24A6502CC291801114B271C5881061C1090014480C040084020005400248E0A0020C0126012018030802454A884083001861202240502602804980411101282840003001000200800300285C8059042000100201013740000012084008");
+    testSerialization(
+        0x0B35626D6ADE27B3L,
+        "023F3D9D7245DF553C9B3FEF1F9A77BA3C474702D20316B13B00010D041A5474880F50C160340845815218000C5030400810000C464200400120A088081409128200700231040948400A8E880510151020802221000C0104084822008212400810488A");
+    testSerialization(
+        0xAFFF333119E2C51AL,
+        "023F3DB3C903E4CE9D683FEFA11C8DD80DD15302FA021AD62643470482C204280088001467280311080320000129805220727C32328103102A84060801F0800093140E000CC0804400182005002004438CC6010080C960B400040A136C1220000640618A0924240408250B1004");
+    testSerialization(
+        0xD8ED26C708F4957EL,
+        "023F3DADE64607CDF7673FEFEFB3633FA80F7702C4071AD8862A2F9441258290638038918400544802008021A29A1114492F410A1500207300014822421E06600020C8C008934605259800A1034C020B008650A08001600208508402280180A0B18A0120024105304010A05000170020000B0010C904300004085280098002080084184200008C08801345018880040200242041114C052202200290000600108004826280090608608C0004001004C4312220040020180021424028800041008A");
+    testSerialization(
+        0x11849B2F994B24F4L,
+        "023F3D7C10E8876C22173FEFCFDB315156015B02E4071AC1DC54CCAD7829163046220014A20108128C5108D020819E98F0A64108C21850422210021406892042122020D660A88B200221510020800810000348005401121160081200008309858540810188200AB580429200000650002254008088000D0C100EA4018901864058D2B10801120101920924022000B01820021011158F709280C00880002081151802200B44000A0818006484083402010C0100040200008001324124A0402602241494304444900C020001C0");
+    testSerialization(
+        0xFEDB3214154D889AL,
+        "023F3DDE0E73453392C93FEF905BD6FE8BB9800102E40B16A222D42110021D52450C10D0504805128806CE08009994880010002A55126014000C00E8C920002104001C20004005004201004820650001408003C80014020540002100A6401210850002120284E104515801800005011330320240100158000002084080100108888048300000400840040180000090053000081002019040002100080044600142000008A01004801280208008144501008052440000881001C084824012200488000012402C4D488128302002050300821010800400800400600448040140");
+    testSerialization(
+        0x297F4020CFBBD623L,
+        "023F3E14298AC1D7238B3FEFBFA49EDA5DB82C02E803128C420244420522022CD490648411019409000485052221010105800000008185014250040220018002220484D03900108080138002280008049190");
+    testSerialization(
+        0x0714D9E98F934930L,
+        "023F3DE3E0399B442B593FEFDEC4F9142AA49E0102940416A99064C01C40320A8484304080810C0A141011904001065966310A0012D50037120890D104009001512050642CE0625754945548100A640A04420251650C94884010021013111C004480040060D10010440500190001110422091181400804");
+    testSerialization(
+        0x58E7241018095FEBL,
+        "023F3D6D1BB562D475323FEFA5330985AA5C470296071AD80418250828378E28248C30D048006C3114940045908821042820B18060B90921068520A01124429C1056871901010045020214C224444680821008801E0511C28941C00001A0B0801C560A04A04A0208450410208841C2125410004380012008160140090808482A980A0410000A00810110825000010002011C4000480081000800304580C0001805030040");
+    testSerialization(
+        0x69872186B327D60FL,
+        "023F3E1576A1A07C88C33FEEA04371B05AA44F02D40A1AD70808629E10A100080300201044800C10102080C180010382C02122C1008504A4C0A0109240D0801820008880A20328001004E000208CA80021101120221A222481450844000B4200800094400920CA022700102590080008010191480000480410400225565050110C02000105432030850840801218100240888000100210800210019020204008000002010824000014000211000809010100244204402C8020");
+    testSerialization(
+        0xAFC825616A2C77F9L,
+        "023F3D338EC0B082CBA43FEEA3C5A277A5C10A02DA0616B32D440080A2094220042C004031110805A1480104080225000A010640080840C000484490000605A21800000420388449410080004215420220008020000008002111003020884000804080012000002403A102C0040021001014000000010044060800C00C");
+    testSerialization(
+        0x1FA822B5AD17358AL, "023F3DB081461BCA6BA53FEFBF86746528BAEC0202161918E097332132180600");
+    testSerialization(
+        0x5367BDEB91B31F7BL,
+        "023F3D31DCB138212CCA3FEFDEC4E9A3B264A00102F8051EF2CB040A1C38408045210C0C28C03421C0AA0110C230403502105109880B11901340300246633330A32740B4C48B0422C0A417492080182CA010843003440E70401004608A5040A68008D4940411081013063000840640A005200AB840804021011021800142471A2902500020E00B1881540542032388A8815050460000000204D6E02C420000205001002022244411");
+    testSerialization(
+        0xB0632057A55FCE36L,
+        "023F3C2605A6F4FA02CB3FEFF2DE0E94D50245029C0C1EE5E682189C980600C19902184040712CC858C4088514E25022190880089001C01A10102C012222182220428209204242EB05021820D212222C262344D0C004026864600A0020082C804020A800618001A42A0000320B000100201688A890010400C1621600001249E0EA9100C04A28218D0020080000218088048E1100101516000020010B9094104081120210102200244428472807002906400105800118000021309C040049000488082212C908100110B048003189202905280002100100000A402115C200032190910C100009A102D8040005401100204810090009000021C01310A48220040240409008604002000000084000A004");
+    testSerialization(
+        0x3AB2A323BE2F67EFL,
+        "023F3DA5422CA02537783FEFCFF8C4549B917B026A1ADF1F90411C02210238C0481815260192C088010C50120590688C004340B411A0");
+    testSerialization(
+        0xEC5EFDB0545EF5EBL,
+        "023F3D2F6FFA1E31C50A3FEF6662E4D5C1DC1702F60B128D5A50000006E2240CB2A8010290612A40C080300864D00000942814200095434000120A8C02C1E0302888041080901610828204008018000410088420020009064122812800000018E82010008040081000000102800000002400050C014024002014008400620002402081000120004401901201440000300048000104042408040200820814080084000008010020");
+    testSerialization(
+        0xBA7E84C37852F71AL,
+        "023F3DA074F98B0DAF2E3FEFF9894256BB5E800102A4021ACB3A94C69828A3002123821012500CD8D0CC158402220A81908089550930214D62C821C8A200020020623882D0040040228018A51202088002440B072062805000120007");
+    testSerialization(
+        0xD6A372F2C29A76F7L,
+        "023F3E24E89FBB87C5413FEF4F2718E44E6B05F80B020D040200901800C008110120280D0090020243C80B03202404829092024690110A22040C8710021A4288010323241880A1141240087901216450869002144A08D91421C4948F11A33E4B8931");
+    testSerialization(
+        0x3490DE83107132CCL,
+        "023F3D502E0B8732DB713FEF88FFFF78EB4C8503025218E820300254B068C79211A308B3464830839419038428C02680000448610010");
+    testSerialization(
+        0x14E6E1D6B9302ED5L,
+        "023F3E09C9C89A7E7DAD3FEFC6BFF72CFEE462029A0316B448EED49C0408C60194328B44901800124C0A1135300982912008A023A10046224230030410CA01009BC01298004201A8004205111245400682502800D8185146880820B0022100DE00050B06A080");
+    testSerialization(
+        0xE060AC0D21583070L,
+        "023F3C164C611ADC90B93FEF18883DE7E3523DAE01020C94481020408A040CD0A0204501220C092042648A12105A93C3409262365890");
+    testSerialization(
+        0xE1B6F2E2C40E9605L,
+        "02FF3DF1CAC0EE3AFEED3FEFE5A6443BFE478B01000288031ADE0AD1020058290668A1047033F94DCA844149014E96411800518400018042461A106211906132147A9AC122A37404701B640285002E03259200988014492218108D00000C22008180090415421431520A020024C4B4");
+    testSerialization(
+        0x043B6CB4D3CAE5E7L,
+        "023F3AAC3086078DB8243FEFD41E5C6830746F0288051AC1BD0A231868240200E100097442104E019800240A348E00D8003100081308308AA41041418940200E0064002420C001D40124C21B089A0805965300141806860060801B4035D14D9002244082059149007B0820284102040410868E189008002D1190AE00820050C012410600224C90598102C0292208088C3004040011410484");
+    testSerialization(
+        0xA4737B64C8FB95C2L,
+        "023F3DDC4EE1ED56A0A23FEFC7841694812B17028E0B16BD1080100023018281044C4000641618452821080826140000544A2002806080100001000100404004080084C20102060200100C822408440008040100A2400000026520588004101102040008013101012000840410811429100000004030090101001040010200008880100202000A80008000088001080004040080080204");
+    testSerialization(
+        0x61B7867E6E20A24BL,
+        "023F3DA457E3C557076B3FEFD9EB7B3E81D65E0286021AD03658618A00209809E326100D0A043C3808C9808819180D302040025006108400000490C460008880005A4020083002430516200400404900");
+    testSerialization(
+        0xFF5E2AD319C56194L,
+        "023F3DC9354A3A3130883FEFCB98F153941D4C02A20A1AC29050F50C00400048000418105715400A9808C0819279260409042500D41104940A0020C26110466C00100060C801000440A00032C64801B24B0C5201011605C424020002C0289220200019040040080C010124482432480488D880801080024000845003001000080921640020106800070054B2081400030C00900210001000C0A0811080500800082500448000A0101200021020800204810824030818000000004000002506");
+    testSerialization(
+        0x025516561842B5A3L,
+        "02BF3DF00D8C46A978E03FEFBE03A4AAF4355002501AD00E30642600230C00800008704018C20C04044401000180");
+    testSerialization(
+        0xD0B26ED700EC27D5L,
+        "023F3DC63A5C12A4FFF83FEFFF3104DD0DBE8A0102B8061EF2A38A00B000802100810E786810708404C9EC8126E01A11818891010104193D3988009A1CC84223488804040006C80DA2A1A8329D24C02900804B0880420730016811002380012D021A50824A0142428A01B04122325C0006180402C80C08E1188008002010DA1C280AC2492C005002106008114411CD880321A00020A00440008486080000C824023128001006022032420004004000380A09588018");
+    testSerialization(
+        0xA9BD6EF9E36493F5L,
+        "023F3DB2A3859E3A226A3FEFBFAE5126341EB30102FE0E1AC16021C194B8A70C10411018319803D9009DA4DD8E13258AA2128290A83A422090088126422008082400C818E20300841981849010124B0110091C802944806AA80D0E4804020029820100101A46320000000C20861421024920068140610510000A2C22300840004008C1060A041054110122710920040802020040C100914020100908A2801002496020890403210850010C1138000202204000A8448060028094410402152405000114106000000210002C804000804080C0A1A001008004E0208004804040818A8601127440A8000046840120B1003020490002060100204100404381900220081101B82030A508E100210002206418000404000000800841405000A000112804044100804021004552C0");
+    testSerialization(
+        0x7B27C09B5BBE8C3DL,
+        "023F3E8EA59D1EAE317E3FEF42224697B0BC1602C4090EDB5814400831B202044480080800500031644080184500179228000018051040440420000100844001008040181001040201400060002000000124100120821884C480010200A00000000041804600004002220010000201000800400045");
+    testSerialization(
+        0xE36F563C43A8493FL,
+        "023F3E02A47D2E01C68C3FEF4D28C1A86AA23A02FE071AD33C00420000200C484302105046C484C088954441D20321160C0BB0C0000380408620048291400302088400004C00005802044040B0825A0010146002090052080C161904080921824120D041042000500064000822509280001454201002221044D504220028802400009011A4094800825810852008C0502892080284100002200065380100004A20102145004208288855104408939200310004");
+    testSerialization(
+        0xBA1C650215C3E455L,
+        "023F3D3FD0410FB01BF63FEFD9BDED95AA625C028A031ADF1D08873630800A79C590084CAC0003120701A608CD02CCD6C81110000111204106182821011432D1AD20982202D9200400211A5300008802A210610001090A54292051100D90090090F004206001F0441080");
+    testSerialization(
+        0xC7D459FA82F40580L,
+        "023F3DEF6B4FA501329E3FEFA8CDF92780F91702F4061EF5C703260418B06000090A006030A8B033D9C190208800882DB1980910304586091020010202A14181902000898015010A008A12000A80629040041600081702000140A26200A4200C088468000000C800D00A0012082022081100C00642810C009082A8021400168800404000804130820800001060230000000B0880C40101800131104000280402");
+    testSerialization(
+        0xE2F8225B2CBB1C0EL,
+        "027F3CCB47EA614EFB193FEFF7FC44A6F7394702CC05228850A0D1E050C020616260F150801110D518C6608800114010962D382928010BA0631004C8281240414201310417C010336C9409004450260254540240443145304D08A00886821402438521600250425074140628204120430000700000003500211480000308A451201148190103082206048008320121000118130100012200402100400022000008001240");
+    testSerialization(
+        0x3F14B449F96A7F20L,
+        "023F3DDDFF432AF50C573FEFFCDB4A131A6093010280041AC12939F320A0238870E78020EC585B0FAA080A08AC408118200A03431080001155321008000342622A20044CC83400128090190320C245061C2108013111202140858222626020046628640140410983882832032104103415220400030080040000CC30009402CB12CA44114A11");
+    testSerialization(
+        0x61357519FE182F2AL,
+        "023F3DF869E29848E36E3FEF9DF35A695CDD23029E0416B678C0019469100820088D800160B02022198803108840001020448A0404660A6090904C12001940880008024315800029A400404008A028030020018000204042602081844004048408008009800008A0030000088000004400008080");
+    testSerialization(
+        0x8B83D986E219FB6FL,
+        "023F3D77480CCFA02E583FEFD824A86048F86702D40B16A92C069184C41848008032404A84880401000508082460321022205021A46A4102A890130408160108018300C0180000034B200208891100080190000002810A2001128984410A0A04440208009288200084488049A004060088412008000023742040028A80520010800024180B00000001030C0000200002000202008021001014010000002453041000848111000400102008400808010830090410010000000382140040800902");
+    testSerialization(
+        0x94B38B7ABB242E6EL,
+        "02BF3DA0382AA6F7CC393FEFEC757A89F93FE801026A1EF4400A3220081244C782000008B151C44B00B00C1C085E008289A4311100123F0040");
+    testSerialization(
+        0x12AFD6400243E1F5L,
+        "027F3D70AEE6A01A57073FEFC9021971F5FF9C0102D00616B088246A8446100000981400891A4404602046448E18049B9199088480490022124220010306540582C04020808883001934820000524228D80122402900208C24080481042582510D0180001C583620088008008084018251101041EC1A01204C10608148208001244001820000D0010032000510081004820090C0862400021008000102040070024800CC020C80408500082108A100");
+    testSerialization(
+        0xBE4A7FE4E6CE592BL,
+        "023F3D296FA4EAE558263FEFF7BABCDD00C87602A40A16AF341C690DA3025010004FD520A4508A21BA880034400CB2488C801B3406CD00930034B2C00005B1C1001810900A08026B20D04000B20560504000A0010C0000C01280011800022215C984400323A0901120005001230002380020502490485C8094450900002004182080208D8005401080020682C04800003800A4C001348002821022C40908890240201008848222000400904088608808000084050040000010140300844005089101010B480000A40880");
+    testSerialization(
+        0x95F073D53E712572L,
+        "023F3DC1616897C67B7E3FEF768BFA87D42EA501028A0316BF70026294E140463005F1425C40404D8500520A8D311B10000893B249E4020120360D08E01803030404008E444000001900000100D2024000450865004014A0000A8011814920520D0022421119448100");
+    testSerialization(
+        0xA1D242D8569D0631L,
+        "023F3C23F6CB678D2F1F3FEFB0E7B2B901F7B401028A0C1AC0C6194B0212400458031208140324CEB001A410C0008A9800004550848148C420BC8006920B2886CC8710403020C9010203841498408052A5800B0801419022404808CA448C060010820101082245A4300908E04121C6C34000091410D024041326009208E01AA200110060509408210C01460000034102B92000210110A0061000C4920D80504A0C68834880087420084300A82A084010428104200001100104020230005A2011200241010008410022C02638A9000022012006100152C0009800A3010C4019008044080000092056400097203240101000000400210000944042040A8082000004434708");
+    testSerialization(
+        0x3FDA95ED9487E334L,
+        "023F3E970B363D8FF1FC3FECB5C54A31BD6E0C8A03020CC8120210814924A1088432110CA0494110080572690C84642F90");
+    testSerialization(
+        0x238C64ABDF0EABDEL,
+        "021F3EF7A995F14D2B413FEC079CD641EA51980102089122E24928CA28BE8AE82880");
+    testSerialization(
+        0xE4889F33C5D28D21L,
+        "023F3E0CC3ED443416513FEEAAB8FDF9756A3E04CE0D16A200A81024210B4271804C8802088009A200089C3000018000A0080044744020038485430500100288248204000120204A09010400808801101122008080000019508008A102500200006000000001000A0041000095042008004102010040200840C02108401000240220020440888AA121000220700402A080041080000A0012009500002010050140802002108048008908802600041420812810004400001000834010000820");
+    testSerialization(
+        0x4302DE9E756E9971L,
+        "023F3D87E660D1085B443FEFF67010F23940A101028E061AC7D41B209C01409608428230F4A0188000A5200C822202208291309A00081D324048D3443226111B9009261104C0408148840C021220000CBB4C02400314134000B1000C9019435808012000A80424463884040068CC528480D050200408D00100000002115108346020C110005008C03100110C200061A000014806500040420016C02092C42CA013280040122002006421C0");
+    testSerialization(
+        0x6677CF580BAB3119L,
+        "023F3E5B6ABAF5184AB13FE7D7EDA3D4445401FC060409180A0A82A00884028220E8A22E8627E84A1287A14822348322A8B2028031081A");
+    testSerialization(
+        0xA233981E02378BE6L,
+        "023F3DD1A99CA641791A3FEFA8B090E81A044102840F16A27EE410A003008060142D185F02005225A60044045D10A1501D4014889A00088000300498204208482202108100054852092844010900084000A0048400440C00A00E8074241410000210210A50420100000810001801403008001000240008100050080808818400249008810010108709980602180440201080080011043020020500008400300200002000121000640010070000012001220084110101000000100100402249C001A080220006020080029000100102002008041000801090080280");
+    testSerialization(
+        0xFAE0EECDD859B051L,
+        "023F3DC76DF8526293813FEFC00C8AEB48D07002E4041EE42826000430234005020014004050104808C055204881B45168B286D640123202C010131218A066432020220CC8C10230436026182CD04100A40B0C1010007060429024200C100980AE00018468441088882201044824A2008010C9404641041210320000A310040001120064800A00002008000000A1A04100A21B7026");
+    testSerialization(
+        0xB6C1681A42A2E495L,
+        "02BF3D23F23B99CF48293FEFE1F32F3259E9CB0102FA0416B90A4025B041080810057180D6609A40CC0401D48A223443024292102201121232064001A2862310C06414B901C41942024B01841B063000404680404020808883150501980840008049B050240408A1E421280C128040017014080B0C92235C1140408310000C1410050808018A8004100801208A1404");
+    testSerialization(
+        0xB77055296BF4D9C4L,
+        "023F3C02C49579F0BB013FEFA3E5B58238AA1C02F40716B18216D314C111C650D02C600AC0B391E20958980811080009B6410CA0901894AA018280C020400E0C02538228008241450120438000800C964000802801020480201064C299C642030B040340020810000031C448014004210044008214380208FE84001000884001004021800460010004088024020000440800004040010A10810640");
+    testSerialization(
+        0x970F4AD049D7D4BDL,
+        "023F3DB673C2A30025543FEFEE3F2DFEBF8A8D0202C4031AC3DAE0C9226025800044023013CC44424C813A838694A4040EB1102010C451482023001300619008268286C9244D020120240604C03D888421240889A10A80803320168145468161980A00104030800E4005C44009158329488A482C305021500004060109024D0000D9010A0020001C40");
+    testSerialization(
+        0xEF8766428A950BA7L,
+        "023F3D803B0A0C7926273FEFE4BA90102FC2840102B0041AC44244E484F3080630D30C30148004C8D404C4300A020E313A9EC1281000003E180012CD31D6593010880102A600CF4716330A10234006104492217000028006500C08000880420A08808C0980180009315024521008B4904810B892802014592002003130030082600D020B600000A022404C202024");
+    testSerialization(
+        0x362415FF120AFF1BL,
+        "023F3DB9F32E86F5967A3FEFFC40195EA4BB2A02F20C1AC6DA106206000000182280098C1688221600212900004230040000080184222000245141940C0AA6220E1500504940800004020D0280050224040120030022840000081180A0200A4C001010480482020801200C852000086010002242301000203001E002404000400401408600950504800400008000C0001000240001001020800840010640840020100C0004188000006000140080280150002008048020D20403000048000A000182003008001208");
+    testSerialization(
+        0x7B2526F7880B22F2L,
+        "023F3D34E0B4B1BFDB113FEF94C2BEB43FAD6D028A0B16A12DC82A102F04043114D084B440015044C80E00A0C0000818019B34401510004D062925A0602404D1C50013089050E802809300134900544060100301A84068610804452040808A9304242022D402A08040004862030000008000004A929200680000441928280242A0401018043808C20A440810102800030004088082024100260A04060109000000124014032C0280800404201020824002000C108443620001081000C01120410A009C0204A4200002800150204800690AA00800408000A00C1801040480");
+    testSerialization(
+        0xEEF2F3C81E801089L,
+        "023F3DA692B574D9CC513FEF01F0944AA0702502BE0B1282285208282102E04D5400013009412820AAB8A0019100048A0482309049040458808000000212100901006050400000412C0210220001010060022010102400000040446154080000294130300104002020008000024A00880040000809018000400024000400210008180014020242220C0001080040000098040105088001880210801040004001000320004090002904100010408080");
+    testSerialization(
+        0x8BE156B9CEAAC048L,
+        "023F3DDCFFEB61B12FC83FEF89DD4B924C5F2802E205129D8A0CA2688088240F44000510493580490202C811AA0421A40640240002610C824001405E0000002000420180400040C080400508010910200220005012042A40008080020090088111981240A000104891004450C060108202040040405040000E0180");
+    testSerialization(
+        0x0E9B281D7FC45FA4L,
+        "021F3F111405382A56B93FE9C885F0089295A20B0405303C0321C052EF971A42106C");
+    testSerialization(
+        0x7F0FB9369BE8CC38L,
+        "023F3DF26211D6AFFD653FEFD88998217AC25D028E0F16AC4D0E24084030D0708410580404CC0CC0424584182600CA214020110014019000158828880890588050180092792410C3A00009000000444180400D80180002680502102206200008018382008000106010E200400120B030042905400801028900889411938008780010088400220841000021008800341001000C302021804108121210710008280200000020204184C000940420008000040000001082000400100000890180000482408088102002004A410008001140282010240480A0001080D2008041011202E08080306804001080A090400204");
+    testSerialization(
+        0x75AA4238A2A028FCL,
+        "023F3DC217934587472A3FEFA7A403CE81167302960916BBE35490D802081C238070874C114040504601D10811864925B141048C480006105938008086C924000A0C011181DBE082C000404248018326281001907120080212B0802231402005102008088C84000110310000020104240528C80871011110A001210006310424000880C00000002008080402040000C020C0081218001080101101740180000040821000C0000184342410098401508100000240105204102008");
+    testSerialization(
+        0x8BE73169EB130DC4L,
+        "027F3DCA0BEFB60EFA1B3FEFC1A78C9DD3E55C028A01128994A0A0249002061024D44C8488000015800880000920251408292270");
+    testSerialization(
+        0x24D4C95B71922201L,
+        "023F3DA97AE5534721E43FEF70DFEC7A8C082902D4031AD280082100006102012000303004440400400424059209409608A420C462155608000402118060801023A000223411104840004A00050001002A1002A00100020206008485000010040100");
+    testSerialization(
+        0xFCB6BA3B42F2608EL,
+        "023F3E50F2D96A4619103FEFE6EDDB01970E1C02E4031288802240401402040C10280000182100208003B2801000080005002000485030082802000202012802074000B20302900008008140");
+    testSerialization(
+        0x4F08F8BF20C0B719L,
+        "023F3D12FFE91D4C84183FEFFD8B93A7FE2861029C0C1AD72C11A22A61440438428018300060900015081002040998183A0001803642A0200A8186402426038488D00D80002292538C0009030400004202C260A8080000800A0923610104A22A80B208001002AC96443410480080C000128900011810040008800B0A004100A208420A02004A0105011100844020A4050205058612200090911010106801210900133900041605880000008021241115091410008000808051011024688000204688120440010000060020840416042868000042E3080491000844000088060000801212000300008000006414020002814086200080");
+    testSerialization(
+        0xEB21527F56157325L,
+        "023F3D510F6912C136523FEFBEFD69A5F7C3E00202FA011AC188042A4A50053842858472145648000038C250127D964B8A888A130A5100407743122309391156493933B25C110C46CC41C80CC0089A7C206004A40B05124100C6");
+    testSerialization(
+        0x531C1A6D384DFD73L,
+        "023F3D948C97D4F0DB073FEFDE2CB71E9A5ECC0104D4041ACE403024463B279018230A20F452380E2185011101329602A0100814491109D88800084201046301443625E054202814920840541820120080100B640AC80490C280000432480200000C58410010150180823002410432000825584206400408080080C10100F0271050A8780C63000648A0804048020A24ACA0000001002126C820");
+    testSerialization(
+        0xFBD3D1FC3547DF1BL,
+        "023F3DE97DA62088D2FB3FEFE9010C3A0E916502A0071AD60431410C50281428A6084013450C8080404C208A3891080C50828181B2C87492490048004060100E00860118040080044440201F00940100247321221904B4726082008130C00C90E00014014580980A921B20A4442C8715E08200B080104B10102810084A3001044461000001100084802121820020A805604184010908B08000680148B04204200200462880808C920400100960C2802002000205A2080002");
+    testSerialization(
+        0x21D2C515FAE99E54L,
+        "023F3E822CACE26A95363FED6BE882B6BCD217029A071297E60222600200020C004944460A2186E420100005304000018000A20400808000101220108022040200004200200A4400110200002C0040500B268200040012040234102002800449060802011500242006008080101020020050");
+    testSerialization(
+        0x78BADE4DC251DA96L,
+        "023F3DFDFED46AD644733FEFB8EF7E74047F3A0296071EF907AE00041812224380080C08006C69F201B318418090047050213A8809080DA085AB31146F000400C4448400C6928721041290412C6144408BE10854011229804061008846252020400311308405008490C0448012020410D049280202095425441122222420A1D04814441822800040801825000080800210814100248807014108002C0024200010C4002198");
+    testSerialization(
+        0x568AFC94DDBDB109L,
+        "023F3D62046F7587FBA13FEFF1CDD1ACE83A6202C40E1288240A2C0882063450200048800304405180C104880828350026148800946982202AD01102080290123800012246401004452080282C860800100010A44112800408242E2290010240480089800040400400080011020104000028900283800E881000804820021040000820108848000C15800000000420143A44230000088000C0040900020010008029000800080019010000801006021180404010400002094000300164C000840C105004000230004408080842044040842000280000200021010000C2140260100A00010B003400040800A0");
+    testSerialization(
+        0xDE7A2F41230E8FD1L,
+        "023F3D5B5CA78FD958593FEFCC0CFC0F34874202E2061AC3CE396700884214300000580D1EA4648C860586412002020F3700008241042488802C10A2B446000BCC0328010120008059020006280831260586810090DC00A8800000020900C000200010001448108002400100035A02002008000008199000100201002000800005A00009006040908086A00200800C045000420E89204040150410020128");
+    testSerialization(
+        0x20FFEC8840928FC4L,
+        "027F3CC472250857AFD53FEFF0CFD95D367B3902800212863D664883000220F0142004D040480001C2C12004080220420D94D5A028823080534C1E12400108018A11");
+    testSerialization(
+        0x8DC4F179FF72ADF3L,
+        "023F3D88799B0D906BD13FEF73D2473695D02E02860A1AD38E28AD8810210428200E006D120C81200841905800D000202100015804810260108846452010D0048A2A01009F6448080C02681404208092242C100000C4920010A2C80008020080101080280A004000A04012000408082504002060010404A00508204A08880041224820820B00000400C012200010006040070100022304280000480080210404200088880200000D0001C00124");
+    testSerialization(
+        0x8ACD4C30AA899185L,
+        "023F3DAF55F702B7981F3FEFC5BA1F2E5D7918940B0214B0004020A40810C010042200461004010042100C0110821284630840100421184020088218CA3185C12042278801788222048110461284C16842120761004C1685E2805C100561E04C11848100601A05212886148401084011060128501E852130421104C1B0581687C1704017044180541404810040170581484A1404");
+    testSerialization(
+        0xB8F125AC611B40F4L,
+        "023F3E61270AEE55866A3FEFEFF45943D7CC1202FC0A16B102C454080018C4300808416825910F0A9140240119106422280206C421000001001088C000012808500000180482410002010012704208004105088492005040802A04040408810210010050401000040000400002180420001020024000010002201004800080801010420200400609000104000410008100100840");
+    testSerialization(
+        0x295F6CDB84226BFDL,
+        "023F3DFBB8C59ABF10B23FEFD816DFBAE5B418B40C0210DC05008010300A008018021080A010061084230802188621084210844188C2188E209002089620080209802109221088410842009C2010428886230A0209064491622082208CC2893E2109C24180230842B0B02313221090258B02A09227882330902E0962A8B02788C25082311C22A080");
+    testSerialization(
+        0x48505FD1FE9B161FL,
+        "027F3CE61721B16886353FEFFF993EFA573ADF01027A1ADB986706BB10834A6020A82815CC69462218A69C5C050A90362208061C620882225504A3101A30887020");
+    testSerialization(
+        0x38FBBF941CC0DAE3L,
+        "023F3E640C6132D99FE43FEFDB7978FF71452B02860E128660E7A400220000094085040580550800002038400010C00C1608C000432000884120000A0282021044012800C42069020A84001010528100914201425001000821004024C0050840806010084401202000608208100204010002048004810020811004020080540081200034140808000040800810900048200800102010088100000081080040040188100404000008002024");
+    testSerialization(
+        0x0C26405AFA8658ADL,
+        "023F3DA2210D2D135FBF3FEFDDD41DD16FD6930102A40D16B411485014E222440624504C4A8C00051C1C0600D0300809110099B4A108120005860800304E0C80C80E201C040020508110988008101344021504100A532080C85044000200404000018100243280001208860008004070109C40113450020C2002104408446020103104000800068191810124008000220C60450400001210A10900A04810110080410006082B2410040102000010204002004412A20208C000100500104808021081100020010800480000A440140283C010401C48208150282816042000810820204004040810000008003100A43082084C411498C200121243009050");
+    testSerialization(
+        0xDF9D96FCD710FE66L,
+        "023F3DB72D153FB026823FEFAB4A2BC8BE2F3B028C0A1AD82401C102082406002300184C71DCCC324A258025848040C43400044048089611001A090002C0208881208012080200932100060422C2260448518411C10A8008F43C00048000011400400000800118500D101264401D2140C000888990400010A842100102000280040080102008160140E02408044181120260001A00424000400508040200005049081008000100A400002400084403010041031020030082400420402080");
+    testSerialization(
+        0x1C71885D7C665219L,
+        "023F3DF2015D7BE4519F3FEFBA26CCCF724A2402C40316B50082100021084221004C90300504182980E8040208012040180004008840088800400013002000491004408081108C500000120000A40310406204600A");
+    testSerialization(
+        0x7D6F81ADC84BDC43L,
+        "023F3CD0DB5EFF099FCF3FEFEAE6F96244E5AF01029E0A1EF2459C1C106000009001063050E034420008604C43081AF00282415882511404088430C103202012901210360A2214A94000E92912004084A00C019008B818818301002020024064038208C28049D800841A00050083000100003082444203200401004000D0204049218412A121E0424190025428414800420445B042020EC820B01862B0080004102900008002010C1600C0004A404D70416010090042106A87020004D0112005C00004020D0380800042441C000008008002010C100A4800848028041021212110000013120402C0808280104814120D802222086041004002002180");
+    testSerialization(
+        0xB9C22394BF215AF7L,
+        "023F3D970A1F83DF262A3FEFCCACDE8773A58101029A0916A50A82312A852A8C02085188A10C848849100190C11002C7404002220230C41010080040224006104020CF0082480000190080040080DA602400115208008C2806012C351880820221020100040620100082801011122120000A9008846C589200202C000280800941110020262184010C4420200010810300001208080401000140088004081015200904802020140054000058008000410308420200050D00200404200100402020144022A010");
+    testSerialization(
+        0xDC196E74CC1ABC84L,
+        "023F3C2421DE53DB5DFF3FEF6A4C039A1F2D5902EA021AD353D1431C5B83A06882044054CB620421003210E031219F0978014A14400204A0151301000802206A104A8EA840C02E001C2C841E37228814400A01A044076100003A80584988404091B21102926A08A008");
+    testSerialization(
+        0x07FA5680C4B9C755L,
+        "023F3DD99E98C69C92F83FEFD658D679A89D2A02CE0612924E0F0A7302E2400C30066119CE01844001804826308880120558240A241002A60C00040C1082501105942060281084010501008020200000084400006088841021400800C208010014410808080400608101140404808800407001089002100004803001080010C020A1");
+    testSerialization(
+        0xD083145AC12DA6BCL,
+        "023F3E8E930A20A539EF3FED009AFECD156711DC030208D8B0C828E888481028306928A86888E869A889490B8D4948ABE8");
+    testSerialization(
+        0x0974738297C0AC7EL,
+        "023F3DD1D3B48A3C17FD3FEECEE74510FF571602EA0E1274A689010041B004000204040000418600A0024810B0480026018004002200108500180009A601001422000424000408100000622001080040800240050C00800B140002100048600805402000440011002204002100008000400108004122000080109908C28000470008402801010800200244000000100200400248800140000400081080");
+    testSerialization(
+        0xCD9BA1649F4F8125L,
+        "023F3CF6F0282EE92BAB3FEFE225D9926CC9D20102960516B2A1CE4348245044039C3444684E08004300D2119D82DD1D9688F041011531D00443001689C000003000C00018112C28A200384080888100030990013C03837008880280000D1207488353218040601008E02301000025343820C28080504012214402038002012190416120001912004A0020000152082000A4041178025240");
+    testSerialization(
+        0x9A90817BF934EFFFL,
+        "027F3D49EC9D31B642583FEFFF98EAA43263970202CE081EF1890500B0088022438510140840718C844C10072141C6290A228049A942004005037224002801092646C640040000431C08600244C004001C2898410200A304200004828C6406082C002A29411241ED8AA100030020A00290374400AD2094F980000820041A05881004808300001210026356801138293814040100402180151D140100A060C02800D800C05900900004084210928C02480046008C00082000038122284800A504310152A2908010100310120C820924104280021A0406C108E2");
+    testSerialization(
+        0x882C2EDBCF3D1F36L,
+        "023F3E723972437F99373FEE02F52C08DE6C179007020CD4240A0480432110482C120140884220124824745114804D2022C86412791CA8412990D1CCB3690C8A6C2E18C9A8F3012080");
+    testSerialization(
+        0x79449F0EF14C6D77L,
+        "023F3E3AB362C712D51C3FEF11547C799EC95B02980316AFB1065204434802000470840020838D54004DBEB6601A5009C2040C0011122161580400000220401220E004024020905C00A20000044A430005104030A908C88000018903C00018210A10030400E30C");
+    testSerialization(
+        0xA5D33076E4293F67L,
+        "023F3DBB65A9F15945013FEFAC0DBDCA02925C02C60616B789D2F31840104C22101145CC44D54070040618189C28091008A8B18300800B00860A0083010010C10020897030108280883300102100020160A14800024108040516099100000248401101031000881000509C000200009202005080082440C811100085092000C0A0000045D20204614E12080404021002501020800A4040000090");
+    testSerialization(
+        0x4081C3FDD379467BL,
+        "023F3E49B76E4E12E4ED3FEE7D6A95FF22D82F0292061296D8C70010262C24B00050205004C001452A07208022450495144010600080605005502200C04120104288048004A2012300040402000448600C00210010400002D808001011919101000000001000230000440010822100092208408010");
+    testSerialization(
+        0x5F28FCC35B125DA9L,
+        "023F3D00F2D4F3A3AA003FEFEB97EDCFE2D0960102F40B16B1006092B8D518441018709800424080485406488311A100828011380200004821080402401200022000942318001B00220001023202070425423242022C8C4860A28001100800282000810F44008087009012050C110A023A025440D0054112A200098C10210100300224105814000E222840701840020408024230100000502202288822110000824224080000040C8002025D800E03125004204041A00000040311108088002000C10003010251904902412000202824A001000000100210004020082002102060");
+    testSerialization(
+        0x5CB5970A34A66ED8L,
+        "023F3DA3088F2E5B93063FEFD0CCC705F78C780284051ADD943DA5CE1300A008EF2020900C850C16C440111E2209C89C80300881B08BE00509B5864B0903C200209258031550280859034DA0D8801208582B91012C140400900B01900108000174A16514911236830400888C0818024494A240222A159449844CA2A802687B490605B00030104000A94980A00280");
+    testSerialization(
+        0xF053243D0DBC1C5FL,
+        "023F3D000F0463D1CD5D3FEFFD50073F43D0AD01028C0916B33B52A485223AD21007F020989001DD4C400D86488824192934024C840023469804080A050AD840900048405C45A60004001B2D82114692064660A0466C0A10248010060410808000809010290410194284DAA9050001111800A04326002820021040026A0A0A2800801124000080201441205280444008C831E200104C304068A1480A808100052A0C004A160804208900208008200408288A811000044AA004260428216000220024000041C400E0");
+    testSerialization(
+        0xD9CF3749FB271271L,
+        "023F3E41FE8F6234810E3FEBB999B94568BA15028206128404610646840002088420400110002008A01200011420200420840800010E44020900020022502418208400200000002200108000840008004104002180061000100082001040A801200030");
+    testSerialization(
+        0x8685432873DF9143L,
+        "023F3D5AB21926AF249D3FEF76263CDB838A4302A40A16A71C0400882200C0230430448204048100400180000000008820002B0004400000328058088014020009A2200154004802C0800801D104008801108402BA0048081004A000020800010020002A400100048100100092800088008000086811200A2001049204C0001A090210028000408048840A00020000280164022484111402020A2480048000012018248805");
+    testSerialization(
+        0x25EF3698AE5DF247L,
+        "023F3E1451BFA3EF393F3FEF8FE7E0CE5FD94702F80312931D70004A4148282D710820944005298024123050250A090996402008022484C86C1000108258042008A00002710402086110801490482810002011804004050A00B0C82042412024C0208000B0002684100C0000011010");
+    testSerialization(
+        0xFEBD7BC251D6E9FBL,
+        "023F3DDE4DBDF82421493FEFDAB4B4525ACB4202E80A16A21C44810822080A101C0C906920220A01824221000122B00004804E001400882640835800C14909030086080044082A10A980000281600382C02408040112E0028500000809024210000002204008000002410102080803000080004064081403020008000000200A850019030020001010022210400210001220020081000030C00808040000A001920002040C5401404820248004120415");
+    testSerialization(
+        0x0A06049B3CF09DE2L,
+        "023F3CBCC55E544112403FEFF07C0910236F3D02C20B1AD1C6D0610440208600809658104D88601CC4000005D448010642603B6120884221864360001000E0C1002240CC1014224A90A20021500060A0400002296840046009108058282010010C0281408080140090000010020301440040000026882010001084202109008114290020288051103508002210040200410000202540018200040800202002100802050482000010101084A291140420208608450890010028001140409200410410802201010140208804008080102100000082110040008C");
+    testSerialization(
+        0x689D1AA8C0746C86L,
+        "023F3C9C790B9449E5D83FEFFEA56A33D241960102920616A94882FA88EF31421020914751890140019481811A6E108A55431203310861101204888291F0D200060008D2D08002021320C2030020406200000416000D0441100002018140201208242041052403894A55B2500006A6218120214428202040415306B0002041104904008004C0860452041032064003000008100002410008");
+    testSerialization(
+        0x1985DDEFDED2ECB9L,
+        "023F3D761ED05AB0B6BE3FEFECBC801D8E452302B80E1EF71F89001C0090E2C28702000000715080048201481ECA0280009180010849B01EC88E402AE61C0080E80980C880C88008A4976208A462A10215226000481080022C8018082444018000218405089462648A6182008109B01A100094404254440C082000C800601141002801093049811001008200287C1412A00A02410008400B48A00D0208041040819448008000A02C00110154090000004104108602020940283080640484A00820004119048004808C40201408A021014030608000201204078649010201C0200901000281C084020000140422000103804081040008400881008410230005000403000008804102141688800821A01008200004");
+    testSerialization(
+        0x120CD969469689F5L,
+        "02FF3D8B900E65190AE23FEFF48395ED8167C2020602F00116A8DBF146C4637030158870A54A0F08459D2146087081102BCB08284105584011033121364A08910B81C2D0D01E0900001CA0200540148229C2");
+    testSerialization(
+        0xFDE510C6BDF987F7L,
+        "023F3DCA5417C152D9233FEF98D9A8395E713502CE041EF3821F264898B101C2000E201880751418801184C3084E8215AE782C2648304060000103041100960550444149030040000142404CC0522406A0830880083020846402012400E10C2201001203A1A209844242042011422204007883A881200010580410804083020000408065404920024104C3091004");
+    testSerialization(
+        0x5F19483AAD28D613L,
+        "023F3D425B8B7EF1AEEE3FEFFECA196A3F32A50102DA091AD21C25471009279819A11E2011145781D0400844163B99108532808810400102212905005008248C022600167040C8409A024684E0088400100A01891431113306814111007000810502810D89503186505103020A842300D094C62309440379108521050058201381040212012320CC418002024906C194150248A24A3809200209402480210082800210085000B8080249204800400810088840015351A0001080002010020404022240880024540940BA1C040140400A1000280204434100802400A4034081840001001E910401061200260A");
+    testSerialization(
+        0xB3963872303BA0DBL,
+        "023F3DB179841B1153743FEFE88D3EB231050F02A60416B462A0C005A3280610044E144700E01801810940300000A040D008442000D882811004221202802182120005284200040009140800808016243000100208549502000408800200800042401008000480");
+    testSerialization(
+        0x18AAE3ACCF17696EL,
+        "023F3DCD2BC70D77E95E3FEFC8BDBE472038B00102E2091EF1D5000224588182420002003050D0511499946CC480261AA1A5A081A898A230D2604812208802260020ED20420100404840424C94009880700421265A0770A41960044102820029024015414E04100030CA3082470486880800440004CA2405012004500802609B00240220F0004002E0226804000085808D00044004211400060400022110C811020040201820800108400200240101305009010182D180C000080005903202C0008064400410A20048020058004048020842A900001245108142882498001404090A8080C0110609000048408980");
+    testSerialization(
+        0x86102570C93819D1L,
+        "023F3DC503E8FF4A02AA3FEFEBCF9E3FE33C50028A0B1AD10870C726092206180400C870B4508559040088921000900AB1008402D100101800508821180204210C3980F940206B2800980C1A4020902A31C59A05402090A20B14100005804024504204A0448040041008002881208011104328A08220000000408860014C0028041008012062288019400202D684489481511A400029066023622804008101002080E0A01200008482881080810464400C6A1901402C1105001100040880202040440424220A1082000080420400106122086450010004000924010001250080");
+    testSerialization(
+        0xC4E5E4C6EB121F41L,
+        "023F3CEB3E89B9EE58193FEFE0D411E1E74F5E02800D1EF1C41922002010A24282023448419051E19D54CF0D04F62A509192080080093A33240109A0280D82244000AC2000C340045124039854920848820C201000023010A01060121424608B2F04800420032104088C10B8044080000426080010001130C101820881001802120020004A08149140413E03140C4049041001010006AA08244419205403281C22669008420181944A02091008005194002104041904000308085180D0240088016092400201000C214024804800903022200104550000000083021000100000004204000205448000080804500075008800011305120082800004409003002022002C41004014C002062880A0802005195060");
+    testSerialization(
+        0x16CF1BF2ED4F4350L,
+        "023F3E30FA56D5E5CC0C3FEF561D3B716A831D02AC05128852A480020224602C811A450000208585208010410608C0000020804008089002006100004120A000051080240020001440600000840000200110002015C8000914108004104282102241");
+    testSerialization(
+        0xCD4FFBF45FC3DD5FL,
+        "023F3D70A94875A1FFD73FEFE8450AE7CB28FD0102BC0A128E802E87EA368A24303C152C4004012506181A011103080107B6004FC0C0D5A6C130F0004C02C300D4090006134E1663824100212441200C040A62420E2582440402400020471480140A860880A540000112011000020064912061400800800029150441958002208140009B506600240045040044109216A02382150005C2400040228C20081002000081242015600E14001200088D51401110841A2482079080104008A005094000419081202E1000844402102B90B6100010148420008104E138004A40704140");
+    testSerialization(
+        0x8FF25120B91EA5E8L,
+        "023F3D10CE8D3C1B929E3FEF96F1A141811554029C08128512A62246440A48110444C003000400D182100044C04C2308410004A112480088010901100280580B0598C000000050089000090072340100220011250046301432008018CE0000420000100000004201148002481200A0041800C000A00000814320004C08081882400060104010020244004120A002092080001002119040420800114008480C0002");
+    testSerialization(
+        0x3748A5DB370F5956L,
+        "023F3DD13AA90E63424B3FEFF85A0F0D54B06502DA04129842592424EE40C4CC80580026509190314D10C80238E12886401446836095400000C00040088921148A0480030092010440902091080001A02142B080022900044042BB001300020002C1100040202808204400410A042020");
+    testSerialization(
+        0x1088DB23B3619B13L,
+        "023F3D8B56781A411D343FEF91CF7D8FFE87B40102E80D1AC50EC8C74618600618898A389144208D02484044CDE40808904B51C0950139132800010601404E0014A1040808480C002008538299621220FB446068002A2012082D808949100441804C2010506421442A440422000420D90400000842180090C006160A11D99119628048082002280124481539003040185C1519800000495810922008030000121000484024E810069009000180001300E4000A8400A00450000880021000600441000202060105220001202C404100844280000860C50D00090304642284000040082000010119000002940064001A0088824004050804E2000800014A080100A4002010B402C0228010800408A00190");
+    testSerialization(
+        0xFE8F4975CF8327E6L,
+        "023F3CA98A8B9C648A1B3FEFCCE1F633E204C80102E60B16B93AD0C5AAA8008A6118500554C0004C46114581522082F028C9130201401010304601141282410484DA64051A60122100060320085900181D6210182810C04C1000208020014209849840120080010210021600009A00001080303100126828220A4C080040409840040C0210A00011050042820A20124008040A26080081048101105A260203140000008008332548000809B10020C0002910044544E880008044409904800000080206001584224808000432008800A8040018540200100054841600100082203046002BB0088011010100808400102142832A44600F810120");
+    testSerialization(
+        0x8E8A1E610CDDE378L,
+        "023F3D13A7685C3DF31C3FEFCCC7C70CB3DA8B01028E071EEB0B86001EE03023C0050E1400001168C14F44F04CE17180582F025188C11210221B1040001759019C0100D138804C00805040C0A19088890C001080821017D2D064208908C2502C2C0808801101C00120300000328828C00804A469224080C8400040000B5800001000080B40214100000135030807602441800E2480980020201107060020010900208688481450082BC8AA05402444420E288009800004210040801024480200040108");
+    testSerialization(
+        0xA06F7DDD1E545F31L,
+        "023F3D0CEE91A9F0FD503FEFC22FAEE364724602E00C16BEF0C08A08040004013430A04C4CC8C08880CA4201888101A90080A08016102600142280669490D050411808FAC000A243012A48209004688001013228090204010122080206B0010422011026112080494444922940101002011082200700C130C80800035405805820080000A44016100302944010920810000240400844403080C00804C410010902002016401280B680010200510002800108204000800848405118010AA4000018010402006208680010028001014E01220004151485182D0004460284006088100026000100802023068400804080");
+    testSerialization(
+        0x3467F3B218E84977L,
+        "027F3DC676882DE2E1693FEFE24F4BE71E355502D8061AD70498E38871658060088219542000AAA08407098A3085F03009B50148305B2418084816030028482818C020105844212002808184A00081030400084022284340800CAA042300418A1000100048C0812001000000110400005220C001004D0080D49820002284002044710110200040085040122100083E022400C1144601A000010002444E0EAF828120040042028402688100400118204900");
+    testSerialization(
+        0xDB0DC32070CF463FL,
+        "023F3DB56263364816703FEFE414CE402B4AA60102CE011AC8B021A10E20A24251A0A809913410F084C041C50601826821498088194001B1124304631206D88C42C84C11004C08080600844412F120");
+    testSerialization(
+        0x4F54F683E066E9A3L,
+        "023F3E3AD0B805CEB5C33FEDCB10E8E9A28B0EFA08020CCC0A01018240209010488212049CC12090484462614480982010C864021930885323900844C2416C925A241F8AC412F9048E6420270F649441209840");
+    testSerialization(
+        0x025424CEB8DFDAA7L,
+        "023F3D6C9349C7699D713FEFB7A0D5332012870102B2071ACF42B0038448E104D0A08A4894600D441004600808020584C804B00DA3305004CA0400164011143A02968A64A08D1823904A0020040110012010821301400026080901633300D0C8A9040100028812A518000318000C0001061B08004000120648082242044304A0041003348001020255140804020286018040002201090064012120C0108221010429042181060243E0");
+    testSerialization(
+        0x86E03F9C549DABE3L,
+        "023F3E434E431BCEB04D3FEFF62B2064671D3202FE0316B3010A509C270000008C095005346124002320B01044804030022120800290800C0082204410002F1600810010540400008128800080041020002113200840001008");
+    testSerialization(
+        0x1E333DC1EC3AB895L,
+        "023F3E3735CF52E4CD8D3FEAFECEA727DFD708F404020CC80C0212864D8191520412794128842211CC849401D488622C120944");
+    testSerialization(
+        0xD108D17C78349CF0L,
+        "027F3E2E9A802A9E6B1A3FEFE5BD6E1D4F9A67028804128D08B6E422A432102D30AC68C08C21AC482C0042A828C26834E4415539B0C08DE2420810112888218200421307604002481040084046015191022010490430050092000004A2000C22849404408850010A804620");
+    testSerialization(
+        0x7E72804348A479D9L,
+        "023F3DBB9EC3585154683FEFEEE7515211823D02D6031AD01429620208A208080000102B4E414225209F09A22D00424116110000054400CC08A40024001023341A82070601144A2260050E04010000002510000090324100100025C5040400008400040810008120");
+    testSerialization(
+        0x55BB29400502E350L,
+        "023F3D65E0D9F8292D3F3FEFD256D1458F972202E0051AD2D210A60400440A1000060012008C00008C00C4CD860020C08A303223E0A20820862801008800008154084350600100023141C000401020200811D10001002000042016000094C02A000048801820020024806200040810200204200010200241A24004081018");
+    testSerialization(
+        0x32D4CF5128EFCDEAL,
+        "023F3CFC6D10C19E57E53FEFF8E0036476143502AC0816B2580A54084A0802C018EE44C840D083012AA2A81BA0540043C20C6E81400D0250E2660302020100004881A0A0048124CA612101810006C120082000029028500010E2008001080824A00824404011004010021180040002005850048801828231015120880804200800C00210020202246324C1001020008410");
+    testSerialization(
+        0x29B86B620FED6A35L,
+        "023F3E620AC7B69B4BF33FEF7EC88609622D1FA00E0210EC044290080020C4008110060441085306204408812124084008120220C8008210E2084488912021441080100220408831142184008010820C418881082504010012A2004788110A2044111C1022485389710E400538A010420843889116228408A310C2A44F081174370400B01A82");
+    testSerialization(
+        0x7BB502199E5B1BCFL,
+        "023F3D42AD8A772EDE983FEFCDA9D4610101870202EC0716BE5A9273A4616842DBA437620922221021414261018AD90C976B4EB28831200C6D06B34C429B2090E10890DA09006008C801118810802402900220025200007106023094082B00744051824010240801411432219011000027AC4082100482861B48895209208C0348500000164060104040080828200800050042BA602C45000013410AA03664611A010021000002400095014FC01808A8004050C082022000909006800094081002C80111080010130000A0829510");
+    testSerialization(
+        0x6367DE97925B8111L,
+        "023F3DCC7348C9ACD4B63FEFAA7DA2DAAA340F02B40916B01046401CA0080052800C82452006C80980214082400034040D82000004028890808141A2C1900A4808290040401280000800810001082800400280404D00080C11080424180400088C0011080201004204010002050100804210001280040840011010404000018802000000840012000040D0");
+    testSerialization(
+        0x9683CD9A9C3C055BL,
+        "023F3DEC3F55321114483FEFDE04EADF7A797702F00816B91802318C881086200812908054050805845580E24882182431902012110005120C220E8000002B12AA5F810A010506004302004008800001013000200824C0C000264400004128008111300014088010825000754C440CA0004900104601480148001122440000090080511224100A90208A163040124200004004208080221841A280184100081002000004074001000006804894001010");
+    testSerialization(
+        0xAF83ACC9B54D845AL,
+        "023F3D59AA0713C52F2F3FEFC97855CE981EA80102AA091EE469BA31004880004186080CF03031114C0D04524510620A21880021CA0084B6CC04A61820B69364220D0032D140821100182000980000018C011321021444000180000A24A94028020C104AA1018101029118802144DF4916C80492282096C8008029000093207180A22238C06460184100A2482940051491230410902049830004A48000029024010454042C008200000809400A2060080210060924A00081120824F0004000805012201002A808132001080000402A02450300B0821404C6C020600100208020");
+    testSerialization(
+        0x90F842E5BA86751BL,
+        "023F3C5AC440EFE543573FEFDB0121015FB254028A031EF0E614089CA1B646488520141040757A1A0C50BC01588230228422111E102488900A12C484203621111100096408E4004028A860E8AECB904C80200C7C82880A00001C62214108000201107080030012202D024210820C25AC090690490C320445B21C2C45B300");
+    testSerialization(
+        0x468E43D8672AEE25L,
+        "023F3D14908F3F7816033FEFC29547B2AA9E8101029E08128E3B8FCC6C6B822C0E306D49A20E6A0A901A58000A100833C000001303A6030B840B0402D000101AB410102000CBAA290C04106021182100414C201004100405000985082901104504002888068010060110A06221028051440440A9028009000006609820208040100320A484110060090463840002001219520280810C00430092801100800A09244102000480040200A000020014B0200002004043002010C0");
+    testSerialization(
+        0x466FBDF85F48B025L,
+        "023F3D66631A209C15CF3FEFD9A2766864854502B60C228880D11001C000E020005000A08030708324B035225FAC4921081035000933444C2034211022500B30F77C064027030520D183049840223027002020009290871166290114415320000014D0C9374028200184834401200084104010002000010002A200095D5132488080027003004000009209364088241204021208010030002410040012110590713A8001000000128540411020410080024C02000020400000C20C31444021408040120084482930483012402002100094001150220450000321100040828004450024300444021004C1011A000140DC1408A1004820C20000110080114092600004002040000F52820121081400025C1418012481100002010424");
+    testSerialization(
+        0x0697463A0C2A1FF9L,
+        "023F3CF444A3F86B572B3FEF226B76A98CC82902EA0C16A11266C084A110820580700A408044105444058341002208282510501C13428090028400112880220A00081494400000C0241541008000011B05040880010040849200A4A00200000508204A04040520020420140102401440409040180401080440082A0068000000490049000010010220004100480041200025280400A080A02000018002040440200100040600018000020000001100040000804281002000080041404022520080022084");
+    testSerialization(
+        0x2EDF3E663711791AL,
+        "023F3D0981C9E1E8B0693FEFDBB4BE07CC5C3B02B60B12865C40C3E4624C022A0184001591811002410020724110050A0890CAC04440800490500000242B009E4900A24848000920260A01010008051180D300068008120008400202010000428000400580450000280419001210845000180808000000021040801040001800244004C00E1240028004800001480984011048400000004800000180840010001240407000082009200040040000008008101C4050C8");
+    testSerialization(
+        0xFCA3816F09A9D22BL,
+        "023F3DC0EB5726FD189B3FEF9B0468449C5D7F02DC041AD23A328106404602284184700D22400166F8022080185001819808A5E110C00611881400BC00C124BA0A00249A812012200083240202288045450700802D042101904001840500044464244101901601000820002080240001100848080241213000301004068501800008");
+    testSerialization(
+        0x87BE545773B83F1CL,
+        "023F3D57CB67BD7F26403FEF93D3011D70696E02B208129ADD0C1A6A2C44002DA00804C09105859804000EC0A20AC0E1474800301004308001448010802A0482051034506000402280010851600001903001104040968E031A1C9401C0200894012000482008014800009005102406082480000002010842001012020001020448200400A44020A04010082260244121080401980934080522");
+    testSerialization(
+        0x0854808A3F3B5157L,
+        "023F3DB7ACA218E9F6123FEFF591D2B341C68D0102C20D1AD11418238010200E40A52608709464748040908C01D648A80610083458306499420701240A334424C924058A20041D04303005A402100201604DC00008284C11001180690900400020650000040220E080957285090C00224001200140024228880200000908000BE8AC054104240000201050451000422082419041004E00EA20866C41002101001764D20040C0200200004210000021010116400800A1080400080100008900200010A043012451060820112A804200000404882100028030108802806442A40808216050201004012480181810121414800181100C");
+    testSerialization(
+        0x9BD0CA60DCF290C8L,
+        "023F3CEB12764C5BEC953FEFE976DCF1B19B8B01026222866BE0020023E0E0B140423140600040250C8430B8C6D88C3118E062CC14E1C5085104088265281590");
+    testSerialization(
+        0x0F75757DD25D47B3L,
+        "02FF3D9241A10ADCCC463FEFC3AB5868F30E970306023A16AB43E8A9104676D204BD907E090424000C40");
+    testSerialization(
+        0x59D2BF0E215F2E7DL,
+        "023F3CC93C71B8F0A5143FEFF6DD0E5CAFA27702A00C1EF943851C0C180000818A14043040362C20426100230802502D84492720A8A1312248224129984002020261228024C00A2082A0241A09125020B3032E208A2000505AA820842D0882000401058201020201402411008C960000030A2010486BD486120C022024001060E2092118012940B4008488202200064005088900108000846051C40000019040420080210805105801012600002800020106000080050002808084101804002100020A0080444048018000A80900148108B60200200418000400004000A410012108020101000801844C110000000124010048029280CC20800004001084000002401004034801200040");
+    testSerialization(
+        0xD8CD7DD8247250BBL,
+        "023F3E50321E5276E93D3FEFF5A7BB2390601102BE0C12827802460064420E28AC58020909C3102021040091568200000020884205882303200040068000408808040420008520143002003045408C001201000840406000000420408032000D000162102401040200E4001004006000884051208004400018400210004018080040060008800410040200804040880100040008");
+    testSerialization(
+        0x658D0684B85D8FE5L,
+        "023F3E8C47CE429A63BA3FEFF7864B4366D01B9604060CA804100C042424540424240868244404E42504E9040465684864244804052424A404440804C47010244444C405E444A52604896804E98565C4");
+    testSerialization(
+        0x2804B7D284468FC5L,
+        "023F3EBCC35E244DECA93FEFFC295F6005300A8A0C0210E40280200100204401021044248088210422441900204204820851082004008210C2044208B13C24C4208411A2185888B1042044189912A2204689E11C278500B91502C045887144244460C812C22440");
+    testSerialization(
+        0x646CDC9E6DA24C7CL,
+        "027F3D786F6DA257A2563FEFD91CC4ADB424BA0102C4011EF947864E1C485263801C164C489014A3189C0C20209048111A886600C06101210849214117640E0C301117392A4080442A0400CD1180DE448015044499C0");
+    testSerialization(
+        0x71C4477E25C02166L,
+        "023F3D25133CD1E13BF83FEFE08FD14D17DBBF0102A20D1ACC40A1050A02A68228031658552101003389600C861009C6E82093855140220011300003038693F412108480C2200B800900D804D0C00486432006096010A16202100020C90C400B209208010A0C1091B00009204100C4220604A2C0009450008A1500540213245008050240482089460C1808280548412180138C10F006836498000124B0000041102018200A10C1000044202002ACA0015400020120000A142020300402224C51841610842282400000856002801480080802004045904010000000200C104012000485000C261000382002540000064000240824542D040800083700081000080460061820951D0010180000102008423004180038500848000080858522400000042088030260");
+    testSerialization(
+        0x74907D9146D5F596L,
+        "027F3DA6698B30C9ACCB3FEFC74FB1295F424C02880516A230F402A4030860A68C500108084C0A000815002087F62910010006000110204432C100B2008432100428100324203108808823002B000135110022488010800640002000880042001020080421608048000E00099110048100003000206100004404");
+    testSerialization(
+        0xDF34B78A642501BEL,
+        "023F3D52F40A9A4DA7A13FEF5FA6250123DD7A02DC0116A10AF43310A41010421114A130002B080718CE420A1200009041199501C115300100154014982082E8212400404285730C46D70080C900");
+    testSerialization(
+        0xF64D7ECC37B22997L,
+        "023F3DD2C2D2314EC3993FEFCF50E649EC340E02E40512965200C0208262200D82C3015090050008806014E0038300845102815081209401003640220080444080804011924200404650100028100004400C9C0812100042000140");
+    testSerialization(
+        0x6C24B23040DE8093L,
+        "023F3E2F6FEB64B6600E3FEFC8E19400A3B20CA0080210D209012008240082229804510A200842010C40892210A42408E2389E24090240A22A0803708A2A896458903A0862188E2989E23890248822C0AC220B0430822508");
+    testSerialization(
+        0xC92A22BAFA960871L, "021F3E8C74F4A35CDEF93FEF9337DB12B623CE010204B0CF7C59E50FF0");
+    testSerialization(
+        0x7C8544A2361A7F1CL,
+        "023F3EC562F386C773273FECB898D671325300D2030804D1254BAF134D9E732E4881");
+    testSerialization(
+        0x629768C321CCC2A5L,
+        "023F3D1BA78BA235E6093FEFEEA27FF84F2E8E0102DE011ADD5B28C2B273E7B04AC98061586B050441C408110004B1420A00A838201042903CD00020088432803011C4182906012E00680065084C00C048448546608501800108998180");
+    testSerialization(
+        0xE91B41EC74682847L,
+        "023F3D46731F77BC9EC43FEFE770AB12B9502702E4061AD09209C388218120380284010C42494030D061A04320B02000374930229200C4AA2821A28400112050A830C8AA00002C0D410082824A40000581018000042D4000001401000082818404409206200232000C80405010000008000008810021020815092400020100840000700810420008809028004500410080902014");
+    testSerialization(
+        0x5EFBB15848F13BD2L,
+        "023F3D99060F9FE1B7BF3FEFED16A8A3347EAD0102900716B8480A32256A11C4110890D0F86019C448CD4E0240014019A00AB8B2D20C2C992138C462E3E242060061008800009C0C049A20091080004011A08B41404004804D4182A8804C100C00101345804950000804B20800844262848008AA6C800C41D4100606A00B0000C1848200452001A208001400918002204000102404131406008480004100C002308100100C4D22400408404C0202608C900100320401000C0800281010100202");
+    testSerialization(
+        0xA7BC7A59393AFA57L,
+        "023F3D867C832F627BFA3FEFFCB79E4EFC746102800C1EF1C3000C001202E44516040030501149918854422410D6300027A112181C8148100001412200014462800216D94000B00082679082890008010902506780236908801012000C0404001048912002508A3005A28040059641201A192480900412181304C2C00B04208E018000500802880D900020002301180060823440200004000506009A648250100618028208441083043002014000640018000020080044049105000A02241004160430008200849501415220300002040614094C88008A2800300041880000000000A400010464040200005124890C0181082312040409002120402004A02E0400012000990004110EC0019005");
+    testSerialization(
+        0x0DA4519CE6392778L,
+        "023F3D4E0A8E055F98B43FEFF3D92919200F7C02DE041AC09276228200A10A28A1043030050A1400404C40060184A8A8101004993C4A008AF14096550032402800C220004524829A24801180004211000A8063100024D00D09410D4409180008201CD2340A200004C000005020445820820000234212B010C0400881400A004000650400A282");
+    testSerialization(
+        0x81589C96BA181408L,
+        "02FF3E21B58BFB0017F53FEFE2D5242AB2421F0002F002129306C243678044002C8B502080A03190200112D004284400000503802000E300020020B090803400AA00002400480010802908008441204C8000210020");
+    testSerialization(
+        0x08DEA71F3C1D63F2L,
+        "023F3CFE63CD949805ED3FEF79F772531FB612AE0E020CE4040080202C010440900401004110A439024010040906402064210C4011442108411124090640912439224FC024290A4821841118479144610C4511A481164190641924421144591A429664812C4891A45212421065992E401064B928401AE421044B114459305E10");
+    testSerialization(
+        0xA07702C4F425E8CEL,
+        "023F3DC5D9FD0F448AFE3FEFC9615CAC4DFC4802A006128220003620426202126500C844480844258058E1840000301AA000000004008A0C80A010220212201800024A008040415C0080052CC110000282104604A3800208910224800A01820520004040020040060020B44210082240200804A18041288160");
+    testSerialization(
+        0x59A20B2F02D772D4L,
+        "023F3E256D9E1B5339A93FEFF57CD8F00CF61EC80B020CC402110102804010A048181104830120A048043219108880219108A82211048642201050C464010C88852090986462010C80814311CA24042A3488462210C804627110984333104928A2E900844B2412096472512092433C930804924920845428988984E22948806D201388E4");
+    testSerialization(
+        0x49FA93B5369110E8L,
+        "023F3C61C975B7209D363FEFB4201696019C5802C60816B0965E003788C806119016210004B0800300141409910840004068C22101011A09200017814022082500C3200800660058042E0840068A00150042789448210200081240019524D80440200004A992059A94042010106080002130C44C0000C028D01408210010440224044604021684A05004040C5B12800000484E080025081102241142000A02200100012224004148884511B4002010084000204090");
+    testSerialization(
+        0xEEF64A98BE539EBFL,
+        "023F3D97DA694C0F8D723FEFFE2D17A743F94404B0011282E043C4E0E40C046C315C28184B55804A2002042DA142104105588002A44880");
+    testSerialization(
+        0x51528CC72D6A2747L,
+        "027F3C9AA7339AD2CA053FEFF06FA34488793702FE052283A9A1D060704170B090B0A0B090602104653625231BA92571403122694212036284F0002191B012A2203ED328809144A3449558205C18304140001A152200C667A034120D00108003C800EA0500433451A050092A836001490030002080D01003041400200A00240063820242542304304264BA1924030000000212803E400002080003000A4808220114E0C2000C04003009040140059211111124");
+    testSerialization(
+        0xE60496EEFC7E5E15L,
+        "023F3DA5C2CA6B5581983FEFC6AB9355FB4F7F0298041ADE8C52E60E1109062050001CB840E12011871000860870040A1188009108881141B8034106036408000120450460060110E000410DC00000DA23E24040040B24005345020C7802068102034C12014C22DB81A04040509080B002482068208480008D088064C84858000A0900808B00100208010041160020");
+    testSerialization(
+        0xC6D308586E78DB9AL,
+        "023F3D83787E0B01390F3FEFDDEDB0176076A10102920D1ADE861DC00810A190B88814199811210832000C91921050C301A04040335804C22010145E0131040824002074202300228503A8D814C12C840354020B00B2486002091180102C2438051090091A0181003409AC8408A08702100001402304040060000400045800004900620A505A46534D064A02A8006C404164088200298001C04202089E855045180202120000410110204A082E4541410010004031000000510006C900428924008001C04050240000236C180000140042006AA00A01000088831015202412480000803405005081020082001000182000C80030052900E0080224210500126002401608120A08400100520022080802010001122202A0108084401080");
+    testSerialization(
+        0xC80F620D27D384D6L,
+        "023F3D93DFE36A90F9BA3FEFF1B1AA084C976402FE0C1AD506618834196AA010069208B1B108084C8C000445B02A4808086D510000000700802400402452B36238C902A4C12000186000F00911D301844081101362284320068048449C2C9182012200086CA8100804448101080ED064840908280810410978462020460904300005A00114020040280100010601008C40098280020414900428824A001805104000010009038010810A000040A84000511480000010A00000061008C00002111149004320820008000080449054241080407420A100884204130480104204160454228425040502401000A000104B043000810A808040000880010001400801000880400111010000082010011080");
+    testSerialization(
+        0xEB94F401843F2D6EL,
+        "023F3D9DF809A1E7440C3FEFDB583EDE150C5A02FA0D1AC6C43BA30600048010C10048364F008001184432C6300D8058CD910D04B121004081601690910080240100A04040044008005B2C9248A0000211959504442803002C280C24108801804824021910B00024C080210402039000C00802404600548A08002110204880160044201100A084261404940008A90442400800A24021000023810601A1008509002E005010028248404809016042720008042480C0072054440192C818804600000800821180000048020048042101010100001C8002A20840101048080101830640260808AC400001000000862010825200108000000D10000C2ACA80011040");
+    testSerialization(
+        0xF695442E3D67E1BAL,
+        "023F3CD39795E4A88E983FEF76C472D50F9FAF0102980C16B8AA903188202AC0309071140CE0D1245C4515E65A0C00040445067012020E013034C840A292C0A0B408880861A019840A0000189300235020100871644802100008D005010128E40002300D0000022024A04802229050C400528000004B80000100001160084008100008000E545501282042B1110000000214040200004409100088408A0465004023C388001102008210131114002E00207A81188010424100411180400A06008841002000A11821210405148920800A4110160EE03801224120840C000804000C01400120022492400012202A460410202022420004820142288060");
+    testSerialization(
+        0x2F1BB89326DB33E2L,
+        "023F3CB2C29D647208963FEFD8A262B35B795502B60A1282234008224014054D80432013084181400588C200384915828820042981822280481405160A2800B281050418500AC0826840810700810C19028202805191080C410102420001202802402008C0002108030024009000001000800400214004001084402C00000002004009883140002204040009002C0000940902010840041000000102000000202000840080");
+    testSerialization(
+        0xF957A06D595E3CB5L,
+        "023F3D616DC8450F8CD43FEF01676AA07AD05F02DE031AC7CA41870E0020181860824070204AD6100D400081A1C000A65281309302101320C8043004000240002090060400D0016CA1EA00080000414890282C0048228000050217A900AE1024941508B00220800444605101208020");
+    testSerialization(
+        0x28FF6919CA7327D9L,
+        "023F3DF0ABDDD615308B3FED0E457471BAEF1C02BC05128207066000000004088C1100211004028022C044050428A003408000145910020002620001008121200500008200184400500401120021810010210280004001");
+    testSerialization(
+        0xA2EDF4B7EFACDD5FL,
+        "023F3D608B30611A2F733FEFC449B3247B7BB50102A40D16BE34145280A8004A4004700C58C08800498C764310900300891490B1054AC4C38886410800471102C22CB0832D0A1E2030190401821000A52046C0202888500661D50042812B32E064800A0586C940C0014412E10480000000100009008274410311488800100E16000410010122300004A01414C00600301400400488024100119208641A0904011D42940A008E2000000040059201683016001050042023200068A88A1003020A00003018584308000A000000009004221C20C042120061081800000120002100044202802408040108008020A000008042003A40041008120022000081442204040A010000520023405000036022A4");
+    testSerialization(
+        0x5B5363CB9EA34EF3L,
+        "023F3D67DAA75DE149E13FEFB947D0A287BA5602CA021EF955AD2408C1F14149000A1418001145904F10D840C152038C00000249081A34982A144A018602082E400986C80C980560045C262222050004101121110312810748036B201002404404000D00858294");
+    testSerialization(
+        0x4F1E545E8341E85FL,
+        "023F3E28130F4E95E8BC3FEFE7F4DF201FAE26028E081EF10D080E6041528283840008400010BC85004060000845B068248191304901003431000210060201A00102868BA8800010069ADC2B24104000822061308910280D0C10400105800580C00090080A2000221410A0000550122420A089001860900810100308C803004100010008300804020102142B00000060081184020082110000025204018028000002012042A84220440140740006A200428090000100020000008020C0");
+    testSerialization(
+        0x9ED6FE717246064BL,
+        "023F3C29103DD52953073FEFDBBA36D6C5C5A10102A00516A82BD1300CA111D210811402208420440200C000012823A325345C00105230064680040B0080803800401982000000044A201412246000040100190C0640020201490B842C083000009000800520008A008020BD0415000040A2000011082020088000D011090180022400C004C20132");
+    testSerialization(
+        0x6C76EFF13AE580EBL,
+        "023F3D2B06B11A3E2A423FEFF8DEBD28A5F71B02B60F1AC64818208E00C108004082085085200008000041C20800880408080008B20A1010480096800481000000B8040440080C0A0C0D00004006820AA8000124090408480020040002130114603008102200200580040010C010201101B1052001A020600011200B0001070021000458008048020200404008089040100000040040881018241280206A40080400210A841000110023100042100100012210040280810112000302000C0A118000040004C000100400800002");
+    testSerialization(
+        0x0078F17C99A8FAC6L,
+        "023F3D1E26F0721957183FEFFE7E1487C219EF0102E80D1AC0D478070A10A30048E49C69B4710000150822310A408981802D3AD12041003330066003A1646018481104408060009104809904564821840A121104197524404804000874741425A85128A0510130CA84004001264804214020848D014000948092492B000000204408603101201400094020910D180002482084200016410400041000C8078402200052004A042205100020410028080E8340A01640210282400030014000001404480802828000D508100224024A02C4046044000081068AA1000A8001B00001400004028C0AB05804035008280122000440604020068808050810014022A00C20080500858480008842A0880943200000000100300005B23109048028100804000010886000100080089223");
+    testSerialization(
+        0x0422F19D36FE18B1L,
+        "023F3E03B63B2D348ED33FEFF1120881B30B7702B40E1287A17923104E6840B05C80021808000C55B04D3C22492044415030112140B1068900304982A0C104008028131802B009249803048C1820C24848958100A90054581560F1820820042544464004105C2000405090448280A24810408020508805055521084280001008858B202080440810700000020024440042148A80040160C10090800201068011000A48420A0810040020304800034021000200811D8255400003244200100010000100212C408118828A0028420600020204848000000F108120804000840088000100208100100044C00000804205080011304021408411");
+    testSerialization(
+        0x63EE268A71F13D8BL,
+        "027F3D501A7F02425C663FEFF91ADA883B44D00102BA0816AE92CA63BC07630611A5B4034840F290601010190A2501807021008108420115381200205248400401A2A0200010D440B84B4A9219008009041E6301120DCD0090608A090088482C24092103CB411000E031334B48B00014264024002088A2C224028880000B52CA00944B0A403800206E900824000025B40821004B1030D000922141F4080A46244A00C9099A0341D2203800290500020908460000A6011300043282068A902020001000900822400620005A002A008A014041");
+    testSerialization(
+        0xB2CCEF3BF06F5D26L,
+        "023F3CFC20D28F9E63D03FEFFC16A0CE94996402F2041294D60C20CE20C240AAB6D013A50888122AA700111C0403889008956001011A111288000482050800407400402000110852548001000806022102C040440000A01863801220202102441044202800289010000090141218");
+    testSerialization(
+        0xC298C30B42F3396EL,
+        "023F3DC8F20CE7C1D6463FEFBB36BE22CE85A1010282031AC2A1D94B2228E088C1248A50110448D280044D804A02B18ABA0B980C8040A10266743000000414C80A0900C4248C68C080D012350507030510002040007884822580050C0040210550A520705101A044894003");
+    testSerialization(
+        0x456DC7F4F1E70907L,
+        "023F3D84A40BFE0E72233FEF81C551DD02DE2002F601129620E080220000062C0040210206014202800415070430000800400E0C00014020");
+    testSerialization(
+        0x277311177758237CL,
+        "023F3DC840BC8096448C3FEFC3EC5032E9B12202E00716B808462000033000008C4C1030200048052A48808212018400090000C0001080840248001181E14080A0004880000000B000A4000030142010280A8051100208888128002400048400810018400210008800000008001180442012088040080100400000140003802240400D0268");
+    testSerialization(
+        0xA29030826DB1078DL,
+        "023F3DD210B5325331C93FEF039822DBEBAA38029809129262244AD6A80A62D09C08B88000C1808D8749000040002410310046400C8444002084442008120868090244040CD030668911494045001200C020140E400220007040100200069B8080000000004020000184040120008128180D04000C0020480210102000020060000050000000840008918614082340005182090002020002002008048284C080821020");
+    testSerialization(
+        0x8A629016A225C09AL,
+        "023F3D84DDE419F789523FEFD0AE81EFFBF67E02F60B16A4B946500C43384015104D400844A20029820E444801043000C404002084906289A0B14960390C64130280000000014860000009800200214082808826401003162800208900009010140214200A000A0005020120058840046065001A0008208040800406A002004001082029080024402401110000008B110002800092000000080010420006018A1001000120400080201080040400108000800080401200100022040402004600081006280480642006010412044240148808012020");
+    testSerialization(
+        0xAE0F3C10A228AFF1L,
+        "023F3E11D3FD20B869FA3FEFAA4346C17DE75202D60D16BA08421388C2010E3110B0D28414014440081D903021308807A4449091460900E0110402853540019200892802A13B40444884C00A0C80000400220100A820C22C044802042000018274B0D12008000265041410482000060889680001240000221080026A28C000000C0002100000860A110080443900C580448052A0040002024A224080100002980928003C23210081802024131000404908022000C01024D004080081182000404207000002000000418002002100042008468000850010008062050C19");
+    testSerialization(
+        0xB1BA3D13F2D90E35L,
+        "023F3D86B4A6145469843FEFDA58AC5C43BA6102AE0516A1DA8A85048110CE10000D045100848831A20010844A042138950007810400C00400C10208000482510208B022200040104000000C08001418A0910012800400A2004081450118181420C0000001800464020004010009610000111180080020150240038024C10042");
+    testSerialization(0x526AF5C88B157D85L, "02FF3D706B5E6D09178A3FEFAE25072404D3D6051C020219A8");
+    testSerialization(
+        0x94A0AF78AE4A032AL,
+        "023F3CEE2AE1C6E918A03FEFF9CFBA4875BA7002B00F1AD217306C14A0028848E18A381211CC3C04D7C5004201889D8002992090B108044C5560A80A22014281040422C920306824025B0010020A52042201210011009104438662222C004804104171962321A00821A0C0024026296010800984C2201C10E80210862C98030582110018487022010400482C044A4A9088218000200340012940315115095008009841106110200A060A000020D440886001087050000122004800A0091000030460821100001800800080900280910040400908000E0088003002050090200020004820042052082044045080C00802000120104020021A08100048008C00280141008540008B4085004100881411204040188000085180000480111040532100800200001112080041B00034852461810400020220044081040000C080801480");
+    testSerialization(
+        0xB85FBF3109883631L,
+        "02FF3E10A8CD8838D33F3FEFE5FD05410859A7010102E20116A10EE29B846A484CA78934A4001039A8641042109A0129001420889B5832C005C8085406A1058210389510425080800C45841801A28C009082C0");
+    testSerialization(
+        0xBFA6E07003195E6FL,
+        "023F3DD57BFB7A9D3ACF3FEFFFA6823D71469E0102B40D1AD208400190A8650858C008A9B088220200D6408402281021E9001118983C38C20108208618258418A100CB0A260024102000000808C83218032011104013406010C035800830005A044844C4C80101A7800120014507841028A000D10080484602169002040325120080000050408002880044082100044821240020101440A018204E11C92C121400D140428040040901114160800A20060010054210000084191010120801012111024480020805C0859A0000100000148006000050C00000810001481800114004000900084818002008008014008050101002444090414000D0800980014420480220010A00000000C014A00040080500080082850028");
+    testSerialization(
+        0x425D307B6EA0BAA4L,
+        "023F3D7720707CED66E93FEFE076DD3CC804B70102E0061ACDC538C39CA180A620018A20F17045394D49C84C4582A38342010E44040357C600013928260406628604061318C188053084C40C1B2010112280730D0700851271522418FC2C800027004141921000000C003A18092203448600A0181228028550420910480009129145030148A0868810040040004020008D8011000C0804244000904400E03100C00090090031134048C1A3015010101008400503820C0008111008010A8300A380");
+    testSerialization(
+        0x3AFB15E4867D027AL,
+        "023F3CEE53449A044E873FEFEAFFD3860398BF01029A081EE64713847480202148000C0068201071485C15054E05061089298915BE8380C3D456211001101046110C8900407103494048044404081D71129B00100A19E240417040597B184A2C23C940146015D4C00D000820B5CA860420021608AC04000090D00200480C001020A62A524136C008400038A0CC808800C21105881B241008202048040044880AC0484A61108600A08210CC01006082403422000811100099002CA208240D1084040060020090480400102081005300A01000C24040B206C8");
+    testSerialization(
+        0xA10E645E4C68F49DL,
+        "023F3D3635C56270F7113FEFFCF1FE35BEE5CD0102F20C16A7D900A1D0A30544F990F09D40498012DC2A4600A30B09800C0A0AC6008321501003710641080248A000C908E4010024192480DA14041340028100114A64028F05B24010C00C480020C04041A64940144802A5B1410006410080460400B42C5014528102082A106A4D04661200401008285011C105002028412801414123C0A4A1091400100800F8024D000104490028082645009A401C12244C00224088111004102002004201804000200A080340000120028100111824088082328008040010A00001090C0240008402280520041109000428200000020580800800800000180C282A0A4874102020044001200C9800221004");
+    testSerialization(
+        0xC91A07754228954DL,
+        "02BF3D5B73CE0B9F79313FEFFC6475E10DA12902F201269998782C2E0D000140101058740101810000551B856611244880021D25455A7057041402045501F62199211A0E6598CD40022633514119422301431A84810C3100014D450A13081241E0");
+    testSerialization(
+        0x96398ACDE133105CL,
+        "023F3CA6F1A35E744B843FEFFEBBFD29D56A5D02AA0F1AD6246F639E58E31410018C395020C04D14C09446420D81110B01008399A303007929222520620A226B62D9280001089E18017400001E03400309440A036D1A5044000824040D00488052344A2E0201001408904012C00410480064081402050D04186918010420190C92008020480514022A29214250401401008108820000011001A800820111802420802C008024000059404800022000418104002010246040102810018143844001000009024000110820200420810020040144880480200430088001400529900400CD00102020A00440808410028000500008180100C0230026F034C001925182003661054A002100032000A80010C401020040001940430A0072");
+    testSerialization(
+        0x709E49F4B275AF77L,
+        "023F3D3227B73E3BDAB43FEFA035A886B7397502BE031AD30490A19029208009210C083456004840848909000201A35302000104271B54C896012410020452C882204020801C4408486C104324805380040B400C00848851C110C8E012282098202408030020CA0080280842");
+    testSerialization(
+        0x8BCFE554D9EA67FEL,
+        "023F3DC9C6ADE1036DC03FEFE7369AE1F7561602E80C1294EA80800208220028009094AD020A11862090000004090008888454002008010204400020200804000D00000050120003001048C00808010801322006C000894016080040401030000001000200802094000201046400080B210080280405001002100048000A0C2100082280040080108002280080403000100108000000808211");
+    testSerialization(
+        0x88551547BA14967FL,
+        "023F3E438E44D32151403FEF17289B7E667C16E4080208F808020301024020A028D40C09010040C05071D44A1D068E4D231269442A0D1D0040219171C452120C8F41A45108C4222900CF4646D2A804A226188540A0");
+    testSerialization(
+        0x3983D03BC0B7BA7DL,
+        "023F3D5A670D0A230C333FEFF397CC8B51E92602CC0716B9699C322804004621800C918100043001264A024020C1405016080000827C06A4040000100800868A481004066000003802020F10000080012098059048B4A0288092981000411001080001020020490810048041080A0806124104002000C050001200060001030828304620C08201100082114240084820");
+    testSerialization(
+        0xD5EBF8596B21E9B3L,
+        "023F3DD0C6BA596CDA4A3FEFEBD14EF582F46E02F4031EEE24840E0821F000C004163830021426480413618150CCC0864C80A09028980908318882124F8D8788008422248B0741844C0010C4415A34120401C4430486C1482A806542046080002E50490404410D8099043083C4A214B25004A0610804805B040C181502004014D280B120");
+    testSerialization(
+        0x45B3E63191A5BC79L,
+        "023F3D1003615D30FBEF3FEFDFC69333F4DF7B02900E16A90C9070F4A31980800070160E0811C0051982089C089210D9080AC5410004290112310600242E4A4808902F040418259A400132520618A90460420008000109040151812054022036404780C00003040493010010128BA20411282878820924003005104190202800410029420000027020C100010800001000300002004C0004399288000201408830A0081010942000220CC04080111000490812A000100142308002880401043540209080100214128A8220420010000400094000201288000000214000800212000210008010424011010822014802068001012080001C0404000001007008C8598106482020");
+    testSerialization(
+        0x5E7D43F7A63DE659L,
+        "023F3DADBA35F4D088BC3FEFB56FB10B33ED860102AC0E16AE69CB608126298414886C13060DB00215B17944104040B08800960047A6230400000810C70030406F30D829110200A043204208000208620208610050241A094310000830004400498006040000000800C20812400040502042000A28440000420801800880041025600A8208200B04040408090400800554204884CA0040800032004C0200228040010200003010145008489180A822004A0000010112040020104004A0400012800204000888490481240008016204010000100010008220808001101190A8008C020000080124024408010218280020040241420004A40100000900C10008480040800410");
+    testSerialization(
+        0xBC2275C2245273FBL,
+        "020F3E56DB5B2CC18F593FEF43E6858F2988AC0E0210FE0100181106208C088020240040080102400409023022088008910E410430861142144388711424C4308120822C4309212422C5C8A910C26C4C88011222C838861102D84208810A28C578B21922AC5A08813E274400A610");
+    testSerialization(
+        0xAAA44FD69059CC16L,
+        "02FF3DFADC7A14FA60AF3FEFF0C2844FDF81F1032002181CFCBDF5EB501A3E10D950A0");
+    testSerialization(
+        0x0934BA717F0C09E2L,
+        "023F3E01B3CEF331B82B3FEFDE869FE9C17820C20302109018222208020642020228C242440204E4428302022422A26462828202824202E36242226322846205626223C3632363A2");
+    testSerialization(
+        0x53041B631E77ABC2L,
+        "023F3DC913B5F881DD493FEF9948BBD464415202F8091ADC9622A71498C32C18600C181084908518A006805601108051288A1000C3000901012140001882ABA2C00004202A851D42681900002928808300C0892082006010010482008925040E11B20C05005910251401C017190800800400C0018A0800925000808842018001C43000086046400108404008B0442082C020040A6020928A08200154A0100002100021002400090640200108204001210010202490000082600C08060A200000014102100204020484001510142800400A4E000904810010");
+    testSerialization(
+        0xA869C02ED151F07DL,
+        "023F3DEC5194CA0B6F2C3FEDEDED52B06DC74402A6041286E143410A62A0028B545030F1002A09003C010400412614100A031844A810320A1092008001504E80A000890D018040A948A8140154032808C00010040402121005000200148000448000002480");
+    testSerialization(
+        0x705FEFB4FC453708L,
+        "023F3D350F5A6CC60D2B3FEFB582382CB54A6D02C40416B709104088C350422008B048840945608C0549B2180C012004300A053479000640255830041044C1904012010241486115290429021011410002303A228702104400600A2080016948520A021002010000063980244120A0");
+    testSerialization(
+        0x5B1F8920C744A83FL,
+        "023F3BA283F7FE7549AD3FEFED50F84C47CE5F02C60916A279D28624E243545EB94C145841F28A4E0811389109809C08B00A8581414424010920089420A01819228448209242A117808D489201448C022120000009180004023A501C00400434010000008400400D4B0E030A2100000008202044C28129200000A030002102C800C00002202000120A000042A41050045480020008118501012420000002800080305400108021020220500200400100C00840024000808010018286148090000049");
+    testSerialization(
+        0x58951DD4FE2619EFL,
+        "023F3D2C4840DC0D7EAF3FEFDBDD9B3F67A2BA0102920216A160C017085521C261B550011546980C5441C20186200028008008C40C12003650030036084884492448C0010008151260010C01810888008410301800010000124EA608");
+    testSerialization(0x67D7970B8C94353BL, "020F3F4B6BC5311960733FECD3BD7410F5B734040890233D09A0");
+    testSerialization(
+        0x6DE521A218DC3D0EL,
+        "023F3D2EDCDA209C00C53FEF9829521050DFA30102D2041ACB237840862065860020020011228A4440808384C6091A09004221801030864044404686420010C120C0C22610802112124A200023000648800008400000018845360005062A8840B0002210030024B0021084C000520144804CC11180024000AA332C9020001000008140");
+    testSerialization(
+        0x1265EE125F650A12L,
+        "023F3CD5824604DAC7E43FEFE82C55CD199B7902B6081AD0A42409166260128841B800142804C6010A2600C41082310540000002BA08C151111245320290082222A207886802030089024010044490DA09100028014311004C40100C81002040060202200C02401012481143201A022411104B15202200A0C104A1000020180080082150CA0344C00544A86A8868084400C0D448187BE64084000204A289000106144108829200800000400E640ACC009811001020C0282084700984218AC002B400000408108198D04002440008371010");
+    testSerialization(
+        0xCD29D5089A7AEC87L,
+        "023F3D13E3CD4754F86E3FEFD9056E2BF7DF4C02A008228AD0F05051C000F00060D0303122713034333A01442102B13541202B2F1001300203240099E8129037D020840BA504D4310130120474002A20105143140073083202411020410000149153600000CC520132821090100003201201002A003251648800014200408C0430002442404C334080082080A220000CF0A1834122C2204033048290841400340320840C0012A014E504310840A20804020004210224044810115A0021011402021644000221211100220140120F1180130092100480202044001750");
+    testSerialization(
+        0x2482F13A209A158DL,
+        "023F3E13D8739F48A7873FEFFB1E1F1B0B893002C2051AD5000AA60200C000008082104E06092440902180812010023430410080602004408880C48405041C108000024203000210622000041041080301500508C0A00C140A042900000261001018880001040020A80800600010E480204001048440088A00840800100C");
+    testSerialization(
+        0x6CE8D639B191F515L,
+        "02BF3E45F06AD52AE5E33FEFFD7F921DDB52920102FA011ACCA741A91A604CA281648640F2408AC8100CCC462A4275310A9992963145012021D6011803494422042400002460D5240448242258ACF000040442F00240C0");
+    testSerialization(
+        0xC4FDBC42C8291BCEL,
+        "023F3D9B63D0E786411D3FEFF1B5F1B0C8265502AA0C1ACDDE4C6300704C1A00200088708011004442CC8C5A6B10320990000B083442200E8820A68A8080502020C820E0002000992422106060132180582000EA42A89102084010C841831000020044B4102898080C960A0112808400920000C218808008048012408440064F4002008884C0C23108090200280C00D00404A220C0C440100000001028420A820010200140000A10884049501103084080308804400204842800044080085100140800000180045001088009440423010000040028C124860420002052800518011480040001180821100840801D008807201000002258004672084701248224030A01");
+    testSerialization(
+        0xD6EB61B5C9C6BAD6L,
+        "023F3DC04ED0E6A80DB83FEFCA9CA5E7E6B83F02A00316A3EA0C21840E414481042C122A8C7080A184090C860022C003010094020110390422040000660020D020120203801010200002002B00004A08208C08001900050041000021A00508248A30A422");
+    testSerialization(
+        0xF04E0CF3DF06DE79L,
+        "023F3DDE5F97EF93D7BF3FEEFC24C67CB1C28E0102BC0A16A14450093981188E012530A8584008050D5402018B12A018185098A3413909370864005001A4C0848323002056080042030008000002404009080809484440010488902032840C800240040A2823149408101052003842822308040048298408046209002A102AA000092016012000440002830040105142080A03810088042480402004920819100001000000702400038002CCC0480E100000C081080048100220049004AD082240004044006088A0856400441040000101A8622404064010");
+    testSerialization(
+        0xE28216BC3D2F4F00L,
+        "023F3E853F66055B2F293FEF9E45E275A74C1702980212992C480E324A2200089003E1012E48C28230402505000042998080014C0016024A00A906004002A420");
+    testSerialization(
+        0x5F3371B118EA5AB8L,
+        "023F3DA14A90C0BC00C33FEFD468FBD8435B920102920A16AE3BE20A109600D020019100CA6104108199CE219006001A80008040620B2113156510180000200180000022D95032092D165E4826C000928B0120284228407886110104C80C008B02308805824018900120B04004BA03051620409080041090000A091480000083401201200004480A0128080511803142020808A013100254009800109000111810000202190404420089C0280504421140020400A8441260427008400612000888C2000300114048000068210050911000000414244488000084A00004104C40918222422010");
+    testSerialization(
+        0x7806229C5A65C7EFL,
+        "023F3D4FC2CC250922823FEFCDAD33FF774E5102800816B108091014E2090405880C1C00A0220325D00944048C10B00035220800D600010402001A825111801A00200900002200480243400206008C000000424041800820500100384000804000040800200450035000000409201208000021010402020024110000820850450250100404021604C084200504040080A518400302009004080048014221400501");
+    testSerialization(
+        0x45D902B678412EC1L,
+        "02FF3D6105AF7BC88D413FEFBBA1CB62CCDA4600024216B9820400116F09463120B200E0798086480CC0C0");
+    testSerialization(
+        0x2F5953AEAD943F04L,
+        "02FF3C73D2218364C7D63FEFD62F49E6EDEE9B010102E40116BDDF005084E1000651910F7CA036FE0026109B2018490C013132621DB6000CA80650026000462000D1840200002A524020AA2A60");
+    testSerialization(
+        0x59579886825C0BEAL,
+        "023F3C636C411B9854033FEFF3B3D43A66EFA30102A60B1ACF2009101208C58E0829002930D1CAC0D48808000618A8B88124020239B3C2A06098AA868B0856196001108000000480020460080821C98808091325041002825A440069C00B405C19D5409040323101502000642072449008A38113202349401000582003800840112008804021008000040220000490000080103400200101806440000082002404C5804200102008A405C01314868805406482110009020310100000000039040841031041141220002001000082080080840442085142640045002004880445118502222040104002100248");
+    testSerialization(
+        0xBA3230A45D6D15ABL,
+        "023F3E2206BDF3B3F8B53FEFF062D422CB11AE0102B8011287D4EA6AB8382626F1C28C3C4014860496102800D8902A8010BCC004265020944C4384C887C17240");
+    testSerialization(
+        0x86F9E75476C3C21AL,
+        "023F3E2F9CEB65CED3EC3FEEE7B6FB23761D0CDA0E020CE80200415048110640104801010110040106459004090441A24409064090649908531104115E4512A48A02449004911E429164791C499064B16A4111C441044F93E4990C7414C441244D9404D15A4894C4");
+    testSerialization(
+        0x733FC23D98FD0739L,
+        "023F3CC1006805B60A0E3FEFD1CFB6F9F2B8890102CA071ADE3000059028AA0612C40A0811618E0E04020000D5A90920929A06BA88009218258690003340092AD2663600050019308000280013002040248F406081010DA2080D0006581043010004D02A30400088084592C708B40D065890C2088082380002115248A00088000298014C0C080020D42010022004A44010004A0181096440830AA0AC180904000221220921022300000044000804804900C840");
+    testSerialization(
+        0xC4E752C355E7C6F8L,
+        "023F3CB19BAED4BD6A503FEFDF23AB15F61BC30102E0071AC69D104C8A20218608E18008F03018400027AC9C89AA4C01ACCA00423030201040031086423D12400010C441221A000212250263040221181011340000482400096C4010101204211AC0288032000880001016400080022442D804B01A00080FA0BA234140016042400080412845090071004442902045080104400020008221418110098A04014420400040020A540000010202A42A16068500010088908544001003020918");
+    testSerialization(
+        0xB308C19B5A979C51L,
+        "023F3D38B4F7F06967293FEF8136471FE618620292051EF140080010101000830D00047890309250501C1C40000990804350030DC200005050301911330004ACD171021801000920500200814D4520804C80002014600100C0282210462401A00000B01000041981100000000A040417502010CA0040010540220000A011044844082180");
+    testSerialization(
+        0xFEB767FAC638C89BL, "022F3EF4DAE33F29C0733FE7AA1E75FF33D18E070605101804C613439AC3EE3888");
+    testSerialization(
+        0x4B54898DB256453FL,
+        "023F3DB07727062D03463FEF55289B8C62BE6202E2021ADE9D862B144C03B41D669C01B480604831A041304820C21B0B80110100A44B5016232002110CC10002282442168C844223470284440008402C485861F3DB2570EC6631A2011011133360100F28D08028801072918088202455243A");
+    testSerialization(
+        0x026448E99BF3E2EEL,
+        "023F3C6FD8831BB6EE8C3FEFB85A29805779DF0102E40B16B640A34885C03D080184EE9436ED32A141982508520A1D3542C4C008C36622400006A6A2F029564A018655108901032180F821044E4B808288688410008523308CC0B18008324100833154A5402200909A1204A24002110452E0002AC400710B00100EA04084400427008002800220D94B0203808040200040402010202808100440A011A01004142421A00400840400300831324040080050001002A54100A060205000200084086040500820041304040320100520240A000010412200030010800300088050110208B10940");
+    testSerialization(
+        0x19D48DB0C7CA454CL, "021F3E83F256FC6152C63FEDAD33804191BFEC020404D1A64189520F6B5BE0");
+    testSerialization(
+        0x16CA17F0729D76C4L,
+        "023F3CD41FA8C909241A3FEF67239640B311E70102A0012281487570500121E141805000202030209403166344101511AB4014025C4190C388360621840C3000102343141101339401820C2410");
+    testSerialization(
+        0x1F10A18C8F368E89L,
+        "023F3E0053FAD7A991683FEFF7C2B3C8ACAB9301028C051EF4C18E15903010404404040458D1D4EC81CA0B0045C30222028027085E248403B0C412D08846186E01100008C2169821DB4128210420854800004054621908881110AA205B40010C0082026890D851E2492C22401496100160080A16BA000000B24006010882010600E10892C060001000E3E81331000024910065000040500008414650A1840884860300B20500000024840120");
+    testSerialization(
+        0x8C86EB73CCCEDA68L,
+        "023F3E2541AF0A0CBB2A3FEE7B41C20B76BE0AFC03020CC418090504C0202008041219110680A910C845120260A6492C11C8A832796CC840");
+    testSerialization(
+        0x475863998C82D746L,
+        "027F3DCDA0830EC8C2023FEF97ACB2128B37BF010222147908480852718D20190610");
+    testSerialization(
+        0x646BA7331C1ADF87L, "023F3E1BC8ED40C3B7BC3FEB91952A285C7701BC06040918024E8420CAB300C520");
+    testSerialization(
+        0x6444A1C860045ED2L, "02FF3DC5B614AF18CDF03FEF8F67C97F1EFDB5021D02101C7005660854184E");
+    testSerialization(
+        0xA29A54270AD90C0EL,
+        "023F3D61AC5C700B1DB83FEFFAC04C01F4674202980816A9B080529C22184430980DA0190792086110B60022A2244740064D400609002096800004082A0200A00140200609040520052804200020120004640001202A8080000050000C822204000700250104120081412000002104822200904010088002000400812800080040080100000040200142C00390025016480401002040200040");
+    testSerialization(
+        0x9EB5C2A026126B5DL,
+        "023F3D507B95BA4AB0CE3FEFEA5E4B0E376B2E02E40A16B0210A1C80E6380441182F820761A020058400A41840012550060084B114C00CD02000220080100501800A0150010221020940945041000980009010025002C128904000405000020902180014402100071084920420100061020004408D084012014101C1410002080C000008002024800882208044088A0219008040C002200410408008103042022243821009200001001040000010046000C00014");
+    testSerialization(
+        0x612830C07BFC28A8L,
+        "023F3D830D1920AC261D3FEF194DFD748F322A02B20C129CAACA4C228002A00CA218208C0101090801882040420154AA06002A910010D01020A20042008000404000688008002510A10288480020071000630204C00200000000089882000000082880040004A4201020040010000060100808004000040200800098002206A040005000100081008A21100402000210204882080822800010100080041080040100200044001001000081002120080602");
+    testSerialization(
+        0xA0DF218FB2818ADAL,
+        "023F3E031523319271493FEEF1B5D7C03667940102CA0116B24C98A3C2273AC6719450197840DC0000181652A820910100B28930882C6616022629059682401C953000241004");
+    testSerialization(
+        0x3CF0031DC085AF93L,
+        "023F3DC29DB99AE8A46D3FEFBFD8F18A27A0830102DA0516BA1406A59CA8220E0280504511A818C4C0C4C61051909100998118B205201819240404312684C3048288214E590AA48140000320084901134048C026008CC01008228005904100010000246D04206590484200C0A4004020500C020A00C2210020C06D2208282100210C20000018740402AE060080000AE010320802");
+    testSerialization(
+        0x973934D5C6C97B39L,
+        "023F3D76B7C1077B59A23FEF8F1D504F171C7502AE021AD1104368060A440A1A000560744C00431008A839C6008A1809069106312089400602201040202A3640A4A4516022C0C630090808149A000822838EC4286800802C0001E92310");
+    testSerialization(
+        0xA2F352F70C7664F1L,
+        "023F3DB5F8C9D4261A3E3FEE7317A383C01F0E820D020CE8010240A0440102811004420D43906409204093243908411445710A819004211043150401024410847100501104B11643914451304211E409425190E491124292E459124695A4292E7710E471");
+    testSerialization(
+        0xCFA83E0525879315L,
+        "023F3D97CA27B2443F903FEFF3F466337CA25E02CC0C16B8282A101040090651146E3C0004D0D921830D50500820BC41240000401600002C0A400050C5922A0162434086000104844000429869030430413483A80E24804000030488900002405020020901A80060004004980008900001008010910212105845D00804810020408202508A4000000088A0180002040442024A60114402200448030500014020000002400242001021000002000804002850080200400481001020030810824001001202210001280005400882");
+    testSerialization(
+        0x89CBDA80C377DF3BL,
+        "023F3CF8FBE1891BA8303FEFEBD9F62EEBB74D028A0416B0354A290C8A4942311430D0484C000704004535806801B3400000C80804095F090481081017502004A8430410800100296812080200000820318069402828802008004556000080908480984210005830A0004000420000021431");
+    testSerialization(
+        0x38165A1BA5C54330L,
+        "023F3B5339A87320FB313FEF05B479B354F9850102CE041EF1CC84903400A0C003092E24100294604A0730288421003082280688003000908031030C24BC04A6888688600430CD24028A45811206E280030226C2042440420D1B0B4D008B088180251C41900A21C0CD10143202001AC50122000404122300848244D0C800691200844009088840300099");
+    testSerialization(
+        0x2DF5DF603A79C763L,
+        "027F3D2E4DF27DF237DD3FEFD3245B12C99E5602AC04128EEA2BA2040EA082D0048209C040181001805204848089284058068488C20712B5542064100400002AC04004042C00862010C23020014509040003030280170014190080480300020A10401120400490");
+    testSerialization(
+        0x90EE34E54EE8AEECL,
+        "023F3D641E4A3381727C3FEFE3F962B98A49CB0102D8051AD3161882A279A206B8010428701A9208D4080C445E601ACA9BAB2100B8D214100040100085408806D500128A14A6D5400002C8145B2006801092022086C84C670A0040A6A82C88504112082120089080A09041544641E4004A4472D2052A810100102C020692399C052260124808880008110CC11590082600080034082005400404C00A0100B8010051584210000100");
+    testSerialization(
+        0x3130D6D884F52AB1L,
+        "023F3E491F89120DCF883FEFF4516D2D430B6502B80A16A5248C90A009109CA0801058109DC005861445E6000C90688132814280102027091890010010920014441201AE048B58340044A60826472D00204000100924002000906085006F08008C0030095000002302002010814000C4080840204000B159300020800802046E020000441018000045000042400000D044001800088400000080031421040000004C4400100000004210108400440C0002040415000842801420821000A0000401094012004480082400C8801044");
+    testSerialization(
+        0x8760678F72F618ADL,
+        "023F3E0B1E744398968F3FEF053DD3DF1BC50C02E40916AD888460988F0940408C4E964008000025C0520C001A0C30404013C000260110100920008400201058A48000001202500700014400100008C043110092189102C299004200900200480108002048042000800112080200905A0108020120842010050840D400111442C000080081120020510081021021022000404409010940");
+    testSerialization(
+        0xA803831C0AF66ED7L,
+        "023F3D23A6E6D6F67EF93FEFF9C93634853B72021E1D28EB126147800EF00851C64606");
+    testSerialization(
+        0xC051A9FE71CE655DL,
+        "023F3D658E89A96EE3AA3FEFE84C8C3DC8F4C50102F0041AC3C600C10074E6BA81809A6817002804039022698410120192102990924108412854132011135026C904B12B0E32C868019223209960A0110C314A20CF20016411352512DA0C1289248100ED812BAD104B25B0001C94C23104E008C3108204415D12204040CAE1055020430020832E1001100400098018A0005800260850");
+    testSerialization(
+        0xD58DE27AD72B6573L,
+        "023F3D6DDFCC0583EB453FEFB24CABA12523910102F20E1ACB549CE61498C40680A00019905CC089001CCB540200011C19013083003C8DA532202046588032C00430C9008200B004982404801C2203089100314048648404A0A0C80C000014101B018249011C40509230E40020A0C288040010D024A0000340000021B40540200092480031004124400C0894241400100A00986010485508C82003812200208048482280B22C0000200A4041000806002040128116000080011082CA20000800080A0283600000008E4022204498A1002802012080101004404000086029501000C86902823090064101002880092002300000900020000800824001100220200400556A08000B2000406002008080088410500804000B0002000040402400042100A006200484");
+    testSerialization(
+        0x77F7EB1108105C7AL,
+        "023F3D6EFAEE7A4C03AB3FEFDA86018B294A7C02A60E1EF083836C845870A38200080C80A17255C394442044919DA3180520C230B212403E410206C82006801040C828840924C060100100080000C81A50500D06649452040840081222601184412B00500028590D144501001E08D2000042008512A02900420194481040600844881815101524B00401A402430014808040204400100046088B00003900044242088038080501248108188008A070544016810DC000001080328149100000A8420230C0904A000840880100200102B000001E0B040B4481A2842100011000900042000437004400A000080004C1110010000010460400224800800000031021200801262024C0080009000890001C0204A0884008810000419000000011028050A000400580");
+    testSerialization(
+        0x93AF83C1E0A0DEB1L,
+        "023F3D8DB31D166314BC3FEE656650F8CA52228C0E0210F200C11014026050010210040040881104400C18824002244208510420C4108110442843082102214428831006304388B1082384E89411A20C8288012040C408801002104188010820C400841282484188310C20C8488210221C4709B1204144408A1442244508E11C41C4309310C2284A08815C22C47889296230858891202FC4");
+    testSerialization(
+        0xC94FE01CA7656A47L,
+        "023F3D4144B73DFF2F2A3FEF051B0B056C8C8801048C0A1AD4865802A47040802861024068308C408DA0A00522400CA020084C44CE0041088413410018109500240003041008104049420030810850094041281640082104141422C208680409200905B058808002280240101084002800100004000824A050081200000121000321A408080040113040080010040400C828A0084001850241000008050014B21010202423060000800432085003000081200321");
+    testSerialization(
+        0x7594DEAA71FEBA98L,
+        "023F3DF99D10FB93EE763FEDD1895F55E2376E026412842B9CE00420A60A50400208044400D00180400882038522");
+    testSerialization(
+        0xA7944D444E20E36FL,
+        "023F3CD22B00AD4B01B93FEF727AD8C62ECB4802F605128C6A7CE0260E8202AE2211508C4825204E1214324820020C0434801020009004C000104002298A0044804121C2280400021140203200100404082102284A920880024002000021800408298010000020202021051004010000024004018820");
+    testSerialization(
+        0x3374C214445ADB87L,
+        "023F3D2B47098DB49A613FEFEF7F507BF7EB7602E20A1ACD39FA4088BBA1047AC88E39B450190010A4A0084C0201B0402028024D3A225DA311011830820842103022A0D801924514001819104800040A9404400B6010000281802DA28C6814490D000C4846304004624004941040200082101200D01E10010244440020240204A4A180484A000040211201B5042CA00402800913741080A002411D80740C42400000080300010480482044060006480000400008C080000140001209A020032028482090094462220008401200012029C002A0500085631A0040301084008022804040602B04042880BD0828");
+    testSerialization(
+        0x00CA8C557B09E7ACL,
+        "023F3E0804D32DF6F3913FEEDA1EDBF0747E3402FA021AD182086004012002004000186C32A1251012015E4F6190A02900E044020342808048401050000400890015308C456C01800130820000104980");
+    testSerialization(
+        0x71312B94ED82A2AFL,
+        "023F3D7DEA8A395092B73FEFDC5A7E7188CE5A02C00D16B300455500430084110C104C500C0C853088058C00240880202204000006810000082200600019403216040043402402054400421040040800040049000AA30A213100100441A8008045911900000080D0420088000440004020094002001190500000410A2010000614000021005000108100200101043802042040B010120042040444081000000102080400102010440200A200204200100400000340120000081150002A00042000840019041280104000900000402908202010241040F0051411008000000080");
+    testSerialization(
+        0x09DBFD56544434E3L,
+        "023F3E018622CCC570093FEF92823641C3992402E40D1AD0A8C8412220608A38400A10F15400880420440006380C002801800B11B518A4204400C4A1408144C118A199008590860014020109702F42040042891600710500A2281529800030028052A00010140880131000000020412000880000140D038404AC1890A2159042020C01820080C800420000100A41000000D00420004003040083000080106000081C020120010020400848000104105004120008008014240008000940002103050420820420800004020040500C88004A001040913001060701000088102014100024400801A0840040C4500004000140");
+    testSerialization(
+        0x9CCA8B93EE6E577FL,
+        "023F3D2C3ADB9868123C3FEFE66D31A473597102BE0D16A188CC888020009671140C910940046525800928BEE001310100149B400481885CB086040490110620001B84005000300840812100084441041D820A20200050A00001640401000880420A0A00810112289C0840008000AD02A1200C4004810000808001001C120004000140404200032088000910009A02105804AA20A004811000080B10A18E00406400000490248050110C4340F080000800100100000180042400040020800210004056000E0011C0864800000048800040008020140802440080000002");
+    testSerialization(
+        0x8CED447A1A4D895FL,
+        "023F3D95A72FB98653BA3FEF13C58C405CC13A029A051ACD0A18518230A1AE48600C404C049149880925A06240041820300020091A000617040602040291513500122A000C43210200200A00530000A604D0252080140020000510A35A4442044814010006340C096010040082F0204000800408000480");
+    testSerialization(
+        0x619C66828A1963F8L,
+        "023F3DB44A202E52EC363FEFF9FB81EEB2823B02CE0416B812E2274009091601980C8AA900963862259040030C9A00A0B00D2882090816820C90083112813080B0191C92110420423006408342A20680A863410141000208012110A8020452820000802110001022004A0A000023004888003428111A00450842");
+    testSerialization(
+        0x903F0EF305F7853FL,
+        "023F3DC9419A820BFEF93FEFF0D1875EB1B3990102960616BF412B3AAC4370C26088344250C01094E118A671023AAA05005019998832D544C00A4606082400C20A16C02C1108841C5808040900862A484A170465920042826072000000401C080041C00914825A0032012C810949160A019040084081091080570C880012001000216002100003002804200041040000203042200044000400280010A220000C93002A0802420904002C2C");
+    testSerialization(
+        0x1A5C6B8E713B833BL,
+        "023F3DA9593CD2383F923FEF28F051D70E7941029C0A16A40084000864B11843080D1D78C4820022288D0029100880283342019048048600690688800094001904180400C8008142254014113D0488100110254000080020416001122008850140A11000003000201888400010248420214010600402002010080222006054203088011800A003100C8408201200610CC8180208040000204020803018020400201008808008800C000040028004");
+    testSerialization(
+        0x233CBDA71BE2FAE0L,
+        "023F3DC1DD4553D7F1D23FEFD508E4A8D1E34402D6071AD50461A304E8E384404282193149054B00C08C198980020692080032055292514026C10610412000810204001980000000854A10C2108060044D0080012800082045930820800120206530280400400080C00106000840180000000002EA1800404122112401588203180BA2480A8001248012A8420021650048081221892850110090802000012C1400020084404112000260");
+    testSerialization(
+        0xC67378246404AF5DL,
+        "023F3CEBDEF9611AEC633FEFE74CDA747B838A0102B00E16A9448827806102024214509000080C49195DADB20EB0501120C34500830000400116490082403821050820800404C40159180A01080003180081002200420243308C0001080201A59442040A890032001810040034208C0800904970405A28804814A0090181400A03A0083414400124800208225014640422020EB08002161410020001020000200025106414218400208008022020100482808092500004104110000B000000808008201828C5001011204000801050020800800040301820030000800A1000021C240848000481008810140045200000C060004C80120400200021080820400410A0C024110000220010800400804901328010102120B00414");
+    testSerialization(0x1644424C22A1AC35L, "02FF3CF8C5598C302DCF3FEF8F15863E1141D2031102041D87F8");
+    testSerialization(
+        0x5EB88D36AFC1A2A0L,
+        "023F3E235993296C14EA3FEE452E1E05C17B0A86070408C81048888868480930494A8A716D8D6AADEC0D8ECF28");
+    testSerialization(
+        0x3512D31B5BA77460L,
+        "023F3D903B06FA03FB0D3FEFF1D9F958EDE7A40102FA0D1AC134AD61A2986610786008115605194A100CA36002000191808822334B34A8248A5940360821280002D0C3640040036025000888180808109B204482613700642010000A50080044560506128030B2082082022214C2222208C001115A0000500BE02A022401050044080FACAC020002000108A8289281A40208022685D04060108001A303100080000008203CC8980010059248A4000004A122008C54A0011000D08120000020104400200101085202200008040401848041116B032D1465720802810080500000080844000080C4002100002402040054499210080002524000002125C6100108A06008202001100600000280140054000C8C0200002080");
+    testSerialization(
+        0x7056AD3885317BD4L,
+        "027F3D1D69B90122036A3FEFFCACCD32EA08860102940D1EF9C59D1A0410D2E00500001C98005164806016580410C219B001A819018048390A22B4122386800005014AACC2644A120810D8601631011284000101810303000044403AA04C24454114980520A07116228941500608200022000090814CB01808C0402C004326202928000948C082000F00000410900100C98180214001C1035040C134020800005008600C9362A000028208543800162C06404200002500290810251040C41402402020810084D0900800102A145800004282A284080C130100A0011E15842050080051C50988227010402020600400C100C020012412000042982A810240110A080A000C0000440088004814048000902022400001028080");
+    testSerialization(
+        0xCA73E1A7E353192CL,
+        "023F3D71BBA89E10ECCD3FEF8AF07E93E39F880102F40B1AD71240658C08461430E40208D52370424004A960821A0DDABD05184508D188010002301C028044058C0400F6C1200200102418600204004004810120102110003068A08202800B0C1020C8001005C20004000062A5210000248308003AC010B002082011200882220001400752A81080280110300140220A00203F402104200090C280D015045080021002000300008020200010000204094108140494A120800004440080040880141450C82812080022112093043101102810111008850008280210080090022004001148C002C008208540010024012811000408400400800190001002020011C040");
+    testSerialization(
+        0x4FB93D60782D3A57L,
+        "023F3D4468174D5A55473FEFA4445AAF75F23A02B6010EEBFB0A11348475C3001401000A5040004210884481508624248040");
+    testSerialization(
+        0xBC52B5CB25551421L,
+        "023F3D6EEF97E9C74CB53FEFC2BB80EF154B8A01028C071ACB46E5459E681014B0E1842910C4CC26934D0C004A42002020810972803058008650100635DB180B61690C04880081E80C849804240824146300C489C814C066B3010000018C0048B280010D80414424E14828C0CA5054604A21028818140018614418648282402404066880008090430821004F0114800206A2524004852091880080312210510020A2630402412000224286C02049812005018012108050481236050020");
+    testSerialization(
+        0xAEDC5B5C8ECF54ECL,
+        "023F3D26CD83139C264A3FEEF30E47DF12401202B20C129ACA0E22424A00622E228828160100D08C324080001028040A0086204018501088001104004048A0480400108804111005800000008100600001009828000808000100C00018800220905010402C08070008C000024020400048004020400480548028108400404090002040280400089000004000889201028021100402");
+    testSerialization(
+        0xCA2A8C0B29154676L,
+        "023F3C54A6F95EF37B393FEFEC8FC373880C7902980E16B48184028820324A0380D0CC4C4C25CC840046098D8808001A0000B8800A840800860844150C5C129B08814493840C18A2011103406482810003C1080404084080812840518D2606001008010087001000D9000218021009A00E22C10840484150800CB00520020060150000920080001181142200008114814028000044400C816622400800050A0018884082C820110001410040000A0000210110000083108C020C40404110400020010082200044350082122141088000800002000800319201400800824843100108122002040048001080800A11001540012220");
+    testSerialization(
+        0x98A01835221E7C52L,
+        "023F3DF55B742AE89D0B3FEFB6BE49D88D8F3102BA021AD16401010A48631218001A308DA03929122162042A601001D81801C101310311090611061D488E800432C880825240125920004035124100804200009088140433");
+    testSerialization(
+        0x03F17ACCE90442DDL,
+        "023F3D5545176EA4C8643FEFDB5EF14A96F87302EE0A1AD2100AC88A306202996004281040858CC0D3000401D40A14028501A610C344064380BA492610D0800A81AC02D80001040CA003000001708000410800AE08041565018000001849042670483D144002A8048006C34012090080020015300D6CD401609040048489200188A232022200002414000009404002900006229280004159472200A02848400104808890204400080120814044009100220022008480004100000208004100210002004824000090004000518888020180A24B8002000815050009202200091020");
+    testSerialization(
+        0x051BB3602404C37AL,
+        "02BF3DF624ABD33E35783FEF2A5F6505B8916F029E0116A9224563C402004601140C133C2610112D800A19B6C009B7004080C12096C81090080010");
+    testSerialization(
+        0x8891F5D3F38931F7L,
+        "023F3C808356CFE0A3983FEFBBE433367BE3830104E80C16BB3CC6B134412114810871450C40C851080E12015088090A0081583404048AC05486172882516130B8B0C57E5B040328000002130101112B420C804424148105020A008E9862041802082AC80180140100146002A0026584404440A02410284409410140800010100A14002001206800100010000A008002404500202008000404902040020C250088208052001012A80002800401054090200208003150014003880020000A04448122202880000420D0000080B1444040020001040C092402032C11040208804C000C00014208263A0402010002028416");
+    testSerialization(
+        0x21270B66AF178869L,
+        "023F3E27ED94D8295B123FEFF0A675547B961C02C40C16AF804CA1800448443124EC0611021303C5028AE2202244A22206103006092480801774409800220C24100208040011420C0000090214050082011103F400C0A0885000100000060200043000204C08810001008C048288A042800A830036200420C08000A008101014090000004A000800210420200086000090001040020006490001034020020400808084902804010022000840003000440004A0");
+    testSerialization(
+        0x09FEE3C797700836L,
+        "023F3CF5A9BA9E64B79E3FEFF2FF2AFD50166B02DC0A16AD098AD1207000020085300A0844048850CD4E08A0813820D18800AC409210161122320A0582CA20888808001020B1A8AB20020001030150AAAA040800204901808220002804B2480200C0000400322100800004009020060002914024004008058226A07100080060A0401124022100800009000C000200851001200808002410312884028018030402C000008404804009200200F0010040820000442300A002A1B41201420C40980000640800110524209008001002009026");
+    testSerialization(
+        0x96C4F91F0FF277B0L,
+        "022F3EA4E7189C65A7103FE70213460E74B2BA0A020D140C8090420040487909200454862042004449590A212798959DD20A40");
+    testSerialization(
+        0xD3DF78F5A26DB2B3L,
+        "027F3DD3C596D975D2E93FEF26C2E434C51BA20102321100C1666340206E468242280520");
+    testSerialization(
+        0xC0E6F3EA5A9CB288L,
+        "023F3DD03F05B4065C273FEF9C3E7302E5BD5702BA0216AEE04E3000240BC2738C6E1C02283343059492398403A030C04133132814BA002300A23100A21C002200080042C09087606001086004080C160804A2A0");
+    testSerialization(
+        0x26066E6769621EBFL,
+        "023F3CEDE5EE7E7D8A163FEFFCBD70C63C0A7502D6081EF5489A0624003100C50208188040148A48562006A40842A00618D08000281A8A38C003210900411001463E80440B2408AE008048910480496AC1880009610009A400826A9101119D83000480C020A50D0460C40014B122C064800108C05240020402118B0C9061201024080108024406C11B4091202233DC6016100010003520900240040A1463281241001020408000498442D10008A08C200D40A44480021800C1000208209E90A030028101912620459081008212");
+    testSerialization(
+        0xFAD19EC0EF387282L,
+        "023F3D6344CE874079B23FEF76C93F1026565102E4021EEF4AE3021460500301800424205010406844000141C40D844C243408204A1301300007201004009901990C044024440480005920144804A843000005405400449002858C1001C032400909090A1522");
+    testSerialization(
+        0xD002C99D70405CD5L,
+        "023F3E44BDD97A57CB5D3FEF838A30FA340D5502C80A16BE5650013483784243889200894050089400862041089890023111B0930D2A401117000082182402904E300159010E490002432680002012005000A080080494404502801200A4004010D422000224841200105210000002474A01915202226805005110820020A8428050052006400077B65100220002780010024101108088C04001048040204018021400006088800009150A20111C81420A60202A000015050008000115500241208202251410020240210004080010040C88");
+    testSerialization(
+        0x324BD5BB2E25B672L,
+        "023F3D6138872C8B22343FEF4B44F979112EB80102FA031AC23B18629A39C19230E2941030E844C5C4505CC44186A249638288ACC0250C98202022620AC0A9D0C3153CC0043090208812132410087000404C2A0A080A442909110252482020104D800400A088B8E001800900042080048000081008024CCA4740");
+    testSerialization(
+        0x8D693AFBD982BE42L,
+        "023F3E608F17B95B67E53FEFDCBA63DD88700302A0030EEA28100004020102806000813C04401000400040");
+    testSerialization(
+        0xD4B44DBF84CB55A0L,
+        "023F3DCB4F5D2C5568A23FEFFDB3ED6BE22F5302C80B1ACCB5D04D0C12A0003843A6185098005C88C404E48180092486088342200211B1002239264D6C05D10020DA0E08602120D800A8482412036896585484014A5089900D0261288240098000609040802050009516832018012406C0C0000100001282042822141204014A0080B08A40000011200C80009319321100880000000990620080400040008006040035220000842401000842022490090440108C800301208048220001848025403808201000E60000000010008100003050886200010C0428038400090080003032000012210002822840900980");
+    testSerialization(
+        0x4B83E8815638513BL,
+        "023F3D8743F23362AF2E3FEFC01ABFABEBD34202F60E16AA01A6E38040600020806CA426453D2D01B040461040043202010290DE0412280800854302005C20000F01C002481030105206600024A981082201002140402004040004206020121182000A0105500226C0C44088D200217004044401200002402009000122640802510041000802121800020002400810020600011092420000400444010400020010A0048400000040A490980040012448300004221890000208104100902200010A0040000240400000081084010080011000820080600048100108044006220004025088211402");
+    testSerialization(
+        0x8C8A802977F6A7CAL,
+        "023F3D7C2FC72DBEEB133FEF5BE17F75B8584402C2061AD61098268A110198006000004D4E89A4104035120A2009366104028104060101140920509902000A18C180012480024024114140001288484C4424014004A0082104003106002210820000800046509000298001AC8030C124010088802000004244240002408001040710212000020044400222802A11C00080C0");
+    testSerialization(
+        0x58BF51521C862A74L,
+        "023F3CBEC68624F204223FEFD5741F238A075F02B0091EE7A20000148951E0000004000040306B51B84C8C9E40C5B1420416C1243978202243211688243A502896D90031C3205118200023861003420048200C936415506404002D044051104B0191000080CB012520002116000112011520C1141642050048E04240007001480510A04808C38241420823003A80001011000412400040810820001024020042121000014A00C0304A804002012000811822040010040A0B2000496C540100020304000008002040088944840409400088042809010004102000C07340");
+    testSerialization(
+        0x8AE1FA3B5633FEB5L,
+        "023F3D4866B982B580673FEFF89B335A66167602E40E1AD226004B827926042081180014420402109164180A7001C05D21D0C0C43A221806E9040609848A416492CC78828908149920D05005100B040011200300504A1405508000460400400001080480B230800042000006001090080010A5401D6450419AC20208100D022230080040008100234808A1509400064100024031808124540110CD08000900B04826098008802A205500002032B4080400200002410080810104108010800102015208841A08050000812300000012A0044100020A910845004A2043201200A10048202808000801014088081090A002080041D808002212000000420040000804C005010480A0081146230070800002201030A0020180002121240A2014");
+    testSerialization(
+        0xC307FCA890E0A255L,
+        "023F3D47C21EECFCFC2C3FEF4DD398CA66C5C001029A0C16AA7182E0412A2CC0232AB44400C05290B510A2900200002113108001403E9070334A2624D1867E02CC064044008220008118088C28000A050819056040C04022090D9048004C0241440028123200089200084420C2AA08A70004181309E0800340904A0033096020181012000801508805202008E0A00111043400220B2A95184060992044800000030100012000446C1009A400000A041000448640A50000825230008C00000010606080020020081840028001841409100228202120001034102402028008141050021600024000481024002481008040242090144370148440184011896200029194140042008108");
+    testSerialization(
+        0x16C5A8DD41F61975L,
+        "023F3E944C75D7D3B3BD3FEED0FE5D4B1EBB1702B00B12970028608240200A09400C810540200808A04C018002002060811000400809200420040A001000010000000420200000040800A40044000C40018006400210002804000080A00A1310020088020000000840004820042040A00080002004008080104300400088800000D0000200304140");
+    testSerialization(
+        0xD6403B54313B760CL,
+        "023F3D264E2C3A12B5B33FEFE0D7A7882B9AC10102C2031EE8E09F141C68914043801420A0343055D94C34407DB99A98692A84200464002431B87B8489F12006521C3A0A40130044080420040C089968324074024B016601080650886200CA04005C042E80486410690580A185008800301C44C0010586006CC21BE090C080140280B21C");
+    testSerialization(
+        0x17203819BA8D862EL,
+        "023F3DBECFC6C05F729E3FEFF96C98B17E49CA0102E8051ACA02CC4306B103B018E01E0834A1110E40B6034880219201A1190021A9499CCE721101104034001781042632488110C0241080014040990002008C00142000208520101500428080A14E801001040841800444808810B421A89202308640080141040294340CB0D20069202A454C0465598040D00C07004004516944000AC420D06184242022008CA0002002521002600950");
+    testSerialization(
+        0x9450D5540A9943FEL,
+        "023F3CA60C8859C4B6CC3FEFD29F14ADA28B5002F80A1AD3C579864819229A7004802190970460B70C448045E00144249B14C1121715001C00224874FAC2206020022504806884444C400020112800E88180089368085801A0194B2881A40C100C2000500180C8080A000029005314A64000000800448408EC11143400029B84040861820860020005820C0C82C242006025040022A0B2480040400082804298080800500340200AA81001014A8E082188111808150000AA011404034918780410C96028032080A0240210400409600800080401204400201058140008408C8212400010280080B040600180480008401100600008112B");
+    testSerialization(
+        0xB676752154D58800L,
+        "023F3CFCCD56460F16473FEFF265CFD901CF800102B6071EE302840042308020400100044832716262654E85548C85981C050044853013A4184068180610C42400046424872844101804860100542210024620501404882C81010094003D02200CB9380000020200840292882A80008040594090428080020002411142018302260189800081000804308143800808124000900042050C2A231000012000004930A01828100200C0A10020080005024B047A28");
+    testSerialization(
+        0xEB72616C34896BD3L,
+        "02FF3C0E89129A75668F3FEFC0BD30958636EA0304025E1EE28316100ED1D143808716102042924443C4DBFFCE40968D03200010C923001880");
+    testSerialization(
+        0xCCB3198F6C80CB07L,
+        "023F3D742B6B69DE79203FEFE721F213EDC82E02F4051EF3020102340000C04003081400202C37180010082182090490804221144105A689A002000000C50082006000100E482801076E4012300826030502002100200841004400221220410409840900804201421604824100006008200900060400D00000802110000890010340");
+    testSerialization(
+        0x06AF1B9095EAD452L,
+        "023F3E7482541BBC83B53FEEBE7E615DBA3E0AA20E0208F81C0201010040C05018041A0A088140C06008540A0A008442A11088342211188042A010E834020928828F259468D40A991C975A24D3C87454496CB86EA01768B53A491087592412E8");
+    testSerialization(
+        0xA0A2D3744EC0BCBEL,
+        "023F3D15FCFF6339580B3FEFDBB5883370C9400292091EF7C08C0C1C1800408188080418200C924909090805841A21600A0F200024E1C7090082494480C0280101E1B61A04820320423A8841048060045E000080088040000100B22020A007400004013062028A8404040E308301020001010144001AA08510E94C00002221000050740178210090040A00080081400040008010243540C050242120044482001800B04008148810015C004008400404220940802000110C04080300");
+    testSerialization(
+        0xAAC575257E2801FCL,
+        "023F3D7FE331FB0EF14A3FEF7409CE0051214D02D20E16AAE008C081A26086048D508D1140618DCA00D1B024082204B24147012390011423040AC180E8D9248001C1861840824251000242018009600082213EC2CC1649142000658021210000002405408414840C02B28228090010004608220804100040000122080804000100180060A000804004001028044082540082300210004425481100A0084430058482901608A489000010CC008008248010324200A1308009020510C0C6089600540200048050600801020810C01120800A00020020A09020018041020600608010000C008100014060000008000810048004200A2020020030402010028800E1482020040420C08040");
+    testSerialization(
+        0xF3D59358C4ADE08FL,
+        "023F3D5879379BBD06173FEFCFEB191C44923502DC0C16B3088643042409C222002C02260030C0814A0AC882250255850528E13480A0100510112084004300020005C0403800040301003028182000409004100820088007000408A081000A24C0440008882090008209604100084142000006103008055001000009001044628030890000010102004102000004084082001004000801014000280000C0001900020002401048004020B007000480C6");
+    testSerialization(
+        0x98138EF812B39BE7L,
+        "023F3DE4E2C9F6DD72123FEFAE254A123EFF960202B4011AD22767851D81638028E4122875A3381E303128A083800222B5B828B80210924433A2075044901E382D004288420220230E04B4014CC0");
+    testSerialization(
+        0xF1B85E601B0B330EL,
+        "023F3DE452879D7CD7673FEF811DF115B1CD16C409020CD4020E010340A030182802020080402010904C120A01010340100808024204804A2391D04418692D02432012C8A414490D064121118884F24158805A3C98CB2872390C80663192880432210C80492713888402916CB04320");
+    testSerialization(
+        0x027FAD6988526882L,
+        "023F3DADCAB25EEA37203FEFFB57CB21A20E5602FA021AD81430420288008C1085021090606088000900464188882290460036214416283496012090790C10837229409900C444400092706004307022100010002C000108A0680984C08002420828E001C8");
+    testSerialization(
+        0xF0EEEF6582D1A420L,
+        "023F3D7732B6E696171F3FEFFE405564FF65A20102A2081EF1CD122C2540104281871E0C38A0B44B20FAB300272144312A00999088A80B58083D0E15345A718619CC8519A9B0D808508A2068184504484562138E00401620006288412482028CB8DD7CA0400190604510080238480081C00044001A9E2489480120509216058A1290C700402400508D044B20100C250A860100A4101230132D14840C1480908280460101004E0112B0481640008122200240B2C020000004C4A0002050A204050418042080049022044001034100800046");
+    testSerialization(
+        0x6358CDD54AE69E40L,
+        "02FF3DCC5D0D9C66B2F53FEFE1092DB04EE285020202AC022288332050601140207051C001E0505080C4925992706A254A12445021C6054571521408338E337074270A41110442295014011421401863110400504141113808501031046013270603043018352005164812321210");
+    testSerialization(
+        0xCC7C014BC0D9F6A2L,
+        "023F3DF66B1E35E536D03FEFD35DFA6B595E1EAA0E020CD0080A01064340305064740A09064141900804128A390E4220904865080A009641249688C4322900A24D21100BC502A158966D241009C4B36908B0402B140A669351A4DA5320974B45327920C46620");
+    testSerialization(
+        0xAF335104982F3DDFL,
+        "023F3B9AFCBADEA4EAD03FEE8F9D2DFD19461E02EA0516BD18CA708064080210048C36881001012582820008000020510601040802058286050000100881008200400830401018002980100055000C000082211040C00200080800404000000404202002010002001460000108");
+    testSerialization(
+        0xCC9F5DFC8A5C49D1L,
+        "023F3CE624A488EADF8C3FEFE528DD29E1D0830102A00E16AC2496031181005E80885004640014155C840211B2123580802080410101002922031106250190420416A01E48C4942A0848019281440000078B0209D0410A81210A2140512086000408000000D0882040210052088010026004204140220424A800014D110100E0002445D410020A208015C0010E0021449230018661254448080820804000440040000284281D0014000C10020110108448008010044040C18010C00244B048400800B1040C3101860900910420008000022000430409110118104810000A008004100844A2050000808000400D0002001800402080A0");
+    testSerialization(
+        0x34CE7926F0BED0B3L,
+        "023F3D8712ACAB0129523FEF664BB314C71C4502FE0616B40E87A6ACE6017A12248EC66D7C644161805C0C569001B185F914C8041404D47091008C040842005000994C420100244324018A04008144080860A93800C501088C0008281040041260808C40040212100824620500450858228200084858440161002820210520040400040002816021045203202801288649A020008A001202010729A8202080000040");
+    testSerialization(
+        0x6867E1A14EA1BEEBL,
+        "023F3D831D8CD75EEDB93FEF9A5EDD1706517A02E40B1ADCAC248316114108408180202D50C44E49C62A498211030AA81009B90810120005C6429CA0032022C0704209042418041248000122801506D05246A908095018004101199C823208210040A084A088402080005180902102000C80200000020110104B220A908805024500116027012400000000812400401010A82009124040880B01044268E010210141710400100200C22000300000480021B100228484C081800080020100280400000408000420834009509002800C020000002040000C800481088510102105BC00000241A8109222000140");
+    testSerialization(
+        0x62A705F31C5C41F9L,
+        "023F3D10FCB43ED919DC3FEF882B9D9410196202B4091288A8244E14432E00D18C204802840405F101A7A041B80981000820861500000A0400CE00000000025884025940001201002445429100100E900000800020A1002018000802125AA8100200120A01000200101180240124645109222800A9100614424000562508600205010C80421A01280A400000048820100A94000800C04806084081200C2CC008004081009046201410084308004530");
+    testSerialization(
+        0x425D103E782B2C44L,
+        "023F3E2928032CF913EE3FEFFBD95A65E9A55B02BA0A16B279456094852A04118810C004800B081C40C5C8080F901004BA030190180C9633000002041290242131100040882A004030444400A4C00C204401000980C0902842000182070059048808204008608008008110808064200900000240204420080202800004054100000804201084051010C40000081240040800402180041F20C20010C8021C209040800008004104002101050020");
+    testSerialization(
+        0x0FFC22533E5209D2L,
+        "023F3DC800A6EAB959D43FEFA4BB6C9A1D2868028C011AC20A3CA79000809850008220F08008C184F0D084219241050523253C9161AA410C86422B80");
+    testSerialization(
+        0x7E4753AAE7E1FF1EL,
+        "023F3DC0EBD020826F533FEEF0D456C6D1D11FD408040CA40C7C0C1004040830280808240424442C0804044404A80828241468840404A44404E84C30046468A40A0424C8E444644510840F4404040424048424C824280465C40585C4A86425244544A9E704E489054444A8242444086605C62684244824C626E464A525A4");
+    testSerialization(
+        0x6E73CCF47F69C3BFL,
+        "02BF3D3E5BB60F7ECA3F3FEFF7C2757F959B5F02A6041AD794E0670201810A1AE284004F009C36D55012190F101010228A80C000000512020321B6D00510084F84B2847449980080622090020218004559050022AC420A01200A0129088D20241152116432689800815400241820031004A001410148100A000A10");
+    testSerialization(
+        0x62E255CFC951D116L,
+        "023F3E0AA5767D6778B93FEFF8F1EFA6A0273702B60716AC909C739CA502C002A470028C040C4C400545C84249800800A1171800148A008180B00151101398B8200A048700044220184408451491108220955902D804800082111088001A83008A602000094000408028200210D11028000816003400040040A0000001104020E0020000018020200849001001A0402800000226000004820008801092");
+    testSerialization(
+        0xBE867A99AFAB0D97L,
+        "023F3E25A870C1F3A8F73FEFAA269CCE30DE800102E40C16903420824A4E4242D42011620088420842120A001900100531998821498023079A0880814914E0008240402259442001008A1200043C174A8412220C00C030B019011C00800028500140044C008820A0005406180080D3000A8190B030800802040401844802800800225000090404008300A00010100880520000D0403040858020B62822001100040090000C60010D80820000000C210208000815008054120002408248005008040002418010000900000120A02320008400042300820840061030000001001028280088021C");
+    testSerialization(
+        0x1B56D8455E88EF2DL,
+        "023F3DE2F6094F52F9F93FEFD5532DA781B94C02AC0C1AD70C69080058070C30418E012C248428024231B20125A1810536572083100826193800002406498950204110220443102048AA64C82C300802104C4D22048280A00181554600401044C4C0818240001000800C032040000000084440040004488D0084000124040840042002380050A48E10125001020040020223082044000084001201042008002482040404129000000210504106401000008600010480042012128400289800444150008A120188002004044100802014020300C4409A0C5011080820420410");
+    testSerialization(
+        0x988C7E53129516E7L,
+        "023F3DF2B5F860DB9EA13FEE78363736FE321404CE0516AD39020A00A8394400086DA219109E00811012022521300044D522A4022080950000140108000A21004000500029810408014841022020002100120014400A892101010422400800000020940810D01040480860");
+    testSerialization(
+        0x346E09F0DDDFBD25L,
+        "027F3DDCE801B202693C3FEFFFFF4B4E589B4802C2041AD29CB1A10008200010818608CC0252008208E1824110908924B0422900806076210094C00480843404011008045583015209000000668000008201050D89800006900004118846003000010000600450000400028000000540400010C48000C0");
+    testSerialization(
+        0x659B14DF6488360FL,
+        "023F3ED507F5D69FBC5B3FEB4E81FFDC790001DC0B040CE80D00469088010240116451005494047114561124594645A205A15A4912052104621804110E6710E5C9");
+    testSerialization(
+        0x6A6918F981D5CAA7L,
+        "027F3E1089E7463A87C43FEFFC7DB01E20234C02F0011ACC5598348C384B0E1B23862030C2D18C0840C98006884219400100200004694010142010002930264A4110462180D171381100101D00A54120069260D1");
+    testSerialization(
+        0x1E474C261BFF1170L,
+        "023F3D94E554A4038FBE3FEFE07A033FF6D777029C091AD4AC7B4782A0219411038428300D070C018441C0D18180A5211E7D300D1060001D860C2120480818D80402031902180724500080531030C160368160A0C048084049C06445055080A12025041A8C042820B8ACCE09008040004C3452041140D34C0883210A3A00420120060028215940000408080400A41E0404910000098200480104424A040408111840352002900020014200341001008040311028A0804203000045424002000804210005208001321340220908");
+    testSerialization(
+        0xC57AF27D5F202734L,
+        "023F3DC7A5176BA19BBD3FEF72092F8BD8F1960102B6091EF0C0192E5088000192000A08E0103120084D02301C0EC25033940888DB0091403439017146161006412040E22400A881D02119688A0800804401231840000010019440028000C080020C20C824800409221044C028C404A8542800B2A2C044381001301A06024140008B840010049000410A30004B4110482120800192A101580006004D2001A042C0040A00000459000480808002102941414200DA8D861835020E8262204D0080260211A209000A82010C055480A000098050401000006805805081402A200092000480108002920842");
+    testSerialization(
+        0x0105F454F4D40006L,
+        "023F3E09EDECEA274D813FEFF963DF766FA66102D6041EF70C06080808310380840218280016020802B0956300462001F2002C06A9404002009020011400088CAAB00422C82082C220020A310252C8AC8084100100100201512880A6063000000600092400402512000AC822510140042060088091165828508220041241604108200849580000018010042540");
+    testSerialization(
+        0x025A1CCC06301233L,
+        "023F3DFC4164FD058A7D3FEF7E95713254EE3902D20C16AC1BD5100CE2000800048C985944890015B450343011A5250029894486640008A0000030098089D03042C0004009900001012020C800A80C000402801284020002088402024100B04A0000004800100201080009012004241104004402A240B09D20020000000241806001300404200018A0036600520008348200000084480010AC810002400110C20040040C60820000084041000B02008106100204A00001808014002108010200000002400100200500008240");
+    testSerialization(
+        0xC26AB6E32345AABDL,
+        "023F3E244D8FACFD93013FEFFAF626D728BF5702D0071AD68018EA3E01ED8050A48080108041A0A8444C4481962920000804BC4856871C7DA613050E0AC8210106C44880404CCC1AA8874000B402200811156102A00804D80C44C001120001048E208824585004438400C85020080408180800192008934094096814E03229884000800100223001A04040120410020202C02204000400110082080155422020AA02200001240108001010124082C08010800400140008");
+    testSerialization(
+        0x8F50FF829F461096L,
+        "023F3E7916F232BD4C5F3FEF968CD58E88020902900F0EDC2311496001B8400C00004214064A024018004100148341800941031800050212004020404898500084010040021602080000000841401802840400809000010188404200101184880100021510004004100884001000120104040040100440010008100601010004000500814840");
+    testSerialization(
+        0xF92F212FA707882BL,
+        "023F3E11670672316AE53FEFCFEFC124BCD02902D0021AD39018B01238210619200000CD40983C12CA01B0822EA0024CA0521805060002020220D4C005011009001283290A021851001440420A280546A1062880");
+    testSerialization(
+        0x64567277DC873A02L,
+        "023F3D33A68E13A75F543FEFC49A458B70ACA80102D0051EF5A0962A7C0841C288803000008010E88084392081D481D0420274D2493E4A2004C90888224124226008020AF841340004021D283000603083C006C04002416020064914000C94680410C82186880E0009053199402019608426282B08881094541B2046180800036037806090404089881808148A34410C06260D25900C3094A621920094044941120108");
+    testSerialization(
+        0xC78A4C7B615795DCL,
+        "023F3DEE41113CED6BC83FECA9CA80315D3D13E6010210B81E050040632119C4223600908041408990660170C446211C0804");
+    testSerialization(
+        0x9DAD34BA0CCC9CFCL,
+        "023F3DD8D34814CE5BB23FEFED142043935F3002E2041EFD00021880190140418504000880374140C02384210040240DB80074D285E241230320A100124176931E20004446C00102000162A104080801988A0032984190956034202412008908A1C409B00000A04310A151C4040408880A908A452220102282281181584210032A0424611AC8010018");
+    testSerialization(
+        0xC77995134BA37F91L,
+        "023F3DA856DF2B01647F3FEFA0B57F140BB18C0102F6011EFC51860C083AB0A182850E1C10A0F1042160D88189401200201D0212948850BA122C10B00416480598226012D2A0908F06829A15640844C60C030A04521240");
+    testSerialization(
+        0xFAED11C518BE6B3BL,
+        "023F3E112CB5F70BAC663FEF70054C83BAAB1F02F805129AD600E08A6804222C2010180090018040000000A42010611A45802A2000442812010210A2200C00014044088028000423410004880010A0041080801062008A0022000400205A2000202510108000990A004120814010");
+    testSerialization(
+        0xFD820FF0E6A8E478L,
+        "023F3D7B6318A11A147D3FEFF7CB247E81278A010282022698183050040902C0E05060041809008081800501023440250A4F21008850210010A0301D6A408C2500CA120024188211860750876639022014031100A411232253B032A040410A2110160302604309260DD4420628");
+    testSerialization(
+        0x2FBB4FDBF19D4437L,
+        "023F3DA480C9A85781DC3FEFCEE5567F1C265002D80D1AD93CFDC10608200428220E00108500561000084D01A12B14804B0EB0004596902058002EA01020200602E14C1008021050240A0892440310806064010006810C800203000000A1D19001931022A04144481904A010000A1302104414000065400100004A0800815401000020B8203010818402C010008300000154042C00C31002080002014000010009100002112200040030001800400012080888240204148000202A004342B04080A4200400C480C22008101A02010058021000040001002840000800C404C08002201C0100431520695908100105082401042120901010010201006000080880");
+    testSerialization(
+        0x3171117CD6AB5DE2L,
+        "023F3E46284E4045D7853FEC0DC75E42BDD31C06D4090EC86C0A00000064800119451622090104206088146024900120484080108808401002018400480004090102104A00080010800120000043000500010008505006000004008010100404");
+    testSerialization(
+        0x44371F1FE6F5192BL,
+        "023F3DC0D73FCE6782273FEF0839BD776A5E23028409128557064CAB0802242C3004CC005821018820082BC19080740212040CC425220204928900022013000828066840144009200202E0B840000000001292009044000950000102093800404000048A10200000C8009002020002A000400001008006002080400440000220483250001000210100200206004010400280");
+    testSerialization(
+        0x8BC6B9143CCD82E9L,
+        "023F3E338DA675B960B33FEF5A3480465AD01AEA0C040CF402008030480400C1B084210080200C1103801044220E4410A40900801104090E4092081100402004810042100441048590A4190A40914409064210447906401068010243934871064E10240B2C851224191E6210247108511028F1084191A4B1004914E48118439124291E4613C429484410");
+    testSerialization(
+        0x61ACB15625941CECL,
+        "023F3D5761117A1C5C683FEFF76196FDC3597B02F6061EFB4B974E4C216120838F0C1448B0500684CC48824100929D2300601210012002123AE5C0A0884126558101D94402D00C802380006310904028802810130D86A02092A24D2F5991B00880824000091045B24C21926068304030904A2486004122290812C02551100010592102012018020024077068000002820208D0000545213190A2AC500540049026A08855C51104B8329A800010405082010007C859C0000082810012D2");
+    testSerialization(
+        0x5DFF728E8D447C67L,
+        "023F3D7FAB9E352A0D313FEFC95A8AFFCE585F02C8011AC90A5846861C830009021E18910DD8C000606C18C1901020A80860CC00111124001110160005155800828CC844141248");
+    testSerialization(
+        0x19A5CA5D8F09890AL,
+        "023F3D5FB51E588886213FEFBE84B163B4884C02C4021EF4C9852E087050400102082C0090909C9C0200C107009984D428B6680521273178960600B0A02004E10100012C325F2830000C808B00100C2880826480080D400009894028018A");
+    testSerialization(
+        0x43947963C3E8016AL,
+        "023F3CFBBD03A86F2F9C3FEFF7B1FAB35BC66C02BC021EE7EC9136982060A1418A0E28183090A0E0810504088D45925019849A004201001500038001164B1416C72102C00604582084D08049406246742307701800641A108D0400060012");
+    testSerialization(
+        0xFC798F1604435D9FL,
+        "023F3DC5332D0DEB8B4A3FEFFE03387B52258B0102B8061AD41E08438878E11018008228ED26482C40500D8C42012CD244B10A30140104045928CAAED3413202A17058041108094243608004048204406801942884090401A01B09814000322800020201B6884050000000804140009090030BE24110540841A000C08900000C110240106A2060402024080088105810108A80105A4014021052000020050840");
+    testSerialization(
+        0x88DA8A6638869035L,
+        "023F3D829693DC10448B3FEFEDF151D6E51B7302E00D1ADB443EA10C30228601E1003830B00407449168A08E60088030001192B8321E23004200160D8510D8098D00001490440004471981054108004C20031A01100010006830E20BA81A2C804021100185D0002490432030412108080004C6861020C3000840000058208018098022014000086100A10124000811403401041812D2A0404089E44048200492012044180410602110020C1440404000002108C80000112A00A012200440E00440A00008440598210000004003040088042A004C212844062291002020182885080183A2008000005C5008100802C10004145829000006980080B327000002840684000050900A0801481C080200040100200100201046040400080006810040081000000030");
+    testSerialization(
+        0xCCFAF0195F8EC2C4L,
+        "023F3DD445C02190B86A3FEFF88FD2E1F11A6602F6091AD22811032632000A188210001060C0400490C02C118249291428023291300201490651089089A430C0041245205490A12870B906A0640460491000089204010541224000A2048810842A4A000241005004280C03011050C110004080C00008000100952226000010829442528C12808040101024E800821000211020402A0081404100448220940106020400040002418010000120810141221125A690C2001080020002403090810000090420");
+    testSerialization(
+        0xEE1380BC7B0AA025L,
+        "023F3D0028125A6C0DB83FEDB4C19E6ED43A019C0C020CE80A00404028010340F0A411088091A422004412A459104611042910819084E91E46108479124320E4392043994419024B11268148531584D964439BC4");
+    testSerialization(
+        0xB91828E8EA58602FL,
+        "023F3D29E3695F36A5CB3FEFF10774567A4CEA0104D0011ACAAF06EF8240420010E88AC9F18F104581C16D006E11A10002A1721A39D1344000E0000E0008C016449ACC6B018500C000802C0044C01B23F440");
+    testSerialization(
+        0x65C2BB24C29D837AL,
+        "023F3DE1C5EF044EC3CF3FEFE9CD631041D33402A20C16B110CA1111040802300409A88C650128C00411300900E60200240209B80880450C0010000100B2000404844A480000090009051081A020404000932000801002400C000980084400000008070000001010030430A0040000090001000140900000080001080101200000120002080008120100610600001002040004008044000800202020C4020100020400004800100840200104C0200026");
+    testSerialization(
+        0xCB2CC0265053126DL,
+        "023F3DB5C20256773FFD3FEFC3B863AFA220E9010280051EF70291029C50A0E44F0312101160911C448200852C901E22D1893B8118088830B94C87C2227649D00AA90002F10215932831E1208040B880C9B8C30972084000106302066C004909040114E1C04040881004B00340214101A64000802B2110D80018102400502B03080310120A4492114C0287106840005C118402200200062648141010");
+    testSerialization(
+        0xA6C338EA91E6D173L,
+        "021F3EB5CEDD89B61DC33FEEDA83ED495D97A20A020510F80CEA01148642AD717A179E7D2680");
+    testSerialization(
+        0x94BFB2DE858D846FL,
+        "023F3D64081088FE42B43FEFA3F52BA706C54302A60516AB938C5088821886A0840D30007018C0059A2009140228A080748056221C00088494C440044000005296880242040420184800380048054804C0D5882020100044A80248004110900021800A5000848950282000880800011122080210A1034002028010A1");
+    testSerialization(
+        0x4B6905E19A5CC731L,
+        "023F3D2F57C67782EC473FEFB56800AE4E9E5402D0081AD30801A0A268448630A580008E8279400488458C0154245A52B04184024C0C14D8801082D180001904009A208C4A0090D30102C00813084AC6702208710215850C002D09110D46400450090000C000700000001000290021070D48A3028A2800000300DD4120541902020200A4040208085009C28040100200040081800084800000A00400008060025004002201050040028AB0848048C080");
+    testSerialization(
+        0xC4009E25A4CD40C4L,
+        "02BF3E134B75A10659DC3FEFE67650C1C2E27802BE0416A7504635D4435840428C3121280004444840020860039090B00390C1A32001021200250502F8B668C2203101209619058C0004040B00102800828160A23004001908C408888100131008314900A00800A428484922801900029180388002D8048040612600410A800C024924028080");
+    testSerialization(
+        0x44C64FD50D050B0AL,
+        "023F3CA0FCA7D20DA6D23FEFE6B3BE86C4257F02AE041AC4A588E81E60E00608C20210504C1CC0A10880849228048010298100113002A1224C2806404892488008E18214C83D829401E61AD2C18121026656C82002A0083001C4B1860844815A602841709986C02202400C104108580082084520B324009C0494092C0224C8");
+    testSerialization(
+        0xDF8C8D6F9B4677C3L,
+        "023F3D4F85D163690FE03FEFEB7122CADA957C02E80E1ADE6460429218430430480408701008445091900E0D805140A0695A350264A8C875C6C87D02D8000080081025194A6010440683103000408193600000019100A85D8140810C00A1083210008008021688600449009885000146120902808208100900448682080894140401600200022040802026220020030404B0181500126000100218480508588080A888000000210004842824048000520006C2209402284051000800824800090141808020081030600080C290009384148804010008004180204020800408000020008C812104080402009084105200089082040900114480000004880D800000030020200300400400002032A000040008C02200000008416040020402212001802A11");
+    testSerialization(
+        0xD27C9A48F5F468DEL,
+        "023F3C837DA4ED86DBBE3FEFD47452086B3C860102D80C16B30180328CC1408012004C58E9412303418060000628203006011241898535742028D40800C0081019300249042402D00941866220100092436920F0851100180800A11180050420002006C00040000084500080100A54114D044000A0C2285600C0052008042110080201005C80081012D4401400400A0002C82000318100100030122C82A000905850004C84023000000040840800090024410100000300102292000840029000428001164B40240000040400C00010A10200A0A00000000A00014288384044160104040080");
+    testSerialization(
+        0xB8D19C10B49D1469L,
+        "023F3D693496ABB91EC53FEFF60E5D7D09F95B02A40916BBE2880108A2D00A54804C3001A43209ADB09C11E10A08B34A49244308220242829525075840080300306244020000410A08302B06601961A000000118201128449A10C006C0000808008010A021960204412421202A05A280900625440314130046802100221200810022281445163060040101008C00002500400084284202808007800008080151802005C646810204080A100402580088");
+    testSerialization(
+        0xE3A70E04F77DF761L,
+        "023F3D5A0D1372150CD43FEF90ABD33DBB742C0294091ADB3070819E01838A10851A1050C6CCD08404C8849A10894081000080983040A01008E017016482914002C0250005413012082A80C30506712094426200100400022C0600008010190A8922BA20046404530000C010010000001244A8140214D474244000220044E69096C01008421048D00011002010084A09108048800024291C001044900120002040274001000000107088081282200002444208420008810010410C00821A2400140094C42020");
+    testSerialization(
+        0xEB3CB3CA1A833A2AL,
+        "02FF3D3E0C94D522D0803FEFEEAB9E687F988E010002EC011EFE878226086AE4020186083C6810B906011201031000CC1413430E72B1080109100080D0001670402304801802D87010AD01606C08030404C48022018140600C8001800890108B058700");
+    testSerialization(
+        0xA20F007129C303D4L,
+        "023F3DB1AA59D411D1453FEFD0805D44D1B6BA0102EA0A16B7EF00E994C21846B39050CC092C358151184D804120204C2CC178004139102300264A2403120112C302904000131BC000086020020A746F4270905028024008045AB809920331001904B04424008A052608202040268080C2A40011238808838040082000004033A8760884138801000004082244207954400040588149105010A02A009204044006522010A1468681000200122100A81090A04004000E0C23000300240200290C2900C8400144008802260004000400000830800030080A100211495051500A202884011C80A01A80");
+    testSerialization(
+        0x6719ABCE344A2A18L,
+        "023F3D660BE4EB54B3623FEFD002B7170007BF0102A2041AC83E394E1452E17E5044962037A110460014023204302A24DAA04821710090471210030709051126C4660A801514C97083A0FCA66088015C89020819140009601431222111710C021092184C10C171804021920080909804B209246082301483F320BA894500099000840824080301030000311160108A2442402B");
+    testSerialization(
+        0xF97DFE8981752DE7L,
+        "023F3E802D954996BA1D3FEE9DDF9FE7D20400AA0D08092801014054088050320041E8453C20742091500A3940AA0D2532C4");
+    testSerialization(
+        0x64847480676D87CCL,
+        "027F3DC490783A5360753FEFDB8A7E9C8E1F7F02BE021AD78321A5A083290020C20A0871CC1D8B984941C0021590898303808B9AC021020011340002A7414481838604D0049A5826086000834009010181032003410080084C1CB0608CD0182006D120");
+    testSerialization(
+        0x07C9E49E8D4463FFL,
+        "023F3D4221E4977A8BF73FEFE2D230D1972FC00102781AC79CABD08A18638A00E2007850C8009282440460421CC90200118800105008A30B02005483");
+    testSerialization(
+        0x1FC9823464E7C11BL,
+        "023F3D7F684457BA92CB3FEFA64EC97B444D2802E2031AD23410E604086104002400302C8D000110080A411812810000088830C8000282148600090001809081C40404100303088901A84600009A050101042001001B0804B022080082800000120400802180");
+    testSerialization(
+        0x2C3AAC041B63B682L,
+        "023F3D566A268A0E27723FEFF3AE4954FC5E4D02FA0B1EF1CF02161C08B3E0C60A0E0C007014200C40230C220808010A2C08192103098D08430000183013004116490590481024C0201062E440592402820D185412020180022110106512100542110C828888060101240008022320043344000A80328003429018089001040142000201224330E262484144A1490204A682B80108000100324000812040000A14020935010135448405852004000010420600A08080200094120014103804022210104C00232088020010408418A80101238209A4800080001048200A0A045340022A2B2802004005100018802000104024888081088002044010202325010148");
+    testSerialization(
+        0xDF7F5DA36D12B328L,
+        "023F3D1FA70AEAFA7DFB3FEFB3DD882A0FD1CE0102FC0C1AC29618F98288CF8448011A00714DDCCD94504A0DC2183981C90B099B80C0304188011812000620402201C487020400480008042560824018800080800B0100AB50020A44DC088AAC00806406072108181690300042060104044080028AC10591000044120088602A05840004420090018C220280820025800000004306320104147000840100100084804020100808C20A0E0E81016400018400000880A00011024822A814442602300001001043001420C88003400000022240400000090804001C51000188022008000102001091040406109000408102812201040029002008402024101504011006004008100A06000193122090A4008900048000A0401C01");
+    testSerialization(
+        0xA97C511A3646F185L,
+        "02FF3D09AEC761ADD9D23FEFB0AFDAACD975C6010002DA011EFB8C27600851410001001478004015331AC2229CC5289E4212AC0D6C1AA08864004A11410020200C435141460A110083C802D90B9240C7241864F20B2520");
+    testSerialization(
+        0xC28878F4595C5417L,
+        "023F3C811D196159E68C3FEF80D67665B4F1910102E40716A9995F3124421088100CD008CC04420008C012040020880088008026E2C64406C921A34C041285F1041813080284032F0002640249480082048505416322865030404606080006430030006040C0010202382416822108021182401125000884001101006A0808201010D044088800844C2810085C000222000004400480A2080800010161000898170005000888009054701508228140");
+    testSerialization(
+        0x9B11D53E77D3160EL,
+        "027F3D3F93428AEB6A2C3FEFF309790D2324CE01027C1EE74AD22418A821C40D8F020048B270010C8E55D0009182904800CA01F4001000004082183A62442230");
+    testSerialization(
+        0xC6ACE3F828040263L,
+        "023F3D817FA8266A9CCE3FEFCB59F46E37CF810102EE031ADD96694034898C8202C8103134E7380C331A860006908A0091008842192A12B6550546540AB81CC0022042A481A2897609DE5CA130820825043012060000010209610C0104D041291230350120A086A229200874940001A202A0805300D4A0A02002494C");
+    testSerialization(
+        0x6AC3805E9BB7E9DEL,
+        "023F3CC03FD82E81DF1B3FEFBFDE4FDE16712B028E061AC84A38A83058630208A286202D14200831480528006CA23112210A4A0004A8200908C0040600C080100012A80221145480429000220A14014000DE02200000080401201000802D05040886010122442220A909000580010008004821001210140040A2004A46192010003000598060482100");
+    testSerialization(
+        0xECFF7AA5D0CFF07DL,
+        "023F3D91B1C996557A163FEF6209FD16FEAB2C02BC0E1AD2EC1AA3047023060821008052FFA8480488088005901300220A034000150500010029060914108912204C089014A80083408009A00000592910820C000830820841800B000101482410C4F304008005008002104816000024830C1600210108240007AA45C0000002400494C0A42200100080000908590000292000020108120120242840005810A10224080000440018800042120B18820434000226080944700101800400800000100142A044A000000008020900C0205745021080529020020800462001148426400404088348210290001240409000040301004023020801102040");
+    testSerialization(0x75D5BB77898DD72CL, "02073F1555F3F407347C3FCFF8A4731CFB6C0A");
+    testSerialization(
+        0x1B06EA642D451531L,
+        "023F3E412CD80487B72F3FEF1E4ECA4000BCFA0102621EE040CC0A08483101C48556000850308F494C20312CA9128487AA009188C1104402B8");
+    testSerialization(
+        0x1A9FB2E77924827CL,
+        "023F3CD53C15EFB50BF83FEFFD2C7483AA2A8F0102900C1AD019405B001A610422E30200B08D0CA0944090103D82424912109D3441D0925A200A12980118C608848710430C5C820800589548940904909C001500010208001180021402202002020D1E010444500190A804304224304020211004048BA43618C18020000100590000101030120040235C508310800C00502281000184020440000024A0000004800000588204304010040022024001488C42A00A0EA8050441499004001000241114040040A882800000200889620050108120022881501400800620010148030020800018004C0201404840040028080500180108C0A2009000442482000048800804212040510440");
+    testSerialization(
+        0xC8AACD9F9D4E7086L,
+        "023F3D6161A57834D9E23FEFB3514DD057E36C02E80E1ADB1438008C01010639021630702418C8440250400920224C3234404128C82486282C32020090D008900820545870004000021B20C0880502294060218008680021410604AC0028040010C5481C202282020410144C7A08A13A0040018AA08C1001009A030106082C8030120102040182501A48201200004021C282402202210590290C81000011000408000180440089090986104100000A04600900300000820808602C8D1002401000032802280140800102000C202011000300408E08030110844820044A084000000820004108022260A000000008010100403200058480820011");
+    testSerialization(
+        0xC5B897F8FDEEC2AAL, "02FF3D1F2D24817CCE023FEFD26025ADE0BD930204020C21276C00C8622C");
+    testSerialization(
+        0x33D1C7BA7A72EE1FL,
+        "023F3D3C75FEC1D737183FEF98FC9AA86C3CCA0102F80716A87E443EB181401D2280B440C186009021084C60A9944988801005C040160001593030462215A440E112D529925120041C24344214041B254E000107217422430860506C0602116011058009004040443602404252008429B8A200C00000030E0450216A822300002808841024D86940D4100120A40080A74013700480C2400081412741540080800A54040A2040210A022B5001400100088230310000928024040001090040AC1428008881B090");
+    testSerialization(
+        0x788F4637BF93BDADL,
+        "023F3DCC53B042F7F54D3FEF64AB0E9511DF1D02A60E16B0E00E100482210000842C084104A20121909D00604025B03000100060040200148A50A254A10A08820043400120904480408010101014000140880828428010002140020042441004820010102260009010820008802100102100041040808010021390004021010E00240001208001009010004040090001400020004080080202004004082001008020010404090008000410900202004C0001000630000480");
+    testSerialization(
+        0x1DA4192D263A7368L,
+        "023F3E71D8EE8179E4FF3FEC0E2B49BDBD5410EC01020CA8084404140C0428A424094424C485A8E406854624");
+    testSerialization(
+        0xC4456628891045D5L,
+        "023F3D967C4A23535F973FEFB5AE032D3140970102E60416AC67C3B124AE219A220C700C10409010A55102008C8308A018130B2B152651C6832301D20800E10000410900D2000E8A0305000920200461004120C3114C00835C128001D00000028020B241000445000502000912B100810050AA6806C308040100000465800080020108810000010012000112");
+    testSerialization(
+        0x5C38426CD770AEB9L,
+        "023F3D8C7F17058C063A3FEF09C5F59724F22302CE0512870EC000606402000804000E408D8D120034B002800080844000168030020900C04A8800048688810C0030001000820208850124000816810871204004008420C0040842005A40808810");
+    testSerialization(
+        0x7CBF9581C9857663L,
+        "023F3DE569DC85E09FBA3FEFCE5ACDF57A5F6202DC0116BB02368130A93840041835072D440204607208410A800A30004400410022504041081135155201251008A021080000480640148818203406040A");
+    testSerialization(
+        0x76FB37F21456BD8DL,
+        "023F3E83BA9C8C4A984A3FEA73E64CB180FC098006020CD4022908808720A0C82432310C844D2611482572292C8272259748854359049865249808");
+    testSerialization(
+        0x86AB52B99C97F487L,
+        "023F3D780B0C0C1AD18C3FEDA5D6FED8CF252802F80912829C2200010220420C4000498000010A22800CA0618080042028042044900C88513884200085000502000238110203A060481111000000026000400020002400048000908802080080480000002200040048842910030302800A000020002600101202024000010010");
+    testSerialization(
+        0x9C973AB2969A4902L,
+        "023F3D9E3B0335DDF28E3FEFE13B2EA66538930102A40716A220810858812104E80850150856488860001182552028032430080180944D07D32140101700C5049008290253588094024195100160800B15140229418400050100B2602148500004A6002124841034041800010021800A258011004808188228840000410200201012A10240044201D420000302940010604008C801AB000200410000021220800004020680A4");
+    testSerialization(
+        0xBDE10FC36CF8A488L,
+        "023F3C55567D33D9AF753FEFA9D148E892751D04F80E129142A84040206640108420001C80C04009808C00800000B00901080021131488820000010C80C2004140382001244008C000240180100096804010080402013003002010044420801890208201104100C8400920902040040100A421120014200001004420010040245000102280400049000200040084249004000C8001020002500250100008020100102020020800000008804014400042008A0000300204010020020440");
+    testSerialization(
+        0xC220EFEA140A29DCL, "02FF3E79A2DCB0E969073FEF3526459096194703021C10ED80209A422202");
+    testSerialization(
+        0x9B9F7CCBBFFBAF20L,
+        "023F3E667FC0EA422F883FEF776D84C4BB8A0C02B4020AA193890220C150050440110604100505100140241104");
+    testSerialization(
+        0x0C54F398918D05B2L, "02FF3DC3A8AFF372AE073FEFE4ADDA21B871D2042B02081D4CE563C0");
+    testSerialization(
+        0x5EFB274AA5D3C990L,
+        "023F3DB18504EFE0D2A13FEFF94794698E05980102BA0E1ACA565F8E9000018632001430908C84484030A0504A01780A900208601B4448241110710214282120682020066220C904122866145A00902AC0B4032498824920006100010201032A00742C4DE0192C168804B00C0080000816010014400210C10000402CC01080080602810550004A0000108F101000008505088C0001B4010140420004800BA204C00E20004480D2484082AA20500280402420000E12184000000119120000A1000A10040180000A6255520AC12001228440240220294400804540800020200C000104830240048090040094408200030001000810494000240008140200008220100404800000426104920180022A5204014039C807869102441402201200000220028201004490022201210140610288004008040020");
+    testSerialization(
+        0xF0468498DA9B47F7L,
+        "023F3EBEC2C9AFC184563FEBF0769D996F2906D0050208F0040A05028340A060E854020101044242104844246D030A432050C938227D128448A551A82442559A80");
+    testSerialization(
+        0xDE9D836C7831566BL,
+        "023F3CEA11B0E465A9743FEFBBCD6FB3D8068F0102CE0D1ACFC6588094604100A820061030246084098C48609620948912A0119A00C03013A00200060106E030120001128487068158448008142582840141296802200000400A015048DD800240304404B040200442C40428A40C5296450D041120034D8380100A08000043000002080F0C11890088300A3149000000258404068000E00020002000140400020A844000804000810848019800010840802031820002000485222801008511221510010A01218010440200820A000400D08400110402C08C52221001000002400000434A828000C8410000811880040824068044028002404C508880201A204000402008A4C44D400A402000940001640810");
+    testSerialization(
+        0xAF8EFF301A0528FBL,
+        "023F3DD3BDD724B0413C3FEFD2F678EF04B79D01028E031AC426ED280B1CA39C7826BA683008784A8C47410482900C08941900010182315980022000708C2208060880AE050220624800E28416810582180044082228438100180402026018012000610C400940A2002148081283374228B3C20C0214");
+    testSerialization(
+        0x9E8DBD49A61B4A14L,
+        "023F3D9B2C9C6B51B0D73FEF927D57CD51E68E0102D00A1EE6A00018002090804F8404100010140141062347AF3080008638194D0808A4B900B242D68100310609259241C530E8E8040000169A44000A21102B85151024901C40012B040D82E0400001011EC80268300300C409400453804242C2410210EC821808820700008B63200101100965400824A0C008C000040100011E92A12050604680031002000290000000940E00202210202408510809488400A88B503000239001008410140840C049C000A501100042C20A0141416831804C80600C1008008585210200F40500004080840000C4487A49809A42000840080408000190042080");
+    testSerialization(
+        0x79AA3CD00285B2B5L,
+        "023F3E2151B60654FABE3FEEB8863F1174F604C00D02091022008020081A0A862108244E942188421C84B16BF2AC9B280B4ADA80");
+    testSerialization(
+        0xEFB90700ADA0EBF3L,
+        "023F3DC8078FB265D7713FEFED3452D53D702D02920916B943486204C4008007000C801B0F888D018401E8900A8021845027160006848B01024142D40282A801700240140000E82101600101000A80218550000422200860444A118000008191984900080028040C4000C030200000811424088008E0010008200098809000001001001029814A00100001604802001041820002400A080201620022400400888001112004080980");
+    testSerialization(
+        0x517190B1D6BC9A7CL,
+        "023F3D8373C8295504D53FEDBC25B233CCC00E02AA0316B9110010000200420084086000005180004480008094405306240A10010428400810000400088200140002002042");
+    testSerialization(
+        0x74BBE6B75C2B6B89L,
+        "023F3E9294DBC6094CBC3FEF36D6A3625B8F1702C4031290440002046020004C800A70100105008020012200010454880A0D22802065404A480200002000484008008480009004140002100048000A");
+    testSerialization(
+        0x92A91096F05F44EEL,
+        "023F3DEAE0D4A326E8243FEF8CAC7B4A2890B701024A16BA3B1F78B48D90805AA011118A05C29C0C060516A0");
+    testSerialization(
+        0x0722B931F46409A8L,
+        "023F3D8947BA50C4FADC3FEFD565229AB0E82302D0081ADA8C18E48A20A20E0822020870108C0A0400448C0201B0059080008082B11A6406086CB58812400090830210128282042200414082404004840C1049541082008A8012011486030000910101020812E205402204410020000854080005000C8080981164801A01008000081010C2008202044A0041218B08180001510000000CA009011004002001008844404408282902803000042201020100");
+    testSerialization(
+        0xBAF8535750A98DB9L,
+        "023F3D11679A7A89A2C23FEFB4DC6BC56AD83302A20F16AD4022B8A82A110210002F08250012130D06400125300006008004848C006806881163011844108020802281081000480004050C0045003002490400200C140404025204029400044210008208111820258000900110A4044A0002A2800080100C080184084010A800040008900010100041C0484801820A200028001841048010901402010C0C820110002080040008881804004000006002080201400030020440208480145002088240200880210400048290908202003060");
+    testSerialization(
+        0xC7950141EBEA483BL,
+        "023F3D5C84C9D6E2F3A13FEFED4CDB7A17C34D02F40C16A7048CC09C205280000C9182C248644810181D804A2D18402030490040012006820201092C008B2061461900545280200B300000004541600040A02040080064001900C0840030002484000044109A00A068001000680002900310014401040009414108012A0110802804E10012500C8204201051000000020000002443000421080010030100004108020002840400108810020001080520010A0000010084001080022000810010C40210004124200D0920008000100102100441410820220000600130400430008420200002");
+    testSerialization(
+        0xC9D0DB21AA447604L,
+        "023F3BF3AC1BF2B725283FEFE61100A54B4FA70102A8051AC3A41086C9C04D9000620838147A390212052F020410968C420940011401380310C000204803134131664009E0810400C884808B2006990420400F820B0B005C083080461C4204A9B2241451D20204228A40A10080020400830080E0201203042050A04A4892020548046080032044410800002001006208083041800A00009280089DC0");
+    testSerialization(
+        0x144C00B141C18385L,
+        "023F3E0BDC020F9786073FEF8241773A21A91604980F1AD00A0A2182080088280084080944819E35A4A101000001A00389112502200698C062120040004C01824C0000402001240201200180089B01240A020018800090001800000000C008040200802810118200044D2010002C008221000000200045480080302420000032630240010A0011082101000011001101320410A00101041000004081000230000400448044180012400848600A00020008010020402440008080809048000008100142020800000021400000A020010200020040");
+    testSerialization(
+        0x6AE71A10813A8A14L,
+        "023F3E80686DD0AA33663FEE737E0F9616460C7A02108A0A040A1002040302436204E26202632402");
+    testSerialization(
+        0x3FE66E842BC0FF39L,
+        "023F3E1B76BDA43B10763FEFA217236F49EC2A02E60716A989186008A0180E00848C4600218189E13C000E0836800400470184B3518000A0008A10100220BA025810000040092002A60904941210200341088014048010A8400002801010000400494882080090040402B0000048024802010144244008080000011020000002002A44040B082120");
+    testSerialization(
+        0xE889F319B6521F75L,
+        "023F3CDCB1F4F6ADF0313FEFFC06283ED4E6F90102D2071ACD8019B43270608820A0862134E4209201090C288224CE121BC00073190F33450640303F223506082A7220E246002842C024F05B2B905801C30024800B440059062008611FC10412882C405104800101381A6A182029F04014202E818ACE0480D92480522382C38A120400504F08920048405E1081001108A811310460002A284E26200080001000804003449000000148400100202890400D110CC0A80021250032444800000899140064520806");
+    testSerialization(
+        0x3132CD4EAB53DB00L,
+        "023F3D14F79629C8D4E93FEFCDC3E9CE6C423F02B20116A96358D092E58842848010C80002D880804981C0095400C028C000110011910000143689E002F0041450");
+    testSerialization(
+        0x73E7967C954FEB25L,
+        "023F3D7594A0087180013FEFF65C92ADF9FF3F02D00C16B34F2C2229030006128851284C000080E4C08D32A9C7902417860076800100280420805024299800088B4000029104046064A040A09000081D00204104204000202100300648080000031060108E401A010C0000420208084800581004C050A0020100050200000041441100004021044120010401210604A00810880221C4812000041222004009121020B00844002000C0181001006AA20840A2080010032140408104108012208244000820010080280028000003108080");
+    testSerialization(
+        0xDED8B1C9866A49B4L, "023F3D96A8FED2F431A23FEC4F8179DB8B7A60022C129ECE4C082C0046002B0B80");
+    testSerialization(
+        0x9BCB7B6BEA6683ADL,
+        "023F3DF6240BD4C79D343FEF3CE4A042D4242802BC050EC801C00211106090040C940D81400040A0180089C0014001A60040010800008055690040201002050801000A40C4004800100040");
+    testSerialization(
+        0x8448BBF6121D2D41L,
+        "023F3D6326281AA9D3103FEFDFD40F5FD32AB50102DE081AC518108C943A052200308A0052E104CCC0903C440E11756199020A80B94325F51461721101464B20268F0806D0801C210012584A9204248402390412016080464982820DB010A0220A018240A820204E302040061941946A502800A2094011102821000A1054460C485090E0880C005519820850104004304E20A60024266800200008009410007008109202000002648010809100084200140142022720140212009088048400142280201B4060480580402240082902001130A2008E");
+    testSerialization(
+        0x333A0A691D1DF5DBL,
+        "023F3DDB9DBE7F68352B3FEFE5AAC33038983002A40A1AD212086586102000300112104E83408C3048018028003248083001810228202402280A6E870100111220890002040488022C48A940250045500AA8029201C400008400609190084020002202050020800112423240001202001000401000200542088082900802042250041140000001207000800414802040020C800940004000001005");
+    testSerialization(
+        0xA99B4EC32AF8491AL,
+        "023F3DC243BB41630B6B3FEFD342C85FD688950102E201128A42A0584738BB081244044D01084C4009A1112000D10C300004020934864A0808210112C837909000101825008288848BA0");
+    testSerialization(
+        0xD74E6A6FCB8BA348L,
+        "023F3EC568466C9F83E33FEFAC3489A1FA641402C2011284B05A080006A00849402040010688204A22004040128020834081030C");
+    testSerialization(
+        0xDA8F9FDDC580062BL,
+        "023F3D28A85441BF89783FEFCA3F4016CF3A9E0102D0021AC48641300800608000C002113000C08D40004C00658242088022282C80454425B02204C4C005080A44801800024C05004300034220301A4828408024144180001080");
+    testSerialization(
+        0x622A90555AF38E68L,
+        "023F3D8CD54114D529AE3FEFF0FDD6F834A6B30202C60216AA2D0D897C22B011136016C110C51296A31182238680E92CC600088140461242B213501000147808A7A0A066042C46A100048541010001C25FA09040A0000BA2621A60842056A0200A0C21014102410DE040");
+    testSerialization(
+        0x350F3EE985561A49L,
+        "023F3DDCB233D31868003FEFE39C123B4C486602B00F1AD7278806B048468080040468134B0018E0B54110022110039802010B58300840D8504604AA5C08E0C20440C064D25C04041864810B040000A0800A5C4C24038C104001204D09928222200003B0502012282016082402280400D04408C8010014048002020D0021434402A3108D000204420001021848821189168024062004008014500CD9004041200042010211654020880108004026408184166024A8006100807094041100804A0222090000420020040825004054AC50201700081600008040A00294841000100420081320002000020048C0000028508004013000010820811005460100C20800008448000048490200000200409088080408019A0000304020170112B000480C100010000243010000200084230880101401060A00108180004440");
+    testSerialization(
+        0xC5434F803264A655L,
+        "023F3CE7702DDA851DFF3FEFFFF9551292385002DA0D1EFE8181101C5A63E1020302042030114D00080CC400CC7639008018207304884123001322145221F688000E006810CA008A010A009B1D848300316A5C1850046708830000004C2230228208610380E2002821011054122400E8C3400000240A102C0000C20011854064004008004190044008400460040100004084A510C060170A04048A2410880100031021080203242A0A00000948280A420900000095902024020004240600101600240400221086804004080802141406502C1001008840502010102B9428000100B05104001040020A125220004020010500090080A1409000451800A0004002100001E000204408010205010001008A20004258040000848084180000190400100050");
+    testSerialization(
+        0x85CCFED3313466B0L,
+        "023F3D242C5CEBBCAEBD3FEF72899EFF27A869027E1AC10608608741610C608480185088400E8440040105805000030949302161B000A080");
+    testSerialization(
+        0xF2BF14021CF560D1L,
+        "023F3DB3A13AFBFEDE7C3FEF92B772237BF93902BE081ADF3A68221418A60E28229278100EC44784004404960AC0100911109801B00200C21A85A800400008320A000120004408480C540C990043004122030490222084406622002982490E9048208AC00133C20083136004A0A0021280214480190102400012EA406604414002080846330110A280D82510145804600000A08A00500510018201012054241804A0110024A800140040808000441000040023001014048000240805CA08");
+    testSerialization(
+        0x6814B9322B880B8EL,
+        "023F3D0E16EA20B4782E3FEFDDBEC5854DEA5B02B00F1AC912A4C180C0830E3001800832DC48504811F8548E5110000014021008302A4610806027030807C05C10C0200041140054C412251B008449000A094980AA1BA80040810190410200090C1A05069C001049080684100804140208A40B001008020048448108280A004018051808000020403000450008002083100000082802001300013005040584150C8200204030088002414640004560000005010082002002010014000000308C00010510020801216A400400450000C2291801040000100870000820190240282808020000110000100004008120008020000008E089A20020100408008813200000008200024040");
+    testSerialization(
+        0xB8B1DE00733636A0L,
+        "023F3D380399278564683FEFE727E24C7838D60102860416AC214F501A430204F10575A90882498CA32082B31580594862C9A733100934802C0670805D300184D12020802440A0018B80019113841A10D290056193400C22524F028A0004500200088212580818001C51049803494AA01005125C0080402880021500043424");
+    testSerialization(
+        0xA9DA90CC2051B453L,
+        "023F3D478442C39C12E33FEFD1983803E9721E02AC0816AA2C0A323C43000A53842DD4082824436540C00028A15605021460001C6080C021001008840882014C10022202A5281108908900200C00001380004080102820810A0000000632010800000025008210002002000004402402004050120042A02120B04A001000246C00100162040040E00A3C01002020028410");
+    testSerialization(
+        0xA1E674DE7D4E6DE0L,
+        "023F3C786B9F5E7D655C3FEFE42E8E542D439C0102A00D16A5D8306410053250409114A03114498008025410060C131118B89B2000344181548841860004104912050500000C0144042419281029009063228C010504C0486206040C660820004141A2450002000CA640221056084026014210C124C008409018A0140820028360124906A801601800043200063201185A20A820048021425380A01050001005586A8A0904145042021010090080110500100822A0100818021440410F0AB222505C4510248804018082B298200403800000A0400100100130000B008208004000211008009000408020B0401510000C030108800D8000010040280006010100001008050008000A");
+    testSerialization(
+        0x8C1BAFDF18DDA3AAL,
+        "023F3D8B06A267B160DA3FEF9796E5FD9601AD0102920C1AC1385082CE78618060610668557308021400410042439E13B01A2A8882848038002589E91116888876642110C004320834C41980020028140346100005885043808001241085821D20104100B008228001009484FA020CD980800800001800B100401242A42455914A1278082850060104A8001000448A416800840A1050180802C810000204008800460080C00C204820000031040C000014456210C2B00000204802A24440017440102020040209120080302810C0C5122060482009420200800000300C0910200041000000819060428308441088101104282010");
+    testSerialization(
+        0xB2505125B796BBAFL,
+        "027F3B851607794EA80D3FEFD19AA95AF75D930102A602228A20722200609000210000C04010901074574240DBB941413F42011981017580340422D62303001450133445A4C260249380A20B8500F0394A0422686CA34400282CA3184009215111302602024C");
+    testSerialization(
+        0x43710DFAD4D9309BL,
+        "027F3DE7C39A66660A533FEF9CD4EF1320D898010226151884C3012410880208046110");
+    testSerialization(
+        0x6733DC1D00CB2CC7L,
+        "023F3D51945EB393A9743FEFFCE77843A68C2A02840E1ADE1608A20A08C282104004484C048A03126B45B20808260080204020D304430028008431094190A80080123010124142401408885838184148001120290400415380609000010089000111492018841981001000001C207229005000080C19022204620108000B000400002040900304400B0502000000124810000224440CC004A40060000206004C1C08400020008080400221804018080C91004000C0801000201000000291400028");
+    testSerialization(
+        0xBDCCA25A6D7EAF81L,
+        "023F3CF71ACCC7F0B6603FEFCDFD8F5F31DE6602F80E128DC92084282214200E9089FC88020D82000084021D32950400A0271428500008E8200609A006101002C28A020014007010810012000C000000A2C0811042002520011802040410028A820401000A1812440650002140040020800221200400120100400048101148014A0000014800504080B41C1060022200A001010114028020413012244004098086041242442002040080080004010008201000B040142144E00202088000000090020400020002000020020800002010A50002802040280A000118502100040800A0081001");
+    testSerialization(
+        0x7227DB930C4ABE97L,
+        "02FF3D5734E6B3B2DA743FEFE741F49F29E58202040280011EE90EE14EF4C120A0441C08A440415624300081103433962492395BF9010B25401CD0884B2002580CEA008EA0");
+    testSerialization(
+        0xD58E37A27BC5FC88L,
+        "023F3E167D783DEC91F53FEFB556F57DE872E80204AE0116A660005CAC01051A279CB42805C00804E2014C601E2592BE0891A0808BB553471213E0386200020A4A1A8088F0A010");
+    testSerialization(
+        0xCDC13EC6BE55F9E5L,
+        "023F3D9DD4C698E6893A3FEFC3EEF4451C3F36028C061AD30C100A0248040000E0000811064401445144C4418001800011202201040E564040010000008420C08054082C284320124820C0086004000001110B00024401010800002010005124020200608048000010450000220300440040821200ACA800201240208300102084800A00508008046009200114082080");
+    testSerialization(
+        0xBFE968F6BA5ECC83L,
+        "023F3DE8B26AF5F95DEB3FEFAA426815065E95010284011AC54040098039A53278CB96398E185952208B420808A48928008029B04AD43C88408520");
+    testSerialization(
+        0x227125F981C8BA50L,
+        "023F3E0B0FC5DBCF273E3FEFFAC9CA3A73A20D02BE080ED2AE90410C00270650008C420204200002700550008306050618000540590028440060008401088000100220010000400811420400210201401C2000000204004110004011908804000A0200000010800500085002040420602A100020");
+    testSerialization(
+        0xEEB00CD2BE6F9E8EL,
+        "023F3CFFE83750F5EDDA3FEFF822430FECFDA50202661AD42A40090815839010041498B4367090021808104432262F0848B204429890D00E20");
+    testSerialization(
+        0x45FB6E93F20323D0L,
+        "023F3D88AF2772440CAE3FEFCD80AF92653D5C02EA0C1EF741922C280931C1C484061C1000B42020085304A0100410421289400190820810400C32140012004087006842012586C805030010009844008C200A0B3030400090417000010442080CA80901000E0D800280824A20208204330600208A0000009C8105171840D20004104260140066421482828926100205840A0003002032C028100420240310822280150C0012C381081105104A0021A0040209080EA000201802800410000802800000191C0080000030418A2048102800080020000088412000040804C0020000908000048F40A240008140400800900501009120250120804404A0000066541221000009102040208840044409400000001280");
+    testSerialization(
+        0xF7BDE2B824ED3436L,
+        "023F3D58758FCF3CF24C3FEF99E8AAD15CD035B8040410840206220254C40A62220222C22802282604820446A208824242A402E3C404E243420603EA2264A2E40206234202628282240245E2826402E243224263A2020282420302");
+    testSerialization(
+        0x1C5AC745D58B90FFL,
+        "023F3D3A182D3818EBCB3FEFCCB85FCEE5025902DC0D1AC407B0413420A11240408A202DA4002AA6194582896C441009B24E48920001120E84B509105A5130210A8B001541002000400188004A041008058C0040100020A56101000421C08820980000100C2441C8406191C8200001290204400120039A98140D24608000005000102200400210802010400000010488018002000000021001130002905447101008000069014005C10080461A0024C0000A00800241011010000A0102002200042081020008482004840442A004600210000800111002202404049940A280801002820408C800100400001228000480");
+    testSerialization(
+        0xB92E6E127FD6734BL,
+        "023F3E7DB9B89096712B3FEF86883BC981D41202F408128544426820206420286500285500838040A840188022A0108214004108020100A4241004090900102000981010402010080000B20400000220020908000000810A10400040008801A1000A2080840008140002100008400100882020001024");
+    testSerialization(
+        0xA0FA878AD07A9F6CL,
+        "023F3EC8D1416E6CA4253FEF55862B2FE78D08F808020CC8241322068420B3890442220C80424319C94402025CD44B37164925028194F6422519CB4A62E1");
+    testSerialization(
+        0xF0B9AEEF370A3AC4L,
+        "023F3CA9E116DBE612043FEFB0D39C864DF47F04B4051683FAE02320968A2E742028C601448020463005B52B41840803B200400102A416D80400600C82C0602840820012802002C2886154216892482018400C027005842201441AA26025000064840128A490410110A0000A920811910044080281080008114108660014A1010100860000800002824820");
+    testSerialization(0x1849AF3270CA6A75L, "020F3FB5FC5E888F96543FEB8ECF0C65BEC8AC03E60104FB3110");
+    testSerialization(
+        0xB19FDBBE3C7EC0F8L,
+        "023F3DA88E1892A451FE3FEFCDAD68CD0147FB0104FC0A16AE191B302C061002B000711884D0750054C4062221188AC81810114005134121601C01060284161120910E44100480040900520083240388800005A00990C00240200240200D0011C4021C2530C806309BA0090404006400000200C0641241041852266813212214511802CA2C0240A404802192C52800100429410D1042A184A4524201192482402480AB24000002008048040000843011023000A8104184080C4002820010D81020108002441407004800A60045101880C010400204C2410A160082948121A048C00800050180C09221021014");
+    testSerialization(
+        0x0BBE19D8D4197EB3L,
+        "023F3DFF1E9DC4B2939F3FEFE7CA04D0C20E6302FC0A16B95B5C6B182D130402A070CCA00440505096C1A0CB002680A84100222222101874360800060300D4945A000459488A0806421A0940122860A8100C04000C200A28203041038020C024001070840142900280C01040507C0808220400579058A000030B01042001402A0988200000A0441002002090140901100A2060A900243081080008000130088A28188082780256100810011B042A12280580C00120832202141805024000828000000612108A008142A82200A80100800100800042A8580001");
+    testSerialization(
+        0xA67DFB3B35433680L,
+        "023F3E8D91E4C0624B263FEFB4C6906EE3EF2602D2020EB23180557021000440002810081201480480000402500106A1112000440014804402");
+    testSerialization(
+        0x1900252480B350D6L,
+        "023F3E552152AD2FFBF23FEC44BF497855080A02FC0816A4800205840008C210004B0001020D202004822002110014180000004008920000480A0412000021000614008800101002200040080D010100422208050008020080482008000840A010000800080100802010008200404800011800200804288088101002C0");
+    testSerialization(
+        0x5D274872102BD6EDL,
+        "023F3C83F0464978417C3FEFF544672B7B177D02960C1EEB08D124041851C08002002CB051140019607118652200239E10A331181A100B17C210633390911011188044203008A2002B04C104C000611440580380702814CB2301061812518E047200400042460840403011B1806000082420000502D60030129808008150810018001089658A0A0810400048C008010D906000000801806A001301283040009109200408281080C122000000900C020A00005901610090045081040024F8231A09024220C022900000001000A02922018C35416804105402000A4200400100108000208000400262084021534008000200901C805A4200080841071000C20E160E7204008210004018008001100002011143122904");
+    testSerialization(
+        0x4FE1F6B0926E6087L,
+        "023F3CE0625A6C16B21C3FEFE9032C4880263402D80816B7188241140148C03080E854445021A7402112082021C13600C410000080A0004840103000000121803010098100010101000000102814000090A8904010081021092001380A06022940202002200000080204044E04410A22210405000080A020000800020080010048400220010700088008");
+    testSerialization(
+        0x411E89C0548D7025L,
+        "023F3D77D3986900B9D83FEFC13399FD69BF8E0202A80616A5AA44B0D5A11140F090F46BABC0C18023084A020E0D08150CBCC00220308849831246880F220080E02020A108200C040000C400610A0801CC1B10800410202850203000326090110982680C04110500E92218089080840089013C4024304A0084242209088008C14010889042230210080400496000400124018806510B01D0000410800021100C0C46880612004900C018244A2036100A47000A0140304046B4A84009C4");
+    testSerialization(
+        0x87C67881C264752BL,
+        "023F3CB8D480D4B5B96A3FEFC6B77A1F6042A501028E0216AF2504268D45288C2385710E54604CC819184A1980C380012028B8C00A031200103110065A00A4090E94CA09104B048153088D00CB04120080200A528300");
+    testSerialization(
+        0xE0C7439FFC66B833L,
+        "023F3D661B4389B554813FEFD6D4C8C9E85A1304EC0616B6284842302040005080480415182102206000A060005404A0800620805000200A91C150704000428208090000449048904402900043201081208881080020008440089040100204000002409010800001000224200400A41080");
+    testSerialization(
+        0xF8F6865D75114479L,
+        "023F3D96BEE62777D5913FEFF8573FA301CA31028A0B1AD0850060AE204102100000081100CC04C0C8A5890E009A00238980005832D9201A8C008401E80020820000171920080204800129B24202901208844100008100902C240080881880010408518080040204402400489200202800240040C446204070010408400800851800400810020240002040020001080101040890002000004A042200140080040002102A00004931182088081C40004480B09010120002800201040A20102010C8204C0041100200A01420040100");
+    testSerialization(
+        0x5A7A1C9EF4BED3A4L,
+        "023F3D04EB6C6C1A7C9A3FEFE43CEC951F78A401029A0E1AD21010450C00A20E382092185407003E008826000C000E40238902A8002881C02103210261140848228401202620000084094A52580CC41004A44211500C0C840242164040048208010061B18021A00208043240040900000400C00404C2020008080054000888021794011044420C00AD103001120104D4E0200200040408810820840003021188000241453244100008080014080100241000A4100134040A08900084240000100C0800222010500040800628809040121084008A003041450A8102204020002390080641004500201086A0120100150A80240080800103081201700064800000304504080902081008201048158204088040215090200C000100402083");
+    testSerialization(
+        0x97A31D7BA3F3601BL,
+        "023F3DD5AB2D1B0E2C143FEFC4D41BC5B4AD4B02A40D0EDB9582C93051B7848C0000660C808822964822140E0C0881902111204095018941744501206884000D00260400026853501402001040024A08A100108445440100804018202440019805120005A20048885040040A03200100040200440420001008440105140080000200101028040500812000400410120500015005680024200001059001200012000102004420110001180281080000100024800014");
+    testSerialization(
+        0x38BE00C4F09DD94AL,
+        "023F3DB2903AF8ED17EE3FEEBBED90390B7E1E02FA0616A280C03090A0100000042C02040880400121080000B212088250101248044844081002000100C058000820A4220182200026002028010000020A1050000810419082040040C0801020428000600C0141002008043000A200120280");
+    testSerialization(
+        0x346AD2CC94A5F034L,
+        "023F3E6F94ED67DF9AE93FEFDB00BB4C5E832F02820716B09854220461000610044C1C80650022090810610029191402044082000A88100100100880902200C004C13210C801000408802020100040C22A10420E1000004001080422A00800000285081000211100020488440010C00000010100208000A080140013");
+    testSerialization(
+        0x37C0B84A93409C76L, "022F3F12940C6CF69E613FE9B27487EB0FE0EE010204D062CB91EEE4");
+    testSerialization(
+        0x85321AE2556E77E6L,
+        "023F3CD246A44F08F9673FEF1B07870FA6B64B02C20A1ACF0C58018000A7909DC0060270851C4417090DA98990DB9CB6C906B01600804B2216D2A080081084D8243689201A120009100B30980B2110406082001800800C0460289002259000801008102444215826604010400000C125B2400403D08808A10304000400944031324C1008C4A0000128E00080240500801448420082800501020F42011240501000002A140000010A0022041CD3042021020042A208401213001040210408004404C100C00020B200801080000400000040C900002808800A060A000040C04006400004008140");
+    testSerialization(
+        0xFD68EABCCCAEBE27L,
+        "023F3D9C86010895B05C3FECDB8E31664E191D02FA0A129E7680A8404202060C050020288804834090001421000000490809040100A020080604048850250000020084000800101000000100494800218088410108009010100084000001000110080408008011042102000044004C00180002100060000C000100023000068800120080");
+    testSerialization(
+        0x884BF3D04676A4ABL,
+        "023F3D7CB357E5D7464B3FEFEDC3E5F8B336C00102DC081AD23D884180082810402B0A10B209004505400851ADE4478496D208471E8325218000401646071460AA03000448C0A48001409A02900848041B309243280608406186A90823005A0A01008910408818022C0020D4140F6024E0810000D19110005A030513116400006000800090008804884020CF0128500205060020080004127C2A908900800204001024408021018C028404A003098312000400241C40060521001A2020980510045002006002000081A044A08880A80101105D19020290");
+    testSerialization(
+        0x37033FBBBFA4F3D1L,
+        "023F3DF515D11F464B9F3FEF951651AF1414A20102A20516AAC110C510400808049433C605247D0814CC8203C20B618081D9014910A011012500330602601014E1D0A47C0108A1018008000108841280105950462082040D10402800C8A17AA00200110484F220061900012444404C00005910000100300A021940D64A0009816920000005285422CC24600000344008094860");
+    testSerialization(
+        0x6D9618799F4069EBL,
+        "023F3E33DBB34B50D6CF3FEDB59F235F06254002F40516B7092097082220460298AD9651621040010AE00900AC014020140C4020008106044C0813016084201008004611150200008310210404282020883004000AA08988A8220804C19110800200140002A000814080410A80212040");
+    testSerialization(
+        0xDCC8E19CAC586312L,
+        "02FF3D0AF3B867B456B73FEF88F27100BD9B9B0202024C1EFDA90F14DD78136244923C2019E13951A24C318D08D00A08A08106CC3310C4");
+    testSerialization(
+        0xF74FCB0D4440F5CAL,
+        "023F3CD5CACB1DA34A553FEFEC0173033646870102980E16AE0A51218CC20A4292082D221E6330110D840DA08204E4301C4490D839160C2100400018D860829060C01800000847120A54A1480C58000A0408011C0501200010002444460143080A409A5100040060204064B10910001000240000C0148000C62A81004004CD020201901140208A0440012C00000891000404C2003084910440086D29112140020260080208040096952009000043812081400412488181010040800001240028C002102114212020008C440000100680000200020C00202006112102200012200400200280000840010082220E");
+    testSerialization(
+        0x46C22150C79B6472L,
+        "023F3D332D5B02CE1FFC3FEF963E9F7894EB6602C0081EE72216100C401007C0890C10486174420A26011CC3214C208601499408B0008B98C1221100253936060866401004220042A0CC868A4D009ED8A4829400A22B4010010803416084012CA202A853508509240C0A00326101943000520102C20002282012190191080082032402042000405206A21B08880C0281910000800A00200140317410083030840054009A00001214000300800002804064004100015308010090419201201251A1A000415025008C4222CE2C2401001214003802020003025C25850801040C14");
+    testSerialization(
+        0x837385FA72881C4BL,
+        "023F3E018C57F6D598A03FEF8D2A289CEDA93702840A1ACF9841A84200200E20418210D1CC906C448D10408DC0012E800B00A902C240849A323480C7000640042015D800088328B0080009806006420000088910410341824800280088A12189014201C8610811100A0002040000184A82400808841501050080000920081101142A0000048A00140110000001A11840450000000910080000884010050224004005080049014422204400209008020880500C5020800011040644");
+    testSerialization(
+        0x8584F1BFEF1560A2L,
+        "023F3E43F783FE38AD033FEC998365C69DD6170680051294642000020004000C8022008002090E800A0090842232065004122001800121062000240014901202001090210002080081400020010464008040120040");
+    testSerialization(
+        0xC0FC22422AA0E91AL,
+        "023F3E3CC0F4088F26783FEFB7009EDE4EC409F4080408F8040C05018181A05028140633108480409108641A01188540A3D1C87402A128B954BBDCAAD46A");
+    testSerialization(
+        0xA9B3DD575F03509EL,
+        "023F3D79CB1445ED685A3FEFB74A3DADB9E0C3010286051ACD1628855E48260631821428131DEC9CDC80D06001C11930114425349D0F04596C2862C0400205000626C006A20830065721A598634092C000041660A0485000C00C554844000821808A88024148A000097C182220042A20420093048044408002C0C09028720882C450605841898942288064804D20C502582013810A03C0");
+    testSerialization(
+        0xC431DC0506C5FD40L,
+        "023F3DD1EE1480451B483FEFF55948F521826D02820E1AD28403839410058410C006108CE040041708D5920140068D21B243C007002116092C021C2440D84339806414590D12A804909A1083D4806110014C04600A560415454280A8301021C40A080024984100541002C208220024100144008200085024B4110922028010A00509228008D200004104404C4001580422040A04100011002202212000100603014010A00100A9000321444444088001900020B02004014808212400220046B0C4C4381060924908840000020800118004400003000560010080B000200000201221024080080141004030");
+    testSerialization(
+        0x5932E97F6E1CC269L,
+        "023F3DDBDBD21DB67F113FEFD81859C0725BAD0102880C16BCD96407410109123008EF62B040F84502288088012A2BA5B8401201101410616936488881148580D10206100083DE08205002000348902040A24864004A0060484C10000C240605F20A04340426AC00C520048280886085130002924C4080830014011410C24BA224880A1401810112A328A22184051104E20208008568020050D0000D02504001424AC303008C000004122009168824082800008025020082008A0010041280C0008208100440401020420860000000A1242244460C04025030008C0041109D0000500080420001484040020209274110808D23601254830850804011800900020010010332");
+    testSerialization(
+        0x87F16FE382AF66FBL,
+        "023F3DC9F6782D6EDA003FEF82DE552161E67502FE0516AC405A3099430001878C6C2028816C810608240B08000290884200404009431411084282222074020001044A00448480000C928140280190816002015404010C808320800E010400422820400000C4848680A096101041180402C0050A0A48052001489000200800C544012A1400109C1004050042508C4000145400040483000041840008");
+    testSerialization(
+        0x727C9B4AF143BE26L,
+        "023F3D3619A06A7ACBCC3FEF6F3D5C327C915302F60C16BB190E3B044508442384914C9460408850504D190AC028BE4B00400449080029440000424002C4608202012010000829824DD010104882204028000400190000800110005400400800900095400810023000050058222A00840055800020122800A0400A0082640050060812020000000C4002010008800008010100001820002110006446124000000902122422260004B0009080C2002040480888012000402010800802000100A00018848400000408610408401020900401001222");
+    testSerialization(
+        0xEE1EDF831F78D9A5L,
+        "023F3E3303293629AC1B3FEEB9AAB881719B17BA0D0210B2020101C040B03034081400804240700848020208850222101008021101004220240804421138809021108888664408804C21100884620100904828100904080100884229109144043100805625108BC4040120804025108845A221292C862B118947226108A48222100D44E20118B46831118A0682A180AC622F108A0502311908402529098402D248BC6423208885424200884024100BC443A1D0984A2C1C0C054301");
+    testSerialization(
+        0x3E4781DECD15EDB2L,
+        "023F3E1B5AC6CD659A803FEFE3AD4585C80114C0070214BC09441010040940200821104011044100422188A1084820880410C0100441204232048208422085E110441004C118C421040448801304011092148561204C1185212054268A0140421005812050168AE1F05814044198541404E130681005C1084C10");
+    testSerialization(
+        0x746DC3C85ADFAD5DL,
+        "023F3CD9EDA22D751A383FEFEE7A7E27CE8FB40102DC011EEE09670CE858E021C1031E046801370CAA6031C128A80205860802B9AD11BD8580340029256E04AA41870AC1C01184000846C4001C3204225D0D190141B4");
+    testSerialization(
+        0xBC07C566D93D3B0CL,
+        "027F3E32B02F957CDBD13FEFDE6E3A407D7C350280071ADA0020018200A38401208C3030084A85C40504400A0D18801911000800B10808314020941013080A88004701D00284822210D014084028800449C2400045C0000080C90021098400048200832A802002601000001822000012014000A400843001C200009000001162132080800040124C00424640000041808018090080401104008000A520012010");
+    testSerialization(
+        0x7D084B07F8164964L,
+        "023F3DDAA50962216CF63FEDB6B55F7A3E3F2A02E40816A208032320A4004004004D46110880894910888700A43452500601000000244060981401004A018020400100200C0202801000010020A0902400300014808080104010110000A00988002000A0B498240400031210026A86108E0008012100490028000700401012004008880D42001000082844040A20800214");
+    testSerialization(
+        0xB22D58F7039BCA2DL,
+        "023F3D60C14D569B277B3FEF114557AD6D882602DA0E16B2DB4840A86000C414880D9200E00018057CE13C40204C000886114C0002001A84000C01180810440400020424008046008A81A4009C804020802000121000880070411100000001221521002C4400040040050242200020044000820100900061050980010032040801200400001000828E2888006040880009048021400410448203120003020050080111002000442001200040002088000044000000044020083811000121080404208054004003082A01040820240410008004");
+    testSerialization(
+        0xE7CB07E87BC0EDD4L,
+        "023F3DBD5FACCEDC516E3FEFFD917EE033E95502BE051EF3C08D02582880A0C703140C30B0B118C1C9600910445205A3872888830820A144811F46C044026B5020908820515800C2092010336098006C12486401802986C8080839690112E218DEB00000102064343044AD0078881800080120021A01A0040064902004220029013001509BA024012501D41002080280311051");
+    testSerialization(
+        0x6C77ECA6861547B6L,
+        "023F3D98A3EAA1DC645C3FEFFCF810EA54D53C028A0F16B3B2CA21210309C624A04D1001251215058002C420C12431400034806C04410E0200848010005010CE286201065000406000002610010880240020004000828900864410111008080301403028040910241000C824149864080100004140084012018101003420048410A8C020100120020A8011008100020408100020002400610A200840902404000108E040100C000240060000090020104080101080004400100000400A000016002218041100C2001110040210000051A09040000000220006100010004250");
+    testSerialization(
+        0x0D1D5D7C52BC8711L,
+        "023F3D7E7AB6C58F4F493FEFD53B93D97BA97C02A2091ADB2A3A430010200810418A787308480444411CD0460300488999382998B28B138A3270284238406022E0622104A08040C400040010A084E0030080A820068074A2018804010800440211904084205805A00425014428003008E00C10800F021A84024002004240445094448C08A2C8161A0001108C002C28400144D4140080A0CB0004001000188090480080024542C440400000240C400000A2080509020000A0020000128314A050441210A40000021504840048B08810070684C8082401080442420260");
+    testSerialization(
+        0x629989F8D1F81E31L,
+        "023F3DFA86A11E5C1AC73FEFFA6FE30743477E02DA051ADE8810520C00630005610E30B14B09AD000041E4420961812020908800B0D9011BE80006100460090008C07410432090186486500080224252900B5022028A88484644112C200022202182015480808188808001401000028913001C1000D000520E0A006549A90000420028650110040008902060800900C0");
+    testSerialization(
+        0x9C9104F9F18C3EA9L,
+        "023F3D19CFF58644689C3FEFFCFDE5B9A2845302FC0E1ACAEC58EDAE01E414004104101181402404D0CEE0468042098210082700202141051220100252183607260452460107084000101D0085548884A0032002190C25804824A6AC8C020C001000012A0D8A33B0414480AD00560120204AA002829520044CF382E80594D628480800007400E03EA0494603028E2AC00A8088008291002000112482620000440000080050425508028600201408124280884100121800848201011A156000002090210E140000800101000000032D0000001282426124884302105200454281149408200040008C4020044840428440900040200810A202000000518A000005000880011022044000000044205281000221281140020804289080400100400088100040");
+    testSerialization(
+        0x623DE3A3E2C8DB6AL,
+        "023F3DE75324DFBE32903FEF678384479444F901026C1EE1ACAD0C1801036001832E141020140F408040C44422C0E0060040022E01181080AD8D");
+    testSerialization(
+        0xDC773DDE986BF477L,
+        "023F3CF27E4F19471C5A3FEFEB67572D7CFAC40102C0031EF22A84243880800488810A142090546D3AD300006C008A001285E20808001821805680B22825113266960906644ACA131C50C485C02C18D418C5304A2532C320C2078780E86402310C3033700100084E40D48C05A2040002002823530225068950300040809440104080");
+    testSerialization(
+        0xBD2E9C167CAFEB81L,
+        "02BF3DC13ADB65EF46293FEFCE52F5D9DDC2DC0102A0021EF603A6922411510CD7842E2C00104C09D5C4C59206A0E300C6388C21004C43500AA3124002040090421759270459000AD804922024C85880A843CC800B2150E45F34406C008822189A80");
+    testSerialization(
+        0x93E98BB4BDAF7D2FL,
+        "023F3DCF97A3A3C5A8553FEF9E7DB32DE938A00104E20A16AB696491B126286A5102304CC58EC0408D44E1146DEC36494060130505102127452C80D92430C0C0860B0C00DA23936310000C0000110024003A0140A800812D0048800018858301110809082400041806010010C25002811102311920104000950244000800500A88E20804342945088001022800800203801E860000091020D28002001090084A2028004C14C00000018103000800B0250000080084000058C080008524480C2184584468D000898A0001092012180310801284308424485950000108910300480008004B00001010802480");
+    testSerialization(
+        0xE3BBF095EB27C934L,
+        "027F3CEDE4B639A8C2413FEFEB2AEB60671CA70102B8061EF14C07204C68632581000808F800F0289BC294D048399269110B8800D0388B3E4BA8B01004C840A4046C06040360E00812982C021804105DE802CC01023008130200306080090584610CAA012480C8058A084430C18C2A145106168C41040200868241A21810419604232434481080086282030000890CC00104100809802800868808A410009804041C0082C52C0200208051A40222025005E0144A03C0F028E04104");
+    testSerialization(
+        0x6D097323257200B8L,
+        "023F3D36A9A0355C98DC3FEFB2F14A713A0BE904021C1D44D920C6480D26E87400608C00");
+    testSerialization(
+        0x251344100094D5BDL,
+        "023F3C666462629DF1823FEFE6F181C9F9FDFD0102B60416B1B9A8F3BD35B842238A540200CA11804A240C1101D8904542EF014375024130060A1126A14535214005000802048C00D6909D84900A6A4403A23CC382000064620080A0D988411D19418142849080204110101115A1012006992450480012D080A24B2414104EA0288330A452EE800164B0802C221288040020");
+    testSerialization(
+        0x796A9A3A7EFA44F9L,
+        "023F3DE2D57A50F79EF83FEF32C4AF45B10D2C02DC0A1AD00050230020C00E086090000D5498450A48010D023124380000100309082402000000001004420890401040824980000128914809401411020420041221950280000C7A000C2102108440204822400008301016010C00000812020480242028400C1080001201000124000614008002201100020408221402438088102A000020003080008208102002420040819000000401000822100900200040C002");
+    testSerialization(
+        0x0574B95F270580F5L,
+        "023F3D6135F9FC5305353FEFFA68D9D9C8C21702800D1EF7EFA3322478612180030E10280055E340C451040A914821068A4610C2121400004200C322411500441A13064A2000686A2CC02608C034B19911028A0C541B00088001A4096582006982202BD4026301A209205008042020B321C452048028828146131A20104100D80205704104610A00A682000B004083091024800430040802002014800304009D8401011804A20004050B228041288040408001228B50622F0518008820242238110400012090C000100814904A40624250303020402811200500C11024C0500084808B400080E020450E1A0240008000400849802A0C000030E684A003004012C0589010101810080020C24240050020440800060081000000902010000210");
+    testSerialization(
+        0x66D33F1DF5679A9EL,
+        "023F3D820E51AFC297863FEFD754FD83F1565902B60916B3D9985220A5128C00042B15A2ABA5A04090B88A004001B011010120201426249400C804181040005C01100000900B26004800800D4080A108283140E10100882001214400048488A00D00494010022280410209403000202A00000401000102001408240040000079000A0E0280430000400008006400208100102A0453A000884A000905402200048001000040441000C210004848");
+    testSerialization(
+        0xCF88D42B147F84B6L,
+        "023F3D7A3D692C344AEC3FEEE08A09B36824930102BA0216A38C10F1824401821080F10CCC02484098410205008A018888A1B8B069430E00A09A1006200040100C441040C034108880001800018820000A2405AB106C02C80B028DAF0200004008");
+    testSerialization(
+        0x788C5AA345550FBEL,
+        "023F3D5645D4F82E6AA13FEFFBB77B2D6B3B800102A40B1EF1818C086820C141C59104040060AED828C056E0EE08830001B00905A0C32002240106336B164D47B4616822D884014600202089188088909003C4020121206101091468110C208880280290004910008934C0B00000001001010211F084406000112310264121C8842400020022422188241250052A04048022804526042200040880001441982580082403029C0105442A088812050000D205A00080000200208304401410000A600200030944400010808C040020010041024020021111A20530802411008890DB001200004209422C08008E060008920840814021064035240202062250");
+    testSerialization(
+        0xF9528BD16BF49967L,
+        "027F3D397AD0E7503D3C3FEFF92852F0BDCA7802AE091ADB88A102961000110A02002070C4008414D04382C24080880014080080B610011048E40741200CC10102C03614D800149A43004028A00B20C201281211580040482A0410224500802408211852C404020064888907184054220C800A80401801400831802806700001429082002211000004081A020041029090202022004011084000804004C000880024A000014400021000490A09802200000640406081022801080800C420924204A09002006480");
+    testSerialization(
+        0x2BC05D39DF37BCB4L,
+        "02FF3D1AAE37F723F1E93FEFFF12358F6E3E810308023C1EF11F180F60498640EA0E0830D82175403A48C10005310B60");
+    testSerialization(
+        0x482D0B3D163ED0B0L,
+        "023F3CD9BBDA0B7AB5123FEFEAD04013B60D7502F20716B318DA5B066A3842619530480E0044550950016C26A218300020910A4014E9124200E1058291048012D000700A104460244818420A0C8080008E00012AC9B020214550702412812808D0088040028092006A02020300C612401A800805240080232C000414022880804102400E010200180050611A1100000004219480009701C2011062080E01491280");
+    testSerialization(
+        0x723A1422D1D8BB4BL,
+        "023F3D35321B0B4B5D593FEFE5BADF00D0282C029A0E16AB98421C85E1000023048D9ED800300801D0D20016100010D80410DB00A8D01004110480D60020010B08030000840004708100B002001820220C02CD000208000210620028810044601000100000080100080082001582120120496010100000A100022106C40048A000A00000080200804820100010A202400011802402040C510000A021100024000003004100010010382084040088901080052000000040400C8000240000C000034000094009028850000008");
+    testSerialization(
+        0xB8E383B2A247046EL,
+        "02FF3C93598CB29D4EF43FEFFDB3F31E01E1BA020002C6031AC8CF50A780116D84B9008833320416DC50206A40023A508B81885855114524022A12116C12182422002182280025414100800086000800021800344100B1130180039C20906510810102A18C36006882348D960F4A2001004000708110230106040039A408C821910080001A30");
+    testSerialization(
+        0xE058D00556F1C9BAL,
+        "023F3DF64E07D6C05AEE3FEE0C63C5DFE16F4702EC04126894384442C8300800688D800400058408041A020020C2F44405880C6002904060004A621A420100104830028005282082012000000494000A01086000494680200104200080A11140");
+    testSerialization(
+        0x8E1BF5F814A71773L,
+        "023F3DC34E15A06FDB3F3FEF82742B0881142F02B60B1AC58FB98586108086682082311423104C72D000180130013B634A80B20868000890842E284EA11C80000600400008948C8A000B08A202001C01490102A0481505C1010006AB942019542004008400004D049008040402048300024239809809C54010050A3004A91400022410444810000804012082400010802401392280218024000080040201002080080000421202880442200108254A60200345004412000000402408110245000020200024042100021800020C004948");
+    testSerialization(
+        0xCFA324B6B410A09EL,
+        "023F3CEAC5813369F0393FEF99574552B4567E02F20C16A45F41040C8110C2520030C02110DF8505C9410B9D582BB2722C22880096880052412020E0280603008019002441840023019200001684421882000C0C0000904A0139000080A24001001424000B10C000004102021800220000504208100351600060010218280481821100904000184412344080014002088532001080104082062025E08148202000A190000084000100029005000250103A022100103085A8000011C9208001009C04048000400040015000000E0280004000284024C00100A0100012180410000808604001004C208204020080801008");
+    testSerialization(
+        0xE7A6A8B9B1D6F825L,
+        "023F3DB2012F59097DCE3FEFC659370F288AA90102A0041ACAF070E3C632A188994002A8711500422553644842000890F19890920030608182A142A810226002A0400822822102305800A11110304384800000C8824A8A90040EA60901800809A30028124E04B24C0010402807000106012618C0809400000020818008004000000210054F40301C60");
+    testSerialization(
+        0xDEE3DD829C785122L,
+        "023F3DBD7D0284B361FD3FEF6EDB935870443B0288091AD7B6186788002012080300302C40494021012DA0214843003CA17B518074036012309C40020019011C0302008300800500A60027900841016480984125410100650882080080101490105900200A000008454000000C042A60848511005408100000800000190907020400084030340881010014808011A8220080840020011880000000000200008001200804880108000040209414004424");
+    testSerialization(
+        0x8CC46C7B2DC71816L,
+        "023F3E57F540EB70E5863FEEC0A6B0030B120F02B404128C612006660244000C03024030092120400022905044400080004540503001220204244000480010080080201040004800100200400821100481");
+    testSerialization(
+        0x8CEA94E76C46AEF9L,
+        "023F3D359085E36D69653FEEB7A8EE264AC43B023E16B442000018E3020243080E600809D42080");
+    testSerialization(
+        0x251CE4434C45744BL,
+        "023F3DC5939DE6DF81E03FEFC163F11975DD4502960F16A3B316F01C6109C2D380104842804480C008120899400881020800232010406404C8600880202040101C2390030004682410016408018822400C005001420000A00E200900001400600080C80011004000103002000122083042240A488028125082000A920000000A08121C0200004A804280888004001100000C08200142110260208000002012004020012001400004000404288104110442008840100806002200045200A1001004022208800108004C0402000001302440082000004010004280000804310080045004A00020003000020240");
+    testSerialization(
+        0x37C63218D737285DL,
+        "023F3D501E5C85F353AD3FEFCFB88D3C8B4F5702900D1EE6A0A52404286040C58B000C4010310184A00C8D0C01060088004001808190B088201218A8060B6118310010C048C80081141802024900001B0090192001E0468609021008400000C1061041104A0310180C9420826082801D10808E2182110000615A0080040840000E0118080600B15000004201021076800248041448201282400403012020051209020C28182008A0011421A221006020084813240A40040000404428200800110300AD00200400090502A01082884100041224000081080A50080000240411208001001402A2319044000B00098000510000842403049810A00D00100202");
+    testSerialization(
+        0x6ECBBA9366C9EAE7L,
+        "023F3D48CCEB9590E4893FEFC074E79D34AC3002A6031EF646010A3008A0608481000C18300E144900821131871A6144280236492184002284C106094C80424C68124221060216C1114560010823208008070494D1964102200100B000240208E814800900308D");
+    testSerialization(
+        0x1F60ECA81DD5BFDFL,
+        "023F3E52DC0E8F0ED3823FEE83BD3CDB06C627C8070208D00890784808082818683028082828080858287008484808085010882888306868A838C948500988E928AC89298A2A88E8A8A808CA0B4968690870B14C6BE869886B8868");
+    testSerialization(
+        0xC941DC640AAC6EDFL,
+        "023F3DF605DD03DE7B023FEE6220EF53B4EC5702D40916A4C00050100608DA11800E162921201081821D48307041210800050410100200C000026805125904C24020000A54044120480224822800240024840720441004640010202242134880014CA838024C0000040044018118000000001002420058902801001000A02401050042000050043048A02494000480030008458110004001A910A040201002048891000242001400020120488110002100");
+    testSerialization(
+        0x8521348C3570B8CEL,
+        "023F3E32CFE902CE66083FEFC88EA085A86A5802E6091283E0664622006006ACA02809000A21B601C48059083E2D062008001488A06808C0120031210091000920212004418A08C08C000100002008810020400002440E008200A40140C05100400202C000010460324803840006010109000000B00020004022920B004559152100000A800008003060880001030080041C00140A0004085000084001A0104008000108000000808104104F02002480000250124000820208");
+    testSerialization(
+        0xDD5884688F7D559BL,
+        "023F3CC6E62D713C27DC3FEFF81F345A7ED34902E0091EF04001021060C180C0850A1808012C100498100001905A04214A0030483032090095A0C02900780718040A4408808B209051201C04400C48820C104400200800AE082020000015810812886009100C2010D20404C040480202086800060448A80290200230008800C0000C80810B0021040808000150C0C020504001220022804060000C08020410418040A0900249508100008108150002008480006104080028");
+    testSerialization(
+        0x73CDB1301734B532L,
+        "023F3BD3EEF0DE3D755F3FEFFBC07CED4EC76102F40916B353941009260A064008704E80E120480C20E5E243A95000402A14A056164840C68064528849DCA31708A0082910004A2201080C8E00000000012A02B300304002204008031008412208045203100102402022B82800104D04E21420201200442000100254009280000AE211084000400001020404494002000020120000028A00400082440800003000091180020084081004020004820004841090400A090240");
+    testSerialization(
+        0xE6806AB67EF0D609L,
+        "027F3C79D49FD22327E03FEFEEF999360EE7B40102A8021AD70904640439638299020230146F500A2388470104488613B9D009830CBA18B20B41804C4217CB84124064090404D588084025C45C0220821100230690C004044360201424042168A4");
+    testSerialization(
+        0xE578108F29B376ACL,
+        "027F3E1046FCDE4F1BA53FEFBB76615530AD450288021ADF0C70A08438200431400808702DC4044444C25C020808188029511008400031010100311C225F189220580350A802003C01100000A00002004DE0");
+    testSerialization(
+        0xE007D527A1CDD0EFL,
+        "023F3DC44C31612AF7613FEFB6AF16EF6C699F0102FA061AD04C68061621208430010628326C643C9CD57025564C008280D890A980C3110216107074941820104246220A410120441854004004001D04160007820AC8514002741448202200691010B005128C18283200100A0101260850082820808050A8101E0084C048020300A249202A42600003440EC808144390018008840008202D011080347A09A080801054B41806000000800164384C8000000C0000008100010600000C21148014");
+    testSerialization(
+        0x4BE4D8E87F485EA2L,
+        "023F3E790FBC92CCD35C3FECAB82D20E3B7D00AC02020CBC243028086804C40CA9A5840604440408C7A4E52624");
+    testSerialization(
+        0x61D8BF6F49FC4B8FL,
+        "023F3DB7697394CDF4DA3FEFE8A2AAA3E2779101028A0816AB50C8420594010803845049A440104504C80194822A24002132E000B85B2D161B269242201090004304190012440086C4000081200001010021648C2209C0000801A210000009102801230004010008208150500090020040034002008080016000862000800910C40000816114110280008540810108208B04880020100048241A28844101086202009102020888420210290084020001048031");
+    testSerialization(
+        0x022954A8EF14A0DDL,
+        "023F3D8736E59A9707783FEFC2C1B1DC37874902BE0216AAB030520D01204401CC901D2C54C85C40C8C20381091890294013411240217B00021416400A800044969A06E0151840A40100026AC0392010401A1E820A940000E0");
+    testSerialization(
+        0xA275EFC0A1D126E2L,
+        "023F3E2172EB320576EE3FECDBF4325D65FC08B40B0210F00080201300A00C088030420C40083300E00401012022044208230C204410891042184108321423C418A210826C4188A1022108388F10A2104108312220C4A89210021C498851062004209E10622447089110220488861722505489013850C4788011E2");
+    testSerialization(
+        0x6DBEA4387C63DE00L,
+        "023F3DC65D52390727583FEFB18CE769824DB40102DE041EF0C2010C004886E2821C10001030344C0716300420084090CAC0452008F09802084602C0120852051500037502A4A3030080D0015A48844058643440007A83800A884082016061080C848C48052A010180100480800223143210B6082C84C01420C144400004925D3404480C72230450004020896200192020106E04592800000110232822");
+    testSerialization(
+        0xCE231F385BFC13FFL,
+        "023F3DA10CF6B9BE56173FEFB15888C0531E4602BC0A16B9FDCA000A28208242081421A0420004E3000201A984504CB54029302242140042082622002400802052CB059808048012990000238402000410086000018000080C0400808440014808428003948295A40002080A0B208800201008504000800642212B06000013580204808084000010004000094D002100044084A4102040090022810243300A0150280866040889012090800004A880004048010C60810212040110");
+    testSerialization(
+        0x164A0D1CB428ED73L,
+        "027F3D8D2514377913193FEFDB0933DF3D73EC0102EC041AC2E6B05D0AA161821887120053C9D178EC014C040A001BB0009B9E19993A1B6E40B00B098208204168064021002006044408CA205824CC410200DBC9301A2D28436008022490880DB050460280015811101E2095AA0046140502036002E80000840414D2CD98380300012A200012681018443013E85610006D0942001A30CC04");
+    testSerialization(
+        0x724B262CC9B0CCE0L,
+        "023F3C9D36B61912FC293FEF7FE32C299971800102D0021EF982042C38181300858014200010B46B3910A923010088608D829868164314CE701200025168810910040A6A6201460AC000C2C324825840800842820BC856820C24506ED09910104B0A27001941068180");
+    testSerialization(0x72EF15700D43125EL, "02F33E437D7B740D63643FEF616F5034B23B910114");
+    testSerialization(
+        0x8DB42E556F8E4E23L,
+        "023F3DC16805F0DA01713FEFADCFFB878BFD3802BA04128BD266E20206A6042808610261900300580320B00110A20A00164500810000108001002410001800421D180150200089800004010000882910024400202A8C401208C202100220002410061460");
+    testSerialization(
+        0x114E5800BCB0EB57L,
+        "023F3DC5AABC67FF68EC3FEFF0A22211D31C7802D4081AC0C5012C8EE100209261980871184900044990284250040009400018224501B0211302263108400028020560206E904260409964820008134320C260600619530082A0AC1041608611818058482001802050111897420820002000800C651012A018206A0465C000710000011010050048A802211308003649002018112280000124D200000212400008004020002B891D000501008003A520400601940210200844091080940002000400024A882040884200C001128028");
+    testSerialization(
+        0x1BACCD8649159EA0L,
+        "023F3D3BC004D0C3BDEB3FEF0721ADCAA2089E0102DA06168E2A500AC5BA2B2AF405000C1200200800234580A28830914A3C0900154908442ACA0064D0040250A18252890280A252018051400B04808862100005390808882014030CC41000820494C008005200C080020401048348AA044C8800804050880320022210040C2980008004400088056250C00085280006642148080820");
+    testSerialization(
+        0x08EF141323BB9983L,
+        "023F3D93F178C2D058253FEFF9A89DB3537CBA0102F20A1AC58C28429400309E20C70848B14105880088311C1182C16A804109C1144746D20020026709C000000C50B404A09A9A2492502460432008101D0031488080068DB20A240003A19103000642083010087280001492085A0048101004120002555200486406100402040C054004A000010880A005A90440058481080082C002060108905000488009BA4020008809140011C0012493000028400604050828008294800004484181888631B0852001002420C01310005050480221010035254800044021240A00001008");
+    testSerialization(
+        0x45E66ACFA546E323L,
+        "023F3E8682538999DB713FEFDE9ACD00FC842102D80316B090521080C12804108CCDA2000480052D48AA2B16A0550805848E10018059455200223002400020202600085400200109800808218400000280848C00300014002488");
+    testSerialization(
+        0x9F4FA27F9F1078C1L,
+        "023F3CDBD1048C7D0CC43FEFF4BD2507CEC6C40102F60A1AC74410471489648A3062829115B532C02A10201A9A81820180300089001368B61D110A090D09C026400101002001140C440244889504128A612483C4220D60040A6CA35024200A2C002400421081910910828001100204E00880208825040D0C4A0321804600804065800C00B3002C0010000080812108322EA84055180400A038189114144210014280E2000480274223C004090412118100000048300000001010048C8000008102008110A81837220C08000148082C408C200C64904801826021B0480524020000040843200294004230180508410080824080414141006000246810800F1506");
+    testSerialization(
+        0x1813A8797471D96FL,
+        "023F3D575499F0140F8E3FEFFFD22BC879332802A0091AC65600C10408C102000008004D0A2124C48801AA8044904020B20004000480060820001C041080284630100800289103116000008000002C000800420001048A1820200111212608000A4000027166480091000422804401001010028010621008810210090000406000200800841001000203281840000100562C0004110080820400000024");
+    testSerialization(
+        0x0CC07FE5F3B35662L,
+        "023F3DD35E0BA66846803FEFF595E8C791200902FE0E1AC2C2386180080200000080182639402010701844009004288000C004084241006034000560808431140112C028404288400200000020240000808118010202004040080011080020080400A42008000002008040100C0141001020940400101010030040480008880000C000162080808000000886110844200804800080240220004040080101002030000420008040900620");
+    testSerialization(
+        0x63A020E47FB24565L,
+        "023F3D9829A13BD421F33FEFE0E9196861D43102B60512844445E8042402262DA0D084020009A000640210E520510F440400406002682C10000030811B51208108004040810010400218010400000004108202010200100600200020800890600200084008");
+    testSerialization(
+        0xF96F05AE32E0C9E0L,
+        "023F3DDA4F41A1B3BE2D3FEFFD51F1FF310F4002EA09128E3EE467A02466025280C08000500C5001A01C202048102055A121140900D0A8B01100041B1000481000420015462040204B050800248504E60C9B0904424048204402024440000238408880800001010000021138120002420008300100042024080104021080C790408443008008692010240A08890A004200060228400020010800C00004020010000148");
+    testSerialization(
+        0x1707F82F05D53CFCL,
+        "023F3C973E4BC033CAD73FEFD5BCCF472CDAC80102F2081ADC02AAA44C12A2845121003851EE08A090DCA2DE86038180A64200800BB05A644F1011068D64BA011880C868D3080186D233008D9B00015500D0415BCC00902E045B00024301A30164020018B2CC0C00C024D4429901708002000418200A080090030300A84D04026010100C01000C840206000005A408280A002030D82102C800C4A0260820A210044659800041011202210003C4508708C868304A5591500009222401001484000004009400A000102283030240060004402AC4880800410490E0A6245254");
+    testSerialization(
+        0x23DAD613EA451125L,
+        "023F3DAA941D4F5EB0843FEF9281F34FA4F97002CE031AD79E30440410600210E68008921C0CD050C908450E0425900800099000B04B0400D4288890640082020408430440440040245804D30000CA8A4100431050D0C8888C10C0240404019688045089843240009122401430002080A801010C5010A0");
+    testSerialization(
+        0xA80565133DFDA532L,
+        "023F3DA2215C74E9B4673FEFB8B06A4E7A9BB40102C80E1ACB8054218E602326694C8408F2C4D96C0D4D4049C1B9424D161E8C50016300022284030087465920BAC02810C944060100529E15421009908A0A01CB024004008A2D5090F430D02483B538210400010004C8080802840C45091208820C8B020009280240430210A00C144268801441000A42A0301020000270060C20000A0000812400800940AA114546904001800A884084000580042892C00820541008044200E220800002080C0452003084502041090002101101304802301910020000842000C090881140004A410215002000500308208850000081028200BA101154800080844421101208020101802800062501000020B018405300A6813208401200108081A200400000400C800102000A0088");
+    testSerialization(
+        0x0F735E48EAFBB170L,
+        "023F3D6CF2144CBD9D723FEFDB94FABB91297F04E4051EEBE2090A001032A3410302081000748004C824884C09D080892A91C31132094D42780C0610AC3028400CE8000219348450B040E0032094108D004A60A0114680488A00590001908500021001A410040476008020C00080423D102128200A580004102C0025302120082120A6101400340100A98860081840004080905280");
+    testSerialization(
+        0x99C727908BB16CEFL,
+        "023F3DB2B14BA13E4F5B3FEFFCB9A2D58CA78A0102AE0F1EF40312340C280020C081020810706FE8456C64024D96052080A025C120301400A2015116012016020A949C06005010004C000A31801050500300A80C00002A96000100240080A1164021260B0088030080940204015A6090C11C801225400018600290000009880060400100A000242462004914020A8104922000000A0859881142080201041D30A58429000400040003000241411020840001000A30C08890200441082001822000004124800A2010800C0104100202100100470800009045000120422111804144884204024006900800030110022200248001000808042020001443040040011000221009000140000060088005001010840211008061");
+    testSerialization(
+        0x4202396F1F0168F9L,
+        "023F3DC0E27EF8398E3E3FEFDCB7E31FC11A1D02BC0716BE900637104100C42000324008994004C8C40D90546AC40000A10A0708540A00226280640022501C000812140C0300420083000A0000100128008040910022204880100020128004400103002C00846C20824002200248008C41820011800028210084600200464123");
+    testSerialization(
+        0xB45F78B4229BD1D4L,
+        "023F3DCDBB34F088DA793FEE9CBA42A935461702F8071294E94CCC20A022600C0A20011001010962260415F18280000C1001040022000481E08402110403008050080C050040040000848A0080109300040002001040200D00512000200304200084001400830000800420000820011090");
+    testSerialization(
+        0x11FA5C77D2EC3D36L,
+        "023F3DF4D3EE5316CEEB3FEF95918A84F5762802A4031AC916D9A19D1A0220398102108D0CE75C26B801855809700AB13EC16C44481506190010010540811A5012580C830020360BA4002068000865C0002032100C0000000108092400200426084054440080040A70");
+    testSerialization(
+        0x769E0B9804231249L,
+        "023F3D414BA61EDE1F903FEFC9B8F79D731A720292041EF7481D0A1C080162C209160050A0D04404C447044204060B98182C08118821324048969822164000AE6B840290088000580080F1299003241070000208488021818CB08100280105800414801201A5684106058580C32AA40500015209C86C9310180004020B4000E8");
+    testSerialization(
+        0x660C53D496673A1BL,
+        "023F3DD747060CD5373F3FEFE40421A5C3F07002E6041EF1008220600830004112040C3000B1060089000489846223988B2EA208092336D26CE2006A17130180290012C00407412000E40880000018182083000050008205468180802C8008208A014A0000815008910800300304A280444600000000C000C1100008001011000A52024140114242004502281440040D080980029E");
+    testSerialization(
+        0xAFCF178E54A301CAL,
+        "02BF3D82BD8164CBD7C03FEFF2892AA5DC2B4202CA021EFE4A207F2850D002100E144C604091288032805C199D0611DA1AC829C08909CB20500442414023180042C80461C0E463000858940C000294642009128900911B0B15901A0036C17821E8209A016C41818D90C2812640");
+    testSerialization(
+        0x9C0AFD39093E8F96L,
+        "023F3DE716F08BFAE2503FEF485D2EAF76D311F804020CC8040B0103022010912442390494462392C888B203248E4142140BC4460120848750119044924915064F26A2C8C4");
+    testSerialization(
+        0x908D0D578ED43EF9L,
+        "02BF3DB4FDED090F260D3FEFFEBCCFE60974C90102B0051AC5903A338610641800420088500244C1E951451C160009490A8808B013B02801350248446365004AD101828020882008209D388080110B24A0402D084B6000422600100849850801422882882C04D4641609801290000060405504002202960505044500808009C5000001100200032000295504044006006040");
+    testSerialization(
+        0xB2D55CA50120AF2FL,
+        "023F3E6C5130492F12EC3FEECE9E4FEC64F40BF6090C08E8081A03048641A050E8340222148946A221E81852311C894021D068245211028C94A790A915420158C54EAC5035A4");
+    testSerialization(
+        0x719A1243C5F0F01CL,
+        "023F3E0401F8E1D2FE393FEF26069D7BFF0D410284081AD49408810829038208200A188C267904C0580980482C80D01029105D140400608020E1099008041012183000015109408000420C80112002108100208900A2C1408043407A809011440F8001810238100800409401000026009090248010000080080500102C00080A008410004108020205120168008200200000003400840008810008000A230028");
+    testSerialization(
+        0x6D47D58787762DAAL,
+        "027F3CC41EA73A02FCDB3FEFFC47F8EE5C32F201028A041AD44CA82C8628C3981BCB9612546859903106040880238A2308D018114BA61953006B00102084B0390808EE22022220A4966108404020C4004CD068E001100008020204010300206802148170B5922832DD2C084220200009900E041240A0A10611218584A94080CB44940DA4965250A80C8304308C01248023");
+    testSerialization(0x6297B8952C461E42L, "02073F2968B550896E773FD577A857C269B552");
+    testSerialization(
+        0xD2D086DF780AE135L,
+        "023F3D6C0A86702EFBD93FEFFA0BF7A85E5F650286071AC4EA70E20808621E0985061810C12800840704084D9315A4030205A28A204A06002854324591000002D041008088582000200636421648855041E0004A0D00481012410104628C0120A405000412180288811820011000264009086528A4085C0400050040C00020D100041401820008810080C05000042812700411004000081004EE59029800803204400000008240");
+    testSerialization(
+        0x7BD13CC462D3554DL,
+        "023F3DAD06D01D27FDEB3FEFD95A4FEF3A21830102F80E1ACC8B78158229600279231A00F4860086B88C6212063081C0C0E0339C10C420A40000142145664306021D2410D0202CA384A160100C2009A8009803001001E08001800000020020026528245140719410208001C1B00B863000002462868800C008150020C0120C8A824B0C22590402046400002024292C0008408A094510020047200424200402000886840049A914C80A805A000020014002B31004531500002C6432080A2010002400400C0080244005106B08A602400003314840800208304A00052008021025010C10422000490858201408240A020070000039508420C92198028810128310524096504001400101422118048040800A20108001131002480092802000120021122062000000000021000A001020244020");
+    testSerialization(
+        0x00DB3BA099AA1369L,
+        "023F3CEFAC308F09637F3FEE0DCFD2A277867C022E1412A8D678C322000E09003208680840");
+    testSerialization(
+        0xC200081F4E9B7B59L,
+        "023F3CEA6FDA7FC21CE73FEFCED8AAB957BE5602D40B1ACFF2348228490434484082111522339442E560080E100A80401002014861015E08B46B06005D6D16510042C02CA0CA19D04629061C80100009100C74021101831020126400A80910010E021040204901A00104444800307120349010858A00F2088210010410050A20125059640052AA020828A200B100B8199088440001A000E80002912000100000040B042048400160303269601A01352902B8112050000C1429008940440A8C829A02165100408888204840300104888C20430044C494D00028C120020800401400003002105940216000000600400C000104084020C400281101000200026114480A");
+    testSerialization(
+        0xCD8C3C4DC9D46EC5L,
+        "023F3DA6A1B3145045A63FEF7A1FB2A6AE472F02820516A4910673258403C4520471C5478128108C8101908020081020A349D440486212800040020200C950029200301064A288028202C0405008940005004504060CA821000048044000000880610001102180020100904800288045041102410800200B00000500");
+    testSerialization(
+        0x886ED83DAF72174FL,
+        "023F3DD3486E0B7DB4023FEFD8FAC37A585BA90102B0041AD192A24E7E28410028840C309245C48480AE8141C21820D040802C0883B258002AC26C26165420588010D995961A01119D40865208905B0D8051E080C861C0804014060CA2588D014001B00400144020A050900906000488812504C108101822801A0C000180800B61800C002000518E3000CC054004");
+    testSerialization(
+        0xA6DABEF5340CD668L,
+        "022F3EFE952E520EA21F3FEFD33AC7A8D07282051404F110B0935090101AB95395F0515090");
+    testSerialization(
+        0x5BB3677199C4F3E7L,
+        "023F3EF8A77965AC63F13FEC9DAE99B50216020288011298A08440226400402700008020214000200220");
+    testSerialization(
+        0x30E77F2AC5A50242L,
+        "023F3E5E1289CDF17D883FEDF8CD473B94E0118E0B020CF4040040900807008030240904419028010100900429004320A41300429124010C40104801004010280106809004190480A0445900829024010E449384410E432048C91042100491304191447118429048992C42100449024BA124721651108671304293653106409384");
+    testSerialization(
+        0xB24697CCC96D8392L,
+        "023F3E1CC5FAF3367C7F3FED3558315FB57F0686050808E8182A0D04804221D008A46231548160B050E9C52A");
+    testSerialization(
+        0x0A58CE8FEEB9B148L,
+        "023F3E13D29A783F3A033FEF04A7A776B21528028E0B129CA242A666A400400C00C80901880D022A0360A00004200484800000408811200008018A0020004480190810001024801010050000000048024A1082000004202600042030E0101880120010840000028A000101002101C41400104023000001028822000400088800910002222040C0002800844040820011105384");
+    testSerialization(
+        0x7E0DD569EDE6EC38L,
+        "023F3D581C156FCB08873FEFF6A76F2CB6B79B0102E2091ACBD240AB9A18280418C406A014F22020139C4000CA8201CACB2594110CC50601C10000131006516110423092C424909B04F258240059273443440A4043A00060144C04009188412581A5221C98003203A2A288401404800108D2000008008510286A0112014200006C22000290010940000089109A30A2213B2404028480902114401000010A82401D004528002810840201000282041A0106000602C100008000801108080240008100280105000902010A08123884420A0000801004851220042002C0");
+    testSerialization(
+        0x676D4E8073FF5B4BL,
+        "023F3E178D552BFC90D13FEF932F4D937A3E3704AA05128740160600600C2008C18C6085030412022601C00045400880108200210018041000040A0A448100012852240091001020821810823C00542910008006004241A000044059004000102004000022520044");
+    testSerialization(
+        0x9FD733E5F84515ACL,
+        "023F3DF6ADBEDD8F0FEB3FEF0A11795068FB2D02F20412920050226A0880202C00D841500801281000252407024D9422100000411016D8200222C05004004001A880059000800110080400900000480008240A000250104804000884800080011018");
+    testSerialization(
+        0x181EE57DD481FAA2L,
+        "023F3E3A2CAC9AA33C9B3FEFA20CB6D1F8CF1404B802128984202024400C240C94C2020200009900A4640922440180E080480008029902002200040880");
+    testSerialization(
+        0xD48908D2D0CA2CF5L,
+        "023F3E1FA182191789D23FEEA8D969472B0829027C1AD08E208502004208390100082D8C0305030A6100427000234C1191");
+    testSerialization(
+        0xAA777D78BB5B8C38L,
+        "023F3D243DD34B4AE6FF3FEFB83B19F36D945102D20216A1D858580C824000261832C040080048480089D24200004029281D8200142E56B102C0008779018010002012020501D580400080342C923B2002000183902030");
+    testSerialization(0x247EA417976B606EL, "02FF3D17F856B545D1A83FEF69629463F375E60188010202211A");
+    testSerialization(
+        0xB95D179BE0A7DD1CL, "02FF3DBA51ACE4D8C7303FEFB3F3434005DEFF011302121CBBE839E540912278");
+    testSerialization(
+        0x4181AC63FD7044ABL,
+        "027F3DE23DE4138677B23FEFCE3C1508AD166002FC011ADB92A028BC79059410440A08540210420001626020250E090B4908A11280224121200112010130D6C230A241AB00D000408460109D0406430580032A0000201280");
+    testSerialization(
+        0x258030520AFC4FFDL,
+        "023F3DDC5584C812DD283FEFAE1F975BC4344A02800C16B9884CD10902104A1100D08406440844104001972202002810244A0043840200C820800442110A640A00A1100A420204280C8205000040010040800811801400002400820043C1102098018211201010240004091100000806108194000400005000500086080A4021004024008880000000802924094000130004480009000244000003200805008100010000044000020080000804082C01C81040000010261101000008109080228400010041");
+    testSerialization(
+        0x7531E6369FC9D22AL,
+        "023F3DE3EF5C52CFF4113FED3541F0EC84692504FC0416A19840019046001411946983005185010A3522290068148480920000A11100000E02010011400802400400290000400010002300C042001000000011484024004A00000400841021000008");
+    testSerialization(
+        0x4E93CA71813F94C7L,
+        "023F3E13E15F71C04E783FEFD7D924EE4B30900102E20516A22C8636004128C0208070570CA08000440C058212EC8046812110235B18010002022202E000C00401590192104A80842204100581341104080105802200205A1500140B00304A500491816206020240000040280010294000421896009102842C8020804304500042100A80");
+    testSerialization(
+        0x195BF244D3A9AAE2L,
+        "023F3D982B9DD70C9D313FEFEA85CF0A0407AA0202E6021AC88C362126126502406500003589280C808C86B002492E098A01042013109840A1A353223530100900D6A2120A6000450C4CE43490594C84209884002888809A13B6043880980080302406800062222C004000011085940838140004A1C0");
+    testSerialization(
+        0x1E4ED91FC3E79BA2L,
+        "023F3DEDE962B5B549AC3FEEFDB8EB4357AF1C02C40512980C6232C02600642C1268051000010084600020A9810104200C800481C0040112000001020014A04834044810490000C804290000000460002580440210000881002004A40121000040001020100A");
+    testSerialization(
+        0xB24D4D6644A6B686L,
+        "023F3EC21C9D1D16A0693FEF0240C9C22B741202EA09128860C0A06242104009424445808CB1211042C50408000040880474070B0301040920050A0000001100081020022400400408002040200010042000880111001231004830080301002020004440008010000880011000400880040400109000000C802128");
+    testSerialization(
+        0x744C32D9090FCCA0L,
+        "023F3DF04F32EEFD69933FEFCA85622B6AF73902B40E128C295D2A88220AE031424EC40044000041800022B0CC0021C61501462800804000027A0C53881C220A040010032C2546D0F900000180A030040104C0020080908000500A00814004201084220080501020042808201060000810102000840604C0081220240000100040220880093800200204882D000020C0020100440008102144802100040400E092A0002000038000480010000001010810001800140010020001002024008421");
+    testSerialization(
+        0xF66A7A663E018AC2L,
+        "023F3E77C8975DADA0AE3FEE54BBF7F403F82002980C129AC01402600000022D144010804105110102C3320920010100860100104800406101080012491D41A44082001088000012808053100823038856000C2002001010C0286204600140880200029400400408500820840404008400100AA4200000424108088001008020470088001040020400800000008C4001000240200010040200A0C20040004100102042");
+    testSerialization(
+        0xC37CE5F978D650F4L,
+        "023F3D776C9ED78490953FEE0D7F8EEA25D23102BC0916AE2F2843A04121800280114800E84D108040898602243034203449402051063406888224C1109200400010800C8A423C4C481440C0A700091D010505800004848504204D00000441000202401009042128B642120802281001530102008201281000400410008202841019161800000440120900382001084714040100020120200C0000040C8042A292104000100000108104202280044000148C04000080104001");
+    testSerialization(
+        0x34010B47BADC21D6L,
+        "023F3DE0F07EEE76CAB63FEFCC4998B3EAD8560280081EF14E80188819F000038404100070742091861188A12082208A010018A021AA09043AC8081A4C2406402C025000C2C12C121221565A80148A641052100444E44880961949181018550078208D220F80001502180060E104004008801D208402002081081B6052032400090C00002080142110820900304920D004240400818008804040C4190000010600030012300010004106002084004D010208083040000000044480082040901140809020804083088000040104");
+    testSerialization(
+        0x88B3C8F839DED493L,
+        "023F3EB1A1D80B6FA0AE3FEF806C901419FA0E029C021290820200280400040B081D000106890A2024700100140000188060018C5000220080");
+    testSerialization(
+        0x021148EE585A21C3L,
+        "023F3DE2153E994DA9DF3FEFB3CF63A4384A2F029C06128394B60E23AA062030A4446840044084CD80120402A30030017412C00085C0808A80D1149202008012331284820042F2A0408B80200C104238200040C04C2020000104B2080040635009AC8842002818280090005CE400210600000200B06093092001084241140902");
+    testSerialization(
+        0x10B0D2D3782F5852L,
+        "023F3E88C1BA0C6236443FEEC9C4CEBADE662F04E4040EE844E00C2D24FB430422400008105408064920024D687C280041000442006120148104002A1200040440802200000104408114814008188814600180");
+    testSerialization(
+        0xB8C2AEB0958BD62AL,
+        "023F3DE1322ECD34752E3FEEDF59760B0BA45A026816B022060314020B42A288920401840C4844C8010A8A30001B");
+    testSerialization(
+        0xF39EA053E4D4D85FL,
+        "023F3DF6CE6F1D97517C3FEFF466F8D13919C20102FA011EE9C78D0E20A0098041100ED02111742138240180E5310AD19208BF20A10838808C31D81D42C088152D9B0E52C1B07E0908D4594412E06C2084002725001000C0");
+    testSerialization(
+        0xEAFE0CF22B77ACE6L,
+        "023F3C3AB33003F427633FEFA6EDC8F6391C8B0102EC03228B40207190507070F0106090707060C1B434F9311051130C01481700221262517A9321B5E0019E48490812001320040014151045E1105411003249381098258310909924D24324148020F314C20124000048310000022002123304C251289810300005013001834A80420118003388409000203104");
+    testSerialization(
+        0x4EC8507000F6AAD5L,
+        "023F3D2D32A080F3491F3FEFB06D250A97B5B70102F6071ACBB00872CC30458403008628305558106245441C45B512AC043B04C1210D005011110026E8085050D010C8AD2080C08016A2893AA2151C1F40840684200020A8630C1050019409598208009A400120001484082460040300000020C9000004240054C040708202006470740049409400298C2405758240080C4300A40095404211188000284213051426132002012202086000410002602C074008000801703928A82018101402408880110142086082005084");
+    testSerialization(0xD61CAAFF0FA2CF88L, "020B3F646A98E66627D33FD3CBA2F25EFC521248");
+    testSerialization(
+        0x8757A2C6C0D49909L,
+        "023F3DA3E9F059C382113FEF1CE040603FEB1C02A40C128D266046E20042020C80098000020102080030A4260007340003A00681C10004104000A881018A41000012240045000000049039020A324020080042000801140800020000820014940202004060090002000821005A808000240348800094802200804400003000001080024400420201402024000440908440180000098000204005");
+    testSerialization(
+        0xF64C0228E2BE8515L,
+        "023F3E80F5925F1AB19A3FEF26CD0348F32B1102AC070EEB84050180E276C100110004162A02104000028181010019000484A200020000180258200000010240400054200410010821A0040000004002200020000100014292104804000A0000102064001040");
+    testSerialization(
+        0xCE21823F2237886FL,
+        "023F3CDC0453D2B9B48E3FEFE98A7EE592E05D02B60E16B41106B608C2684042992E90876083C22E1880002328800C01C010A01520130D000400200104A800844410E280AC02C04C01086004480004290C8605000403012A00181020841405C2220080301124580088480810030410042000006282480000082941100421824C0000014020120001420412A000108108600104282744884480144120000248120002C84262400800110900215C24CC08D212A00804102291608080001019000041800041002120118C800000020014800118020500008000102240000A20001104204048000000088081100083040040180840103410240180");
+    testSerialization(
+        0xA2F99641196D05E4L,
+        "023F3DA791FD1DA0E0233FEFECDF6CE6D7915202B60C1AC858008C0400418640A0841190802180C8085418464880000118109880CD01001015414400380400202148A28048C340F001248252910042230883080110686292000000100808046401000029402C0614200408100008E800800024801004800002004A10004140840008254048011000004020081114428A40A00000410A6002000028004201822006080100081280214200010400000030801184210C46082040060440A6902000142012894880412140500000204A01201060402400000400A0804010C012204040040820010204286048003510");
+    testSerialization(
+        0xAEFDB73EE7D7DCECL,
+        "023F3D5A5F4962BE2D093FEF96017A7A9B923F028A051EF4422B06101040E08303000468A0D0881290449580C04218019281010048B032158CC809600600031A010402C0249209609199002001A0100B241201040A006000303090100818814081801884040A00B0450C8440300640A810010000A400060550224200010400480001A108225402C10002608C24209101548680");
+    testSerialization(
+        0x5D78BC80D4755F98L,
+        "023F3E9958B2550EC3C03FEFC215947F4CB402800A0210F200419003004010018110222080901102410820802042084088310C218480841062184B88210E4C04089B116208508811022204F08E1562384009710224C670A115822C4388F12420");
+    testSerialization(
+        0x26BCE63C4B5A7D09L,
+        "023F3DA7E3C85753B6BA3FEFF965E4C74893910102CE0516BA015A1021B36102018C71050EDC40E8045C5A0302998151088010B0800CB30B203581E01D188205B6E39980008800105A54000034430042100C106824900901900801404804214094240460A70280808400501D20040000400B301001048041440028000804010060D2492411124014AA8A0120A0100140500C20");
+    testSerialization(
+        0xFB314193E898C55AL,
+        "027F3DA7AA5A596B13DE3FEFF6D1F06CCAC59B0102F0071ACA0A7A531C39289420411800BA008710200000000708408202114C011082908990C031223F25621223064B2C19A046A8D289C6110104A19899030E9080000C012108011002210060E2812400180814405091880200924000A010580016C90008000034C803B2092080120181004A0801044541C08204284083081D18020000A80040500400505E088000129012008140224040C02B510008440C0040E890420521A2110820101191542142A08C84460004100060000949");
+    testSerialization(
+        0xE1844D41355D4A98L,
+        "023F3DE0EC0ED02631D53FEFB999B8D8952D3A02AE0416BC2BCC758C001902128C4E205301504A0190682012122028D90C005612043420441087054441983000482890C20805048040241020085084440104000A0A22000193554209802290110164140402200221566500420408808408");
+    testSerialization(
+        0xC1FCFA5D2AE82EC6L,
+        "023F3CC7D0023954CCA53FEF01A26376CB4F6D028C0516BE028C0604020082871868505062C1060490A236C004C4C11006080016C00AA0D50420C0219450481000A256204000520202C0090016011108282C00201108503200208400012010060A000A0C4015002E04088000100100804020120F3208");
+    testSerialization(
+        0xC469552AA122A2F1L,
+        "023F3D9F535CE185CE8B3FEF914CB999B449AA0102D605128B0222444044A0A850245C0504088C008218842089A80809A1BC2124A04143170860008224B0900D208112241C4A44320A13000000110134080946C21011000206002018115166001004080000A5044015091C42000A000154008221881010028084329004050AA00802884000080815");
+    testSerialization(
+        0x0D44E9F9F6D73AA1L,
+        "023F3D67253D81AEDEAE3FEFA4F85B46D91B290290081AD2A450200430400238600A281240891A0280810485C04201F2A000211370A556680004584882909581411801008400900B019240606048410824AA2C020024024891000922822410490002428048091020A024011201608202028040040C5D8000208200A0141802008048340A0C2230000081211B046000802010053400480A004102122801080A042000402560");
+    testSerialization(
+        0x82128145F0262931L,
+        "023F3E05A1E527BF54763FEC4426ED8047142C0294021284726844020228E80810C98228A20424014140D40100200090490101106002200212000043420104");
+    testSerialization(
+        0x7539513DF930C3DCL,
+        "023F3D5FF1BFB07C55493FEF47597A6019C322800B020CE40100801004010280502803004090280B08C120E80A00409044110841A004290243D004210C429044121844B08421024191043B0A459084490445106411028190C4090845104411064912843136429068AA0C4F938501484093C8493A6A90E559");
+    testSerialization(
+        0xBBD8B034F4E97E4FL,
+        "023F3DB306FD051BC62C3FEFBC0180046B039A0102EC0B1AD1B33821B829C10840A58E1034D06080210024490A1001B2982C140554300244108541D84246042003306680D824122005825A54004213601B01022204104170084801828A2F801000160901050AD009254044201600002A080080C30C820210125910001100020A104228404280062308D000838491103801048101200409004200804A0004501A02000B0012084A020148480020081000C0112000984021011054822220C900800E041018001848200003004800040408400820188C01400002500104A820112D40000342A01040101084080001000220004800040A0100021000100883261891010214100285000104");
+    testSerialization(
+        0x3CFD7D5198F36DAEL,
+        "023F3D5BEB34467BCB163FEF9B1B86C249794A02D6061AD6A8508E8C11221670668A10125C84D545084C08620D080188121A0810318930840040F6097084D831B4C151804004021012268803C9804A00A4006282024002182C8100011208010E22C2011678342002420090D45004500020A41229000001402006010C0000004210050304223030410402040002302E60A01002B00009209C480602802805404059400202");
+    testSerialization(
+        0x3C04B804888D61FEL,
+        "023F3DC7B39458E492113FEFF0E091CBE1105E02E005129616A0066EA2004ED1204C2400C8419C55900804C08804A045768447000414048130D00010001802181000902002038000004010406008110002000800018014A505A15080000202104AAC10040012813230305A48080010010000420C2300004002030449241004000008");
+    testSerialization(
+        0x0134B68925BC4C12L,
+        "023F3DB481A912C2F2083FEFF9B395E2D0EA5A02E00216A219D021007129CC20040D1941281EC865A0821010028824A0495806000085006410D120000028D01000001C030006410001404A00600C080401408180040402000080");
+    testSerialization(
+        0xA2EE0155864683ECL,
+        "027F3D43A5C8993BA5183FEFF24D5ED107D0AA0102E4081AD9B2A0A50C40882E31288040F4C3049CC388072146201E1A204822282802804500370110203302C6006448494058C40424040850A0191488990A39910B00080329A5406805080110190C2111012011018000240251343800610401A0080240022602102402C024008820A91A28980200288281081470700003000000281281944500808409250540A7544080202280508014100021045B011000043800262D0D0008020040211810A0A92120101022684080C810A00C1003300449040000400020908C0041200808050004280A29");
+    testSerialization(
+        0xCB0ACADCBA2D00EBL,
+        "023F3D3B27617DE67E033FEFD5BCBCE0C9385B02FC0916A58880339045100270000D069D21007321920B6000028638001920408006280022102180924400101240160C8210134004400400A5490000204080F52840004916090010A00014A0100010480C12241000C4404000A404003CC88020200044042020E20044021088203A090D8030000800040021000011222001090403000048A0081450410200800408088005104604002100004010090002000D1010");
+    testSerialization(
+        0x120623F343B2FBC4L,
+        "023F3D2EDCC70CE363D73FEF7F54E35933A24102FC0D16B40BC17095011A420108CD90D10411230599B064260A482913410015807EE50848A119000209410842200004014084C028A100028460205C600404024120A0E000800000001000C08821020C24300810160105082010882470000012C0428100000911000200812B1033A0480088100138000008022010C0020018008010A00004010841202C2408090060208C102002002040008C0401000A2008080000046084002000000182621060000A2801080022400404A10010002011008400040000406810000004010084");
+    testSerialization(
+        0x00B183EE02DB3338L,
+        "023F3D9CF355D5357F9E3FEFD8A2856157BC830102800C1ACD130081020046800842844910285444596014C001A0085404F32431025B00800206104060202430C56406401884187500810402C300D0582522A080000004000204140C0081400060012008D8182A08106044080045088855111411008288211C446422020C420909102044D100020004A4110C20020B84800410524200000850380444040080422040883404880005088104020809810200030004741200001008044420A1301088044010200844045860000804A1020480000024020422010000004210008210840A1C091125");
+    testSerialization(
+        0x77017C7ECDEB4529L,
+        "023F3E70C1592DC8340F3FEFB9ED732B8BAF0DDC0D0210F8004030010080440180102414418821022044088010E2184410A1002004088E22E244550851004084408F11C2084B88510C2284388C106204468811002144188D1322044508F13822C4109613E2145C88010420040982104278610B81502644508C1362005008");
+    testSerialization(
+        0x8F62AD710ED7F92CL,
+        "023F3D26EF7008F1E31D3FEF907633E6D11928029A0A1EF2C89944181801418981000430C04F464124171081C1800D70048430692400002185A02C428299A80090992882044082022411140342080A04A44165028103A6308C209041AC06400100620410900031CA108182020255008420403802A829440C00508020203024042414A80A0080C1001010308282820500212026000800030051080102001002E44200A00088040441102006000102403080442030E022210200000401424208810C001012820090020000250048A00110");
+    testSerialization(
+        0x1EF93BC39B8E852FL,
+        "023F3D92A070888357973FEFFE753C158F6FAD0102920616B66382779C85344512AC742212CC0050011846800A2601981011008282B03080006321A482212474E240008100205A80204000A24C0142901081220101402380728B1D400045808D048000003A482030010804260A8210C0018101400418041049141212494110044800120028000100390802848520110010C501800002A4024002100824200368000800002860D00008");
+    testSerialization(
+        0xA86A24228DCB2D07L,
+        "023F3DFAAD470A0CBD613FEFEE64F1E744BD970102840A1ACAC4A101202021846820800010C0211C1A800C1C82241088808111A088C070121014008140078A0050086010D22C9048000E5940B1002100430886010090874990A0820CB80220100821C00004120800A499848004A084C0008C1008101E20A200000082440408414000200244080100003300A442544087400410004400805104049800180040104215208440420B088004480504A040082001406003201078A090090006A19C0421620880E0400521000220118C0400900002840000081002A82401400C38");
+    testSerialization(
+        0x5250CB02C83F77FAL,
+        "023F3E704297EF81F4A73FEACCE67851119007FC0B020CCC06010081064013C8241411049C84219308C45209309C4844904844520104824C219588A87221009A4225908A0732812488662213C8045269888A422E180B65529198B85F22198A64");
+    testSerialization(
+        0x4D078DB4318DF4EEL,
+        "023F3E70C5BB5DA98CD23FEFCA4587216B7A03CA07020CEC020D0490C401044311E4212245902991344291C4B1A25492E669324A20");
+    testSerialization(
+        0x1070ACFA4EEA2E31L,
+        "023F3CFBF452242B06293FEFC7C7A14D26A6B50102EE021AC8B319E52320E88441450E0012281A28D0084DC041E45810B40470B322C6029B84AA10C824000C8080010284D30686190E845824028011500C103201011B610090502200078B0B01B00184490C058900205240");
+    testSerialization(
+        0x022C491C62D3287FL,
+        "023F3D4E028485D0725B3FEFFA7399FA93C7A50102E0021ADC9625690659628000678408509854290046644D022C20A88000061089304100704830068985A241A020C56C12113524D12A00698349145320C4486440C12028210A55050501B0480182050080");
+    testSerialization(
+        0x7389D9D5E5D3021BL,
+        "023F3D2CD93C3A4826E63FEFE6F5335F41DC7602820D1ACB70E8020610A41450A3022011888E4488C285981DA26E0002478033124C82480086CE442420084100888964440400005B14700962AC032A944024865076204020900908856000C591010800C02030214001C85024600C000890091012190402820C400B001A000000004AA182008E90000082010480802041E044060124A0010018901013401020088923201008000C0020D00C01000420402174040800244400210484380020801008114810724601010048A040010809A85014950224104024135054820040101401000001440240004002090060001500101800982014C008C88080900210100898020180504000100008100200708008200000020500");
+    testSerialization(
+        0x2346997521A561E1L,
+        "023F3CFFE03E36A2BBB53FEFFFB32C7944919A0102B6061AC08E0EE00218C1961802827810C0AC0B4C4C0485028064488210C060104825C22011721A223012160029E09A3800F0001340348652020A15828841028D628A8840B0C92CC049418219014A021812329E4000020EA4C1800408C058821160001242008402001103104A090B08098400444180000024188124400033064100020800444208094219904360014040000008460410");
+    testSerialization(
+        0x850DDA33AC4ECF57L,
+        "023F3D16632BCE9697A93FEF8F489891F9C488010244228940922111300111A1C0005010A00010050C01029C41404222808327");
+    testSerialization(
+        0x68A6DAA90258389EL,
+        "023F3DA43BCEC1B0FB8C3FEFB17BBE7E9B5C2102E60416A22164238401204441346C12C210001041909808081800B004044040840480000102B012300010600890020404106040E0088048640B42408A481A60050A22080082014004080021088040081000840120C1002080");
+    testSerialization(
+        0x8BDA6E0A33DC564EL,
+        "023F3D508AFC3581C48D3FEFF324608F17A65D029C091EF807B22248620146809D0A081860308242C5458CCD00A2CCE314C412045710021031D022B2822328623240060000C0468000C44E208280800D9901880A304282026020000038418E9212C000810129A682812CD649E49438238A80C00840101008106082606249020111440A94820C801210828005100A04FA20017050140CEA00A0C1818000043408025340020A8400184082801A88001C000120030A88A100200014C8882AA0B415500412834C81225000C0814060008004521D01C00000280800080401104040");
+    testSerialization(
+        0x6D524FF8B9E350A3L,
+        "023F3EA30F2CCB1FE8BB3FEFB9F5B8BB93AF0FA20D0210D007022008040080601004119422902C0982210802108A4488241882411024108420098268942008A201042610A24902200822488C51108280AA2588E2009E200944608A20096230882489A2489E21880580E6298A4220A62288A200822209A25094290C02A09C25886380BE220BE2");
+    testSerialization(
+        0x21840C1A5525DCD1L,
+        "023F3CF406EF3F5812623FEFF296F22750B397010288091AC3655853AA00C70060050418144748A4451804324C11822898405B10908001C0101213012006308683A59E810804C0408400040C5A04028E250A0B80A2110F03114402A2988C302841100B014C292C26301303C04109160940828A2060D82000001100924384281A0005483262C0002000400E0100050200010028820C201001200406018126804C08921002020012000543106600802410816889400040D08C20104120B4078400088041428118211000000102018946004A248008882001042532880420251851004584");
+    testSerialization(
+        0x6C26F2F4F9B4C785L,
+        "023F3D7A73C7DCCCB6EB3FEFE2135C1F488B9A0102DC071AD48C0AA7384A65145AE184107008E7CC889050084E5A0B948188804022350960963024A658204209608100400E80000C5008220004821AA89A00031844082010305260900A0815948C09800425344200A0012402450E0D0108CC84800A0000112414818300810120004048001424280C61000112044022A80010404402010042801100D0122808404224998620428092238709090191000230042C104221040021220297004504500820E280");
+    testSerialization(
+        0xC50F830B4AC9D9FAL,
+        "023F3EAD4B3338FFA92C3FECDC9FDE2AF7CC240282020ED310008840002D503050092380501100134008614058000840240411008460");
+    testSerialization(
+        0xDA2F9947379E36B1L,
+        "023F3D9AA17E9303CE303FEFD0172BDB0ECCAF0102EA051ACE826800A294201818010401B24891800408D094360108B09A983D80103481080853048612200A892112C22115E008025BB4924A2D905244561003641207A484400C10008C001825A2094000C0023408604042000519482A908940A01010025408A20040410248612A8A884521D481002010C93039200003840412BA000040241210928201F8");
+    testSerialization(
+        0x2DAA9FCC1B47E263L,
+        "023F3DE2245DC4A89F863FEF9E565DD9054B2B02E60A1AD006005214488480102100102FB2401482522591002E161444A144216044B4A43A08CA608208C4801080000E0B400A4020A2006040002402000800C44051030A2000242442501400009020C0001420000008021202450000412AA880040630A0011030860800420000A0800940101120000081881020100A00000001010000009080020200904120000842014000261C2850201014808292010280804104081541080020800401412000040012");
+    testSerialization(
+        0xA651DA4A4BFEF96DL,
+        "023F3E40532DD3F71D893FEFB88ED6D1643F3D02BC051AC2D811420C01E01A1020044831144C4C40A801818D1DC80A4030224110004806892502000610925400005804200C44920A1C04444D6006005004100C0840200208050804020032202000820006400011884100800600800810E21008200542600000080C001000893290210408100882A0011444");
+    testSerialization(
+        0x317BE59E82B8619EL,
+        "023F3C891A344A1C2A163FEFAAFED93FC5B66F02AC0B16AD911F301C6748860094F40681420288042044330198437088C120C830230002033000060933A2082090C84003010002D8205000241012009104546890008102400824C004010202C022B00020130000040A000600C0109040140213080000A21004001E60820000018809A00001409A38110414400000008500C54611A020002204014B1024000700116802004430002080010204040020004000482C02210400502020040611204420080300009011020017099200410020240406100101000808108042A018A01C");
+    testSerialization(
+        0xF5C9039B9DBFD8CDL,
+        "023F3DEBA0F6EF36C7B93FEFCDFAEED40A8A2702E804128801060020A602226C1A0A042201054803A200A0E4891004E0A6000840A09022088C01804822000B552000008240210000810400A080044009100020108100222A08060404920791");
+    testSerialization(
+        0x265539CFE9BD7726L,
+        "023F3C352801970C84353FEFD8251DAD67F5980102B00516AEA25A9790431170218814700882010CA130822085860074210124429431030310100706034A203408009135C765590201C800940340D44028864064834A00008008202041A10448A58199F4548C220000C0010000086012202600020050500248000C4008006232010A848009A9890082030490981140");
+    testSerialization(
+        0xC7EE7BAFC66F73B0L,
+        "023F3CAFAF55BE6F87253FEFFE46E1A01CD9820102EC0D16B3C9BA60098118D41498F4860846900442688E014290631C84000C41504240491000110102370016600412007D32D860200D0C161D64384064000212006060442108E0AC104355045B0D011C0828268440E604C1004210CA00A2802600168800000A42000704400A3000050845020007A011D0151010801890020052088C8A0004801820448A4F04000081AC2018838014824080028214400008204A040403032000888002088511208208113904008148008311000014020022810080428C90000C010004100005320000081090822140904040C0500000210A1C00001440840C002420008244100812130A4400100000809904");
+    testSerialization(
+        0x715D698168F318ACL,
+        "023F3BFFDFBC8CA67DB23FEF1F3F0DD7D2378D02026C1AC8F0312604798080A0C30E3174540ED43414320000200E852A1A64A10D072948615003040040");
+    testSerialization(
+        0x1E15C9CA80F51383L,
+        "023F3DCD16C0D155FB003FEF266F0027F5D11DF808020CDC06050382404010580C160900844060A05828042900834120101004540908850042A0480952C90C804221A09004421930944125900824420534864D23A18804420A08804024154828421914BC612020480442A921204424A488451239348C4824121104C2B9");
+    testSerialization(
+        0x45709DCF1B46598BL,
+        "023F3D5AFE924DD206EF3FEFF159970E859F6002BC0A1EF34A862E0C001020C303080428012C1CBD488018220408101A080000803ED06480930536070204404420C104C44C240A60081608002010180240520006658848104000294602106506086612102546400110092008C000005002101C2000400C2002901000004004A400456D01382A0010208850000420D81000CB00048001080C220201010D0021040940780100804120200502040010004854008910010024601014000200042060AA20106082020651A01018000002000020202001062030");
+    testSerialization(
+        0xF45720EE20DF17E1L,
+        "02FF3D104425DE1447A73FEFCB84DFE3EF3CB70203022018C0408A3B3144B103A268E00C");
+    testSerialization(
+        0xCCF3CFD62471C0DDL,
+        "023F3DD7EEC658B462C03FEF310A3E4260024B02C20216B105809008450700018C2C2E092026018182105716B0043000A012882414914800284C00900612830204114C044A8200840A21018000C0");
+    testSerialization(
+        0x6DEF88C85B1B7591L,
+        "023F3E39890D2000F5EB3FEFE0F0175CDE552502F80D16ACE800108421000260806D1E986040014180040101404421330284A422100C28550A120C000001020220128400208806100210840002011008040011008820A04400654300008210029240004800480202040000060800300000C0002180400000480808040040010010840440A0000204424800080401010040008004040B08100C030000400088040988002000440C0010008002000002");
+    testSerialization(
+        0xE68B90AF04AC6D61L,
+        "023F3D931881CFDA100C3FEF9927137078D62B02CC071AC244100190384204280086206FF088088A410D6B1A0834B01226401120966020000820989294100416920A0182600210005A2A1104080C0101510A40C4A8A0010000C600000008A00055830980210808400410002498052A400000180502032048A01420A82081040120480851800020864C1014021002180052");
+    testSerialization(
+        0x40EF3380537A501EL,
+        "023F3DF95813937BF1C53FEF793D1E12C09BFD0102C80A16A663D82EC4B91906510C907881804C8ED2410A499A01109980800A300228408904080088002604122002CA2498482C10560B3221234684080812C18020006C1200222048A4001585280054A4214000A506300011100112C000200001011082A01A630CAC40001000400080920662458040004010002459005304C0240260C05802000012902200608A000502C1402000010C440800800101221082051C100480002922C00200500000510000000A410842456808000490000640809A10201A5414020002603299000000440811008241020000860A2888");
+    testSerialization(
+        0x4958F751A07830E4L,
+        "023F3DB4A725A28DE2043FEF4134977745E71B980E0210D6018020880A038060101A01004010A20880210802208240A0820086620828018C619022118424884221002008420080201082009A2210025082202822008646886218824289A220802011222094278842188A219082388040880200962208A23884240864A882268902489C240882308E228842509223090238922189C230824F08620896248CA2A080220A02E084250AA298AA2288A230B62F098270B2251062");
+    testSerialization(
+        0x94A0F9EFFA4D565BL,
+        "023F3D63BC8B017058D13FEFFECCFDF5D080B4010292051AC180646B8C6023844860002AB085545C44012C34C60A8D8850180088103410028643081982020204406E2228C04C058C0402196801044182C324078148128060800008B240CD200085100001820120804500400000111800100017094480804000E0248250200050448A00820030100322C72818204151100AA208124065800080");
+    testSerialization(
+        0x6A4E36BC3B47CC23L,
+        "023F3E199863FF0C82ED3FEFEEA529B66D691C02980812948458448262E0604D03682083000990204290400023465100441022A0005042890422008101405000000028000020049000188212100C400C48020208064004400404080800008100804410300241640A14518200204544041082011540220008080202008000042802");
+    testSerialization(
+        0xF3EA512228D0F71DL,
+        "027F3DA22B75769F1D153FEFF036BCEB5B582C02A8011EF801122414D022200985062458413620800000152138C000899830CA9028104A16202120401004092060220042322002E868");
+    testSerialization(
+        0x54F2F1E20B9D5FE8L,
+        "023F3D86B2447A7EF3CB3FEFEF905D67244DEE0102D00516BA52AC2B88AD111A31441292EC1094CD8694C2029A39A9469093804230081002960036280062440210C00A40C0340012218261080228088810A40C610000104003810062A1400402C109822C0005A0090804603535040380400135024A2A0CB400280012003822230882010088A04860A08208821CB541124880202003104047020120894890810240281060F0");
+    testSerialization(
+        0xF620E81BF76C17D3L,
+        "023F3DB74D0B317B37213FEFDE536540184C4A02C00116B61EA2305843098E0088D0C4848404180D0425820338220808320066100B240408A04200CD101040018640");
+    testSerialization(
+        0x2AAC85D5C990337FL,
+        "023F3DC9C5C860655E7C3FEFE08B6A51D12E4102A009129105022122E228802C6218801600250800C85925C11910460024002060904008098069800240882120A61421018000002004140492001044000802110500210006020100120000144220420C080041288A222009000008108020900202424641024880210001200B0820000000C201020002");
+    testSerialization(
+        0xE358CBDA1FC6B7B4L,
+        "022F3E233E66E33FFF7A3FECDC38D949A927CE06040CC804050080402097882412C944845A2F9488E5B3D9F09C5222994A44");
+    testSerialization(
+        0x8DF8BF5CFE02236DL,
+        "023F3D2A87476D46691A3FEFB65D67456EC63B02FA0E1AC739A0000E794490184104084D920950178A25A0A88100C0082210100A64184019A4CC000018411211200A76130084014088514104202008503FA10108D000203000068049001240608000C11108209900104000022608042148110000860020008101048080001041808A88021000705940A800402A0C000204200180080300125039100204920150002880840101000803001162421230480008408260000004481400000518010200090882020060000840011210202844000910000000240000180418240002418008200020204682250040000020001008");
+    testSerialization(
+        0x43F1E6C9C8C518CEL,
+        "023F3D923CCAC5CD8FD03FEFF6F93EAB4EA6830102FA0A1AD9435AE20C6A020078201A38B54000043A042418CC510A33AD00049800069F4433172E05220003065001740040910CA044CC010009441E2010002CA80B0142092201136918004482203040494000547C5C411AAB002C29055244D52A212A82C500824100901403C6080304000842020860100424100008045B540903212404300008100D24040100200080D40001148024228320106100061142010A0005CA1180490300080035010012420815018222A884204005521008A2A200620540322284108112800800320D2500080006040002002002844020100C0182400428844026000128864010050000204020210004");
+    testSerialization(
+        0x1292AB4A98A7D0A4L,
+        "027F3DF2047E44AFE9223FEFF2DED271AF4F7302E8011AC309108A0238238858220038304092D078805090CE03804A91008820093A4A0080011086000080498212C1C0000444005800018000841281");
+    testSerialization(
+        0x5910F5C429E72B4FL,
+        "023F3DAC96ECEFF8CF423FEFCE9D0D561B2A830102BA0C1290046A02F685EA225148020405580508818742CF804105B0185901C000040041108098800491108310448202101810460C08820A0008410100A8902611A02304708040010214000228230000400C11004010000005440500001A22204C040404208208988104000090A000210A10440080410000B00600011009028020108020120206A1010000120100000208000002202804402101220080202445100204084108C8C211110020010500008000842006408260800820114800054020");
+    testSerialization(
+        0x578001B8F56438FCL,
+        "023F3D3BFD16E73234803FEFC6644436B2D33602FE080EE8BC33000C8A37051042C1050A7719001204105449B17550117140202001001C8100240000020518005440412C1040050820100402004085145004481044200108229002000032010042400008020088014001400810804800420411080842825050640241640180800010600180000880001001600050880500050002");
+    testSerialization(
+        0xAB5A7074B3604425L,
+        "023F3D2974AD954AB8583FEFFC78EA8620131ED40D020CCC060701018020A01008021A00810020A01028040101008220915008320110864221139004325110824024108A0424114498432093C804920918844240101164524110984F4B1B880802215CC64022964984225110A046259188450281B88E493114884792591080502B930965B211448640");
+    testSerialization(
+        0xC4A007D0DC3C5B31L,
+        "023F3DBCBA0DB93CDA2F3FEF88282FB3F1314D02A80E16A488C84290630ACA100010018A01A5C8C48401A04422840A602292091AC40A900226954701009242220021C74030804C8420880680014022800420408810023900C000108004D2102000842201001084202008000100C080282625000002045280100009108100280110602150042401008100002044180402A09048900D800100882800840180C8001000820420800108004900010600248008400C4400802822840000025010800052051000240201800004002881401000A2320060828800228000000120040440");
+    testSerialization(
+        0x01882914236521A5L,
+        "027F3D8708E4888B589A3FEFFF38FFB4E24ED703028E0216A68806F4F03300C0C8503440B0C832B5464250302A40984CB20891C81038102498C1603652352700E03AD0901A1124801826846844904B627243228409669419");
+    testSerialization(
+        0x5CE5C33379ADC1DEL,
+        "023F3E1295DC601E07923FEF6A6E3FE70BB5DD010294011EE1DB0DAC18F0004A0506042800F0743202423204442C0E259A1AE20070304B10B34000356290F051212752341658");
+    testSerialization(
+        0xD76578523B84ACBFL,
+        "02FF3C7C8075D9E5120E3FEFFFF3E615CCDADA040302601ADA9A32158630059E214102087A52C005418400134500D0821AA8623888018E0801CA0300");
+    testSerialization(
+        0x7D7AF2F9E190DEFCL,
+        "023F3D85673FB0A57E9D3FEFD405ED85D6DA820202E20B16A467904014E01C882108944B1544020CE3004400898211F6C045844343D0651108200016220C91809012C0801A400FB3D9088009068042004581407182100402430C73010C1002019020008F006030DA2600C82505A8080012E80112071010D1018200432E0342009280226028011008212200482A2080D501070A0412002012800C4C001009488A83A0000004024140004100240021A00015000224320000004A0A04000A0224810000409002A098092404200C8810102001000084001911440820420885C00414138010003B01008C40001026400467288B3420010021542B2000008500C141109000080980");
+    testSerialization(
+        0x122DE506F1678538L,
+        "023F3DA4066DC9373BB53FEF2F6A4BC165E7920202E2011ACBAA61452051C2C460C1802050800809943008901191424E00D8A0C461080123220117D842012C021664040E8FAF800B18AC92C0A5489180");
+    testSerialization(
+        0x05AE45D91D6D5B14L,
+        "02BF3CB16D5D37EBC1D63FEFC758BCB13C0C89020280011AC2D894808A228D1E61A096E83424205A418601089ED58A91611050108103000098D41020000030106300E420");
+    testSerialization(
+        0xD633C57DF80C7813L,
+        "023F3D7CB0B634EFBAD73FEFE4DC8D44C6A4850102F80516AC01E921B80339400188506C411C0C00804012201CB00080221000381B008AA4E0360440500208B0421A180094010409020091441240B04AA40D80001182602100220041200000240406208446811030011300AC02820182023028250408C54060000038800000100404800940808200000512000004014010");
+    testSerialization(
+        0x4F4297A22AEC1512L,
+        "023F3E0B998A478826D13FEF610B07704E0F3304BC0E1297181A810B02C802700140006490445409900051024A2120080005142AA0A8A4412015002200011042402803098E02400120000120010000200241804480212824C0004010408208003219090104400020860920000004808610014210840A85820100509004602100108200020004440002060040004000010800C000220000100040048810010100200108000000808200104002400040810908121002000420400402008020180802040448800803011102060120");
+    testSerialization(
+        0x67AF6007A7C50AD3L,
+        "023F3D252ABF0FCB89103FEFC69FF481CF3DB30102C0061698247BA48444010414240143608401000E62860A9005011810419AB6B9C2A80044565804051C44B2CA07104800A2122180929AA40102346486021000090492F946A0E8002C89454406000082518010E8A9824108001806801204024A2200845C4004049028D000700106800888B880000200001458400002C100100028185004100002465A20002465A800006004");
+    testSerialization(
+        0xC5CE0AC46E01E4F4L,
+        "023F3DA6C835BC763A513FEFCD5A7DFF98626602980C129AA40875C60004A210D894099AD5804905329A102A21000651060A00424144828123198018649040518402024840414A251000080051281128802048A0004411620028918008810E001242041010400800480801009100804614300300C0804800000E005A000800603A0124000902010229201030080400804000830510011202811002000014C1700240001040042120840A10014404000080A000014008210021080600248008050000080080000800084C0100402212");
+    testSerialization(
+        0xF9586F7E15ABC2D0L,
+        "02BF3D9DC1FED8B789A13FEFE99C651CF437B90102E6031AD92729EE4748A14468A7161015050A480191C40604608219904B2881490028D04069208802816110D21820528620AAC0000AC802DA8068A1186014C904210B4294238C948771630205021BAE940A0801404609210C08A908081B23840C850488098300C0248249008A170314200120");
+    testSerialization(
+        0x192682115B8F40B6L,
+        "027F3D93803FC627518F3FEFF4B4884BF562F001024C1ADDE845070A30C6120A0A049A54829044372800124A922A98A76484");
+    testSerialization(
+        0xA54FA69CEDB4D693L,
+        "023F3DD38A707A8E3B7E3FEFFE3B360F59716B0290071EE0C040301420606300041200001073DC90447C004C08B596BA41B4C17032DA001085949588081200D009AC082000992A020200840A5144078440A008A948306131212080240A2801100006400000010040810010C81209E601A20430011144028000084040447100C88A083040A09000011480300800900902400C6A0205011180228044C02D04000820100A140352");
+    testSerialization(
+        0xAA0461366A5F0E4FL,
+        "023F3D5F80CE2F3AE76D3FEFD30F74D900F1A70102C4071ACF1A2541D000620A40A01638104505028404444195AA1001D80A873610249E021CC68006A2124000F081001300A05A2C00020300D300544204900070D2016220002C88404402012902C00CD1A26254280600000202A1108004148C9606AA000304C481200208488004208804060041400A000E260005C004C02802AAB4045440108300400A10120480402239200443394A0043A2A10003002201C0900006040E");
+    testSerialization(
+        0xC04E72269D18E944L,
+        "023F3D4740F5B183F2CB3FEFEFA97E837E773002E0081EFAD4852A0C1100A282051C0C59408D82820104E365AA2A8C085C2043021220020081115640000406612096329F10509C098202261A12AA64601000008908448162449A2220048041148A22590085005009100210900A030520104008A092082400400108A0020C38102000000104A1984188A0011240110824800290000010400420000502410195600021211014442000B200A00402101800840884004A510848012402048C008B0A80");
+    testSerialization(
+        0x1543E61B63D70FA1L,
+        "02FF3CDC23D935961C3A3FEFF3D6AADBCF0C46010294041EFD070F220009400040010E181110518C1000B86000C41E41891090898000A3C0014424122004293670C002002082848504D05012E2A012240F0005461415E02AE418000DA000808000003005000400001644020049050090241722100048801AC40168006080000200");
+    testSerialization(
+        0x1F835303806BCA7EL,
+        "023F3CE0383BBF5362443FEFE0332567619985010288081ACB33D90BB850C210BA401B18F04D440E1C0645400A41129088A0320882412912001110104106C900889118009A243804D90501014C800B28922801907C6081E90007080C0015201000251276C0A83C400400004404830A020090090C00148000B00B0204086010006000014001000C26044080019100C00688B241001040508400082108C220804800D21800000006001291002401404053802C0300240041008AACA003000004000080A490010814100041208A000804014120");
+    testSerialization(
+        0x8CA7786775C73CA8L,
+        "023F3CB37A6BCE74B20C3FEF6577E3B2708D3302F60516BB1180130064081000102C0AE0090400B19209601201342400002404006180084B71099112002C001065120A04004C05184100002602290400001221008800204809404A040200004880800408004040808042108202006E80010030012E20");
+    testSerialization(
+        0xEC1905E7134DED0FL,
+        "023F3DEDEAD0FCAFF12D3FEF5C397D2205C916E20D040CF0010380205001014010280906401004020240A0043A044310240B0041908431064020E41A104190281A0E421044110240106429424E1064490C52122459064611840108411044112A4213E891024010E4C1308E9404B92E4B958411364D9EE4B13840");
+    testSerialization(
+        0x6030CBE19D255AF3L,
+        "023F3E50BD555400421B3FEFFDEB9675FAF11702F00B16A35A030000410000F0800C6003A61050210383670036400080E808040048824084040420520022086181083020080140400900C08000A421500012B00082401011082141020040002280441081100800001020022000608408000840608000A8008000408100101040480202004020002000440018841010800201008021000001201424002420042804014002000240420101");
+    testSerialization(
+        0x71B5CAD5A1F4F27FL,
+        "023F3DF105B52DB5F6083FEF9623CB30CCF12202DC0B16B340022084C1100030998C820A8000082506640C02184024020001809010205012A08081030C0808008000300006C801000202AC2401010700800000008800210020400400000422010202010010061200188201000012000102202020050804808104030008086000090001210000102002002050000804002004040280800818000240006000080A20");
+    testSerialization(
+        0x7D3A8734E542DFB2L,
+        "023F3CF507971237790F3FEF97ACA063836EA20102940116A3588F048CAD00421084510549083028C0C001B2118F821200308045004804560B280220");
+    testSerialization(
+        0x0E881B3277BE9795L,
+        "023F3D56BC17457B8A2B3FEFE68A1036B7445702A2091AD6CE12608010C49A08E21C00B0004C8C899354444190C941114219330200A25144A69100021C0400C10806094011132002408A0051240142018000AD30918014810109080C20300820021010840010A82282027000500809080240012505482C180824412100040886B3010020000084B0400800840000061800002000200A1020004040223809080911045128100020248202010500820000C8040008800210009800020601100420200900000080C8401012041082802860");
+    testSerialization(
+        0x43129879088FF039L,
+        "023F3D6EEFC0064B9AD73FEFF7C40A37F0C7B10102DE0C16B240DA3064A03210080C30D00005550060080182532090A509AC004311460200B2098104C0C100804188122A3A004320818A05B50340880A014940444459804063A2080424188004168820C008A90298048010108A0034120024144440008030088204002D820004102008232201408480899A008801000498020450000001584048420620042080200108040210809201000210004208010202404220188800000020808021424018340000024082000441100840004114012C008800218441000800409000A400022040800500200C0909502844100200841040C041");
+    testSerialization(
+        0x94502F0C7F79966AL,
+        "023F3E03C939C49998AA3FEF1DD72BFE0D3D0EE80D020D1C090120040840C8010020301101901400420802034004048090422E8250510320240C8020220640500908226894821002084748710723E4249211E2004909B90C20440888914204418831132344890611024A63C9B9");
+    testSerialization(
+        0x6B202D693C9F5CEFL,
+        "023F3E0D692B74926A993FEFDD919DFECD3B1602E0041AD04418A19408428C00418018086030140590182852104410080402840200C0203009008892008B008B60404300004840010A80081050402500088260A1002040142A080400C00000200080121020A001040240004000040008A00A80");
+    testSerialization(
+        0x88CEAE792980B724L,
+        "023F3DCA38191F98F52D3FEFF0CE7B8FF0315E02FA0C16B719A6B2D445004673281355894428CC044042200829180188080535CD24921641074000B6002C06C080205300101828040020429A11C0101048C562832A00105045B00A00900080913AE440408048805810005804900000524204850000600200041C000844258510A5909126124000408118008000004041012924000884004040A0BA100802D000802428400820020100040262100100000005C0008100102243228850081108800382004424004480000004240820100021020282402C0E300200020010240000A118140080");
+    testSerialization(
+        0x6285570C1E6DB4FFL,
+        "023F3ECA26D7C3CE5B393FEF52F7ABC8B6130D02A20312942880C0600020482823151001041008002000008012500040010800D104002480040200C1001640140802001060");
+    testSerialization(
+        0x9855FAB2ABF65C36L,
+        "023F3D966BB1EFC764E63FEFDE6C6E36586497010282022288F1D1408120F080018121900020102086B0E1027461411062C0102148520462180D400CCC11C03470192E1003111321423310706203601A0431010100118020803243218840A524222131000019103518");
+    testSerialization(
+        0x4D3A9763B8D991C8L,
+        "023F3DDD2CEBDF8038C23FEFDA49E18F6F254802AC0816B0734E05080508C080008D9E584A50814E0418200200019208B78120338008061A000C193016E02512406A20502A05089A3100950441028040C91445850918904022320A005008009400028142C1010A0200001000130009D8404000C0880840003100A0182180100214001600006440128600000104044080200248C0002000E000208015150200508080800812090000010007400122050410");
+    testSerialization(
+        0xB389DAB8FBCB92B9L,
+        "023F3E2AEFC97E71478A3FEF5D5186F4D6A57A02FC061AD6A60A02887A0102204384081410388E220C67200811860380B0084218001838C849164000064560314308148408D1711588080882312C400C5841A81A09500624452C4822A0B10020000900042800724300084400844002441A00280000A40320200818040046000004090011110900A80180102207000012C8040050110C611290180804520080028A41040000C02320048001");
+    testSerialization(
+        0xB8EF0AD54D535FD5L,
+        "023F3D9E302D0AE5C23B3FEFC1782EE89EF90BF6070210CE0406C0080209848088E2210620888401464288C22082218802288E4608620880218862108226892220802709224896210A2220BC20884208B4208B2238E23D0DA2");
+    testSerialization(
+        0xCE62AF5D9D2F1867L,
+        "023F3E984F68730103B33FEDA6B3363AF64601CC06020CE80D0480101061044190C431004990245926471165D908509E24A9124511A4D9");
+    testSerialization(
+        0xEAD9D9E334EF8FAFL,
+        "023F3D1A41D4AA1691883FEFF460AE60B85E0E02B20816A6286A400C011804200C7040844844040200010A43AA0020004801060F00105000104904100001000A0000090406001080051800030000401008220A03004000201400C000140002000248800C004100202020040010C004102003420040800810000612");
+    testSerialization(
+        0xA93051E6C57EB817L,
+        "023F3D306AE1706261583FEFE948C04A5FCECA0102920E1AC2F670A38509C12420478820B0C04480CC1C2146C1804857008904C04100A34312231127400980EC0022E259090041015C0884C1C4BA1C82211002210060025828C881AC044440000801801509100404A52080A3144008200282F10024108812000A610001004301800088000402118019000058742004004586000011080C00C18080094482101000200A0C91004060900220080004022101208A00A600004004400A820081005064100221000340100C048000501611200800000008C0A021C401004608200A090400403090280E040A02440041480060010420519000800010002124051002806080080000100900000200100801212808042010050C0302022440100482680084130000100008900101923010");
+    testSerialization(
+        0x7184115CAA635A56L,
+        "023F3DD2EF2EF74CBD403FEFC5775B8C506726A20D020CC414010201808040480C220500824060B060C8020900864121A0C82422090900462020481012220080432311888432190986462690480406011488414590098462410C844423100904223908985021934808A21254824240918884620A1C9258891348A852E11884422B2651443261008261219110890241348A4320164BA862F974925025944864");
+    testSerialization(
+        0x1AC727BEC5599111L,
+        "023F3DC42F5E747C558A3FEFB329F171DC347D02CC021ACE1A983CAC30540610E20858B09018019C828400060982883A00410091302B24045884164A201814130708C00007C400000350812A80230483085020086006032082040C2281080280810010");
+    testSerialization(
+        0x0798ED810D787A69L,
+        "023F3E8DA9286FB4D71E3FEDE0B3C7CE157403980502091012150EC0C8120486A2482A55482008CA2680");
+    testSerialization(
+        0x43BEAC1FD384B889L,
+        "023F3CA01655D73B7A863FEFBE729EDC3496BF0102C0061AC30E45819CB1A19828129E0036C01800A180220844718580021862C7094240050219100033882240820030000020C900000D00A02CC4108400000000008203242BF02054106438080490485044408C056C408051920804F008002D2414540641140000000095000191108214B002000400066091822030100C962104064058A11224105D0004802200168102614152188A212A01108110481648800804894104");
+    testSerialization(
+        0xCB32C1C8D6982280L,
+        "023F3E07FC21C20EFA8D3FEF865FBCC911F41D8E0F0210D0040220100201022008040586C1080608844020480092208842008C208802208423880200886088220882408942408442148238824389024080208822A0962A88424888238802709E2511C5408A29080268B02188828080298B4200822089E288AE210B44A8AE320C02D8B62E8A8208B6238F020084298902108A20");
+    testSerialization(
+        0xD6CE134DE6AD127DL,
+        "023F3D9E03D97253FF793FEF5D199D7F658EA70102C60316A228E8018CC7318ED381ED0E8B00C4406609C08B80009B9010B08214E00149E681008140410480674101999190010C20022900930542001A402E90020032080900264001244089044504880024C8000042300249");
+    testSerialization(
+        0xC865CAF4982D7B85L,
+        "023F3D802D8B74BA20B73FEFBDCB22EC6CD3ED0102F0071AD622302C4219800C18E1860035F51182443126111211060489718B0800C182B0908C0D260C34805907109646D6222408098802108108A410400C015101103878201205124149118CA3C1C4006484C1082154111086C800E8000400D121014069889830020100120300200100000460B00200010029D00411254242186630C525000004048802A0C0A114060D492041844740E820A007C14CC084200004002442202148A8C3400014011407828001");
+    testSerialization(
+        0xA101012B7584EDCDL,
+        "023F3B916FD02175F6903FEFDC1E726D1A847802E2041AD1F3886690A9000020611400344D786050B00701801086021012010B180196411137422036050816493422422C60C6400008708E18227A492CB11304C0888022026584490292404E804A08900805200B303225A2A502440F482080C168404804805268400102F02040026001800010980C82190800290586C0000008A418");
+    testSerialization(
+        0x58D463CBECA82B0EL,
+        "023F3CCAE150AE5A39F23FEFB91BF2C9F805DF0102820D16A2BBAF61834141809004F00AC88C910948C005824009C769843915E984580415AC508030C020D4081411590C0020211803001060048001680308248688490040319161408000260A0844542CD008609A404700502640A00A02C41701460804020C0800050040213200A1022504840106190164840000848104241028A0B0AA49A00000410022AC88120200008065A00C401105282248008C804C00094E0200410A04400844008845001200C402215004021271208201044010000C100200081C1C209008010180112200C0881810060000800002004000C860A9024041000000050A2100620080106453");
+    testSerialization(
+        0x06472B07F1B9D8EAL,
+        "027F3E092D8271F9C2CF3FEF5F78C2AAA36F2402541285ECE00230004230881485050D28A298");
+    testSerialization(
+        0xF474F609CC28086CL,
+        "023F3D2169883341F9C03FEFEBC12AEA32082802E004128C9A2DE2A30260084A4435900100123000210343401460030800A0404100104A00802848004000040C0080091015128020403009005A000000844A204000050200862180");
+    testSerialization(
+        0x9A1AD48F99CA9F54L,
+        "023F3D10D8104F97B0E03FEFEF8A22C64A0858029C051EF2C18702746011A342820A042810742B0982209D220C081015868984A04B2CBE224010C80526D1401040392CC0C0A69324901B005281106462826604084B408C726C623800800200B015202515610508802880D02002240104500000E602043000082080890009583D0400A08030408C00820006440010002080");
+    testSerialization(
+        0x5517759C05C6381EL,
+        "023F3DA61ABA45756B353FEF3890A8C6D2A21A02AA0416B2005211882100C420040C43000488480092802202400032018AC0000209201111002128004008200848020004494800080A9240440000280C800042000A0801081425080420");
+    testSerialization(
+        0x59ACB0A20A51B520L,
+        "023F3D8A51446E7A672D3FEFBC21DFCDC3103002D60B1291270204000244026CC4484000902581414C22098938100800020282001C800085401061140001080530210A00000041100A00C114040500808000400048A3AA7000430428000601250202010820001114804400108200010100402500040811000030001002024400420008140A0000058048001000880000800480041C201200880A844104403000044000800C100803100060000801");
+    testSerialization(
+        0xA7FE97CB339398E2L,
+        "023F3D9F2067D4555E1E3FEF4E93DC42177F2B0294051EF3438A0C20980082C00400006832B040348C48C040000992396102412CA582110826012D805400308200844598040084000002408101404081000088400131011802282A1100161020030100808085104012028224021002A40822600806800004C022284040C1622180");
+    testSerialization(
+        0xBAE71F18E84DF71AL,
+        "023F3D40D0870B0899143FEFF81E5679CA731F02940C16B100440B8C422000010CCE1540441C001128A069422419600004001420E06A0D0A066A00000C415004000208000146008520A044008000440D08008A0241000020040A0000000080021C0222060084001800080201A000200020801010100204108080000010040000020000200020008420808600200080100300004920018040208001000004801000804010002008");
+    testSerialization(
+        0xEDFB1D054ACECA41L,
+        "023F3E4440B935E041E33FEF9F69C14E2A2801EC0C020CF00902449104210A461224316A4492A491024694A509665514A61122441304190E459404F14A4716C5418440");
+    testSerialization(
+        0x10095527C29DAD37L,
+        "023F3DA150E036A323123FEF7B826043D5E13D02E8081ADA0883E3880A000E00610C003000483C8458440485D80B0D320920A090214616490280590080DA0B0440402051A82424F2800110414010860E0A005011118001201100001C4C053020220080018008124A8A04024C40401048942BC0288D1411010A0001001800450808020050018A1002100140202100008804140022200048E0190490200010410060480C0202060009200266002C10");
+    testSerialization(
+        0xED3B07F25279B589L,
+        "023F3E0B0A8BA32475683FEBC7309646E27503F407020CFC01004050C8090A4091842132451184010A4B9266110E411404B90652980439546410");
+    testSerialization(
+        0xFFEEBE4BFD78D1E3L,
+        "023F3DADD5D940D24A003FEFB7014FBFDA163A02F60816B42282910888318E12886C048CE4925021800081100300200881C004220800528460912710232208021400461040200390050040F001200010120400120002804009004814320000600020600C220000600900C15415006500000A80820500000C800201600000210844401082481001038000C000180000000101082A214860000040A0081806");
+    testSerialization(
+        0x16CFAEA84C323CA1L,
+        "023F3DE98424DDE8AC9F3FEFBD81C7D540C26302AE071EF7412C185432F0E504842C1C685010CC1209589001000E4808300810A09291390840004D2816C0738070C420C04D105210141B88180020808B028008042490424D0B880C200040B8090108C30844324200202002060244C08E0110C827300320905F208648000002842000E242AAB300898700035A00000C10000000001103040C022128C109104822025400228A096D5240A9008828000074452204888929002B00848A80900280C2");
+    testSerialization(
+        0xAAAD590CF8E87C46L,
+        "023F3D523938A6FC48033FEF5F08E4D9E4BB6302FC091EEA5134802018D321C68100088082D105C8655D5000405A849328840A88631100214A0210105670208016C229100001C6C68920286016A022019008C00880130020424106A244B00F4289810282418A0B02320141B281011C092416810882096290C02912980DAA123A10EC22046081016480202010022C800000060081024C1080A2581201442A28308680184600100C02108300023021000048280060A84101122100C000022304501302200090920004100C0080C2000E0444420420B5884910410108044808108D02102C9002440918C8800120100200000020");
+    testSerialization(
+        0x4B9B5AEE45E78334L,
+        "023F3E4260F3CFE4E2663FEED5856CA6E8E35502CE0116A7D8401508620004608C30980080022109584600920600A8000008B20800A10801B60F009841000100C640844C408004936020");
+    testSerialization(
+        0xC83B8BFC426D2E04L,
+        "023F3D7D269D1E924CEE3FEEBD089836CFE72802AC010EEC13044028001E8618400290014401480018C0");
+    testSerialization(
+        0x49DAECB6B8117395L,
+        "023F3D41D0A0F7023A653FEFD5FD70505F4776029204128C41621524068A220C910030821121920180028100320B003808049400002B3AC880AA480036DA009001020202244090006310090492182C0A0004900045012060B42800051104CA000000C1249800000090A90080030200002404402010");
+    testSerialization(
+        0x1FAD833042EE71E7L,
+        "023F3D94C065B53A12263FEFFA68747AFE2E910102C20C1AD26D10038528628629A302287A30030021030C11003010051200A1258809902A14CB4234302118141306012510282006E924320508015D21C20A6030720571865445A0040A89593141058000A01048C020524300060004000BA20648B013A9FB007214004190680848040200284140421120708A2221405080060826008884108844C4401003106A8204CC100422E84C14012100088114072032201007004338508011BC140F080A40442440528009A28B1010070103820900A001154215000000008001800010240802830000600500404600404001000800402010010024100A01B249A211020080218081400080040904000024C0");
+    testSerialization(
+        0x56C1A3900526F774L,
+        "023F3CC8014B5DBC812B3FEF72DF856686056B02BE061EF10B810C1868A0C04780100018607090038C0404645C4D94024095AA00B01E091203103600220A11E104D400245022802100882C808010080A0318020840A822948C261900C4004582010040C10420030503040400208080402004940A0050430042C82010004880C08005140109000808200404800206804200106A0003CA0180289040000040880000C050");
+    testSerialization(
+        0x897D7CFBB2BFDFAEL,
+        "023F3DE5A05FD570D1443FEFE12815FBDAE860028A07128BC0610206480220CC20216892004104C44B88A470024156003400000890CA24D20904C498003088001C02700010404220122004C28500080624144284000A20408B010005C860A1014020300908000501101008001A80040008000444001010000201000830800810400201000201001500142100");
+    testSerialization(
+        0x1C375AF01F77C53DL,
+        "023F3E405B5AAD235E523FEF406E60D1807512C80C0210DA07808038040284601802008061884401824010040080202062208840902208862018841886418842008C4188A65884619B26188A200842108A6188A200904008C2888E4208261896268822488C248822088C201042B0822088A2289422888260EC2C08E240862888C20084229062288C240B4250A02609C290802A084270982088E2788C2209221932218A02588E20");
+    testSerialization(
+        0x3DA3145DB8F6C830L,
+        "023F3D9DAC45163073133FEF671E89EF90851C02840D1EF0031402203810210307020C10202C010800004069802425824350B04048A054601614000E0000B0C00091002412902A490362060000526000202020084400052000A4009C42840A9080A444040E10020000004C484000040601009044248040001640008000060060601680A20421028C4000000C0800920600C0040210D8410050001008020040008040000010048880910220402000020004840004421020283022020100002410441410904220100402020002A000000110000000111060041000880018000440");
+    testSerialization(
+        0x674077C04DEDF5CBL,
+        "027F3D9A83A3CEDF73693FEFFC6E3142173F4F02EA04228CA3922120A0D08030701040F0002010051C0AA09CA32804620402428FA4700527180004309102350103260243704153351179102451D20161011361044125000220020148030C900120C02D310027000505134112494420543210232010002232039002300144801200439512202884002D081AB092072015C430020801481413A0920B40044030E820050000923540");
+    testSerialization(
+        0x2677C7BF0B9B2A6CL, "023F3CD1027650E53FA13FEFD534FA199ABC8B03021A193866E5A827306B65EA50");
+    testSerialization(
+        0xBA549AAA02A41B2BL,
+        "023F3DA5E899C57661423FEFA0CA2722DE7811900F0214D3050090010620100840082208A0047084300438C308610420840184108218400861002008308410820840086208210400881082108508A1242584108410C2088111013C2104208611C22043086310200530801102204508A1602609D0981B02A84F0D61082184D0A01002504A0F01542404E0A8124260520BC150408670B21242385909A1102985D0A415C2");
+    testSerialization(
+        0x7E565D570FEB5C72L,
+        "023F3E354CB441E422853FEE1F1826F0761F0C02D00E16B4084211004030C0000826001111000A2020004002022D008100C68049082A00000080220084040108200004A000180100404808C000204400820011400200200C4001001021000450008800128004001000004400000014000008200101000500001A801090001080081000008004000030000480008080");
+    testSerialization(
+        0x4B1F8B840A09A7D6L,
+        "023F3D0347D1BFFE28423FEFD38D6A636EF7840102EC051ACB4A408D92A2A08E20468218F2F15108405804910270100888409090A0C400132119001601262D108701B203001204081808240011C0EA10AB4A124700A204402A26808B074045018408000214842D44114E46282400100024946004001328EA49EAA0000220488A8CA009595C404108948020304020000A1003AA1082404008101020080114");
+    testSerialization(
+        0x8B1981B7494207E0L,
+        "023F3D8B72A0C99AA1BC3FEFE0A1909BBDBE69029A091ADA1E49E11668439000000811300004F4840014401E11008E8100900930C285000232101043061908B24A0440C024824F21005022266001221322480800044060A0822044A02546C0000A092010910010815090200003040020080001420010080940404800E008A00001700500410C0C6024104001002242041000400900880428809108206104014228108091110108800206014180200848100002108018200121159500220100");
+    testSerialization(
+        0xB1AC7AFAB48CD1B2L,
+        "023F3CD7EBF7EBE3EB313FEFD4B34C0BCF343F02BA06228850701042C03090611070301010600045281A019C40013002B8064143430230358408131032C41413423101412251AC03FC204006100230C1059080C4134424020306C1401402030111A100025144400C36040004522103A1000023144A2090840C12101E8208300E00100000A28601200424801049132100001810002182002082CC0181451B44F1026029015051010088300320924102119A08");
+    testSerialization(
+        0x2E328E9DC4107B71L,
+        "023F3D4FF64F20ACAF193FEFE5E819D1F78FBA0104B2031AC4D42362020846801144807834E2B8905118021800218600098DEA393138903CE27400A002083204880E20000224F9000A50143892AB818C14000000134A00230248842A628837001550880022401404861002821D0080806040");
+    testSerialization(
+        0xB956DD45B16D3EB2L,
+        "023F3E465998EADDA46E3FEF2E11933886970504AC04129C4420264800200024D84488401080020040501008C002200000002C00008200100822428044400140100520");
+    testSerialization(
+        0x1D0F9043874A1151L,
+        "023F3D22B3DB0B3623D13FEFDFD9879E598B5F02B2041AD39E00C22288E00E18430E20900004C88408648005A0480B9000014200000002612101A6420010D838990488008A040400042000101A8C18000803A4B20A0011014800810AA9088117008482B00100204802248100062C810058D108005A1820401050000000090152");
+    testSerialization(
+        0xD29BD35AA86A7516L,
+        "023F3DC5387E1B4DC1A83FEFF63E535823E71D02CC0C1EFB86910E0800E081800A1804080010A410144C0054D40A110C299088022B3132210001088504C043FB08853834301C040080011043051001280148424136888C11424090082126069001265000240430020002D0001201004290020448820085050042A46A04A8504450C11000288032101094010012080280D01102098809441444820100081519040168C0809A120004218882009441E000C84801C01942A2000049431004010068000118800200A040320860210100203048002011212020090020301400040000100061A814088128010600480020004810009440B2");
+    testSerialization(
+        0xFD52A725B3534428L,
+        "023F3D975EE2D3D758B13FEFFF6B6446C1B86602A20816BC1204B590C6408210007154608AC4C1C00C4182082204C005348042860E1D162804941A2084960994C41020A000633000000400C8424E146A8A001140059080180208011A1584002801029100100650000080119A00460000820400C9080028109093440800120080068000092A11204A2020481021000080221001250004000040300940018008490000880A");
+    testSerialization(
+        0x757B74DB1B84893BL,
+        "023F3DA0B23840ACA1353FEFEA208AE416EF870102880716A8D8C296604402847281D0414515CC00C1200A1915008000038020B003080E80A406444490824182C003A2002C841881864101030B21900002104861120340D2010894838065304410803A832800194084014F87089043000012C8102001849140030C20A800108005682420002020000005002004108400400190A02008420040101242082200C610211008C028201181000220");
+    testSerialization(
+        0xC2F324DED6847A63L,
+        "023F3E1D6B6E1EF92AC03FEFD4819B0920FE7D02A60716A2984AB0108300C220B01028008024C040045608010920088808D93C41A112801004202E29428A57BD1090028841132002081000114280A0300C0082000C0800C41020502402544002010280190040580080040022216A882000640420A804A24000044400404A02500A11022020015207400093000690810400182420000855540024010068");
+    testSerialization(
+        0x5EADFDC4FFF5531CL,
+        "023F3D9EE3BD91717FC13FEFF0E688B3EB7E1C02C20D1AD28200018218420000800000AA108010010301C0003000001E4100440C0202008200004508182A00002000400010000800C04484A0011C8402080E40301000002101200024000A10000010900014104260004280000404010000040820102000123000488080041000200440600200404020880109040200200000060200180900003020A40080140202001040200C");
+    testSerialization(
+        0x811A56D856F81C8EL,
+        "023F3E33355CDA92740D3FEFEB3E975241F22C02AE0B16A99CC8A10C05488611108C728D900212099410040450803E430012A324840A2A2622C1A9200100101924000820420A81008D8348010C00489040A00D10202008B00008100206040280032447185000400A0240200480402102820816405000A88510100400A82886910002009200AA8C020000408040840000064000B030208200010042C8D00000110930084080900204048092341002021096B04004400C00010200400D2000049000805020001001D06080");
+    testSerialization(
+        0x1849BA7595A365F7L,
+        "023F3C8179BA3F8CEA023FEF650B69D35D2F7302BE0A16B6D83097206D208224307110E540C2880985B180954A809420328200240102065860000051A8A2400420180080E80480124900155461850100001909908100192430381090138488280C00D006020800801280820E4245180400400043008A00981121800000D0000490720648000400000A85004A41100020004A0800001042080040C8800114010200009814C10480000D009060E4000C802220100000402281804080222601120026400098002010500208222108003040044018");
+    testSerialization(
+        0xC5728DC9089FA408L,
+        "023F3E301743F6E2C3013FEFD73E7AF2ADBD18028A0B1ADE0012610218210C108282004C5028652041B18A502038030143A00000021120000480503040B4045A0092811008824145810042000086240025801120881020210215141602401C010482420D10000980021200010040240084854C352800040010051280108020002016000000022401004020800488010840800014000402010000420048008280000400384046080019414520008088805084044804012040500800082840002000C00A24000084040480");
+    testSerialization(
+        0x57B7DE79A6964C43L,
+        "023F3DEED1FD55D127FE3FEFF0B9B66C7E414404DE0916B1018233884000C472184D2609A5020305924010B86000209401000654048080020096080355520A2241232000CC00020020124D001080100820813090414484000000950914000840210A2D489800040A051000048A03204A00000400000400080021800020040400E088002100140302400A08540210310100300086144080A2020210A00010450A0820");
+    testSerialization(
+        0xB959F6E4B131C1A6L,
+        "027F3CE19E0B9EFE72983FEFCD91122B02BD9E01027E1AC1285CC48680241291020668514104805650400906C5640882310083190A004120009031641034");
+    testSerialization(
+        0x6F42A3AECFA743CCL,
+        "023F3E24D9C3249D8CA23FEF7B479704A0F33902E00C1ACB62016014380080386004080CB338003000460802888CA0080000B1D800000024927140C50000C1919010A8261002904411514A00200D0801084310A00020590000226C8850041A00002020100240940000400808600A05000260B80020100402242002006048400A401248000001440008000407810000100010010280008042400108809100202149050801000800011222220840834400020810012A2030000810020400801502B040804800000803020110003020200800020400C01280");
+    testSerialization(
+        0xFD6CE7C2D9113698L,
+        "023F3DA56407D12FF33D3FEFEB56CFD5134D3A02C0061AC391242086012108010186204C2840F000B02A00C90000000901003800054C4004A4280C0002804444955C08122000808A4141148040060801088435100180290000004020408580023FC04201490039E6002300498010110499A1A40001A004900040008000511E5000A01020480001000800049004");
+    testSerialization(
+        0xECA0D37108EC12D8L,
+        "023F3DF502AB0882062B3FEE157CC753FA562102FA061AD10018410610420008420008AC8A0B4A0A4A258004800022483700411001208428202C24841094000AF0210CA160000C08000024AE09810000008000108602014881004000948001402201807048401000A084080108840A022004100420604014A8000802020100002044043401800010000000100080");
+    testSerialization(
+        0x526F00E1609765B0L,
+        "023F3DDF9C5265A84A773FEF8292ACB960A89C0102D8021EF8CC008E0408A4E0800906047000328581495C84C40215C1D96C84D130D182E0600E4184610800264036100900C3401284A100060002A0185805904DA0000B44120325450070AA490402400D18F13081090502F00900");
+    testSerialization(
+        0xEE7B8B6F77321ACAL,
+        "023F3D6C5B11715B5ED93FEFEF8CE957A9CAB20102D804228A5250613070D010C01000901050002004B2234E51594122304D0046221012119214041000800023086044321091541661000401002101074228024442630100015080340508110232500113320061445205138822002404943491220448803384020304C25030001012712C120E32316330C1242940013200018740304370020220B210040C013A82241609");
+    testSerialization(
+        0xB0BA7190B2CB2F47L,
+        "023F3D93B3BCE8EEA8A53FEFBD0FACAD29E8F001028E0816A8B817A484F412DA3108F46D14C33304421860218210071D01A1109001C238123210130310080FA2322602022804D14C211C024A1B058118050412B0F5C5D06CB2012C2E430C1640600A13410AA00012B00A00281000A6090520203134911081081268848403001018005040402582824840D4506180080C008880300820901C6006012000800088A4011003D10602828A802134E4601209004A48291960040086A0201040800601C000082800A01A810108060220101035500080");
+    testSerialization(
+        0xEFA24B003A91034CL,
+        "023F3DDAA6E150D6CD5E3FEF560A27C075B2500298091AD54822414460408A20C688084DC45955B552124A1B89300D909080B009218A993C9750200202808083024400920A14020B00004900110140080B29C9000D005530AE20D4B0C9030040408410AA0470E10002082004090002010000C020160A02101415900100810080200107001208D480411901084862810100005000090006660120E00810A16000353283008015040490000C000220181000600801048200081268000080201102021020");
+    testSerialization(
+        0xDD79AE08A3E2D18CL,
+        "023F3D7199E2B06322223FEFE2680F0B98E22E02A00116B30C14100422004C008008239A0105920144900C2421450C80148102848C");
+    testSerialization(
+        0x69BF25D826D5CA5AL,
+        "023F3D410C4EA47C9F783FEF8FB352EA2336AD0102C0031EF58C1D801030412407140A0C88D0748239C8119C02106A602A189B808244938181C432214321000C3008A220040402962181088C60881088080C211100402A0880800340A40A2C830A60C4A86006002C82896880581968EA620A300A2094D0A1042096330888A1010080");
+    testSerialization(
+        0x963A9336B31A4C71L,
+        "023F3DD08873F76EB9913FEFEC86350870BA800104E60A1ADB0839618018000E4824840850AC81B40470445A8998F4E3804855404100081A482510042302A24105048447000084C46410390982881B890A141040206D10064120400950064061100851002408820096800030401402A1804E001C208080080402031404002422446541C04040800808A50161811450002A2088110001100606818B0808080080C150200480AC0000000A092100890022209004001400402000850210100D042247044400280008000503010804000010122400208128A1000000080E298A1028022404011002A20094");
+    testSerialization(0x38F8219E1DDD8CA1L, "02FF3E4262CD310332C43FEF4F13D3BAE738490F02081420C820");
+    testSerialization(
+        0x234C07AAE7AB02B0L,
+        "023F3DEF86F5BE2192833FEFF9622035AE277002840B16B9635A31B4E4104441100C10C44491D1E1AC9002C40200B8B1A290890116030000410C0AC064245000405A20764824004914578420022222500220081CA402012A780200A001100244A408880E8445041952000836030000410421904000225025994102120200104844400000808084098010000204228004001041000200080210004084002C5000442580002208602188004185230881401000B9202108400000C00000000202100000402214010482291204808C82000280");
+    testSerialization(
+        0x01E6FA5F6846E5F4L,
+        "023F3DD747C117D876733FEE68C202C5C42E12B607020CD40201010240801060041C1100804140304890220909044C46101128322A00904528130844326918A24B2391C806F2A954C6482B1248C99479C080");
+    testSerialization(
+        0x756B7604C861B167L,
+        "023F3DD36EFD81E945A13FEFAD6CFCE86C905902AC091AD99A18C2A010252649A30E688CA0E8F4AA516A1A020B8681B00808C23810205222210016D50C94781DA0E04890D91000184184D520B47360300105A3484A39030A0C304040071061820100E400002012104E951080000051309206A008824104080442810080080D01004180080090010A901006202402500000A041150408140100234901282808C04000458610100000002110433452A590C104004828500A202182444000909208100010215A80008020345070248208204859");
+    testSerialization(
+        0x557F1C1358149179L,
+        "023F3E29653D56222A613FEF9288685C27403402BC08129602C0E1022042028C00404780081128020A6D30100404602804020B0C04800F4A461002810092800040004201A04585050082201044240024060081001810140800080220000084480020004504108010910804200290084441080201201040000102011000080021000080121000800000D40C000930202600040210");
+    testSerialization(
+        0xF36BBDC85BAE6DBFL,
+        "023F3E3A00F5FFC4163E3FEEE48B9BC5B8061902840A1294CC624A0840AA020805120C44840232A020100000050082008088000001500102080280148000208044008822004000421000098081088240400002048000C8001A000068020800818000280004620140000000008201001008480108802A0020801810440200084204080089800028");
+    testSerialization(
+        0x49C593AA54316864L,
+        "023F3CF05DBA5A57D8433FEFEAD31F47134CB50102A40B1AD68420C11A0021007801063070C89C700001C4AD4D90B5618639A031E905C140081942A4260020246044D8E530028090D82F06420211030C20012493D87006006080C84C900023004001C0C00E02410030124810400284601200005842102008072304024900000D488805800A004210010040010A250112902488000CA0C000E00008001800000000AA0A88180029420201000950240000C508A191009044802100A65C48100A00210208200000440000808802400001018000802102000013C40040111020200401280240420200064401140208801400743002002298");
+    testSerialization(
+        0x0080CD08379CB4F7L,
+        "023F3D8FDF137C37D37F3FEFF441DC906637850102CC081AC4A0286CA6F0678700C38C11502C30A65144806C12501883903808C0A0BC0003B0680409E246602042064400C06026281802D2364606220298D1BC50C3A00A28840A1245006206CA2401E407048CA128B8A450584091000A28032028400414A8400000C22A1001005152120D04205400102402004898444C1C1010002430428141101052002402043525080A0420200520000288D0888400100A0211802126000A70C00000A6");
+    testSerialization(
+        0xD8EF6606170FD344L,
+        "023F3DF8570F5E2164693FEFD8215676DEA23802860C16AF2A4BD0800E224010806CB458601E0801856804801C4833400880000016080490595014C860204810021810160080000A016180904000480A081C1100010A922800200410480408880600A11041440D081A4211400020004500A50620122120000000332600803610091020000C0A24440010421000222824000200C0C002800040128941011492401022020800005200802020000240020006880000000900021801415042010000080000048109000800A020000002002042088024");
+    testSerialization(
+        0x657DB0729B1A2F88L, "022F3EF77D1993E6D9A33FE58CB180D6F5F98A01020892A113B5315B68");
+    testSerialization(
+        0x8752DC4E8618F58BL,
+        "023F3D4BFA0D8A11F95B3FEF971934269BA9EA0102701AC34CA2578ECBE12E69430E60336083C099101CC4162900058038E3018836085030");
+    testSerialization(
+        0xF50850D1B82C39A6L,
+        "023F3E54D96ED7D38F7D3FEFB6E028AB4E2E44029604129E0048A4660246408C104D20840145804D4114694030000800008006C28810402420C08000880000128000234141406090008094000850102C089006330000004060040000424040048A0302002000042104");
+    testSerialization(
+        0xFA1D7B583EAFC342L,
+        "023F3E301A93BAC801EC3FEFCF28A75F21644B02C0071AC50129408058C188600006492C922920A01B05C400020A4105AD61F74144619C2800A8001802DA0800000402322850882042022E26295E541005414002001443E400C2208C70501800408100000A00090401410014008800700400C9701008924208B400042308C0012000400400400800810001001800001240330400C0208808000680");
+    testSerialization(
+        0xE271B7C1AA4603C8L,
+        "023F3DE6AF1BCC6F96293FEFFF468CA3CF780602B6021AD48860430420808A086080002A54754C11608E100A2008108006000003030000913143401010030A8904215042232808008110");
+    testSerialization(
+        0x570D3D4D5ADDCD9BL,
+        "023F3EAEEC59A1D8E4003FEE7018843034791002F00316A849100880C2008820084C2A81400A588900A02C60210511084430606492C104040806224820228000151528C00800000121003800001120020880A8044010130000000181");
+    testSerialization(
+        0x934108C3DC2CAA7AL,
+        "027F3DE6CB75BB19B35F3FEFF7456E8EA9899C0102E20716A82364949225094A4209536B4000049BD885018A101576462032120122062A26440402105300F90580081193140222403300262004B2186AB2092496020914806741A0000000022A370844A001202610218101202285D4140410D8AAB001A9104106800A84C0852430084024402449064A0092202020840410301080A402032040090000034008010A8A400100090080408A1000842044A11244D88BC00180");
+    testSerialization(
+        0x16733527D992537BL,
+        "023F3CF4896E896B12243FEFDFCBDAF0FE435A02A80B1ADC7202270C38000A30221419140501FC020860000655120A49C98824018B9330188300136426412280050104860138181BC1040001200B001A0500421161105D281E102A045400810C484102B888448040030490A80908894240410B20A20830345042300011484020184500002E0020100100923000A40C000150A92000821000106050C009202800090000A0549447250200000091088404095101000E4200406004400110180020108400891000440918A1641444002208080010490089002001005803000044");
+    testSerialization(
+        0x0590993661D85272L,
+        "023F3DF8E8837C0E08683FEFE344A14900A99F0102BA0416AB0644601C00194C130510484151A61100115180E50A140002C014011180540102146A005872D0253401A0022000A4000A0000801300100F00100940082606480040C401600000A020100184138000B0004084CA80A23400180048120A020811A001");
+    testSerialization(
+        0xB5967116CCFF170AL,
+        "023F3DB14BF8BB8878BE3FEFD05F43F39171A901028E0B16B301CE008C810890911C91504F45C100084402400880808A0188003218108C452CF6932CE4490422C2C090D3609C1A09160802101B0884400C11006000082588930C80002012200101298800325200C003041580306800C1A00018201210060900220C4220104014A6B00C818020000101884000100144A40040A40420A04400410052400002824011200852200024646891A0290000000010400400A00804904100300813020006001039130800100060C02020110002028118900100201004028AA280010512400003000A0040101506CC000010428204");
+    testSerialization(
+        0xBE4B37CD8408C0EAL,
+        "027F3DB6324F20432AA93FEFF6FBB27477CA8B03023E1EF2C39C328C39A3070206160428A074E46D4F1A628329084E00");
+    testSerialization(
+        0x3E6F67E6EABE8896L,
+        "023F3D630472008ED3D13FEFD0AD5B4F3FA13302D008228A930050F1A000C0900000501040005074B91016A38512601232128F64012A232C300B418469448052422000100004013100B0033200143284108F8805041332000180002121321400100007036400202E1861300C04020400A446910201160103003A0120800221232000014600002052001043102089001210244950008201541341200E04510291002240301322800040838400002C8A10105B23081400040A0018029192112004A061010C502512B400020CC1818828408C062121202040001163210000000004204020");
+    testSerialization(
+        0x9646358A576418D5L,
+        "023F3E4100580C0BBEF23FE99844CBBA27F30A820B0204F050105050F0B05010311070931131D133903550F0D6F27AF973D2B096909230B7F65170");
+    testSerialization(
+        0xF2F8C4A4528EA1F3L,
+        "022F3E4CCFB83527448E3FEF667639B2814E80070210C60500E09844088821084400842488227882210804509C41084230AE270CC210A02188A2089E36894208B0270B8238AC2F0B024080");
+    testSerialization(
+        0x524188BDF6E69C39L,
+        "023F3DA6DC85445A0C723FEFAE581DF3FEE59A020290021AC0A908C50E72830B08C206083080D4C51A115086220FF1C80411900924C29140125121311038426A420500B24202C041112110001980C04265024320C44925C05266A41220");
+    testSerialization(
+        0x9C6609D2DD7589DDL,
+        "023F3C06193A67D7ED873FEFCD383DB451EA6C02B2071ACFCC5B800821041C70430C5994AA04842084601188511680A50000000414088441320A0D84D043874500000A0F04C8020050201297A4604932012200685C0A8121896105068109A8021030081010490004012400889124020750900C80225014300144A102A2A916100001240A0A2010341402048804854840121401200282640810016012100080200B000100010A22048020A14108041200208882C030");
+    testSerialization(
+        0x2B28C7EF705DD835L,
+        "023F3D701E0316E3A0113FEFC3D64B1DCA4D4402B8051EF18F990018180260828D040070D0300B3C40D14008CD9619A8AA0BC0190021413201403091110028240642044200100500C28440800045849C2408E30802830800120A8A81640012C1824008150C1091041984C0201008215508E220D28807100011082222430108480404404020AA040C80280010080102500020103046000003810000C060020504");
+    testSerialization(
+        0xA9C0677876C8EC52L,
+        "027F3DC14670008F5F6D3FEFF1A527B8FBF694010288081EF08C820E5432A34083000E28104056453A924388C0204802921C821D88B080029843102050004300309648245D902666F025088008125848988B24100B068C19050040528888C2CFC200688A1949C3000280020430C00010142C1610051400001ED064010A241050212100C90E4240822A01443C35800981000B0030D02C0204810440022002429810268102221081010049489101280022044590018000092430010000081014804C0040C428104820145800814000150187004840");
+    testSerialization(
+        0x15C683B057B86473L,
+        "023F3D18C005EDD12FDB3FEFF2DBBEBB72BCC40102FC061AD80E3C8582080C000846001174047AA6110402208401BA4810C0001A8002004038602400200005184685640442620240E02D0694051111A8C9768B00141D0402016020000C30118C080824424A01AE0D0402590032111A90102914081C00384241902401A0A301913B008208400371320C002000004325211166BA235C010453A0228000082012803880812410600088C2C4024C82080180001900208C1A3011A1124304");
+    testSerialization(
+        0xEFC198448CE3B0A9L,
+        "023F3E37A5B3D85457733FEE5F8AB75DEC380F02E60B16B108C4100C43080000080956842400864330C80C00450404804A000080200015540820002200080010200644040110088000140422000440040120000501002020000040404888040120000A00000000D050020004500008400000800810010042000800820102004433000402000040800800E120");
+    testSerialization(
+        0x26546368EA45C2D4L,
+        "023F3DD1E1EFE91374AC3FEF77C28B520E498E010286051AD01E38008C8007920806020090D11020010044041A0100AC1B091D1100C210B101201000000692044450209088150019590A800860020A7D80943060A0200400480C000204207021868200010000320000120400041000E00C80431600900322A04200000470480A442A080070004102842800B00000225A020340");
+    testSerialization(
+        0x305F1FFABE56A41FL,
+        "023F3C69BD29A29459253FEF698145D2CA375502EA091AC53D01020028028658020230301EF0009CD0945CC5C005250271D4B000844A5021982022024802200078D80180812CC2180C602804449B01E2402502014024738C08486065419008208A086C2834041404200C82C8C000210800904A30A29810810440080B020C000A70844905180A908120520C80030344800050C4524000022A044005606000103000010C001200000400A02020010181020304861104161100A8004A4413000120080618010000084424100019040228001098000400108C20280108");
+    testSerialization(
+        0xC286331B7F43DC09L,
+        "023F3D7A53B3E966E2603FEF8938384E566DF3010284021EF1E0A8170020A08184810A0808B274460114224C002A80012B0050C2824040C25822083802C44771051022B71C06F38308005910D362169221B418252C004066C3039020A0160846");
+    testSerialization(
+        0x5C9A7A63DD0290FEL,
+        "023F3E806C2319088DFD3FEFA5830B18A86E190294051294341048C0028800CC540900100005088001242045818004408040888000168053A200020262020011440000882842000900B8001020222000800270400C002020002420008204142084010820");
+    testSerialization(
+        0x25B98A697788E540L,
+        "023F3D544C0AA9BE370E3FEFF27EEBACE38B3402A2031ACD8368003E78A40A18841C287064F5842D080880961014188860918030B29142930045860A4018382580C004004B20AA982411801410421108121C5810A65E0A00444041A20020841C24B04900381824041000A200A0");
+    testSerialization(
+        0x19D28AE2D4DCDF75L,
+        "023F3E9053CF5BD9C3293FEEBDBB5ADEAF1606E6040210B026010106361090C5653120844624138844025100A0762F1A8A47C21190C0443F1408C4");
+    testSerialization(
+        0x6A2F6FA4355CDB1BL,
+        "023F3D7DE37E0A2947463FEF30771D12B6665702A0071AC17651A1B2980000502200388D40846516C2420812601898080008389148C1082706003011808C02D3201E1864801232020022010C46184202001B8840D508152A089A04A20500544405080808800014031800000B14804A4180004148000081084300077101A1C02E30012003104502880040610C000200403001648A0004B040080700000080302A400009042A40000A");
+    testSerialization(
+        0xA6F7C71DE8A5A7E7L,
+        "023F3E80E938CD9C85EE3FEFB6C6BF0EE7ED11A8080210D40100A1082418802098221080200802210820982200802008820080241002609261880230802009840080210802018422882220884408E499064008C2B090230922288C220802308A20880408A222092228AE238B2248862808E2D0B8390A42");
+    testSerialization(
+        0x38E38DF6D95D20D6L,
+        "023F3DE34C743B1B5D7E3FEFDC627FBC6252A40102C8061EF28B050E0CC8A0A1000926041880D114408C57090865CE219AD32AA9188000B60DEC86D430964A21E600418106410C0849D44400D840040011A44A22C0181C4010C02A0C2050843ACA2584022000225C3400810081001420010906C0800000000012F2800413048A02000044602001AC84000620950042B90020A0505426404004081500C12086006140120A010A8210122084580B408004200088");
+    testSerialization(
+        0x299D19DDBDD19E47L,
+        "023F3E1C26C513FD1DEB3FEF20D028DF9CA10C8A060608C87030700888304848EA08E8486868CB480909C8292B2EAAE9094B080C490A8BC808");
+    testSerialization(
+        0x5D75CF598F160EF5L,
+        "023F3D4A63FD47BE372C3FEE62063299831C0D8208040CF809068020040102403024110AC091044904409008590E451088010640904401104191C4511A5B10644910529124493840120519EA4B90");
+    testSerialization(
+        0x42CC84490C9F1BBEL,
+        "023F3DC364D23EB8AB2C3FEF8C4CE8C84F907A02B80C1299B2E210000526A6300010080848406495A64001800016401021010110820016C02880093100900C040013832028A3001902801241490C0000299971510104084B8A3000090008C406500802082300841000190A02C244111492402810220722210B000A181290560100000815006D601000A082620060040242000240081440B01100408C20840C8002004111900020009152040500409020180342130080107040480401852034008102100A001600024100512008508100112100040540");
+    testSerialization(
+        0xED135C10F8EF1C27L,
+        "023F3E72F6F9FA29D5F43FEC7EACAE5A0F3F07C4050210D200822010020280420864008020106498802008440126258842109620892210962208023080228BE268922088C290B4310842B10421984288862108");
+    testSerialization(
+        0xB598CD6945C4EEF7L,
+        "023F3E52BC05BED3C7D23FEF89D087CEC38B3202B60A128F668B1464C84226ACA54940300241D44B20024904300020910B04068B31020004909140321050808018030080200110086214000012400E108800800201020240841004B4A220A4008200000008811219600014201108060010008001A0004000230000407408100A0020000008400400209304101443081045200888010004410404000610010001002018000210444200500068000180002104840080");
+    testSerialization(
+        0x0A6745630866BC0EL,
+        "023F3DB9972ECAD698DA3FEF9A822BC4F7612E02AA051EF6C7043814403021058504005920521810D84410884889B40B00B640EA3DB0210601641532282E088C915480180000008C901A96500012406E83890859200871840060222B6421604314071900B40825030084400024808400100201050244050310600402000A0108058100010020100110A3064106900A04805A");
+    testSerialization(
+        0xBF612C91652BAB1CL,
+        "023F3CDB5116D8DB766B3FEFF0AA030431EC6902840E1EF8C7040A28B0D040800016082840110808CC088145C2420502005183800800C00518312320210126500A840A4402C0000111041454910ACA8A5D13910642E0A8888C9040240140092821052E32080812200096111000000000C0203002801013058088032104090408084840A242AE004000024005B8000402804C0434300004C800902408B21308D0280A051900414820028844040091B91000D4000084124418541000021200002214400E00200601103000A0000040028280654688888200080041600041202000840421000388009D0104000A00128200080008204102002022C0C2002014200404001000B041051200840001092844");
+    testSerialization(
+        0x6C2FC2ABE0F47735L,
+        "023F3D85BD0612BDDDA13FEF686004250F1AA70202D8011EEFA29748804840E08E8F16046052F50B02443501A2BA420216001A990040010889C0001B112110B0E7CA31CCE0114A8300020005041C408A480E00441820308B8880");
+    testSerialization(
+        0x28FAF9B36567288DL, "023F3E63436A319FD8553FE3BFB525B66DCB01B4010208A851A3408923D94F10");
+    testSerialization(
+        0x9BEDDA924729C7CDL,
+        "023F3E3014C5A5B6A3483FEF533E83860140059E09020D240080041040040500040240440040A80040840441042041C82040240840E46443E41C46241C44862E40");
+    testSerialization(
+        0x319F6EDC0DEF5176L,
+        "023F3DD4FC345410DA793FEFF07B8187AD807F02DA011EF6D30D0E5C594020040164080060136996E95184E96C01C1218222CE64C8500041304014540928010A6C022680210448C448060745005B4011091820");
+    testSerialization(
+        0xD5D4BE66BCAA6367L,
+        "023F3C0792BEC31F902A3FEFD99B611229DAAB0102CC0116A27AF4430C01229844041474030011802510C07196099991380568A001B48088340A24850001422ECB692D4900045B4604");
+    testSerialization(
+        0x22554F60C2539EDAL,
+        "023F3D29D6CD3850A5273FEFC6DC955DD8A56F0282041ACC902D422299C50408211010D048501C048C60C48608A1051881001000B6084124A038046003A8AAC320343800821092081063001110409010400068086C068C20006105B0012C020170201808010200708000004190A40880AB00000F00000050");
+    testSerialization(
+        0x72F7D9BD35DBF315L,
+        "023F3E6486895F8069963FEF9D0ED32205470F0282090EF404028710307A0820808220A800041D1168018C100004720104081000087400000204000A04420010051A1000040040029001240125002840801015800420110E004400100028000002010011400084002068C00800030001100060");
+    testSerialization(
+        0x4629C6CEA7AF899CL, "02FF3DE3FF605F774A563FEFEF467F5FE4E2AE020908021C21D4E240");
+    testSerialization(
+        0x72E0C47F289FD7F9L,
+        "023F3DD37D006C0D32583FEFE751ACAAF237A80102FE081ACF9F70459828A5880010082010E604C08C0CC01001B4442BB0C840300405804824B82320080808044008F82C11090110E0090140808802800A08833B51424001020C818100001421A01854224520A90650001420A4233081014003102008522328000088004041328403685166040500202A2130210C140002058288502280401000D2880000C2600411106012001000080920004000832F1A04824488400894840000020185001121DF084400024094032402040240");
+    testSerialization(
+        0xC51267B4346321ECL,
+        "023F3D603AB6770E83593FEFF7633A64C94F7D02EE0E12938B71881850A4006C025C25C28342100900088810C9A8421050F15234401134A8052280C00050084C905E60020171201A04120100492423A08805C43941800804A0200030100000008014AB02020090000085518203301A05900051411C000088100C0621820900000802A0008000050A008000504410A032008104002005C864804211024A0000200000508538818002811410189284040801103C286A052800D800110304003200A0610092020040011001401088AA0800000244800CA80100108400048020A0000101081133140200000400404010200400108148104034100082004010C84C01810048280100842000220040");
+    testSerialization(
+        0x3DC34171132285FFL,
+        "023F3DE69320261D93533FEFCA798C72D4C76602D008129032A1C2806A32A44D8002401860258A084490880C32482450104805A8C4268CBA1640041090220A0110514200122028080908950800018020438000449020002080910004504A0040020091011540240020060880820022450100020828810406101080203001200046020D000408E88080140404200001A080803040080021020020402800A140008480");
+    testSerialization(
+        0x07E29ABE70FFE53FL,
+        "02FF3E2E7BB0A22CD25D3FEF6AA4078657C56500026C1AD08779659840320600458210134806C488C9580441D00567A2608B38C004");
+    testSerialization(
+        0x04A5499862C06FA2L,
+        "023F3DD1198E66C8795D3FEF66517A1E10A01BBA04020CB40414304C646C4848448424044CC80804A40884442CACE424C408A82405068405248464042545C9C76407866624");
+    testSerialization(
+        0xE110C0A9B7ECB3A2L,
+        "027F3D7F1C4D61F0BFEE3FEFFB403452CC2CC50202C4011AD82BD202AD30028E18320A695892C01009CC1031D700320802CC0A0054100CE1023000422941412503020318C46000202C5AAC0700000074440001495700");
+    testSerialization(
+        0xF6883FA0DE86F5BAL,
+        "023F3DD0DC525D5D67283FEEEAF90FC8440B3F02980416A127C8B398869A88228810842144C88441000210909C1200888882A1C7190546402989030280C00C8098881609602A18815000400A884108301A6801A80120804020100454000020108400D440500820400200040240200A");
+    testSerialization(
+        0xAFBAF5BBF8BA4D36L,
+        "023F3D2F9C81BBFD27023FEFECD7BB8CB22E1802A4030EF00030A36080323854124800184765120250444640502820120120442881C000430009000060014004606294");
+    testSerialization(
+        0xC1E6BE6585E07683L,
+        "023F3DA9D6122BC60D253FEFF6BA2C4C6D702702B2051EF009181440007001410C00143050308408859C9C108EC1C382040A5840320F41040020169831000100068506244411084000519148428018C80B04000001000C22242100061014082821204082100211000A1210010021002562152A8A0042A091219004002002C2C0000628");
+    testSerialization(
+        0x6A57498101738FCFL,
+        "023F3D9CBA77F06BD1E63FEE17CAF59F3C411BD20A0410E202C0100100405001821062004008020020081A001024004088110020C4288C11C2004289221021C478872062244388530422C4808510C200440831062284588B1342104290612C20447089120200400811842144C09D11445050095270238430811062");
+    testSerialization(
+        0xAFA817B4BDABA448L,
+        "023F3D72DFD0E16676CD3FEFF6803587B5318E0102880E1AC82C59A24438020A306002185A30C20C80C01C5049000080062080208199F00898B41344304500B6866298C8090105040008400800C61C05248040325B44220C08001B40022A8C2873044101182888C835030000D16004800600008841400010B401298B081240021410408081060C10000105000580010101000023204200062002128804029010043114000A28A209041008400202452811085440B60428001008026C2440AB9004010002000049905408080AA80040205102380002022802A04000001008100021184033200442018203200060042001090404020202108C0000041800100800010140004000001004006100800081900444010400208001530008118106014440");
+    testSerialization(
+        0x959FD2FBC11A3127L,
+        "023F3D4D7ACDF0B0C00D3FEFDD1F4BBB449F6E02940D1AC5E00808849888101800A4088F4C8000150101E64240D24120C13111510826223017C40180510080D025110000801A0086A01424830008882080104A0B3B8A2F10020C229101A8C80082090121400C0116000100400AAAC04086090442100003030B60908080028040A2C328280528168120620090B0014033000002000690054E020200420240418000000804092404B1061010060400101008008042114012008122020010089420800488F889C003000042000C00020C510000310404008910001000121104200000404010080442040200022001060200240040D0222080");
+    testSerialization(
+        0xAF12E78373D8B3C1L,
+        "023F3DCB41ADDC97D1FA3FEFF922AB25494B4602FE0816A4ACC8F280280B4202206A2070A2B10046C882A60009D5848A12016A6A2218000553201042115003105000020304041102080005205C440014E220080095002000110A02808A048000043000E4129100002048100A042A0C80025610D0005208014000400030084100081080110814002300804002080421000640000108040040C808130060");
+    testSerialization(
+        0xDAE03683323E160CL,
+        "023F3D7AB237DC1BF6203FEFD8173B0775B7A20102B80A1AD424BBCB8238E20C10810408730000060E0D00114DE02236C41640B780C63220000403600030C90D000401B418406218100243269246243318532121840C108004084001A08068122229AC08CAC0064A6400031012A18125109804C080001082914604C061C04000204008B42040810808280428801420A4A00808BC850055E0120C21ABC214504142400C20A22848710201042A8122B2060002C040028B40849300120908412308410018000901403001020100002020010504020048209081500912100000218020200108700014");
+    testSerialization(
+        0x39640DFE70F657EFL,
+        "023F3D343DA75353CE853FEF7CA3A13E84333F02B40716B2089CA0102440C40484CDBA6902001809986000C4DA05240090542403402B9AC800801022200A2903640045040000680A002402000A030080090010800A269080020200028040018008010202000000424400000820005401000008041A20420040820008000C052114504000001084001098202007140002008280C014");
+    testSerialization(
+        0xDEE99224604D241AL,
+        "023F3E95CAF52B61999D3FEC41989FDC8E6601D805020D10008790121A40880902202420961E124E40");
+    testSerialization(
+        0xB2A575B0474015D5L,
+        "02BF3D33CD406913E32A3FEFE4631F27CDCA5A02D0051AC24C00810638209400E43E31308801C09E01C8004980C92236DB813A402022410806504401008082C90A1040000E195014110C0202058111C1426100148C8A400010030102682840A12030C00400090188809C0D14140000020205C170034284000824010110882000A4001220031C8060000E08");
+    testSerialization(
+        0x748D1A1C00558F2BL,
+        "023F3D6E1A5109BAD7F53FEFF9B148B45BEA840102FC0E1AC33A88614471480229018A1254A710A4428D072042A001D40041100B5EC52010130011390116108280518190C80C0C48210218081A0A00400302229A00024061901901C0480CD0D1408001090000A860324200002141060804342B0002A54120021024A00004000021A00000020040824080850D35C0000310100020000312042C848804411A509400008B00820000200D410908A00C80491402000980402040880020010884042200001A8421402009822A04204114200028030471010219004021010000940100C200494010010400821100800540040802084010408108900200A403040004000204804030090802034000414000312029001461111020000022004000030080440B100000C02282114000300048100020C8811020004002");
+    testSerialization(
+        0x62410EDA0DC8CFABL,
+        "02FF3D41BDB36ADC9F3C3FEFF2196AFB835FC2010102B8011EF0A1C908083041E30180020C18511546AAB82190C14904221208200134923B31A9420FB10B1933522018A02128E00218406B40021401A042B014");
+    testSerialization(
+        0x8EC5DEBFC9D8DE1DL,
+        "023F3DAC69BC8545C96C3FEFA178931E376BB401029E021AC26CA8018019028A00428028300C04CCA04C6D800DB80100042820405104A1302111601680202003E800D20184081800605820880880800813041A1020144169B4803890C3");
+    testSerialization(
+        0xF3A47196A77110FEL,
+        "023F3D23711D6AEC09F73FEF96916D5D5D32D30104E0051AC39C1183CC682B9C4128081014A901C6121A070180300608109A000E0AB00BB2312804802026082244A0290128C40000D01101C05A2C21000080BB0182003010496420440410A90D104044AE8329030211983401048CC204A7092000000490E2000041210018000801041042691401456080202400010C14C00C8461610882021834428100422416000000008010B470400458180020000040");
+    testSerialization(
+        0x81E364D03D9CA0B0L,
+        "023F3CBBDAAC5878F37A3FEED10A42C84564960102A204168825EA248E66002AD445194401066208803301E0012118C820C20120132111011194A0880084D828B300049018400640301053282C801C00806182000002D08C020800E200452300044022000D1054010808009255044852810210921B8901464180000006");
+    testSerialization(
+        0xB63CDBC332D44278L,
+        "023F3D44143AE2EAD6933FEFDA9E8FF92AB27302C6021ACC9A1175864C818679230C111560C8003080A018C8542A111A8B05040800893119351220440872C46002C0406066C320120F3E921830024804D1021588229064440921904A492403501E0840");
+    testSerialization(
+        0xD973549F01F34960L,
+        "023F3E365A0C3CB676603FEFB6841C4D661B6F02980516A2C0D02B242000000384D203F49D188499820A010A800889088050A516B229069024020408A282004051148AC22A0B148201060B1B40108180C8410040852D802000A0004507180002002040205220809080401B2404010401010E4342002A02460189009000222100518494800812");
+    testSerialization(
+        0x4B8223F67B228B2CL,
+        "023F3D73AC55E266C1533FEFBF13E230081E6602DC061ACE6041258650A09200228422108C814059C8D22C09A63307940C06304C207006119880421268052420A0E808161100309D24201004275202141C4464B60B05260C080402001190882054B202B218042143009418898000C000210920021620025203000000A482002C4D4B405220111078020022410142028CA2D00180D008402000C110008000000250209054458CA00205009900620008");
+    testSerialization(
+        0x378317507AF73E21L,
+        "023F3D641B6E60DCFE553FEFFE402C1DA760CE01028A0A16B55C7191846E2C5CB02CF24C58900080B7928680603B43209103188030422352323490C234480A060D02000A4000C0C311402892190100040104634880520C4A0160028840C0090D401A092048098401280028A42904050026C101020180828506005559040288016082010080C84C0A80000C900800D5484169A01000B811248003600480480028C0048049A000102000240A45084040600008042028080604410100008A81280400418402000012A61004084805020910000030984A44512040900030000500284402002053009900840C0000024400558023");
+    testSerialization(
+        0xB8145E7799343925L,
+        "023F3DCCCE75272A42383FEFEF8709831EF28E0102A2041AD8F880C894202D8400C22E8956A3308A0208421910800A1198B89109289410528465108370202020102601218E022132C305124288005D2493036E00432182486001806006804004216A264A0415C38100644821301800204A54060A80B00020808014434012CE020A132012980E84004184259886");
+    testSerialization(
+        0xF825579893510185L,
+        "023F3C3D2445E9438F963FEEEE1C4BFC013B3802A00C16B85BD2608869004010008CC2580E0A332990680402000CB5C800B201210604009042000E8C00104818088C014020030400120102214A800841090104415962080200240060000200805000C920120042400424C00A41104541480A001094080500220200804020021202000101016040000C10040220800203018080808000100000140900284000006000C040A4050200429A045004104081000100E82400040880E020024000010004204860");
+    testSerialization(
+        0xFC431DC3F29203EDL,
+        "023F3D30CD805DD68D563FEFAFC4E7BF00335302C20A16AFA0C236042202403101520464C841045040458000118014843B18448288010404840282A100A03050128021820586110052260A02284085100198410080022010B404A8500008C0040342008010001082230002082400202652080004000C8404A0614001040C20000082010050100010000A008000014101800044012088002080010102061085040204104800002200002400402000840891000000C1002020840002002880000007480082000420012100041000C0");
+    testSerialization(
+        0x8AEA6A34F85B1215L, "021F3F32C4B9E59062C93FE999D6277B591B024C0EDAA10A40000010004630");
+    testSerialization(
+        0x09D92AEAEAA9D777L,
+        "023F3E07AC54F4E050043FEF90C024941CB15802820C1AD89C28468160EB18088086002C6C065498CA1230AB819100000C83B2110489842EA46250282284B210155A0002400810220325E70841842A892C180028101001924204950A00B00008004A101420A920068070000A1432281A1360000910004040450380080006000110A00822304000000284842824228080000121122800009A450018304120080A090050002100081000103906104080010040800200080900024006030040A42203880024120506902020200200440260D04C62010400442000000860000C0120040800320004080000021010420419408000200021040430");
+    testSerialization(
+        0x468330E300A65056L,
+        "027F3CCBD9A9499ED1723FEFA70992075FDB7402B6021ACD8BBB0B228144863940080BB4042404701CE330C80042000A208930934112C2122411222491114801000C4202842218C140106058306108CA08009000000B00A081045483822524000220224209293710");
+    testSerialization(
+        0x1BEFBC03EC83C210L,
+        "023F3D659EB2EE9FFB8B3FEFC49E94012ACD9A0102C0041EE70B26286824308402120E046841504C947012D95EC5C626227A881098189D528036284E411464100016410180216932C8A09081C019203D1A08900C00089C20001009701001126824116018040D9C1023918845A40303902824223190F84446922254D1A002C802031B0C12AD2482EB68804A01B07043A804E20C0A880080410C");
+    testSerialization(
+        0x81300026CFF0EDE9L,
+        "023F3E87E91D93455D753FEA552467EF6D3F05A00C020D10018110040A400811002084288390C2084048092C20640881904228608CB16E2284A89412A2C240");
+    testSerialization(
+        0x8679806F018439A1L,
+        "023F3E6AFB51EE66664E3FEFFE3B735023451B04BE0916B2008011840200C0008C080060C600C0203040008080004488808084820050004C100900042800044148A000280504300400180000600812000408812080008008106082100240040004800083001001000A10010804200404104080100200104809");
+    testSerialization(
+        0x8964E3BB71FF3567L,
+        "023F3DC435EE14E31FE63FEFCB91AC8B1BFCE30102C0011EFD98AC0A0848202180871628531014A429B22A00A1003671831E302184DCC18E1060046062D004E6018445002601D3282A842847027A4700C8680840148540");
+    testSerialization(
+        0x12E32C1977A13811L,
+        "023F3DA1F0F1A786295A3FEFE2DAB51BB64AB80102D40D16A7484D02946F690E13C0502030C8004000E90609105982A7000110A300311F440582002500A448900000000014A92908A3000000011A08528244808811410205834808800504A104008184048B88228940281410A040C002541610005C00001C0808004040A00024002501042380098A84219400109093220205004903245D0684710E0000621018420420824041100A050211000800408020600621410010220230002C00088002141484012011120102200A080550002014040200918192008440000800849001100C44420005000C214008004610012C08000080401010B20880");
+    testSerialization(
+        0x39499470CD2C8676L, "020F3F3950ADD5F55FCC3FEFBFF97224A4CA92030204F0505156559AD0");
+    testSerialization(
+        0xFBB46A369C4947D8L,
+        "023F3CF4F3FD7C4397F73FEF4CE9A0490299660282071AD08450810EA8808218A49220304488C11440C0A42D8040B81805404403000102000802361801B068202290350210980088400881020129414060864A00000F24A0251AB02A08210430100226148108C0001280A4001A001840523143A841010280901A220400100240004080488201800541A012000C06001812000480C03041005208040500");
+    testSerialization(
+        0x737463F8F4BD6F12L,
+        "027F3DC4C6E9B438FE003FEFF9B207691E6A2F02CE061EFD444400085012A145030A08000151C94905490440017E09801032A90D8A98C933130632365130187400040204E24264EB2010092510912060111B0C80582062084924C0840CA000284049090C400000B001241809080504462082986240109800004215800234410C2C414048800910001D01120210082002114405228100087040100048800B0412100422444400202228408005010502");
+    testSerialization(
+        0xAFCC7BE4D1E68553L,
+        "023F3D0C728DC57793773FEF4FB6EE74B2D83802C6080EC9D1805225A164B422851840E0085301800008020C5844A43040110442114800440721000240040021058540101620C4040E0000300140005000440045290140802001000024200100C040008110442200400500480410041480");
+    testSerialization(
+        0xAFC4ADBE5B1996C6L,
+        "023F3E630A2978CDF4593FEA8702C33C771706E4070208E8080A01048841A051096402E912A04B24915144CA8D28DE4620124A047219");
+    testSerialization(
+        0x3A8686E1414E87DCL,
+        "023F3DA971FEDDBAC4613FEF7A39580AF3AD28DC0D0210CC01042008042880438810108623080238884208240116230822288C400802B082248A02208E218AC2489625888258922988E2708E2989C2188222090200A62D8B02108A328963C0DA208BE3C0E4330924988A350822C880");
+    testSerialization(
+        0x99D1A0A0BA9F5768L,
+        "023F3D066DD300F1D1B63FEFA2D61B55FC9DCC0102E60216A710C4A100A5894C1200B4072148210C30180E949A28889910088049014333010076112A0106180582191182C8048043840411714DC0A306941904000061024024C6016C22140490580500F2440A2840");
+    testSerialization(
+        0x73D9FB7A74A95164L,
+        "023F3E0262C096B666933FEFEBA4367E440E4302820C128A4A8A106C4140002D609B2010DF016500841A22640154040000A0328400000D0C0042004480004C2C80000810880010C50010110400180A0078005100000002200000004A20100006030084021000130050441816000088810A00202004100D8000040020001080C40000240060838880018090200208040104208808100402000250000C018102402010064B010001020221008040020008602001020030");
+    testSerialization(
+        0x9F59CC2417864AABL,
+        "023F3E43073CD702C7D83FEE6A61C74ABDB12802900616B20806100821200210808C915B051010010000360CA40047411228726880108040002114802681C804400804800A20421000020446944001800A4001800030000500008001118080511009586A040000202020");
+    testSerialization(
+        0x4CF37E1AB5E247C7L,
+        "023F3D8E5640D8FA354C3FEFDE5AC52E9603E00102FA011EEF861C0A200838259506044440D09888400510C119014700700412960030407008201146723A0C6AB614E2986966042228602A6310424441014804841C8C100C45328A81D6C140");
+    testSerialization(
+        0x2C81528DB3BB7668L,
+        "023F3D5F36B1AB94DDC93FEFDF2E939AA53F9A0102C4091EF8C386182039A0E04B00040C28109405025510AC65384E118E10B9102188890D0B5100609802330006099216010114022200C10500C30C8F182C82501402034430404C2A4060408148030049510846199A9A07B28824B24204100802043B01082890B85000110288E0921C11641264402B0080820CB201C00008012280063820050F0046002000840012800412421004022A010080602340A0021029A2400524881224300042031084E000804980104800620B42005850808C02280020050D0000084130454480110122448451405100");
+    testSerialization(
+        0x15DB453F4560FED5L,
+        "023F3E26D69484CC106D3FEFC3C9D8930B8344029E0F1AD220C0E18A30271450638E18500CC440C4081C8466041008180A91A019B650003250C4160A50200828108182820419400019639212C612011044B780400E000205804001802100028040A10011108420A2040460008E02021C0004406496000608804A08024100D19020081440148259004881540195D0002812C3000050084000384C281008101110200000A904000204808A420041901880000A201042002410024240100805000100008210B0002001080002904698000181080022804004044000040024020D220000012080000002D100800200041000020042004000122000880408000084022000001082000480000C010C880101002008840081100080001002020004");
+    testSerialization(
+        0xDD665DEA3E79D512L,
+        "023F3D9648DFCB2E5CFF3FEFDF0B92B99E9A3E02AE0216AE2CC88188670804B0880D241285808041A04302108A0D304040834001042202D22098611801100000E029A00040049A0C0458");
+    testSerialization(
+        0x2566DE734C3D836EL,
+        "023F3E87F35471991EED3FEEA92E096CEEB610C60A0210C2048420882401002218C209022108023092208802088025882208AC2A08C420942210424080280AA210842988C22880218804008820886240C4220AE2708A3C08A2109C228D8288D0390A2230903289E2");
+    testSerialization(
+        0xC1E63903852AE27EL,
+        "023F3C4D0E8E06B3B6DC3FEFFE6B507DC4F66102CC081AD80231421C12818429A0081810D89412C8040804020D0A082901018880A040D828360201807061C0C865200220441804003024901200C1201C6400198C02090C006104104821528A0800300064100022040A2028C0C000400024004802130010202004095A1000000E000021820821202840802000119024000010009D4500C01008880602A8001000600200000808080004007132038080A4010040340020002444B090024080410902640041000040A7840892");
+    testSerialization(
+        0xC3AE43A12EF0EDE3L,
+        "023F3E9D4DC45A1642A93FEEED179156A21407F00B0608E8440209050140A210A874FA7104874123514834CA212A854A211048852AB10CAD5CAAD12BC42369329F522310");
+    testSerialization(
+        0xC32115721BF1BE57L,
+        "023F3DD5B4BF3F8D1E783FEF484D9D516E132302DC021AD01628071608610211000E106C801104408159981280925122A030050C46482010800200C900600B443012A540000A1058D50944208040090051028106000108");
+    testSerialization(
+        0x824E502629730CE0L,
+        "023F3E2992C2D1188D3E3FEFD133CF9E9C5B1F02980D16A948A6500CC0081602104DA208E806890506A400283002808042060601000228640080455180542200804A3000002440400808080455003080849C8C943080002092101044100B080A012100088000040084081040021800808040040801021000002024000440C8843020080100040000006050811200000011480030004900000020022004410108E00102020484008000A0080000000100402220046000800804000402");
+    testSerialization(
+        0x678C5227BF532D63L,
+        "023F3DBCEBC418A23B2E3FEFAAC6E44B7565950102D6061EE1B20328040921228216380008A0D1C508B4C080248C7DB2203016001CCE310026051010300605A893C02800C30412685412590012882018032082112800056002E80482402C10011094090990012E014A403248040208801640E182082000990414105040B0028220100021482CA0000902151060A40238800C8001000403828000C0201000004410210080022722010148010000486600127520BA4C");
+    testSerialization(
+        0x68B307DE9C6E7571L,
+        "027F3DBD07AB7879C5FF3FEFEDA1DC55874CA10102F2071AC2464114AA10612038C78A2054238280113981580211168403408000853000C4F1420742138C04110006603716405019008610C800644404280A00000019001180608348A2012E96106193402502000D441121124C01A08100420100300101460284A649300050000A87800008992C12002510E3008220080001540008008E0240008000010088000332070000100414000028B6810000805000440042009404224D3628008818004011800100C6000020041010744140000A95119000880852121140");
+    testSerialization(
+        0xE72132A18C710199L,
+        "023F3DC0C02F36D210163FEEF37E432D03852C02CC0D1292B00E18020664022CC11C219801013A02058C21611441048900200494080000108000805115102015040414A8C0104003000648004848010200208088080242210800011000400809150A003100202C8C0080131101000A00894003220000820000409008200184062004408940106B00808000000801022001000020120680108810100B0040C0110080");
+    testSerialization(
+        0xD8333D37A24AA1E6L,
+        "023F3DD14F3B3C0449F63FEFF41BA6DA76B83002BA07129E50A340800640023000EC0480CC01880181100400098421400C02550800C0008120590014008400021443518061134920800006080080082C70E001140B80001240800AA841800131010840080000C4002080000003200080000014C801090041205088408000010048000030008080000484200100024C02");
+    testSerialization(
+        0x3FEC435770664DB9L,
+        "023F3E4CAE014819BB303FEF5FA2043930013402BA0412962ACA41E0240C042C82690520A0558432042009002080000004221820C084408300108040910B0002002000302810099800101500000201222141400211048011D014544000040200000B4048083020064820");
+    testSerialization(
+        0xC8CB04CAE0337ABFL,
+        "023F3D3E8A5FB7AA13CD3FEFE9831EE11259C20102D003228238722080F000C030E0E010504090A0F5200A18CC24B00830CD8351AC043400328C00884213A2A180000A10510424A08E00080008CA030205224038F2328221860F2C830188486C04A03417449A800083091623010105321124E01945124007010832602916080423408650302A8138C824B0");
+    testSerialization(
+        0xBE2F3F93FEC30116L,
+        "023F3D7BFE131559C2223FEFFDFD4D1499246802C0091EE32A550A6821B0C182800E08104050C369AC6B08146086602AAB0011110802B23101A64284464F20D0002D80D044423AA014E4089811081890801B0016C52000406110486181002D71412013026190810C10F308325001A1888C96402600010884A1824000101004882324AA414C2400406287A62800204404A1D1A0422003743244A8F6A100B24298011009140001402160A1080880000C0059049E1081800000080004200503C00400210804C100000A460250E05060032000C00108C042040002A624110A322008110B0210408000424940");
+    testSerialization(
+        0xD820886393D8C66BL,
+        "023F3DF87E9FEA9EC5DA3FEFA714FE67D1BC4902C80D1ADEA4334D1008A388982002007145CF520408514402080081100400100027C0031596011504411800C04000E5C48698085210C0004301C081040001422E00052900B40421C2082080C404200C63209400BEA028800401204B0842C40C13003260C852808001800C008000042060541063860880103140502400002A043400206090000002040A00000098E082A088000004000824008081C0049000008C816201404C9340880000005882061150A641040028000052200B184A41104084218488001143010A0340081080222000486509001A4040400224A144C40108248200100124108010A045820C80");
+    testSerialization(
+        0xC4B62C4CE114BAE6L,
+        "023F3D2D15FCF1EAE0D73FEF9E1762B93D0E3602CA0316AA89D23130010800111C2C850208465A21012152A1AD54C4C506086690490420C040010401000A050123984000C8000802401008808033000012100114A000010E8144180008C0");
+    testSerialization(
+        0x89CC94F9E725B588L,
+        "023F3E47DDFEE1E87C303FEF608537F6636F16028807129CA6A006420420020DD05A01100201801828820830A84000100204801000000242149010005600000004A000A001128002014062000A0821406141800880040200207004000080000B000100102002050000804094002220");
+    testSerialization(
+        0xC5F69DE0F3E319CCL,
+        "023F3E113940B46ADE623FEFFB9E31133F926E02CA0C128F02E954012EA848D006104C800009608A4949811118400588A0F618D1260000188B2110C209220988005800024000280B600102008244402440882462B522C2020028390480060008200911A090484470144000028A004804404020180409001408090402020A20024014023440E00000010800124020B081460040000C60080202800180450500080C999204000180207210880A0A000011D12080480002501100401030100024800120008408100212000020118810404000202C0080405040008182156000400050080040A10022200086086094");
+    testSerialization(
+        0xD2BA21F131467F2EL,
+        "023F3D91D7802EF2A0543FEFF2377DBBB857A00102E20616AFCEA46688E228C910319077D101CC05084806018888A019862891BC002492C57107410082182868C13022093E001925008030185B42B24000360346368408AC820628061825A2000410690420C8084C042289083084C004909384080162414210004070084028013201014800258032000010236C06000088400400C12400040890100842020A5029550040000830080043000190402040000118");
+    testSerialization(
+        0x24C3C8098D4A6871L,
+        "023F3DB4375FD4ACDC5E3FEFF751E7321DEF9B0102940216B4B15E80152429CE10802E7FA102A5012245CAB03180210809406172402271700816096104800D42EA20035224061940156104500B0420050012446050805500");
+    testSerialization(
+        0x8ED0923F32B524E2L,
+        "023F3D216F436F3098313FEFD693F927846C840102A40D1ADC3E0A4F100180000806820010A9C9516AB51A54060B0B20C82C0023014321400231A1001646D0223CE9C412C0291108092254890201130400892000DD64D6200020090CE086002001611000E06A224211C8A7010020000080D1290C6001021781808941414943020228080098046922042804A4141080048A23A20E8404006010A0078023A104400410016000400014600680297000C00320111C484480218402814190000D418A004097004218300407C0A908212008A0000104A4AC00A08A80700000D00A000C0221010400204A2641908C00102005030800144204D00200048109A0481008420880054001820010100120A000400802041850");
+    testSerialization(
+        0x08D489B9FA5D2617L,
+        "023F3DA2D886171714BF3FEFDA73D86235E086010288031EF48E8A1610188101850006100020721338184F0ED80485B2863312C40430451855B900080A2470464006064A8A970750121023024B452A026804014B35A8422C2600C080834520462F0A3440041048808442");
+    testSerialization(
+        0x5CC69FD8AA94DE05L,
+        "023F3DC2800A6FA3DE4B3FEFFDC9C0DC9295C40102D4091ADB5430423A0A018090A214295200080CDC1AC05045C60A04936950C131030C5111242008A062260240412200C42C122964B2185024892022524024602068300000C000A93484252219520800800810013291499E03008640A402810020A4511414124A08888200D10042640049201A00080540021192090410033CA0800014642031000090018090DBA000090080020058414448010C80882483824103802021314800020000824400913500054A03120C8508006090082000A90C004404010005008128802140130003A38453100802");
+    testSerialization(
+        0x98EAE2E97B36FA24L,
+        "023F3D9EB7D6CCDE92EF3FEFD218E4E3DAAF3E0282051AD31883AB9402610430430009105884D8494002D151D008410548204300320090270000248CEC00A8C044914805301C2980020902428A025910548048500B4914B51103200800A81511010500080310C404800001B28C2972040104084082208868801008012480000890068500");
+    testSerialization(
+        0x0BE0AD77310F53C0L,
+        "023F3DF59E50CC6C66FC3FEE5E47B80A1BB90282080208F0042A11068341206068349C492EB445205069A41425129856AF91AF746239");
+    testSerialization(
+        0x28D942274BFA2E10L,
+        "023F3D93E82350565FB03FEFAF9B619F4D4A8A0102D8091AC201E0E38C08690640E12E2851430D458808854015E451290A09A2B45405028000869085144A2084D002105B04B61B20800108500B20C11906AC0564444D0010200C40C040A0510122220040A0434100031A46803E445E48321B809058250004400000C80454910303000020000005840648A080460892804080721058024048006088062700884430000080101484010020004840120810800998904000000104023C8940A842005A040004A01844190C0080");
+    testSerialization(
+        0x9591CB5957B04C7CL,
+        "023F3DFB7603E82DC5993FEFB7F97957BF737D02820416A5C08297110B104AD981B2C8C5468051E18009B808D010A804430310180121221218200243202042220284300054101CA1869328214024C00148160219AB8582600DB4010000082B21000400C41908100880000A0456690080820400088430");
+    testSerialization(
+        0xB63BC0C58F8F2150L,
+        "023F3C7C77ECBFC2327E3FEFACEC3D689DCB7E02EC0516AEAD3240BCC530081200B28101440518541C11A0A200D00128A408B2A807010308804416D8499401A0865800020214005207200E0041003400284D1220090212200821114070039008C804400824101824400800804258810000403000000D80000400040880011030240008C8288042200012188200C144");
+    testSerialization(
+        0xFB8DE686670F784FL,
+        "023F3DFB1F98688F43AA3FEE762DF93B4726270484071296F4040606200E8A2E12D1448280011680A00C20128140030444620A0950810800400000300445318000000000141210040812081042918D4182300040012A0444A0409A2010051500800080520010400200812461208240100103");
+    testSerialization(
+        0x9DA183B737CC352BL,
+        "023F3CD4E20B400B37CA3FEFADE6D04CFD6C910102BA0616B918E014214C106A36000E52610B1C810A084100902238812035002DBE5A151642CD21920814D005600508105804624000040300164621A6014121210A085600C01180480440C14134A04402100084C03684909252194412201102A2D00400944010801088110011090C0008202301008F4411A00080C804020802109002082C01A809501082800A141025");
+    testSerialization(
+        0xB13C25F097121E94L,
+        "023F3EC13C1480AC0FBE3FED8CBCEC788A410A9601060CAC2C303684840864240806640524");
+    testSerialization(
+        0x8679C6B0B7761198L,
+        "023F3D725CB0826085B23FEF8025E759BD00890102EA081AC1968CA48820801020030008704D00E8000150855E1181BA089E0A1810C220002811300001660948B00050108E1AA38919A000C84090034420000531C954A000288C000008D01045250001083154200000680589610280C504844108920E20098021480803008808812011008020CA188024110200009012851008202140204282090009005310001042A4300000008011030010040840810E44501A21A044C040A0019080");
+    testSerialization(
+        0x2DCD6D9C6E9C3BD6L,
+        "023F3E04B982BF3A205B3FEF026920604BF07302F20616B030C0000C41101200840C268191325909841045624220A565A661C7402000180002CA1280410400080A0A108814004000C00009200C1401080000982904000114008001204308481021254140902800880002400080501083028000E004000100000C2012640500005080C008888000040090101008");
+    testSerialization(
+        0xC1FCDC305C88125BL,
+        "023F3E86BCE4A7B92CB63FECC0D1EE60D1790BDE03040CAC3024446808444584848424C404480484C884840404A585E8844406E6A4E6C404E4A4848564");
+    testSerialization(
+        0x667A5643B2BF8136L,
+        "023F3D88BF5853EE36013FEFAEBC360B54E840028A0E16A5E022118804184622840CB41842984001064C0A9C3000A546000006410680422010842040011808810800000113414244004808310342512183800230010002200084400A009085901B900894120800000440400148448141002108231800042800012041520858018000200A080940000500060200125352005840141080C00001082020048620008200101014000000044402101008000240000020202004008010101400006000410001020130000404088202840000800C0A00020020400423");
+    testSerialization(
+        0x61ACC64E02FB3919L,
+        "023F3DAF11E394068AF43FEFEE8E2C5FF4AA920102BA091AD914284182386082402116107045870C88004405461A18043008885198B260028029000430209AE8E104A0910020128200C013004000002090601200340200090801900112E02809A04414800422406208C000800400929040030203000000005000402040A005004120240002B2500010210092A2208108041110002422018890380004422D0000A0101000220008804000200AC08154114400008004000D04008082114294000060204602");
+  }
+}
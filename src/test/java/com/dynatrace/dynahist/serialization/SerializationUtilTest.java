@@ -132,9 +132,9 @@ public class SerializationUtilTest {
     Layout layout = LogQuadraticLayout.create(1e-5, 1e-2, -1e6, 1e6);
     Histogram histogram = Histogram.createDynamic(layout);
     String expectedSerializedHistogramHexString =
-        "010F3FF00000000000004049000000000000F413BC0E04DAEFD6A9426CB97264C88F1E2C68B122C489161C487121C2870A1C2850A142850A0C2850614185061418";
+        "020F3FF00000000000004049000000000000BC0EF41306C000200108004220010080802040402200300408804420224083082184114442322454924CA4A694A0";
     String expectedCompressedHistogramHexString =
-        "789C63E4B7FFC000060E9E10FA8BF01E3E965BEFAFAD74CAD9599472A25F4E2763A3D2914E31198F42C543ED5C321A010B9D5AB9783402121D5BD94424006046138E";
+        "789C63E2B7FFC000060E9E107A0FDF1761B6030C0A8C1C0C4E0A8C0C0D0D0A0E0E4A0C062C1C0D2E0A4A0ECD1C8A2D822E4E462A21937C962C9BB2000067C90DFE";
 
     histogram.addAscendingSequence(i -> i + 1, 50);
 
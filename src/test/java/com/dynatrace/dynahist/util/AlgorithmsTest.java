@@ -392,6 +392,46 @@ public class AlgorithmsTest {
     assertEquals(0x7ff8000000000000L, Algorithms.mapDoubleToLong(Double.NaN));
   }
 
+  @Test
+  public void testMapLongToRawDoubleBits() {
+    long[] values = {
+      0L,
+      1L,
+      -1L,
+      2L,
+      3L,
+      (1L << 52) - 1,
+      1L << 52,
+      (1L << 53) - 1,
+      1L << 53,
+      (1L << 53) + 1,
+      (1L << 53) + 2,
+      (1L << 53) + 3,
+      (1L << 54) + 2,
+      (1L << 54) + 6,
+      (1L << 62) - 1,
+      1L << 62,
+      Long.MAX_VALUE,
+      Long.MAX_VALUE - 1024,
+      Long.MAX_VALUE - 1025,
+      Long.MIN_VALUE,
+      Long.MIN_VALUE + 1,
+      -(1L << 53) - 1
+    };
+    for (long value : values) {
+      assertEquals(
+          Double.doubleToRawLongBits((double) value),
+          Algorithms.mapLongToRawDoubleBits(value),
+          "value = " + value);
+    }
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 100_000; ++i) {
+      long value = random.nextLong() >> random.nextInt(64);
+      assertEquals(
+          Double.doubleToRawLongBits((double) value), Algorithms.mapLongToRawDoubleBits(value));
+    }
+  }
+
   @Test
   public void testLongToDouble() {
     assertEquals(0, Algorithms.mapLongToDouble(0), 0d);
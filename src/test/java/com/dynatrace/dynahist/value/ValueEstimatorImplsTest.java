@@ -16,13 +16,30 @@
 package com.dynatrace.dynahist.value;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.dynatrace.dynahist.Histogram;
 import com.dynatrace.dynahist.bin.Bin;
+import com.dynatrace.dynahist.bin.BinIterator;
+import com.dynatrace.dynahist.layout.LogLinearLayout;
+import java.util.SplittableRandom;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class ValueEstimatorImplsTest {
 
+  // ValueEstimator must be initialized before ValueEstimatorImpls, see ValueEstimatorImpls
+  private static final ValueEstimator UNIFORM = ValueEstimator.UNIFORM;
+
+  @Test
+  public void testConstants() {
+    assertSame(ValueEstimatorImpls.UNIFORM, UNIFORM);
+    assertSame(ValueEstimatorImpls.LOWER_BOUND, ValueEstimator.LOWER_BOUND);
+    assertSame(ValueEstimatorImpls.UPPER_BOUND, ValueEstimator.UPPER_BOUND);
+    assertSame(ValueEstimatorImpls.MID_POINT, ValueEstimator.MID_POINT);
+  }
+
   private static Bin createBin(
       long lessCount,
       long binCount,
@@ -283,4 +300,41 @@ public class ValueEstimatorImplsTest {
           .isLessThan(0L);
     }
   }
+
+  @Test
+  public void testGetValueEstimateWithBin() {
+    Histogram histogram = Histogram.createDynamic(LogLinearLayout.create(1e-2, 1e-1, -1e3, 1e3));
+    SplittableRandom random = new SplittableRandom(0);
+    for (int i = 0; i < 100; ++i) {
+      histogram.addValue(random.nextDouble(-2e3, 2e3), 1 + random.nextInt(5));
+    }
+    for (ValueEstimator valueEstimator : ValueEstimatorImpls.values()) {
+      BinIterator binIterator = histogram.getFirstNonEmptyBin();
+      while (true) {
+        for (long rank = binIterator.getLessCount();
+            rank < binIterator.getLessCount() + binIterator.getBinCount();
+            ++rank) {
+          assertEquals(
+              valueEstimator.getValueEstimate(histogram, rank),
+              valueEstimator.getValueEstimate(histogram, binIterator, rank),
+              0d);
+        }
+        long lessCount = binIterator.getLessCount();
+        long greaterRank = lessCount + binIterator.getBinCount();
+        BinIterator bin = binIterator;
+        if (lessCount > 0) {
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> valueEstimator.getValueEstimate(histogram, bin, lessCount - 1));
+        }
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> valueEstimator.getValueEstimate(histogram, bin, greaterRank));
+        if (binIterator.isLastNonEmptyBin()) {
+          break;
+        }
+        binIterator.next();
+      }
+    }
+  }
 }